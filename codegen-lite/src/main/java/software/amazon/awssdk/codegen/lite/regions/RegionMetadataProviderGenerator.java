@@ -28,8 +28,8 @@ import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
-import java.util.Locale;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.Generated;
@@ -37,7 +37,6 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.codegen.lite.PoetClass;
 import software.amazon.awssdk.codegen.lite.Utils;
 import software.amazon.awssdk.codegen.lite.regions.model.Partitions;
-import software.amazon.awssdk.utils.ImmutableMap;
 
 public class RegionMetadataProviderGenerator implements PoetClass {
 
@@ -55,7 +54,7 @@ public class RegionMetadataProviderGenerator implements PoetClass {
 
     @Override
     public TypeSpec poetClass() {
-        TypeName mapOfRegionMetadata = ParameterizedTypeName.get(ClassName.get(Map.class),
+        TypeName mapOfRegionMetadata = ParameterizedTypeName.get(ClassName.get(ConcurrentMap.class),
                                                                  ClassName.get(regionBasePackage, "Region"),
                                                                  ClassName.get(regionBasePackage, "RegionMetadata"));
         return TypeSpec.classBuilder(className())
@@ -68,9 +67,10 @@ public class RegionMetadataProviderGenerator implements PoetClass {
                        .addModifiers(FINAL)
                        .addField(FieldSpec.builder(mapOfRegionMetadata, "REGION_METADATA")
                                           .addModifiers(PRIVATE, FINAL, STATIC)
-                                          .initializer(regions(partitions))
+                                          .initializer("new $T<>()", ConcurrentHashMap.class)
                                           .build())
                        .addMethod(getter())
+                       .addMethod(factory())
                        .build();
     }
 
@@ -79,21 +79,6 @@ public class RegionMetadataProviderGenerator implements PoetClass {
         return ClassName.get(regionBasePackage, "GeneratedRegionMetadataProvider");
     }
 
-    private CodeBlock regions(Partitions partitions) {
-        CodeBlock.Builder builder = CodeBlock.builder().add("$T.<Region, RegionMetadata>builder()", ImmutableMap.class);
-
-        partitions.getPartitions()
-                  .forEach(p -> p.getRegions()
-                                 .keySet()
-                                 .forEach(r -> builder.add(".put(Region.$L, new $T())", regionClass(r), regionMetadataClass(r))));
-
-        return builder.add(".build()").build();
-    }
-
-    private String regionClass(String region) {
-        return region.replace("-", "_").toUpperCase(Locale.US);
-    }
-
     private ClassName regionMetadataClass(String region) {
         return ClassName.get(basePackage, Stream.of(region.split("-")).map(Utils::capitalize).collect(Collectors.joining()));
     }
@@ -103,7 +88,30 @@ public class RegionMetadataProviderGenerator implements PoetClass {
                          .addModifiers(PUBLIC)
                          .addParameter(ClassName.get(regionBasePackage, "Region"), "region")
                          .returns(ClassName.get(regionBasePackage, "RegionMetadata"))
-                         .addStatement("return $L.get($L)", "REGION_METADATA", "region")
+                         .beginControlFlow("if (region == null)")
+                         .addStatement("return null")
+                         .endControlFlow()
+                         .addStatement("return REGION_METADATA.computeIfAbsent(region, $T::createRegionMetadata)", className())
+                         .build();
+    }
+
+    /**
+     * Creates the metadata of a region on first use, so that only the metadata classes of the regions that are actually used
+     * by the application are loaded.
+     */
+    private MethodSpec factory() {
+        CodeBlock.Builder cases = CodeBlock.builder().beginControlFlow("switch (region.id())");
+        partitions.getPartitions()
+                  .forEach(p -> p.getRegions()
+                                 .keySet()
+                                 .forEach(r -> cases.add("case $S:\n$>return new $T();\n$<", r, regionMetadataClass(r))));
+        cases.add("default:\n$>return null;\n$<").endControlFlow();
+
+        return MethodSpec.methodBuilder("createRegionMetadata")
+                         .addModifiers(PRIVATE, STATIC)
+                         .addParameter(ClassName.get(regionBasePackage, "Region"), "region")
+                         .returns(ClassName.get(regionBasePackage, "RegionMetadata"))
+                         .addCode(cases.build())
                          .build();
     }
 }
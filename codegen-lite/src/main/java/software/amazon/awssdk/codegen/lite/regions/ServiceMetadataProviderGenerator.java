@@ -28,9 +28,10 @@ import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.Generated;
@@ -38,7 +39,6 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.codegen.lite.PoetClass;
 import software.amazon.awssdk.codegen.lite.Utils;
 import software.amazon.awssdk.codegen.lite.regions.model.Partitions;
-import software.amazon.awssdk.utils.ImmutableMap;
 
 public class ServiceMetadataProviderGenerator implements PoetClass {
 
@@ -56,7 +56,7 @@ public class ServiceMetadataProviderGenerator implements PoetClass {
 
     @Override
     public TypeSpec poetClass() {
-        TypeName mapOfServiceMetadata = ParameterizedTypeName.get(ClassName.get(Map.class),
+        TypeName mapOfServiceMetadata = ParameterizedTypeName.get(ClassName.get(ConcurrentMap.class),
                                                                  ClassName.get(String.class),
                                                                  ClassName.get(regionBasePackage, "ServiceMetadata"));
         return TypeSpec.classBuilder(className())
@@ -69,9 +69,10 @@ public class ServiceMetadataProviderGenerator implements PoetClass {
                        .addModifiers(FINAL)
                        .addField(FieldSpec.builder(mapOfServiceMetadata, "SERVICE_METADATA")
                                           .addModifiers(PRIVATE, FINAL, STATIC)
-                                          .initializer(regions(partitions))
+                                          .initializer("new $T<>()", ConcurrentHashMap.class)
                                           .build())
                        .addMethod(getter())
+                       .addMethod(factory())
                        .build();
     }
 
@@ -80,22 +81,10 @@ public class ServiceMetadataProviderGenerator implements PoetClass {
         return ClassName.get(regionBasePackage, "GeneratedServiceMetadataProvider");
     }
 
-    private CodeBlock regions(Partitions partitions) {
-        CodeBlock.Builder builder = CodeBlock.builder().add("$T.<String, ServiceMetadata>builder()", ImmutableMap.class);
-
-        Set<String> seenServices = new HashSet<>();
-
-        partitions.getPartitions()
-                  .forEach(p -> p.getServices()
-                                 .keySet()
-                                 .forEach(s -> {
-                                     if (!seenServices.contains(s)) {
-                                         builder.add(".put($S, new $T())", s, serviceMetadataClass(s));
-                                         seenServices.add(s);
-                                     }
-                                 }));
-
-        return builder.add(".build()").build();
+    private Set<String> services() {
+        Set<String> services = new LinkedHashSet<>();
+        partitions.getPartitions().forEach(p -> services.addAll(p.getServices().keySet()));
+        return services;
     }
 
     private ClassName serviceMetadataClass(String service) {
@@ -114,7 +103,28 @@ public class ServiceMetadataProviderGenerator implements PoetClass {
                          .addModifiers(PUBLIC)
                          .addParameter(String.class, "endpointPrefix")
                          .returns(ClassName.get(regionBasePackage, "ServiceMetadata"))
-                         .addStatement("return $L.get($L)", "SERVICE_METADATA", "endpointPrefix")
+                         .beginControlFlow("if (endpointPrefix == null)")
+                         .addStatement("return null")
+                         .endControlFlow()
+                         .addStatement("return SERVICE_METADATA.computeIfAbsent(endpointPrefix, $T::createServiceMetadata)",
+                                       className())
+                         .build();
+    }
+
+    /**
+     * Creates the metadata of a service on first use, so that only the metadata classes of the services that are actually
+     * used by the application are loaded.
+     */
+    private MethodSpec factory() {
+        CodeBlock.Builder cases = CodeBlock.builder().beginControlFlow("switch (endpointPrefix)");
+        services().forEach(s -> cases.add("case $S:\n$>return new $T();\n$<", s, serviceMetadataClass(s)));
+        cases.add("default:\n$>return null;\n$<").endControlFlow();
+
+        return MethodSpec.methodBuilder("createServiceMetadata")
+                         .addModifiers(PRIVATE, STATIC)
+                         .addParameter(String.class, "endpointPrefix")
+                         .returns(ClassName.get(regionBasePackage, "ServiceMetadata"))
+                         .addCode(cases.build())
                          .build();
     }
 }
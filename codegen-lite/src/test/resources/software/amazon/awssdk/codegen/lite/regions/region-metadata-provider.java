@@ -1,6 +1,7 @@
 package software.amazon.awssdk.regions;
 
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.regions.regionmetadata.ApNortheast1;
@@ -22,22 +23,61 @@ import software.amazon.awssdk.regions.regionmetadata.UsEast2;
 import software.amazon.awssdk.regions.regionmetadata.UsGovWest1;
 import software.amazon.awssdk.regions.regionmetadata.UsWest1;
 import software.amazon.awssdk.regions.regionmetadata.UsWest2;
-import software.amazon.awssdk.utils.ImmutableMap;
 
 @Generated("software.amazon.awssdk:codegen")
 @SdkPublicApi
 public final class GeneratedRegionMetadataProvider implements RegionMetadataProvider {
-    private static final Map<Region, RegionMetadata> REGION_METADATA = ImmutableMap.<Region, RegionMetadata> builder()
-            .put(Region.AP_NORTHEAST_1, new ApNortheast1()).put(Region.AP_NORTHEAST_2, new ApNortheast2())
-            .put(Region.AP_NORTHEAST_3, new ApNortheast3()).put(Region.AP_SOUTH_1, new ApSouth1())
-            .put(Region.AP_SOUTHEAST_1, new ApSoutheast1()).put(Region.AP_SOUTHEAST_2, new ApSoutheast2())
-            .put(Region.CA_CENTRAL_1, new CaCentral1()).put(Region.EU_CENTRAL_1, new EuCentral1())
-            .put(Region.EU_WEST_1, new EuWest1()).put(Region.EU_WEST_2, new EuWest2()).put(Region.EU_WEST_3, new EuWest3())
-            .put(Region.SA_EAST_1, new SaEast1()).put(Region.US_EAST_1, new UsEast1()).put(Region.US_EAST_2, new UsEast2())
-            .put(Region.US_WEST_1, new UsWest1()).put(Region.US_WEST_2, new UsWest2()).put(Region.CN_NORTH_1, new CnNorth1())
-            .put(Region.CN_NORTHWEST_1, new CnNorthwest1()).put(Region.US_GOV_WEST_1, new UsGovWest1()).build();
+    private static final ConcurrentMap<Region, RegionMetadata> REGION_METADATA = new ConcurrentHashMap<>();
 
     public RegionMetadata regionMetadata(Region region) {
-        return REGION_METADATA.get(region);
+        if (region == null) {
+            return null;
+        }
+        return REGION_METADATA.computeIfAbsent(region, GeneratedRegionMetadataProvider::createRegionMetadata);
+    }
+
+    private static RegionMetadata createRegionMetadata(Region region) {
+        switch (region.id()) {
+        case "ap-northeast-1":
+            return new ApNortheast1();
+        case "ap-northeast-2":
+            return new ApNortheast2();
+        case "ap-northeast-3":
+            return new ApNortheast3();
+        case "ap-south-1":
+            return new ApSouth1();
+        case "ap-southeast-1":
+            return new ApSoutheast1();
+        case "ap-southeast-2":
+            return new ApSoutheast2();
+        case "ca-central-1":
+            return new CaCentral1();
+        case "eu-central-1":
+            return new EuCentral1();
+        case "eu-west-1":
+            return new EuWest1();
+        case "eu-west-2":
+            return new EuWest2();
+        case "eu-west-3":
+            return new EuWest3();
+        case "sa-east-1":
+            return new SaEast1();
+        case "us-east-1":
+            return new UsEast1();
+        case "us-east-2":
+            return new UsEast2();
+        case "us-west-1":
+            return new UsWest1();
+        case "us-west-2":
+            return new UsWest2();
+        case "cn-north-1":
+            return new CnNorth1();
+        case "cn-northwest-1":
+            return new CnNorthwest1();
+        case "us-gov-west-1":
+            return new UsGovWest1();
+        default:
+            return null;
+        }
     }
 }
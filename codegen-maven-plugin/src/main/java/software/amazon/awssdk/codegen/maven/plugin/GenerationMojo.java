@@ -23,6 +23,7 @@ import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Optional;
 import java.util.stream.Stream;
+import org.apache.maven.model.Resource;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -51,6 +52,9 @@ public class GenerationMojo extends AbstractMojo {
     @Parameter(property = "codeGenResources", defaultValue = "${basedir}/src/main/resources/codegen-resources/")
     private File codeGenResources;
 
+    @Parameter(property = "resourcesDirectory", defaultValue = "${basedir}/src/main/resources")
+    private File resourcesDirectory;
+
     @Parameter(property = "outputDirectory", defaultValue = "${project.build.directory}")
     private String outputDirectory;
 
@@ -62,10 +66,12 @@ public class GenerationMojo extends AbstractMojo {
 
     private Path sourcesDirectory;
     private Path testsDirectory;
+    private Path generatedResourcesDirectory;
 
     public void execute() throws MojoExecutionException {
         this.sourcesDirectory = Paths.get(outputDirectory).resolve("generated-sources").resolve("sdk");
         this.testsDirectory = Paths.get(outputDirectory).resolve("generated-test-sources").resolve("sdk-tests");
+        this.generatedResourcesDirectory = Paths.get(outputDirectory).resolve("generated-resources").resolve("sdk");
 
         findModelRoots().forEach(p -> {
             Path modelRootPath = p.modelRoot;
@@ -79,6 +85,10 @@ public class GenerationMojo extends AbstractMojo {
         });
         project.addCompileSourceRoot(sourcesDirectory.toFile().getAbsolutePath());
         project.addTestCompileSourceRoot(testsDirectory.toFile().getAbsolutePath());
+
+        Resource generatedResources = new Resource();
+        generatedResources.setDirectory(generatedResourcesDirectory.toFile().getAbsolutePath());
+        project.addResource(generatedResources);
     }
 
     private Stream<ModelRoot> findModelRoots() throws MojoExecutionException {
@@ -105,6 +115,8 @@ public class GenerationMojo extends AbstractMojo {
                      .models(models)
                      .sourcesDirectory(sourcesDirectory.toFile().getAbsolutePath())
                      .testsDirectory(testsDirectory.toFile().getAbsolutePath())
+                     .resourcesDirectory(resourcesDirectory.getAbsolutePath())
+                     .generatedResourcesDirectory(generatedResourcesDirectory.toFile().getAbsolutePath())
                      .intermediateModelFileNamePrefix(intermediateModelFileNamePrefix(models))
                      .build()
                      .execute();
@@ -34,6 +34,8 @@ public class CodeGenerator {
     private final C2jModels models;
     private final String sourcesDirectory;
     private final String testsDirectory;
+    private final String resourcesDirectory;
+    private final String generatedResourcesDirectory;
 
     /**
      * The prefix for the file name that contains the intermediate model.
@@ -51,6 +53,8 @@ public class CodeGenerator {
         this.models = builder.models;
         this.sourcesDirectory = builder.sourcesDirectory;
         this.testsDirectory = builder.testsDirectory;
+        this.resourcesDirectory = builder.resourcesDirectory;
+        this.generatedResourcesDirectory = builder.generatedResourcesDirectory;
         this.fileNamePrefix = builder.fileNamePrefix;
     }
 
@@ -124,7 +128,8 @@ public class CodeGenerator {
     }
 
     private GeneratorTask createGeneratorTasks(IntermediateModel intermediateModel) {
-        return new AwsGeneratorTasks(GeneratorTaskParams.create(intermediateModel, sourcesDirectory, testsDirectory));
+        return new AwsGeneratorTasks(GeneratorTaskParams.create(intermediateModel, sourcesDirectory, testsDirectory,
+                                                                resourcesDirectory, generatedResourcesDirectory));
 
     }
 
@@ -136,6 +141,8 @@ public class CodeGenerator {
         private C2jModels models;
         private String sourcesDirectory;
         private String testsDirectory;
+        private String resourcesDirectory;
+        private String generatedResourcesDirectory;
         private String fileNamePrefix;
 
         private Builder() {
@@ -156,6 +163,24 @@ public class CodeGenerator {
             return this;
         }
 
+        /**
+         * The hand-written resources of the service module, which are used to describe the classes the generated client
+         * loads from the classpath. Optional.
+         */
+        public Builder resourcesDirectory(String resourcesDirectory) {
+            this.resourcesDirectory = resourcesDirectory;
+            return this;
+        }
+
+        /**
+         * The directory generated resources, like the GraalVM native-image configuration, are written to. If not set, no
+         * resources are generated.
+         */
+        public Builder generatedResourcesDirectory(String generatedResourcesDirectory) {
+            this.generatedResourcesDirectory = generatedResourcesDirectory;
+            return this;
+        }
+
         public Builder intermediateModelFileNamePrefix(String fileNamePrefix) {
             this.fileNamePrefix = fileNamePrefix;
             return this;
@@ -26,11 +26,23 @@ public class GeneratorPathProvider {
     private final IntermediateModel model;
     private final String sourceDirectory;
     private final String testDirectory;
+    private final String resourcesDirectory;
+    private final String generatedResourcesDirectory;
 
     public GeneratorPathProvider(IntermediateModel model, String sourceDirectory, String testDirectory) {
+        this(model, sourceDirectory, testDirectory, null, null);
+    }
+
+    public GeneratorPathProvider(IntermediateModel model,
+                                 String sourceDirectory,
+                                 String testDirectory,
+                                 String resourcesDirectory,
+                                 String generatedResourcesDirectory) {
         this.model = model;
         this.sourceDirectory = sourceDirectory;
         this.testDirectory = testDirectory;
+        this.resourcesDirectory = resourcesDirectory;
+        this.generatedResourcesDirectory = generatedResourcesDirectory;
     }
 
     public String getSourceDirectory() {
@@ -41,6 +53,20 @@ public class GeneratorPathProvider {
         return testDirectory;
     }
 
+    /**
+     * @return The hand-written resources of the service module, or null if they are not available to the generator.
+     */
+    public String getResourcesDirectory() {
+        return resourcesDirectory;
+    }
+
+    /**
+     * @return The directory generated resources are written to, or null if resources should not be generated.
+     */
+    public String getGeneratedResourcesDirectory() {
+        return generatedResourcesDirectory;
+    }
+
     public String getModelDirectory() {
         return sourceDirectory + "/" + Utils.packageToDirectory(model.getMetadata().getFullModelPackageName());
     }
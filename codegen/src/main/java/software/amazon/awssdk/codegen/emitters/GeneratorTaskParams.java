@@ -41,7 +41,16 @@ public class GeneratorTaskParams {
     }
 
     public static GeneratorTaskParams create(IntermediateModel model, String sourceDirectory, String testDirectory) {
-        GeneratorPathProvider pathProvider = new GeneratorPathProvider(model, sourceDirectory, testDirectory);
+        return create(model, sourceDirectory, testDirectory, null, null);
+    }
+
+    public static GeneratorTaskParams create(IntermediateModel model,
+                                             String sourceDirectory,
+                                             String testDirectory,
+                                             String resourcesDirectory,
+                                             String generatedResourcesDirectory) {
+        GeneratorPathProvider pathProvider = new GeneratorPathProvider(model, sourceDirectory, testDirectory,
+                                                                       resourcesDirectory, generatedResourcesDirectory);
         GeneratorTaskParams params = new GeneratorTaskParams(model, pathProvider);
         TASK_PARAMS_VALIDATORS.accept(params);
         return params;
@@ -0,0 +1,52 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.emitters;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import software.amazon.awssdk.codegen.internal.Jackson;
+import software.amazon.awssdk.codegen.internal.Utils;
+
+/**
+ * Generator task that writes an object to a file as JSON.
+ */
+public final class JsonGeneratorTask extends GeneratorTask {
+
+    private final String outputDirectory;
+    private final String fileName;
+    private final Object contents;
+
+    public JsonGeneratorTask(String outputDirectory, String fileName, Object contents) {
+        this.outputDirectory = outputDirectory;
+        this.fileName = fileName;
+        this.contents = contents;
+    }
+
+    @Override
+    public void compute() {
+        Utils.createDirectory(outputDirectory);
+        Path outputFile = Paths.get(outputDirectory, fileName);
+        try (Writer writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
+            Jackson.writeWithObjectMapper(contents, writer);
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Error creating file %s", fileName), e);
+        }
+    }
+}
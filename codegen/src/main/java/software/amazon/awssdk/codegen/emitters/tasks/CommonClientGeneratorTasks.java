@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.List;
 import software.amazon.awssdk.codegen.emitters.GeneratorTask;
 import software.amazon.awssdk.codegen.emitters.GeneratorTaskParams;
+import software.amazon.awssdk.codegen.internal.InterceptorResources;
 import software.amazon.awssdk.codegen.poet.builder.BaseClientBuilderClass;
 import software.amazon.awssdk.codegen.poet.builder.BaseClientBuilderInterface;
 
@@ -27,8 +28,12 @@ import software.amazon.awssdk.codegen.poet.builder.BaseClientBuilderInterface;
  * Task for classes shared by {@link AsyncClientGeneratorTasks} and {@link SyncClientGeneratorTasks}.
  */
 public class CommonClientGeneratorTasks extends BaseGeneratorTasks {
+    private final List<String> interceptorClassNames;
+
     public CommonClientGeneratorTasks(GeneratorTaskParams dependencies) {
         super(dependencies);
+        this.interceptorClassNames =
+            InterceptorResources.interceptorClassNames(dependencies.getPathProvider().getResourcesDirectory(), model);
     }
 
     @Override
@@ -38,7 +43,7 @@ public class CommonClientGeneratorTasks extends BaseGeneratorTasks {
     }
 
     private GeneratorTask createBaseBuilderTask() throws IOException {
-        return createPoetGeneratorTask(new BaseClientBuilderClass(model));
+        return createPoetGeneratorTask(new BaseClientBuilderClass(model, interceptorClassNames));
     }
 
     private GeneratorTask createBaseBuilderInterfaceTask() throws IOException {
@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.emitters.tasks;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import software.amazon.awssdk.codegen.emitters.GeneratorTask;
+import software.amazon.awssdk.codegen.emitters.GeneratorTaskParams;
+import software.amazon.awssdk.codegen.emitters.JsonGeneratorTask;
+import software.amazon.awssdk.codegen.internal.InterceptorResources;
+
+/**
+ * Generates the GraalVM native-image configuration of a service, so that applications using the client can be compiled to a
+ * native image without having to describe the classes and resources the client loads dynamically.
+ * <p>
+ * The configuration is written to {@code META-INF/native-image/software.amazon.awssdk/<client package>}, where native-image
+ * picks it up from the classpath. The interceptors resource is registered for every service, because the client reads every
+ * copy of it on the classpath, including copies added by the application for services that have no interceptors of their own.
+ */
+public final class NativeImageConfigGeneratorTasks extends BaseGeneratorTasks {
+
+    private static final String NATIVE_IMAGE_DIRECTORY = "META-INF/native-image/software.amazon.awssdk";
+
+    private final String generatedResourcesDirectory;
+    private final List<String> interceptorClassNames;
+
+    public NativeImageConfigGeneratorTasks(GeneratorTaskParams dependencies) {
+        super(dependencies);
+        this.generatedResourcesDirectory = dependencies.getPathProvider().getGeneratedResourcesDirectory();
+        this.interceptorClassNames =
+            InterceptorResources.interceptorClassNames(dependencies.getPathProvider().getResourcesDirectory(), model);
+    }
+
+    @Override
+    protected boolean hasTasks() {
+        return generatedResourcesDirectory != null;
+    }
+
+    @Override
+    protected List<GeneratorTask> createTasks() {
+        String outputDirectory = String.format("%s/%s/%s", generatedResourcesDirectory, NATIVE_IMAGE_DIRECTORY,
+                                               model.getMetadata().getClientPackageName());
+
+        List<GeneratorTask> tasks = new ArrayList<>();
+        if (!interceptorClassNames.isEmpty()) {
+            tasks.add(new JsonGeneratorTask(outputDirectory, "reflect-config.json", reflectConfig()));
+        }
+        tasks.add(new JsonGeneratorTask(outputDirectory, "resource-config.json", resourceConfig()));
+        return tasks;
+    }
+
+    /**
+     * The interceptors are instantiated reflectively through their no-argument constructor.
+     */
+    private List<Map<String, Object>> reflectConfig() {
+        Map<String, Object> constructor = new LinkedHashMap<>();
+        constructor.put("name", "<init>");
+        constructor.put("parameterTypes", Collections.emptyList());
+
+        return interceptorClassNames.stream().map(className -> {
+            Map<String, Object> type = new LinkedHashMap<>();
+            type.put("name", className);
+            type.put("methods", Collections.singletonList(constructor));
+            return type;
+        }).collect(toList());
+    }
+
+    /**
+     * The interceptors are listed in a resource that is read when the client is created.
+     */
+    private Map<String, Object> resourceConfig() {
+        String pattern = Pattern.quote(InterceptorResources.interceptorsResourcePath(model));
+        return Collections.singletonMap("resources",
+                                        Collections.singletonList(Collections.singletonMap("pattern", pattern)));
+    }
+}
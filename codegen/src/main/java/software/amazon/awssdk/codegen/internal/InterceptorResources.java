@@ -0,0 +1,75 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.internal;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+
+/**
+ * Locates and reads the {@code execution.interceptors} resource that lists the hand-written interceptors of a service.
+ */
+public final class InterceptorResources {
+
+    private static final String INTERCEPTORS_FILE_NAME = "execution.interceptors";
+
+    private InterceptorResources() {
+    }
+
+    /**
+     * @return The classpath location of the interceptors resource of the service.
+     */
+    public static String interceptorsResourcePath(IntermediateModel model) {
+        String clientDirectory = Utils.packageToDirectory(model.getMetadata().getFullClientPackageName());
+        return String.format("%s/%s", clientDirectory, INTERCEPTORS_FILE_NAME);
+    }
+
+    /**
+     * Read the class names listed in the interceptors resource of the service.
+     *
+     * @param resourcesDirectory The resources directory of the service module, or null if it is not known.
+     * @return The interceptor class names, in the order they are listed, or an empty list if the service has no interceptors
+     * resource.
+     */
+    public static List<String> interceptorClassNames(String resourcesDirectory, IntermediateModel model) {
+        if (resourcesDirectory == null) {
+            return Collections.emptyList();
+        }
+
+        Path resource = Paths.get(resourcesDirectory, interceptorsResourcePath(model));
+        if (!Files.isRegularFile(resource)) {
+            return Collections.emptyList();
+        }
+
+        try {
+            return Files.readAllLines(resource, StandardCharsets.UTF_8)
+                        .stream()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty())
+                        .collect(toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + resource, e);
+        }
+    }
+}
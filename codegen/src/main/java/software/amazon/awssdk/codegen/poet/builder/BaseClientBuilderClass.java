@@ -27,13 +27,17 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.lang.model.element.Modifier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.signer.Aws4Signer;
 import software.amazon.awssdk.awscore.client.builder.AwsDefaultClientBuilder;
-import software.amazon.awssdk.codegen.internal.Utils;
+import software.amazon.awssdk.codegen.internal.InterceptorResources;
 import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
 import software.amazon.awssdk.codegen.model.intermediate.OperationModel;
 import software.amazon.awssdk.codegen.model.service.AuthType;
@@ -58,9 +62,19 @@ public class BaseClientBuilderClass implements ClassSpec {
     private final ClassName builderInterfaceName;
     private final ClassName builderClassName;
     private final String basePackage;
+    private final List<String> interceptorClassNames;
 
     public BaseClientBuilderClass(IntermediateModel model) {
+        this(model, Collections.emptyList());
+    }
+
+    /**
+     * @param interceptorClassNames The interceptors listed in the interceptors resource of the service, which the builder adds to
+     * the client unless classpath discovery of service interceptors is enabled.
+     */
+    public BaseClientBuilderClass(IntermediateModel model, List<String> interceptorClassNames) {
         this.model = model;
+        this.interceptorClassNames = interceptorClassNames;
         this.basePackage = model.getMetadata().getFullClientPackageName();
         this.builderInterfaceName = ClassName.get(basePackage, model.getMetadata().getBaseBuilderInterface());
         this.builderClassName = ClassName.get(basePackage, model.getMetadata().getBaseBuilder());
@@ -171,8 +185,7 @@ public class BaseClientBuilderClass implements ClassSpec {
     }
 
     private MethodSpec finalizeServiceConfigurationMethod() {
-        String requestHandlerDirectory = Utils.packageToDirectory(model.getMetadata().getFullClientPackageName());
-        String requestHandlerPath = String.format("%s/execution.interceptors", requestHandlerDirectory);
+        String requestHandlerPath = InterceptorResources.interceptorsResourcePath(model);
 
         MethodSpec.Builder builder = MethodSpec.methodBuilder("finalizeServiceConfiguration")
                          .addAnnotation(Override.class)
@@ -182,9 +195,16 @@ public class BaseClientBuilderClass implements ClassSpec {
 
         // Initialize configuration values
 
-        builder.addCode("$1T interceptorFactory = new $1T();\n", ClasspathInterceptorChainFactory.class)
-               .addCode("$T<$T> interceptors = interceptorFactory.getInterceptors($S);\n",
-                        List.class, ExecutionInterceptor.class, requestHandlerPath)
+        builder.addStatement("$T<$T> interceptors", List.class, ExecutionInterceptor.class)
+               .beginControlFlow("if ($T.TRUE.equals(config.option($T.DISCOVER_SERVICE_INTERCEPTORS)))",
+                                 Boolean.class, SdkAdvancedClientOption.class)
+               .addStatement("$1T interceptorFactory = new $1T()", ClasspathInterceptorChainFactory.class)
+               .addStatement("interceptors = interceptorFactory.getInterceptors($S)", requestHandlerPath)
+               .nextControlFlow("else")
+               .addStatement("interceptors = new $T<>()", ArrayList.class);
+        classpathOrder(interceptorClassNames).forEach(
+            interceptor -> builder.addStatement("interceptors.add(new $T())", PoetUtils.classNameFromFqcn(interceptor)));
+        builder.endControlFlow()
                .addCode("interceptors = $T.mergeLists(interceptors, config.option($T.EXECUTION_INTERCEPTORS));\n",
                         CollectionUtils.class, SdkClientOption.class);
 
@@ -240,6 +260,17 @@ public class BaseClientBuilderClass implements ClassSpec {
         return builder.build();
     }
 
+    /**
+     * Order the interceptors the way {@link ClasspathInterceptorChainFactory} does when it loads them from the classpath, so
+     * that the generated list runs them in the same order as classpath discovery.
+     */
+    private static Collection<String> classpathOrder(List<String> interceptorClassNames) {
+        Function<String, String> simpleName = i -> PoetUtils.classNameFromFqcn(i).simpleName();
+        return interceptorClassNames.stream()
+                                    .collect(Collectors.toMap(simpleName, i -> i, (i1, i2) -> i1))
+                                    .values();
+    }
+
     private MethodSpec setServiceConfigurationMethod() {
         ClassName serviceConfiguration = ClassName.get(basePackage,
                                                         model.getCustomizationConfig().getServiceSpecificClientConfigClass());
@@ -104,6 +104,7 @@ public final class AsyncClientClass extends AsyncClientInterface {
                     .addField(AsyncClientHandler.class, "clientHandler", Modifier.PRIVATE, Modifier.FINAL)
                     .addField(protocolSpec.protocolFactory(model))
                     .addField(SdkClientConfiguration.class, "clientConfiguration", Modifier.PRIVATE, Modifier.FINAL)
+                    .addFields(ClientClassUtils.operationPlanFields(model, protocolSpec, poetExtensions))
                     .addSuperinterface(interfaceClass)
                     .addJavadoc("Internal implementation of {@link $1T}.\n\n@see $1T#builder()",
                                 interfaceClass)
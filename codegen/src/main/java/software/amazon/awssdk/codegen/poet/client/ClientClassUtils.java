@@ -19,11 +19,13 @@ import static software.amazon.awssdk.codegen.poet.PoetUtils.classNameFromFqcn;
 
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeVariableName;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -40,6 +42,7 @@ import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
 import software.amazon.awssdk.codegen.model.service.HostPrefixProcessor;
 import software.amazon.awssdk.codegen.poet.PoetExtensions;
 import software.amazon.awssdk.codegen.poet.PoetUtils;
+import software.amazon.awssdk.codegen.poet.client.specs.ProtocolSpec;
 import software.amazon.awssdk.core.ApiName;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.core.util.VersionInfo;
@@ -156,6 +159,14 @@ final class ClientClassUtils {
                          .build();
     }
 
+    static List<FieldSpec> operationPlanFields(IntermediateModel model, ProtocolSpec protocolSpec,
+                                               PoetExtensions poetExtensions) {
+        return model.getOperations().values().stream()
+                    .filter(protocolSpec::usesOperationPlan)
+                    .map(o -> protocolSpec.operationPlanField(o, poetExtensions))
+                    .collect(Collectors.toList());
+    }
+
     static CodeBlock callApplySignerOverrideMethod(OperationModel opModel) {
         CodeBlock.Builder code = CodeBlock.builder();
         ShapeModel inputShape = opModel.getInputShape();
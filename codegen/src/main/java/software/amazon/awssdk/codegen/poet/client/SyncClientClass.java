@@ -92,6 +92,7 @@ public class SyncClientClass implements ClassSpec {
                                         .addField(SyncClientHandler.class, "clientHandler", PRIVATE, FINAL)
                                         .addField(protocolSpec.protocolFactory(model))
                                         .addField(SdkClientConfiguration.class, "clientConfiguration", PRIVATE, FINAL)
+                                        .addFields(ClientClassUtils.operationPlanFields(model, protocolSpec, poetExtensions))
                                         .addMethod(constructor())
                                         .addMethod(nameMethod())
                                         .addMethods(protocolSpec.additionalMethods())
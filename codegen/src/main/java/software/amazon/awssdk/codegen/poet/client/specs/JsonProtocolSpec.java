@@ -45,7 +45,6 @@ import software.amazon.awssdk.core.SdkPojoBuilder;
 import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.client.handler.AttachHttpMetadataResponseHandler;
-import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.protocol.VoidSdkResponse;
 import software.amazon.awssdk.protocols.cbor.AwsCborProtocolFactory;
@@ -123,13 +122,21 @@ public class JsonProtocolSpec implements ProtocolSpec {
     public CodeBlock responseHandler(IntermediateModel model, OperationModel opModel) {
         TypeName pojoResponseType = getPojoResponseType(opModel, poetExtensions);
 
+        if (usesOperationPlan(opModel)) {
+            ClassName marshaller = poetExtensions.getRequestTransformClass(opModel.getInputShape().getShapeName()
+                                                                           + "Marshaller");
+            CodeBlock handlers = CodeBlock.builder()
+                                          .add(".responseHandler(protocolFactory.createResponseHandler(operationMetadata, "
+                                               + "$T::builder))\n", pojoResponseType)
+                                          .add(".errorResponseHandler(createErrorResponseHandler(protocolFactory, "
+                                               + "operationMetadata))\n")
+                                          .build();
+            return operationPlan(opModel, poetExtensions, marshaller,
+                                 CodeBlock.builder().add(operationMetadata(opModel)).add("\n").build(), handlers);
+        }
+
         String protocolFactory = protocolFactoryLiteral(model, opModel);
-        CodeBlock.Builder builder =
-            CodeBlock.builder()
-                     .add("$T operationMetadata = $T.builder()\n", JsonOperationMetadata.class, JsonOperationMetadata.class)
-                     .add(".hasStreamingSuccessResponse($L)\n", opModel.hasStreamingOutput())
-                     .add(".isPayloadJson($L)\n", !opModel.getHasBlobMemberAsPayload())
-                     .add(".build();");
+        CodeBlock.Builder builder = CodeBlock.builder().add(operationMetadata(opModel));
 
         if (opModel.hasEventStreamOutput()) {
             responseHandlersForEventStreaming(opModel, pojoResponseType, protocolFactory, builder);
@@ -143,8 +150,21 @@ public class JsonProtocolSpec implements ProtocolSpec {
         return builder.build();
     }
 
+    private CodeBlock operationMetadata(OperationModel opModel) {
+        return CodeBlock.builder()
+                        .add("$T operationMetadata = $T.builder()\n", JsonOperationMetadata.class, JsonOperationMetadata.class)
+                        .add(".hasStreamingSuccessResponse($L)\n", opModel.hasStreamingOutput())
+                        .add(".isPayloadJson($L)\n", !opModel.getHasBlobMemberAsPayload())
+                        .add(".build();")
+                        .build();
+    }
+
     @Override
     public Optional<CodeBlock> errorResponseHandler(OperationModel opModel) {
+        if (usesOperationPlan(opModel)) {
+            return Optional.empty();
+        }
+
         String protocolFactory = protocolFactoryLiteral(model, opModel);
 
         return Optional.of(
@@ -162,21 +182,23 @@ public class JsonProtocolSpec implements ProtocolSpec {
 
         CodeBlock.Builder codeBlock =
             CodeBlock.builder()
-                     .add("\n\nreturn clientHandler.execute(new $T<$T, $T>()\n",
-                          ClientExecutionParams.class, requestType, responseType)
-                     .add(".withOperationName(\"$N\")\n", opModel.getOperationName())
-                     .add(".withResponseHandler(responseHandler)\n")
-                     .add(".withErrorResponseHandler(errorResponseHandler)\n")
-                     .add(hostPrefixExpression(opModel))
-                     .add(discoveredEndpoint(opModel))
-                     .add(".withInput($L)\n", opModel.getInput().getVariableName())
-                     .add(".withMetricCollector(apiCallMetricCollector)")
-                     .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel));
+                     .add("\n\nreturn clientHandler.execute($L", newExecutionParams(opModel, requestType, responseType));
+
+        if (!usesOperationPlan(opModel)) {
+            codeBlock.add(".withResponseHandler(responseHandler)\n")
+                     .add(".withErrorResponseHandler(errorResponseHandler)\n");
+        }
+
+        codeBlock.add(hostPrefixExpression(opModel))
+                 .add(discoveredEndpoint(opModel))
+                 .add(".withInput($L)\n", opModel.getInput().getVariableName())
+                 .add(".withMetricCollector(apiCallMetricCollector)")
+                 .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel));
 
         if (opModel.hasStreamingInput()) {
             codeBlock.add(".withRequestBody(requestBody)")
                      .add(".withMarshaller($L)", syncStreamingMarshaller(model, opModel, marshaller));
-        } else {
+        } else if (!usesOperationPlan(opModel)) {
             codeBlock.add(".withMarshaller(new $T(protocolFactory))", marshaller);
         }
 
@@ -225,15 +247,18 @@ public class JsonProtocolSpec implements ProtocolSpec {
                                                                               : pojoResponseType;
         TypeName executeFutureValueType = executeFutureValueType(opModel, poetExtensions);
 
-        builder.add("\n\n$T<$T> executeFuture = clientHandler.execute(new $T<$T, $T>()\n",
-                    CompletableFuture.class, executeFutureValueType, ClientExecutionParams.class, requestType, responseType)
-               .add(".withOperationName(\"$N\")\n", opModel.getOperationName())
-               .add(".withMarshaller($L)\n", asyncMarshaller(model, opModel, marshaller, protocolFactory))
-               .add(asyncRequestBody(opModel))
-               .add(fullDuplex(opModel))
-               .add(".withResponseHandler($L)\n", responseHandlerName(opModel, isRestJson))
-               .add(".withErrorResponseHandler(errorResponseHandler)\n")
-               .add(".withMetricCollector(apiCallMetricCollector)\n")
+        builder.add("\n\n$T<$T> executeFuture = clientHandler.execute($L",
+                    CompletableFuture.class, executeFutureValueType, newExecutionParams(opModel, requestType, responseType));
+
+        if (!usesOperationPlan(opModel)) {
+            builder.add(".withMarshaller($L)\n", asyncMarshaller(model, opModel, marshaller, protocolFactory))
+                   .add(asyncRequestBody(opModel))
+                   .add(fullDuplex(opModel))
+                   .add(".withResponseHandler($L)\n", responseHandlerName(opModel, isRestJson))
+                   .add(".withErrorResponseHandler(errorResponseHandler)\n");
+        }
+
+        builder.add(".withMetricCollector(apiCallMetricCollector)\n")
                .add(hostPrefixExpression(opModel))
                .add(discoveredEndpoint(opModel))
                .add(asyncRequestBody)
@@ -19,12 +19,14 @@ import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeVariableName;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import javax.lang.model.element.Modifier;
 import software.amazon.awssdk.awscore.client.handler.AwsSyncClientHandler;
 import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
 import software.amazon.awssdk.codegen.model.intermediate.OperationModel;
@@ -32,6 +34,8 @@ import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
 import software.amazon.awssdk.codegen.model.intermediate.ShapeType;
 import software.amazon.awssdk.codegen.model.service.AuthType;
 import software.amazon.awssdk.codegen.poet.PoetExtensions;
+import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
+import software.amazon.awssdk.core.client.handler.ClientOperationPlan;
 import software.amazon.awssdk.core.client.handler.SyncClientHandler;
 import software.amazon.awssdk.core.runtime.transform.AsyncStreamingRequestMarshaller;
 import software.amazon.awssdk.core.runtime.transform.StreamingRequestMarshaller;
@@ -92,6 +96,74 @@ public interface ProtocolSpec {
                : "";
     }
 
+    /**
+     * Whether the marshaller and response handlers of the operation are built once per client, in a
+     * {@link ClientOperationPlan}, instead of on every call. Streaming operations are excluded because their marshallers
+     * and handlers are bound to the request or response body of a single call.
+     */
+    default boolean usesOperationPlan(OperationModel opModel) {
+        return !opModel.hasStreamingInput() && !opModel.hasStreamingOutput()
+               && !opModel.hasEventStreamInput() && !opModel.hasEventStreamOutput();
+    }
+
+    /**
+     * The client field caching the {@link ClientOperationPlan} of an operation, see {@link #usesOperationPlan(OperationModel)}.
+     */
+    default FieldSpec operationPlanField(OperationModel opModel, PoetExtensions poetExtensions) {
+        return FieldSpec.builder(operationPlanType(opModel, poetExtensions), operationPlanFieldName(opModel))
+                        .addModifiers(Modifier.PRIVATE, Modifier.VOLATILE)
+                        .build();
+    }
+
+    default TypeName operationPlanType(OperationModel opModel, PoetExtensions poetExtensions) {
+        return ParameterizedTypeName.get(ClassName.get(ClientOperationPlan.class),
+                                         poetExtensions.getModelClass(opModel.getInput().getVariableType()),
+                                         getPojoResponseType(opModel, poetExtensions));
+    }
+
+    default String operationPlanFieldName(OperationModel opModel) {
+        return opModel.getMethodName() + "Plan";
+    }
+
+    /**
+     * Declares an {@code operationPlan} variable holding the plan cached on the client, and builds the plan on first use. The
+     * plan is immutable, so concurrent first calls building it more than once is harmless.
+     *
+     * @param setup Statements needed by the handler expressions, run only when the plan is built.
+     * @param handlers The {@link ClientOperationPlan.Builder} calls setting the response handlers.
+     */
+    default CodeBlock operationPlan(OperationModel opModel, PoetExtensions poetExtensions, ClassName marshaller,
+                                    CodeBlock setup, CodeBlock handlers) {
+        String fieldName = operationPlanFieldName(opModel);
+        TypeName planType = operationPlanType(opModel, poetExtensions);
+        return CodeBlock.builder()
+                        .addStatement("$T operationPlan = $N", planType, fieldName)
+                        .beginControlFlow("if (operationPlan == null)")
+                        .add(setup)
+                        .add("operationPlan = $T.<$T, $T>builder()\n", ClientOperationPlan.class,
+                             poetExtensions.getModelClass(opModel.getInput().getVariableType()),
+                             getPojoResponseType(opModel, poetExtensions))
+                        .add(".operationName($S)\n", opModel.getOperationName())
+                        .add(".marshaller(new $T(protocolFactory))\n", marshaller)
+                        .add(handlers)
+                        .add(".build();\n")
+                        .addStatement("$N = operationPlan", fieldName)
+                        .endControlFlow()
+                        .build();
+    }
+
+    /**
+     * The expression creating the {@link ClientExecutionParams} of a call, followed by the operation name when the operation
+     * does not use an operation plan.
+     */
+    default CodeBlock newExecutionParams(OperationModel opModel, TypeName requestType, TypeName responseType) {
+        if (usesOperationPlan(opModel)) {
+            return CodeBlock.of("operationPlan.newExecutionParams()\n");
+        }
+        return CodeBlock.of("new $T<$T, $T>()\n.withOperationName($S)\n", ClientExecutionParams.class, requestType,
+                            responseType, opModel.getOperationName());
+    }
+
     default String discoveredEndpoint(OperationModel opModel) {
         return opModel.getEndpointDiscovery() != null
                ? ".discoveredEndpoint(cachedEndpoint)\n"
@@ -30,7 +30,6 @@ import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
 import software.amazon.awssdk.codegen.model.intermediate.OperationModel;
 import software.amazon.awssdk.codegen.poet.PoetExtensions;
 import software.amazon.awssdk.codegen.poet.client.traits.HttpChecksumRequiredTrait;
-import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.protocols.query.AwsQueryProtocolFactory;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
@@ -78,6 +77,15 @@ public class QueryProtocolSpec implements ProtocolSpec {
                                      OperationModel opModel) {
         ClassName responseType = poetExtensions.getModelClass(opModel.getReturnType().getReturnType());
 
+        if (usesOperationPlan(opModel)) {
+            CodeBlock handlers = CodeBlock.builder()
+                                          .add(".responseHandler(protocolFactory.createResponseHandler($T::builder))\n",
+                                               responseType)
+                                          .add(".errorResponseHandler(protocolFactory.createErrorResponseHandler())\n")
+                                          .build();
+            return operationPlan(opModel, poetExtensions, marshaller(opModel), CodeBlock.of(""), handlers);
+        }
+
         return CodeBlock.builder()
                         .addStatement("\n\n$T<$T> responseHandler = protocolFactory.createResponseHandler($T::builder)",
                                       HttpResponseHandler.class,
@@ -86,8 +94,16 @@ public class QueryProtocolSpec implements ProtocolSpec {
                         .build();
     }
 
+    protected ClassName marshaller(OperationModel opModel) {
+        return poetExtensions.getRequestTransformClass(opModel.getInputShape().getShapeName() + "Marshaller");
+    }
+
     @Override
     public Optional<CodeBlock> errorResponseHandler(OperationModel opModel) {
+        if (usesOperationPlan(opModel)) {
+            return Optional.empty();
+        }
+
         return Optional.of(
             CodeBlock.builder()
                      .add("\n\n$T errorResponseHandler = protocolFactory.createErrorResponseHandler();",
@@ -102,22 +118,27 @@ public class QueryProtocolSpec implements ProtocolSpec {
         ClassName marshaller = poetExtensions.getTransformClass(opModel.getInputShape().getShapeName() + "Marshaller");
         CodeBlock.Builder codeBlock =
             CodeBlock.builder()
-                     .add("\n\nreturn clientHandler.execute(new $T<$T, $T>()",
-                          ClientExecutionParams.class, requestType, responseType)
-                     .add(".withOperationName($S)\n", opModel.getOperationName())
-                     .add(".withResponseHandler(responseHandler)\n")
-                     .add(".withErrorResponseHandler(errorResponseHandler)\n")
-                     .add(hostPrefixExpression(opModel))
-                     .add(discoveredEndpoint(opModel))
-                     .add(".withInput($L)", opModel.getInput().getVariableName())
-                     .add(".withMetricCollector(apiCallMetricCollector)")
-                     .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel));
+                     .add("\n\nreturn clientHandler.execute($L", newExecutionParams(opModel, requestType, responseType));
+
+        if (!usesOperationPlan(opModel)) {
+            codeBlock.add(".withResponseHandler(responseHandler)\n")
+                     .add(".withErrorResponseHandler(errorResponseHandler)\n");
+        }
+
+        codeBlock.add(hostPrefixExpression(opModel))
+                 .add(discoveredEndpoint(opModel))
+                 .add(".withInput($L)", opModel.getInput().getVariableName())
+                 .add(".withMetricCollector(apiCallMetricCollector)")
+                 .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel));
 
         if (opModel.hasStreamingInput()) {
             return codeBlock.add(".withRequestBody(requestBody)")
                             .add(".withMarshaller($L));", syncStreamingMarshaller(intermediateModel, opModel, marshaller))
                             .build();
         }
+        if (usesOperationPlan(opModel)) {
+            return codeBlock.add(");").build();
+        }
         return codeBlock.add(".withMarshaller(new $T(protocolFactory)) $L);", marshaller,
                              opModel.hasStreamingOutput() ? ", responseTransformer" : "").build();
     }
@@ -133,16 +154,19 @@ public class QueryProtocolSpec implements ProtocolSpec {
         TypeName executeFutureValueType = executeFutureValueType(opModel, poetExtensions);
         CodeBlock.Builder builder =
             CodeBlock.builder()
-                     .add("\n\n$T<$T> executeFuture = clientHandler.execute(new $T<$T, $T>()\n",
-                          CompletableFuture.class, executeFutureValueType, ClientExecutionParams.class,
-                          requestType, pojoResponseType)
-                     .add(".withOperationName(\"$N\")\n", opModel.getOperationName())
-                     .add(".withMarshaller($L)\n",
-                          asyncMarshaller(intermediateModel, opModel, marshaller, "protocolFactory"))
-                     .add(".withResponseHandler(responseHandler)\n")
-                     .add(".withErrorResponseHandler(errorResponseHandler)\n")
-                     .add(".withMetricCollector(apiCallMetricCollector)\n")
-                     .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel));
+                     .add("\n\n$T<$T> executeFuture = clientHandler.execute($L",
+                          CompletableFuture.class, executeFutureValueType,
+                          newExecutionParams(opModel, requestType, pojoResponseType));
+
+        if (!usesOperationPlan(opModel)) {
+            builder.add(".withMarshaller($L)\n",
+                        asyncMarshaller(intermediateModel, opModel, marshaller, "protocolFactory"))
+                   .add(".withResponseHandler(responseHandler)\n")
+                   .add(".withErrorResponseHandler(errorResponseHandler)\n");
+        }
+
+        builder.add(".withMetricCollector(apiCallMetricCollector)\n")
+               .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel));
 
         builder.add(hostPrefixExpression(opModel) + asyncRequestBody + ".withInput($L)$L);",
                     opModel.getInput().getVariableName(),
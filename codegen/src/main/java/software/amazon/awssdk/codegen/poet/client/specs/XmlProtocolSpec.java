@@ -30,7 +30,6 @@ import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
 import software.amazon.awssdk.codegen.model.intermediate.OperationModel;
 import software.amazon.awssdk.codegen.poet.PoetExtensions;
 import software.amazon.awssdk.codegen.poet.client.traits.HttpChecksumRequiredTrait;
-import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.protocols.xml.AwsXmlProtocolFactory;
 import software.amazon.awssdk.protocols.xml.XmlOperationMetadata;
@@ -72,6 +71,13 @@ public final class XmlProtocolSpec extends QueryProtocolSpec {
             ClassName.get(HttpResponseHandler.class),
             ParameterizedTypeName.get(ClassName.get(software.amazon.awssdk.core.Response.class), responseType));
 
+        if (usesOperationPlan(opModel)) {
+            CodeBlock handlers = CodeBlock.of(".combinedResponseHandler(protocolFactory.createCombinedResponseHandler("
+                                              + "$T::builder, new $T().withHasStreamingSuccessResponse(false)))\n",
+                                              responseType, XmlOperationMetadata.class);
+            return operationPlan(opModel, poetExtensions, marshaller(opModel), CodeBlock.of(""), handlers);
+        }
+
         return CodeBlock.builder()
                         .addStatement("\n\n$T responseHandler = protocolFactory.createCombinedResponseHandler($T::builder, "
                                       + "new $T().withHasStreamingSuccessResponse($L))",
@@ -109,15 +115,18 @@ public final class XmlProtocolSpec extends QueryProtocolSpec {
         ClassName requestType = poetExtensions.getModelClass(opModel.getInput().getVariableType());
         ClassName marshaller = poetExtensions.getTransformClass(opModel.getInputShape().getShapeName() + "Marshaller");
         CodeBlock.Builder codeBlock = CodeBlock.builder()
-                                               .add("\n\nreturn clientHandler.execute(new $T<$T, $T>()\n",
-                                                    ClientExecutionParams.class, requestType, responseType)
-                                               .add(".withOperationName($S)\n", opModel.getOperationName())
-                                               .add(".withCombinedResponseHandler(responseHandler)\n")
-                                               .add(".withMetricCollector(apiCallMetricCollector)\n" +
-                                                    hostPrefixExpression(opModel) +
-                                                    discoveredEndpoint(opModel))
-                                               .add(".withInput($L)", opModel.getInput().getVariableName())
-                                               .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel));
+                                               .add("\n\nreturn clientHandler.execute($L",
+                                                    newExecutionParams(opModel, requestType, responseType));
+
+        if (!usesOperationPlan(opModel)) {
+            codeBlock.add(".withCombinedResponseHandler(responseHandler)\n");
+        }
+
+        codeBlock.add(".withMetricCollector(apiCallMetricCollector)\n" +
+                      hostPrefixExpression(opModel) +
+                      discoveredEndpoint(opModel))
+                 .add(".withInput($L)", opModel.getInput().getVariableName())
+                 .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel));
 
         s3ArnableFields(opModel, model).ifPresent(codeBlock::add);
 
@@ -126,6 +135,9 @@ public final class XmlProtocolSpec extends QueryProtocolSpec {
                             .add(".withMarshaller($L));", syncStreamingMarshaller(intermediateModel, opModel, marshaller))
                             .build();
         }
+        if (usesOperationPlan(opModel)) {
+            return codeBlock.add(");").build();
+        }
         return codeBlock.add(".withMarshaller(new $T(protocolFactory)) $L);", marshaller,
                              opModel.hasStreamingOutput() ? ", responseTransformer" : "").build();
     }
@@ -164,16 +176,19 @@ public final class XmlProtocolSpec extends QueryProtocolSpec {
         TypeName executeFutureValueType = executeFutureValueType(opModel, poetExtensions);
         CodeBlock.Builder builder =
             CodeBlock.builder()
-                     .add("\n\n$T<$T> executeFuture = clientHandler.execute(new $T<$T, $T>()\n",
+                     .add("\n\n$T<$T> executeFuture = clientHandler.execute($L",
                           CompletableFuture.class, executeFutureValueType,
-                          ClientExecutionParams.class, requestType, pojoResponseType)
-                     .add(".withOperationName(\"$N\")\n", opModel.getOperationName())
-                     .add(".withMarshaller($L)\n", asyncMarshaller(intermediateModel, opModel, marshaller, "protocolFactory"))
-                     .add(".withCombinedResponseHandler(responseHandler)\n")
-                     .add(hostPrefixExpression(opModel))
-                     .add(".withMetricCollector(apiCallMetricCollector)\n")
-                     .add(asyncRequestBody(opModel))
-                     .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel));
+                          newExecutionParams(opModel, requestType, pojoResponseType));
+
+        if (!usesOperationPlan(opModel)) {
+            builder.add(".withMarshaller($L)\n", asyncMarshaller(intermediateModel, opModel, marshaller, "protocolFactory"))
+                   .add(".withCombinedResponseHandler(responseHandler)\n");
+        }
+
+        builder.add(hostPrefixExpression(opModel))
+               .add(".withMetricCollector(apiCallMetricCollector)\n")
+               .add(asyncRequestBody(opModel))
+               .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel));
 
         s3ArnableFields(opModel, model).ifPresent(builder::add);
         builder.add(".withInput($L) $L);", opModel.getInput().getVariableName(), opModel.hasStreamingOutput() ?
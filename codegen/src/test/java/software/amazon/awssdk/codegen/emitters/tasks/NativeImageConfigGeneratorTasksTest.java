@@ -0,0 +1,98 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.emitters.tasks;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.utils.FunctionalUtils.safeConsumer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.codegen.emitters.GeneratorTaskParams;
+import software.amazon.awssdk.codegen.internal.InterceptorResources;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.poet.ClientTestModels;
+
+public class NativeImageConfigGeneratorTasksTest {
+
+    private final IntermediateModel model = ClientTestModels.jsonServiceModels();
+    private Path baseDirectory;
+    private Path resourcesDirectory;
+    private Path generatedResourcesDirectory;
+
+    @Before
+    public void setup() throws IOException {
+        baseDirectory = Files.createTempDirectory(getClass().getSimpleName());
+        resourcesDirectory = baseDirectory.resolve("resources");
+        generatedResourcesDirectory = baseDirectory.resolve("generated-resources");
+    }
+
+    @After
+    public void cleanUp() throws IOException {
+        List<Path> files = Files.walk(baseDirectory).collect(toList());
+        Collections.reverse(files);
+        files.forEach(safeConsumer(Files::delete));
+    }
+
+    @Test
+    public void interceptors_generatesReflectionAndResourceConfig() throws IOException {
+        Path interceptors = resourcesDirectory.resolve(InterceptorResources.interceptorsResourcePath(model));
+        Files.createDirectories(interceptors.getParent());
+        Files.write(interceptors, "com.example.FooInterceptor\n\n  com.example.BarInterceptor  \n".getBytes(StandardCharsets.UTF_8));
+
+        generate();
+
+        Path configDirectory = configDirectory();
+        String reflectConfig = new String(Files.readAllBytes(configDirectory.resolve("reflect-config.json")),
+                                          StandardCharsets.UTF_8);
+        String resourceConfig = new String(Files.readAllBytes(configDirectory.resolve("resource-config.json")),
+                                           StandardCharsets.UTF_8);
+
+        assertThat(reflectConfig).contains("\"com.example.FooInterceptor\"", "\"com.example.BarInterceptor\"", "\"<init>\"");
+        assertThat(resourceConfig).contains(InterceptorResources.interceptorsResourcePath(model));
+    }
+
+    @Test
+    public void noInterceptors_generatesOnlyResourceConfig() throws IOException {
+        generate();
+
+        Path configDirectory = configDirectory();
+        String resourceConfig = new String(Files.readAllBytes(configDirectory.resolve("resource-config.json")),
+                                           StandardCharsets.UTF_8);
+
+        assertThat(configDirectory.resolve("reflect-config.json")).doesNotExist();
+        assertThat(resourceConfig).contains(InterceptorResources.interceptorsResourcePath(model));
+    }
+
+    private Path configDirectory() {
+        return generatedResourcesDirectory.resolve("META-INF/native-image/software.amazon.awssdk")
+                                          .resolve(model.getMetadata().getClientPackageName());
+    }
+
+    private void generate() {
+        GeneratorTaskParams params = GeneratorTaskParams.create(model, "sources/", "tests/",
+                                                                resourcesDirectory.toString(),
+                                                                generatedResourcesDirectory.toString());
+        new NativeImageConfigGeneratorTasks(params).compute();
+    }
+}
@@ -18,6 +18,8 @@ package software.amazon.awssdk.codegen.poet.builder;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static software.amazon.awssdk.codegen.poet.PoetMatchers.generatesTo;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Function;
 import org.junit.Test;
 import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
@@ -40,7 +42,9 @@ public class BuilderClassTest {
 
     @Test
     public void baseQueryClientBuilderClass() throws Exception {
-        validateQueryGeneration(BaseClientBuilderClass::new, "test-query-client-builder-class.java");
+        List<String> interceptors = Arrays.asList("software.amazon.awssdk.services.query.internal.SecondInterceptor",
+                                                  "software.amazon.awssdk.services.query.internal.FirstInterceptor");
+        validateQueryGeneration(m -> new BaseClientBuilderClass(m, interceptors), "test-query-client-builder-class.java");
     }
 
     @Test
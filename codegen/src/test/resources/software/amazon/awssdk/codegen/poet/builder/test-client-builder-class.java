@@ -1,5 +1,6 @@
 package software.amazon.awssdk.services.json;
 
+import java.util.ArrayList;
 import java.util.List;
 import software.amazon.MyServiceHttpConfig;
 import software.amazon.MyServiceRetryPolicy;
@@ -41,9 +42,13 @@ abstract class DefaultJsonBaseClientBuilder<B extends JsonBaseClientBuilder<B, C
 
     @Override
     protected final SdkClientConfiguration finalizeServiceConfiguration(SdkClientConfiguration config) {
-        ClasspathInterceptorChainFactory interceptorFactory = new ClasspathInterceptorChainFactory();
-        List<ExecutionInterceptor> interceptors = interceptorFactory
-            .getInterceptors("software/amazon/awssdk/services/json/execution.interceptors");
+        List<ExecutionInterceptor> interceptors;
+        if (Boolean.TRUE.equals(config.option(SdkAdvancedClientOption.DISCOVER_SERVICE_INTERCEPTORS))) {
+            ClasspathInterceptorChainFactory interceptorFactory = new ClasspathInterceptorChainFactory();
+            interceptors = interceptorFactory.getInterceptors("software/amazon/awssdk/services/json/execution.interceptors");
+        } else {
+            interceptors = new ArrayList<>();
+        }
         interceptors = CollectionUtils.mergeLists(interceptors, config.option(SdkClientOption.EXECUTION_INTERCEPTORS));
         ServiceConfiguration.Builder c = ((ServiceConfiguration) config.option(SdkClientOption.SERVICE_CONFIGURATION))
             .toBuilder();
@@ -1,5 +1,6 @@
 package software.amazon.awssdk.services.query;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
@@ -13,6 +14,8 @@ import software.amazon.awssdk.core.interceptor.ClasspathInterceptorChainFactory;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.protocols.query.interceptor.QueryParametersToBodyInterceptor;
+import software.amazon.awssdk.services.query.internal.FirstInterceptor;
+import software.amazon.awssdk.services.query.internal.SecondInterceptor;
 import software.amazon.awssdk.utils.CollectionUtils;
 
 /**
@@ -39,9 +42,15 @@ abstract class DefaultQueryBaseClientBuilder<B extends QueryBaseClientBuilder<B,
 
     @Override
     protected final SdkClientConfiguration finalizeServiceConfiguration(SdkClientConfiguration config) {
-        ClasspathInterceptorChainFactory interceptorFactory = new ClasspathInterceptorChainFactory();
-        List<ExecutionInterceptor> interceptors = interceptorFactory
-            .getInterceptors("software/amazon/awssdk/services/query/execution.interceptors");
+        List<ExecutionInterceptor> interceptors;
+        if (Boolean.TRUE.equals(config.option(SdkAdvancedClientOption.DISCOVER_SERVICE_INTERCEPTORS))) {
+            ClasspathInterceptorChainFactory interceptorFactory = new ClasspathInterceptorChainFactory();
+            interceptors = interceptorFactory.getInterceptors("software/amazon/awssdk/services/query/execution.interceptors");
+        } else {
+            interceptors = new ArrayList<>();
+            interceptors.add(new FirstInterceptor());
+            interceptors.add(new SecondInterceptor());
+        }
         interceptors = CollectionUtils.mergeLists(interceptors, config.option(SdkClientOption.EXECUTION_INTERCEPTORS));
         List<ExecutionInterceptor> protocolInterceptors = Collections.singletonList(new QueryParametersToBodyInterceptor());
         interceptors = CollectionUtils.mergeLists(interceptors, protocolInterceptors);
@@ -37,6 +37,7 @@ import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.client.handler.AsyncClientHandler;
 import software.amazon.awssdk.core.client.handler.AttachHttpMetadataResponseHandler;
 import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
+import software.amazon.awssdk.core.client.handler.ClientOperationPlan;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksumRequired;
@@ -124,6 +125,18 @@ final class DefaultJsonAsyncClient implements JsonAsyncClient {
 
     private final SdkClientConfiguration clientConfiguration;
 
+    private volatile ClientOperationPlan<APostOperationRequest, APostOperationResponse> aPostOperationPlan;
+
+    private volatile ClientOperationPlan<APostOperationWithOutputRequest, APostOperationWithOutputResponse> aPostOperationWithOutputPlan;
+
+    private volatile ClientOperationPlan<GetWithoutRequiredMembersRequest, GetWithoutRequiredMembersResponse> getWithoutRequiredMembersPlan;
+
+    private volatile ClientOperationPlan<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> operationWithChecksumRequiredPlan;
+
+    private volatile ClientOperationPlan<PaginatedOperationWithResultKeyRequest, PaginatedOperationWithResultKeyResponse> paginatedOperationWithResultKeyPlan;
+
+    private volatile ClientOperationPlan<PaginatedOperationWithoutResultKeyRequest, PaginatedOperationWithoutResultKeyResponse> paginatedOperationWithoutResultKeyPlan;
+
     private final Executor executor;
 
     protected DefaultJsonAsyncClient(SdkClientConfiguration clientConfiguration) {
@@ -170,24 +183,25 @@ final class DefaultJsonAsyncClient implements JsonAsyncClient {
         try {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Json Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "APostOperation");
+            ClientOperationPlan<APostOperationRequest, APostOperationResponse> operationPlan = aPostOperationPlan;
+            if (operationPlan == null) {
             JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                                                                            .isPayloadJson(true).build();
-
-            HttpResponseHandler<APostOperationResponse> responseHandler = protocolFactory.createResponseHandler(
-                operationMetadata, APostOperationResponse::builder);
-
-            HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                                                                                                       operationMetadata);
+                operationPlan = ClientOperationPlan
+                        .<APostOperationRequest, APostOperationResponse> builder()
+                        .operationName("APostOperation")
+                        .marshaller(new APostOperationRequestMarshaller(protocolFactory))
+                        .responseHandler(
+                                protocolFactory.createResponseHandler(operationMetadata, APostOperationResponse::builder))
+                        .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+                aPostOperationPlan = operationPlan;
+            }
             String hostPrefix = "{StringMember}-foo.";
             HostnameValidator.validateHostnameCompliant(aPostOperationRequest.stringMember(), "StringMember",
                                                         "aPostOperationRequest");
             String resolvedHostExpression = String.format("%s-foo.", aPostOperationRequest.stringMember());
 
-            CompletableFuture<APostOperationResponse> executeFuture = clientHandler
-                .execute(new ClientExecutionParams<APostOperationRequest, APostOperationResponse>()
-                             .withOperationName("APostOperation")
-                             .withMarshaller(new APostOperationRequestMarshaller(protocolFactory))
-                             .withResponseHandler(responseHandler).withErrorResponseHandler(errorResponseHandler)
+            CompletableFuture<APostOperationResponse> executeFuture = clientHandler.execute(operationPlan.newExecutionParams()
                              .withMetricCollector(apiCallMetricCollector).hostPrefixExpression(resolvedHostExpression)
                              .withInput(aPostOperationRequest));
             AwsRequestOverrideConfiguration requestOverrideConfig = aPostOperationRequest.overrideConfiguration().orElse(null);
@@ -235,21 +249,23 @@ final class DefaultJsonAsyncClient implements JsonAsyncClient {
         try {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Json Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "APostOperationWithOutput");
+            ClientOperationPlan<APostOperationWithOutputRequest, APostOperationWithOutputResponse> operationPlan = aPostOperationWithOutputPlan;
+            if (operationPlan == null) {
             JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                                                                            .isPayloadJson(true).build();
+                operationPlan = ClientOperationPlan
+                        .<APostOperationWithOutputRequest, APostOperationWithOutputResponse> builder()
+                        .operationName("APostOperationWithOutput")
+                        .marshaller(new APostOperationWithOutputRequestMarshaller(protocolFactory))
+                        .responseHandler(
+                                protocolFactory.createResponseHandler(operationMetadata,
+                                        APostOperationWithOutputResponse::builder))
+                        .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+                aPostOperationWithOutputPlan = operationPlan;
+            }
 
-            HttpResponseHandler<APostOperationWithOutputResponse> responseHandler = protocolFactory.createResponseHandler(
-                operationMetadata, APostOperationWithOutputResponse::builder);
-
-            HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                                                                                                       operationMetadata);
-
-            CompletableFuture<APostOperationWithOutputResponse> executeFuture = clientHandler
-                .execute(new ClientExecutionParams<APostOperationWithOutputRequest, APostOperationWithOutputResponse>()
-                             .withOperationName("APostOperationWithOutput")
-                             .withMarshaller(new APostOperationWithOutputRequestMarshaller(protocolFactory))
-                             .withResponseHandler(responseHandler).withErrorResponseHandler(errorResponseHandler)
-                             .withMetricCollector(apiCallMetricCollector).withInput(aPostOperationWithOutputRequest));
+            CompletableFuture<APostOperationWithOutputResponse> executeFuture = clientHandler.execute(operationPlan
+                    .newExecutionParams().withMetricCollector(apiCallMetricCollector).withInput(aPostOperationWithOutputRequest));
             AwsRequestOverrideConfiguration requestOverrideConfig = aPostOperationWithOutputRequest.overrideConfiguration()
                                                                                                    .orElse(null);
             CompletableFuture<APostOperationWithOutputResponse> whenCompleted = executeFuture.whenComplete((r, e) -> {
@@ -546,21 +562,24 @@ final class DefaultJsonAsyncClient implements JsonAsyncClient {
         try {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Json Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "GetWithoutRequiredMembers");
+            ClientOperationPlan<GetWithoutRequiredMembersRequest, GetWithoutRequiredMembersResponse> operationPlan = getWithoutRequiredMembersPlan;
+            if (operationPlan == null) {
             JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                                                                            .isPayloadJson(true).build();
-
-            HttpResponseHandler<GetWithoutRequiredMembersResponse> responseHandler = protocolFactory.createResponseHandler(
-                operationMetadata, GetWithoutRequiredMembersResponse::builder);
-
-            HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                                                                                                       operationMetadata);
+                operationPlan = ClientOperationPlan
+                        .<GetWithoutRequiredMembersRequest, GetWithoutRequiredMembersResponse> builder()
+                        .operationName("GetWithoutRequiredMembers")
+                        .marshaller(new GetWithoutRequiredMembersRequestMarshaller(protocolFactory))
+                        .responseHandler(
+                                protocolFactory.createResponseHandler(operationMetadata,
+                                        GetWithoutRequiredMembersResponse::builder))
+                        .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+                getWithoutRequiredMembersPlan = operationPlan;
+            }
 
             CompletableFuture<GetWithoutRequiredMembersResponse> executeFuture = clientHandler
-                .execute(new ClientExecutionParams<GetWithoutRequiredMembersRequest, GetWithoutRequiredMembersResponse>()
-                             .withOperationName("GetWithoutRequiredMembers")
-                             .withMarshaller(new GetWithoutRequiredMembersRequestMarshaller(protocolFactory))
-                             .withResponseHandler(responseHandler).withErrorResponseHandler(errorResponseHandler)
-                             .withMetricCollector(apiCallMetricCollector).withInput(getWithoutRequiredMembersRequest));
+                    .execute(operationPlan.newExecutionParams().withMetricCollector(apiCallMetricCollector)
+                            .withInput(getWithoutRequiredMembersRequest));
             AwsRequestOverrideConfiguration requestOverrideConfig = getWithoutRequiredMembersRequest.overrideConfiguration()
                                                                                                     .orElse(null);
             CompletableFuture<GetWithoutRequiredMembersResponse> whenCompleted = executeFuture.whenComplete((r, e) -> {
@@ -604,24 +623,25 @@ final class DefaultJsonAsyncClient implements JsonAsyncClient {
         try {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Json Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "OperationWithChecksumRequired");
+            ClientOperationPlan<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> operationPlan = operationWithChecksumRequiredPlan;
+            if (operationPlan == null) {
             JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                                                                            .isPayloadJson(true).build();
+                operationPlan = ClientOperationPlan
+                        .<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> builder()
+                        .operationName("OperationWithChecksumRequired")
+                        .marshaller(new OperationWithChecksumRequiredRequestMarshaller(protocolFactory))
+                        .responseHandler(
+                                protocolFactory.createResponseHandler(operationMetadata,
+                                        OperationWithChecksumRequiredResponse::builder))
+                        .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+                operationWithChecksumRequiredPlan = operationPlan;
+            }
 
-            HttpResponseHandler<OperationWithChecksumRequiredResponse> responseHandler = protocolFactory.createResponseHandler(
-                operationMetadata, OperationWithChecksumRequiredResponse::builder);
-
-            HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                                                                                                       operationMetadata);
-
-            CompletableFuture<OperationWithChecksumRequiredResponse> executeFuture = clientHandler
-                .execute(new ClientExecutionParams<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse>()
-                             .withOperationName("OperationWithChecksumRequired")
-                             .withMarshaller(new OperationWithChecksumRequiredRequestMarshaller(protocolFactory))
-                             .withResponseHandler(responseHandler)
-                             .withErrorResponseHandler(errorResponseHandler)
-                             .withMetricCollector(apiCallMetricCollector)
-                             .putExecutionAttribute(SdkInternalExecutionAttribute.HTTP_CHECKSUM_REQUIRED,
-                                                    HttpChecksumRequired.create()).withInput(operationWithChecksumRequiredRequest));
+            CompletableFuture<OperationWithChecksumRequiredResponse> executeFuture = clientHandler.execute(operationPlan
+                    .newExecutionParams().withMetricCollector(apiCallMetricCollector)
+                    .putExecutionAttribute(SdkInternalExecutionAttribute.HTTP_CHECKSUM_REQUIRED, HttpChecksumRequired.create())
+                    .withInput(operationWithChecksumRequiredRequest));
             AwsRequestOverrideConfiguration requestOverrideConfig = operationWithChecksumRequiredRequest.overrideConfiguration()
                                                                                                         .orElse(null);
             CompletableFuture<OperationWithChecksumRequiredResponse> whenCompleted = executeFuture.whenComplete((r, e) -> {
@@ -665,21 +685,24 @@ final class DefaultJsonAsyncClient implements JsonAsyncClient {
         try {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Json Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "PaginatedOperationWithResultKey");
+            ClientOperationPlan<PaginatedOperationWithResultKeyRequest, PaginatedOperationWithResultKeyResponse> operationPlan = paginatedOperationWithResultKeyPlan;
+            if (operationPlan == null) {
             JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                                                                            .isPayloadJson(true).build();
+                operationPlan = ClientOperationPlan
+                        .<PaginatedOperationWithResultKeyRequest, PaginatedOperationWithResultKeyResponse> builder()
+                        .operationName("PaginatedOperationWithResultKey")
+                        .marshaller(new PaginatedOperationWithResultKeyRequestMarshaller(protocolFactory))
+                        .responseHandler(
+                                protocolFactory.createResponseHandler(operationMetadata,
+                                        PaginatedOperationWithResultKeyResponse::builder))
+                        .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+                paginatedOperationWithResultKeyPlan = operationPlan;
+            }
 
-            HttpResponseHandler<PaginatedOperationWithResultKeyResponse> responseHandler = protocolFactory.createResponseHandler(
-                operationMetadata, PaginatedOperationWithResultKeyResponse::builder);
-
-            HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                                                                                                       operationMetadata);
-
-            CompletableFuture<PaginatedOperationWithResultKeyResponse> executeFuture = clientHandler
-                .execute(new ClientExecutionParams<PaginatedOperationWithResultKeyRequest, PaginatedOperationWithResultKeyResponse>()
-                             .withOperationName("PaginatedOperationWithResultKey")
-                             .withMarshaller(new PaginatedOperationWithResultKeyRequestMarshaller(protocolFactory))
-                             .withResponseHandler(responseHandler).withErrorResponseHandler(errorResponseHandler)
-                             .withMetricCollector(apiCallMetricCollector).withInput(paginatedOperationWithResultKeyRequest));
+            CompletableFuture<PaginatedOperationWithResultKeyResponse> executeFuture = clientHandler.execute(operationPlan
+                    .newExecutionParams().withMetricCollector(apiCallMetricCollector)
+                    .withInput(paginatedOperationWithResultKeyRequest));
             AwsRequestOverrideConfiguration requestOverrideConfig = paginatedOperationWithResultKeyRequest
                 .overrideConfiguration().orElse(null);
             CompletableFuture<PaginatedOperationWithResultKeyResponse> whenCompleted = executeFuture.whenComplete((r, e) -> {
@@ -800,21 +823,24 @@ final class DefaultJsonAsyncClient implements JsonAsyncClient {
         try {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Json Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "PaginatedOperationWithoutResultKey");
+            ClientOperationPlan<PaginatedOperationWithoutResultKeyRequest, PaginatedOperationWithoutResultKeyResponse> operationPlan = paginatedOperationWithoutResultKeyPlan;
+            if (operationPlan == null) {
             JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                                                                            .isPayloadJson(true).build();
+                operationPlan = ClientOperationPlan
+                        .<PaginatedOperationWithoutResultKeyRequest, PaginatedOperationWithoutResultKeyResponse> builder()
+                        .operationName("PaginatedOperationWithoutResultKey")
+                        .marshaller(new PaginatedOperationWithoutResultKeyRequestMarshaller(protocolFactory))
+                        .responseHandler(
+                                protocolFactory.createResponseHandler(operationMetadata,
+                                        PaginatedOperationWithoutResultKeyResponse::builder))
+                        .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+                paginatedOperationWithoutResultKeyPlan = operationPlan;
+            }
 
-            HttpResponseHandler<PaginatedOperationWithoutResultKeyResponse> responseHandler = protocolFactory
-                .createResponseHandler(operationMetadata, PaginatedOperationWithoutResultKeyResponse::builder);
-
-            HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                                                                                                       operationMetadata);
-
-            CompletableFuture<PaginatedOperationWithoutResultKeyResponse> executeFuture = clientHandler
-                .execute(new ClientExecutionParams<PaginatedOperationWithoutResultKeyRequest, PaginatedOperationWithoutResultKeyResponse>()
-                             .withOperationName("PaginatedOperationWithoutResultKey")
-                             .withMarshaller(new PaginatedOperationWithoutResultKeyRequestMarshaller(protocolFactory))
-                             .withResponseHandler(responseHandler).withErrorResponseHandler(errorResponseHandler)
-                             .withMetricCollector(apiCallMetricCollector).withInput(paginatedOperationWithoutResultKeyRequest));
+            CompletableFuture<PaginatedOperationWithoutResultKeyResponse> executeFuture = clientHandler.execute(operationPlan
+                    .newExecutionParams().withMetricCollector(apiCallMetricCollector)
+                    .withInput(paginatedOperationWithoutResultKeyRequest));
             AwsRequestOverrideConfiguration requestOverrideConfig = paginatedOperationWithoutResultKeyRequest
                 .overrideConfiguration().orElse(null);
             CompletableFuture<PaginatedOperationWithoutResultKeyResponse> whenCompleted = executeFuture.whenComplete((r, e) -> {
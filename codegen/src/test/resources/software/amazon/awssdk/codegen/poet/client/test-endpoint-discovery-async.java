@@ -18,7 +18,7 @@ import software.amazon.awssdk.core.RequestOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.client.handler.AsyncClientHandler;
-import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
+import software.amazon.awssdk.core.client.handler.ClientOperationPlan;
 import software.amazon.awssdk.core.endpointdiscovery.EndpointDiscoveryRefreshCache;
 import software.amazon.awssdk.core.endpointdiscovery.EndpointDiscoveryRequest;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
@@ -61,6 +61,14 @@ final class DefaultEndpointDiscoveryTestAsyncClient implements EndpointDiscovery
 
     private final SdkClientConfiguration clientConfiguration;
 
+    private volatile ClientOperationPlan<DescribeEndpointsRequest, DescribeEndpointsResponse> describeEndpointsPlan;
+
+    private volatile ClientOperationPlan<TestDiscoveryIdentifiersRequiredRequest, TestDiscoveryIdentifiersRequiredResponse> testDiscoveryIdentifiersRequiredPlan;
+
+    private volatile ClientOperationPlan<TestDiscoveryOptionalRequest, TestDiscoveryOptionalResponse> testDiscoveryOptionalPlan;
+
+    private volatile ClientOperationPlan<TestDiscoveryRequiredRequest, TestDiscoveryRequiredResponse> testDiscoveryRequiredPlan;
+
     private EndpointDiscoveryRefreshCache endpointDiscoveryCache;
 
     protected DefaultEndpointDiscoveryTestAsyncClient(SdkClientConfiguration clientConfiguration) {
@@ -104,20 +112,21 @@ final class DefaultEndpointDiscoveryTestAsyncClient implements EndpointDiscovery
         try {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "AwsEndpointDiscoveryTest");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "DescribeEndpoints");
+            ClientOperationPlan<DescribeEndpointsRequest, DescribeEndpointsResponse> operationPlan = describeEndpointsPlan;
+            if (operationPlan == null) {
             JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                     .isPayloadJson(true).build();
+                operationPlan = ClientOperationPlan
+                        .<DescribeEndpointsRequest, DescribeEndpointsResponse> builder()
+                        .operationName("DescribeEndpoints")
+                        .marshaller(new DescribeEndpointsRequestMarshaller(protocolFactory))
+                        .responseHandler(
+                                protocolFactory.createResponseHandler(operationMetadata, DescribeEndpointsResponse::builder))
+                        .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+                describeEndpointsPlan = operationPlan;
+            }
 
-            HttpResponseHandler<DescribeEndpointsResponse> responseHandler = protocolFactory.createResponseHandler(
-                    operationMetadata, DescribeEndpointsResponse::builder);
-
-            HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                    operationMetadata);
-
-            CompletableFuture<DescribeEndpointsResponse> executeFuture = clientHandler
-                    .execute(new ClientExecutionParams<DescribeEndpointsRequest, DescribeEndpointsResponse>()
-                            .withOperationName("DescribeEndpoints")
-                            .withMarshaller(new DescribeEndpointsRequestMarshaller(protocolFactory))
-                            .withResponseHandler(responseHandler).withErrorResponseHandler(errorResponseHandler)
+            CompletableFuture<DescribeEndpointsResponse> executeFuture = clientHandler.execute(operationPlan.newExecutionParams()
                             .withMetricCollector(apiCallMetricCollector).withInput(describeEndpointsRequest));
             AwsRequestOverrideConfiguration requestOverrideConfig = describeEndpointsRequest.overrideConfiguration().orElse(null);
             CompletableFuture<DescribeEndpointsResponse> whenCompleted = executeFuture.whenComplete((r, e) -> {
@@ -159,14 +168,20 @@ final class DefaultEndpointDiscoveryTestAsyncClient implements EndpointDiscovery
         try {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "AwsEndpointDiscoveryTest");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "TestDiscoveryIdentifiersRequired");
+            ClientOperationPlan<TestDiscoveryIdentifiersRequiredRequest, TestDiscoveryIdentifiersRequiredResponse> operationPlan = testDiscoveryIdentifiersRequiredPlan;
+            if (operationPlan == null) {
             JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                     .isPayloadJson(true).build();
-
-            HttpResponseHandler<TestDiscoveryIdentifiersRequiredResponse> responseHandler = protocolFactory
-                    .createResponseHandler(operationMetadata, TestDiscoveryIdentifiersRequiredResponse::builder);
-
-            HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                    operationMetadata);
+                operationPlan = ClientOperationPlan
+                        .<TestDiscoveryIdentifiersRequiredRequest, TestDiscoveryIdentifiersRequiredResponse> builder()
+                        .operationName("TestDiscoveryIdentifiersRequired")
+                        .marshaller(new TestDiscoveryIdentifiersRequiredRequestMarshaller(protocolFactory))
+                        .responseHandler(
+                                protocolFactory.createResponseHandler(operationMetadata,
+                                        TestDiscoveryIdentifiersRequiredResponse::builder))
+                        .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+                testDiscoveryIdentifiersRequiredPlan = operationPlan;
+            }
             boolean endpointDiscoveryEnabled = clientConfiguration.option(SdkClientOption.ENDPOINT_DISCOVERY_ENABLED);
             boolean endpointOverridden = clientConfiguration.option(SdkClientOption.ENDPOINT_OVERRIDDEN) == Boolean.TRUE;
             if (endpointOverridden) {
@@ -186,12 +201,8 @@ final class DefaultEndpointDiscoveryTestAsyncClient implements EndpointDiscovery
                 cachedEndpoint = endpointDiscoveryCache.get(key, endpointDiscoveryRequest);
             }
 
-            CompletableFuture<TestDiscoveryIdentifiersRequiredResponse> executeFuture = clientHandler
-                    .execute(new ClientExecutionParams<TestDiscoveryIdentifiersRequiredRequest, TestDiscoveryIdentifiersRequiredResponse>()
-                            .withOperationName("TestDiscoveryIdentifiersRequired")
-                            .withMarshaller(new TestDiscoveryIdentifiersRequiredRequestMarshaller(protocolFactory))
-                            .withResponseHandler(responseHandler).withErrorResponseHandler(errorResponseHandler)
-                            .withMetricCollector(apiCallMetricCollector).discoveredEndpoint(cachedEndpoint)
+            CompletableFuture<TestDiscoveryIdentifiersRequiredResponse> executeFuture = clientHandler.execute(operationPlan
+                    .newExecutionParams().withMetricCollector(apiCallMetricCollector).discoveredEndpoint(cachedEndpoint)
                             .withInput(testDiscoveryIdentifiersRequiredRequest));
             AwsRequestOverrideConfiguration requestOverrideConfig = testDiscoveryIdentifiersRequiredRequest
                     .overrideConfiguration().orElse(null);
@@ -233,14 +244,19 @@ final class DefaultEndpointDiscoveryTestAsyncClient implements EndpointDiscovery
         try {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "AwsEndpointDiscoveryTest");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "TestDiscoveryOptional");
+            ClientOperationPlan<TestDiscoveryOptionalRequest, TestDiscoveryOptionalResponse> operationPlan = testDiscoveryOptionalPlan;
+            if (operationPlan == null) {
             JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                     .isPayloadJson(true).build();
-
-            HttpResponseHandler<TestDiscoveryOptionalResponse> responseHandler = protocolFactory.createResponseHandler(
-                    operationMetadata, TestDiscoveryOptionalResponse::builder);
-
-            HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                    operationMetadata);
+                operationPlan = ClientOperationPlan
+                        .<TestDiscoveryOptionalRequest, TestDiscoveryOptionalResponse> builder()
+                        .operationName("TestDiscoveryOptional")
+                        .marshaller(new TestDiscoveryOptionalRequestMarshaller(protocolFactory))
+                        .responseHandler(
+                                protocolFactory.createResponseHandler(operationMetadata, TestDiscoveryOptionalResponse::builder))
+                        .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+                testDiscoveryOptionalPlan = operationPlan;
+            }
             boolean endpointDiscoveryEnabled = clientConfiguration.option(SdkClientOption.ENDPOINT_DISCOVERY_ENABLED);
             boolean endpointOverridden = clientConfiguration.option(SdkClientOption.ENDPOINT_OVERRIDDEN) == Boolean.TRUE;
             URI cachedEndpoint = null;
@@ -252,12 +268,8 @@ final class DefaultEndpointDiscoveryTestAsyncClient implements EndpointDiscovery
                 cachedEndpoint = endpointDiscoveryCache.get(key, endpointDiscoveryRequest);
             }
 
-            CompletableFuture<TestDiscoveryOptionalResponse> executeFuture = clientHandler
-                    .execute(new ClientExecutionParams<TestDiscoveryOptionalRequest, TestDiscoveryOptionalResponse>()
-                            .withOperationName("TestDiscoveryOptional")
-                            .withMarshaller(new TestDiscoveryOptionalRequestMarshaller(protocolFactory))
-                            .withResponseHandler(responseHandler).withErrorResponseHandler(errorResponseHandler)
-                            .withMetricCollector(apiCallMetricCollector).discoveredEndpoint(cachedEndpoint)
+            CompletableFuture<TestDiscoveryOptionalResponse> executeFuture = clientHandler.execute(operationPlan
+                    .newExecutionParams().withMetricCollector(apiCallMetricCollector).discoveredEndpoint(cachedEndpoint)
                             .withInput(testDiscoveryOptionalRequest));
             AwsRequestOverrideConfiguration requestOverrideConfig = testDiscoveryOptionalRequest.overrideConfiguration().orElse(
                     null);
@@ -299,14 +311,19 @@ final class DefaultEndpointDiscoveryTestAsyncClient implements EndpointDiscovery
         try {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "AwsEndpointDiscoveryTest");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "TestDiscoveryRequired");
+            ClientOperationPlan<TestDiscoveryRequiredRequest, TestDiscoveryRequiredResponse> operationPlan = testDiscoveryRequiredPlan;
+            if (operationPlan == null) {
             JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                     .isPayloadJson(true).build();
-
-            HttpResponseHandler<TestDiscoveryRequiredResponse> responseHandler = protocolFactory.createResponseHandler(
-                    operationMetadata, TestDiscoveryRequiredResponse::builder);
-
-            HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                    operationMetadata);
+                operationPlan = ClientOperationPlan
+                        .<TestDiscoveryRequiredRequest, TestDiscoveryRequiredResponse> builder()
+                        .operationName("TestDiscoveryRequired")
+                        .marshaller(new TestDiscoveryRequiredRequestMarshaller(protocolFactory))
+                        .responseHandler(
+                                protocolFactory.createResponseHandler(operationMetadata, TestDiscoveryRequiredResponse::builder))
+                        .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+                testDiscoveryRequiredPlan = operationPlan;
+            }
             boolean endpointDiscoveryEnabled = clientConfiguration.option(SdkClientOption.ENDPOINT_DISCOVERY_ENABLED);
             boolean endpointOverridden = clientConfiguration.option(SdkClientOption.ENDPOINT_OVERRIDDEN) == Boolean.TRUE;
             if (endpointOverridden) {
@@ -326,12 +343,8 @@ final class DefaultEndpointDiscoveryTestAsyncClient implements EndpointDiscovery
                 cachedEndpoint = endpointDiscoveryCache.get(key, endpointDiscoveryRequest);
             }
 
-            CompletableFuture<TestDiscoveryRequiredResponse> executeFuture = clientHandler
-                    .execute(new ClientExecutionParams<TestDiscoveryRequiredRequest, TestDiscoveryRequiredResponse>()
-                            .withOperationName("TestDiscoveryRequired")
-                            .withMarshaller(new TestDiscoveryRequiredRequestMarshaller(protocolFactory))
-                            .withResponseHandler(responseHandler).withErrorResponseHandler(errorResponseHandler)
-                            .withMetricCollector(apiCallMetricCollector).discoveredEndpoint(cachedEndpoint)
+            CompletableFuture<TestDiscoveryRequiredResponse> executeFuture = clientHandler.execute(operationPlan
+                    .newExecutionParams().withMetricCollector(apiCallMetricCollector).discoveredEndpoint(cachedEndpoint)
                             .withInput(testDiscoveryRequiredRequest));
             AwsRequestOverrideConfiguration requestOverrideConfig = testDiscoveryRequiredRequest.overrideConfiguration().orElse(
                     null);
@@ -11,7 +11,7 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.RequestOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
-import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
+import software.amazon.awssdk.core.client.handler.ClientOperationPlan;
 import software.amazon.awssdk.core.client.handler.SyncClientHandler;
 import software.amazon.awssdk.core.endpointdiscovery.EndpointDiscoveryRefreshCache;
 import software.amazon.awssdk.core.endpointdiscovery.EndpointDiscoveryRequest;
@@ -56,6 +56,14 @@ final class DefaultEndpointDiscoveryTestClient implements EndpointDiscoveryTestC
 
     private final SdkClientConfiguration clientConfiguration;
 
+    private volatile ClientOperationPlan<DescribeEndpointsRequest, DescribeEndpointsResponse> describeEndpointsPlan;
+
+    private volatile ClientOperationPlan<TestDiscoveryIdentifiersRequiredRequest, TestDiscoveryIdentifiersRequiredResponse> testDiscoveryIdentifiersRequiredPlan;
+
+    private volatile ClientOperationPlan<TestDiscoveryOptionalRequest, TestDiscoveryOptionalResponse> testDiscoveryOptionalPlan;
+
+    private volatile ClientOperationPlan<TestDiscoveryRequiredRequest, TestDiscoveryRequiredResponse> testDiscoveryRequiredPlan;
+
     private EndpointDiscoveryRefreshCache endpointDiscoveryCache;
 
     protected DefaultEndpointDiscoveryTestClient(SdkClientConfiguration clientConfiguration) {
@@ -90,14 +98,18 @@ final class DefaultEndpointDiscoveryTestClient implements EndpointDiscoveryTestC
     @Override
     public DescribeEndpointsResponse describeEndpoints(DescribeEndpointsRequest describeEndpointsRequest)
         throws AwsServiceException, SdkClientException, EndpointDiscoveryTestException {
+        ClientOperationPlan<DescribeEndpointsRequest, DescribeEndpointsResponse> operationPlan = describeEndpointsPlan;
+        if (operationPlan == null) {
         JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                                                                        .isPayloadJson(true).build();
-
-        HttpResponseHandler<DescribeEndpointsResponse> responseHandler = protocolFactory.createResponseHandler(operationMetadata,
-                                                                                                               DescribeEndpointsResponse::builder);
-
-        HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                                                                                                   operationMetadata);
+            operationPlan = ClientOperationPlan
+                    .<DescribeEndpointsRequest, DescribeEndpointsResponse> builder()
+                    .operationName("DescribeEndpoints")
+                    .marshaller(new DescribeEndpointsRequestMarshaller(protocolFactory))
+                    .responseHandler(protocolFactory.createResponseHandler(operationMetadata, DescribeEndpointsResponse::builder))
+                    .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+            describeEndpointsPlan = operationPlan;
+        }
         List<MetricPublisher> metricPublishers = resolveMetricPublishers(clientConfiguration, describeEndpointsRequest
             .overrideConfiguration().orElse(null));
         MetricCollector apiCallMetricCollector = metricPublishers.isEmpty() ? NoOpMetricCollector.create() : MetricCollector
@@ -106,11 +118,8 @@ final class DefaultEndpointDiscoveryTestClient implements EndpointDiscoveryTestC
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "AwsEndpointDiscoveryTest");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "DescribeEndpoints");
 
-            return clientHandler.execute(new ClientExecutionParams<DescribeEndpointsRequest, DescribeEndpointsResponse>()
-                                             .withOperationName("DescribeEndpoints").withResponseHandler(responseHandler)
-                                             .withErrorResponseHandler(errorResponseHandler).withInput(describeEndpointsRequest)
-                                             .withMetricCollector(apiCallMetricCollector)
-                                             .withMarshaller(new DescribeEndpointsRequestMarshaller(protocolFactory)));
+            return clientHandler.execute(operationPlan.newExecutionParams().withInput(describeEndpointsRequest)
+                    .withMetricCollector(apiCallMetricCollector));
         } finally {
             metricPublishers.forEach(p -> p.publish(apiCallMetricCollector.collect()));
         }
@@ -134,14 +143,20 @@ final class DefaultEndpointDiscoveryTestClient implements EndpointDiscoveryTestC
     public TestDiscoveryIdentifiersRequiredResponse testDiscoveryIdentifiersRequired(
         TestDiscoveryIdentifiersRequiredRequest testDiscoveryIdentifiersRequiredRequest) throws AwsServiceException,
                                                                                                 SdkClientException, EndpointDiscoveryTestException {
+        ClientOperationPlan<TestDiscoveryIdentifiersRequiredRequest, TestDiscoveryIdentifiersRequiredResponse> operationPlan = testDiscoveryIdentifiersRequiredPlan;
+        if (operationPlan == null) {
         JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                                                                        .isPayloadJson(true).build();
-
-        HttpResponseHandler<TestDiscoveryIdentifiersRequiredResponse> responseHandler = protocolFactory.createResponseHandler(
-            operationMetadata, TestDiscoveryIdentifiersRequiredResponse::builder);
-
-        HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                                                                                                   operationMetadata);
+            operationPlan = ClientOperationPlan
+                    .<TestDiscoveryIdentifiersRequiredRequest, TestDiscoveryIdentifiersRequiredResponse> builder()
+                    .operationName("TestDiscoveryIdentifiersRequired")
+                    .marshaller(new TestDiscoveryIdentifiersRequiredRequestMarshaller(protocolFactory))
+                    .responseHandler(
+                            protocolFactory.createResponseHandler(operationMetadata,
+                                    TestDiscoveryIdentifiersRequiredResponse::builder))
+                    .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+            testDiscoveryIdentifiersRequiredPlan = operationPlan;
+        }
         boolean endpointDiscoveryEnabled = clientConfiguration.option(SdkClientOption.ENDPOINT_DISCOVERY_ENABLED);
         boolean endpointOverridden = clientConfiguration.option(SdkClientOption.ENDPOINT_OVERRIDDEN) == Boolean.TRUE;
         if (endpointOverridden) {
@@ -168,12 +183,8 @@ final class DefaultEndpointDiscoveryTestClient implements EndpointDiscoveryTestC
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "AwsEndpointDiscoveryTest");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "TestDiscoveryIdentifiersRequired");
 
-            return clientHandler
-                .execute(new ClientExecutionParams<TestDiscoveryIdentifiersRequiredRequest, TestDiscoveryIdentifiersRequiredResponse>()
-                             .withOperationName("TestDiscoveryIdentifiersRequired").withResponseHandler(responseHandler)
-                             .withErrorResponseHandler(errorResponseHandler).discoveredEndpoint(cachedEndpoint)
-                             .withInput(testDiscoveryIdentifiersRequiredRequest).withMetricCollector(apiCallMetricCollector)
-                             .withMarshaller(new TestDiscoveryIdentifiersRequiredRequestMarshaller(protocolFactory)));
+            return clientHandler.execute(operationPlan.newExecutionParams().discoveredEndpoint(cachedEndpoint)
+                    .withInput(testDiscoveryIdentifiersRequiredRequest).withMetricCollector(apiCallMetricCollector));
         } finally {
             metricPublishers.forEach(p -> p.publish(apiCallMetricCollector.collect()));
         }
@@ -196,14 +207,19 @@ final class DefaultEndpointDiscoveryTestClient implements EndpointDiscoveryTestC
     @Override
     public TestDiscoveryOptionalResponse testDiscoveryOptional(TestDiscoveryOptionalRequest testDiscoveryOptionalRequest)
         throws AwsServiceException, SdkClientException, EndpointDiscoveryTestException {
+        ClientOperationPlan<TestDiscoveryOptionalRequest, TestDiscoveryOptionalResponse> operationPlan = testDiscoveryOptionalPlan;
+        if (operationPlan == null) {
         JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                                                                        .isPayloadJson(true).build();
-
-        HttpResponseHandler<TestDiscoveryOptionalResponse> responseHandler = protocolFactory.createResponseHandler(
-            operationMetadata, TestDiscoveryOptionalResponse::builder);
-
-        HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                                                                                                   operationMetadata);
+            operationPlan = ClientOperationPlan
+                    .<TestDiscoveryOptionalRequest, TestDiscoveryOptionalResponse> builder()
+                    .operationName("TestDiscoveryOptional")
+                    .marshaller(new TestDiscoveryOptionalRequestMarshaller(protocolFactory))
+                    .responseHandler(
+                            protocolFactory.createResponseHandler(operationMetadata, TestDiscoveryOptionalResponse::builder))
+                    .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+            testDiscoveryOptionalPlan = operationPlan;
+        }
         boolean endpointDiscoveryEnabled = clientConfiguration.option(SdkClientOption.ENDPOINT_DISCOVERY_ENABLED);
         boolean endpointOverridden = clientConfiguration.option(SdkClientOption.ENDPOINT_OVERRIDDEN) == Boolean.TRUE;
         URI cachedEndpoint = null;
@@ -222,11 +238,8 @@ final class DefaultEndpointDiscoveryTestClient implements EndpointDiscoveryTestC
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "AwsEndpointDiscoveryTest");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "TestDiscoveryOptional");
 
-            return clientHandler.execute(new ClientExecutionParams<TestDiscoveryOptionalRequest, TestDiscoveryOptionalResponse>()
-                                             .withOperationName("TestDiscoveryOptional").withResponseHandler(responseHandler)
-                                             .withErrorResponseHandler(errorResponseHandler).discoveredEndpoint(cachedEndpoint)
-                                             .withInput(testDiscoveryOptionalRequest).withMetricCollector(apiCallMetricCollector)
-                                             .withMarshaller(new TestDiscoveryOptionalRequestMarshaller(protocolFactory)));
+            return clientHandler.execute(operationPlan.newExecutionParams().discoveredEndpoint(cachedEndpoint)
+                    .withInput(testDiscoveryOptionalRequest).withMetricCollector(apiCallMetricCollector));
         } finally {
             metricPublishers.forEach(p -> p.publish(apiCallMetricCollector.collect()));
         }
@@ -249,14 +262,19 @@ final class DefaultEndpointDiscoveryTestClient implements EndpointDiscoveryTestC
     @Override
     public TestDiscoveryRequiredResponse testDiscoveryRequired(TestDiscoveryRequiredRequest testDiscoveryRequiredRequest)
         throws AwsServiceException, SdkClientException, EndpointDiscoveryTestException {
+        ClientOperationPlan<TestDiscoveryRequiredRequest, TestDiscoveryRequiredResponse> operationPlan = testDiscoveryRequiredPlan;
+        if (operationPlan == null) {
         JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                                                                        .isPayloadJson(true).build();
-
-        HttpResponseHandler<TestDiscoveryRequiredResponse> responseHandler = protocolFactory.createResponseHandler(
-            operationMetadata, TestDiscoveryRequiredResponse::builder);
-
-        HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                                                                                                   operationMetadata);
+            operationPlan = ClientOperationPlan
+                    .<TestDiscoveryRequiredRequest, TestDiscoveryRequiredResponse> builder()
+                    .operationName("TestDiscoveryRequired")
+                    .marshaller(new TestDiscoveryRequiredRequestMarshaller(protocolFactory))
+                    .responseHandler(
+                            protocolFactory.createResponseHandler(operationMetadata, TestDiscoveryRequiredResponse::builder))
+                    .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+            testDiscoveryRequiredPlan = operationPlan;
+        }
         boolean endpointDiscoveryEnabled = clientConfiguration.option(SdkClientOption.ENDPOINT_DISCOVERY_ENABLED);
         boolean endpointOverridden = clientConfiguration.option(SdkClientOption.ENDPOINT_OVERRIDDEN) == Boolean.TRUE;
         if (endpointOverridden) {
@@ -283,11 +301,8 @@ final class DefaultEndpointDiscoveryTestClient implements EndpointDiscoveryTestC
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "AwsEndpointDiscoveryTest");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "TestDiscoveryRequired");
 
-            return clientHandler.execute(new ClientExecutionParams<TestDiscoveryRequiredRequest, TestDiscoveryRequiredResponse>()
-                                             .withOperationName("TestDiscoveryRequired").withResponseHandler(responseHandler)
-                                             .withErrorResponseHandler(errorResponseHandler).discoveredEndpoint(cachedEndpoint)
-                                             .withInput(testDiscoveryRequiredRequest).withMetricCollector(apiCallMetricCollector)
-                                             .withMarshaller(new TestDiscoveryRequiredRequestMarshaller(protocolFactory)));
+            return clientHandler.execute(operationPlan.newExecutionParams().discoveredEndpoint(cachedEndpoint)
+                    .withInput(testDiscoveryRequiredRequest).withMetricCollector(apiCallMetricCollector));
         } finally {
             metricPublishers.forEach(p -> p.publish(apiCallMetricCollector.collect()));
         }
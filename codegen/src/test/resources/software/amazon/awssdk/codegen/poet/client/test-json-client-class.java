@@ -14,6 +14,7 @@ import software.amazon.awssdk.core.RequestOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
+import software.amazon.awssdk.core.client.handler.ClientOperationPlan;
 import software.amazon.awssdk.core.client.handler.SyncClientHandler;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
@@ -84,6 +85,18 @@ final class DefaultJsonClient implements JsonClient {
 
     private final SdkClientConfiguration clientConfiguration;
 
+    private volatile ClientOperationPlan<APostOperationRequest, APostOperationResponse> aPostOperationPlan;
+
+    private volatile ClientOperationPlan<APostOperationWithOutputRequest, APostOperationWithOutputResponse> aPostOperationWithOutputPlan;
+
+    private volatile ClientOperationPlan<GetWithoutRequiredMembersRequest, GetWithoutRequiredMembersResponse> getWithoutRequiredMembersPlan;
+
+    private volatile ClientOperationPlan<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> operationWithChecksumRequiredPlan;
+
+    private volatile ClientOperationPlan<PaginatedOperationWithResultKeyRequest, PaginatedOperationWithResultKeyResponse> paginatedOperationWithResultKeyPlan;
+
+    private volatile ClientOperationPlan<PaginatedOperationWithoutResultKeyRequest, PaginatedOperationWithoutResultKeyResponse> paginatedOperationWithoutResultKeyPlan;
+
     protected DefaultJsonClient(SdkClientConfiguration clientConfiguration) {
         this.clientHandler = new AwsSyncClientHandler(clientConfiguration);
         this.clientConfiguration = clientConfiguration;
@@ -118,14 +131,16 @@ final class DefaultJsonClient implements JsonClient {
     @Override
     public APostOperationResponse aPostOperation(APostOperationRequest aPostOperationRequest) throws InvalidInputException,
                                                                                                      AwsServiceException, SdkClientException, JsonException {
+        ClientOperationPlan<APostOperationRequest, APostOperationResponse> operationPlan = aPostOperationPlan;
+        if (operationPlan == null) {
         JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                                                                        .isPayloadJson(true).build();
-
-        HttpResponseHandler<APostOperationResponse> responseHandler = protocolFactory.createResponseHandler(operationMetadata,
-                                                                                                            APostOperationResponse::builder);
-
-        HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                                                                                                   operationMetadata);
+            operationPlan = ClientOperationPlan.<APostOperationRequest, APostOperationResponse> builder()
+                    .operationName("APostOperation").marshaller(new APostOperationRequestMarshaller(protocolFactory))
+                    .responseHandler(protocolFactory.createResponseHandler(operationMetadata, APostOperationResponse::builder))
+                    .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+            aPostOperationPlan = operationPlan;
+        }
         List<MetricPublisher> metricPublishers = resolveMetricPublishers(clientConfiguration, aPostOperationRequest
             .overrideConfiguration().orElse(null));
         MetricCollector apiCallMetricCollector = metricPublishers.isEmpty() ? NoOpMetricCollector.create() : MetricCollector
@@ -138,11 +153,8 @@ final class DefaultJsonClient implements JsonClient {
                                                         "aPostOperationRequest");
             String resolvedHostExpression = String.format("%s-foo.", aPostOperationRequest.stringMember());
 
-            return clientHandler.execute(new ClientExecutionParams<APostOperationRequest, APostOperationResponse>()
-                                             .withOperationName("APostOperation").withResponseHandler(responseHandler)
-                                             .withErrorResponseHandler(errorResponseHandler).hostPrefixExpression(resolvedHostExpression)
-                                             .withInput(aPostOperationRequest).withMetricCollector(apiCallMetricCollector)
-                                             .withMarshaller(new APostOperationRequestMarshaller(protocolFactory)));
+            return clientHandler.execute(operationPlan.newExecutionParams().hostPrefixExpression(resolvedHostExpression)
+                    .withInput(aPostOperationRequest).withMetricCollector(apiCallMetricCollector));
         } finally {
             metricPublishers.forEach(p -> p.publish(apiCallMetricCollector.collect()));
         }
@@ -172,14 +184,19 @@ final class DefaultJsonClient implements JsonClient {
     public APostOperationWithOutputResponse aPostOperationWithOutput(
         APostOperationWithOutputRequest aPostOperationWithOutputRequest) throws InvalidInputException, AwsServiceException,
                                                                                 SdkClientException, JsonException {
+        ClientOperationPlan<APostOperationWithOutputRequest, APostOperationWithOutputResponse> operationPlan = aPostOperationWithOutputPlan;
+        if (operationPlan == null) {
         JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                                                                        .isPayloadJson(true).build();
-
-        HttpResponseHandler<APostOperationWithOutputResponse> responseHandler = protocolFactory.createResponseHandler(
-            operationMetadata, APostOperationWithOutputResponse::builder);
-
-        HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                                                                                                   operationMetadata);
+            operationPlan = ClientOperationPlan
+                    .<APostOperationWithOutputRequest, APostOperationWithOutputResponse> builder()
+                    .operationName("APostOperationWithOutput")
+                    .marshaller(new APostOperationWithOutputRequestMarshaller(protocolFactory))
+                    .responseHandler(
+                            protocolFactory.createResponseHandler(operationMetadata, APostOperationWithOutputResponse::builder))
+                    .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+            aPostOperationWithOutputPlan = operationPlan;
+        }
         List<MetricPublisher> metricPublishers = resolveMetricPublishers(clientConfiguration, aPostOperationWithOutputRequest
             .overrideConfiguration().orElse(null));
         MetricCollector apiCallMetricCollector = metricPublishers.isEmpty() ? NoOpMetricCollector.create() : MetricCollector
@@ -188,12 +205,8 @@ final class DefaultJsonClient implements JsonClient {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Json Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "APostOperationWithOutput");
 
-            return clientHandler
-                .execute(new ClientExecutionParams<APostOperationWithOutputRequest, APostOperationWithOutputResponse>()
-                             .withOperationName("APostOperationWithOutput").withResponseHandler(responseHandler)
-                             .withErrorResponseHandler(errorResponseHandler).withInput(aPostOperationWithOutputRequest)
-                             .withMetricCollector(apiCallMetricCollector)
-                             .withMarshaller(new APostOperationWithOutputRequestMarshaller(protocolFactory)));
+            return clientHandler.execute(operationPlan.newExecutionParams().withInput(aPostOperationWithOutputRequest)
+                    .withMetricCollector(apiCallMetricCollector));
         } finally {
             metricPublishers.forEach(p -> p.publish(apiCallMetricCollector.collect()));
         }
@@ -223,14 +236,19 @@ final class DefaultJsonClient implements JsonClient {
     public GetWithoutRequiredMembersResponse getWithoutRequiredMembers(
         GetWithoutRequiredMembersRequest getWithoutRequiredMembersRequest) throws InvalidInputException, AwsServiceException,
                                                                                   SdkClientException, JsonException {
+        ClientOperationPlan<GetWithoutRequiredMembersRequest, GetWithoutRequiredMembersResponse> operationPlan = getWithoutRequiredMembersPlan;
+        if (operationPlan == null) {
         JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                                                                        .isPayloadJson(true).build();
-
-        HttpResponseHandler<GetWithoutRequiredMembersResponse> responseHandler = protocolFactory.createResponseHandler(
-            operationMetadata, GetWithoutRequiredMembersResponse::builder);
-
-        HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                                                                                                   operationMetadata);
+            operationPlan = ClientOperationPlan
+                    .<GetWithoutRequiredMembersRequest, GetWithoutRequiredMembersResponse> builder()
+                    .operationName("GetWithoutRequiredMembers")
+                    .marshaller(new GetWithoutRequiredMembersRequestMarshaller(protocolFactory))
+                    .responseHandler(
+                            protocolFactory.createResponseHandler(operationMetadata, GetWithoutRequiredMembersResponse::builder))
+                    .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+            getWithoutRequiredMembersPlan = operationPlan;
+        }
         List<MetricPublisher> metricPublishers = resolveMetricPublishers(clientConfiguration, getWithoutRequiredMembersRequest
             .overrideConfiguration().orElse(null));
         MetricCollector apiCallMetricCollector = metricPublishers.isEmpty() ? NoOpMetricCollector.create() : MetricCollector
@@ -239,12 +257,8 @@ final class DefaultJsonClient implements JsonClient {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Json Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "GetWithoutRequiredMembers");
 
-            return clientHandler
-                .execute(new ClientExecutionParams<GetWithoutRequiredMembersRequest, GetWithoutRequiredMembersResponse>()
-                             .withOperationName("GetWithoutRequiredMembers").withResponseHandler(responseHandler)
-                             .withErrorResponseHandler(errorResponseHandler).withInput(getWithoutRequiredMembersRequest)
-                             .withMetricCollector(apiCallMetricCollector)
-                             .withMarshaller(new GetWithoutRequiredMembersRequestMarshaller(protocolFactory)));
+            return clientHandler.execute(operationPlan.newExecutionParams().withInput(getWithoutRequiredMembersRequest)
+                    .withMetricCollector(apiCallMetricCollector));
         } finally {
             metricPublishers.forEach(p -> p.publish(apiCallMetricCollector.collect()));
         }
@@ -270,14 +284,20 @@ final class DefaultJsonClient implements JsonClient {
     public OperationWithChecksumRequiredResponse operationWithChecksumRequired(
         OperationWithChecksumRequiredRequest operationWithChecksumRequiredRequest) throws AwsServiceException,
                                                                                           SdkClientException, JsonException {
+        ClientOperationPlan<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> operationPlan = operationWithChecksumRequiredPlan;
+        if (operationPlan == null) {
         JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                                                                        .isPayloadJson(true).build();
-
-        HttpResponseHandler<OperationWithChecksumRequiredResponse> responseHandler = protocolFactory.createResponseHandler(
-            operationMetadata, OperationWithChecksumRequiredResponse::builder);
-
-        HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                                                                                                   operationMetadata);
+            operationPlan = ClientOperationPlan
+                    .<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> builder()
+                    .operationName("OperationWithChecksumRequired")
+                    .marshaller(new OperationWithChecksumRequiredRequestMarshaller(protocolFactory))
+                    .responseHandler(
+                            protocolFactory.createResponseHandler(operationMetadata,
+                                    OperationWithChecksumRequiredResponse::builder))
+                    .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+            operationWithChecksumRequiredPlan = operationPlan;
+        }
         List<MetricPublisher> metricPublishers = resolveMetricPublishers(clientConfiguration,
                                                                          operationWithChecksumRequiredRequest.overrideConfiguration().orElse(null));
         MetricCollector apiCallMetricCollector = metricPublishers.isEmpty() ? NoOpMetricCollector.create() : MetricCollector
@@ -286,16 +306,9 @@ final class DefaultJsonClient implements JsonClient {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Json Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "OperationWithChecksumRequired");
 
-            return clientHandler
-                .execute(new ClientExecutionParams<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse>()
-                             .withOperationName("OperationWithChecksumRequired")
-                             .withResponseHandler(responseHandler)
-                             .withErrorResponseHandler(errorResponseHandler)
-                             .withInput(operationWithChecksumRequiredRequest)
+            return clientHandler.execute(operationPlan.newExecutionParams().withInput(operationWithChecksumRequiredRequest)
                              .withMetricCollector(apiCallMetricCollector)
-                             .putExecutionAttribute(SdkInternalExecutionAttribute.HTTP_CHECKSUM_REQUIRED,
-                                                    HttpChecksumRequired.create())
-                             .withMarshaller(new OperationWithChecksumRequiredRequestMarshaller(protocolFactory)));
+                    .putExecutionAttribute(SdkInternalExecutionAttribute.HTTP_CHECKSUM_REQUIRED, HttpChecksumRequired.create()));
         } finally {
             metricPublishers.forEach(p -> p.publish(apiCallMetricCollector.collect()));
         }
@@ -321,14 +334,20 @@ final class DefaultJsonClient implements JsonClient {
     public PaginatedOperationWithResultKeyResponse paginatedOperationWithResultKey(
         PaginatedOperationWithResultKeyRequest paginatedOperationWithResultKeyRequest) throws AwsServiceException,
                                                                                               SdkClientException, JsonException {
+        ClientOperationPlan<PaginatedOperationWithResultKeyRequest, PaginatedOperationWithResultKeyResponse> operationPlan = paginatedOperationWithResultKeyPlan;
+        if (operationPlan == null) {
         JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                                                                        .isPayloadJson(true).build();
-
-        HttpResponseHandler<PaginatedOperationWithResultKeyResponse> responseHandler = protocolFactory.createResponseHandler(
-            operationMetadata, PaginatedOperationWithResultKeyResponse::builder);
-
-        HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                                                                                                   operationMetadata);
+            operationPlan = ClientOperationPlan
+                    .<PaginatedOperationWithResultKeyRequest, PaginatedOperationWithResultKeyResponse> builder()
+                    .operationName("PaginatedOperationWithResultKey")
+                    .marshaller(new PaginatedOperationWithResultKeyRequestMarshaller(protocolFactory))
+                    .responseHandler(
+                            protocolFactory.createResponseHandler(operationMetadata,
+                                    PaginatedOperationWithResultKeyResponse::builder))
+                    .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+            paginatedOperationWithResultKeyPlan = operationPlan;
+        }
         List<MetricPublisher> metricPublishers = resolveMetricPublishers(clientConfiguration,
                                                                          paginatedOperationWithResultKeyRequest.overrideConfiguration().orElse(null));
         MetricCollector apiCallMetricCollector = metricPublishers.isEmpty() ? NoOpMetricCollector.create() : MetricCollector
@@ -337,12 +356,8 @@ final class DefaultJsonClient implements JsonClient {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Json Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "PaginatedOperationWithResultKey");
 
-            return clientHandler
-                .execute(new ClientExecutionParams<PaginatedOperationWithResultKeyRequest, PaginatedOperationWithResultKeyResponse>()
-                             .withOperationName("PaginatedOperationWithResultKey").withResponseHandler(responseHandler)
-                             .withErrorResponseHandler(errorResponseHandler).withInput(paginatedOperationWithResultKeyRequest)
-                             .withMetricCollector(apiCallMetricCollector)
-                             .withMarshaller(new PaginatedOperationWithResultKeyRequestMarshaller(protocolFactory)));
+            return clientHandler.execute(operationPlan.newExecutionParams().withInput(paginatedOperationWithResultKeyRequest)
+                    .withMetricCollector(apiCallMetricCollector));
         } finally {
             metricPublishers.forEach(p -> p.publish(apiCallMetricCollector.collect()));
         }
@@ -446,14 +461,20 @@ final class DefaultJsonClient implements JsonClient {
     public PaginatedOperationWithoutResultKeyResponse paginatedOperationWithoutResultKey(
         PaginatedOperationWithoutResultKeyRequest paginatedOperationWithoutResultKeyRequest) throws AwsServiceException,
                                                                                                     SdkClientException, JsonException {
+        ClientOperationPlan<PaginatedOperationWithoutResultKeyRequest, PaginatedOperationWithoutResultKeyResponse> operationPlan = paginatedOperationWithoutResultKeyPlan;
+        if (operationPlan == null) {
         JsonOperationMetadata operationMetadata = JsonOperationMetadata.builder().hasStreamingSuccessResponse(false)
                                                                        .isPayloadJson(true).build();
-
-        HttpResponseHandler<PaginatedOperationWithoutResultKeyResponse> responseHandler = protocolFactory.createResponseHandler(
-            operationMetadata, PaginatedOperationWithoutResultKeyResponse::builder);
-
-        HttpResponseHandler<AwsServiceException> errorResponseHandler = createErrorResponseHandler(protocolFactory,
-                                                                                                   operationMetadata);
+            operationPlan = ClientOperationPlan
+                    .<PaginatedOperationWithoutResultKeyRequest, PaginatedOperationWithoutResultKeyResponse> builder()
+                    .operationName("PaginatedOperationWithoutResultKey")
+                    .marshaller(new PaginatedOperationWithoutResultKeyRequestMarshaller(protocolFactory))
+                    .responseHandler(
+                            protocolFactory.createResponseHandler(operationMetadata,
+                                    PaginatedOperationWithoutResultKeyResponse::builder))
+                    .errorResponseHandler(createErrorResponseHandler(protocolFactory, operationMetadata)).build();
+            paginatedOperationWithoutResultKeyPlan = operationPlan;
+        }
         List<MetricPublisher> metricPublishers = resolveMetricPublishers(clientConfiguration,
                                                                          paginatedOperationWithoutResultKeyRequest.overrideConfiguration().orElse(null));
         MetricCollector apiCallMetricCollector = metricPublishers.isEmpty() ? NoOpMetricCollector.create() : MetricCollector
@@ -462,12 +483,8 @@ final class DefaultJsonClient implements JsonClient {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Json Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "PaginatedOperationWithoutResultKey");
 
-            return clientHandler
-                .execute(new ClientExecutionParams<PaginatedOperationWithoutResultKeyRequest, PaginatedOperationWithoutResultKeyResponse>()
-                             .withOperationName("PaginatedOperationWithoutResultKey").withResponseHandler(responseHandler)
-                             .withErrorResponseHandler(errorResponseHandler).withInput(paginatedOperationWithoutResultKeyRequest)
-                             .withMetricCollector(apiCallMetricCollector)
-                             .withMarshaller(new PaginatedOperationWithoutResultKeyRequestMarshaller(protocolFactory)));
+            return clientHandler.execute(operationPlan.newExecutionParams().withInput(paginatedOperationWithoutResultKeyRequest)
+                    .withMetricCollector(apiCallMetricCollector));
         } finally {
             metricPublishers.forEach(p -> p.publish(apiCallMetricCollector.collect()));
         }
@@ -22,6 +22,7 @@ import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.client.handler.AsyncClientHandler;
 import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
+import software.amazon.awssdk.core.client.handler.ClientOperationPlan;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksumRequired;
@@ -70,6 +71,12 @@ final class DefaultQueryAsyncClient implements QueryAsyncClient {
 
     private final SdkClientConfiguration clientConfiguration;
 
+    private volatile ClientOperationPlan<APostOperationRequest, APostOperationResponse> aPostOperationPlan;
+
+    private volatile ClientOperationPlan<APostOperationWithOutputRequest, APostOperationWithOutputResponse> aPostOperationWithOutputPlan;
+
+    private volatile ClientOperationPlan<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> operationWithChecksumRequiredPlan;
+
     private final ScheduledExecutorService executorService;
 
     protected DefaultQueryAsyncClient(SdkClientConfiguration clientConfiguration) {
@@ -116,19 +123,18 @@ final class DefaultQueryAsyncClient implements QueryAsyncClient {
         try {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Query Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "APostOperation");
-
-            HttpResponseHandler<APostOperationResponse> responseHandler = protocolFactory
-                .createResponseHandler(APostOperationResponse::builder);
-
-            HttpResponseHandler<AwsServiceException> errorResponseHandler = protocolFactory.createErrorResponseHandler();
+            ClientOperationPlan<APostOperationRequest, APostOperationResponse> operationPlan = aPostOperationPlan;
+            if (operationPlan == null) {
+                operationPlan = ClientOperationPlan.<APostOperationRequest, APostOperationResponse> builder()
+                        .operationName("APostOperation").marshaller(new APostOperationRequestMarshaller(protocolFactory))
+                        .responseHandler(protocolFactory.createResponseHandler(APostOperationResponse::builder))
+                        .errorResponseHandler(protocolFactory.createErrorResponseHandler()).build();
+                aPostOperationPlan = operationPlan;
+            }
             String hostPrefix = "foo-";
             String resolvedHostExpression = "foo-";
 
-            CompletableFuture<APostOperationResponse> executeFuture = clientHandler
-                .execute(new ClientExecutionParams<APostOperationRequest, APostOperationResponse>()
-                             .withOperationName("APostOperation")
-                             .withMarshaller(new APostOperationRequestMarshaller(protocolFactory))
-                             .withResponseHandler(responseHandler).withErrorResponseHandler(errorResponseHandler)
+            CompletableFuture<APostOperationResponse> executeFuture = clientHandler.execute(operationPlan.newExecutionParams()
                              .withMetricCollector(apiCallMetricCollector).hostPrefixExpression(resolvedHostExpression)
                              .withInput(aPostOperationRequest));
             AwsRequestOverrideConfiguration requestOverrideConfig = aPostOperationRequest.overrideConfiguration().orElse(null);
@@ -176,18 +182,18 @@ final class DefaultQueryAsyncClient implements QueryAsyncClient {
         try {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Query Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "APostOperationWithOutput");
+            ClientOperationPlan<APostOperationWithOutputRequest, APostOperationWithOutputResponse> operationPlan = aPostOperationWithOutputPlan;
+            if (operationPlan == null) {
+                operationPlan = ClientOperationPlan.<APostOperationWithOutputRequest, APostOperationWithOutputResponse> builder()
+                        .operationName("APostOperationWithOutput")
+                        .marshaller(new APostOperationWithOutputRequestMarshaller(protocolFactory))
+                        .responseHandler(protocolFactory.createResponseHandler(APostOperationWithOutputResponse::builder))
+                        .errorResponseHandler(protocolFactory.createErrorResponseHandler()).build();
+                aPostOperationWithOutputPlan = operationPlan;
+            }
 
-            HttpResponseHandler<APostOperationWithOutputResponse> responseHandler = protocolFactory
-                .createResponseHandler(APostOperationWithOutputResponse::builder);
-
-            HttpResponseHandler<AwsServiceException> errorResponseHandler = protocolFactory.createErrorResponseHandler();
-
-            CompletableFuture<APostOperationWithOutputResponse> executeFuture = clientHandler
-                .execute(new ClientExecutionParams<APostOperationWithOutputRequest, APostOperationWithOutputResponse>()
-                             .withOperationName("APostOperationWithOutput")
-                             .withMarshaller(new APostOperationWithOutputRequestMarshaller(protocolFactory))
-                             .withResponseHandler(responseHandler).withErrorResponseHandler(errorResponseHandler)
-                             .withMetricCollector(apiCallMetricCollector).withInput(aPostOperationWithOutputRequest));
+            CompletableFuture<APostOperationWithOutputResponse> executeFuture = clientHandler.execute(operationPlan
+                    .newExecutionParams().withMetricCollector(apiCallMetricCollector).withInput(aPostOperationWithOutputRequest));
             AwsRequestOverrideConfiguration requestOverrideConfig = aPostOperationWithOutputRequest.overrideConfiguration()
                                                                                                    .orElse(null);
             CompletableFuture<APostOperationWithOutputResponse> whenCompleteFuture = null;
@@ -231,21 +237,21 @@ final class DefaultQueryAsyncClient implements QueryAsyncClient {
         try {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Query Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "OperationWithChecksumRequired");
+            ClientOperationPlan<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> operationPlan = operationWithChecksumRequiredPlan;
+            if (operationPlan == null) {
+                operationPlan = ClientOperationPlan
+                        .<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> builder()
+                        .operationName("OperationWithChecksumRequired")
+                        .marshaller(new OperationWithChecksumRequiredRequestMarshaller(protocolFactory))
+                        .responseHandler(protocolFactory.createResponseHandler(OperationWithChecksumRequiredResponse::builder))
+                        .errorResponseHandler(protocolFactory.createErrorResponseHandler()).build();
+                operationWithChecksumRequiredPlan = operationPlan;
+            }
 
-            HttpResponseHandler<OperationWithChecksumRequiredResponse> responseHandler = protocolFactory
-                .createResponseHandler(OperationWithChecksumRequiredResponse::builder);
-
-            HttpResponseHandler<AwsServiceException> errorResponseHandler = protocolFactory.createErrorResponseHandler();
-
-            CompletableFuture<OperationWithChecksumRequiredResponse> executeFuture = clientHandler
-                .execute(new ClientExecutionParams<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse>()
-                             .withOperationName("OperationWithChecksumRequired")
-                             .withMarshaller(new OperationWithChecksumRequiredRequestMarshaller(protocolFactory))
-                             .withResponseHandler(responseHandler)
-                             .withErrorResponseHandler(errorResponseHandler)
-                             .withMetricCollector(apiCallMetricCollector)
-                             .putExecutionAttribute(SdkInternalExecutionAttribute.HTTP_CHECKSUM_REQUIRED,
-                                                    HttpChecksumRequired.create()).withInput(operationWithChecksumRequiredRequest));
+            CompletableFuture<OperationWithChecksumRequiredResponse> executeFuture = clientHandler.execute(operationPlan
+                    .newExecutionParams().withMetricCollector(apiCallMetricCollector)
+                    .putExecutionAttribute(SdkInternalExecutionAttribute.HTTP_CHECKSUM_REQUIRED, HttpChecksumRequired.create())
+                    .withInput(operationWithChecksumRequiredRequest));
             AwsRequestOverrideConfiguration requestOverrideConfig = operationWithChecksumRequiredRequest.overrideConfiguration()
                                                                                                         .orElse(null);
             CompletableFuture<OperationWithChecksumRequiredResponse> whenCompleteFuture = null;
@@ -10,6 +10,7 @@ import software.amazon.awssdk.core.RequestOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
+import software.amazon.awssdk.core.client.handler.ClientOperationPlan;
 import software.amazon.awssdk.core.client.handler.SyncClientHandler;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
@@ -60,6 +61,12 @@ final class DefaultQueryClient implements QueryClient {
 
     private final SdkClientConfiguration clientConfiguration;
 
+    private volatile ClientOperationPlan<APostOperationRequest, APostOperationResponse> aPostOperationPlan;
+
+    private volatile ClientOperationPlan<APostOperationWithOutputRequest, APostOperationWithOutputResponse> aPostOperationWithOutputPlan;
+
+    private volatile ClientOperationPlan<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> operationWithChecksumRequiredPlan;
+
     protected DefaultQueryClient(SdkClientConfiguration clientConfiguration) {
         this.clientHandler = new AwsSyncClientHandler(clientConfiguration);
         this.clientConfiguration = clientConfiguration;
@@ -94,11 +101,14 @@ final class DefaultQueryClient implements QueryClient {
     @Override
     public APostOperationResponse aPostOperation(APostOperationRequest aPostOperationRequest) throws InvalidInputException,
                                                                                                      AwsServiceException, SdkClientException, QueryException {
-
-        HttpResponseHandler<APostOperationResponse> responseHandler = protocolFactory
-            .createResponseHandler(APostOperationResponse::builder);
-
-        HttpResponseHandler<AwsServiceException> errorResponseHandler = protocolFactory.createErrorResponseHandler();
+        ClientOperationPlan<APostOperationRequest, APostOperationResponse> operationPlan = aPostOperationPlan;
+        if (operationPlan == null) {
+            operationPlan = ClientOperationPlan.<APostOperationRequest, APostOperationResponse> builder()
+                    .operationName("APostOperation").marshaller(new APostOperationRequestMarshaller(protocolFactory))
+                    .responseHandler(protocolFactory.createResponseHandler(APostOperationResponse::builder))
+                    .errorResponseHandler(protocolFactory.createErrorResponseHandler()).build();
+            aPostOperationPlan = operationPlan;
+        }
         List<MetricPublisher> metricPublishers = resolveMetricPublishers(clientConfiguration, aPostOperationRequest
             .overrideConfiguration().orElse(null));
         MetricCollector apiCallMetricCollector = metricPublishers.isEmpty() ? NoOpMetricCollector.create() : MetricCollector
@@ -109,11 +119,8 @@ final class DefaultQueryClient implements QueryClient {
             String hostPrefix = "foo-";
             String resolvedHostExpression = "foo-";
 
-            return clientHandler.execute(new ClientExecutionParams<APostOperationRequest, APostOperationResponse>()
-                                             .withOperationName("APostOperation").withResponseHandler(responseHandler)
-                                             .withErrorResponseHandler(errorResponseHandler).hostPrefixExpression(resolvedHostExpression)
-                                             .withInput(aPostOperationRequest).withMetricCollector(apiCallMetricCollector)
-                                             .withMarshaller(new APostOperationRequestMarshaller(protocolFactory)));
+            return clientHandler.execute(operationPlan.newExecutionParams().hostPrefixExpression(resolvedHostExpression)
+                    .withInput(aPostOperationRequest).withMetricCollector(apiCallMetricCollector));
         } finally {
             metricPublishers.forEach(p -> p.publish(apiCallMetricCollector.collect()));
         }
@@ -143,11 +150,15 @@ final class DefaultQueryClient implements QueryClient {
     public APostOperationWithOutputResponse aPostOperationWithOutput(
         APostOperationWithOutputRequest aPostOperationWithOutputRequest) throws InvalidInputException, AwsServiceException,
                                                                                 SdkClientException, QueryException {
-
-        HttpResponseHandler<APostOperationWithOutputResponse> responseHandler = protocolFactory
-            .createResponseHandler(APostOperationWithOutputResponse::builder);
-
-        HttpResponseHandler<AwsServiceException> errorResponseHandler = protocolFactory.createErrorResponseHandler();
+        ClientOperationPlan<APostOperationWithOutputRequest, APostOperationWithOutputResponse> operationPlan = aPostOperationWithOutputPlan;
+        if (operationPlan == null) {
+            operationPlan = ClientOperationPlan.<APostOperationWithOutputRequest, APostOperationWithOutputResponse> builder()
+                    .operationName("APostOperationWithOutput")
+                    .marshaller(new APostOperationWithOutputRequestMarshaller(protocolFactory))
+                    .responseHandler(protocolFactory.createResponseHandler(APostOperationWithOutputResponse::builder))
+                    .errorResponseHandler(protocolFactory.createErrorResponseHandler()).build();
+            aPostOperationWithOutputPlan = operationPlan;
+        }
         List<MetricPublisher> metricPublishers = resolveMetricPublishers(clientConfiguration, aPostOperationWithOutputRequest
             .overrideConfiguration().orElse(null));
         MetricCollector apiCallMetricCollector = metricPublishers.isEmpty() ? NoOpMetricCollector.create() : MetricCollector
@@ -156,12 +167,8 @@ final class DefaultQueryClient implements QueryClient {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Query Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "APostOperationWithOutput");
 
-            return clientHandler
-                .execute(new ClientExecutionParams<APostOperationWithOutputRequest, APostOperationWithOutputResponse>()
-                             .withOperationName("APostOperationWithOutput").withResponseHandler(responseHandler)
-                             .withErrorResponseHandler(errorResponseHandler).withInput(aPostOperationWithOutputRequest)
-                             .withMetricCollector(apiCallMetricCollector)
-                             .withMarshaller(new APostOperationWithOutputRequestMarshaller(protocolFactory)));
+            return clientHandler.execute(operationPlan.newExecutionParams().withInput(aPostOperationWithOutputRequest)
+                    .withMetricCollector(apiCallMetricCollector));
         } finally {
             metricPublishers.forEach(p -> p.publish(apiCallMetricCollector.collect()));
         }
@@ -187,11 +194,16 @@ final class DefaultQueryClient implements QueryClient {
     public OperationWithChecksumRequiredResponse operationWithChecksumRequired(
         OperationWithChecksumRequiredRequest operationWithChecksumRequiredRequest) throws AwsServiceException,
                                                                                           SdkClientException, QueryException {
-
-        HttpResponseHandler<OperationWithChecksumRequiredResponse> responseHandler = protocolFactory
-            .createResponseHandler(OperationWithChecksumRequiredResponse::builder);
-
-        HttpResponseHandler<AwsServiceException> errorResponseHandler = protocolFactory.createErrorResponseHandler();
+        ClientOperationPlan<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> operationPlan = operationWithChecksumRequiredPlan;
+        if (operationPlan == null) {
+            operationPlan = ClientOperationPlan
+                    .<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> builder()
+                    .operationName("OperationWithChecksumRequired")
+                    .marshaller(new OperationWithChecksumRequiredRequestMarshaller(protocolFactory))
+                    .responseHandler(protocolFactory.createResponseHandler(OperationWithChecksumRequiredResponse::builder))
+                    .errorResponseHandler(protocolFactory.createErrorResponseHandler()).build();
+            operationWithChecksumRequiredPlan = operationPlan;
+        }
         List<MetricPublisher> metricPublishers = resolveMetricPublishers(clientConfiguration,
                                                                          operationWithChecksumRequiredRequest.overrideConfiguration().orElse(null));
         MetricCollector apiCallMetricCollector = metricPublishers.isEmpty() ? NoOpMetricCollector.create() : MetricCollector
@@ -200,16 +212,9 @@ final class DefaultQueryClient implements QueryClient {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Query Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "OperationWithChecksumRequired");
 
-            return clientHandler
-                .execute(new ClientExecutionParams<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse>()
-                             .withOperationName("OperationWithChecksumRequired")
-                             .withResponseHandler(responseHandler)
-                             .withErrorResponseHandler(errorResponseHandler)
-                             .withInput(operationWithChecksumRequiredRequest)
+            return clientHandler.execute(operationPlan.newExecutionParams().withInput(operationWithChecksumRequiredRequest)
                              .withMetricCollector(apiCallMetricCollector)
-                             .putExecutionAttribute(SdkInternalExecutionAttribute.HTTP_CHECKSUM_REQUIRED,
-                                                    HttpChecksumRequired.create())
-                             .withMarshaller(new OperationWithChecksumRequiredRequestMarshaller(protocolFactory)));
+                    .putExecutionAttribute(SdkInternalExecutionAttribute.HTTP_CHECKSUM_REQUIRED, HttpChecksumRequired.create()));
         } finally {
             metricPublishers.forEach(p -> p.publish(apiCallMetricCollector.collect()));
         }
@@ -22,6 +22,7 @@ import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.client.handler.AsyncClientHandler;
 import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
+import software.amazon.awssdk.core.client.handler.ClientOperationPlan;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksumRequired;
@@ -70,6 +71,12 @@ final class DefaultXmlAsyncClient implements XmlAsyncClient {
 
     private final SdkClientConfiguration clientConfiguration;
 
+    private volatile ClientOperationPlan<APostOperationRequest, APostOperationResponse> aPostOperationPlan;
+
+    private volatile ClientOperationPlan<APostOperationWithOutputRequest, APostOperationWithOutputResponse> aPostOperationWithOutputPlan;
+
+    private volatile ClientOperationPlan<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> operationWithChecksumRequiredPlan;
+
     protected DefaultXmlAsyncClient(SdkClientConfiguration clientConfiguration) {
         this.clientHandler = new AwsAsyncClientHandler(clientConfiguration);
         this.clientConfiguration = clientConfiguration;
@@ -113,19 +120,23 @@ final class DefaultXmlAsyncClient implements XmlAsyncClient {
         try {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Xml Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "APostOperation");
-
-            HttpResponseHandler<Response<APostOperationResponse>> responseHandler = protocolFactory
-                .createCombinedResponseHandler(APostOperationResponse::builder,
-                                               new XmlOperationMetadata().withHasStreamingSuccessResponse(false));
+            ClientOperationPlan<APostOperationRequest, APostOperationResponse> operationPlan = aPostOperationPlan;
+            if (operationPlan == null) {
+                operationPlan = ClientOperationPlan
+                        .<APostOperationRequest, APostOperationResponse> builder()
+                        .operationName("APostOperation")
+                        .marshaller(new APostOperationRequestMarshaller(protocolFactory))
+                        .combinedResponseHandler(
+                                protocolFactory.createCombinedResponseHandler(APostOperationResponse::builder,
+                                        new XmlOperationMetadata().withHasStreamingSuccessResponse(false))).build();
+                aPostOperationPlan = operationPlan;
+            }
             String hostPrefix = "foo-";
             String resolvedHostExpression = "foo-";
 
-            CompletableFuture<APostOperationResponse> executeFuture = clientHandler
-                .execute(new ClientExecutionParams<APostOperationRequest, APostOperationResponse>()
-                             .withOperationName("APostOperation")
-                             .withMarshaller(new APostOperationRequestMarshaller(protocolFactory))
-                             .withCombinedResponseHandler(responseHandler).hostPrefixExpression(resolvedHostExpression)
-                             .withMetricCollector(apiCallMetricCollector).withInput(aPostOperationRequest));
+            CompletableFuture<APostOperationResponse> executeFuture = clientHandler.execute(operationPlan.newExecutionParams()
+                    .hostPrefixExpression(resolvedHostExpression).withMetricCollector(apiCallMetricCollector)
+                    .withInput(aPostOperationRequest));
             AwsRequestOverrideConfiguration requestOverrideConfig = aPostOperationRequest.overrideConfiguration().orElse(null);
             CompletableFuture<APostOperationResponse> whenCompleteFuture = null;
             whenCompleteFuture = executeFuture.whenComplete((r, e) -> {
@@ -171,17 +182,20 @@ final class DefaultXmlAsyncClient implements XmlAsyncClient {
         try {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Xml Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "APostOperationWithOutput");
+            ClientOperationPlan<APostOperationWithOutputRequest, APostOperationWithOutputResponse> operationPlan = aPostOperationWithOutputPlan;
+            if (operationPlan == null) {
+                operationPlan = ClientOperationPlan
+                        .<APostOperationWithOutputRequest, APostOperationWithOutputResponse> builder()
+                        .operationName("APostOperationWithOutput")
+                        .marshaller(new APostOperationWithOutputRequestMarshaller(protocolFactory))
+                        .combinedResponseHandler(
+                                protocolFactory.createCombinedResponseHandler(APostOperationWithOutputResponse::builder,
+                                        new XmlOperationMetadata().withHasStreamingSuccessResponse(false))).build();
+                aPostOperationWithOutputPlan = operationPlan;
+            }
 
-            HttpResponseHandler<Response<APostOperationWithOutputResponse>> responseHandler = protocolFactory
-                .createCombinedResponseHandler(APostOperationWithOutputResponse::builder,
-                                               new XmlOperationMetadata().withHasStreamingSuccessResponse(false));
-
-            CompletableFuture<APostOperationWithOutputResponse> executeFuture = clientHandler
-                .execute(new ClientExecutionParams<APostOperationWithOutputRequest, APostOperationWithOutputResponse>()
-                             .withOperationName("APostOperationWithOutput")
-                             .withMarshaller(new APostOperationWithOutputRequestMarshaller(protocolFactory))
-                             .withCombinedResponseHandler(responseHandler).withMetricCollector(apiCallMetricCollector)
-                             .withInput(aPostOperationWithOutputRequest));
+            CompletableFuture<APostOperationWithOutputResponse> executeFuture = clientHandler.execute(operationPlan
+                    .newExecutionParams().withMetricCollector(apiCallMetricCollector).withInput(aPostOperationWithOutputRequest));
             AwsRequestOverrideConfiguration requestOverrideConfig = aPostOperationWithOutputRequest.overrideConfiguration()
                                                                                                    .orElse(null);
             CompletableFuture<APostOperationWithOutputResponse> whenCompleteFuture = null;
@@ -225,19 +239,22 @@ final class DefaultXmlAsyncClient implements XmlAsyncClient {
         try {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Xml Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "OperationWithChecksumRequired");
+            ClientOperationPlan<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> operationPlan = operationWithChecksumRequiredPlan;
+            if (operationPlan == null) {
+                operationPlan = ClientOperationPlan
+                        .<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> builder()
+                        .operationName("OperationWithChecksumRequired")
+                        .marshaller(new OperationWithChecksumRequiredRequestMarshaller(protocolFactory))
+                        .combinedResponseHandler(
+                                protocolFactory.createCombinedResponseHandler(OperationWithChecksumRequiredResponse::builder,
+                                        new XmlOperationMetadata().withHasStreamingSuccessResponse(false))).build();
+                operationWithChecksumRequiredPlan = operationPlan;
+            }
 
-            HttpResponseHandler<Response<OperationWithChecksumRequiredResponse>> responseHandler = protocolFactory
-                .createCombinedResponseHandler(OperationWithChecksumRequiredResponse::builder,
-                                               new XmlOperationMetadata().withHasStreamingSuccessResponse(false));
-
-            CompletableFuture<OperationWithChecksumRequiredResponse> executeFuture = clientHandler
-                .execute(new ClientExecutionParams<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse>()
-                             .withOperationName("OperationWithChecksumRequired")
-                             .withMarshaller(new OperationWithChecksumRequiredRequestMarshaller(protocolFactory))
-                             .withCombinedResponseHandler(responseHandler)
-                             .withMetricCollector(apiCallMetricCollector)
-                             .putExecutionAttribute(SdkInternalExecutionAttribute.HTTP_CHECKSUM_REQUIRED,
-                                                    HttpChecksumRequired.create()).withInput(operationWithChecksumRequiredRequest));
+            CompletableFuture<OperationWithChecksumRequiredResponse> executeFuture = clientHandler.execute(operationPlan
+                    .newExecutionParams().withMetricCollector(apiCallMetricCollector)
+                    .putExecutionAttribute(SdkInternalExecutionAttribute.HTTP_CHECKSUM_REQUIRED, HttpChecksumRequired.create())
+                    .withInput(operationWithChecksumRequiredRequest));
             AwsRequestOverrideConfiguration requestOverrideConfig = operationWithChecksumRequiredRequest.overrideConfiguration()
                                                                                                         .orElse(null);
             CompletableFuture<OperationWithChecksumRequiredResponse> whenCompleteFuture = null;
@@ -11,6 +11,7 @@ import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
+import software.amazon.awssdk.core.client.handler.ClientOperationPlan;
 import software.amazon.awssdk.core.client.handler.SyncClientHandler;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
@@ -61,6 +62,12 @@ final class DefaultXmlClient implements XmlClient {
 
     private final SdkClientConfiguration clientConfiguration;
 
+    private volatile ClientOperationPlan<APostOperationRequest, APostOperationResponse> aPostOperationPlan;
+
+    private volatile ClientOperationPlan<APostOperationWithOutputRequest, APostOperationWithOutputResponse> aPostOperationWithOutputPlan;
+
+    private volatile ClientOperationPlan<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> operationWithChecksumRequiredPlan;
+
     protected DefaultXmlClient(SdkClientConfiguration clientConfiguration) {
         this.clientHandler = new AwsSyncClientHandler(clientConfiguration);
         this.clientConfiguration = clientConfiguration;
@@ -95,9 +102,17 @@ final class DefaultXmlClient implements XmlClient {
     @Override
     public APostOperationResponse aPostOperation(APostOperationRequest aPostOperationRequest) throws InvalidInputException,
                                                                                                      AwsServiceException, SdkClientException, XmlException {
-
-        HttpResponseHandler<Response<APostOperationResponse>> responseHandler = protocolFactory.createCombinedResponseHandler(
-            APostOperationResponse::builder, new XmlOperationMetadata().withHasStreamingSuccessResponse(false));
+        ClientOperationPlan<APostOperationRequest, APostOperationResponse> operationPlan = aPostOperationPlan;
+        if (operationPlan == null) {
+            operationPlan = ClientOperationPlan
+                    .<APostOperationRequest, APostOperationResponse> builder()
+                    .operationName("APostOperation")
+                    .marshaller(new APostOperationRequestMarshaller(protocolFactory))
+                    .combinedResponseHandler(
+                            protocolFactory.createCombinedResponseHandler(APostOperationResponse::builder,
+                                    new XmlOperationMetadata().withHasStreamingSuccessResponse(false))).build();
+            aPostOperationPlan = operationPlan;
+        }
         List<MetricPublisher> metricPublishers = resolveMetricPublishers(clientConfiguration, aPostOperationRequest
             .overrideConfiguration().orElse(null));
         MetricCollector apiCallMetricCollector = metricPublishers.isEmpty() ? NoOpMetricCollector.create() : MetricCollector
@@ -108,10 +123,8 @@ final class DefaultXmlClient implements XmlClient {
             String hostPrefix = "foo-";
             String resolvedHostExpression = "foo-";
 
-            return clientHandler.execute(new ClientExecutionParams<APostOperationRequest, APostOperationResponse>()
-                                             .withOperationName("APostOperation").withCombinedResponseHandler(responseHandler)
-                                             .withMetricCollector(apiCallMetricCollector).hostPrefixExpression(resolvedHostExpression)
-                                             .withInput(aPostOperationRequest).withMarshaller(new APostOperationRequestMarshaller(protocolFactory)));
+            return clientHandler.execute(operationPlan.newExecutionParams().withMetricCollector(apiCallMetricCollector)
+                    .hostPrefixExpression(resolvedHostExpression).withInput(aPostOperationRequest));
         } finally {
             metricPublishers.forEach(p -> p.publish(apiCallMetricCollector.collect()));
         }
@@ -141,10 +154,17 @@ final class DefaultXmlClient implements XmlClient {
     public APostOperationWithOutputResponse aPostOperationWithOutput(
         APostOperationWithOutputRequest aPostOperationWithOutputRequest) throws InvalidInputException, AwsServiceException,
                                                                                 SdkClientException, XmlException {
-
-        HttpResponseHandler<Response<APostOperationWithOutputResponse>> responseHandler = protocolFactory
-            .createCombinedResponseHandler(APostOperationWithOutputResponse::builder,
-                                           new XmlOperationMetadata().withHasStreamingSuccessResponse(false));
+        ClientOperationPlan<APostOperationWithOutputRequest, APostOperationWithOutputResponse> operationPlan = aPostOperationWithOutputPlan;
+        if (operationPlan == null) {
+            operationPlan = ClientOperationPlan
+                    .<APostOperationWithOutputRequest, APostOperationWithOutputResponse> builder()
+                    .operationName("APostOperationWithOutput")
+                    .marshaller(new APostOperationWithOutputRequestMarshaller(protocolFactory))
+                    .combinedResponseHandler(
+                            protocolFactory.createCombinedResponseHandler(APostOperationWithOutputResponse::builder,
+                                    new XmlOperationMetadata().withHasStreamingSuccessResponse(false))).build();
+            aPostOperationWithOutputPlan = operationPlan;
+        }
         List<MetricPublisher> metricPublishers = resolveMetricPublishers(clientConfiguration, aPostOperationWithOutputRequest
             .overrideConfiguration().orElse(null));
         MetricCollector apiCallMetricCollector = metricPublishers.isEmpty() ? NoOpMetricCollector.create() : MetricCollector
@@ -153,11 +173,8 @@ final class DefaultXmlClient implements XmlClient {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Xml Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "APostOperationWithOutput");
 
-            return clientHandler
-                .execute(new ClientExecutionParams<APostOperationWithOutputRequest, APostOperationWithOutputResponse>()
-                             .withOperationName("APostOperationWithOutput").withCombinedResponseHandler(responseHandler)
-                             .withMetricCollector(apiCallMetricCollector).withInput(aPostOperationWithOutputRequest)
-                             .withMarshaller(new APostOperationWithOutputRequestMarshaller(protocolFactory)));
+            return clientHandler.execute(operationPlan.newExecutionParams().withMetricCollector(apiCallMetricCollector)
+                    .withInput(aPostOperationWithOutputRequest));
         } finally {
             metricPublishers.forEach(p -> p.publish(apiCallMetricCollector.collect()));
         }
@@ -183,10 +200,17 @@ final class DefaultXmlClient implements XmlClient {
     public OperationWithChecksumRequiredResponse operationWithChecksumRequired(
         OperationWithChecksumRequiredRequest operationWithChecksumRequiredRequest) throws AwsServiceException,
                                                                                           SdkClientException, XmlException {
-
-        HttpResponseHandler<Response<OperationWithChecksumRequiredResponse>> responseHandler = protocolFactory
-            .createCombinedResponseHandler(OperationWithChecksumRequiredResponse::builder,
-                                           new XmlOperationMetadata().withHasStreamingSuccessResponse(false));
+        ClientOperationPlan<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> operationPlan = operationWithChecksumRequiredPlan;
+        if (operationPlan == null) {
+            operationPlan = ClientOperationPlan
+                    .<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse> builder()
+                    .operationName("OperationWithChecksumRequired")
+                    .marshaller(new OperationWithChecksumRequiredRequestMarshaller(protocolFactory))
+                    .combinedResponseHandler(
+                            protocolFactory.createCombinedResponseHandler(OperationWithChecksumRequiredResponse::builder,
+                                    new XmlOperationMetadata().withHasStreamingSuccessResponse(false))).build();
+            operationWithChecksumRequiredPlan = operationPlan;
+        }
         List<MetricPublisher> metricPublishers = resolveMetricPublishers(clientConfiguration,
                                                                          operationWithChecksumRequiredRequest.overrideConfiguration().orElse(null));
         MetricCollector apiCallMetricCollector = metricPublishers.isEmpty() ? NoOpMetricCollector.create() : MetricCollector
@@ -195,15 +219,9 @@ final class DefaultXmlClient implements XmlClient {
             apiCallMetricCollector.reportMetric(CoreMetric.SERVICE_ID, "Xml Service");
             apiCallMetricCollector.reportMetric(CoreMetric.OPERATION_NAME, "OperationWithChecksumRequired");
 
-            return clientHandler
-                .execute(new ClientExecutionParams<OperationWithChecksumRequiredRequest, OperationWithChecksumRequiredResponse>()
-                             .withOperationName("OperationWithChecksumRequired")
-                             .withCombinedResponseHandler(responseHandler)
-                             .withMetricCollector(apiCallMetricCollector)
+            return clientHandler.execute(operationPlan.newExecutionParams().withMetricCollector(apiCallMetricCollector)
                              .withInput(operationWithChecksumRequiredRequest)
-                             .putExecutionAttribute(SdkInternalExecutionAttribute.HTTP_CHECKSUM_REQUIRED,
-                                                    HttpChecksumRequired.create())
-                             .withMarshaller(new OperationWithChecksumRequiredRequestMarshaller(protocolFactory)));
+                    .putExecutionAttribute(SdkInternalExecutionAttribute.HTTP_CHECKSUM_REQUIRED, HttpChecksumRequired.create()));
         } finally {
             metricPublishers.forEach(p -> p.publish(apiCallMetricCollector.collect()));
         }
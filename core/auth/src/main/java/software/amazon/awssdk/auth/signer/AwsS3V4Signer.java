@@ -45,6 +45,12 @@ public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams,
      * Sent to S3 in lieu of a payload hash when unsigned payloads are enabled
      */
     private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+
+    /**
+     * Sent to S3 in lieu of a payload hash when the payload is already aws-chunked encoded with unsigned chunks followed by
+     * trailing headers, such as a trailing checksum
+     */
+    private static final String STREAMING_UNSIGNED_PAYLOAD_TRAILER = "STREAMING-UNSIGNED-PAYLOAD-TRAILER";
     private static final String CONTENT_LENGTH = "Content-Length";
 
     private AwsS3V4Signer() {
@@ -167,6 +173,11 @@ public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams,
      */
     @Override
     protected String calculateContentHash(SdkHttpFullRequest.Builder mutableRequest, AwsS3V4SignerParams signerParams) {
+        // The payload was encoded by the client with trailing headers, and the chunks are not signed.
+        if (hasUnsignedPayloadTrailer(mutableRequest)) {
+            return STREAMING_UNSIGNED_PAYLOAD_TRAILER;
+        }
+
         // To be consistent with other service clients using sig-v4,
         // we just set the header as "required", and AWS4Signer.sign() will be
         // notified to pick up the header value returned by this method.
@@ -217,7 +228,17 @@ public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams,
      */
     private boolean useChunkEncoding(SdkHttpFullRequest.Builder mutableRequest, AwsS3V4SignerParams signerParams) {
         // Chunked encoding only makes sense to do when the payload is signed
-        return isPayloadSigningEnabled(mutableRequest, signerParams) && isChunkedEncodingEnabled(signerParams);
+        return isPayloadSigningEnabled(mutableRequest, signerParams) && isChunkedEncodingEnabled(signerParams) &&
+               !hasUnsignedPayloadTrailer(mutableRequest);
+    }
+
+    /**
+     * @return True if the payload has already been encoded with unsigned chunks and trailing headers.
+     */
+    private static boolean hasUnsignedPayloadTrailer(SdkHttpFullRequest.Builder mutableRequest) {
+        return mutableRequest.firstMatchingHeader(X_AMZ_CONTENT_SHA256)
+                             .filter(STREAMING_UNSIGNED_PAYLOAD_TRAILER::equals)
+                             .isPresent();
     }
 
     /**
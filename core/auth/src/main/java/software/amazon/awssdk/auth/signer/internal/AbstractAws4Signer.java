@@ -22,16 +22,21 @@ import java.nio.charset.Charset;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.auth.signer.Aws4Signer;
 import software.amazon.awssdk.auth.signer.AwsSignerExecutionAttribute;
 import software.amazon.awssdk.auth.signer.params.Aws4PresignerParams;
 import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.signer.Presigner;
@@ -52,11 +57,19 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     public static final String EMPTY_STRING_SHA256_HEX = BinaryUtils.toHex(hash(""));
 
     private static final Logger LOG = Logger.loggerFor(Aws4Signer.class);
-    private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(SIGNER_CACHE_MAX_SIZE);
-    private static final List<String> LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE =
-        Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect");
+    private static final SigningKeyCache SIGNER_CACHE = new SigningKeyCache(signingKeyCacheSize());
+    private static final Set<String> HEADERS_TO_IGNORE_IN_LOWER_CASE =
+        new HashSet<>(Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect"));
+
+    /**
+     * The canonical (lower case) names of the headers the SDK adds to most requests, so that they do not need to be lower-cased
+     * each time a request is signed.
+     */
+    private static final Map<String, String> CANONICAL_HEADER_NAMES = canonicalHeaderNames(
+        SignerConstant.HOST, SignerConstant.X_AMZ_DATE, SignerConstant.X_AMZ_SECURITY_TOKEN, "Content-Type", "Content-Length",
+        "Content-MD5", "Content-Encoding", "Transfer-Encoding", "X-Amz-Target", "X-Amz-Decoded-Content-Length");
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
 
     protected SdkHttpFullRequest.Builder doSign(SdkHttpFullRequest request,
                                                 Aws4SignerRequestParams requestParams,
@@ -188,10 +201,10 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     }
 
     protected final byte[] deriveSigningKey(AwsCredentials credentials, Instant signingInstant, String region, String service) {
-        String cacheKey = createSigningCacheKeyName(credentials, region, service);
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
+        String secretKey = credentials.secretAccessKey();
+        SignerKey signerKey = SIGNER_CACHE.get(secretKey, region, service, signingInstant);
 
-        if (signerKey != null && signerKey.isValidForDate(signingInstant)) {
+        if (signerKey != null) {
             return signerKey.getSigningKey();
         }
 
@@ -201,7 +214,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                 Aws4SignerUtils.formatDateStamp(signingInstant),
                 region,
                 service);
-        SIGNER_CACHE.add(cacheKey, new SignerKey(signingInstant, signingKey));
+        SIGNER_CACHE.add(secretKey, region, service, signingInstant, new SignerKey(signingInstant, signingKey));
         return signingKey;
     }
 
@@ -216,18 +229,21 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                                           String signedHeadersString,
                                           String contentSha256,
                                           boolean doubleUrlEncode) {
-        String canonicalRequest = request.method().toString() +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  // This would optionally double url-encode the resource path
-                                  getCanonicalizedResourcePath(request.encodedPath(), doubleUrlEncode) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getCanonicalizedQueryString(request.rawQueryParameters()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getCanonicalizedHeaderString(canonicalHeaders) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  signedHeadersString +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  contentSha256;
+        StringBuilder buffer = new StringBuilder(512);
+        buffer.append(request.method().toString())
+              .append(SignerConstant.LINE_SEPARATOR)
+              // This would optionally double url-encode the resource path
+              .append(getCanonicalizedResourcePath(request.encodedPath(), doubleUrlEncode))
+              .append(SignerConstant.LINE_SEPARATOR)
+              .append(getCanonicalizedQueryString(request.rawQueryParameters()))
+              .append(SignerConstant.LINE_SEPARATOR);
+        appendCanonicalizedHeaders(buffer, canonicalHeaders);
+        buffer.append(SignerConstant.LINE_SEPARATOR)
+              .append(signedHeadersString)
+              .append(SignerConstant.LINE_SEPARATOR)
+              .append(contentSha256);
+
+        String canonicalRequest = buffer.toString();
 
         LOG.trace(() -> "AWS4 Canonical Request: " + canonicalRequest);
         return canonicalRequest;
@@ -241,24 +257,21 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     private String createStringToSign(String canonicalRequest,
                                       Aws4SignerRequestParams requestParams) {
 
-        String stringToSign = requestParams.getSigningAlgorithm() +
-                                    SignerConstant.LINE_SEPARATOR +
-                                    requestParams.getFormattedRequestSigningDateTime() +
-                                    SignerConstant.LINE_SEPARATOR +
-                                    requestParams.getScope() +
-                                    SignerConstant.LINE_SEPARATOR +
-                                    BinaryUtils.toHex(hash(canonicalRequest));
+        StringBuilder buffer = new StringBuilder(128);
+        buffer.append(requestParams.getSigningAlgorithm())
+              .append(SignerConstant.LINE_SEPARATOR)
+              .append(requestParams.getFormattedRequestSigningDateTime())
+              .append(SignerConstant.LINE_SEPARATOR)
+              .append(requestParams.getScope())
+              .append(SignerConstant.LINE_SEPARATOR);
+        appendHex(buffer, hash(canonicalRequest));
+
+        String stringToSign = buffer.toString();
 
         LOG.debug(() -> "AWS4 String to sign: " + stringToSign);
         return stringToSign;
     }
 
-    private String createSigningCacheKeyName(AwsCredentials credentials,
-                                             String regionName,
-                                             String serviceName) {
-        return credentials.secretAccessKey() + "-" + regionName + "-" + serviceName;
-    }
-
     /**
      * Step 3 of the AWS Signature version 4 calculation. It involves deriving
      * the signing key and computing the signature. Refer to
@@ -278,12 +291,14 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                                             Aws4SignerRequestParams signerParams,
                                             String signedHeadersString) {
 
-        String signingCredentials = credentials.accessKeyId() + "/" + signerParams.getScope();
-        String credential = "Credential=" + signingCredentials;
-        String signerHeaders = "SignedHeaders=" + signedHeadersString;
-        String signatureHeader = "Signature=" + BinaryUtils.toHex(signature);
+        StringBuilder buffer = new StringBuilder(256);
+        buffer.append(SignerConstant.AWS4_SIGNING_ALGORITHM)
+              .append(" Credential=").append(credentials.accessKeyId()).append('/').append(signerParams.getScope())
+              .append(", SignedHeaders=").append(signedHeadersString)
+              .append(", Signature=");
+        appendHex(buffer, signature);
 
-        return SignerConstant.AWS4_SIGNING_ALGORITHM + " " + credential + ", " + signerHeaders + ", " + signatureHeader;
+        return buffer.toString();
     }
 
     /**
@@ -308,20 +323,36 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         Map<String, List<String>> result = new TreeMap<>();
 
         for (Map.Entry<String, List<String>> header : headers.entrySet()) {
-            String lowerCaseHeader = lowerCase(header.getKey());
-            if (LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCaseHeader)) {
+            String lowerCaseHeader = canonicalHeaderName(header.getKey());
+            if (HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCaseHeader)) {
                 continue;
             }
 
-            result.computeIfAbsent(lowerCaseHeader, x -> new ArrayList<>()).addAll(header.getValue());
+            // The header's value list is not modified, so it only needs to be copied when another header has the same name.
+            result.merge(lowerCaseHeader, header.getValue(), (existingValues, newValues) -> {
+                List<String> mergedValues = new ArrayList<>(existingValues);
+                mergedValues.addAll(newValues);
+                return mergedValues;
+            });
         }
 
         return result;
     }
 
-    private String getCanonicalizedHeaderString(Map<String, List<String>> canonicalizedHeaders) {
-        StringBuilder buffer = new StringBuilder();
+    private static Map<String, String> canonicalHeaderNames(String... headerNames) {
+        Map<String, String> canonicalHeaderNames = new HashMap<>();
+        for (String headerName : headerNames) {
+            canonicalHeaderNames.put(headerName, lowerCase(headerName));
+        }
+        return canonicalHeaderNames;
+    }
 
+    private String canonicalHeaderName(String headerName) {
+        String canonicalHeaderName = CANONICAL_HEADER_NAMES.get(headerName);
+        return canonicalHeaderName != null ? canonicalHeaderName : lowerCase(headerName);
+    }
+
+    private void appendCanonicalizedHeaders(StringBuilder buffer, Map<String, List<String>> canonicalizedHeaders) {
         canonicalizedHeaders.forEach((headerName, headerValues) -> {
             for (String headerValue : headerValues) {
                 appendCompactedString(buffer, headerName);
@@ -332,8 +363,6 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                 buffer.append("\n");
             }
         });
-
-        return buffer.toString();
     }
 
     /**
@@ -347,6 +376,11 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      *
      */
     private void appendCompactedString(final StringBuilder destination, final String source) {
+        if (!needsCompaction(source)) {
+            destination.append(source);
+            return;
+        }
+
         boolean previousIsWhiteSpace = false;
         int length = source.length();
 
@@ -365,6 +399,34 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         }
     }
 
+    /**
+     * Whether the string contains white space other than single spaces, which {@link #appendCompactedString} would replace.
+     */
+    private boolean needsCompaction(String source) {
+        int length = source.length();
+        for (int i = 0; i < length; i++) {
+            char ch = source.charAt(i);
+            if (ch == ' ') {
+                if (i > 0 && source.charAt(i - 1) == ' ') {
+                    return true;
+                }
+            } else if (isWhiteSpace(ch)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends the lower case hex encoding of the given bytes to the given string builder, without creating an intermediate
+     * string.
+     */
+    private static void appendHex(StringBuilder destination, byte[] bytes) {
+        for (byte b : bytes) {
+            destination.append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+        }
+    }
+
     /**
      * Tests a char to see if is it whitespace.
      * This method considers the same characters to be white
@@ -378,7 +440,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     }
 
     private String getSignedHeadersString(Map<String, List<String>> canonicalizedHeaders) {
-        StringBuilder buffer = new StringBuilder();
+        StringBuilder buffer = new StringBuilder(128);
         for (String header : canonicalizedHeaders.keySet()) {
             if (buffer.length() > 0) {
                 buffer.append(";");
@@ -441,6 +503,27 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         return sign(SignerConstant.AWS4_TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
     }
 
+    /**
+     * Returns the signing key cache size configured with {@link SdkSystemSetting#AWS_SIGNING_KEY_CACHE_SIZE}, or its default
+     * if the configured value is not a positive integer.
+     */
+    @SdkTestInternalApi
+    static int signingKeyCacheSize() {
+        SdkSystemSetting setting = SdkSystemSetting.AWS_SIGNING_KEY_CACHE_SIZE;
+        try {
+            int size = setting.getIntegerValueOrThrow();
+            if (size > 0) {
+                return size;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the default size.
+        }
+
+        LOG.warn(() -> "Ignoring invalid value of " + setting.property() + ", which must be a positive integer. Using the "
+                       + "default signing key cache size of " + setting.defaultValue() + " instead.");
+        return Integer.parseInt(setting.defaultValue());
+    }
+
     protected <B extends Aws4PresignerParams.Builder> B extractPresignerParams(B builder,
                                                                                ExecutionAttributes executionAttributes) {
         builder = extractSignerParams(builder, executionAttributes);
@@ -0,0 +1,144 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded cache of SigV4 signing keys, keyed by the secret key, region and service the signing key was derived for. A cached
+ * key is only used for requests signed on the same day it was derived for.
+ * <p>
+ * Lookups and additions do not lock. When the cache is full, keys derived for another day are evicted first and, if there are
+ * none, the eighth of the keys that were added the longest ago are evicted, so that the cost of sorting the keys by age is only
+ * paid once every {@code maxSize / 8} additions. Concurrent additions may briefly take the cache over its maximum size.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SigningKeyCache {
+    private final ConcurrentHashMap<CacheKey, CachedSignerKey> cache = new ConcurrentHashMap<>();
+    private final AtomicLong additions = new AtomicLong();
+    private final int maxSize;
+
+    /**
+     * @param maxSize the maximum number of signing keys in the cache
+     */
+    public SigningKeyCache(int maxSize) {
+        this.maxSize = Validate.isPositive(maxSize, "maxSize");
+    }
+
+    /**
+     * Returns the cached signing key for the given parameters if one was derived for the day of the given signing time, or null
+     * otherwise.
+     */
+    public SignerKey get(String secretKey, String region, String service, Instant signingInstant) {
+        CachedSignerKey cached = cache.get(new CacheKey(secretKey, region, service));
+        return cached != null && cached.signerKey.isValidForDate(signingInstant) ? cached.signerKey : null;
+    }
+
+    /**
+     * Adds a signing key to the cache, evicting other keys if the cache is full.
+     */
+    public void add(String secretKey, String region, String service, Instant signingInstant, SignerKey signerKey) {
+        CacheKey key = new CacheKey(secretKey, region, service);
+        if (cache.size() >= maxSize && !cache.containsKey(key)) {
+            evict(signingInstant);
+        }
+        cache.put(key, new CachedSignerKey(signerKey, additions.incrementAndGet()));
+    }
+
+    /**
+     * Returns the current size of the cache.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the maximum size of the cache.
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    private void evict(Instant signingInstant) {
+        if (cache.values().removeIf(cached -> !cached.signerKey.isValidForDate(signingInstant))) {
+            return;
+        }
+
+        cache.entrySet()
+             .stream()
+             .sorted(Comparator.comparingLong(e -> e.getValue().addition))
+             .limit(Math.max(1, maxSize / 8))
+             .map(Map.Entry::getKey)
+             .forEach(cache::remove);
+    }
+
+    /**
+     * A cached signing key, and the order in which it was added to the cache.
+     */
+    private static final class CachedSignerKey {
+        private final SignerKey signerKey;
+        private final long addition;
+
+        private CachedSignerKey(SignerKey signerKey, long addition) {
+            this.signerKey = signerKey;
+            this.addition = addition;
+        }
+    }
+
+    private static final class CacheKey {
+        private final String secretKey;
+        private final String region;
+        private final String service;
+        private final int hashCode;
+
+        private CacheKey(String secretKey, String region, String service) {
+            this.secretKey = secretKey;
+            this.region = region;
+            this.service = service;
+            this.hashCode = 31 * (31 * Objects.hashCode(secretKey) + Objects.hashCode(region)) + Objects.hashCode(service);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return hashCode == that.hashCode &&
+                   Objects.equals(secretKey, that.secretKey) &&
+                   Objects.equals(region, that.region) &&
+                   Objects.equals(service, that.service);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
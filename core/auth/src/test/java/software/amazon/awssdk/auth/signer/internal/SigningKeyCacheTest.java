@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.After;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkSystemSetting;
+
+public class SigningKeyCacheTest {
+    private static final Instant NOW = Instant.parse("2020-06-01T12:00:00Z");
+    private static final Instant TOMORROW = NOW.plus(Duration.ofDays(1));
+
+    @After
+    public void clearCacheSize() {
+        System.clearProperty(SdkSystemSetting.AWS_SIGNING_KEY_CACHE_SIZE.property());
+    }
+
+    @Test
+    public void get_ReturnsKeyForSameSecretRegionServiceAndDay() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+        cache.add("secret", "us-east-1", "s3", NOW, signerKey(NOW, 1));
+
+        assertThat(cache.get("secret", "us-east-1", "s3", NOW.plusSeconds(60)).getSigningKey()).containsExactly(1);
+        assertThat(cache.get("secret", "us-west-2", "s3", NOW)).isNull();
+        assertThat(cache.get("secret", "us-east-1", "sqs", NOW)).isNull();
+        assertThat(cache.get("other-secret", "us-east-1", "s3", NOW)).isNull();
+        assertThat(cache.get("secret", "us-east-1", "s3", TOMORROW)).isNull();
+    }
+
+    @Test
+    public void add_SameKey_ReplacesValueWithoutEvicting() {
+        SigningKeyCache cache = new SigningKeyCache(1);
+        cache.add("secret", "us-east-1", "s3", NOW, signerKey(NOW, 1));
+        cache.add("secret", "us-east-1", "s3", TOMORROW, signerKey(TOMORROW, 2));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("secret", "us-east-1", "s3", TOMORROW).getSigningKey()).containsExactly(2);
+    }
+
+    @Test
+    public void add_Full_EvictsKeysForOtherDaysFirst() {
+        SigningKeyCache cache = new SigningKeyCache(3);
+        cache.add("secret", "us-east-1", "s3", NOW, signerKey(NOW, 1));
+        cache.add("secret", "us-west-2", "s3", TOMORROW, signerKey(TOMORROW, 2));
+        cache.add("secret", "eu-west-1", "s3", NOW, signerKey(NOW, 3));
+
+        cache.add("secret", "ap-south-1", "s3", TOMORROW, signerKey(TOMORROW, 4));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("secret", "us-west-2", "s3", TOMORROW)).isNotNull();
+        assertThat(cache.get("secret", "ap-south-1", "s3", TOMORROW)).isNotNull();
+    }
+
+    @Test
+    public void add_FullOfKeysForSameDay_StaysWithinMaxSize() {
+        SigningKeyCache cache = new SigningKeyCache(16);
+        for (int i = 0; i < 100; i++) {
+            cache.add("secret" + i, "us-east-1", "s3", NOW, signerKey(NOW, i));
+            assertThat(cache.size()).isLessThanOrEqualTo(16);
+        }
+
+        assertThat(cache.get("secret99", "us-east-1", "s3", NOW).getSigningKey()).containsExactly(99);
+    }
+
+    @Test
+    public void add_FullOfKeysForSameDay_EvictsTheOldestKeys() {
+        SigningKeyCache cache = new SigningKeyCache(16);
+        for (int i = 0; i < 16; i++) {
+            cache.add("secret" + i, "us-east-1", "s3", NOW, signerKey(NOW, i));
+        }
+
+        cache.add("secret16", "us-east-1", "s3", NOW, signerKey(NOW, 16));
+
+        assertThat(cache.size()).isEqualTo(15);
+        assertThat(cache.get("secret0", "us-east-1", "s3", NOW)).isNull();
+        assertThat(cache.get("secret1", "us-east-1", "s3", NOW)).isNull();
+        assertThat(cache.get("secret2", "us-east-1", "s3", NOW)).isNotNull();
+        assertThat(cache.get("secret16", "us-east-1", "s3", NOW)).isNotNull();
+    }
+
+    @Test
+    public void create_NonPositiveSize_Throws() {
+        assertThatThrownBy(() -> new SigningKeyCache(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SigningKeyCache(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void signingKeyCacheSize_NotConfigured_IsDefault() {
+        assertThat(AbstractAws4Signer.signingKeyCacheSize()).isEqualTo(300);
+    }
+
+    @Test
+    public void signingKeyCacheSize_Configured_IsConfiguredSize() {
+        System.setProperty(SdkSystemSetting.AWS_SIGNING_KEY_CACHE_SIZE.property(), "1000");
+        assertThat(AbstractAws4Signer.signingKeyCacheSize()).isEqualTo(1000);
+    }
+
+    @Test
+    public void signingKeyCacheSize_ConfiguredNonPositiveOrInvalid_IsDefault() {
+        System.setProperty(SdkSystemSetting.AWS_SIGNING_KEY_CACHE_SIZE.property(), "0");
+        assertThat(AbstractAws4Signer.signingKeyCacheSize()).isEqualTo(300);
+
+        System.setProperty(SdkSystemSetting.AWS_SIGNING_KEY_CACHE_SIZE.property(), "-5");
+        assertThat(AbstractAws4Signer.signingKeyCacheSize()).isEqualTo(300);
+
+        System.setProperty(SdkSystemSetting.AWS_SIGNING_KEY_CACHE_SIZE.property(), "lots");
+        assertThat(AbstractAws4Signer.signingKeyCacheSize()).isEqualTo(300);
+    }
+
+    private static SignerKey signerKey(Instant date, int value) {
+        return new SignerKey(date, new byte[] {(byte) value});
+    }
+}
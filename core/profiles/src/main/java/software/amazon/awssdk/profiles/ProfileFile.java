@@ -28,6 +28,7 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.profiles.internal.ProfileFileCache;
 import software.amazon.awssdk.profiles.internal.ProfileFileReader;
 import software.amazon.awssdk.utils.FunctionalUtils;
 import software.amazon.awssdk.utils.IoUtils;
@@ -51,6 +52,8 @@ import software.amazon.awssdk.utils.builder.SdkBuilder;
  */
 @SdkPublicApi
 public final class ProfileFile {
+    private static final ProfileFileCache DEFAULT_PROFILE_FILE_CACHE = new ProfileFileCache();
+
     private final Map<String, Profile> profiles;
 
     /**
@@ -83,13 +86,23 @@ public final class ProfileFile {
      * {@link ProfileFileSystemSetting#AWS_PROFILE} settings or by specifying a different profile file and profile name.
      *
      * <p>
-     * The file is read each time this method is invoked.
+     * The loaded file is shared by all callers in this process, and the files are only read again when their location, size or
+     * last-modified time changes.
      */
     public static ProfileFile defaultProfileFile() {
-        return ProfileFile.aggregator()
-                          .applyMutation(ProfileFile::addCredentialsFile)
-                          .applyMutation(ProfileFile::addConfigFile)
-                          .build();
+        Optional<Path> credentialsFile = ProfileFileLocation.credentialsFileLocation();
+        Optional<Path> configFile = ProfileFileLocation.configurationFileLocation();
+
+        List<Path> files = new ArrayList<>();
+        credentialsFile.ifPresent(files::add);
+        configFile.ifPresent(files::add);
+
+        return DEFAULT_PROFILE_FILE_CACHE.get(files, () -> ProfileFile.aggregator()
+                                                                   .applyMutation(b -> addFile(b, credentialsFile,
+                                                                                               Type.CREDENTIALS))
+                                                                   .applyMutation(b -> addFile(b, configFile,
+                                                                                               Type.CONFIGURATION))
+                                                                   .build());
     }
 
     /**
@@ -134,20 +147,11 @@ public final class ProfileFile {
         return Objects.hashCode(profiles());
     }
 
-    private static void addCredentialsFile(ProfileFile.Aggregator builder) {
-        ProfileFileLocation.credentialsFileLocation()
-                           .ifPresent(l -> builder.addFile(ProfileFile.builder()
-                                                                      .content(l)
-                                                                      .type(ProfileFile.Type.CREDENTIALS)
-                                                                      .build()));
-    }
-
-    private static void addConfigFile(ProfileFile.Aggregator builder) {
-        ProfileFileLocation.configurationFileLocation()
-                           .ifPresent(l -> builder.addFile(ProfileFile.builder()
-                                                                      .content(l)
-                                                                      .type(ProfileFile.Type.CONFIGURATION)
-                                                                      .build()));
+    private static void addFile(ProfileFile.Aggregator builder, Optional<Path> location, ProfileFile.Type type) {
+        location.ifPresent(l -> builder.addFile(ProfileFile.builder()
+                                                           .content(l)
+                                                           .type(type)
+                                                           .build()));
     }
 
     /**
@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.profiles.internal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.profiles.ProfileFile;
+
+/**
+ * Caches a {@link ProfileFile} loaded from a set of files, and only reloads it when one of the files is added, removed or
+ * modified. A file is considered modified when its size or last-modified time changes.
+ * <p>
+ * The state of the files is captured before they are loaded, so a modification made while the profile file is being loaded is
+ * detected by the next call.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ProfileFileCache {
+    private volatile Snapshot snapshot;
+
+    /**
+     * Retrieve the cached profile file if none of the given files changed since it was loaded, otherwise load it again with the
+     * given loader.
+     *
+     * @param files The files the profile file is loaded from.
+     * @param loader Loads the profile file from the given files.
+     */
+    public ProfileFile get(List<Path> files, Supplier<ProfileFile> loader) {
+        List<FileState> fileStates = files.stream().map(FileState::of).collect(Collectors.toList());
+
+        Snapshot currentSnapshot = snapshot;
+        if (currentSnapshot != null && currentSnapshot.fileStates.equals(fileStates)) {
+            return currentSnapshot.profileFile;
+        }
+
+        ProfileFile profileFile = loader.get();
+        snapshot = new Snapshot(fileStates, profileFile);
+        return profileFile;
+    }
+
+    private static final class Snapshot {
+        private final List<FileState> fileStates;
+        private final ProfileFile profileFile;
+
+        private Snapshot(List<FileState> fileStates, ProfileFile profileFile) {
+            this.fileStates = fileStates;
+            this.profileFile = profileFile;
+        }
+    }
+
+    private static final class FileState {
+        private final Path path;
+        private final long size;
+        private final FileTime lastModifiedTime;
+
+        private FileState(Path path, long size, FileTime lastModifiedTime) {
+            this.path = path;
+            this.size = size;
+            this.lastModifiedTime = lastModifiedTime;
+        }
+
+        private static FileState of(Path path) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return new FileState(path, attributes.size(), attributes.lastModifiedTime());
+            } catch (IOException e) {
+                return new FileState(path, -1, null);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            FileState that = (FileState) o;
+            return size == that.size &&
+                   Objects.equals(path, that.path) &&
+                   Objects.equals(lastModifiedTime, that.lastModifiedTime);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(path);
+            result = 31 * result + Long.hashCode(size);
+            result = 31 * result + Objects.hashCode(lastModifiedTime);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.profiles.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.profiles.ProfileFile;
+
+public class ProfileFileCacheTest {
+    private Path file;
+    private AtomicInteger loads;
+    private Supplier<ProfileFile> loader;
+    private ProfileFileCache cache;
+
+    @Before
+    public void setup() throws IOException {
+        file = Files.createTempFile("credentials", null);
+        write("[default]\naws_access_key_id = key\n");
+        loads = new AtomicInteger();
+        loader = () -> {
+            loads.incrementAndGet();
+            return ProfileFile.builder().content(file).type(ProfileFile.Type.CREDENTIALS).build();
+        };
+        cache = new ProfileFileCache();
+    }
+
+    @After
+    public void teardown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void unchangedFiles_returnCachedProfileFile() {
+        List<Path> files = Collections.singletonList(file);
+
+        ProfileFile first = cache.get(files, loader);
+        ProfileFile second = cache.get(files, loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    public void modifiedFile_isReloaded() throws IOException {
+        List<Path> files = Collections.singletonList(file);
+        cache.get(files, loader);
+
+        write("[default]\naws_access_key_id = other-key\n");
+        ProfileFile reloaded = cache.get(files, loader);
+
+        assertThat(loads).hasValue(2);
+        assertThat(reloaded.profile("default").flatMap(p -> p.property("aws_access_key_id"))).hasValue("other-key");
+    }
+
+    @Test
+    public void deletedFile_isReloaded() throws IOException {
+        List<Path> files = Collections.singletonList(file);
+        cache.get(files, loader);
+
+        Files.delete(file);
+        cache.get(files, () -> {
+            loads.incrementAndGet();
+            return ProfileFile.aggregator().build();
+        });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    public void differentFiles_areReloaded() {
+        cache.get(Collections.singletonList(file), loader);
+        cache.get(Collections.emptyList(), loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private void write(String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -166,6 +166,12 @@ public enum SdkSystemSetting implements SystemSetting {
      */
     AWS_MAX_ATTEMPTS("aws.maxAttempts", null),
 
+    /**
+     * The maximum number of SigV4 signing keys cached by the SDK. A signing key is derived for each combination of credentials,
+     * region and service used to sign requests, and is valid for one day. This is read once, when the first signer is loaded.
+     */
+    AWS_SIGNING_KEY_CACHE_SIZE("aws.signingKeyCacheSize", "300"),
+
     ;
 
     private final String systemProperty;
@@ -0,0 +1,72 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The algorithms supported by {@link SdkChecksum#forAlgorithm(Algorithm)}.
+ */
+@SdkPublicApi
+public enum Algorithm {
+    CRC32("CRC32", 4),
+    CRC32C("CRC32C", 4),
+    SHA1("SHA1", 20),
+    SHA256("SHA256", 32),
+    MD5("MD5", 16);
+
+    private final String algorithmId;
+    private final int checksumLength;
+
+    Algorithm(String algorithmId, int checksumLength) {
+        this.algorithmId = algorithmId;
+        this.checksumLength = checksumLength;
+    }
+
+    /**
+     * Retrieve the algorithm with the given ID, ignoring case, or null if it is not supported.
+     */
+    public static Algorithm fromValue(String algorithmId) {
+        if (algorithmId == null) {
+            return null;
+        }
+        for (Algorithm algorithm : values()) {
+            if (algorithm.algorithmId.equalsIgnoreCase(algorithmId)) {
+                return algorithm;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The length of the checksum bytes computed with this algorithm.
+     */
+    public int checksumLength() {
+        return checksumLength;
+    }
+
+    /**
+     * The length of the checksum bytes computed with this algorithm, once base64-encoded.
+     */
+    public int base64EncodedLength() {
+        return (checksumLength + 2) / 3 * 4;
+    }
+
+    @Override
+    public String toString() {
+        return algorithmId;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The checksum of an object uploaded in multiple parts: the checksum of the concatenated checksums of its parts, followed by
+ * the number of parts, e.g. {@code "Z9jNDA==-3"}. This is the form of the checksum S3 returns for objects uploaded with a
+ * multipart upload.
+ * <p>
+ * The checksums of the parts are independent, so {@link #calculate(Path, long, Algorithm, Executor)} calculates them in
+ * parallel.
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public final class CompositeChecksum {
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final Algorithm algorithm;
+    private final List<byte[]> partChecksums;
+    private final byte[] checksum;
+
+    private CompositeChecksum(Algorithm algorithm, List<byte[]> partChecksums) {
+        this.algorithm = algorithm;
+        this.partChecksums = partChecksums;
+
+        SdkChecksum composite = SdkChecksum.forAlgorithm(algorithm);
+        partChecksums.forEach(c -> composite.update(c, 0, c.length));
+        this.checksum = composite.getChecksumBytes();
+    }
+
+    /**
+     * Create the composite checksum of the given checksums of the parts of an object, in part number order.
+     */
+    public static CompositeChecksum create(Algorithm algorithm, List<byte[]> partChecksums) {
+        Validate.paramNotNull(algorithm, "algorithm");
+        Validate.notEmpty(partChecksums, "partChecksums must not be empty.");
+        List<byte[]> copy = new ArrayList<>(partChecksums.size());
+        for (byte[] partChecksum : partChecksums) {
+            Validate.isTrue(partChecksum.length == algorithm.checksumLength(),
+                            "Part checksums of %s must be %s bytes long.", algorithm, algorithm.checksumLength());
+            copy.add(partChecksum.clone());
+        }
+        return new CompositeChecksum(algorithm, Collections.unmodifiableList(copy));
+    }
+
+    /**
+     * Calculate the composite checksum of a file uploaded in parts of the given size, the last part holding the remainder.
+     * The checksum of each part is calculated by a separate task submitted to the given executor.
+     *
+     * @param file The file to calculate the checksum of.
+     * @param partSize The size of each part, except the last one.
+     * @param algorithm The checksum algorithm.
+     * @param executor The executor calculating the checksums of the parts.
+     * @return A future completed with the composite checksum, or exceptionally if the file cannot be read.
+     */
+    public static CompletableFuture<CompositeChecksum> calculate(Path file, long partSize, Algorithm algorithm,
+                                                                 Executor executor) {
+        Validate.paramNotNull(file, "file");
+        Validate.isPositive(partSize, "partSize");
+        Validate.paramNotNull(algorithm, "algorithm");
+        Validate.paramNotNull(executor, "executor");
+
+        FileChannel channel;
+        long fileSize;
+        try {
+            fileSize = Files.size(file);
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return CompletableFutureUtils.failedFuture(new UncheckedIOException(e));
+        }
+
+        long partCount = Math.max(1, (fileSize + partSize - 1) / partSize);
+        List<CompletableFuture<byte[]>> parts = new ArrayList<>();
+        for (long part = 0; part < partCount; part++) {
+            long position = part * partSize;
+            long length = Math.min(partSize, fileSize - position);
+            // FileChannel positional reads are safe to use concurrently.
+            parts.add(CompletableFuture.supplyAsync(() -> partChecksum(channel, position, length, algorithm), executor));
+        }
+
+        return CompletableFuture.allOf(parts.toArray(new CompletableFuture[0]))
+                                .whenComplete((r, t) -> IoUtils.closeQuietly(channel, null))
+                                .thenApply(v -> new CompositeChecksum(algorithm, Collections.unmodifiableList(
+                                    parts.stream().map(CompletableFuture::join).collect(Collectors.toList()))));
+    }
+
+    private static byte[] partChecksum(FileChannel channel, long position, long length, Algorithm algorithm) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(READ_BUFFER_SIZE, Math.max(length, 1)));
+        long read = 0;
+        try {
+            while (read < length) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), length - read));
+                int n = channel.read(buffer, position + read);
+                if (n < 0) {
+                    throw SdkClientException.create("The file was truncated while calculating its checksum.");
+                }
+                checksum.update(buffer.array(), 0, n);
+                read += n;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return checksum.getChecksumBytes();
+    }
+
+    /**
+     * The algorithm of the checksum.
+     */
+    public Algorithm algorithm() {
+        return algorithm;
+    }
+
+    /**
+     * The number of parts.
+     */
+    public int partCount() {
+        return partChecksums.size();
+    }
+
+    /**
+     * The base64-encoded checksums of the parts, in part number order.
+     */
+    public List<String> partChecksums() {
+        return partChecksums.stream().map(BinaryUtils::toBase64).collect(Collectors.toList());
+    }
+
+    /**
+     * The composite checksum, in the form returned by S3: the base64-encoded checksum of the concatenated checksums of the
+     * parts, followed by a dash and the number of parts.
+     */
+    public String checksum() {
+        return BinaryUtils.toBase64(checksum) + "-" + partChecksums.size();
+    }
+
+    @Override
+    public String toString() {
+        return algorithm + ":" + checksum();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.internal.checksums.SdkCrc32C;
+
+/**
+ * Implementation of {@link SdkChecksum} to calculate a CRC32C checksum.
+ * <p>
+ * This uses {@code java.util.zip.CRC32C} when running on Java 9 or later, which the JVM accelerates with the CRC32C
+ * instructions of the processor, and falls back to {@link SdkCrc32C} otherwise.
+ */
+@SdkInternalApi
+public class Crc32CChecksum extends CrcChecksum {
+    private static final MethodHandle JDK_CRC32C_CONSTRUCTOR = jdkCrc32CConstructor();
+
+    public Crc32CChecksum() {
+        super(newCrc32C(), SdkCrc32C.POLYNOMIAL);
+    }
+
+    /**
+     * Whether the JDK implementation of CRC32C is used.
+     */
+    static boolean isJdkCrc32CAvailable() {
+        return JDK_CRC32C_CONSTRUCTOR != null;
+    }
+
+    private static Checksum newCrc32C() {
+        if (JDK_CRC32C_CONSTRUCTOR == null) {
+            return new SdkCrc32C();
+        }
+        try {
+            return (Checksum) JDK_CRC32C_CONSTRUCTOR.invoke();
+        } catch (Throwable t) {
+            throw new IllegalStateException("Unexpected error creating CRC32C checksum", t);
+        }
+    }
+
+    private static MethodHandle jdkCrc32CConstructor() {
+        try {
+            Class<?> crc32c = Class.forName("java.util.zip.CRC32C");
+            return MethodHandles.publicLookup().findConstructor(crc32c, MethodType.methodType(void.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.internal.checksums.CrcCombine;
+
+/**
+ * Base implementation of {@link SdkChecksum} for the 32-bit CRCs, computed with a JDK {@link Checksum} so that the intrinsics
+ * of the JVM are used.
+ * <p>
+ * The JDK checksums cannot be copied, so marking is supported by keeping the CRC of the bytes up to the mark and restarting
+ * the JDK checksum at the mark. Both CRCs are combined when the value is retrieved.
+ */
+@SdkInternalApi
+public abstract class CrcChecksum implements SdkChecksum {
+    private final Checksum crc;
+    private final long polynomial;
+
+    private long valueAtMark;
+    private long lengthSinceMark;
+
+    protected CrcChecksum(Checksum crc, long polynomial) {
+        this.crc = crc;
+        this.polynomial = polynomial;
+    }
+
+    @Override
+    public void update(int b) {
+        crc.update(b);
+        lengthSinceMark++;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        crc.update(b, off, len);
+        lengthSinceMark += len;
+    }
+
+    @Override
+    public long getValue() {
+        if (valueAtMark == 0) {
+            // The CRC of the bytes up to the mark is that of an empty sequence, so it does not change the result.
+            return crc.getValue();
+        }
+        return CrcCombine.combine(polynomial, valueAtMark, crc.getValue(), lengthSinceMark);
+    }
+
+    @Override
+    public void reset() {
+        // Should there be a reset without a preceding mark, the value at the mark is that of an empty sequence.
+        crc.reset();
+        lengthSinceMark = 0;
+    }
+
+    @Override
+    public byte[] getChecksumBytes() {
+        long value = getValue();
+        return new byte[] {(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+    }
+
+    @Override
+    public void mark(int readLimit) {
+        valueAtMark = getValue();
+        crc.reset();
+        lengthSinceMark = 0;
+    }
+}
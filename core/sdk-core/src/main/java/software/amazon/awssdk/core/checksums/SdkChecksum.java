@@ -39,4 +39,27 @@ public interface SdkChecksum extends Checksum {
      * @param readLimit the maximum limit of bytes that can be read before the mark position becomes invalid.
      */
     void mark(int readLimit);
+
+    /**
+     * Create a new checksum that computes the given algorithm.
+     *
+     * @param algorithm the algorithm of the checksum
+     * @return a new checksum, in its initial state
+     */
+    static SdkChecksum forAlgorithm(Algorithm algorithm) {
+        switch (algorithm) {
+            case CRC32:
+                return new Crc32Checksum();
+            case CRC32C:
+                return new Crc32CChecksum();
+            case SHA1:
+                return new Sha1Checksum();
+            case SHA256:
+                return new Sha256Checksum();
+            case MD5:
+                return new Md5Checksum();
+            default:
+                throw new IllegalArgumentException("Unsupported checksum algorithm: " + algorithm);
+        }
+    }
 }
@@ -19,6 +19,8 @@ import static software.amazon.awssdk.core.ClientType.ASYNC;
 import static software.amazon.awssdk.core.ClientType.SYNC;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.DISABLE_HOST_PREFIX_INJECTION;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.DISCOVER_SERVICE_INTERCEPTORS;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.LAZY_INITIALIZATION;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.SIGNER;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_SUFFIX;
@@ -62,6 +64,10 @@ import software.amazon.awssdk.core.interceptor.ClasspathInterceptorChainFactory;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkAsyncHttpClientBuilder;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkHttpClientBuilder;
+import software.amazon.awssdk.core.internal.http.loader.LazyHttpClient;
+import software.amazon.awssdk.core.internal.http.loader.LazySdkAsyncHttpClient;
+import software.amazon.awssdk.core.internal.http.loader.LazySdkHttpClient;
+import software.amazon.awssdk.core.internal.interceptor.LazyInitializationInterceptor;
 import software.amazon.awssdk.core.internal.util.UserAgentUtils;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
@@ -74,7 +80,6 @@ import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSystemSetting;
 import software.amazon.awssdk.utils.AttributeMap;
-import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
 
@@ -206,7 +211,9 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
                                          .option(PROFILE_NAME, ProfileFileSystemSetting.AWS_PROFILE.getStringValueOrThrow())
                                          .option(USER_AGENT_PREFIX, UserAgentUtils.getUserAgent())
                                          .option(USER_AGENT_SUFFIX, "")
-                                         .option(CRC32_FROM_COMPRESSED_DATA_ENABLED, false));
+                                         .option(CRC32_FROM_COMPRESSED_DATA_ENABLED, false)
+                                         .option(LAZY_INITIALIZATION, false)
+                                         .option(DISCOVER_SERVICE_INTERCEPTORS, false));
     }
 
     /**
@@ -269,9 +276,16 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         Validate.isTrue(config.option(SdkClientOption.SYNC_HTTP_CLIENT) == null || httpClientBuilder == null,
                         "The httpClient and the httpClientBuilder can't both be configured.");
 
-        return Either.fromNullable(config.option(SdkClientOption.SYNC_HTTP_CLIENT), httpClientBuilder)
-                     .map(e -> e.map(NonManagedSdkHttpClient::new, b -> b.buildWithDefaults(childHttpConfig())))
-                     .orElseGet(() -> defaultHttpClientBuilder.buildWithDefaults(childHttpConfig()));
+        if (config.option(SdkClientOption.SYNC_HTTP_CLIENT) != null) {
+            return new NonManagedSdkHttpClient(config.option(SdkClientOption.SYNC_HTTP_CLIENT));
+        }
+
+        SdkHttpClient.Builder builder = httpClientBuilder != null ? httpClientBuilder : defaultHttpClientBuilder;
+        AttributeMap httpConfig = childHttpConfig();
+        if (Boolean.TRUE.equals(config.option(LAZY_INITIALIZATION))) {
+            return new LazySdkHttpClient(() -> builder.buildWithDefaults(httpConfig));
+        }
+        return builder.buildWithDefaults(httpConfig);
     }
 
     /**
@@ -280,9 +294,17 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
     private SdkAsyncHttpClient resolveAsyncHttpClient(SdkClientConfiguration config) {
         Validate.isTrue(config.option(ASYNC_HTTP_CLIENT) == null || asyncHttpClientBuilder == null,
                         "The asyncHttpClient and the asyncHttpClientBuilder can't both be configured.");
-        return Either.fromNullable(config.option(ASYNC_HTTP_CLIENT), asyncHttpClientBuilder)
-                     .map(e -> e.map(NonManagedSdkAsyncHttpClient::new, b -> b.buildWithDefaults(childHttpConfig())))
-                     .orElseGet(() -> defaultAsyncHttpClientBuilder.buildWithDefaults(childHttpConfig()));
+        if (config.option(ASYNC_HTTP_CLIENT) != null) {
+            return new NonManagedSdkAsyncHttpClient(config.option(ASYNC_HTTP_CLIENT));
+        }
+
+        SdkAsyncHttpClient.Builder builder = asyncHttpClientBuilder != null ? asyncHttpClientBuilder
+                                                                            : defaultAsyncHttpClientBuilder;
+        AttributeMap httpConfig = childHttpConfig();
+        if (Boolean.TRUE.equals(config.option(LAZY_INITIALIZATION))) {
+            return new LazySdkAsyncHttpClient(() -> builder.buildWithDefaults(httpConfig));
+        }
+        return builder.buildWithDefaults(httpConfig);
     }
 
     /**
@@ -330,7 +352,16 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
      */
     private List<ExecutionInterceptor> resolveExecutionInterceptors(SdkClientConfiguration config) {
         List<ExecutionInterceptor> globalInterceptors = new ClasspathInterceptorChainFactory().getGlobalInterceptors();
-        return mergeLists(globalInterceptors, config.option(EXECUTION_INTERCEPTORS));
+        List<ExecutionInterceptor> interceptors = mergeLists(globalInterceptors, config.option(EXECUTION_INTERCEPTORS));
+
+        Object httpClient = config.option(SdkClientOption.CLIENT_TYPE) == SYNC ? config.option(SdkClientOption.SYNC_HTTP_CLIENT)
+                                                                                 : config.option(ASYNC_HTTP_CLIENT);
+        if (httpClient instanceof LazyHttpClient) {
+            // Run first, so that the HTTP client is created while the other interceptors run
+            interceptors.add(0, new LazyInitializationInterceptor((LazyHttpClient) httpClient));
+        }
+
+        return interceptors;
     }
 
     @Override
@@ -370,6 +401,9 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         clientConfiguration.option(PROFILE_FILE, overrideConfig.defaultProfileFile().orElse(null));
         clientConfiguration.option(PROFILE_NAME, overrideConfig.defaultProfileName().orElse(null));
         clientConfiguration.option(METRIC_PUBLISHERS, overrideConfig.metricPublishers());
+        clientConfiguration.option(LAZY_INITIALIZATION, overrideConfig.advancedOption(LAZY_INITIALIZATION).orElse(null));
+        clientConfiguration.option(DISCOVER_SERVICE_INTERCEPTORS,
+                                   overrideConfig.advancedOption(DISCOVER_SERVICE_INTERCEPTORS).orElse(null));
         overrideConfig.advancedOption(ENDPOINT_OVERRIDDEN_OVERRIDE).ifPresent(value -> {
             clientConfiguration.option(ENDPOINT_OVERRIDDEN, value);
         });
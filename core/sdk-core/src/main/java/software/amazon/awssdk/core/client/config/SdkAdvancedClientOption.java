@@ -54,6 +54,28 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedClientOption<Boolean> DISABLE_HOST_PREFIX_INJECTION =
         new SdkAdvancedClientOption<>(Boolean.class);
 
+    /**
+     * Defer creating the parts of the client that are not needed until the first request is made, so that building the client
+     * is cheap. Currently this applies to the HTTP client, when it is created by the SDK rather than passed to the client
+     * builder as an instance. The HTTP client starts being created when the first request starts executing, in parallel with
+     * resolving credentials, marshalling and signing the request.
+     * <p>
+     * When enabled, errors creating the HTTP client, like having no HTTP implementation on the classpath, are reported by the
+     * first request instead of by the client builder. Defaults to false.
+     */
+    public static final SdkAdvancedClientOption<Boolean> LAZY_INITIALIZATION = new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * Discover the service interceptors of the client by reading every
+     * {@code /software/amazon/awssdk/services/{service}/execution.interceptors} resource on the classpath, instead of using
+     * the list of interceptors the client was generated with. Enable this to load service interceptors that are registered by
+     * other jars. The result of the discovery is cached per classloader. Defaults to false.
+     *
+     * @see software.amazon.awssdk.core.interceptor.ExecutionInterceptor
+     */
+    public static final SdkAdvancedClientOption<Boolean> DISCOVER_SERVICE_INTERCEPTORS =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
     }
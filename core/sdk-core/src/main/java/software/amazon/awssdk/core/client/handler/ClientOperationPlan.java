@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.handler;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.runtime.transform.Marshaller;
+
+/**
+ * The parts of {@link ClientExecutionParams} that do not depend on the request of a particular API call: the operation name,
+ * the marshaller and the response handlers. Generated clients build one plan per operation and reuse it for every call, so
+ * that only the request-specific state is allocated on each invocation.
+ * <p>
+ * The marshaller and response handlers held by a plan must be stateless, since they are shared between concurrent calls.
+ *
+ * @param <InputT>  Input POJO type.
+ * @param <OutputT> Output POJO type.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class ClientOperationPlan<InputT extends SdkRequest, OutputT> {
+    private final String operationName;
+    private final Marshaller<InputT> marshaller;
+    private final HttpResponseHandler<OutputT> responseHandler;
+    private final HttpResponseHandler<? extends SdkException> errorResponseHandler;
+    private final HttpResponseHandler<Response<OutputT>> combinedResponseHandler;
+
+    private ClientOperationPlan(Builder<InputT, OutputT> builder) {
+        this.operationName = builder.operationName;
+        this.marshaller = builder.marshaller;
+        this.responseHandler = builder.responseHandler;
+        this.errorResponseHandler = builder.errorResponseHandler;
+        this.combinedResponseHandler = builder.combinedResponseHandler;
+    }
+
+    public static <InputT extends SdkRequest, OutputT> Builder<InputT, OutputT> builder() {
+        return new Builder<>();
+    }
+
+    public String operationName() {
+        return operationName;
+    }
+
+    public Marshaller<InputT> marshaller() {
+        return marshaller;
+    }
+
+    public HttpResponseHandler<OutputT> responseHandler() {
+        return responseHandler;
+    }
+
+    public HttpResponseHandler<? extends SdkException> errorResponseHandler() {
+        return errorResponseHandler;
+    }
+
+    public HttpResponseHandler<Response<OutputT>> combinedResponseHandler() {
+        return combinedResponseHandler;
+    }
+
+    /**
+     * Create the execution parameters for a new call of this operation, populated with the shared parts of this plan. The
+     * caller is expected to add the input and any other request-specific parameters.
+     */
+    public ClientExecutionParams<InputT, OutputT> newExecutionParams() {
+        ClientExecutionParams<InputT, OutputT> params = new ClientExecutionParams<InputT, OutputT>()
+            .withOperationName(operationName)
+            .withMarshaller(marshaller);
+
+        if (combinedResponseHandler != null) {
+            return params.withCombinedResponseHandler(combinedResponseHandler);
+        }
+
+        return params.withResponseHandler(responseHandler)
+                     .withErrorResponseHandler(errorResponseHandler);
+    }
+
+    public static final class Builder<InputT extends SdkRequest, OutputT> {
+        private String operationName;
+        private Marshaller<InputT> marshaller;
+        private HttpResponseHandler<OutputT> responseHandler;
+        private HttpResponseHandler<? extends SdkException> errorResponseHandler;
+        private HttpResponseHandler<Response<OutputT>> combinedResponseHandler;
+
+        private Builder() {
+        }
+
+        public Builder<InputT, OutputT> operationName(String operationName) {
+            this.operationName = operationName;
+            return this;
+        }
+
+        public Builder<InputT, OutputT> marshaller(Marshaller<InputT> marshaller) {
+            this.marshaller = marshaller;
+            return this;
+        }
+
+        public Builder<InputT, OutputT> responseHandler(HttpResponseHandler<OutputT> responseHandler) {
+            this.responseHandler = responseHandler;
+            return this;
+        }
+
+        public Builder<InputT, OutputT> errorResponseHandler(HttpResponseHandler<? extends SdkException> errorResponseHandler) {
+            this.errorResponseHandler = errorResponseHandler;
+            return this;
+        }
+
+        public Builder<InputT, OutputT> combinedResponseHandler(HttpResponseHandler<Response<OutputT>> combinedResponseHandler) {
+            this.combinedResponseHandler = combinedResponseHandler;
+            return this;
+        }
+
+        public ClientOperationPlan<InputT, OutputT> build() {
+            return new ClientOperationPlan<>(this);
+        }
+    }
+}
@@ -24,10 +24,12 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.internal.util.ClassLoaderHelper;
@@ -35,12 +37,22 @@ import software.amazon.awssdk.utils.Validate;
 
 /**
  * Factory for creating request/response handler chains from the classpath.
+ * <p>
+ * The resources listing the interceptors are read once per classloader and cached, while the interceptors themselves are
+ * instantiated again for each chain.
  */
 @SdkProtectedApi
 public final class ClasspathInterceptorChainFactory {
 
     private static final String GLOBAL_INTERCEPTOR_PATH = "software/amazon/awssdk/global/handlers/execution.interceptors";
 
+    /**
+     * The interceptor class names listed in each resource, by the classloader the resource was loaded from. Only class names are
+     * cached, so that the cache does not keep the classloader reachable.
+     */
+    private static final Map<ClassLoader, Map<String, List<String>>> INTERCEPTOR_CLASS_NAMES =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
     /**
      * Constructs a new request handler chain by analyzing the specified classpath resource.
      *
@@ -59,48 +71,30 @@ public final class ClasspathInterceptorChainFactory {
     }
 
     private Collection<ExecutionInterceptor> createExecutionInterceptorsFromClasspath(String path) {
-        try {
-            return createExecutionInterceptorsFromResources(classLoader().getResources(path))
-                .collect(Collectors.toMap(p -> p.getClass().getSimpleName(), p -> p, (p1, p2) -> p1)).values();
-        } catch (IOException e) {
-            throw SdkClientException.builder()
-                                    .message("Unable to instantiate execution interceptor chain.")
-                                    .cause(e)
-                                    .build();
-        }
+        return interceptorClassNames(path).stream()
+                                          .map(this::createExecutionInterceptor)
+                                          .filter(Objects::nonNull)
+                                          .collect(Collectors.toMap(p -> p.getClass().getSimpleName(), p -> p, (p1, p2) -> p1))
+                                          .values();
     }
 
-    private Stream<ExecutionInterceptor> createExecutionInterceptorsFromResources(Enumeration<URL> resources) {
-        if (resources == null) {
-            return Stream.empty();
-        }
-
-        return Collections.list(resources).stream().flatMap(this::createExecutionInterceptorFromResource);
+    /**
+     * Retrieve the interceptor class names listed in every copy of the given resource on the classpath. The classpath is only
+     * scanned the first time a resource is requested from a classloader, since scanning is slow on large classpaths.
+     */
+    private List<String> interceptorClassNames(String path) {
+        ClassLoader classLoader = classLoader();
+        return INTERCEPTOR_CLASS_NAMES.computeIfAbsent(classLoader, l -> new ConcurrentHashMap<>())
+                                      .computeIfAbsent(path, p -> readInterceptorClassNames(classLoader, p));
     }
 
-    private Stream<ExecutionInterceptor> createExecutionInterceptorFromResource(URL resource) {
+    private List<String> readInterceptorClassNames(ClassLoader classLoader, String path) {
         try {
-            if (resource == null) {
-                return Stream.empty();
+            List<String> interceptorClassNames = new ArrayList<>();
+            for (URL resource : Collections.list(classLoader.getResources(path))) {
+                interceptorClassNames.addAll(readInterceptorClassNames(resource));
             }
-
-            List<ExecutionInterceptor> interceptors = new ArrayList<>();
-
-            try (InputStream stream = resource.openStream();
-                 InputStreamReader streamReader = new InputStreamReader(stream, StandardCharsets.UTF_8);
-                 BufferedReader fileReader = new BufferedReader(streamReader)) {
-
-                String interceptorClassName = fileReader.readLine();
-                while (interceptorClassName != null) {
-                    ExecutionInterceptor interceptor = createExecutionInterceptor(interceptorClassName);
-                    if (interceptor != null) {
-                        interceptors.add(interceptor);
-                    }
-                    interceptorClassName = fileReader.readLine();
-                }
-            }
-
-            return interceptors.stream();
+            return Collections.unmodifiableList(interceptorClassNames);
         } catch (IOException e) {
             throw SdkClientException.builder()
                                     .message("Unable to instantiate execution interceptor chain.")
@@ -109,6 +103,14 @@ public final class ClasspathInterceptorChainFactory {
         }
     }
 
+    private List<String> readInterceptorClassNames(URL resource) throws IOException {
+        try (InputStream stream = resource.openStream();
+             InputStreamReader streamReader = new InputStreamReader(stream, StandardCharsets.UTF_8);
+             BufferedReader fileReader = new BufferedReader(streamReader)) {
+            return fileReader.lines().collect(Collectors.toList());
+        }
+    }
+
     private ExecutionInterceptor createExecutionInterceptor(String interceptorClassName) {
         if (interceptorClassName == null) {
             return null;
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.interceptor;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 
 /**
@@ -41,8 +42,10 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
  */
 @SdkPublicApi
 public final class ExecutionAttribute<T> {
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
 
     private final String name;
+    private final int index;
 
     /**
      * Creates a new {@link ExecutionAttribute} bound to the provided type param.
@@ -51,6 +54,22 @@ public final class ExecutionAttribute<T> {
      */
     public ExecutionAttribute(String name) {
         this.name = name;
+        this.index = NEXT_INDEX.getAndIncrement();
+    }
+
+    /**
+     * The number of attributes that have been created, which is one more than the highest {@link #index()} assigned so far.
+     */
+    static int count() {
+        return NEXT_INDEX.get();
+    }
+
+    /**
+     * A dense index assigned to this attribute when it is created, which {@link ExecutionAttributes} uses to store its value in
+     * an array instead of a hash map.
+     */
+    int index() {
+        return index;
     }
 
     @Override
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.interceptor;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.NotThreadSafe;
@@ -29,7 +30,15 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 @SdkPublicApi
 @NotThreadSafe
 public final class ExecutionAttributes {
-    private final Map<ExecutionAttribute<?>, Object> attributes = new HashMap<>();
+    /**
+     * Attributes with an {@link ExecutionAttribute#index()} below this are stored in an array. This covers the attributes
+     * defined by the SDK and a reasonable number of user-defined ones, while bounding the size of the array in applications that
+     * keep creating new attributes. Any other attributes are stored in a hash map.
+     */
+    private static final int MAX_INDEXED_ATTRIBUTES = 64;
+
+    private Object[] indexedAttributes;
+    private Map<ExecutionAttribute<?>, Object> otherAttributes;
 
     /**
      * Retrieve the current value of the provided attribute in this collection of attributes. This will return null if the value
@@ -37,14 +46,28 @@ public final class ExecutionAttributes {
      */
     @SuppressWarnings("unchecked") // Cast is safe due to implementation of {@link #putAttribute}
     public <U> U getAttribute(ExecutionAttribute<U> attribute) {
-        return (U) attributes.get(attribute);
+        int index = attribute.index();
+        if (index < MAX_INDEXED_ATTRIBUTES) {
+            return indexedAttributes != null && index < indexedAttributes.length ? (U) indexedAttributes[index] : null;
+        }
+
+        return otherAttributes != null ? (U) otherAttributes.get(attribute) : null;
     }
 
     /**
      * Update or set the provided attribute in this collection of attributes.
      */
     public <U> ExecutionAttributes putAttribute(ExecutionAttribute<U> attribute, U value) {
-        this.attributes.put(attribute, value);
+        int index = attribute.index();
+        if (index < MAX_INDEXED_ATTRIBUTES) {
+            ensureIndexedCapacity(index);
+            indexedAttributes[index] = value;
+        } else {
+            if (otherAttributes == null) {
+                otherAttributes = new HashMap<>();
+            }
+            otherAttributes.put(attribute, value);
+        }
         return this;
     }
 
@@ -52,7 +75,19 @@ public final class ExecutionAttributes {
      * Set the provided attribute in this collection of attributes if it does not already exist in the collection.
      */
     public <U> ExecutionAttributes putAttributeIfAbsent(ExecutionAttribute<U> attribute, U value) {
-        attributes.putIfAbsent(attribute, value);
+        if (getAttribute(attribute) == null) {
+            putAttribute(attribute, value);
+        }
         return this;
     }
+
+    private void ensureIndexedCapacity(int index) {
+        if (indexedAttributes == null) {
+            // Usually every attribute a request uses has been created by the time it starts, so the array never grows
+            int length = Math.min(Math.max(index + 1, ExecutionAttribute.count()), MAX_INDEXED_ATTRIBUTES);
+            indexedAttributes = new Object[length];
+        } else if (index >= indexedAttributes.length) {
+            indexedAttributes = Arrays.copyOf(indexedAttributes, Math.min(index * 2 + 1, MAX_INDEXED_ATTRIBUTES));
+        }
+    }
 }
@@ -78,12 +78,15 @@ import software.amazon.awssdk.http.SdkHttpResponse;
  * <li><i>Global Interceptors</i> are interceptors loaded from the classpath for all clients. When any service client is
  * created by a client builder, all jars on the classpath (from the perspective of the current thread's classloader) are
  * checked for a file named '/software/amazon/awssdk/global/handlers/execution.interceptors'. Any interceptors listed in these
- * files (new line separated) are instantiated using their default constructor and loaded into the client.</li>
+ * files (new line separated) are instantiated using their default constructor and loaded into the client. The files are only
+ * read the first time a client is created from a given classloader.</li>
  *
- * <li><i>Service Interceptors</i> are interceptors loaded from the classpath for a particular service's clients. When a
- * service client is created by a client builder, all jars on the classpath (from the perspective of the current thread's
- * classloader) are checked for a file named '/software/amazon/awssdk/services/{service}/execution.interceptors', where
- * {service} is the package name of the service client. Any interceptors listed in these files (new line separated) are
+ * <li><i>Service Interceptors</i> are interceptors for a particular service's clients. They are listed in a file named
+ * '/software/amazon/awssdk/services/{service}/execution.interceptors' in the jar of the service, where {service} is the
+ * package name of the service client, and compiled into the client builder when the service client is generated. When
+ * {@link software.amazon.awssdk.core.client.config.SdkAdvancedClientOption#DISCOVER_SERVICE_INTERCEPTORS} is enabled, all jars
+ * on the classpath (from the perspective of the current thread's classloader) are instead checked for this file when a
+ * service client is created by a client builder. Any interceptors listed in these files (new line separated) are
  * instantiated using their default constructor and loaded into the client.</li>
  * </ol>
  * <p>
@@ -21,13 +21,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Consumer;
 import org.reactivestreams.Publisher;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.internal.interceptor.DefaultFailedExecutionContext;
+import software.amazon.awssdk.core.internal.interceptor.ExecutionInterceptorHook;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -43,53 +43,153 @@ import software.amazon.awssdk.utils.Validate;
  * Interceptors are invoked in forward order up to {@link #beforeTransmission} and in reverse order after (and including)
  * {@link #afterTransmission}. This ensures the last interceptors to modify the request are the first interceptors to see the
  * response.
+ * <p>
+ * Interceptor methods that are not implemented by an interceptor are not called, because the default implementations neither
+ * read nor modify anything. The context is only copied when an interceptor returns a different message than the one it was
+ * given.
  */
 @SdkProtectedApi
 public class ExecutionInterceptorChain {
     private static final Logger LOG = Logger.loggerFor(ExecutionInterceptorChain.class);
 
+    private static final int BEFORE_EXECUTION = ExecutionInterceptorHook.BEFORE_EXECUTION.mask();
+    private static final int MODIFY_REQUEST = ExecutionInterceptorHook.MODIFY_REQUEST.mask();
+    private static final int BEFORE_MARSHALLING = ExecutionInterceptorHook.BEFORE_MARSHALLING.mask();
+    private static final int AFTER_MARSHALLING = ExecutionInterceptorHook.AFTER_MARSHALLING.mask();
+    private static final int MODIFY_HTTP_REQUEST = ExecutionInterceptorHook.MODIFY_HTTP_REQUEST.mask();
+    private static final int MODIFY_HTTP_CONTENT = ExecutionInterceptorHook.MODIFY_HTTP_CONTENT.mask();
+    private static final int MODIFY_ASYNC_HTTP_CONTENT = ExecutionInterceptorHook.MODIFY_ASYNC_HTTP_CONTENT.mask();
+    private static final int BEFORE_TRANSMISSION = ExecutionInterceptorHook.BEFORE_TRANSMISSION.mask();
+    private static final int AFTER_TRANSMISSION = ExecutionInterceptorHook.AFTER_TRANSMISSION.mask();
+    private static final int MODIFY_HTTP_RESPONSE = ExecutionInterceptorHook.MODIFY_HTTP_RESPONSE.mask();
+    private static final int MODIFY_HTTP_RESPONSE_CONTENT = ExecutionInterceptorHook.MODIFY_HTTP_RESPONSE_CONTENT.mask();
+    private static final int MODIFY_ASYNC_HTTP_RESPONSE_CONTENT =
+        ExecutionInterceptorHook.MODIFY_ASYNC_HTTP_RESPONSE_CONTENT.mask();
+    private static final int BEFORE_UNMARSHALLING = ExecutionInterceptorHook.BEFORE_UNMARSHALLING.mask();
+    private static final int AFTER_UNMARSHALLING = ExecutionInterceptorHook.AFTER_UNMARSHALLING.mask();
+    private static final int MODIFY_RESPONSE = ExecutionInterceptorHook.MODIFY_RESPONSE.mask();
+    private static final int AFTER_EXECUTION = ExecutionInterceptorHook.AFTER_EXECUTION.mask();
+    private static final int MODIFY_EXCEPTION = ExecutionInterceptorHook.MODIFY_EXCEPTION.mask();
+    private static final int ON_EXECUTION_FAILURE = ExecutionInterceptorHook.ON_EXECUTION_FAILURE.mask();
+
     private final List<ExecutionInterceptor> interceptors;
 
+    /**
+     * The hooks implemented by each interceptor, at the same index as the interceptor.
+     */
+    private final int[] interceptorHooks;
+
+    /**
+     * The hooks implemented by any of the interceptors.
+     */
+    private final int chainHooks;
+
     /**
      * Create a chain that will execute the provided interceptors in the order they are provided.
      */
     public ExecutionInterceptorChain(List<ExecutionInterceptor> interceptors) {
         this.interceptors = new ArrayList<>(Validate.paramNotNull(interceptors, "interceptors"));
+        this.interceptorHooks = new int[this.interceptors.size()];
+
+        int hooks = 0;
+        for (int i = 0; i < interceptorHooks.length; i++) {
+            interceptorHooks[i] = ExecutionInterceptorHook.implementedHooks(this.interceptors.get(i));
+            hooks |= interceptorHooks[i];
+        }
+        this.chainHooks = hooks;
+
         LOG.debug(() -> "Creating an interceptor chain that will apply interceptors in the following order: " + interceptors);
     }
 
     public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeExecution(context, executionAttributes));
+        if (!anyHasHook(BEFORE_EXECUTION)) {
+            return;
+        }
+
+        for (int i = 0; i < interceptorHooks.length; i++) {
+            if (hasHook(i, BEFORE_EXECUTION)) {
+                interceptors.get(i).beforeExecution(context, executionAttributes);
+            }
+        }
     }
 
     public InterceptorContext modifyRequest(InterceptorContext context, ExecutionAttributes executionAttributes) {
+        if (!anyHasHook(MODIFY_REQUEST)) {
+            return context;
+        }
+
         InterceptorContext result = context;
-        for (ExecutionInterceptor interceptor : interceptors) {
+        for (int i = 0; i < interceptorHooks.length; i++) {
+            if (!hasHook(i, MODIFY_REQUEST)) {
+                continue;
+            }
+
+            ExecutionInterceptor interceptor = interceptors.get(i);
             SdkRequest interceptorResult = interceptor.modifyRequest(result, executionAttributes);
             validateInterceptorResult(result.request(), interceptorResult, interceptor, "modifyRequest");
 
-            result = result.copy(b -> b.request(interceptorResult));
+            if (interceptorResult != result.request()) {
+                result = result.copy(b -> b.request(interceptorResult));
+            }
         }
         return result;
     }
 
     public void beforeMarshalling(Context.BeforeMarshalling context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeMarshalling(context, executionAttributes));
+        if (!anyHasHook(BEFORE_MARSHALLING)) {
+            return;
+        }
+
+        for (int i = 0; i < interceptorHooks.length; i++) {
+            if (hasHook(i, BEFORE_MARSHALLING)) {
+                interceptors.get(i).beforeMarshalling(context, executionAttributes);
+            }
+        }
     }
 
     public void afterMarshalling(Context.AfterMarshalling context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.afterMarshalling(context, executionAttributes));
+        if (!anyHasHook(AFTER_MARSHALLING)) {
+            return;
+        }
+
+        for (int i = 0; i < interceptorHooks.length; i++) {
+            if (hasHook(i, AFTER_MARSHALLING)) {
+                interceptors.get(i).afterMarshalling(context, executionAttributes);
+            }
+        }
     }
 
     public InterceptorContext modifyHttpRequestAndHttpContent(InterceptorContext context,
                                                               ExecutionAttributes executionAttributes) {
+        int modifyHttpRequestHooks = MODIFY_HTTP_REQUEST | MODIFY_HTTP_CONTENT | MODIFY_ASYNC_HTTP_CONTENT;
+        if (!anyHasHook(modifyHttpRequestHooks)) {
+            return context;
+        }
+
         InterceptorContext result = context;
-        for (ExecutionInterceptor interceptor : interceptors) {
-            AsyncRequestBody asyncRequestBody = interceptor.modifyAsyncHttpContent(result, executionAttributes).orElse(null);
-            RequestBody requestBody = interceptor.modifyHttpContent(result, executionAttributes).orElse(null);
-            SdkHttpRequest interceptorResult = interceptor.modifyHttpRequest(result, executionAttributes);
+        for (int i = 0; i < interceptorHooks.length; i++) {
+            if (!hasHook(i, modifyHttpRequestHooks)) {
+                continue;
+            }
+
+            ExecutionInterceptor interceptor = interceptors.get(i);
+            AsyncRequestBody asyncRequestBody = hasHook(i, MODIFY_ASYNC_HTTP_CONTENT)
+                                                ? interceptor.modifyAsyncHttpContent(result, executionAttributes).orElse(null)
+                                                : result.asyncRequestBody().orElse(null);
+            RequestBody requestBody = hasHook(i, MODIFY_HTTP_CONTENT)
+                                      ? interceptor.modifyHttpContent(result, executionAttributes).orElse(null)
+                                      : result.requestBody().orElse(null);
+            SdkHttpRequest interceptorResult = hasHook(i, MODIFY_HTTP_REQUEST)
+                                               ? interceptor.modifyHttpRequest(result, executionAttributes)
+                                               : result.httpRequest();
             validateInterceptorResult(result.httpRequest(), interceptorResult, interceptor, "modifyHttpRequest");
 
+            if (interceptorResult == result.httpRequest() &&
+                asyncRequestBody == result.asyncRequestBody().orElse(null) &&
+                requestBody == result.requestBody().orElse(null)) {
+                continue;
+            }
+
             result = applySdkHttpFullRequestHack(result);
 
             result = result.copy(b -> b.httpRequest(interceptorResult)
@@ -126,25 +226,56 @@ public class ExecutionInterceptorChain {
     }
 
     public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeTransmission(context, executionAttributes));
+        if (!anyHasHook(BEFORE_TRANSMISSION)) {
+            return;
+        }
+
+        for (int i = 0; i < interceptorHooks.length; i++) {
+            if (hasHook(i, BEFORE_TRANSMISSION)) {
+                interceptors.get(i).beforeTransmission(context, executionAttributes);
+            }
+        }
     }
 
     public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterTransmission(context, executionAttributes));
+        if (!anyHasHook(AFTER_TRANSMISSION)) {
+            return;
+        }
+
+        for (int i = interceptorHooks.length - 1; i >= 0; i--) {
+            if (hasHook(i, AFTER_TRANSMISSION)) {
+                interceptors.get(i).afterTransmission(context, executionAttributes);
+            }
+        }
     }
 
     public InterceptorContext modifyHttpResponse(InterceptorContext context,
                                                  ExecutionAttributes executionAttributes) {
-        InterceptorContext result = context;
+        int modifyHttpResponseHooks = MODIFY_HTTP_RESPONSE | MODIFY_HTTP_RESPONSE_CONTENT;
+        if (!anyHasHook(modifyHttpResponseHooks)) {
+            return context;
+        }
 
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            SdkHttpResponse interceptorResult =
-                interceptors.get(i).modifyHttpResponse(result, executionAttributes);
-            validateInterceptorResult(result.httpResponse(), interceptorResult, interceptors.get(i), "modifyHttpResponse");
+        InterceptorContext result = context;
 
-            InputStream response = interceptors.get(i).modifyHttpResponseContent(result, executionAttributes).orElse(null);
+        for (int i = interceptorHooks.length - 1; i >= 0; i--) {
+            if (!hasHook(i, modifyHttpResponseHooks)) {
+                continue;
+            }
 
-            result = result.toBuilder().httpResponse(interceptorResult).responseBody(response).build();
+            ExecutionInterceptor interceptor = interceptors.get(i);
+            SdkHttpResponse interceptorResult = hasHook(i, MODIFY_HTTP_RESPONSE)
+                                                ? interceptor.modifyHttpResponse(result, executionAttributes)
+                                                : result.httpResponse();
+            validateInterceptorResult(result.httpResponse(), interceptorResult, interceptor, "modifyHttpResponse");
+
+            InputStream response = hasHook(i, MODIFY_HTTP_RESPONSE_CONTENT)
+                                   ? interceptor.modifyHttpResponseContent(result, executionAttributes).orElse(null)
+                                   : result.responseBody().orElse(null);
+
+            if (interceptorResult != result.httpResponse() || response != result.responseBody().orElse(null)) {
+                result = result.toBuilder().httpResponse(interceptorResult).responseBody(response).build();
+            }
         }
 
         return result;
@@ -152,60 +283,137 @@ public class ExecutionInterceptorChain {
 
     public InterceptorContext modifyAsyncHttpResponse(InterceptorContext context,
                                                       ExecutionAttributes executionAttributes) {
+        if (!anyHasHook(MODIFY_ASYNC_HTTP_RESPONSE_CONTENT)) {
+            return context;
+        }
+
         InterceptorContext result = context;
 
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            ExecutionInterceptor interceptor = interceptors.get(i);
+        for (int i = interceptorHooks.length - 1; i >= 0; i--) {
+            if (!hasHook(i, MODIFY_ASYNC_HTTP_RESPONSE_CONTENT)) {
+                continue;
+            }
 
             Publisher<ByteBuffer> newResponsePublisher =
-                interceptor.modifyAsyncHttpResponseContent(result, executionAttributes).orElse(null);
+                interceptors.get(i).modifyAsyncHttpResponseContent(result, executionAttributes).orElse(null);
 
-            result = result.toBuilder()
-                           .responsePublisher(newResponsePublisher)
-                           .build();
+            if (newResponsePublisher != result.responsePublisher().orElse(null)) {
+                result = result.toBuilder()
+                               .responsePublisher(newResponsePublisher)
+                               .build();
+            }
         }
 
         return result;
     }
 
     public void beforeUnmarshalling(Context.BeforeUnmarshalling context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.beforeUnmarshalling(context, executionAttributes));
+        if (!anyHasHook(BEFORE_UNMARSHALLING)) {
+            return;
+        }
+
+        for (int i = interceptorHooks.length - 1; i >= 0; i--) {
+            if (hasHook(i, BEFORE_UNMARSHALLING)) {
+                interceptors.get(i).beforeUnmarshalling(context, executionAttributes);
+            }
+        }
     }
 
     public void afterUnmarshalling(Context.AfterUnmarshalling context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterUnmarshalling(context, executionAttributes));
+        if (!anyHasHook(AFTER_UNMARSHALLING)) {
+            return;
+        }
+
+        for (int i = interceptorHooks.length - 1; i >= 0; i--) {
+            if (hasHook(i, AFTER_UNMARSHALLING)) {
+                interceptors.get(i).afterUnmarshalling(context, executionAttributes);
+            }
+        }
     }
 
     public InterceptorContext modifyResponse(InterceptorContext context, ExecutionAttributes executionAttributes) {
+        if (!anyHasHook(MODIFY_RESPONSE)) {
+            return context;
+        }
+
         InterceptorContext result = context;
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            SdkResponse interceptorResult = interceptors.get(i).modifyResponse(result, executionAttributes);
-            validateInterceptorResult(result.response(), interceptorResult, interceptors.get(i), "modifyResponse");
+        for (int i = interceptorHooks.length - 1; i >= 0; i--) {
+            if (!hasHook(i, MODIFY_RESPONSE)) {
+                continue;
+            }
+
+            ExecutionInterceptor interceptor = interceptors.get(i);
+            SdkResponse interceptorResult = interceptor.modifyResponse(result, executionAttributes);
+            validateInterceptorResult(result.response(), interceptorResult, interceptor, "modifyResponse");
 
-            result = result.copy(b -> b.response(interceptorResult));
+            if (interceptorResult != result.response()) {
+                result = result.copy(b -> b.response(interceptorResult));
+            }
         }
 
         return result;
     }
 
     public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterExecution(context, executionAttributes));
+        if (!anyHasHook(AFTER_EXECUTION)) {
+            return;
+        }
+
+        for (int i = interceptorHooks.length - 1; i >= 0; i--) {
+            if (hasHook(i, AFTER_EXECUTION)) {
+                interceptors.get(i).afterExecution(context, executionAttributes);
+            }
+        }
     }
 
     public DefaultFailedExecutionContext modifyException(DefaultFailedExecutionContext context,
                                                          ExecutionAttributes executionAttributes) {
+        if (!anyHasHook(MODIFY_EXCEPTION)) {
+            return context;
+        }
+
         DefaultFailedExecutionContext result = context;
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            Throwable interceptorResult = interceptors.get(i).modifyException(result, executionAttributes);
-            validateInterceptorResult(result.exception(), interceptorResult, interceptors.get(i), "modifyException");
-            result = result.copy(b -> b.exception(interceptorResult));
+        for (int i = interceptorHooks.length - 1; i >= 0; i--) {
+            if (!hasHook(i, MODIFY_EXCEPTION)) {
+                continue;
+            }
+
+            ExecutionInterceptor interceptor = interceptors.get(i);
+            Throwable interceptorResult = interceptor.modifyException(result, executionAttributes);
+            validateInterceptorResult(result.exception(), interceptorResult, interceptor, "modifyException");
+
+            if (interceptorResult != result.exception()) {
+                result = result.copy(b -> b.exception(interceptorResult));
+            }
         }
 
         return result;
     }
 
     public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.onExecutionFailure(context, executionAttributes));
+        if (!anyHasHook(ON_EXECUTION_FAILURE)) {
+            return;
+        }
+
+        for (int i = 0; i < interceptorHooks.length; i++) {
+            if (hasHook(i, ON_EXECUTION_FAILURE)) {
+                interceptors.get(i).onExecutionFailure(context, executionAttributes);
+            }
+        }
+    }
+
+    /**
+     * Whether any interceptor in this chain implements any of the given hooks.
+     */
+    private boolean anyHasHook(int hooks) {
+        return (chainHooks & hooks) != 0;
+    }
+
+    /**
+     * Whether the interceptor at the given index implements any of the given hooks.
+     */
+    private boolean hasHook(int index, int hooks) {
+        return (interceptorHooks[index] & hooks) != 0;
     }
 
     /**
@@ -225,13 +433,4 @@ public class ExecutionInterceptorChain {
                               "Request interceptor '%s' returned '%s' from its %s method, but '%s' was expected.",
                               interceptor, newMessage.getClass(), methodName, originalMessage.getClass());
     }
-
-    /**
-     * Execute the provided action against the interceptors in this chain in the reverse order they are configured.
-     */
-    private void reverseForEach(Consumer<ExecutionInterceptor> action) {
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            action.accept(interceptors.get(i));
-        }
-    }
 }
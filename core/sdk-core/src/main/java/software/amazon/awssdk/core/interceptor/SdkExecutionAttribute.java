@@ -19,6 +19,7 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.ClientType;
 import software.amazon.awssdk.core.ServiceConfiguration;
 import software.amazon.awssdk.core.signer.Signer;
+import software.amazon.awssdk.http.RequestPriority;
 import software.amazon.awssdk.metrics.MetricCollector;
 
 /**
@@ -59,6 +60,13 @@ public class SdkExecutionAttribute {
      * generated from regional metadata.
      */
     public static final ExecutionAttribute<Boolean> ENDPOINT_OVERRIDDEN = new ExecutionAttribute<>("EndpointOverride");
+
+    /**
+     * The priority of the request when it has to wait for a connection from the async HTTP client. This can be set by an
+     * {@link ExecutionInterceptor} in {@link ExecutionInterceptor#beforeExecution} to keep a large volume of bulk requests
+     * from delaying latency-sensitive requests made with the same client. If not set, {@link RequestPriority#NORMAL} is used.
+     */
+    public static final ExecutionAttribute<RequestPriority> REQUEST_PRIORITY = new ExecutionAttribute<>("RequestPriority");
     
     protected SdkExecutionAttribute() {
     }
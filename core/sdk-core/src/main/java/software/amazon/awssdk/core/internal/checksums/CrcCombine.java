@@ -0,0 +1,98 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.checksums;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Combines the CRCs of two consecutive sequences of bytes into the CRC of their concatenation, without the bytes. This is the
+ * algorithm of zlib's {@code crc32_combine}, for any reflected 32-bit polynomial.
+ */
+@SdkInternalApi
+public final class CrcCombine {
+    private static final int GF2_DIM = 32;
+
+    private CrcCombine() {
+    }
+
+    /**
+     * Compute the CRC of the concatenation of two sequences of bytes.
+     *
+     * @param polynomial The reflected polynomial of the CRC.
+     * @param crc1 The CRC of the first sequence.
+     * @param crc2 The CRC of the second sequence.
+     * @param length2 The length of the second sequence.
+     */
+    public static long combine(long polynomial, long crc1, long crc2, long length2) {
+        if (length2 <= 0) {
+            return crc1;
+        }
+
+        long[] even = new long[GF2_DIM];
+        long[] odd = new long[GF2_DIM];
+
+        // The operator for one zero bit.
+        odd[0] = polynomial;
+        long row = 1;
+        for (int n = 1; n < GF2_DIM; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+
+        // The operators for two and four zero bits.
+        square(even, odd);
+        square(odd, even);
+
+        // Apply length2 zero bytes to crc1, squaring the operator for each bit of length2.
+        long remaining = length2;
+        long crc = crc1;
+        do {
+            square(even, odd);
+            if ((remaining & 1) != 0) {
+                crc = times(even, crc);
+            }
+            remaining >>= 1;
+            if (remaining == 0) {
+                break;
+            }
+
+            square(odd, even);
+            if ((remaining & 1) != 0) {
+                crc = times(odd, crc);
+            }
+            remaining >>= 1;
+        } while (remaining != 0);
+
+        return (crc ^ crc2) & 0xFFFFFFFFL;
+    }
+
+    private static long times(long[] matrix, long vector) {
+        long sum = 0;
+        long remaining = vector;
+        for (int i = 0; remaining != 0; i++, remaining >>>= 1) {
+            if ((remaining & 1) != 0) {
+                sum ^= matrix[i];
+            }
+        }
+        return sum;
+    }
+
+    private static void square(long[] square, long[] matrix) {
+        for (int n = 0; n < GF2_DIM; n++) {
+            square[n] = times(matrix, matrix[n]);
+        }
+    }
+}
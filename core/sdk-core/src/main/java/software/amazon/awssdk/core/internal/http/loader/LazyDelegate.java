@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.loader;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Creates an HTTP client once, either on the thread that first needs it or on a dedicated daemon thread started by
+ * {@link #initializeAsync()}, and closes it once it is created if it was closed in the meantime.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class LazyDelegate<T extends SdkAutoCloseable> {
+    private static final ThreadFactory THREAD_FACTORY = new ThreadFactoryBuilder().threadNamePrefix("sdk-lazy-http-client")
+                                                                                  .daemonThreads(true)
+                                                                                  .build();
+
+    private final Supplier<T> initializer;
+    private final AtomicReference<CompletableFuture<T>> delegate = new AtomicReference<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    LazyDelegate(Supplier<T> initializer) {
+        this.initializer = initializer;
+    }
+
+    /**
+     * Retrieve the client, creating it on the calling thread if its creation was not started yet, or waiting for it if it
+     * is being created.
+     */
+    T get() {
+        CompletableFuture<T> future = delegate.get();
+        if (future == null) {
+            CompletableFuture<T> newFuture = new CompletableFuture<>();
+            if (delegate.compareAndSet(null, newFuture)) {
+                initialize(newFuture);
+                future = newFuture;
+            } else {
+                future = delegate.get();
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Start creating the client on a dedicated daemon thread, unless its creation was already started.
+     */
+    void initializeAsync() {
+        if (delegate.get() != null) {
+            return;
+        }
+
+        CompletableFuture<T> newFuture = new CompletableFuture<>();
+        if (delegate.compareAndSet(null, newFuture)) {
+            THREAD_FACTORY.newThread(() -> initialize(newFuture)).start();
+        }
+    }
+
+    /**
+     * Close the client, as soon as it is created if it is being created. The client cannot be used or created afterwards.
+     */
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        CompletableFuture<T> closedFuture = new CompletableFuture<>();
+        closedFuture.completeExceptionally(new IllegalStateException("The HTTP client was closed."));
+        if (!delegate.compareAndSet(null, closedFuture)) {
+            delegate.get().thenAccept(SdkAutoCloseable::close);
+        }
+    }
+
+    private void initialize(CompletableFuture<T> future) {
+        try {
+            future.complete(initializer.get());
+        } catch (RuntimeException | Error e) {
+            // Allow the creation to be retried by the next caller, unless the client was closed in the meantime
+            if (!closed.get()) {
+                delegate.compareAndSet(future, null);
+            }
+            future.completeExceptionally(e);
+        }
+    }
+}
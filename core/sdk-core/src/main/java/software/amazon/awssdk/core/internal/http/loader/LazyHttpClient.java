@@ -0,0 +1,30 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.loader;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * An HTTP client that is created on first use.
+ */
+@SdkInternalApi
+public interface LazyHttpClient {
+    /**
+     * Start creating the HTTP client on a dedicated thread if its creation was not started yet, so that it is ready by the
+     * time it is first used.
+     */
+    void initializeAsync();
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.loader;
+
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An {@link SdkHttpClient} that is only created when it is first used. Used when lazy initialization is enabled, so that
+ * loading and configuring the HTTP implementation is not part of the cost of building a client.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class LazySdkHttpClient implements SdkHttpClient, LazyHttpClient {
+    private final LazyDelegate<SdkHttpClient> delegate;
+
+    public LazySdkHttpClient(Supplier<SdkHttpClient> initializer) {
+        this.delegate = new LazyDelegate<>(Validate.paramNotNull(initializer, "initializer"));
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        return delegate.get().prepareRequest(request);
+    }
+
+    @Override
+    public String clientName() {
+        return delegate.get().clientName();
+    }
+
+    @Override
+    public void initializeAsync() {
+        delegate.initializeAsync();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
+import static software.amazon.awssdk.core.interceptor.SdkExecutionAttribute.REQUEST_PRIORITY;
 import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolveTimeoutInMillis;
 import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
 
@@ -186,6 +187,9 @@ public final class MakeAsyncHttpRequestStage<OutputT>
                                                                 .responseHandler(wrappedResponseHandler)
                                                                 .fullDuplex(isFullDuplex(context.executionAttributes()))
                                                                 .metricCollector(httpMetricCollector)
+                                                                .priority(context.executionAttributes()
+                                                                                 .getAttribute(REQUEST_PRIORITY))
+                                                                .remainingTimeout(remainingApiCallTime(context))
                                                                 .build();
 
         CompletableFuture<Void> httpClientFuture = doExecuteHttpRequest(context, executeRequest);
@@ -235,6 +239,11 @@ public final class MakeAsyncHttpRequestStage<OutputT>
                executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX);
     }
 
+    private Duration remainingApiCallTime(RequestExecutionContext context) {
+        TimeoutTracker apiCallTimeoutTracker = context.apiCallTimeoutTracker();
+        return apiCallTimeoutTracker == null ? null : apiCallTimeoutTracker.remainingTime().orElse(null);
+    }
+
     private SdkHttpFullRequest getRequestWithContentLength(SdkHttpFullRequest request, SdkHttpContentPublisher requestProvider) {
         if (shouldSetContentLength(request, requestProvider)) {
             return request.toBuilder()
@@ -15,7 +15,10 @@
 
 package software.amazon.awssdk.core.internal.http.timers;
 
+import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Abortable;
 import software.amazon.awssdk.utils.Validate;
@@ -53,6 +56,11 @@ public final class ApiCallTimeoutTracker implements TimeoutTracker {
         timeoutTask.cancel();
     }
 
+    @Override
+    public Optional<Duration> remainingTime() {
+        return Optional.of(Duration.ofNanos(Math.max(0, future.getDelay(TimeUnit.NANOSECONDS))));
+    }
+
     @Override
     public void abortable(Abortable abortable) {
         timeoutTask.abortable(abortable);
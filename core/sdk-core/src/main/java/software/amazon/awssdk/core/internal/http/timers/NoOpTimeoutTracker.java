@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.core.internal.http.timers;
 
+import java.time.Duration;
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Abortable;
 
@@ -44,6 +46,11 @@ public final class NoOpTimeoutTracker implements TimeoutTracker {
 
     }
 
+    @Override
+    public Optional<Duration> remainingTime() {
+        return Optional.empty();
+    }
+
     @Override
     public void abortable(Abortable abortable) {
 
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.core.internal.http.timers;
 
+import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.ScheduledFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Abortable;
@@ -42,6 +44,11 @@ public interface TimeoutTracker {
      */
     void cancel();
 
+    /**
+     * @return The amount of time remaining before the timeout task is executed, or empty if the timeout is disabled.
+     */
+    Optional<Duration> remainingTime();
+
     /**
      * Sets the abortable task to be aborted by {@link TimeoutTask}
      *
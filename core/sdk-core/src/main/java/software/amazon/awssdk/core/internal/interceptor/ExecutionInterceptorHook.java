@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.interceptor;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+/**
+ * The methods of {@link ExecutionInterceptor}, used to detect which of them an interceptor implements, so that the interceptor
+ * chain does not need to call the default implementations, which do nothing.
+ */
+@SdkInternalApi
+public enum ExecutionInterceptorHook {
+    BEFORE_EXECUTION("beforeExecution", Context.BeforeExecution.class),
+    MODIFY_REQUEST("modifyRequest", Context.ModifyRequest.class),
+    BEFORE_MARSHALLING("beforeMarshalling", Context.BeforeMarshalling.class),
+    AFTER_MARSHALLING("afterMarshalling", Context.AfterMarshalling.class),
+    MODIFY_HTTP_REQUEST("modifyHttpRequest", Context.ModifyHttpRequest.class),
+    MODIFY_HTTP_CONTENT("modifyHttpContent", Context.ModifyHttpRequest.class),
+    MODIFY_ASYNC_HTTP_CONTENT("modifyAsyncHttpContent", Context.ModifyHttpRequest.class),
+    BEFORE_TRANSMISSION("beforeTransmission", Context.BeforeTransmission.class),
+    AFTER_TRANSMISSION("afterTransmission", Context.AfterTransmission.class),
+    MODIFY_HTTP_RESPONSE("modifyHttpResponse", Context.ModifyHttpResponse.class),
+    MODIFY_HTTP_RESPONSE_CONTENT("modifyHttpResponseContent", Context.ModifyHttpResponse.class),
+    MODIFY_ASYNC_HTTP_RESPONSE_CONTENT("modifyAsyncHttpResponseContent", Context.ModifyHttpResponse.class),
+    BEFORE_UNMARSHALLING("beforeUnmarshalling", Context.BeforeUnmarshalling.class),
+    AFTER_UNMARSHALLING("afterUnmarshalling", Context.AfterUnmarshalling.class),
+    MODIFY_RESPONSE("modifyResponse", Context.ModifyResponse.class),
+    AFTER_EXECUTION("afterExecution", Context.AfterExecution.class),
+    MODIFY_EXCEPTION("modifyException", Context.FailedExecution.class),
+    ON_EXECUTION_FAILURE("onExecutionFailure", Context.FailedExecution.class);
+
+    private static final ClassValue<Integer> IMPLEMENTED_HOOKS = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            int hooks = 0;
+            for (ExecutionInterceptorHook hook : values()) {
+                if (hook.isImplementedBy(type)) {
+                    hooks |= hook.mask();
+                }
+            }
+            return hooks;
+        }
+    };
+
+    private final String methodName;
+    private final Class<?> contextType;
+
+    ExecutionInterceptorHook(String methodName, Class<?> contextType) {
+        this.methodName = methodName;
+        this.contextType = contextType;
+    }
+
+    /**
+     * @return The bit representing this hook in the masks returned by {@link #implementedHooks(ExecutionInterceptor)}.
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Determine which hooks the given interceptor implements, as a bit mask of {@link #mask()}s. The result is computed once
+     * per interceptor class.
+     */
+    public static int implementedHooks(ExecutionInterceptor interceptor) {
+        return IMPLEMENTED_HOOKS.get(interceptor.getClass());
+    }
+
+    private boolean isImplementedBy(Class<?> type) {
+        try {
+            return type.getMethod(methodName, contextType, ExecutionAttributes.class).getDeclaringClass()
+                   != ExecutionInterceptor.class;
+        } catch (NoSuchMethodException | SecurityException e) {
+            // Assume the hook is implemented, so that it is always called
+            return true;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.interceptor;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.internal.http.loader.LazyHttpClient;
+
+/**
+ * Starts creating a lazily initialized HTTP client when a request starts executing, so that it is created in parallel with
+ * the work that precedes sending the request, like resolving credentials, marshalling and signing.
+ */
+@SdkInternalApi
+public final class LazyInitializationInterceptor implements ExecutionInterceptor {
+    private final LazyHttpClient httpClient;
+
+    public LazyInitializationInterceptor(LazyHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        httpClient.initializeAsync();
+    }
+}
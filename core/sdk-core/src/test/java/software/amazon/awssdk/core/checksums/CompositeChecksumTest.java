@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class CompositeChecksumTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void calculate_matchesChecksumOfPartChecksums() throws Exception {
+        byte[] data = new byte[250_000];
+        new Random(3).nextBytes(data);
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, data);
+
+        CompositeChecksum composite = CompositeChecksum.calculate(file, 100_000, Algorithm.CRC32C, executor)
+                                                       .get(10, TimeUnit.SECONDS);
+
+        List<byte[]> parts = new ArrayList<>();
+        parts.add(checksum(Algorithm.CRC32C, Arrays.copyOfRange(data, 0, 100_000)));
+        parts.add(checksum(Algorithm.CRC32C, Arrays.copyOfRange(data, 100_000, 200_000)));
+        parts.add(checksum(Algorithm.CRC32C, Arrays.copyOfRange(data, 200_000, 250_000)));
+
+        SdkChecksum expected = SdkChecksum.forAlgorithm(Algorithm.CRC32C);
+        parts.forEach(p -> expected.update(p, 0, p.length));
+
+        assertThat(composite.partCount()).isEqualTo(3);
+        assertThat(composite.partChecksums()).containsExactly(BinaryUtils.toBase64(parts.get(0)),
+                                                              BinaryUtils.toBase64(parts.get(1)),
+                                                              BinaryUtils.toBase64(parts.get(2)));
+        assertThat(composite.checksum()).isEqualTo(BinaryUtils.toBase64(expected.getChecksumBytes()) + "-3");
+        assertThat(CompositeChecksum.create(Algorithm.CRC32C, parts).checksum()).isEqualTo(composite.checksum());
+    }
+
+    @Test
+    public void calculate_emptyFileHasOnePart() throws Exception {
+        Path file = temporaryFolder.newFile().toPath();
+
+        CompositeChecksum composite = CompositeChecksum.calculate(file, 100, Algorithm.SHA256, executor)
+                                                       .get(10, TimeUnit.SECONDS);
+
+        assertThat(composite.partCount()).isEqualTo(1);
+        assertThat(composite.partChecksums()).containsExactly(BinaryUtils.toBase64(checksum(Algorithm.SHA256, new byte[0])));
+    }
+
+    @Test
+    public void calculate_missingFileFails() {
+        Path file = temporaryFolder.getRoot().toPath().resolve("missing");
+
+        assertThat(CompositeChecksum.calculate(file, 100, Algorithm.SHA1, executor)).isCompletedExceptionally();
+    }
+
+    @Test
+    public void create_rejectsPartChecksumsOfAnotherAlgorithm() {
+        assertThatThrownBy(() -> CompositeChecksum.create(Algorithm.SHA1, Arrays.asList(new byte[4])))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] checksum(Algorithm algorithm, byte[] data) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        checksum.update(data, 0, data.length);
+        return checksum.getChecksumBytes();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.CRC32;
+import org.junit.Test;
+import software.amazon.awssdk.core.internal.checksums.CrcCombine;
+import software.amazon.awssdk.core.internal.checksums.SdkCrc32C;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class SdkChecksumTest {
+    private static final byte[] CHECK_INPUT = "123456789".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ABC = "abc".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    public void crc32_computesStandardCheckValue() {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(Algorithm.CRC32);
+        checksum.update(CHECK_INPUT, 0, CHECK_INPUT.length);
+
+        assertThat(checksum.getValue()).isEqualTo(0xCBF43926L);
+        assertThat(BinaryUtils.toHex(checksum.getChecksumBytes())).isEqualTo("cbf43926");
+    }
+
+    @Test
+    public void crc32c_computesStandardCheckValue() {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(Algorithm.CRC32C);
+        checksum.update(CHECK_INPUT, 0, CHECK_INPUT.length);
+
+        assertThat(checksum.getValue()).isEqualTo(0xE3069283L);
+        assertThat(BinaryUtils.toHex(checksum.getChecksumBytes())).isEqualTo("e3069283");
+    }
+
+    @Test
+    public void sdkCrc32c_computesStandardCheckValue() {
+        SdkCrc32C crc = new SdkCrc32C();
+        for (byte b : CHECK_INPUT) {
+            crc.update(b);
+        }
+
+        assertThat(crc.getValue()).isEqualTo(0xE3069283L);
+    }
+
+    @Test
+    public void sdkCrc32c_bulkUpdateMatchesSingleByteUpdates() {
+        byte[] data = new byte[1027];
+        new Random(7).nextBytes(data);
+
+        SdkCrc32C bulk = new SdkCrc32C();
+        bulk.update(data, 3, data.length - 3);
+        SdkCrc32C single = new SdkCrc32C();
+        for (int i = 3; i < data.length; i++) {
+            single.update(data[i]);
+        }
+
+        assertThat(bulk.getValue()).isEqualTo(single.getValue());
+    }
+
+    @Test
+    public void digests_computeStandardValues() {
+        assertThat(digestHex(Algorithm.SHA1)).isEqualTo("a9993e364706816aba3e25717850c26c9cd0d89d");
+        assertThat(digestHex(Algorithm.SHA256))
+            .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+        assertThat(digestHex(Algorithm.MD5)).isEqualTo("900150983cd24fb0d6963f7d28e17f72");
+    }
+
+    @Test
+    public void crcResetAfterMark_restartsFromTheMark() {
+        for (Algorithm algorithm : new Algorithm[] {Algorithm.CRC32, Algorithm.CRC32C}) {
+            SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+            checksum.update(CHECK_INPUT, 0, 4);
+            checksum.mark(100);
+            checksum.update(ABC, 0, ABC.length);
+            checksum.reset();
+            checksum.update(CHECK_INPUT, 4, CHECK_INPUT.length - 4);
+
+            SdkChecksum expected = SdkChecksum.forAlgorithm(algorithm);
+            expected.update(CHECK_INPUT, 0, CHECK_INPUT.length);
+            assertThat(checksum.getValue()).as(algorithm.toString()).isEqualTo(expected.getValue());
+        }
+    }
+
+    @Test
+    public void crcResetWithoutMark_restartsFromTheBeginning() {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(Algorithm.CRC32C);
+        checksum.update(ABC, 0, ABC.length);
+        checksum.reset();
+        checksum.update(CHECK_INPUT, 0, CHECK_INPUT.length);
+
+        assertThat(checksum.getValue()).isEqualTo(0xE3069283L);
+    }
+
+    @Test
+    public void crcCombine_matchesCrcOfConcatenation() {
+        Random random = new Random(42);
+        byte[] data = new byte[100_000];
+        random.nextBytes(data);
+
+        for (int split : new int[] {0, 1, 17, 65_536, data.length}) {
+            CRC32 first = new CRC32();
+            first.update(data, 0, split);
+            CRC32 second = new CRC32();
+            second.update(data, split, data.length - split);
+            CRC32 whole = new CRC32();
+            whole.update(data, 0, data.length);
+
+            assertThat(CrcCombine.combine(0xEDB88320L, first.getValue(), second.getValue(), data.length - split))
+                .isEqualTo(whole.getValue());
+        }
+    }
+
+    @Test
+    public void algorithm_fromValueIgnoresCase() {
+        assertThat(Algorithm.fromValue("crc32c")).isEqualTo(Algorithm.CRC32C);
+        assertThat(Algorithm.fromValue("SHA256")).isEqualTo(Algorithm.SHA256);
+        assertThat(Algorithm.fromValue("unknown")).isNull();
+        assertThat(Algorithm.SHA256.base64EncodedLength()).isEqualTo(44);
+        assertThat(Algorithm.CRC32C.base64EncodedLength()).isEqualTo(8);
+    }
+
+    private static String digestHex(Algorithm algorithm) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        checksum.update(ABC, 0, ABC.length);
+        return BinaryUtils.toHex(checksum.getChecksumBytes());
+    }
+}
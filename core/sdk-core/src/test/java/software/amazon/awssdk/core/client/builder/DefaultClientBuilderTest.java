@@ -21,6 +21,7 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.SIGNER;
@@ -43,9 +44,16 @@ import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.internal.http.loader.LazySdkAsyncHttpClient;
+import software.amazon.awssdk.core.internal.http.loader.LazySdkHttpClient;
+import software.amazon.awssdk.core.internal.interceptor.LazyInitializationInterceptor;
 import software.amazon.awssdk.core.signer.NoOpSigner;
+import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.utils.AttributeMap;
 
@@ -160,6 +168,58 @@ public class DefaultClientBuilderTest {
         verify(defaultAsyncHttpClientFactory, never()).buildWithDefaults(any());
     }
 
+    @Test
+    public void lazyInitialization_DefaultHttpClientIsCreatedOnFirstUse() {
+        TestClient client = testClientBuilder().overrideConfiguration(lazyInitialization()).build();
+        verify(defaultHttpClientFactory, never()).buildWithDefaults(any());
+
+        SdkHttpClient httpClient = client.clientConfiguration.option(SdkClientOption.SYNC_HTTP_CLIENT);
+        assertThat(httpClient).isInstanceOf(LazySdkHttpClient.class);
+        httpClient.prepareRequest(HttpExecuteRequest.builder().build());
+        httpClient.prepareRequest(HttpExecuteRequest.builder().build());
+        verify(defaultHttpClientFactory, times(1)).buildWithDefaults(any());
+    }
+
+    @Test
+    public void lazyInitialization_DefaultAsyncHttpClientIsCreatedOnFirstUse() {
+        TestAsyncClient client = testAsyncClientBuilder().overrideConfiguration(lazyInitialization()).build();
+        verify(defaultAsyncHttpClientFactory, never()).buildWithDefaults(any());
+
+        SdkAsyncHttpClient httpClient = client.clientConfiguration.option(SdkClientOption.ASYNC_HTTP_CLIENT);
+        assertThat(httpClient).isInstanceOf(LazySdkAsyncHttpClient.class);
+        httpClient.execute(AsyncExecuteRequest.builder().build());
+        verify(defaultAsyncHttpClientFactory, times(1)).buildWithDefaults(any());
+    }
+
+    @Test
+    public void lazyInitialization_HttpClientIsCreatedWhenExecutionStarts() {
+        TestClient client = testClientBuilder().overrideConfiguration(lazyInitialization()).build();
+
+        ExecutionInterceptor first = client.clientConfiguration.option(SdkClientOption.EXECUTION_INTERCEPTORS).get(0);
+        assertThat(first).isInstanceOf(LazyInitializationInterceptor.class);
+        first.beforeExecution(null, new ExecutionAttributes());
+
+        verify(defaultHttpClientFactory, timeout(5_000).times(1)).buildWithDefaults(any());
+    }
+
+    @Test
+    public void lazyInitialization_ExplicitClientProvided_ClientIsNotWrapped() {
+        TestClient client = testClientBuilder().overrideConfiguration(lazyInitialization())
+                                               .httpClient(mock(SdkHttpClient.class))
+                                               .build();
+        assertThat(client.clientConfiguration.option(SdkClientOption.SYNC_HTTP_CLIENT))
+                .isInstanceOf(SdkDefaultClientBuilder.NonManagedSdkHttpClient.class);
+        assertThat(client.clientConfiguration.option(SdkClientOption.EXECUTION_INTERCEPTORS)
+                         .stream()
+                         .anyMatch(i -> i instanceof LazyInitializationInterceptor)).isFalse();
+    }
+
+    private static ClientOverrideConfiguration lazyInitialization() {
+        return ClientOverrideConfiguration.builder()
+                                          .putAdvancedOption(SdkAdvancedClientOption.LAZY_INITIALIZATION, true)
+                                          .build();
+    }
+
     @Test
     public void clientBuilderFieldsHaveBeanEquivalents() throws Exception {
         SdkClientBuilder<TestClientBuilder, TestClient> builder = testClientBuilder();
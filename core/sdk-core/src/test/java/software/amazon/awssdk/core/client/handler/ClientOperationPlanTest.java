@@ -0,0 +1,92 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.runtime.transform.Marshaller;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClientOperationPlanTest {
+    @Mock
+    private Marshaller<SdkRequest> marshaller;
+
+    @Mock
+    private HttpResponseHandler<SdkResponse> responseHandler;
+
+    @Mock
+    private HttpResponseHandler<SdkServiceException> errorResponseHandler;
+
+    @Mock
+    private HttpResponseHandler<Response<SdkResponse>> combinedResponseHandler;
+
+    @Test
+    public void newExecutionParams_separateHandlers_populatesSharedParts() {
+        ClientOperationPlan<SdkRequest, SdkResponse> plan =
+            ClientOperationPlan.<SdkRequest, SdkResponse>builder()
+                               .operationName("Operation")
+                               .marshaller(marshaller)
+                               .responseHandler(responseHandler)
+                               .errorResponseHandler(errorResponseHandler)
+                               .build();
+
+        ClientExecutionParams<SdkRequest, SdkResponse> params = plan.newExecutionParams();
+
+        assertThat(params.getOperationName()).isEqualTo("Operation");
+        assertThat(params.getMarshaller()).isSameAs(marshaller);
+        assertThat(params.getResponseHandler()).isSameAs(responseHandler);
+        assertThat(params.getErrorResponseHandler()).isSameAs(errorResponseHandler);
+        assertThat(params.getCombinedResponseHandler()).isNull();
+        assertThat(params.getInput()).isNull();
+    }
+
+    @Test
+    public void newExecutionParams_combinedHandler_doesNotSetSeparateHandlers() {
+        ClientOperationPlan<SdkRequest, SdkResponse> plan =
+            ClientOperationPlan.<SdkRequest, SdkResponse>builder()
+                               .operationName("Operation")
+                               .marshaller(marshaller)
+                               .combinedResponseHandler(combinedResponseHandler)
+                               .build();
+
+        ClientExecutionParams<SdkRequest, SdkResponse> params = plan.newExecutionParams();
+
+        assertThat(params.getCombinedResponseHandler()).isSameAs(combinedResponseHandler);
+        assertThat(params.getResponseHandler()).isNull();
+        assertThat(params.getErrorResponseHandler()).isNull();
+    }
+
+    @Test
+    public void newExecutionParams_returnsNewInstanceEachCall() {
+        ClientOperationPlan<SdkRequest, SdkResponse> plan =
+            ClientOperationPlan.<SdkRequest, SdkResponse>builder()
+                               .operationName("Operation")
+                               .marshaller(marshaller)
+                               .combinedResponseHandler(combinedResponseHandler)
+                               .build();
+
+        assertThat(plan.newExecutionParams()).isNotSameAs(plan.newExecutionParams());
+    }
+}
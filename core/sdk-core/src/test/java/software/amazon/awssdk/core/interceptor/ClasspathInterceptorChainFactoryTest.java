@@ -0,0 +1,67 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+public class ClasspathInterceptorChainFactoryTest {
+    private static final String INTERCEPTORS_RESOURCE = "software/amazon/awssdk/core/interceptor/test.execution.interceptors";
+    private static final String INVALID_INTERCEPTORS_RESOURCE =
+        "software/amazon/awssdk/core/interceptor/invalid.execution.interceptors";
+
+    @Test
+    public void getInterceptors_LoadsInterceptorsListedInResource() {
+        List<ExecutionInterceptor> interceptors = new ClasspathInterceptorChainFactory().getInterceptors(INTERCEPTORS_RESOURCE);
+
+        assertThat(interceptors).hasSize(2);
+        assertThat(interceptors).hasAtLeastOneElementOfType(FirstInterceptor.class);
+        assertThat(interceptors).hasAtLeastOneElementOfType(SecondInterceptor.class);
+    }
+
+    @Test
+    public void getInterceptors_CalledAgain_CreatesNewInterceptorInstances() {
+        List<ExecutionInterceptor> first = new ClasspathInterceptorChainFactory().getInterceptors(INTERCEPTORS_RESOURCE);
+        List<ExecutionInterceptor> second = new ClasspathInterceptorChainFactory().getInterceptors(INTERCEPTORS_RESOURCE);
+
+        assertThat(second).hasSameSizeAs(first);
+        assertThat(second).doesNotContainAnyElementsOf(first);
+    }
+
+    @Test
+    public void getInterceptors_ResourceDoesNotExist_ReturnsEmptyList() {
+        assertThat(new ClasspathInterceptorChainFactory().getInterceptors("does/not/exist.execution.interceptors")).isEmpty();
+    }
+
+    @Test
+    public void getInterceptors_InterceptorClassDoesNotExist_ThrowsEveryTime() {
+        ClasspathInterceptorChainFactory factory = new ClasspathInterceptorChainFactory();
+
+        assertThatThrownBy(() -> factory.getInterceptors(INVALID_INTERCEPTORS_RESOURCE)).isInstanceOf(SdkClientException.class);
+        assertThatThrownBy(() -> factory.getInterceptors(INVALID_INTERCEPTORS_RESOURCE)).isInstanceOf(SdkClientException.class);
+    }
+
+    public static class FirstInterceptor implements ExecutionInterceptor {
+    }
+
+    public static class SecondInterceptor implements ExecutionInterceptor {
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class ExecutionAttributesTest {
+    private static final ExecutionAttribute<String> ATTRIBUTE = new ExecutionAttribute<>("Attribute");
+    private static final ExecutionAttribute<String> OTHER_ATTRIBUTE = new ExecutionAttribute<>("OtherAttribute");
+
+    @Test
+    public void getAttribute_NotSet_ReturnsNull() {
+        assertThat(new ExecutionAttributes().getAttribute(ATTRIBUTE)).isNull();
+    }
+
+    @Test
+    public void putAttribute_ReplacesValueOfSameAttributeOnly() {
+        ExecutionAttributes attributes = new ExecutionAttributes().putAttribute(ATTRIBUTE, "value")
+                                                                  .putAttribute(OTHER_ATTRIBUTE, "other");
+        attributes.putAttribute(ATTRIBUTE, "newValue");
+
+        assertThat(attributes.getAttribute(ATTRIBUTE)).isEqualTo("newValue");
+        assertThat(attributes.getAttribute(OTHER_ATTRIBUTE)).isEqualTo("other");
+    }
+
+    @Test
+    public void putAttributeIfAbsent_OnlySetsMissingOrNullValues() {
+        ExecutionAttributes attributes = new ExecutionAttributes().putAttribute(ATTRIBUTE, "value")
+                                                                  .putAttribute(OTHER_ATTRIBUTE, null);
+
+        attributes.putAttributeIfAbsent(ATTRIBUTE, "newValue")
+                  .putAttributeIfAbsent(OTHER_ATTRIBUTE, "other");
+
+        assertThat(attributes.getAttribute(ATTRIBUTE)).isEqualTo("value");
+        assertThat(attributes.getAttribute(OTHER_ATTRIBUTE)).isEqualTo("other");
+    }
+
+    @Test
+    public void putAttribute_AttributeCreatedAfterFirstPut_IsStored() {
+        ExecutionAttributes attributes = new ExecutionAttributes().putAttribute(ATTRIBUTE, "value");
+        ExecutionAttribute<String> newAttribute = new ExecutionAttribute<>("NewAttribute");
+
+        attributes.putAttribute(newAttribute, "newValue");
+
+        assertThat(attributes.getAttribute(ATTRIBUTE)).isEqualTo("value");
+        assertThat(attributes.getAttribute(newAttribute)).isEqualTo("newValue");
+    }
+
+    @Test
+    public void putAttribute_ManyAttributes_AllAreStored() {
+        List<ExecutionAttribute<Integer>> manyAttributes = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            manyAttributes.add(new ExecutionAttribute<>("Attribute" + i));
+        }
+
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        for (int i = 0; i < manyAttributes.size(); i++) {
+            attributes.putAttribute(manyAttributes.get(i), i);
+        }
+
+        for (int i = 0; i < manyAttributes.size(); i++) {
+            assertThat(attributes.getAttribute(manyAttributes.get(i))).isEqualTo(i);
+        }
+        assertThat(attributes.getAttribute(ATTRIBUTE)).isNull();
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.internal.interceptor.ExecutionInterceptorHook;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import utils.ValidSdkObjects;
+
+public class ExecutionInterceptorChainTest {
+    private final ExecutionAttributes executionAttributes = new ExecutionAttributes();
+
+    @Test
+    public void implementedHooks_OnlyContainsOverriddenMethods() {
+        assertThat(ExecutionInterceptorHook.implementedHooks(new ExecutionInterceptor() {
+        })).isZero();
+
+        assertThat(ExecutionInterceptorHook.implementedHooks(new RequestReplacingInterceptor(null)))
+            .isEqualTo(ExecutionInterceptorHook.MODIFY_REQUEST.mask());
+
+        assertThat(ExecutionInterceptorHook.implementedHooks(new SubclassedInterceptor(null)))
+            .isEqualTo(ExecutionInterceptorHook.MODIFY_REQUEST.mask() | ExecutionInterceptorHook.AFTER_EXECUTION.mask());
+    }
+
+    @Test
+    public void implementedHooks_MockedInterceptor_ContainsAllMethods() {
+        int allHooks = 0;
+        for (ExecutionInterceptorHook hook : ExecutionInterceptorHook.values()) {
+            allHooks |= hook.mask();
+        }
+
+        assertThat(ExecutionInterceptorHook.implementedHooks(mock(ExecutionInterceptor.class))).isEqualTo(allHooks);
+    }
+
+    @Test
+    public void modifyRequest_NoInterceptorModifiesRequest_ReturnsSameContext() {
+        InterceptorContext context = InterceptorContext.builder().request(ValidSdkObjects.sdkRequest()).build();
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new RequestReplacingInterceptor(null),
+                                                                                      new ExecutionInterceptor() {
+                                                                                      }));
+
+        assertThat(chain.modifyRequest(context, executionAttributes)).isSameAs(context);
+    }
+
+    @Test
+    public void modifyRequest_InterceptorReturnsNewRequest_ContextContainsNewRequest() {
+        SdkRequest newRequest = ValidSdkObjects.sdkRequest();
+        InterceptorContext context = InterceptorContext.builder().request(ValidSdkObjects.sdkRequest()).build();
+        ExecutionInterceptorChain chain =
+            new ExecutionInterceptorChain(Collections.singletonList(new RequestReplacingInterceptor(newRequest)));
+
+        assertThat(chain.modifyRequest(context, executionAttributes).request()).isSameAs(newRequest);
+    }
+
+    @Test
+    public void modifyHttpRequestAndHttpContent_InterceptorOnlyModifiesContent_KeepsHttpRequest() {
+        SdkHttpFullRequest httpRequest = ValidSdkObjects.sdkHttpFullRequest().build();
+        RequestBody requestBody = RequestBody.fromString("content");
+        InterceptorContext context = InterceptorContext.builder()
+                                                       .request(ValidSdkObjects.sdkRequest())
+                                                       .httpRequest(httpRequest)
+                                                       .build();
+        ExecutionInterceptor contentInterceptor = new ExecutionInterceptor() {
+            @Override
+            public Optional<RequestBody> modifyHttpContent(Context.ModifyHttpRequest context,
+                                                           ExecutionAttributes executionAttributes) {
+                return Optional.of(requestBody);
+            }
+        };
+
+        InterceptorContext result = new ExecutionInterceptorChain(Collections.singletonList(contentInterceptor))
+            .modifyHttpRequestAndHttpContent(context, executionAttributes);
+
+        assertThat(result.httpRequest()).isSameAs(httpRequest);
+        assertThat(result.requestBody()).contains(requestBody);
+    }
+
+    @Test
+    public void hooks_InterceptorsImplementingHook_AreCalledInOrder() {
+        List<String> calls = new ArrayList<>();
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new OrderRecordingInterceptor("a", calls),
+                                                                                      new ExecutionInterceptor() {
+                                                                                      },
+                                                                                      new OrderRecordingInterceptor("b", calls)));
+        InterceptorContext context = InterceptorContext.builder().request(ValidSdkObjects.sdkRequest()).build();
+
+        chain.beforeExecution(context, executionAttributes);
+        chain.afterExecution(context, executionAttributes);
+
+        assertThat(calls).containsExactly("a.beforeExecution", "b.beforeExecution", "b.afterExecution", "a.afterExecution");
+    }
+
+    @Test
+    public void hooks_MockedInterceptor_AllHooksAreCalled() {
+        ExecutionInterceptor interceptor = mock(ExecutionInterceptor.class);
+        InterceptorContext context = InterceptorContext.builder().request(ValidSdkObjects.sdkRequest()).build();
+        when(interceptor.modifyRequest(any(), any())).thenReturn(context.request());
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Collections.singletonList(interceptor));
+
+        chain.beforeExecution(context, executionAttributes);
+        chain.modifyRequest(context, executionAttributes);
+        chain.beforeMarshalling(context, executionAttributes);
+
+        verify(interceptor).beforeExecution(context, executionAttributes);
+        verify(interceptor).modifyRequest(context, executionAttributes);
+        verify(interceptor).beforeMarshalling(context, executionAttributes);
+    }
+
+    private static class RequestReplacingInterceptor implements ExecutionInterceptor {
+        private final SdkRequest newRequest;
+
+        private RequestReplacingInterceptor(SdkRequest newRequest) {
+            this.newRequest = newRequest;
+        }
+
+        @Override
+        public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+            return newRequest != null ? newRequest : context.request();
+        }
+    }
+
+    private static class SubclassedInterceptor extends RequestReplacingInterceptor {
+        private SubclassedInterceptor(SdkRequest newRequest) {
+            super(newRequest);
+        }
+
+        @Override
+        public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        }
+    }
+
+    private static class OrderRecordingInterceptor implements ExecutionInterceptor {
+        private final String name;
+        private final List<String> calls;
+
+        private OrderRecordingInterceptor(String name, List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        @Override
+        public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+            calls.add(name + ".beforeExecution");
+        }
+
+        @Override
+        public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+            calls.add(name + ".afterExecution");
+        }
+    }
+}
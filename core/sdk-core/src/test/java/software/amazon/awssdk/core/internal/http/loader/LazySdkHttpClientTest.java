@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import software.amazon.awssdk.http.SdkHttpClient;
+
+public class LazySdkHttpClientTest {
+    private final SdkHttpClient delegate = mock(SdkHttpClient.class);
+    private final AtomicInteger creations = new AtomicInteger();
+
+    @Test
+    public void initializeAsync_CreatesTheClientOnce() {
+        LazySdkHttpClient client = new LazySdkHttpClient(this::create);
+
+        client.initializeAsync();
+        client.initializeAsync();
+        client.clientName();
+        client.initializeAsync();
+
+        assertThat(creations.get()).isEqualTo(1);
+        verify(delegate).clientName();
+    }
+
+    @Test
+    public void close_WhileTheClientIsBeingCreated_ClosesItOnceCreated() throws InterruptedException {
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        LazySdkHttpClient client = new LazySdkHttpClient(() -> {
+            creating.countDown();
+            await(closed);
+            return create();
+        });
+
+        client.initializeAsync();
+        assertThat(creating.await(5, TimeUnit.SECONDS)).isTrue();
+        client.close();
+        closed.countDown();
+
+        verify(delegate, timeout(5_000)).close();
+    }
+
+    @Test
+    public void close_BeforeTheClientIsCreated_PreventsCreatingIt() {
+        LazySdkHttpClient client = new LazySdkHttpClient(this::create);
+
+        client.close();
+        client.initializeAsync();
+
+        assertThatThrownBy(client::clientName).isInstanceOf(IllegalStateException.class);
+        assertThat(creations.get()).isZero();
+    }
+
+    @Test
+    public void failedCreation_IsRetriedOnNextUse() {
+        AtomicInteger attempts = new AtomicInteger();
+        LazySdkHttpClient client = new LazySdkHttpClient(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalArgumentException("Failed");
+            }
+            return create();
+        });
+
+        assertThatThrownBy(client::clientName).isInstanceOf(IllegalArgumentException.class);
+        client.clientName();
+
+        assertThat(creations.get()).isEqualTo(1);
+    }
+
+    private SdkHttpClient create() {
+        creations.incrementAndGet();
+        return delegate;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.CollectionUtils;
+
+/**
+ * The headers or query parameters of an HTTP message builder, stored so that they can be shared with the messages built from
+ * it and the builders created from those messages.
+ * <p>
+ * The map is only copied when it is modified after being shared, and the lists in it are never modified after they are added,
+ * so that copy does not need to copy the lists. Rebuilding a message with a few changed headers therefore costs at most one
+ * shallow copy of the map, instead of copying every header when the builder is created and again when it is built.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class CopyOnWriteListMap {
+    private final Supplier<Map<String, List<String>>> mapConstructor;
+    private Map<String, List<String>> map;
+    private Map<String, List<String>> view;
+    private boolean shared;
+
+    private CopyOnWriteListMap(Supplier<Map<String, List<String>>> mapConstructor, Map<String, List<String>> map,
+                               Map<String, List<String>> view, boolean shared) {
+        this.mapConstructor = mapConstructor;
+        this.map = map;
+        this.view = view;
+        this.shared = shared;
+    }
+
+    /**
+     * Create an empty set of headers, which are looked up case-insensitively.
+     */
+    static CopyOnWriteListMap emptyHeaders() {
+        return new CopyOnWriteListMap(CopyOnWriteListMap::newHeaderMap, newHeaderMap(), null, false);
+    }
+
+    /**
+     * Create a set of headers that shares the map returned by {@link #share()} and {@link #view()} on another set of headers.
+     */
+    static CopyOnWriteListMap sharedHeaders(Map<String, List<String>> sharedMap, Map<String, List<String>> sharedView) {
+        return new CopyOnWriteListMap(CopyOnWriteListMap::newHeaderMap, sharedMap, sharedView, true);
+    }
+
+    /**
+     * Create an empty set of query parameters, which keep the order they were added in.
+     */
+    static CopyOnWriteListMap emptyQueryParameters() {
+        return new CopyOnWriteListMap(LinkedHashMap::new, new LinkedHashMap<>(), null, false);
+    }
+
+    /**
+     * Create a set of query parameters that shares the map returned by {@link #share()} and {@link #view()} on another set of
+     * query parameters.
+     */
+    static CopyOnWriteListMap sharedQueryParameters(Map<String, List<String>> sharedMap, Map<String, List<String>> sharedView) {
+        return new CopyOnWriteListMap(LinkedHashMap::new, sharedMap, sharedView, true);
+    }
+
+    private static Map<String, List<String>> newHeaderMap() {
+        return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    }
+
+    /**
+     * Retrieve the current map so that it can be stored in a built message. The map must not be modified by the caller, and will
+     * be copied before this object modifies it again.
+     */
+    Map<String, List<String>> share() {
+        shared = true;
+        return map;
+    }
+
+    /**
+     * Retrieve an unmodifiable view of the current map. The same view is returned until the map is replaced.
+     */
+    Map<String, List<String>> view() {
+        if (view == null) {
+            view = CollectionUtils.unmodifiableMapOfLists(map);
+        }
+        return view;
+    }
+
+    /**
+     * Retrieve the first value of the given key, using the lookup of the underlying map.
+     */
+    Optional<String> firstValue(String key) {
+        return firstValue(map, key);
+    }
+
+    static Optional<String> firstValue(Map<String, List<String>> map, String key) {
+        List<String> values = map.get(key);
+        return values == null || values.isEmpty() ? Optional.empty() : Optional.ofNullable(values.get(0));
+    }
+
+    void put(String key, List<String> values) {
+        writableMap().put(key, new ArrayList<>(values));
+    }
+
+    void append(String key, String value) {
+        Map<String, List<String>> writableMap = writableMap();
+        List<String> currentValues = writableMap.getOrDefault(key, Collections.emptyList());
+        List<String> newValues = new ArrayList<>(currentValues.size() + 1);
+        newValues.addAll(currentValues);
+        newValues.add(value);
+        writableMap.put(key, newValues);
+    }
+
+    void remove(String key) {
+        writableMap().remove(key);
+    }
+
+    void clear() {
+        replaceMap(mapConstructor.get());
+    }
+
+    void replaceAll(Map<String, List<String>> newMap) {
+        replaceMap(CollectionUtils.deepCopyMap(newMap, mapConstructor));
+    }
+
+    private Map<String, List<String>> writableMap() {
+        if (shared) {
+            Map<String, List<String>> copy = mapConstructor.get();
+            copy.putAll(map);
+            replaceMap(copy);
+        }
+        return map;
+    }
+
+    private void replaceMap(Map<String, List<String>> newMap) {
+        map = newMap;
+        view = null;
+        shared = false;
+    }
+}
@@ -15,19 +15,12 @@
 
 package software.amazon.awssdk.http;
 
-import static software.amazon.awssdk.utils.CollectionUtils.deepCopyMap;
-import static software.amazon.awssdk.utils.CollectionUtils.deepUnmodifiableMap;
-
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.TreeMap;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
@@ -45,8 +38,10 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
     private final Integer port;
     private final String path;
     private final Map<String, List<String>> queryParameters;
+    private final Map<String, List<String>> queryParametersView;
     private final SdkHttpMethod httpMethod;
     private final Map<String, List<String>> headers;
+    private final Map<String, List<String>> headersView;
     private final ContentStreamProvider contentStreamProvider;
 
     private DefaultSdkHttpFullRequest(Builder builder) {
@@ -57,12 +52,11 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
         this.httpMethod = Validate.paramNotNull(builder.httpMethod, "method");
         this.contentStreamProvider = builder.contentStreamProvider;
 
-        this.queryParameters = builder.queryParametersAreFromToBuilder
-                               ? builder.queryParameters
-                               : deepUnmodifiableMap(builder.queryParameters, () -> new LinkedHashMap<>());
-        this.headers = builder.headersAreFromToBuilder
-                       ? builder.headers
-                       : deepUnmodifiableMap(builder.headers, () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        // The maps are shared with the builder, which copies them before modifying them again.
+        this.queryParameters = builder.queryParameters.share();
+        this.queryParametersView = builder.queryParameters.view();
+        this.headers = builder.headers.share();
+        this.headersView = builder.headers.view();
     }
 
     private String standardizeProtocol(String protocol) {
@@ -120,7 +114,12 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
     @Override
     public Map<String, List<String>> headers() {
-        return headers;
+        return headersView;
+    }
+
+    @Override
+    public Optional<String> firstMatchingHeader(String header) {
+        return CopyOnWriteListMap.firstValue(headers, header);
     }
 
     @Override
@@ -130,7 +129,7 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
     @Override
     public Map<String, List<String>> rawQueryParameters() {
-        return queryParameters;
+        return queryParametersView;
     }
 
     @Override
@@ -170,28 +169,22 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
         private Integer port;
         private String path;
 
-        private boolean queryParametersAreFromToBuilder;
-        private Map<String, List<String>> queryParameters;
+        private CopyOnWriteListMap queryParameters;
 
         private SdkHttpMethod httpMethod;
 
-        private boolean headersAreFromToBuilder;
-        private Map<String, List<String>> headers;
+        private CopyOnWriteListMap headers;
 
         private ContentStreamProvider contentStreamProvider;
 
         Builder() {
-            queryParameters = new LinkedHashMap<>();
-            queryParametersAreFromToBuilder = false;
-            headers = new LinkedHashMap<>();
-            headersAreFromToBuilder = false;
+            queryParameters = CopyOnWriteListMap.emptyQueryParameters();
+            headers = CopyOnWriteListMap.emptyHeaders();
         }
 
         Builder(DefaultSdkHttpFullRequest request) {
-            queryParameters = request.queryParameters;
-            queryParametersAreFromToBuilder = true;
-            headers = request.headers;
-            headersAreFromToBuilder = true;
+            queryParameters = CopyOnWriteListMap.sharedQueryParameters(request.queryParameters, request.queryParametersView);
+            headers = CopyOnWriteListMap.sharedHeaders(request.headers, request.headersView);
             protocol = request.protocol;
             host = request.host;
             port = request.port;
@@ -246,49 +239,37 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
         @Override
         public DefaultSdkHttpFullRequest.Builder putRawQueryParameter(String paramName, List<String> paramValues) {
-            copyQueryParamsIfNeeded();
-            this.queryParameters.put(paramName, new ArrayList<>(paramValues));
+            this.queryParameters.put(paramName, paramValues);
             return this;
         }
 
         @Override
         public SdkHttpFullRequest.Builder appendRawQueryParameter(String paramName, String paramValue) {
-            copyQueryParamsIfNeeded();
-            this.queryParameters.computeIfAbsent(paramName, k -> new ArrayList<>()).add(paramValue);
+            this.queryParameters.append(paramName, paramValue);
             return this;
         }
 
         @Override
         public DefaultSdkHttpFullRequest.Builder rawQueryParameters(Map<String, List<String>> queryParameters) {
-            this.queryParameters = CollectionUtils.deepCopyMap(queryParameters, () -> new LinkedHashMap<>());
-            queryParametersAreFromToBuilder = false;
+            this.queryParameters.replaceAll(queryParameters);
             return this;
         }
 
         @Override
         public Builder removeQueryParameter(String paramName) {
-            copyQueryParamsIfNeeded();
             this.queryParameters.remove(paramName);
             return this;
         }
 
         @Override
         public Builder clearQueryParameters() {
-            this.queryParameters = new LinkedHashMap<>();
-            queryParametersAreFromToBuilder = false;
+            this.queryParameters.clear();
             return this;
         }
 
-        private void copyQueryParamsIfNeeded() {
-            if (queryParametersAreFromToBuilder) {
-                queryParametersAreFromToBuilder = false;
-                this.queryParameters = deepCopyMap(queryParameters);
-            }
-        }
-
         @Override
         public Map<String, List<String>> rawQueryParameters() {
-            return CollectionUtils.unmodifiableMapOfLists(queryParameters);
+            return queryParameters.view();
         }
 
         @Override
@@ -304,49 +285,42 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
         @Override
         public DefaultSdkHttpFullRequest.Builder putHeader(String headerName, List<String> headerValues) {
-            copyHeadersIfNeeded();
-            this.headers.put(headerName, new ArrayList<>(headerValues));
+            this.headers.put(headerName, headerValues);
             return this;
         }
 
         @Override
         public SdkHttpFullRequest.Builder appendHeader(String headerName, String headerValue) {
-            copyHeadersIfNeeded();
-            this.headers.computeIfAbsent(headerName, k -> new ArrayList<>()).add(headerValue);
+            this.headers.append(headerName, headerValue);
             return this;
         }
 
         @Override
         public DefaultSdkHttpFullRequest.Builder headers(Map<String, List<String>> headers) {
-            this.headers = CollectionUtils.deepCopyMap(headers);
-            headersAreFromToBuilder = false;
+            this.headers.replaceAll(headers);
             return this;
         }
 
         @Override
         public SdkHttpFullRequest.Builder removeHeader(String headerName) {
-            copyHeadersIfNeeded();
             this.headers.remove(headerName);
             return this;
         }
 
         @Override
         public SdkHttpFullRequest.Builder clearHeaders() {
-            this.headers = new LinkedHashMap<>();
-            headersAreFromToBuilder = false;
+            this.headers.clear();
             return this;
         }
 
         @Override
         public Map<String, List<String>> headers() {
-            return CollectionUtils.unmodifiableMapOfLists(this.headers);
+            return headers.view();
         }
 
-        private void copyHeadersIfNeeded() {
-            if (headersAreFromToBuilder) {
-                headersAreFromToBuilder = false;
-                this.headers = deepCopyMap(headers);
-            }
+        @Override
+        public Optional<String> firstMatchingHeader(String header) {
+            return headers.firstValue(header);
         }
 
         @Override
@@ -96,6 +96,40 @@ public final class HttpMetric {
     public static final SdkMetric<Integer> PENDING_CONCURRENCY_ACQUIRES =
         metric("PendingConcurrencyAcquires", Integer.class, MetricLevel.INFO);
 
+    /**
+     * The number of {@link RequestPriority#HIGH} priority requests that are awaiting concurrency to be made available from the
+     * HTTP client. This is the subset of {@link #PENDING_CONCURRENCY_ACQUIRES} with this priority, and is only reported by
+     * HTTP clients that prioritize pending requests.
+     */
+    public static final SdkMetric<Integer> HIGH_PRIORITY_PENDING_CONCURRENCY_ACQUIRES =
+        metric("HighPriorityPendingConcurrencyAcquires", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of {@link RequestPriority#NORMAL} priority requests that are awaiting concurrency to be made available from
+     * the HTTP client. This is the subset of {@link #PENDING_CONCURRENCY_ACQUIRES} with this priority, and is only reported by
+     * HTTP clients that prioritize pending requests.
+     */
+    public static final SdkMetric<Integer> NORMAL_PRIORITY_PENDING_CONCURRENCY_ACQUIRES =
+        metric("NormalPriorityPendingConcurrencyAcquires", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of {@link RequestPriority#LOW} priority requests that are awaiting concurrency to be made available from the
+     * HTTP client. This is the subset of {@link #PENDING_CONCURRENCY_ACQUIRES} with this priority, and is only reported by
+     * HTTP clients that prioritize pending requests.
+     */
+    public static final SdkMetric<Integer> LOW_PRIORITY_PENDING_CONCURRENCY_ACQUIRES =
+        metric("LowPriorityPendingConcurrencyAcquires", Integer.class, MetricLevel.INFO);
+
+    /**
+     * Whether the TLS session of the connection established to serve the request was resumed from the HTTP client's TLS
+     * session cache (an abbreviated handshake) instead of being negotiated with a full handshake.
+     *
+     * <p>This is only reported for requests that caused a new TLS connection to be established. Requests that are served by
+     * an already established connection do not report this metric.
+     */
+    public static final SdkMetric<Boolean> TLS_SESSION_RESUMED =
+        metric("TlsSessionResumed", Boolean.class, MetricLevel.INFO);
+
     /**
      * The status code of the HTTP response.
      *
@@ -0,0 +1,43 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The priority of a request when it is waiting for concurrency to be made available from an HTTP client. HTTP clients that
+ * queue requests when all of their connections are in use may serve higher priority requests more often, so that a large
+ * volume of low priority requests cannot starve latency-sensitive requests that share the same client.
+ * <p>
+ * HTTP clients that do not queue requests are free to ignore the priority.
+ */
+@SdkPublicApi
+public enum RequestPriority {
+    /**
+     * Latency-sensitive requests that should be served ahead of other requests.
+     */
+    HIGH,
+
+    /**
+     * The priority of requests that do not specify one.
+     */
+    NORMAL,
+
+    /**
+     * Bulk or background requests that can tolerate waiting behind other requests.
+     */
+    LOW
+}
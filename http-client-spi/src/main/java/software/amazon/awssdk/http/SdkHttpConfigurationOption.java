@@ -111,6 +111,29 @@ public final class SdkHttpConfigurationOption<T> extends AttributeMap.Key<T> {
     public static final SdkHttpConfigurationOption<TlsTrustManagersProvider> TLS_TRUST_MANAGERS_PROVIDER =
         new SdkHttpConfigurationOption<>("TlsTrustManagersProvider", TlsTrustManagersProvider.class);
 
+    /**
+     * The maximum number of TLS sessions the HTTP client will cache so that new connections to a host can resume a previous
+     * session instead of performing a full handshake. Zero indicates no limit. If not set, the default of the TLS provider is
+     * used.
+     */
+    public static final SdkHttpConfigurationOption<Integer> TLS_SESSION_CACHE_SIZE =
+        new SdkHttpConfigurationOption<>("TlsSessionCacheSize", Integer.class);
+
+    /**
+     * The amount of time after which a cached TLS session can no longer be resumed. Zero indicates no limit. If not set, the
+     * default of the TLS provider is used.
+     */
+    public static final SdkHttpConfigurationOption<Duration> TLS_SESSION_TIMEOUT =
+        new SdkHttpConfigurationOption<>("TlsSessionTimeout", Duration.class);
+
+    /**
+     * Whether the HTTP client should adjust the number of concurrent connections it uses per host at runtime, based on
+     * observed latency, connection acquisition wait and throttling responses. When enabled, {@link #MAX_CONNECTIONS} is the
+     * upper bound of the adjusted limit.
+     */
+    public static final SdkHttpConfigurationOption<Boolean> ADAPTIVE_CONCURRENCY =
+        new SdkHttpConfigurationOption<>("AdaptiveConcurrency", Boolean.class);
+
     private static final Duration DEFAULT_SOCKET_READ_TIMEOUT = Duration.ofSeconds(30);
     private static final Duration DEFAULT_SOCKET_WRITE_TIMEOUT = Duration.ofSeconds(30);
     private static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofSeconds(2);
@@ -121,11 +144,14 @@ public final class SdkHttpConfigurationOption<T> extends AttributeMap.Key<T> {
     private static final int DEFAULT_MAX_CONNECTIONS = 50;
     private static final int DEFAULT_MAX_CONNECTION_ACQUIRES = 10_000;
     private static final Boolean DEFAULT_TRUST_ALL_CERTIFICATES = Boolean.FALSE;
+    private static final Boolean DEFAULT_ADAPTIVE_CONCURRENCY = Boolean.FALSE;
 
     private static final Protocol DEFAULT_PROTOCOL = Protocol.HTTP1_1;
 
     private static final TlsTrustManagersProvider DEFAULT_TLS_TRUST_MANAGERS_PROVIDER = null;
     private static final TlsKeyManagersProvider DEFAULT_TLS_KEY_MANAGERS_PROVIDER = SystemPropertyTlsKeyManagersProvider.create();
+    private static final Integer DEFAULT_TLS_SESSION_CACHE_SIZE = null;
+    private static final Duration DEFAULT_TLS_SESSION_TIMEOUT = null;
 
     public static final AttributeMap GLOBAL_HTTP_DEFAULTS = AttributeMap
             .builder()
@@ -142,6 +168,9 @@ public final class SdkHttpConfigurationOption<T> extends AttributeMap.Key<T> {
             .put(REAP_IDLE_CONNECTIONS, DEFAULT_REAP_IDLE_CONNECTIONS)
             .put(TLS_KEY_MANAGERS_PROVIDER, DEFAULT_TLS_KEY_MANAGERS_PROVIDER)
             .put(TLS_TRUST_MANAGERS_PROVIDER, DEFAULT_TLS_TRUST_MANAGERS_PROVIDER)
+            .put(TLS_SESSION_CACHE_SIZE, DEFAULT_TLS_SESSION_CACHE_SIZE)
+            .put(TLS_SESSION_TIMEOUT, DEFAULT_TLS_SESSION_TIMEOUT)
+            .put(ADAPTIVE_CONCURRENCY, DEFAULT_ADAPTIVE_CONCURRENCY)
             .build();
 
     private final String name;
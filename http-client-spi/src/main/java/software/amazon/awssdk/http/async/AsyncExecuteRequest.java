@@ -15,8 +15,10 @@
 
 package software.amazon.awssdk.http.async;
 
+import java.time.Duration;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.RequestPriority;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.metrics.MetricCollector;
 
@@ -32,6 +34,8 @@ public final class AsyncExecuteRequest {
     private final SdkAsyncHttpResponseHandler responseHandler;
     private final MetricCollector metricCollector;
     private final boolean isFullDuplex;
+    private final RequestPriority priority;
+    private final Duration remainingTimeout;
 
     private AsyncExecuteRequest(BuilderImpl builder) {
         this.request = builder.request;
@@ -39,6 +43,8 @@ public final class AsyncExecuteRequest {
         this.responseHandler = builder.responseHandler;
         this.metricCollector = builder.metricCollector;
         this.isFullDuplex = builder.isFullDuplex;
+        this.priority = builder.priority;
+        this.remainingTimeout = builder.remainingTimeout;
     }
 
     /**
@@ -76,6 +82,20 @@ public final class AsyncExecuteRequest {
         return isFullDuplex;
     }
 
+    /**
+     * @return The priority of this request when waiting for a connection. Defaults to {@link RequestPriority#NORMAL}.
+     */
+    public RequestPriority priority() {
+        return priority;
+    }
+
+    /**
+     * @return The amount of time remaining before the caller will give up on this request, if the caller has a timeout.
+     */
+    public Optional<Duration> remainingTimeout() {
+        return Optional.ofNullable(remainingTimeout);
+    }
+
     public static Builder builder() {
         return new BuilderImpl();
     }
@@ -125,6 +145,24 @@ public final class AsyncExecuteRequest {
          */
         Builder fullDuplex(boolean fullDuplex);
 
+        /**
+         * Set the priority of this request when it has to wait for a connection. HTTP clients may use this to serve higher
+         * priority requests ahead of lower priority ones.
+         *
+         * @param priority The priority, or null to use {@link RequestPriority#NORMAL}.
+         * @return This builder for method chaining.
+         */
+        Builder priority(RequestPriority priority);
+
+        /**
+         * Set the amount of time remaining before the caller will give up on this request. HTTP clients may use this to fail
+         * a request early when it is not expected to get a connection in time.
+         *
+         * @param remainingTimeout The remaining time, or null if the request has no timeout.
+         * @return This builder for method chaining.
+         */
+        Builder remainingTimeout(Duration remainingTimeout);
+
         AsyncExecuteRequest build();
     }
 
@@ -134,6 +172,8 @@ public final class AsyncExecuteRequest {
         private SdkAsyncHttpResponseHandler responseHandler;
         private MetricCollector metricCollector;
         private boolean isFullDuplex;
+        private RequestPriority priority = RequestPriority.NORMAL;
+        private Duration remainingTimeout;
 
         @Override
         public Builder request(SdkHttpRequest request) {
@@ -165,6 +205,18 @@ public final class AsyncExecuteRequest {
             return this;
         }
 
+        @Override
+        public Builder priority(RequestPriority priority) {
+            this.priority = priority == null ? RequestPriority.NORMAL : priority;
+            return this;
+        }
+
+        @Override
+        public Builder remainingTimeout(Duration remainingTimeout) {
+            this.remainingTimeout = remainingTimeout;
+            return this;
+        }
+
         @Override
         public AsyncExecuteRequest build() {
             return new AsyncExecuteRequest(this);
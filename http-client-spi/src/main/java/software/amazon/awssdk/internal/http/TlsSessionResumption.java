@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.internal.http;
+
+import javax.net.ssl.SSLSession;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Tells whether the TLS handshake of a new connection resumed a cached session. A resumed session is the cached session of an
+ * earlier connection with TLS 1.2, or the session of a ticket received by an earlier connection with TLS 1.3, and keeps the
+ * creation time of that session. A full handshake creates a new session during the handshake.
+ * <p>
+ * The negotiated session is therefore resumed if it was created before the handshake started. This only looks at the
+ * negotiated session, whatever the number of sessions cached by the client. The session is not looked up in the client session
+ * context, because a TLS 1.3 ticket is removed from the cache once it is used.
+ */
+@SdkInternalApi
+public final class TlsSessionResumption {
+    private final long handshakeStartTime;
+
+    private TlsSessionResumption(long handshakeStartTime) {
+        this.handshakeStartTime = handshakeStartTime;
+    }
+
+    /**
+     * Record the start of the handshake of a new connection. This must be called before the handshake starts.
+     */
+    public static TlsSessionResumption beforeHandshake() {
+        return new TlsSessionResumption(System.currentTimeMillis());
+    }
+
+    /**
+     * Returns true if the given session, negotiated by the handshake, was created before the handshake started.
+     */
+    public boolean sessionResumed(SSLSession session) {
+        return session.getCreationTime() < handshakeStartTime;
+    }
+}
@@ -87,6 +87,34 @@ public class SdkHttpRequestResponseTest {
         assertResponseHeaderMapsAreCopied(b -> b.removeHeader("Accept"));
     }
 
+    @Test
+    public void requestMapsAreNotModifiedWhenBuilderIsReusedAfterBuild() {
+        SdkHttpFullRequest.Builder builder = validRequestWithMaps().toBuilder().appendHeader("foo", "bar");
+        SdkHttpFullRequest request = builder.build();
+
+        builder.appendHeader("foo", "baz").putRawQueryParameter("foo", "bar");
+        SdkHttpFullRequest request2 = builder.build();
+
+        assertThat(request.headers().get("foo")).containsExactly("bar");
+        assertThat(request.rawQueryParameters()).doesNotContainKey("foo");
+        assertThat(request2.headers().get("foo")).containsExactly("bar", "baz");
+        assertThat(request2.rawQueryParameters().get("foo")).containsExactly("bar");
+    }
+
+    @Test
+    public void requestHeadersAreCaseInsensitiveInBuilderAndRequest() {
+        SdkHttpFullRequest.Builder builder = validRequestBuilder().putHeader("Content-Type", "text/plain")
+                                                                  .appendHeader("content-type", "text/html");
+
+        assertThat(builder.firstMatchingHeader("CONTENT-TYPE")).hasValue("text/plain");
+        assertThat(builder.headers().get("content-type")).containsExactly("text/plain", "text/html");
+
+        SdkHttpFullRequest request = builder.build();
+        assertThat(request.firstMatchingHeader("CONTENT-TYPE")).hasValue("text/plain");
+        assertThat(request.firstMatchingHeader("Accept")).isNotPresent();
+        assertThat(request.toBuilder().removeHeader("CONTENT-type").build().headers()).isEmpty();
+    }
+
     private void assertRequestHeaderMapsAreCopied(Consumer<SdkHttpRequest.Builder> mutation) {
         SdkHttpFullRequest request = validRequestWithMaps();
         Map<String, List<String>> originalQuery = new LinkedHashMap<>(request.headers());
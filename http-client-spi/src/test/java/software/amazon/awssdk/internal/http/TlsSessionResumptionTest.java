@@ -0,0 +1,131 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.internal.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLServerSocket;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TlsSessionResumptionTest {
+    private static final String SERVER_KEY_STORE = "/software/amazon/awssdk/http/server-keystore";
+    private static final char[] STORE_PASSWORD = "password".toCharArray();
+
+    private SSLServerSocket serverSocket;
+    private Thread server;
+
+    @Before
+    public void startServer() throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("JKS");
+        try (InputStream keyStoreStream = getClass().getResourceAsStream(SERVER_KEY_STORE)) {
+            keyStore.load(keyStoreStream, STORE_PASSWORD);
+        }
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, STORE_PASSWORD);
+
+        SSLContext serverContext = SSLContext.getInstance("TLS");
+        serverContext.init(keyManagerFactory.getKeyManagers(), null, null);
+        serverSocket = (SSLServerSocket) serverContext.getServerSocketFactory().createServerSocket(0);
+
+        server = new Thread(() -> {
+            while (!serverSocket.isClosed()) {
+                try (SSLSocket socket = (SSLSocket) serverSocket.accept()) {
+                    socket.getInputStream().read();
+                    socket.getOutputStream().write(1);
+                } catch (IOException e) {
+                    // The client closed the connection, or the test is over
+                }
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void stopServer() throws Exception {
+        serverSocket.close();
+        server.join();
+    }
+
+    @Test
+    public void tls12_onlyLaterConnectionsResumeTheSession() throws Exception {
+        assertThat(connect("TLSv1.2", 3)).containsExactly(false, true, true);
+    }
+
+    @Test
+    public void defaultProtocol_onlyLaterConnectionsResumeTheSession() throws Exception {
+        assertThat(connect(null, 3)).containsExactly(false, true, true);
+    }
+
+    @Test
+    public void newClient_doesNotResumeTheSessionsOfAnotherClient() throws Exception {
+        connect(null, 1);
+        assertThat(connect(null, 1)).containsExactly(false);
+    }
+
+    /**
+     * Open the given number of connections with a new client context, one after the other, and return whether each of them
+     * resumed a session.
+     */
+    private List<Boolean> connect(String protocol, int connections) throws Exception {
+        SSLContext clientContext = SSLContext.getInstance("TLS");
+        clientContext.init(null, new TrustManager[] {new TrustAllManager()}, null);
+
+        List<Boolean> sessionsResumed = new ArrayList<>();
+        for (int i = 0; i < connections; i++) {
+            TlsSessionResumption sessionResumption = TlsSessionResumption.beforeHandshake();
+            try (SSLSocket socket = (SSLSocket) clientContext.getSocketFactory().createSocket("localhost",
+                                                                                             serverSocket.getLocalPort())) {
+                if (protocol != null) {
+                    socket.setEnabledProtocols(new String[] {protocol});
+                }
+                socket.startHandshake();
+                // Exchange data, so that TLS 1.3 session tickets are received before the connection is closed
+                socket.getOutputStream().write(1);
+                socket.getInputStream().read();
+                sessionsResumed.add(sessionResumption.sessionResumed(socket.getSession()));
+            }
+        }
+        return sessionsResumed;
+    }
+
+    private static final class TrustAllManager implements X509TrustManager {
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
@@ -23,6 +23,7 @@ import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
 import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
 import static software.amazon.awssdk.http.HttpMetric.MAX_CONCURRENCY;
 import static software.amazon.awssdk.http.HttpMetric.PENDING_CONCURRENCY_ACQUIRES;
+import static software.amazon.awssdk.http.HttpMetric.TLS_SESSION_RESUMED;
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import java.io.IOException;
@@ -40,6 +41,7 @@ import java.util.stream.Stream;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import org.apache.http.Header;
@@ -229,7 +231,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
         return new ExecutableHttpRequest() {
             @Override
             public HttpExecuteResponse call() throws IOException {
-                HttpExecuteResponse executeResponse = execute(apacheRequest);
+                HttpExecuteResponse executeResponse = execute(apacheRequest, metricCollector);
                 collectPoolMetric(metricCollector);
                 return executeResponse;
             }
@@ -248,9 +250,10 @@ public final class ApacheHttpClient implements SdkHttpClient {
         cm.shutdown();
     }
 
-    private HttpExecuteResponse execute(HttpRequestBase apacheRequest) throws IOException {
+    private HttpExecuteResponse execute(HttpRequestBase apacheRequest, MetricCollector metricCollector) throws IOException {
         HttpClientContext localRequestContext = ApacheUtils.newClientContext(requestConfig.proxyConfiguration());
         HttpResponse httpResponse = httpClient.execute(apacheRequest, localRequestContext);
+        collectTlsSessionMetric(localRequestContext, metricCollector);
         return createResponse(httpResponse, apacheRequest);
     }
 
@@ -316,6 +319,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
         }
     }
 
+    /**
+     * Report whether the TLS session was resumed, if a new TLS connection was established while executing the request.
+     */
+    private void collectTlsSessionMetric(HttpClientContext context, MetricCollector metricCollector) {
+        Object sessionResumed = context.getAttribute(SdkTlsSocketFactory.TLS_SESSION_RESUMED_ATTRIBUTE);
+        if (sessionResumed != null) {
+            metricCollector.reportMetric(TLS_SESSION_RESUMED, (Boolean) sessionResumed);
+        }
+    }
+
     @Override
     public String clientName() {
         return CLIENT_NAME;
@@ -420,6 +433,22 @@ public final class ApacheHttpClient implements SdkHttpClient {
          * when constructing the SSL context.
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * Configure the maximum number of TLS sessions that the client will cache. Cached sessions are shared by all
+         * connections in the connection pool, so that a new connection to a host can resume a previous session with that
+         * host instead of performing a full handshake.
+         * <p>
+         * A value of zero means the cache is unbounded. If not configured, the JSSE default is used.
+         */
+        Builder tlsSessionCacheSize(Integer tlsSessionCacheSize);
+
+        /**
+         * Configure the amount of time after which a cached TLS session can no longer be resumed by a new connection.
+         * <p>
+         * A value of zero means cached sessions never expire. If not configured, the JSSE default is used.
+         */
+        Builder tlsSessionTimeout(Duration tlsSessionTimeout);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -579,6 +608,28 @@ public final class ApacheHttpClient implements SdkHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder tlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            Validate.isNotNegativeOrNull(tlsSessionCacheSize, "tlsSessionCacheSize");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE, tlsSessionCacheSize);
+            return this;
+        }
+
+        public void setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            tlsSessionCacheSize(tlsSessionCacheSize);
+        }
+
+        @Override
+        public Builder tlsSessionTimeout(Duration tlsSessionTimeout) {
+            Validate.isNotNegativeOrNull(tlsSessionTimeout, "tlsSessionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT, tlsSessionTimeout);
+            return this;
+        }
+
+        public void setTlsSessionTimeout(Duration tlsSessionTimeout) {
+            tlsSessionTimeout(tlsSessionTimeout);
+        }
+
         @Override
         public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             AttributeMap resolvedOptions = standardOptions.build().merge(serviceDefaults).merge(
@@ -645,12 +696,25 @@ public final class ApacheHttpClient implements SdkHttpClient {
                 SSLContext sslcontext = SSLContext.getInstance("TLS");
                 // http://download.java.net/jdk9/docs/technotes/guides/security/jsse/JSSERefGuide.html
                 sslcontext.init(keyManagers, trustManagers, null);
+                configureSessionCache(sslcontext.getClientSessionContext(), standardOptions);
                 return sslcontext;
             } catch (final NoSuchAlgorithmException | KeyManagementException ex) {
                 throw new SSLInitializationException(ex.getMessage(), ex);
             }
         }
 
+        private void configureSessionCache(SSLSessionContext sessionContext, AttributeMap standardOptions) {
+            Integer sessionCacheSize = standardOptions.get(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE);
+            if (sessionCacheSize != null) {
+                sessionContext.setSessionCacheSize(sessionCacheSize);
+            }
+
+            Duration sessionTimeout = standardOptions.get(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT);
+            if (sessionTimeout != null) {
+                sessionContext.setSessionTimeout(saturatedCast(sessionTimeout.getSeconds()));
+            }
+        }
+
         /**
          * Insecure trust manager to trust all certs. Should only be used for testing.
          */
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.List;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
 import javax.net.ssl.SSLSocket;
 import org.apache.http.HttpHost;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
@@ -30,6 +31,7 @@ import org.apache.http.protocol.HttpContext;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.apache.internal.net.SdkSocket;
 import software.amazon.awssdk.http.apache.internal.net.SdkSslSocket;
+import software.amazon.awssdk.internal.http.TlsSessionResumption;
 import software.amazon.awssdk.utils.Logger;
 
 /**
@@ -38,6 +40,12 @@ import software.amazon.awssdk.utils.Logger;
 @SdkInternalApi
 public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
 
+    /**
+     * The {@link HttpContext} attribute recording whether the TLS session of a newly established connection was resumed
+     * from the session cache of the {@link SSLContext}, instead of being negotiated with a full handshake.
+     */
+    public static final String TLS_SESSION_RESUMED_ATTRIBUTE = "aws.http.apache.tlsSessionResumed";
+
     private static final Logger log = Logger.loggerFor(SdkTlsSocketFactory.class);
     private final SSLContext sslContext;
 
@@ -110,13 +118,22 @@ public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
             final HttpContext context) throws IOException {
         log.trace(() -> String.format("Connecting to %s:%s", remoteAddress.getAddress(), remoteAddress.getPort()));
 
+        TlsSessionResumption sessionResumption = TlsSessionResumption.beforeHandshake();
         Socket connectedSocket = super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
 
         if (connectedSocket instanceof SSLSocket) {
-            return new SdkSslSocket((SSLSocket) connectedSocket);
+            SSLSocket sslSocket = (SSLSocket) connectedSocket;
+            recordSessionResumption(sslSocket.getSession(), sessionResumption, context);
+            return new SdkSslSocket(sslSocket);
         }
 
         return new SdkSocket(connectedSocket);
     }
 
+    private void recordSessionResumption(SSLSession session, TlsSessionResumption sessionResumption, HttpContext context) {
+        if (context != null) {
+            context.setAttribute(TLS_SESSION_RESUMED_ATTRIBUTE, sessionResumption.sessionResumed(session));
+        }
+    }
+
 }
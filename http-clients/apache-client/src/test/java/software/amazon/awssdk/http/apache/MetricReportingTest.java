@@ -24,6 +24,7 @@ import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
 import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
 import static software.amazon.awssdk.http.HttpMetric.MAX_CONCURRENCY;
 import static software.amazon.awssdk.http.HttpMetric.PENDING_CONCURRENCY_ACQUIRES;
+import static software.amazon.awssdk.http.HttpMetric.TLS_SESSION_RESUMED;
 import java.io.IOException;
 import java.time.Duration;
 import org.apache.http.HttpVersion;
@@ -42,6 +43,7 @@ import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
+import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
 import software.amazon.awssdk.http.apache.internal.impl.ConnectionManagerAwareHttpClient;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -101,6 +103,33 @@ public class MetricReportingTest {
         assertThat(collected.metricValues(MAX_CONCURRENCY)).isEmpty();
     }
 
+    @Test
+    public void prepareRequest_newTlsConnection_sessionResumptionReported() throws IOException {
+        ApacheHttpClient client = newClient();
+        when(mockHttpClient.execute(any(HttpUriRequest.class), any(HttpContext.class))).thenAnswer(i -> {
+            HttpContext context = i.getArgumentAt(1, HttpContext.class);
+            context.setAttribute(SdkTlsSocketFactory.TLS_SESSION_RESUMED_ATTRIBUTE, true);
+            return new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        });
+        MetricCollector collector = MetricCollector.create("test");
+        HttpExecuteRequest executeRequest = newRequest(collector);
+
+        client.prepareRequest(executeRequest).call();
+
+        assertThat(collector.collect().metricValues(TLS_SESSION_RESUMED)).containsExactly(true);
+    }
+
+    @Test
+    public void prepareRequest_pooledConnection_sessionResumptionNotReported() throws IOException {
+        ApacheHttpClient client = newClient();
+        MetricCollector collector = MetricCollector.create("test");
+        HttpExecuteRequest executeRequest = newRequest(collector);
+
+        client.prepareRequest(executeRequest).call();
+
+        assertThat(collector.collect().metricValues(TLS_SESSION_RESUMED)).isEmpty();
+    }
+
     private ApacheHttpClient newClient() {
         ApacheHttpRequestConfig config = ApacheHttpRequestConfig.builder()
                 .connectionAcquireTimeout(Duration.ofDays(1))
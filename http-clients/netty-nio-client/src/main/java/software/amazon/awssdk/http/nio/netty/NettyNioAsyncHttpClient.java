@@ -24,6 +24,7 @@ import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
 
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.handler.ssl.OpenSsl;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslProvider;
 import java.net.URI;
@@ -154,11 +155,17 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     }
 
     private SslProvider resolveSslProvider(DefaultBuilder builder) {
-        if (builder.sslProvider != null) {
-            return builder.sslProvider;
+        SslProvider sslProvider = builder.sslProvider;
+        if (sslProvider == null) {
+            sslProvider = SslContext.defaultClientProvider();
+            if (sslProvider == SslProvider.JDK) {
+                log.debug("OpenSSL is not available, so the JDK SSL provider will be used. Add netty-tcnative to the "
+                          + "classpath to use OpenSSL.", OpenSsl.unavailabilityCause());
+            }
         }
 
-        return SslContext.defaultClientProvider();
+        log.debug("Using the {} SSL provider.", sslProvider);
+        return sslProvider;
     }
 
     private long resolveMaxHttp2Streams(Integer topLevelValue, Http2Configuration http2Configuration) {
@@ -390,7 +397,9 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         /**
          * Sets the {@link SslProvider} to be used in the Netty client.
          *
-         * <p>If not configured, {@link SslContext#defaultClientProvider()} will be used to determine the SslProvider.
+         * <p>If not configured, {@link SslContext#defaultClientProvider()} will be used to determine the SslProvider. This
+         * selects OpenSSL when {@code netty-tcnative} is available on the classpath and the JDK provider otherwise. The
+         * provider that was selected is logged at debug level when the client is built.
          *
          * <p>Note that you might need to add other dependencies if not using JDK's default Ssl Provider.
          * See https://netty.io/wiki/requirements-for-4.x.html#transport-security-tls
@@ -431,6 +440,46 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider trustManagersProvider);
 
+        /**
+         * Configure the maximum number of TLS sessions that the client will cache. Cached sessions are shared by all
+         * connections created by this client, so that a new connection to a host can resume a previous session with that
+         * host instead of performing a full handshake. This reduces the cost of recycling connections via
+         * {@link #connectionTimeToLive(Duration)} and {@link #connectionMaxIdleTime(Duration)}.
+         *
+         * <p>A value of zero means the cache is unbounded. If not configured, the default of the {@link SslProvider} is used.
+         *
+         * @param tlsSessionCacheSize The maximum number of cached TLS sessions.
+         * @return The builder for method chaining.
+         */
+        Builder tlsSessionCacheSize(Integer tlsSessionCacheSize);
+
+        /**
+         * Configure the amount of time after which a cached TLS session can no longer be resumed by a new connection.
+         *
+         * <p>A value of zero means cached sessions never expire. If not configured, the default of the {@link SslProvider} is
+         * used.
+         *
+         * @param tlsSessionTimeout The maximum age of a resumable TLS session.
+         * @return The builder for method chaining.
+         * @see #tlsSessionCacheSize(Integer)
+         */
+        Builder tlsSessionTimeout(Duration tlsSessionTimeout);
+
+        /**
+         * Configure whether the client should adjust the number of concurrent connections it uses per host at runtime.
+         *
+         * <p>When enabled, the client lowers the limit when the time the service takes to respond rises well above its
+         * long-term average, when requests are throttled, or when connections are refused or reset, and raises it again while
+         * requests are waiting for a connection and latency is healthy. {@link #maxConcurrency(Integer)} is the upper bound of
+         * the limit, and the client starts at that bound. The current limit is reported as the {@code MaxConcurrency} metric.
+         *
+         * <p>By default, this is disabled and the limit is always {@link #maxConcurrency(Integer)}.
+         *
+         * @param adaptiveConcurrency Whether to adjust the concurrency limit at runtime.
+         * @return The builder for method chaining.
+         */
+        Builder adaptiveConcurrency(Boolean adaptiveConcurrency);
+
         /**
          * Set the HTTP/2 specific configuration for this client.
          * <p>
@@ -655,6 +704,38 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder tlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            Validate.isNotNegativeOrNull(tlsSessionCacheSize, "tlsSessionCacheSize");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE, tlsSessionCacheSize);
+            return this;
+        }
+
+        public void setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            tlsSessionCacheSize(tlsSessionCacheSize);
+        }
+
+        @Override
+        public Builder tlsSessionTimeout(Duration tlsSessionTimeout) {
+            Validate.isNotNegativeOrNull(tlsSessionTimeout, "tlsSessionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT, tlsSessionTimeout);
+            return this;
+        }
+
+        public void setTlsSessionTimeout(Duration tlsSessionTimeout) {
+            tlsSessionTimeout(tlsSessionTimeout);
+        }
+
+        @Override
+        public Builder adaptiveConcurrency(Boolean adaptiveConcurrency) {
+            standardOptions.put(SdkHttpConfigurationOption.ADAPTIVE_CONCURRENCY, adaptiveConcurrency);
+            return this;
+        }
+
+        public void setAdaptiveConcurrency(Boolean adaptiveConcurrency) {
+            adaptiveConcurrency(adaptiveConcurrency);
+        }
+
         @Override
         public Builder http2Configuration(Http2Configuration http2Configuration) {
             this.http2Configuration = http2Configuration;
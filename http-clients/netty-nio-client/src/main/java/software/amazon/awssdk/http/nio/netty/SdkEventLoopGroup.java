@@ -18,12 +18,16 @@ package software.amazon.awssdk.http.nio.netty;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFactory;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.http.nio.netty.internal.utils.SocketChannelResolver;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
 
@@ -61,6 +65,8 @@ import software.amazon.awssdk.utils.Validate;
 @SdkPublicApi
 public final class SdkEventLoopGroup {
 
+    private static final Logger log = Logger.loggerFor(SdkEventLoopGroup.class);
+
     private final EventLoopGroup eventLoopGroup;
     private final ChannelFactory<? extends Channel> channelFactory;
 
@@ -75,8 +81,10 @@ public final class SdkEventLoopGroup {
      * Create an instance of {@link SdkEventLoopGroup} from the builder
      */
     private SdkEventLoopGroup(DefaultBuilder builder) {
-        this.eventLoopGroup = resolveEventLoopGroup(builder);
-        this.channelFactory = resolveChannelFactory();
+        boolean useEpoll = useEpoll(builder);
+        this.eventLoopGroup = resolveEventLoopGroup(builder, useEpoll);
+        this.channelFactory = resolveChannelFactory(useEpoll);
+        log.debug(() -> "Using " + eventLoopGroup.getClass().getSimpleName() + " as the Netty transport.");
     }
 
     /**
@@ -123,25 +131,38 @@ public final class SdkEventLoopGroup {
         return new DefaultBuilder();
     }
 
-    private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder) {
+    private static boolean useEpoll(DefaultBuilder builder) {
+        // Native transport is opt-in until we've investigated why epoll is raising channel inactive after successful
+        // responses, which causes problems with retries.
+        if (!Boolean.TRUE.equals(builder.preferNativeTransport)) {
+            return false;
+        }
+
+        if (!Epoll.isAvailable()) {
+            log.debug(() -> "Native epoll transport is not available, falling back to NIO.", Epoll.unavailabilityCause());
+            return false;
+        }
+
+        return true;
+    }
+
+    private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder, boolean useEpoll) {
         int numThreads = Optional.ofNullable(builder.numberOfThreads).orElse(0);
         ThreadFactory threadFactory = Optional.ofNullable(builder.threadFactory)
                                               .orElse(new ThreadFactoryBuilder().threadNamePrefix("aws-java-sdk-NettyEventLoop")
                                                                                 .build());
-        return new NioEventLoopGroup(numThreads, threadFactory);
-        /*
-        Need to investigate why epoll is raising channel inactive after successful response that causes
-        problems with retries.
-
-        if (Epoll.isAvailable() && isNotAwsLambda()) {
-            return new EpollEventLoopGroup(numThreads, resolveThreadFactory());
-        } else {
+        if (useEpoll) {
+            return new EpollEventLoopGroup(numThreads, threadFactory);
+        }
 
-        }*/
+        return new NioEventLoopGroup(numThreads, threadFactory);
     }
 
-    private ChannelFactory<? extends Channel> resolveChannelFactory() {
-        // Currently we only support NioEventLoopGroup
+    private ChannelFactory<? extends Channel> resolveChannelFactory(boolean useEpoll) {
+        if (useEpoll) {
+            return EpollSocketChannel::new;
+        }
+
         return NioSocketChannel::new;
     }
 
@@ -171,6 +192,18 @@ public final class SdkEventLoopGroup {
          */
         Builder threadFactory(ThreadFactory threadFactory);
 
+        /**
+         * Whether the {@link EventLoopGroup} should use the native epoll transport when it is available on the current
+         * platform. If it is not available, the NIO transport is used instead. By default, this is disabled and the NIO
+         * transport is always used.
+         *
+         * <p>The transport that was selected is logged at debug level when the {@link SdkEventLoopGroup} is built.
+         *
+         * @param preferNativeTransport Whether to use the native transport when available.
+         * @return This builder for method chaining.
+         */
+        Builder preferNativeTransport(Boolean preferNativeTransport);
+
         SdkEventLoopGroup build();
     }
 
@@ -178,6 +211,7 @@ public final class SdkEventLoopGroup {
 
         private Integer numberOfThreads;
         private ThreadFactory threadFactory;
+        private Boolean preferNativeTransport;
 
         private DefaultBuilder() {
         }
@@ -202,6 +236,16 @@ public final class SdkEventLoopGroup {
             threadFactory(threadFactory);
         }
 
+        @Override
+        public Builder preferNativeTransport(Boolean preferNativeTransport) {
+            this.preferNativeTransport = preferNativeTransport;
+            return this;
+        }
+
+        public void setPreferNativeTransport(Boolean preferNativeTransport) {
+            preferNativeTransport(preferNativeTransport);
+        }
+
         @Override
         public SdkEventLoopGroup build() {
             return new SdkEventLoopGroup(this);
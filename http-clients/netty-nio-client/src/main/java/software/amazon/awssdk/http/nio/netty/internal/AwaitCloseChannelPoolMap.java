@@ -49,6 +49,7 @@ import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.ProxyConfiguration;
 import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpOrHttp2ChannelPool;
+import software.amazon.awssdk.utils.Lazy;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
 
@@ -91,6 +92,10 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
     private final ProxyConfiguration proxyConfiguration;
     private final BootstrapProvider bootstrapProvider;
 
+    // Shared by the pools of all hosts so that they share a single TLS session cache, and so that the (expensive) context
+    // is only created once per client.
+    private final Lazy<SslContext> sharedSslContext = new Lazy<>(this::createSslContext);
+
     private AwaitCloseChannelPoolMap(Builder builder, Function<Builder, BootstrapProvider> createBootStrapProvider) {
         this.configuration = builder.configuration;
         this.protocol = builder.protocol;
@@ -259,7 +264,8 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         return sdkChannelPool;
     }
 
-    private SslContext sslContext(URI targetAddress) {
+    @SdkTestInternalApi
+    SslContext sslContext(URI targetAddress) {
         URI proxyAddress = proxyAddress(targetAddress);
 
         boolean needContext = targetAddress.getScheme().equalsIgnoreCase("https")
@@ -269,13 +275,27 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             return null;
         }
 
+        return sharedSslContext.getValue();
+    }
+
+    private SslContext createSslContext() {
+        SslContextBuilder sslContextBuilder =
+            SslContextBuilder.forClient()
+                             .sslProvider(sslProvider)
+                             .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
+                             .trustManager(getTrustManager())
+                             .keyManager(getKeyManager());
+
+        if (configuration.tlsSessionCacheSize() != null) {
+            sslContextBuilder.sessionCacheSize(configuration.tlsSessionCacheSize());
+        }
+
+        if (configuration.tlsSessionTimeout() != null) {
+            sslContextBuilder.sessionTimeout(configuration.tlsSessionTimeout().getSeconds());
+        }
+
         try {
-            return SslContextBuilder.forClient()
-                                    .sslProvider(sslProvider)
-                                    .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
-                                    .trustManager(getTrustManager())
-                                    .keyManager(getKeyManager())
-                                    .build();
+            return sslContextBuilder.build();
         } catch (SSLException e) {
             throw new RuntimeException(e);
         }
@@ -47,7 +47,12 @@ public final class CancellableAcquireChannelPool implements SdkChannelPool {
 
     @Override
     public Future<Channel> acquire(Promise<Channel> acquirePromise) {
-        Future<Channel> channelFuture = delegatePool.acquire(executor.newPromise());
+        return acquire(acquirePromise, ChannelAcquireContext.DEFAULT);
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> acquirePromise, ChannelAcquireContext acquireContext) {
+        Future<Channel> channelFuture = delegatePool.acquire(executor.newPromise(), acquireContext);
         channelFuture.addListener((Future<Channel> f) -> {
             if (f.isSuccess()) {
                 Channel ch = f.getNow();
@@ -0,0 +1,70 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.RequestPriority;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+
+/**
+ * Describes the request a channel is being acquired for, so that a pool that has to queue acquires can decide which one to
+ * serve first, and can fail an acquire early when it is not expected to complete before the request times out.
+ */
+@SdkInternalApi
+public final class ChannelAcquireContext {
+    public static final ChannelAcquireContext DEFAULT = new ChannelAcquireContext(RequestPriority.NORMAL, false, 0);
+
+    private final RequestPriority priority;
+    private final boolean hasDeadline;
+    private final long deadlineNanoTime;
+
+    private ChannelAcquireContext(RequestPriority priority, boolean hasDeadline, long deadlineNanoTime) {
+        this.priority = priority;
+        this.hasDeadline = hasDeadline;
+        this.deadlineNanoTime = deadlineNanoTime;
+    }
+
+    public static ChannelAcquireContext create(RequestPriority priority, Duration remainingTimeout) {
+        RequestPriority resolvedPriority = priority == null ? RequestPriority.NORMAL : priority;
+        if (remainingTimeout == null) {
+            return new ChannelAcquireContext(resolvedPriority, false, 0);
+        }
+        return new ChannelAcquireContext(resolvedPriority, true, System.nanoTime() + remainingTimeout.toNanos());
+    }
+
+    public static ChannelAcquireContext fromRequest(AsyncExecuteRequest request) {
+        return create(request.priority(), request.remainingTimeout().orElse(null));
+    }
+
+    public RequestPriority priority() {
+        return priority;
+    }
+
+    /**
+     * @return True if the request has a deadline after which the channel is no longer needed.
+     */
+    public boolean hasDeadline() {
+        return hasDeadline;
+    }
+
+    /**
+     * @return The deadline of the request, as a {@link System#nanoTime()} value. Only meaningful if {@link #hasDeadline()}.
+     */
+    public long deadlineNanoTime() {
+        return deadlineNanoTime;
+    }
+}
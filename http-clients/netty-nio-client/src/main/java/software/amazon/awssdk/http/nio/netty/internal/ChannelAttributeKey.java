@@ -70,6 +70,41 @@ public final class ChannelAttributeKey {
     public static final AttributeKey<Http2FrameStream> HTTP2_FRAME_STREAM = NettyUtils.getOrCreateAttributeKey(
         "aws.http.nio.netty.async.http2FrameStream");
 
+    /**
+     * Whether the TLS session of this connection was resumed from the client's session cache, set once the TLS handshake has
+     * completed. It is removed by the first request that reports it as a metric.
+     */
+    public static final AttributeKey<Boolean> TLS_SESSION_RESUMED =
+        NettyUtils.getOrCreateAttributeKey("aws.http.nio.netty.async.tlsSessionResumed");
+
+    /**
+     * The status code of the last response received on this channel. This is cleared when the channel is acquired from a pool
+     * that adjusts its concurrency limit, so that a request that failed before receiving a response can be told apart.
+     */
+    public static final AttributeKey<Integer> RESPONSE_STATUS_CODE = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.responseStatusCode");
+
+    /**
+     * The {@link System#nanoTime()} at which the last request on this channel was fully written. Like
+     * {@link #RESPONSE_STATUS_CODE}, this is cleared when the channel is acquired from a pool that adjusts its concurrency limit.
+     */
+    public static final AttributeKey<Long> REQUEST_WRITTEN_NANO_TIME = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.requestWrittenNanoTime");
+
+    /**
+     * The {@link System#nanoTime()} at which the headers of the last response on this channel were received. Like
+     * {@link #RESPONSE_STATUS_CODE}, this is cleared when the channel is acquired from a pool that adjusts its concurrency limit.
+     */
+    public static final AttributeKey<Long> RESPONSE_HEADERS_NANO_TIME = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.responseHeadersNanoTime");
+
+    /**
+     * Whether the last request on this channel failed because the service reset the connection. Like
+     * {@link #RESPONSE_STATUS_CODE}, this is cleared when the channel is acquired from a pool that adjusts its concurrency limit.
+     */
+    public static final AttributeKey<Boolean> CONNECTION_RESET = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.connectionReset");
+
     /**
      * {@link AttributeKey} to keep track of whether we should close the connection after this request
      * has completed.
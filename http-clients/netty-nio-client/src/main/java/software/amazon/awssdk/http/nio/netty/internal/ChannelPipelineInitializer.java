@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.nio.netty.internal;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_CONNECTION;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_INITIAL_WINDOW_SIZE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.TLS_SESSION_RESUMED;
 import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.HTTP2_CONNECTION_PING_TIMEOUT_SECONDS;
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 import static software.amazon.awssdk.utils.StringUtils.lowerCase;
@@ -51,6 +52,7 @@ import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2GoAwayEventListener;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2PingHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2SettingsFrameHandler;
+import software.amazon.awssdk.internal.http.TlsSessionResumption;
 
 /**
  * ChannelPoolHandler to configure the client pipeline.
@@ -97,6 +99,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
             // https://github.com/netty/netty/issues/3801#issuecomment-104274440
             SslHandler sslHandler = sslCtx.newHandler(ch.alloc(), poolKey.getHost(), poolKey.getPort());
             configureSslEngine(sslHandler.engine());
+            trackSessionResumption(ch, sslHandler);
 
             pipeline.addLast(sslHandler);
             pipeline.addLast(SslCloseCompletionEventHandler.getInstance());
@@ -148,6 +151,20 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         sslEngine.setSSLParameters(sslParameters);
     }
 
+    /**
+     * Record whether the handshake resumed a session cached by the {@link SslContext}, which is shared by all connections of
+     * the client. The handshake starts once the channel is active, so its start is recorded before it starts.
+     */
+    private void trackSessionResumption(Channel ch, SslHandler sslHandler) {
+        TlsSessionResumption sessionResumption = TlsSessionResumption.beforeHandshake();
+
+        sslHandler.handshakeFuture().addListener(f -> {
+            if (f.isSuccess()) {
+                ch.attr(TLS_SESSION_RESUMED).set(sessionResumption.sessionResumed(sslHandler.engine().getSession()));
+            }
+        });
+    }
+
     private void configureHttp2(Channel ch, ChannelPipeline pipeline) {
         // Using Http2FrameCodecBuilder and Http2MultiplexHandler based on 4.1.37 release notes
         // https://netty.io/news/2019/06/28/4-1-37-Final.html
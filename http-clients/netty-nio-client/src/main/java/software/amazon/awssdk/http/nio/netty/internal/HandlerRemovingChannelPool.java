@@ -53,6 +53,11 @@ public class HandlerRemovingChannelPool implements SdkChannelPool {
         return delegate.acquire(promise);
     }
 
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise, ChannelAcquireContext acquireContext) {
+        return delegate.acquire(promise, acquireContext);
+    }
+
     @Override
     public Future<Void> release(Channel channel) {
         removePerRequestHandlers(channel);
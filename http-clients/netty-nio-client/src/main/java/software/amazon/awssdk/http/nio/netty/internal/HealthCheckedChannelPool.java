@@ -62,11 +62,16 @@ public class HealthCheckedChannelPool implements SdkChannelPool {
 
     @Override
     public Future<Channel> acquire(Promise<Channel> resultFuture) {
+        return acquire(resultFuture, ChannelAcquireContext.DEFAULT);
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> resultFuture, ChannelAcquireContext acquireContext) {
         // Schedule a task to time out this acquisition, in case we can't acquire a channel fast enough.
         ScheduledFuture<?> timeoutFuture =
                 eventLoopGroup.schedule(() -> timeoutAcquire(resultFuture), acquireTimeoutMillis, TimeUnit.MILLISECONDS);
 
-        tryAcquire(resultFuture, timeoutFuture);
+        tryAcquire(resultFuture, timeoutFuture, acquireContext);
         return resultFuture;
     }
 
@@ -85,16 +90,20 @@ public class HealthCheckedChannelPool implements SdkChannelPool {
      * @param resultFuture The future that should be completed with the acquired channel. If this is completed external to this
      * function, this function will stop trying to acquire a channel.
      * @param timeoutFuture The future for the timeout task. This future will be cancelled when a channel is acquired.
+     * @param acquireContext The priority and deadline of the request the channel is acquired for.
      */
-    private void tryAcquire(Promise<Channel> resultFuture, ScheduledFuture<?> timeoutFuture) {
+    private void tryAcquire(Promise<Channel> resultFuture,
+                            ScheduledFuture<?> timeoutFuture,
+                            ChannelAcquireContext acquireContext) {
         // Something else completed the future (probably a timeout). Stop trying to get a channel.
         if (resultFuture.isDone()) {
             return;
         }
 
         Promise<Channel> delegateFuture = eventLoopGroup.next().newPromise();
-        delegate.acquire(delegateFuture);
-        delegateFuture.addListener(f -> ensureAcquiredChannelIsHealthy(delegateFuture, resultFuture, timeoutFuture));
+        delegate.acquire(delegateFuture, acquireContext);
+        delegateFuture.addListener(f -> ensureAcquiredChannelIsHealthy(delegateFuture, resultFuture, timeoutFuture,
+                                                                       acquireContext));
     }
 
     /**
@@ -104,10 +113,12 @@ public class HealthCheckedChannelPool implements SdkChannelPool {
      * @param delegateFuture A completed promise as a result of invoking delegate.acquire().
      * @param resultFuture The future that should be completed with the healthy, acquired channel.
      * @param timeoutFuture The future for the timeout task. This future will be cancelled when a channel is acquired.
+     * @param acquireContext The priority and deadline of the request the channel is acquired for.
      */
     private void ensureAcquiredChannelIsHealthy(Promise<Channel> delegateFuture,
                                                 Promise<Channel> resultFuture,
-                                                ScheduledFuture<?> timeoutFuture) {
+                                                ScheduledFuture<?> timeoutFuture,
+                                                ChannelAcquireContext acquireContext) {
         // If our delegate failed to connect, forward down the failure. Don't try again.
         if (!delegateFuture.isSuccess()) {
             timeoutFuture.cancel(false);
@@ -120,7 +131,7 @@ public class HealthCheckedChannelPool implements SdkChannelPool {
         if (!isHealthy(channel)) {
             channel.close();
             delegate.release(channel);
-            tryAcquire(resultFuture, timeoutFuture);
+            tryAcquire(resultFuture, timeoutFuture, acquireContext);
             return;
         }
 
@@ -89,7 +89,7 @@ public final class NettyRequestExecutor {
     public CompletableFuture<Void> execute() {
         Promise<Channel> channelFuture = context.eventLoopGroup().next().newPromise();
         executeFuture = createExecutionFuture(channelFuture);
-        context.channelPool().acquire(channelFuture);
+        context.channelPool().acquire(channelFuture, ChannelAcquireContext.fromRequest(context.executeRequest()));
         channelFuture.addListener((GenericFutureListener) this::makeRequestListener);
         return executeFuture;
     }
@@ -238,6 +238,8 @@ public final class NettyRequestExecutor {
                    // Done writing so remove the idle write timeout handler
                    ChannelUtils.removeIfExists(channel.pipeline(), WriteTimeoutHandler.class);
                    if (wireCall.isSuccess()) {
+                       channel.attr(ChannelAttributeKey.REQUEST_WRITTEN_NANO_TIME).set(System.nanoTime());
+                       NettyRequestMetrics.publishTlsSessionMetrics(context.metricCollector(), channel);
                        NettyRequestMetrics.publishHttp2StreamMetrics(context.metricCollector(), channel);
 
                        if (context.executeRequest().fullDuplex()) {
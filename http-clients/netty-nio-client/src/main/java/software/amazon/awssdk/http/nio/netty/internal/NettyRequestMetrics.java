@@ -21,6 +21,7 @@ import io.netty.handler.codec.http2.Http2Stream;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Http2Metric;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 
@@ -53,6 +54,22 @@ public class NettyRequestMetrics {
         });
     }
 
+    /**
+     * Publish whether the TLS session of the provided channel's connection was resumed. This is only published by the first
+     * request that is written to a connection. A request can only be written once the TLS handshake has completed, so this
+     * should be invoked after the request has been written.
+     */
+    public static void publishTlsSessionMetrics(MetricCollector metricCollector, Channel channel) {
+        // For HTTP/2 the TLS connection is the parent of the stream channel
+        Channel connection = channel.parent() == null ? channel : channel.parent();
+        Boolean sessionResumed = connection.attr(ChannelAttributeKey.TLS_SESSION_RESUMED).getAndSet(null);
+        if (sessionResumed == null || !metricsAreEnabled(metricCollector)) {
+            return;
+        }
+
+        metricCollector.reportMetric(HttpMetric.TLS_SESSION_RESUMED, sessionResumed);
+    }
+
     private static Optional<Http2Connection> getHttp2Connection(Channel channel) {
         Channel parentChannel = channel.parent();
         if (parentChannel == null) {
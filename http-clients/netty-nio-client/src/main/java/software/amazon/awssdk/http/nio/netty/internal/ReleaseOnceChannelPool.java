@@ -57,6 +57,11 @@ public class ReleaseOnceChannelPool implements SdkChannelPool {
         return delegate.acquire(promise).addListener(onAcquire());
     }
 
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise, ChannelAcquireContext acquireContext) {
+        return delegate.acquire(promise, acquireContext).addListener(onAcquire());
+    }
+
     private GenericFutureListener<Future<Channel>> onAcquire() {
         return future -> {
             if (future.isSuccess()) {
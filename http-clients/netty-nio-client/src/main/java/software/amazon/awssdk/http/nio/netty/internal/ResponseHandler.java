@@ -17,11 +17,14 @@ package software.amazon.awssdk.http.nio.netty.internal;
 
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.mapping;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CONNECTION_RESET;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.EXECUTE_FUTURE_KEY;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.KEEP_ALIVE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.LAST_HTTP_CONTENT_RECEIVED_KEY;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.RESPONSE_COMPLETE_KEY;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.RESPONSE_HEADERS_NANO_TIME;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.RESPONSE_STATUS_CODE;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.ExceptionHandlingUtils.tryCatch;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.ExceptionHandlingUtils.tryCatchFinally;
 
@@ -87,6 +90,8 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                                                              .statusText(response.status().reasonPhrase())
                                                              .build();
             channelContext.channel().attr(KEEP_ALIVE).set(shouldKeepAlive(response));
+            channelContext.channel().attr(RESPONSE_STATUS_CODE).set(response.status().code());
+            channelContext.channel().attr(RESPONSE_HEADERS_NANO_TIME).set(System.nanoTime());
             requestContext.handler().onHeaders(sdkResponse);
         }
 
@@ -140,6 +145,9 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
         RequestContext requestContext = ctx.channel().attr(REQUEST_CONTEXT_KEY).get();
         log.debug("Exception processing request: {}", requestContext.executeRequest().request(), cause);
+        if (isConnectionReset(cause)) {
+            ctx.channel().attr(CONNECTION_RESET).set(true);
+        }
         Throwable throwable = wrapException(cause);
         executeFuture(ctx).completeExceptionally(throwable);
         runAndLogError("Fail to execute SdkAsyncHttpResponseHandler#onError", () -> requestContext.handler().onError(throwable));
@@ -151,6 +159,10 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         notifyIfResponseNotCompleted(handlerCtx);
     }
 
+    private static boolean isConnectionReset(Throwable cause) {
+        return cause instanceof IOException && cause.getMessage() != null && cause.getMessage().contains("Connection reset");
+    }
+
     public static ResponseHandler getInstance() {
         return INSTANCE;
     }
@@ -15,7 +15,10 @@
 
 package software.amazon.awssdk.http.nio.netty.internal;
 
+import io.netty.channel.Channel;
 import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -34,4 +37,16 @@ public interface SdkChannelPool extends ChannelPool {
      * @return A future that is completed when all metric publishing is complete.
      */
     CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics);
+
+    /**
+     * Acquire a channel for a request described by the provided {@link ChannelAcquireContext}. Pools that do not queue
+     * acquires, and do not delegate to a pool that does, can ignore the acquireContext.
+     *
+     * @param promise The promise to complete with the acquired channel.
+     * @param acquireContext The priority and deadline of the request the channel is acquired for.
+     * @return The provided promise.
+     */
+    default Future<Channel> acquire(Promise<Channel> promise, ChannelAcquireContext acquireContext) {
+        return acquire(promise);
+    }
 }
@@ -42,6 +42,11 @@ final class SimpleChannelPoolAwareChannelPool implements SdkChannelPool {
         return delegate.acquire(promise);
     }
 
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise, ChannelAcquireContext acquireContext) {
+        return delegate.acquire(promise, acquireContext);
+    }
+
     @Override
     public Future<Void> release(Channel channel) {
         return delegate.release(channel);
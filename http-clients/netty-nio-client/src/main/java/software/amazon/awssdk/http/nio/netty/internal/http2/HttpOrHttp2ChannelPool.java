@@ -29,9 +29,11 @@ import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelAcquireContext;
 import software.amazon.awssdk.http.nio.netty.internal.IdleConnectionCountingChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
+import software.amazon.awssdk.http.nio.netty.internal.utils.AdaptiveConcurrencyLimiter;
 import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool;
 import software.amazon.awssdk.metrics.MetricCollector;
 
@@ -72,18 +74,23 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
 
     @Override
     public Future<Channel> acquire(Promise<Channel> promise) {
-        doInEventLoop(eventLoop, () -> acquire0(promise), promise);
+        return acquire(promise, ChannelAcquireContext.DEFAULT);
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise, ChannelAcquireContext acquireContext) {
+        doInEventLoop(eventLoop, () -> acquire0(promise, acquireContext), promise);
         return promise;
     }
 
-    private void acquire0(Promise<Channel> promise) {
+    private void acquire0(Promise<Channel> promise, ChannelAcquireContext acquireContext) {
         if (closed) {
             promise.setFailure(new IllegalStateException("Channel pool is closed!"));
             return;
         }
 
         if (protocolImpl != null) {
-            protocolImpl.acquire(promise);
+            protocolImpl.acquire(promise, acquireContext);
             return;
         }
         if (!protocolImplPromiseInitializationStarted) {
@@ -91,7 +98,7 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
         }
         protocolImplPromise.addListener((GenericFutureListener<Future<ChannelPool>>) future -> {
             if (future.isSuccess()) {
-                future.getNow().acquire(promise);
+                protocolImpl.acquire(promise, acquireContext);
             } else {
                 // Couldn't negotiate protocol, fail this acquire.
                 promise.setFailure(future.cause());
@@ -165,6 +172,7 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
                                                  .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
                                                  .maxConnections(maxConcurrency)
                                                  .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
+                                                 .concurrencyLimiter(concurrencyLimiter())
                                                  .build();
         } else {
             Duration idleConnectionTimeout = configuration.reapIdleConnections()
@@ -177,6 +185,7 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
                                                  .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
                                                  .maxConnections(maxConcurrency)
                                                  .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
+                                                 .concurrencyLimiter(concurrencyLimiter())
                                                  .build();
         }
         // Give the channel back so it can be acquired again by protocolImpl
@@ -184,6 +193,10 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
         return protocolImpl;
     }
 
+    private AdaptiveConcurrencyLimiter concurrencyLimiter() {
+        return configuration.adaptiveConcurrency() ? new AdaptiveConcurrencyLimiter(maxConcurrency) : null;
+    }
+
     @Override
     public Future<Void> release(Channel channel) {
         return release(channel, eventLoop.newPromise());
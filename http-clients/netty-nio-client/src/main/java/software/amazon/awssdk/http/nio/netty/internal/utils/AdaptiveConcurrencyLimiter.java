@@ -0,0 +1,135 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.utils;
+
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Adjusts a concurrency limit using additive increase and multiplicative decrease (AIMD), based on samples of completed
+ * requests.
+ * <p>
+ * The limit is reduced by {@link #BACKOFF_RATIO} when the service signals overload, by throttling a request or by refusing or
+ * resetting a connection, or when the short-term average of the request latency rises above {@link #LATENCY_TOLERANCE} times
+ * its long-term average, which indicates that requests are queueing in the network or the service. The latency is the time
+ * the service takes to respond once a request has been sent, so it does not depend on the size of the request or response
+ * bodies, and comparing two averages keeps a workload that mixes fast and slow requests from looking overloaded. Acquires that
+ * time out waiting for a connection are not a sign of overload, since they are caused by the limit itself.
+ * <p>
+ * At most one reduction is made per smoothed latency, and never more than one per {@link #MIN_DECREASE_INTERVAL_NANOS}, so
+ * that a burst of failures caused by the same overload only backs off once. The limit is raised by one after a full limit's
+ * worth of healthy requests completed while other requests were waiting for a connection, so it only grows while it is
+ * actually constraining throughput.
+ * <p>
+ * This class is not thread safe, and is expected to be used from the event loop of the channel pool that owns it.
+ */
+@SdkInternalApi
+public final class AdaptiveConcurrencyLimiter {
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final int MIN_LIMIT = 1;
+    private static final long MIN_DECREASE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    // The baseline is a long-term average, so that a permanent change in service latency is eventually accepted as normal.
+    private static final int BASELINE_SMOOTHING_DIVISOR = 128;
+    private static final int SMOOTHING_DIVISOR = 8;
+
+    private final int maxLimit;
+    private int limit;
+    private int healthySamplesSinceIncrease;
+    private int latencySamples;
+    private long baselineLatencyNanos;
+    private long smoothedLatencyNanos;
+    private long lastDecreaseNanoTime;
+    private boolean decreased;
+
+    public AdaptiveConcurrencyLimiter(int maxLimit) {
+        this.maxLimit = Validate.isPositive(maxLimit, "maxLimit");
+        this.limit = maxLimit;
+    }
+
+    /**
+     * @return The current concurrency limit.
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Update the limit with a completed request.
+     *
+     * @param nowNanoTime The current {@link System#nanoTime()}.
+     * @param latencyNanos How long the service took to respond once the request was sent.
+     * @param dropped Whether the request was throttled.
+     * @param limitReached Whether other requests were waiting for a connection when this one completed.
+     */
+    public void onSample(long nowNanoTime, long latencyNanos, boolean dropped, boolean limitReached) {
+        if (dropped) {
+            decrease(nowNanoTime);
+            return;
+        }
+
+        updateLatency(latencyNanos);
+
+        if (smoothedLatencyNanos > baselineLatencyNanos * LATENCY_TOLERANCE) {
+            decrease(nowNanoTime);
+        } else if (limitReached) {
+            increase();
+        }
+    }
+
+    /**
+     * Update the limit with a sign of overload that is not tied to a response, like a refused or reset connection.
+     *
+     * @param nowNanoTime The current {@link System#nanoTime()}.
+     */
+    public void onOverload(long nowNanoTime) {
+        decrease(nowNanoTime);
+    }
+
+    private void updateLatency(long latencyNanos) {
+        // Until enough samples were seen, the averages are the plain averages of all samples
+        if (latencySamples < BASELINE_SMOOTHING_DIVISOR) {
+            ++latencySamples;
+        }
+        baselineLatencyNanos += (latencyNanos - baselineLatencyNanos) / latencySamples;
+        smoothedLatencyNanos += (latencyNanos - smoothedLatencyNanos) / Math.min(latencySamples, SMOOTHING_DIVISOR);
+    }
+
+    private void decrease(long nowNanoTime) {
+        healthySamplesSinceIncrease = 0;
+        if (decreased && nowNanoTime - lastDecreaseNanoTime < Math.max(smoothedLatencyNanos, MIN_DECREASE_INTERVAL_NANOS)) {
+            return;
+        }
+
+        int newLimit = (int) (limit * BACKOFF_RATIO);
+        limit = Math.max(MIN_LIMIT, newLimit == limit ? limit - 1 : newLimit);
+        lastDecreaseNanoTime = nowNanoTime;
+        decreased = true;
+    }
+
+    private void increase() {
+        if (limit >= maxLimit) {
+            return;
+        }
+
+        if (++healthySamplesSinceIncrease >= limit) {
+            healthySamplesSinceIncrease = 0;
+            ++limit;
+        }
+    }
+}
@@ -15,10 +15,16 @@
 
 package software.amazon.awssdk.http.nio.netty.internal.utils;
 
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CONNECTION_RESET;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_WRITTEN_NANO_TIME;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.RESPONSE_HEADERS_NANO_TIME;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.RESPONSE_STATUS_CODE;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.doInEventLoop;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ConnectTimeoutException;
 import io.netty.channel.pool.ChannelPool;
+import io.netty.util.AttributeKey;
 import io.netty.util.concurrent.DefaultPromise;
 import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
@@ -27,20 +33,35 @@ import io.netty.util.concurrent.GlobalEventExecutor;
 import io.netty.util.concurrent.Promise;
 import io.netty.util.internal.ObjectUtil;
 import io.netty.util.internal.ThrowableUtil;
+import java.net.ConnectException;
 import java.nio.channels.ClosedChannelException;
 import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.HttpStatusCode;
+import software.amazon.awssdk.http.RequestPriority;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelAcquireContext;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.SdkMetric;
 
 /**
  * {@link ChannelPool} implementation that takes another {@link ChannelPool} implementation and enforce a maximum
  * number of concurrent connections.
+ * <p>
+ * Pending acquires are queued per {@link RequestPriority}. Within a priority they are served in FIFO order, and across
+ * priorities they are served by weighted round robin, so that a large number of low priority acquires cannot starve higher
+ * priority ones, while low priority acquires still make progress.
+ * <p>
+ * If an {@link AdaptiveConcurrencyLimiter} is configured, the maximum number of concurrent connections is the limiter's current
+ * limit, which never exceeds the configured maximum. Every released connection that received a response is reported to the
+ * limiter, along with refused and reset connections.
  */
 //TODO: Contribute me back to Netty
 public class BetterFixedChannelPool implements SdkChannelPool {
@@ -50,6 +71,9 @@ public class BetterFixedChannelPool implements SdkChannelPool {
     private static final TimeoutException TIMEOUT_EXCEPTION = ThrowableUtil.unknownStackTrace(
         new TimeoutException("Acquire operation took longer than configured maximum time"),
         BetterFixedChannelPool.class, "<init>(...)");
+    private static final TimeoutException EXPECTED_TIMEOUT_EXCEPTION = ThrowableUtil.unknownStackTrace(
+        new TimeoutException("Acquire operation is expected to take longer than the remaining request time"),
+        BetterFixedChannelPool.class, "acquire0(...)");
     static final IllegalStateException POOL_CLOSED_ON_RELEASE_EXCEPTION = ThrowableUtil.unknownStackTrace(
         new IllegalStateException("BetterFixedChannelPooled was closed"),
         BetterFixedChannelPool.class, "release(...)");
@@ -57,6 +81,11 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         new IllegalStateException("BetterFixedChannelPooled was closed"),
         BetterFixedChannelPool.class, "acquire0(...)");
 
+    private static final RequestPriority[] PRIORITIES = RequestPriority.values();
+
+    private static final AttributeKey<Long> LEASE_START_NANO_TIME = NettyUtils.getOrCreateAttributeKey(
+        "software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool.leaseStartNanoTime");
+
     public enum AcquireTimeoutAction {
         /**
          * Create a new connection when the timeout is detected.
@@ -73,16 +102,23 @@ public class BetterFixedChannelPool implements SdkChannelPool {
     private final long acquireTimeoutNanos;
     private final Runnable timeoutTask;
     private final SdkChannelPool delegateChannelPool;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
 
     // There is no need to worry about synchronization as everything that modified the queue or counts is done
     // by the above EventExecutor.
-    private final Queue<AcquireTask> pendingAcquireQueue = new ArrayDeque<>();
+    private final Map<RequestPriority, Queue<AcquireTask>> pendingAcquireQueues = new EnumMap<>(RequestPriority.class);
+    private final int[] dequeueCredits = new int[PRIORITIES.length];
     private final int maxConnections;
     private final int maxPendingAcquires;
     private int acquiredChannelCount;
     private int pendingAcquireCount;
     private boolean closed;
 
+    // The average time between releases while acquires are pending, used to estimate how long a new acquire will wait.
+    private long averageReleaseIntervalNanos;
+    private long lastReleaseNanoTime;
+    private boolean lastReleaseObserved;
+
 
     private BetterFixedChannelPool(Builder builder) {
         if (builder.maxConnections < 1) {
@@ -130,6 +166,11 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         }
         this.maxConnections = builder.maxConnections;
         this.maxPendingAcquires = builder.maxPendingAcquires;
+        this.concurrencyLimiter = builder.concurrencyLimiter;
+        for (RequestPriority priority : PRIORITIES) {
+            pendingAcquireQueues.put(priority, new ArrayDeque<>());
+        }
+        resetDequeueCredits();
     }
 
     @Override
@@ -139,11 +180,16 @@ public class BetterFixedChannelPool implements SdkChannelPool {
 
     @Override
     public Future<Channel> acquire(final Promise<Channel> promise) {
+        return acquire(promise, ChannelAcquireContext.DEFAULT);
+    }
+
+    @Override
+    public Future<Channel> acquire(final Promise<Channel> promise, ChannelAcquireContext acquireContext) {
         try {
             if (executor.inEventLoop()) {
-                acquire0(promise);
+                acquire0(promise, acquireContext);
             } else {
-                executor.execute(() -> acquire0(promise));
+                executor.execute(() -> acquire0(promise, acquireContext));
             }
         } catch (Throwable cause) {
             promise.setFailure(cause);
@@ -156,9 +202,12 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         CompletableFuture<Void> result = new CompletableFuture<>();
         doInEventLoop(executor, () -> {
             try {
-                metrics.reportMetric(HttpMetric.MAX_CONCURRENCY, this.maxConnections);
+                metrics.reportMetric(HttpMetric.MAX_CONCURRENCY, maxConnections());
                 metrics.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, this.pendingAcquireCount);
                 metrics.reportMetric(HttpMetric.LEASED_CONCURRENCY, this.acquiredChannelCount);
+                for (RequestPriority priority : PRIORITIES) {
+                    metrics.reportMetric(pendingAcquiresMetric(priority), pendingAcquireQueues.get(priority).size());
+                }
                 result.complete(null);
             } catch (Throwable t) {
                 result.completeExceptionally(t);
@@ -167,14 +216,26 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         return CompletableFuture.allOf(result, delegateMetricResult);
     }
 
-    private void acquire0(final Promise<Channel> promise) {
+    private static SdkMetric<Integer> pendingAcquiresMetric(RequestPriority priority) {
+        switch (priority) {
+            case HIGH:
+                return HttpMetric.HIGH_PRIORITY_PENDING_CONCURRENCY_ACQUIRES;
+            case LOW:
+                return HttpMetric.LOW_PRIORITY_PENDING_CONCURRENCY_ACQUIRES;
+            case NORMAL:
+            default:
+                return HttpMetric.NORMAL_PRIORITY_PENDING_CONCURRENCY_ACQUIRES;
+        }
+    }
+
+    private void acquire0(final Promise<Channel> promise, ChannelAcquireContext acquireContext) {
         assert executor.inEventLoop();
 
         if (closed) {
             promise.setFailure(POOL_CLOSED_ON_ACQUIRE_EXCEPTION);
             return;
         }
-        if (acquiredChannelCount < maxConnections) {
+        if (acquiredChannelCount < maxConnections()) {
             assert acquiredChannelCount >= 0;
 
             // We need to create a new promise as we need to ensure the AcquireListener runs in the correct
@@ -187,9 +248,12 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         } else {
             if (pendingAcquireCount >= maxPendingAcquires) {
                 promise.setFailure(FULL_EXCEPTION);
+            } else if (isExpectedToMissDeadline(acquireContext)) {
+                promise.setFailure(EXPECTED_TIMEOUT_EXCEPTION);
+                return;
             } else {
                 AcquireTask task = new AcquireTask(promise);
-                if (pendingAcquireQueue.offer(task)) {
+                if (pendingAcquireQueues.get(acquireContext.priority()).offer(task)) {
                     ++pendingAcquireCount;
 
                     if (timeoutTask != null) {
@@ -204,6 +268,28 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         }
     }
 
+    /**
+     * Estimate whether a new acquire would still be pending when its request times out. The wait is estimated from the number
+     * of acquires of the same or higher priority that would be served first, and the average time between releases while
+     * acquires have been pending. No estimate is made until a release interval has been observed.
+     */
+    private boolean isExpectedToMissDeadline(ChannelAcquireContext acquireContext) {
+        if (!acquireContext.hasDeadline() || averageReleaseIntervalNanos == 0) {
+            return false;
+        }
+
+        int acquiresAhead = 0;
+        for (RequestPriority priority : PRIORITIES) {
+            if (priority.compareTo(acquireContext.priority()) > 0) {
+                break;
+            }
+            acquiresAhead += pendingAcquireQueues.get(priority).size();
+        }
+
+        long expectedWaitNanos = (acquiresAhead + 1) * averageReleaseIntervalNanos;
+        return acquireContext.deadlineNanoTime() - (System.nanoTime() + expectedWaitNanos) < 0;
+    }
+
     @Override
     public Future<Void> release(Channel channel) {
         return release(channel, new DefaultPromise<>(executor));
@@ -227,6 +313,7 @@ public class BetterFixedChannelPool implements SdkChannelPool {
                 }
 
                 if (future.isSuccess()) {
+                    recordLease(channel);
                     decrementAndRunTaskQueue();
                     promise.setSuccess(null);
                 } else {
@@ -242,9 +329,67 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         return promise;
     }
 
+    private int maxConnections() {
+        return concurrencyLimiter == null ? maxConnections : concurrencyLimiter.limit();
+    }
+
+    private void startLease(Channel channel) {
+        if (concurrencyLimiter != null) {
+            channel.attr(LEASE_START_NANO_TIME).set(System.nanoTime());
+            channel.attr(RESPONSE_STATUS_CODE).set(null);
+            channel.attr(REQUEST_WRITTEN_NANO_TIME).set(null);
+            channel.attr(RESPONSE_HEADERS_NANO_TIME).set(null);
+            channel.attr(CONNECTION_RESET).set(null);
+        }
+    }
+
+    /**
+     * Report a released connection to the concurrency limiter. A lease with a throttling or service unavailable response is
+     * reported as dropped, and a lease whose connection was reset by the service is reported as overload. Any other lease
+     * without a response, like a cancelled request or a connection that was closed while idle or unhealthy, is not a sign of
+     * overload and is ignored.
+     * <p>
+     * The latency of a response is measured from the time its request was fully written, or from the start of the lease if
+     * the response arrived first, to the time its headers were received. It does not include the time spent streaming the
+     * request or response bodies, which depends on their size rather than on how loaded the service is.
+     */
+    private void recordLease(Channel channel) {
+        if (concurrencyLimiter == null) {
+            return;
+        }
+
+        Long leaseStartNanoTime = channel.attr(LEASE_START_NANO_TIME).getAndSet(null);
+        if (leaseStartNanoTime == null) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(channel.attr(CONNECTION_RESET).get())) {
+            concurrencyLimiter.onOverload(System.nanoTime());
+            return;
+        }
+
+        Integer statusCode = channel.attr(RESPONSE_STATUS_CODE).get();
+        Long responseHeadersNanoTime = channel.attr(RESPONSE_HEADERS_NANO_TIME).get();
+        if (statusCode == null || responseHeadersNanoTime == null) {
+            return;
+        }
+
+        long requestSentNanoTime = leaseStartNanoTime;
+        Long requestWrittenNanoTime = channel.attr(REQUEST_WRITTEN_NANO_TIME).get();
+        if (requestWrittenNanoTime != null && responseHeadersNanoTime - requestWrittenNanoTime >= 0) {
+            requestSentNanoTime = requestWrittenNanoTime;
+        }
+
+        boolean dropped = statusCode == HttpStatusCode.THROTTLING || statusCode == HttpStatusCode.SERVICE_UNAVAILABLE;
+        concurrencyLimiter.onSample(System.nanoTime(), responseHeadersNanoTime - requestSentNanoTime, dropped,
+                                    pendingAcquireCount > 0);
+    }
+
     private void decrementAndRunTaskQueue() {
         --acquiredChannelCount;
 
+        recordRelease();
+
         // We should never have a negative value.
         assert acquiredChannelCount >= 0;
 
@@ -255,9 +400,63 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         runTaskQueue();
     }
 
+    private void recordRelease() {
+        if (pendingAcquireCount == 0) {
+            // Only releases that are immediately handed to a pending acquire tell us how fast the queue drains.
+            lastReleaseObserved = false;
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (lastReleaseObserved) {
+            long interval = now - lastReleaseNanoTime;
+            averageReleaseIntervalNanos = averageReleaseIntervalNanos == 0
+                                          ? interval
+                                          : averageReleaseIntervalNanos + (interval - averageReleaseIntervalNanos) / 8;
+        }
+        lastReleaseNanoTime = now;
+        lastReleaseObserved = true;
+    }
+
+    /**
+     * Poll the next pending acquire using weighted round robin across priorities. Each priority may be served up to its
+     * weight in a round, and a new round starts when no priority with pending acquires has credit left.
+     */
+    private AcquireTask pollPendingAcquire() {
+        for (int round = 0; round < 2; round++) {
+            for (RequestPriority priority : PRIORITIES) {
+                Queue<AcquireTask> queue = pendingAcquireQueues.get(priority);
+                if (!queue.isEmpty() && dequeueCredits[priority.ordinal()] > 0) {
+                    --dequeueCredits[priority.ordinal()];
+                    return queue.poll();
+                }
+            }
+            resetDequeueCredits();
+        }
+        return null;
+    }
+
+    private void resetDequeueCredits() {
+        for (RequestPriority priority : PRIORITIES) {
+            dequeueCredits[priority.ordinal()] = dequeueWeight(priority);
+        }
+    }
+
+    private static int dequeueWeight(RequestPriority priority) {
+        switch (priority) {
+            case HIGH:
+                return 8;
+            case LOW:
+                return 1;
+            case NORMAL:
+            default:
+                return 4;
+        }
+    }
+
     private void runTaskQueue() {
-        while (acquiredChannelCount < maxConnections) {
-            AcquireTask task = pendingAcquireQueue.poll();
+        while (acquiredChannelCount < maxConnections()) {
+            AcquireTask task = pollPendingAcquire();
             if (task == null) {
                 break;
             }
@@ -298,25 +497,31 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         public final void run() {
             assert executor.inEventLoop();
             long nanoTime = System.nanoTime();
-            for (; ; ) {
-                AcquireTask task = pendingAcquireQueue.peek();
-                // Compare nanoTime as descripted in the javadocs of System.nanoTime()
-                //
-                // See https://docs.oracle.com/javase/7/docs/api/java/lang/System.html#nanoTime()
-                // See https://github.com/netty/netty/issues/3705
-                if (task == null || nanoTime - task.expireNanoTime < 0) {
-                    break;
-                }
-                pendingAcquireQueue.remove();
+            for (Queue<AcquireTask> pendingAcquireQueue : pendingAcquireQueues.values()) {
+                for (; ; ) {
+                    AcquireTask task = pendingAcquireQueue.peek();
+                    // Compare nanoTime as descripted in the javadocs of System.nanoTime()
+                    //
+                    // See https://docs.oracle.com/javase/7/docs/api/java/lang/System.html#nanoTime()
+                    // See https://github.com/netty/netty/issues/3705
+                    if (task == null || nanoTime - task.expireNanoTime < 0) {
+                        break;
+                    }
+                    pendingAcquireQueue.remove();
 
-                --pendingAcquireCount;
-                onTimeout(task);
+                    --pendingAcquireCount;
+                    onTimeout(task);
+                }
             }
         }
 
         public abstract void onTimeout(AcquireTask task);
     }
 
+    private static boolean isConnectionRefused(Throwable cause) {
+        return cause instanceof ConnectException && !(cause instanceof ConnectTimeoutException);
+    }
+
     private class AcquireListener implements FutureListener<Channel> {
         private final Promise<Channel> originalPromise;
         protected boolean acquired;
@@ -339,8 +544,13 @@ public class BetterFixedChannelPool implements SdkChannelPool {
             }
 
             if (future.isSuccess()) {
+                startLease(future.getNow());
                 originalPromise.setSuccess(future.getNow());
             } else {
+                if (concurrencyLimiter != null && isConnectionRefused(future.cause())) {
+                    concurrencyLimiter.onOverload(System.nanoTime());
+                }
+
                 if (acquired) {
                     decrementAndRunTaskQueue();
                 } else {
@@ -372,16 +582,18 @@ public class BetterFixedChannelPool implements SdkChannelPool {
     private void close0() {
         if (!closed) {
             closed = true;
-            for (;;) {
-                AcquireTask task = pendingAcquireQueue.poll();
-                if (task == null) {
-                    break;
-                }
-                ScheduledFuture<?> f = task.timeoutFuture;
-                if (f != null) {
-                    f.cancel(false);
+            for (Queue<AcquireTask> pendingAcquireQueue : pendingAcquireQueues.values()) {
+                for (;;) {
+                    AcquireTask task = pendingAcquireQueue.poll();
+                    if (task == null) {
+                        break;
+                    }
+                    ScheduledFuture<?> f = task.timeoutFuture;
+                    if (f != null) {
+                        f.cancel(false);
+                    }
+                    task.promise.setFailure(new ClosedChannelException());
                 }
-                task.promise.setFailure(new ClosedChannelException());
             }
             acquiredChannelCount = 0;
             pendingAcquireCount = 0;
@@ -404,6 +616,7 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         private long acquireTimeoutMillis;
         private int maxConnections;
         private int maxPendingAcquires;
+        private AdaptiveConcurrencyLimiter concurrencyLimiter;
 
         private Builder() {
         }
@@ -438,6 +651,15 @@ public class BetterFixedChannelPool implements SdkChannelPool {
             return this;
         }
 
+        /**
+         * Adjust the maximum number of concurrent connections at runtime with the provided limiter, instead of always using
+         * {@link #maxConnections(int)}.
+         */
+        public Builder concurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+            this.concurrencyLimiter = concurrencyLimiter;
+            return this;
+        }
+
         public BetterFixedChannelPool build() {
             return new BetterFixedChannelPool(this);
         }
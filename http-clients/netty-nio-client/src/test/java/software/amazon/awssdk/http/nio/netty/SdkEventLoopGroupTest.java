@@ -18,6 +18,9 @@ package software.amazon.awssdk.http.nio.netty;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import org.junit.Test;
@@ -31,6 +34,27 @@ public class SdkEventLoopGroupTest {
         assertThat(sdkEventLoopGroup.eventLoopGroup()).isNotNull();
     }
 
+    @Test
+    public void creatingUsingBuilder_defaultsToNio() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder().numberOfThreads(1).build();
+        assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+        sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+    }
+
+    @Test
+    public void creatingUsingBuilder_preferNativeTransport_usesEpollWhenAvailable() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder()
+                                                               .numberOfThreads(1)
+                                                               .preferNativeTransport(true)
+                                                               .build();
+
+        Class<?> expectedType = Epoll.isAvailable() ? EpollEventLoopGroup.class : NioEventLoopGroup.class;
+        assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(expectedType);
+        assertThat(sdkEventLoopGroup.channelFactory().newChannel().getClass())
+            .isEqualTo(Epoll.isAvailable() ? EpollSocketChannel.class : NioSocketChannel.class);
+        sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+    }
+
     @Test
     public void creatingUsingStaticMethod() {
         SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.create(new NioEventLoopGroup(), NioSocketChannel::new);
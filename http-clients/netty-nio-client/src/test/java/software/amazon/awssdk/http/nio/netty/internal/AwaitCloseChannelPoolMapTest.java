@@ -22,8 +22,11 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -41,6 +44,7 @@ import org.mockito.Mockito;
 
 import io.netty.channel.Channel;
 import io.netty.channel.pool.ChannelPool;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslProvider;
 import io.netty.util.concurrent.Future;
 import software.amazon.awssdk.http.Protocol;
@@ -98,6 +102,32 @@ public class AwaitCloseChannelPoolMapTest {
         });
     }
 
+    @Test
+    public void sslContext_sharedAcrossHostsWithConfiguredSessionCache() {
+        AttributeMap config = AttributeMap.builder()
+                                          .put(TLS_SESSION_CACHE_SIZE, 100)
+                                          .put(TLS_SESSION_TIMEOUT, Duration.ofMinutes(5))
+                                          .build()
+                                          .merge(GLOBAL_HTTP_DEFAULTS);
+
+        channelPoolMap = AwaitCloseChannelPoolMap.builder()
+                                                 .sdkChannelOptions(new SdkChannelOptions())
+                                                 .sdkEventLoopGroup(SdkEventLoopGroup.builder().build())
+                                                 .configuration(new NettyConfiguration(config))
+                                                 .protocol(Protocol.HTTP1_1)
+                                                 .maxStreams(100)
+                                                 .sslProvider(SslProvider.JDK)
+                                                 .build();
+
+        SslContext first = channelPoolMap.sslContext(URI.create("https://some-awesome-service-1234.amazonaws.com"));
+        SslContext second = channelPoolMap.sslContext(URI.create("https://some-other-service-1234.amazonaws.com"));
+
+        assertThat(first).isSameAs(second);
+        assertThat(first.sessionCacheSize()).isEqualTo(100);
+        assertThat(first.sessionTimeout()).isEqualTo(300);
+        assertThat(channelPoolMap.sslContext(URI.create("http://some-awesome-service-1234.amazonaws.com"))).isNull();
+    }
+
     @Test
     public void get_callsInjectedBootstrapProviderCorrectly() {
         BootstrapProvider bootstrapProvider = Mockito.spy(
@@ -75,7 +75,7 @@ public class CancellableAcquireChannelPoolTest {
         Promise<Channel> acquireFuture = eventExecutor.newPromise();
         acquireFuture.setFailure(new RuntimeException("Changed my mind!"));
 
-        when(mockDelegatePool.acquire(any(Promise.class))).thenAnswer((Answer<Promise>) invocationOnMock -> {
+        when(mockDelegatePool.acquire(any(Promise.class), any(ChannelAcquireContext.class))).thenAnswer((Answer<Promise>) invocationOnMock -> {
             Promise p = invocationOnMock.getArgumentAt(0, Promise.class);
             p.setSuccess(channel);
             return p;
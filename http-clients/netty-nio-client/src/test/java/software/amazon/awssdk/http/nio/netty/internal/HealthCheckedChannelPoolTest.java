@@ -89,7 +89,7 @@ public class HealthCheckedChannelPoolTest {
         assertThat(acquire.isSuccess()).isTrue();
         assertThat(acquire.getNow()).isEqualTo(channels.get(0));
 
-        Mockito.verify(downstreamChannelPool, Mockito.times(1)).acquire(any());
+        Mockito.verify(downstreamChannelPool, Mockito.times(1)).acquire(any(), any());
     }
 
     @Test
@@ -105,7 +105,7 @@ public class HealthCheckedChannelPoolTest {
         assertThat(acquire.isSuccess()).isTrue();
         assertThat(acquire.getNow()).isEqualTo(channels.get(4));
 
-        Mockito.verify(downstreamChannelPool, Mockito.times(5)).acquire(any());
+        Mockito.verify(downstreamChannelPool, Mockito.times(5)).acquire(any(), any());
     }
 
     @Test
@@ -121,7 +121,7 @@ public class HealthCheckedChannelPoolTest {
         assertThat(acquire.isSuccess()).isTrue();
         assertThat(acquire.getNow()).isEqualTo(channels.get(0));
 
-        Mockito.verify(downstreamChannelPool, Mockito.times(1)).acquire(any());
+        Mockito.verify(downstreamChannelPool, Mockito.times(1)).acquire(any(), any());
     }
 
 
@@ -138,7 +138,7 @@ public class HealthCheckedChannelPoolTest {
         assertThat(acquire.isSuccess()).isTrue();
         assertThat(acquire.getNow()).isEqualTo(channels.get(1));
 
-        Mockito.verify(downstreamChannelPool, Mockito.times(2)).acquire(any());
+        Mockito.verify(downstreamChannelPool, Mockito.times(2)).acquire(any(), any());
     }
 
     @Test
@@ -158,7 +158,7 @@ public class HealthCheckedChannelPoolTest {
         assertThat(acquire.isSuccess()).isFalse();
         assertThat(acquire.cause()).isInstanceOf(IOException.class);
 
-        Mockito.verify(downstreamChannelPool, Mockito.times(1)).acquire(any());
+        Mockito.verify(downstreamChannelPool, Mockito.times(1)).acquire(any(), any());
     }
 
     @Test
@@ -184,7 +184,7 @@ public class HealthCheckedChannelPoolTest {
         assertThat(acquire.isSuccess()).isFalse();
         assertThat(acquire.cause()).isInstanceOf(TimeoutException.class);
 
-        Mockito.verify(downstreamChannelPool, Mockito.times(1)).acquire(any());
+        Mockito.verify(downstreamChannelPool, Mockito.times(1)).acquire(any(), any());
     }
 
     @Test
@@ -211,7 +211,7 @@ public class HealthCheckedChannelPoolTest {
     }
 
     public void stubAcquireHealthySequence(Boolean... acquireHealthySequence) {
-        OngoingStubbing<Future<Channel>> stubbing = Mockito.when(downstreamChannelPool.acquire(any()));
+        OngoingStubbing<Future<Channel>> stubbing = Mockito.when(downstreamChannelPool.acquire(any(), any()));
         for (boolean shouldAcquireBeHealthy : acquireHealthySequence) {
             stubbing = stubbing.thenAnswer(invocation -> {
                 Promise<Channel> promise = invocation.getArgumentAt(0, Promise.class);
@@ -226,7 +226,7 @@ public class HealthCheckedChannelPoolTest {
     }
 
     private void stubAcquireActiveAndKeepAlive() {
-        OngoingStubbing<Future<Channel>> stubbing = Mockito.when(downstreamChannelPool.acquire(any()));
+        OngoingStubbing<Future<Channel>> stubbing = Mockito.when(downstreamChannelPool.acquire(any(), any()));
         stubbing = stubbing.thenAnswer(invocation -> {
             Promise<Channel> promise = invocation.getArgumentAt(0, Promise.class);
             Channel channel = Mockito.mock(Channel.class);
@@ -246,7 +246,7 @@ public class HealthCheckedChannelPoolTest {
     }
 
     public void stubBadDownstreamAcquire() {
-        Mockito.when(downstreamChannelPool.acquire(any())).thenAnswer(invocation -> {
+        Mockito.when(downstreamChannelPool.acquire(any(), any())).thenAnswer(invocation -> {
             Promise<Channel> promise = invocation.getArgumentAt(0, Promise.class);
             promise.setFailure(new IOException());
             return promise;
@@ -254,7 +254,7 @@ public class HealthCheckedChannelPoolTest {
     }
 
     public void stubIncompleteDownstreamAcquire() {
-        Mockito.when(downstreamChannelPool.acquire(any())).thenAnswer(invocation -> invocation.getArgumentAt(0, Promise.class));
+        Mockito.when(downstreamChannelPool.acquire(any(), any())).thenAnswer(invocation -> invocation.getArgumentAt(0, Promise.class));
     }
 
     public void stubForIgnoredTimeout() {
@@ -263,7 +263,7 @@ public class HealthCheckedChannelPoolTest {
     }
 
     private void stubAcquireTwiceFirstTimeNotKeepAlive() {
-        OngoingStubbing<Future<Channel>> stubbing = Mockito.when(downstreamChannelPool.acquire(any()));
+        OngoingStubbing<Future<Channel>> stubbing = Mockito.when(downstreamChannelPool.acquire(any(), any()));
         stubbing = stubbing.thenAnswer(invocation -> {
             Promise<Channel> promise = invocation.getArgumentAt(0, Promise.class);
             Channel channel = Mockito.mock(Channel.class);
@@ -66,7 +66,7 @@ public class NettyRequestExecutorTest {
     @Test
     public void cancelExecuteFuture_channelNotAcquired_failsAcquirePromise() {
         ArgumentCaptor<Promise> acquireCaptor = ArgumentCaptor.forClass(Promise.class);
-        when(mockChannelPool.acquire(acquireCaptor.capture())).thenAnswer((Answer<Promise>) invocationOnMock -> {
+        when(mockChannelPool.acquire(acquireCaptor.capture(), any(ChannelAcquireContext.class))).thenAnswer((Answer<Promise>) invocationOnMock -> {
             return invocationOnMock.getArgumentAt(0, Promise.class);
         });
 
@@ -84,7 +84,7 @@ public class NettyRequestExecutorTest {
         Channel mockChannel = mock(Channel.class);
         when(mockChannel.eventLoop()).thenReturn(mockEventLoop);
 
-        when(mockChannelPool.acquire(any(Promise.class))).thenAnswer((Answer<Promise>) invocationOnMock -> {
+        when(mockChannelPool.acquire(any(Promise.class), any(ChannelAcquireContext.class))).thenAnswer((Answer<Promise>) invocationOnMock -> {
             Promise p = invocationOnMock.getArgumentAt(0, Promise.class);
             p.setSuccess(mockChannel);
             return p;
@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class AdaptiveConcurrencyLimiterTest {
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW_LATENCY = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    public void startsAtMaxLimit() {
+        assertThat(new AdaptiveConcurrencyLimiter(50).limit()).isEqualTo(50);
+    }
+
+    @Test
+    public void droppedSample_decreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50);
+        limiter.onSample(0, LATENCY, true, false);
+        assertThat(limiter.limit()).isEqualTo(45);
+    }
+
+    @Test
+    public void droppedSamples_withinOneLatency_decreaseOnce() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50);
+        limiter.onSample(0, SLOW_LATENCY, false, false);
+        limiter.onSample(1, SLOW_LATENCY, true, false);
+        limiter.onSample(2, SLOW_LATENCY, true, false);
+        assertThat(limiter.limit()).isEqualTo(45);
+
+        limiter.onSample(1 + SLOW_LATENCY, SLOW_LATENCY, true, false);
+        assertThat(limiter.limit()).isEqualTo(40);
+    }
+
+    @Test
+    public void droppedSamples_beforeAnyLatencySample_areRateLimited() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50);
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(TimeUnit.MILLISECONDS.toNanos(i), LATENCY, true, false);
+        }
+        assertThat(limiter.limit()).isEqualTo(45);
+
+        limiter.onSample(TimeUnit.MILLISECONDS.toNanos(100), LATENCY, true, false);
+        assertThat(limiter.limit()).isEqualTo(40);
+    }
+
+    @Test
+    public void overload_decreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50);
+        limiter.onOverload(0);
+        limiter.onOverload(1);
+        assertThat(limiter.limit()).isEqualTo(45);
+    }
+
+    @Test
+    public void inflatedLatency_decreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50);
+        long now = 0;
+        for (int i = 0; i < 200; i++) {
+            now += LATENCY;
+            limiter.onSample(now, LATENCY, false, false);
+        }
+
+        for (int i = 0; i < 10 && limiter.limit() == 50; i++) {
+            now += LATENCY * 10;
+            limiter.onSample(now, LATENCY * 10, false, true);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(45);
+    }
+
+    @Test
+    public void mixedLatencies_doNotDecreaseLimit() {
+        // Like small requests served quickly next to large requests that take longer for the service to process
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50);
+        long now = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long latency = i % 4 == 3 ? SLOW_LATENCY : LATENCY;
+            now += latency;
+            limiter.onSample(now, latency, false, true);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(50);
+    }
+
+    @Test
+    public void limitNeverDropsBelowOne() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2);
+        for (int i = 0; i < 10; i++) {
+            limiter.onSample(i * SLOW_LATENCY, LATENCY, true, false);
+        }
+        assertThat(limiter.limit()).isEqualTo(1);
+    }
+
+    @Test
+    public void healthySamples_whileLimitReached_increaseUpToMax() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10);
+        limiter.onSample(0, LATENCY, true, false);
+        assertThat(limiter.limit()).isEqualTo(9);
+
+        for (int i = 0; i < 8; i++) {
+            limiter.onSample(0, LATENCY, false, true);
+        }
+        assertThat(limiter.limit()).isEqualTo(9);
+
+        limiter.onSample(0, LATENCY, false, true);
+        assertThat(limiter.limit()).isEqualTo(10);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.onSample(0, LATENCY, false, true);
+        }
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    public void healthySamples_withoutLimitReached_doNotIncrease() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10);
+        limiter.onSample(0, LATENCY, true, false);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.onSample(0, LATENCY, false, false);
+        }
+        assertThat(limiter.limit()).isEqualTo(9);
+    }
+}
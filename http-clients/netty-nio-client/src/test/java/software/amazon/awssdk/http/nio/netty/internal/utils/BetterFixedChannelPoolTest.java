@@ -19,12 +19,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.mock;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CONNECTION_RESET;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_WRITTEN_NANO_TIME;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.RESPONSE_HEADERS_NANO_TIME;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.RESPONSE_STATUS_CODE;
 
 import io.netty.channel.Channel;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
+import java.time.Duration;
+import java.net.ConnectException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -39,6 +45,8 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.mockito.Mockito;
 import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.RequestPriority;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelAcquireContext;
 import software.amazon.awssdk.http.nio.netty.internal.MockChannel;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool.AcquireTimeoutAction;
@@ -151,6 +159,212 @@ public class BetterFixedChannelPoolTest {
         assertConnectionsCheckedOutAndPending(0, 0);
     }
 
+    @Test(timeout = 5_000)
+    public void higherPriorityPendingAcquireIsServedFirst() throws Exception {
+        List<Promise<Channel>> acquirePromises = mockDelegateAcquires();
+        List<Promise<Channel>> releasePromises = mockDelegateReleases();
+        Mockito.when(delegatePool.collectChannelPoolMetrics(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        channelPool.acquire();
+        completePromise(acquirePromises, 0);
+        channelPool.acquire();
+        completePromise(acquirePromises, 1);
+
+        Future<Channel> lowPriority = acquire(RequestPriority.LOW, null);
+        Future<Channel> highPriority = acquire(RequestPriority.HIGH, null);
+
+        MetricCollection metrics = collectMetrics();
+        assertThat(metrics.metricValues(HttpMetric.HIGH_PRIORITY_PENDING_CONCURRENCY_ACQUIRES)).containsExactly(1);
+        assertThat(metrics.metricValues(HttpMetric.NORMAL_PRIORITY_PENDING_CONCURRENCY_ACQUIRES)).containsExactly(0);
+        assertThat(metrics.metricValues(HttpMetric.LOW_PRIORITY_PENDING_CONCURRENCY_ACQUIRES)).containsExactly(1);
+
+        channelPool.release(acquirePromises.get(0).getNow());
+        completePromise(releasePromises, 0);
+        completePromise(acquirePromises, 2);
+
+        assertThat(highPriority.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(highPriority.isSuccess()).isTrue();
+        assertThat(lowPriority.isDone()).isFalse();
+
+        channelPool.release(acquirePromises.get(1).getNow());
+        completePromise(releasePromises, 1);
+        completePromise(acquirePromises, 3);
+
+        assertThat(lowPriority.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(lowPriority.isSuccess()).isTrue();
+    }
+
+    @Test(timeout = 5_000)
+    public void acquireExpectedToMissDeadlineFailsEarly() throws Exception {
+        List<Promise<Channel>> acquirePromises = mockDelegateAcquires();
+        List<Promise<Channel>> releasePromises = mockDelegateReleases();
+        Mockito.when(delegatePool.collectChannelPoolMetrics(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        channelPool.acquire();
+        completePromise(acquirePromises, 0);
+        channelPool.acquire();
+        completePromise(acquirePromises, 1);
+
+        // Queue two acquires and drain them with two releases, so that the pool observes how quickly connections free up.
+        channelPool.acquire();
+        channelPool.acquire();
+        channelPool.release(acquirePromises.get(0).getNow());
+        completePromise(releasePromises, 0);
+        completePromise(acquirePromises, 2);
+        channelPool.release(acquirePromises.get(1).getNow());
+        completePromise(releasePromises, 1);
+        completePromise(acquirePromises, 3);
+        assertConnectionsCheckedOutAndPending(2, 0);
+
+        Future<Channel> noDeadline = acquire(RequestPriority.NORMAL, null);
+        Future<Channel> expiredDeadline = acquire(RequestPriority.NORMAL, Duration.ZERO);
+
+        assertThat(expiredDeadline.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(expiredDeadline.cause()).isInstanceOf(TimeoutException.class);
+        assertThat(noDeadline.isDone()).isFalse();
+        assertConnectionsCheckedOutAndPending(2, 1);
+    }
+
+    @Test(timeout = 5_000)
+    public void adaptiveLimit_OnlyLeasesWithOverloadResponses_DecreaseLimit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4);
+        useAdaptivePool(limiter, 10_000);
+        MockChannel channel = mockDelegateChannel();
+
+        // A connection released without a response, like an idle or unhealthy one, is not a sign of overload
+        assertThat(channelPool.acquire().await().isSuccess()).isTrue();
+        assertThat(channelPool.release(channel).await().isSuccess()).isTrue();
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        assertThat(channelPool.acquire().await().isSuccess()).isTrue();
+        receiveResponse(channel, 503);
+        assertThat(channelPool.release(channel).await().isSuccess()).isTrue();
+        assertThat(limiter.limit()).isEqualTo(3);
+    }
+
+    @Test(timeout = 5_000)
+    public void adaptiveLimit_ConnectionReset_DecreasesLimit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4);
+        useAdaptivePool(limiter, 10_000);
+        MockChannel channel = mockDelegateChannel();
+
+        assertThat(channelPool.acquire().await().isSuccess()).isTrue();
+        channel.attr(CONNECTION_RESET).set(true);
+        assertThat(channelPool.release(channel).await().isSuccess()).isTrue();
+        assertThat(limiter.limit()).isEqualTo(3);
+    }
+
+    @Test(timeout = 5_000)
+    public void adaptiveLimit_ConnectionRefused_DecreasesLimit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4);
+        useAdaptivePool(limiter, 10_000);
+        Mockito.when(delegatePool.acquire(isA(Promise.class)))
+               .thenAnswer(i -> i.getArgumentAt(0, Promise.class).setFailure(new ConnectException("Connection refused")));
+
+        assertThat(channelPool.acquire().await().cause()).isInstanceOf(ConnectException.class);
+        assertThat(limiter.limit()).isEqualTo(3);
+    }
+
+    @Test(timeout = 5_000)
+    public void adaptiveLimit_AcquireTimeouts_DoNotDecreaseLimit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4);
+        useAdaptivePool(limiter, 10);
+        mockDelegateChannel();
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(channelPool.acquire().await().isSuccess()).isTrue();
+        }
+        Future<Channel> first = channelPool.acquire();
+        Future<Channel> second = channelPool.acquire();
+
+        assertThat(first.await().cause()).isInstanceOf(TimeoutException.class);
+        assertThat(second.await().cause()).isInstanceOf(TimeoutException.class);
+        assertThat(limiter.limit()).isEqualTo(4);
+    }
+
+    @Test(timeout = 5_000)
+    public void adaptiveLimit_MixedBodySizes_DoNotDecreaseLimit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4);
+        useAdaptivePool(limiter, 10_000);
+        MockChannel channel = mockDelegateChannel();
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(channelPool.acquire().await().isSuccess()).isTrue();
+            receiveResponse(channel, 200);
+            if (i % 2 == 1) {
+                // Streaming a large body keeps the connection leased much longer than the service took to respond
+                Thread.sleep(50);
+            }
+            assertThat(channelPool.release(channel).await().isSuccess()).isTrue();
+        }
+
+        assertThat(limiter.limit()).isEqualTo(4);
+    }
+
+    private void useAdaptivePool(AdaptiveConcurrencyLimiter limiter, long acquireTimeoutMillis) {
+        channelPool.close();
+        channelPool = BetterFixedChannelPool.builder()
+                                            .channelPool(delegatePool)
+                                            .maxConnections(4)
+                                            .maxPendingAcquires(2)
+                                            .acquireTimeoutAction(AcquireTimeoutAction.FAIL)
+                                            .acquireTimeoutMillis(acquireTimeoutMillis)
+                                            .executor(eventLoopGroup.next())
+                                            .concurrencyLimiter(limiter)
+                                            .build();
+    }
+
+    private MockChannel mockDelegateChannel() throws Exception {
+        MockChannel channel = new MockChannel();
+        eventLoopGroup.next().register(channel);
+        Mockito.when(delegatePool.acquire(isA(Promise.class)))
+               .thenAnswer(i -> i.getArgumentAt(0, Promise.class).setSuccess(channel));
+        Mockito.when(delegatePool.release(isA(Channel.class), isA(Promise.class)))
+               .thenAnswer(i -> i.getArgumentAt(1, Promise.class).setSuccess(null));
+        return channel;
+    }
+
+    /**
+     * Record a request that was written and answered within a millisecond.
+     */
+    private void receiveResponse(Channel channel, int statusCode) {
+        long now = System.nanoTime();
+        channel.attr(REQUEST_WRITTEN_NANO_TIME).set(now);
+        channel.attr(RESPONSE_HEADERS_NANO_TIME).set(now + TimeUnit.MILLISECONDS.toNanos(1));
+        channel.attr(RESPONSE_STATUS_CODE).set(statusCode);
+    }
+
+    private Future<Channel> acquire(RequestPriority priority, Duration remainingTimeout) {
+        return channelPool.acquire(eventLoopGroup.next().newPromise(),
+                                   ChannelAcquireContext.create(priority, remainingTimeout));
+    }
+
+    private List<Promise<Channel>> mockDelegateAcquires() {
+        List<Promise<Channel>> acquirePromises = Collections.synchronizedList(new ArrayList<>());
+        Mockito.when(delegatePool.acquire(isA(Promise.class))).thenAnswer(i -> {
+            Promise<Channel> promise = i.getArgumentAt(0, Promise.class);
+            acquirePromises.add(promise);
+            return promise;
+        });
+        return acquirePromises;
+    }
+
+    private List<Promise<Channel>> mockDelegateReleases() {
+        List<Promise<Channel>> releasePromises = Collections.synchronizedList(new ArrayList<>());
+        Mockito.when(delegatePool.release(isA(Channel.class), isA(Promise.class))).thenAnswer(i -> {
+            Promise promise = i.getArgumentAt(1, Promise.class);
+            releasePromises.add(promise);
+            return promise;
+        });
+        return releasePromises;
+    }
+
+    private MetricCollection collectMetrics() {
+        MetricCollector metricCollector = MetricCollector.create("foo");
+        waitForCompletion(channelPool.collectChannelPoolMetrics(metricCollector));
+        return metricCollector.collect();
+    }
+
     private void completePromise(List<Promise<Channel>> promises, int promiseIndex) throws Exception {
         waitForPromise(promises, promiseIndex);
 
@@ -15,11 +15,14 @@
 
 package software.amazon.awssdk.http.urlconnection;
 
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
 import static software.amazon.awssdk.http.HttpStatusFamily.CLIENT_ERROR;
 import static software.amazon.awssdk.http.HttpStatusFamily.SERVER_ERROR;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
@@ -30,6 +33,9 @@ import java.security.cert.X509Certificate;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -49,6 +55,8 @@ import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
@@ -61,6 +69,12 @@ import software.amazon.awssdk.utils.Validate;
  *
  * <p>See software.amazon.awssdk.http.apache.ApacheHttpClient for an alternative implementation.</p>
  *
+ * <p>{@link HttpURLConnection} keeps idle connections alive for reuse in a cache that is shared by the whole JVM, so it is
+ * not configured per client. It is configured with the {@code http.maxConnections} system property, the maximum number of
+ * idle connections kept per destination (5 by default), and on JDK versions that support them, the
+ * {@code http.keepAlive.time.server} and {@code http.keepAlive.time.proxy} system properties, the number of seconds an idle
+ * connection is kept when the server does not specify it. They must be set before the first connection is made.</p>
+ *
  * <p>This can be created via {@link #builder()}</p>
  */
 @SdkPublicApi
@@ -72,9 +86,17 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
     private final AttributeMap options;
     private final UrlConnectionFactory connectionFactory;
     private final SSLContext sslContext;
+    private final boolean chunkedEncodingEnabled;
+    private final AtomicInteger leasedConnections = new AtomicInteger();
 
     private UrlConnectionHttpClient(AttributeMap options, UrlConnectionFactory connectionFactory) {
+        this(options, connectionFactory, null);
+    }
+
+    private UrlConnectionHttpClient(AttributeMap options, UrlConnectionFactory connectionFactory, DefaultBuilder builder) {
         this.options = options;
+        this.chunkedEncodingEnabled = builder != null && Boolean.TRUE.equals(builder.chunkedEncodingEnabled);
+
         if (connectionFactory != null) {
             this.sslContext = null;
             this.connectionFactory = connectionFactory;
@@ -111,8 +133,10 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
 
     @Override
     public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        MetricCollector metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
+        metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
         HttpURLConnection connection = createAndConfigureConnection(request);
-        return new RequestCallable(connection, request);
+        return new RequestCallable(connection, request, metricCollector, leasedConnections);
     }
 
     @Override
@@ -133,6 +157,7 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
         invokeSafely(() -> connection.setRequestMethod(request.httpRequest().method().name()));
         if (request.contentStreamProvider().isPresent()) {
             connection.setDoOutput(true);
+            configureStreamingMode(connection, request);
         }
 
         // Disable following redirects since it breaks SDK error handling and matches Apache.
@@ -142,6 +167,31 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
         return connection;
     }
 
+    /**
+     * Stream the request body to the connection instead of letting {@link HttpURLConnection} buffer all of it in memory to
+     * compute its length. A Content-Length header that is not a valid length is treated like a missing one.
+     */
+    private void configureStreamingMode(HttpURLConnection connection, HttpExecuteRequest request) {
+        Optional<Long> contentLength = request.httpRequest()
+                                              .firstMatchingHeader("Content-Length")
+                                              .flatMap(UrlConnectionHttpClient::parseContentLength);
+        if (contentLength.isPresent()) {
+            connection.setFixedLengthStreamingMode(contentLength.get());
+        } else if (chunkedEncodingEnabled) {
+            connection.setChunkedStreamingMode(0);
+        }
+    }
+
+    private static Optional<Long> parseContentLength(String contentLength) {
+        try {
+            long length = Long.parseLong(contentLength.trim());
+            return length >= 0 ? Optional.of(length) : Optional.empty();
+        } catch (NumberFormatException e) {
+            log.debug(() -> "Ignoring invalid Content-Length header: " + contentLength);
+            return Optional.empty();
+        }
+    }
+
     private HttpURLConnection createDefaultConnection(URI uri) {
         HttpURLConnection connection = invokeSafely(() -> (HttpURLConnection) uri.toURL().openConnection());
 
@@ -194,14 +244,32 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
 
         private final HttpURLConnection connection;
         private final HttpExecuteRequest request;
+        private final MetricCollector metricCollector;
+        private final AtomicInteger leasedConnections;
 
-        private RequestCallable(HttpURLConnection connection, HttpExecuteRequest request) {
+        private RequestCallable(HttpURLConnection connection,
+                                HttpExecuteRequest request,
+                                MetricCollector metricCollector,
+                                AtomicInteger leasedConnections) {
             this.connection = connection;
             this.request = request;
+            this.metricCollector = metricCollector;
+            this.leasedConnections = leasedConnections;
         }
 
         @Override
         public HttpExecuteResponse call() throws IOException {
+            metricCollector.reportMetric(LEASED_CONCURRENCY, leasedConnections.incrementAndGet());
+            ConnectionLease lease = new ConnectionLease(leasedConnections);
+            try {
+                return execute(lease);
+            } catch (IOException | RuntimeException e) {
+                lease.release();
+                throw e;
+            }
+        }
+
+        private HttpExecuteResponse execute(ConnectionLease lease) throws IOException {
             connection.connect();
 
             request.contentStreamProvider().ifPresent(provider ->
@@ -210,8 +278,12 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
             int responseCode = connection.getResponseCode();
             boolean isErrorResponse = HttpStatusFamily.of(responseCode).isOneOf(CLIENT_ERROR, SERVER_ERROR);
             InputStream content = !isErrorResponse ? connection.getInputStream() : connection.getErrorStream();
-            AbortableInputStream responseBody = content != null ?
-                                                AbortableInputStream.create(content) : null;
+            AbortableInputStream responseBody = null;
+            if (content != null) {
+                responseBody = AbortableInputStream.create(new LeaseReleasingInputStream(content, lease));
+            } else {
+                lease.release();
+            }
 
             return HttpExecuteResponse.builder()
                                       .response(SdkHttpResponse.builder()
@@ -236,6 +308,46 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
         }
     }
 
+    /**
+     * Tracks a connection that is in use by a request, until the response has been fully consumed.
+     */
+    private static final class ConnectionLease {
+        private final AtomicInteger leasedConnections;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private ConnectionLease(AtomicInteger leasedConnections) {
+            this.leasedConnections = leasedConnections;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                leasedConnections.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Releases the {@link ConnectionLease} when the response stream is closed, which returns the connection to the JDK's
+     * keep-alive cache.
+     */
+    private static final class LeaseReleasingInputStream extends FilterInputStream {
+        private final ConnectionLease lease;
+
+        private LeaseReleasingInputStream(InputStream in, ConnectionLease lease) {
+            super(in);
+            this.lease = lease;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                lease.release();
+            }
+        }
+    }
+
     /**
      * A builder for an instance of {@link SdkHttpClient} that uses JDKs build-in {@link java.net.URLConnection} HTTP
      * implementation. A builder can be created via {@link #builder()}.
@@ -272,10 +384,20 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
          * when constructing the SSL context.
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * Whether request bodies of unknown length should be streamed using chunked transfer encoding. By default, this is
+         * disabled and {@link HttpURLConnection} buffers such bodies in memory to determine their length, because not all
+         * services accept chunked requests.
+         * <p>
+         * Request bodies with a known {@code Content-Length} are always streamed without buffering.
+         */
+        Builder chunkedEncodingEnabled(Boolean chunkedEncodingEnabled);
     }
 
     private static final class DefaultBuilder implements Builder {
         private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Boolean chunkedEncodingEnabled;
 
         private DefaultBuilder() {
         }
@@ -332,6 +454,16 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder chunkedEncodingEnabled(Boolean chunkedEncodingEnabled) {
+            this.chunkedEncodingEnabled = chunkedEncodingEnabled;
+            return this;
+        }
+
+        public void setChunkedEncodingEnabled(Boolean chunkedEncodingEnabled) {
+            chunkedEncodingEnabled(chunkedEncodingEnabled);
+        }
+
         /**
          * Used by the SDK to create a {@link SdkHttpClient} with service-default values if no other values have been configured
          *
@@ -344,7 +476,8 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
             return new UrlConnectionHttpClient(standardOptions.build()
                                                               .merge(serviceDefaults)
                                                               .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS),
-                                               null);
+                                               null,
+                                               this);
         }
     }
 
@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.urlconnection;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class UrlConnectionHttpClientStreamingTest {
+    private static final String BODY = "Hello, World!";
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().dynamicPort());
+
+    private SdkHttpClient client;
+
+    @Before
+    public void setup() {
+        mockServer.stubFor(any(urlMatching(".*")).willReturn(aResponse().withStatus(200).withBody("OK")));
+    }
+
+    @After
+    public void teardown() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    public void requestWithContentLength_isStreamedWithFixedLength() throws Exception {
+        client = UrlConnectionHttpClient.builder().build();
+
+        execute(request(true), null);
+
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/"))
+                              .withHeader("Content-Length", equalTo(String.valueOf(BODY.length())))
+                              .withHeader("Transfer-Encoding", absent()));
+    }
+
+    @Test
+    public void requestWithoutContentLength_chunkedEncodingDisabled_isBuffered() throws Exception {
+        client = UrlConnectionHttpClient.builder().build();
+
+        execute(request(false), null);
+
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/"))
+                              .withHeader("Content-Length", equalTo(String.valueOf(BODY.length())))
+                              .withHeader("Transfer-Encoding", absent()));
+    }
+
+    @Test
+    public void requestWithoutContentLength_chunkedEncodingEnabled_isChunked() throws Exception {
+        client = UrlConnectionHttpClient.builder().chunkedEncodingEnabled(true).build();
+
+        execute(request(false), null);
+
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/"))
+                              .withHeader("Transfer-Encoding", equalTo("chunked")));
+    }
+
+    @Test
+    public void requestWithInvalidContentLength_isBuffered() throws Exception {
+        client = UrlConnectionHttpClient.builder().build();
+
+        execute(request("not-a-number"), null);
+
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/"))
+                              .withHeader("Content-Length", equalTo(String.valueOf(BODY.length())))
+                              .withHeader("Transfer-Encoding", absent()));
+    }
+
+    @Test
+    public void requestWithNegativeContentLength_chunkedEncodingEnabled_isChunked() throws Exception {
+        client = UrlConnectionHttpClient.builder().chunkedEncodingEnabled(true).build();
+
+        execute(request("-1"), null);
+
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/"))
+                              .withHeader("Transfer-Encoding", equalTo("chunked")));
+    }
+
+    @Test
+    public void metricsAreReported() throws Exception {
+        client = UrlConnectionHttpClient.builder().build();
+        MetricCollector collector = MetricCollector.create("test");
+
+        execute(request(true), collector);
+
+        MetricCollection metrics = collector.collect();
+        assertThat(metrics.metricValues(HttpMetric.HTTP_CLIENT_NAME)).containsExactly("UrlConnection");
+        assertThat(metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(1);
+    }
+
+    private void execute(SdkHttpFullRequest request, MetricCollector collector) throws Exception {
+        HttpExecuteResponse response = client.prepareRequest(HttpExecuteRequest.builder()
+                                                                               .request(request)
+                                                                               .contentStreamProvider(
+                                                                                   request.contentStreamProvider().get())
+                                                                               .metricCollector(collector)
+                                                                               .build())
+                                             .call();
+        response.responseBody().get().close();
+    }
+
+    private SdkHttpFullRequest request(boolean withContentLength) {
+        return request(withContentLength ? String.valueOf(BODY.length()) : null);
+    }
+
+    private SdkHttpFullRequest request(String contentLength) {
+        SdkHttpFullRequest.Builder builder =
+            SdkHttpFullRequest.builder()
+                              .uri(URI.create("http://localhost:" + mockServer.port()))
+                              .method(SdkHttpMethod.POST)
+                              .contentStreamProvider(
+                                  () -> new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8)));
+        if (contentLength != null) {
+            builder.putHeader("Content-Length", contentLength);
+        }
+        return builder.build();
+    }
+}
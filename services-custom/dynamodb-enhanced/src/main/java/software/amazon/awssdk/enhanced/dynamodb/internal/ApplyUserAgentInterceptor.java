@@ -38,7 +38,7 @@ public final class ApplyUserAgentInterceptor implements ExecutionInterceptor {
     @Override
     public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
         if (!(context.request() instanceof DynamoDbRequest)) {
-            // should never happen
+            // Registered as a global interceptor, so it also sees the requests of other services
             return context.request();
         }
 
@@ -0,0 +1,170 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.consumer;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.internal.consumer.DefaultKinesisShardConsumer;
+import software.amazon.awssdk.services.kinesis.model.StartingPosition;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Consumes shards of a Kinesis stream with enhanced fan-out, using {@code SubscribeToShard} calls made with a
+ * {@link KinesisAsyncClient}, and hands their records to a handler in batches.
+ * <p/>
+ * Each shard is consumed by its own subscription. A subscription expires after five minutes, or fails if the connection
+ * is lost; the consumer then subscribes to the shard again after the continuation sequence number of the last event it
+ * received, so that no records are skipped. When a shard is closed by a resharding, the consumer continues with its child
+ * shards once all of their parent shards that are consumed have been processed.
+ * <p/>
+ * The records of consecutive events of a shard are combined into one {@link ShardRecordBatch}, up to
+ * {@link Builder#maxBatchSize(Integer)} records. The handler is called with one batch of a shard at a time, and the next
+ * batch of the shard is only handed to it once the future returned for the previous one has completed. The batches of
+ * different shards are handled concurrently.
+ * <p/>
+ * Events are only requested from Kinesis while the records that are buffered or being handled, across all shards, are below
+ * {@link Builder#maxBufferedBytes(Long)}. Each shard requests one event at a time, so the memory used by the consumer is
+ * bounded by this limit plus one event per shard.
+ *
+ * <b>Example Usage</b>
+ * <p/>
+ *
+ * <pre>
+ * {@code
+ *     KinesisShardConsumer consumer =
+ *         KinesisShardConsumer.builder()
+ *                             .client(KinesisAsyncClient.create())
+ *                             .consumerArn(consumerArn)
+ *                             .shardIds(shardIds)
+ *                             .startingPosition(p -> p.type(ShardIteratorType.TRIM_HORIZON))
+ *                             .recordBatchHandler(batch -> process(batch.records()))
+ *                             .build();
+ *
+ *     // Completes when all the shards, and their child shards, have been consumed.
+ *     consumer.start().join();
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface KinesisShardConsumer extends SdkAutoCloseable {
+    /**
+     * Create a builder that can be used to configure and create a {@link KinesisShardConsumer}.
+     */
+    static Builder builder() {
+        return DefaultKinesisShardConsumer.builder();
+    }
+
+    /**
+     * Subscribe to the shards, and start handing their records to the handler. This can only be called once.
+     *
+     * @return A future that is completed when all the shards, and the child shards they were resharded into, have been
+     * consumed, or when the consumer is closed. It is completed exceptionally if the handler fails, or if a shard cannot be
+     * subscribed to after repeated attempts.
+     */
+    CompletableFuture<Void> start();
+
+    /**
+     * How far behind the tip of each shard that is being consumed the consumer is, in milliseconds, by shard ID. This is
+     * the {@code MillisBehindLatest} of the last event received from each shard.
+     */
+    Map<String, Long> millisBehindLatest();
+
+    /**
+     * Cancel the subscriptions, and complete the future returned by {@link #start()}. Buffered records that were not handed
+     * to the handler yet are discarded.
+     * <p/>
+     * This does not close the {@link KinesisAsyncClient} the consumer was created with, nor a
+     * {@link ScheduledExecutorService} provided with {@link Builder#scheduledExecutor(ScheduledExecutorService)}.
+     */
+    @Override
+    void close();
+
+    /**
+     * A builder for creating a {@link KinesisShardConsumer}. Created via {@link #builder()}.
+     */
+    @NotThreadSafe
+    interface Builder {
+        /**
+         * The client used to subscribe to the shards. This is required.
+         */
+        Builder client(KinesisAsyncClient client);
+
+        /**
+         * The ARN of the stream consumer registered with {@code RegisterStreamConsumer}. This is required.
+         */
+        Builder consumerArn(String consumerArn);
+
+        /**
+         * The IDs of the shards to consume. This is required.
+         */
+        Builder shardIds(Collection<String> shardIds);
+
+        /**
+         * Where to start consuming the shards. Child shards are always consumed from their start. The default is
+         * {@code LATEST}.
+         */
+        Builder startingPosition(StartingPosition startingPosition);
+
+        /**
+         * Where to start consuming the shards.
+         * <p/>
+         * This is a shorter method of invoking {@link #startingPosition(StartingPosition)} without needing to call
+         * {@code StartingPosition.builder()} or {@code .build()}.
+         */
+        default Builder startingPosition(Consumer<StartingPosition.Builder> startingPosition) {
+            return startingPosition(StartingPosition.builder().applyMutation(startingPosition).build());
+        }
+
+        /**
+         * The handler of the record batches. The next batch of a shard is handed to the handler once the future it returned
+         * for the previous batch of the shard has completed. If the future fails, the consumer stops and the future returned
+         * by {@link #start()} fails with the same error. This is required.
+         */
+        Builder recordBatchHandler(Function<ShardRecordBatch, CompletableFuture<Void>> recordBatchHandler);
+
+        /**
+         * The maximum number of records in a batch. Events are not split, so a batch can exceed this if a single event
+         * contains more records. The default is 10000.
+         */
+        Builder maxBatchSize(Integer maxBatchSize);
+
+        /**
+         * The maximum number of bytes of record data and partition keys that are buffered or being handled, across all the
+         * shards. The default is 64 MiB.
+         */
+        Builder maxBufferedBytes(Long maxBufferedBytes);
+
+        /**
+         * The executor used to subscribe again to shards after a failed subscription. If not specified, the consumer creates a
+         * single daemon thread, which is shut down when the consumer is closed.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Create the consumer.
+         */
+        KinesisShardConsumer build();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.consumer;
+
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.kinesis.model.Record;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A batch of records received from one shard by a {@link KinesisShardConsumer}, made of the records of one or more
+ * consecutive {@code SubscribeToShard} events.
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public final class ShardRecordBatch {
+    private final String shardId;
+    private final List<Record> records;
+    private final String continuationSequenceNumber;
+    private final Long millisBehindLatest;
+
+    private ShardRecordBatch(Builder builder) {
+        this.shardId = Validate.paramNotNull(builder.shardId, "shardId");
+        this.records = Collections.unmodifiableList(Validate.paramNotNull(builder.records, "records"));
+        this.continuationSequenceNumber = builder.continuationSequenceNumber;
+        this.millisBehindLatest = builder.millisBehindLatest;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The ID of the shard the records were received from.
+     */
+    public String shardId() {
+        return shardId;
+    }
+
+    /**
+     * The records of the batch, in the order of the shard. This may be empty when the shard did not receive new records.
+     */
+    public List<Record> records() {
+        return records;
+    }
+
+    /**
+     * The continuation sequence number of the last event of the batch. Processing can be resumed after this batch by
+     * subscribing to the shard after this sequence number, which makes it suitable for checkpointing. This is null for
+     * the last batch of a closed shard.
+     */
+    public String continuationSequenceNumber() {
+        return continuationSequenceNumber;
+    }
+
+    /**
+     * How far behind the tip of the shard the last event of the batch is, in milliseconds.
+     */
+    public Long millisBehindLatest() {
+        return millisBehindLatest;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ShardRecordBatch")
+                       .add("shardId", shardId)
+                       .add("records", records.size())
+                       .add("continuationSequenceNumber", continuationSequenceNumber)
+                       .add("millisBehindLatest", millisBehindLatest)
+                       .build();
+    }
+
+    /**
+     * A builder for creating a {@link ShardRecordBatch}. Created via {@link #builder()}.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private String shardId;
+        private List<Record> records;
+        private String continuationSequenceNumber;
+        private Long millisBehindLatest;
+
+        private Builder() {
+        }
+
+        public Builder shardId(String shardId) {
+            this.shardId = shardId;
+            return this;
+        }
+
+        public Builder records(List<Record> records) {
+            this.records = records;
+            return this;
+        }
+
+        public Builder continuationSequenceNumber(String continuationSequenceNumber) {
+            this.continuationSequenceNumber = continuationSequenceNumber;
+            return this;
+        }
+
+        public Builder millisBehindLatest(Long millisBehindLatest) {
+            this.millisBehindLatest = millisBehindLatest;
+            return this;
+        }
+
+        public ShardRecordBatch build() {
+            return new ShardRecordBatch(this);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.consumer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.consumer.KinesisShardConsumer;
+import software.amazon.awssdk.services.kinesis.consumer.ShardRecordBatch;
+import software.amazon.awssdk.services.kinesis.model.ChildShard;
+import software.amazon.awssdk.services.kinesis.model.ShardIteratorType;
+import software.amazon.awssdk.services.kinesis.model.StartingPosition;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The default implementation of {@link KinesisShardConsumer}, with a {@link ShardSubscription} for each shard being consumed,
+ * sharing one {@link MemoryBudget}.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultKinesisShardConsumer implements KinesisShardConsumer {
+    private static final int DEFAULT_MAX_BATCH_SIZE = 10_000;
+    private static final long DEFAULT_MAX_BUFFERED_BYTES = 64L * 1024 * 1024;
+    private static final StartingPosition TRIM_HORIZON = StartingPosition.builder()
+                                                                         .type(ShardIteratorType.TRIM_HORIZON)
+                                                                         .build();
+
+    private final KinesisAsyncClient client;
+    private final String consumerArn;
+    private final List<String> shardIds;
+    private final StartingPosition startingPosition;
+    private final Function<ShardRecordBatch, CompletableFuture<Void>> recordBatchHandler;
+    private final int maxBatchSize;
+    private final MemoryBudget budget;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final boolean shutdownScheduledExecutor;
+
+    private final Map<String, ShardSubscription> subscriptions = new LinkedHashMap<>();
+    private final Set<String> completedShardIds = new HashSet<>();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private DefaultKinesisShardConsumer(DefaultBuilder builder) {
+        this.client = Validate.paramNotNull(builder.client, "client");
+        this.consumerArn = Validate.paramNotNull(builder.consumerArn, "consumerArn");
+        this.shardIds = new ArrayList<>(Validate.paramNotNull(builder.shardIds, "shardIds"));
+        this.startingPosition = builder.startingPosition != null
+                                ? builder.startingPosition
+                                : StartingPosition.builder().type(ShardIteratorType.LATEST).build();
+        this.recordBatchHandler = Validate.paramNotNull(builder.recordBatchHandler, "recordBatchHandler");
+        this.maxBatchSize = builder.maxBatchSize != null
+                            ? Validate.isPositive(builder.maxBatchSize, "maxBatchSize")
+                            : DEFAULT_MAX_BATCH_SIZE;
+        this.budget = new MemoryBudget(builder.maxBufferedBytes != null
+                                       ? Validate.isPositive(builder.maxBufferedBytes, "maxBufferedBytes")
+                                       : DEFAULT_MAX_BUFFERED_BYTES);
+
+        this.shutdownScheduledExecutor = builder.scheduledExecutor == null;
+        this.scheduledExecutor = builder.scheduledExecutor != null
+                                 ? builder.scheduledExecutor
+                                 : Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                                                                                  .threadNamePrefix("kinesis-shard-consumer")
+                                                                                  .daemonThreads(true)
+                                                                                  .build());
+    }
+
+    public static KinesisShardConsumer.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public CompletableFuture<Void> start() {
+        if (!started.compareAndSet(false, true)) {
+            throw new IllegalStateException("The consumer has already been started.");
+        }
+
+        List<ShardSubscription> toSubscribe = new ArrayList<>();
+        synchronized (this) {
+            for (String shardId : shardIds) {
+                if (!subscriptions.containsKey(shardId)) {
+                    ShardSubscription subscription = new ShardSubscription(shardId, startingPosition, this);
+                    subscriptions.put(shardId, subscription);
+                    toSubscribe.add(subscription);
+                }
+            }
+        }
+
+        if (toSubscribe.isEmpty()) {
+            completion.complete(null);
+        }
+        toSubscribe.forEach(ShardSubscription::subscribe);
+        return completion;
+    }
+
+    @Override
+    public Map<String, Long> millisBehindLatest() {
+        Map<String, Long> lag = new HashMap<>();
+        synchronized (this) {
+            for (ShardSubscription subscription : subscriptions.values()) {
+                Long millisBehindLatest = subscription.millisBehindLatest();
+                if (millisBehindLatest != null) {
+                    lag.put(subscription.shardId(), millisBehindLatest);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(lag);
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            stopAll();
+            completion.complete(null);
+            if (shutdownScheduledExecutor) {
+                scheduledExecutor.shutdownNow();
+            }
+        }
+    }
+
+    KinesisAsyncClient client() {
+        return client;
+    }
+
+    String consumerArn() {
+        return consumerArn;
+    }
+
+    int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    MemoryBudget budget() {
+        return budget;
+    }
+
+    CompletableFuture<Void> handle(ShardRecordBatch batch) {
+        try {
+            return Validate.notNull(recordBatchHandler.apply(batch), "The record batch handler returned null.");
+        } catch (Throwable t) {
+            return CompletableFutureUtils.failedFuture(t);
+        }
+    }
+
+    void schedule(Runnable task, long delayMillis) {
+        try {
+            scheduledExecutor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            if (!closed.get()) {
+                fail(e);
+            }
+        }
+    }
+
+    /**
+     * Called when all the records of a closed shard have been handled. Start consuming each child shard whose parents that are
+     * consumed have all completed.
+     */
+    void shardCompleted(ShardSubscription completed, Collection<ChildShard> childShards) {
+        List<ShardSubscription> toSubscribe = new ArrayList<>();
+        boolean allCompleted;
+        synchronized (this) {
+            subscriptions.remove(completed.shardId());
+            completedShardIds.add(completed.shardId());
+            if (!closed.get()) {
+                for (ChildShard child : childShards) {
+                    String childId = child.shardId();
+                    if (subscriptions.containsKey(childId) || completedShardIds.contains(childId) ||
+                        child.parentShards().stream().anyMatch(subscriptions::containsKey)) {
+                        continue;
+                    }
+                    ShardSubscription subscription = new ShardSubscription(childId, TRIM_HORIZON, this);
+                    subscriptions.put(childId, subscription);
+                    toSubscribe.add(subscription);
+                }
+            }
+            allCompleted = subscriptions.isEmpty();
+        }
+
+        toSubscribe.forEach(ShardSubscription::subscribe);
+        if (allCompleted) {
+            completion.complete(null);
+        }
+    }
+
+    /**
+     * Stop consuming all the shards, and fail the future returned by {@link #start()}.
+     */
+    void fail(Throwable error) {
+        if (completion.completeExceptionally(error)) {
+            stopAll();
+        }
+    }
+
+    private void stopAll() {
+        List<ShardSubscription> toStop;
+        synchronized (this) {
+            toStop = new ArrayList<>(subscriptions.values());
+        }
+        toStop.forEach(ShardSubscription::stop);
+    }
+
+    private static final class DefaultBuilder implements KinesisShardConsumer.Builder {
+        private KinesisAsyncClient client;
+        private String consumerArn;
+        private Collection<String> shardIds;
+        private StartingPosition startingPosition;
+        private Function<ShardRecordBatch, CompletableFuture<Void>> recordBatchHandler;
+        private Integer maxBatchSize;
+        private Long maxBufferedBytes;
+        private ScheduledExecutorService scheduledExecutor;
+
+        @Override
+        public KinesisShardConsumer.Builder client(KinesisAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public KinesisShardConsumer.Builder consumerArn(String consumerArn) {
+            this.consumerArn = consumerArn;
+            return this;
+        }
+
+        @Override
+        public KinesisShardConsumer.Builder shardIds(Collection<String> shardIds) {
+            this.shardIds = shardIds;
+            return this;
+        }
+
+        @Override
+        public KinesisShardConsumer.Builder startingPosition(StartingPosition startingPosition) {
+            this.startingPosition = startingPosition;
+            return this;
+        }
+
+        @Override
+        public KinesisShardConsumer.Builder recordBatchHandler(
+            Function<ShardRecordBatch, CompletableFuture<Void>> recordBatchHandler) {
+            this.recordBatchHandler = recordBatchHandler;
+            return this;
+        }
+
+        @Override
+        public KinesisShardConsumer.Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        @Override
+        public KinesisShardConsumer.Builder maxBufferedBytes(Long maxBufferedBytes) {
+            this.maxBufferedBytes = maxBufferedBytes;
+            return this;
+        }
+
+        @Override
+        public KinesisShardConsumer.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public KinesisShardConsumer build() {
+            return new DefaultKinesisShardConsumer(this);
+        }
+    }
+}
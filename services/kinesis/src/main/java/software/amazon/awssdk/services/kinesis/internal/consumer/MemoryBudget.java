@@ -0,0 +1,81 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.consumer;
+
+import java.util.ArrayList;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Tracks the bytes of records buffered by all the shards of a consumer. Shards only request more events while the budget has
+ * room, and wait to be notified when it does not.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class MemoryBudget {
+    private final long maxBytes;
+    private final List<Runnable> waiters = new ArrayList<>();
+    private long usedBytes;
+
+    MemoryBudget(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    synchronized boolean hasRoom() {
+        return usedBytes < maxBytes;
+    }
+
+    synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Account for bytes that were received. This never blocks, since the event has already been requested and delivered.
+     */
+    synchronized void acquire(long bytes) {
+        usedBytes += bytes;
+    }
+
+    /**
+     * Release bytes that were handled, and notify the waiters if this made room.
+     */
+    void release(long bytes) {
+        List<Runnable> toNotify;
+        synchronized (this) {
+            usedBytes -= bytes;
+            if (usedBytes >= maxBytes || waiters.isEmpty()) {
+                return;
+            }
+            toNotify = new ArrayList<>(waiters);
+            waiters.clear();
+        }
+        toNotify.forEach(Runnable::run);
+    }
+
+    /**
+     * Run the waiter once the budget has room, which may be immediately.
+     */
+    void whenRoom(Runnable waiter) {
+        synchronized (this) {
+            if (usedBytes >= maxBytes) {
+                waiters.add(waiter);
+                return;
+            }
+        }
+        waiter.run();
+    }
+}
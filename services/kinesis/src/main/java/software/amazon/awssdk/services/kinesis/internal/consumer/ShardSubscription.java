@@ -0,0 +1,417 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.consumer;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.kinesis.consumer.ShardRecordBatch;
+import software.amazon.awssdk.services.kinesis.model.ChildShard;
+import software.amazon.awssdk.services.kinesis.model.Record;
+import software.amazon.awssdk.services.kinesis.model.ShardIteratorType;
+import software.amazon.awssdk.services.kinesis.model.StartingPosition;
+import software.amazon.awssdk.services.kinesis.model.SubscribeToShardEvent;
+import software.amazon.awssdk.services.kinesis.model.SubscribeToShardEventStream;
+import software.amazon.awssdk.services.kinesis.model.SubscribeToShardRequest;
+import software.amazon.awssdk.services.kinesis.model.SubscribeToShardResponseHandler;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Consumes one shard, by subscribing to it again each time a subscription ends until the shard is closed.
+ * <p/>
+ * Events are requested one at a time, and only while the {@link MemoryBudget} of the consumer has room. Received events are
+ * buffered, and handed to the record batch handler one batch at a time, combining the records of consecutive events. The
+ * bytes of an event are released from the budget once the batch containing it has been handled.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class ShardSubscription {
+    static final int MAX_CONSECUTIVE_FAILURES = 10;
+
+    private static final Logger log = Logger.loggerFor(ShardSubscription.class);
+    private static final Duration MIN_BACKOFF = Duration.ofMillis(100);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(5);
+
+    private final String shardId;
+    private final StartingPosition initialPosition;
+    private final DefaultKinesisShardConsumer consumer;
+    private final MemoryBudget budget;
+
+    private final Deque<BufferedEvent> events = new ArrayDeque<>();
+    private String continuationSequenceNumber;
+    private Subscription upstream;
+    private int generation;
+    private int consecutiveFailures;
+    private boolean requested;
+    private boolean waitingForRoom;
+    private boolean delivering;
+    private boolean shardEnded;
+    private boolean completed;
+    private boolean stopped;
+    private List<ChildShard> childShards = Collections.emptyList();
+    private volatile Long millisBehindLatest;
+
+    ShardSubscription(String shardId, StartingPosition initialPosition, DefaultKinesisShardConsumer consumer) {
+        this.shardId = shardId;
+        this.initialPosition = initialPosition;
+        this.consumer = consumer;
+        this.budget = consumer.budget();
+    }
+
+    String shardId() {
+        return shardId;
+    }
+
+    Long millisBehindLatest() {
+        return millisBehindLatest;
+    }
+
+    /**
+     * Subscribe to the shard, after the last event received from it if there is one.
+     */
+    void subscribe() {
+        int subscriptionGeneration;
+        StartingPosition startingPosition;
+        synchronized (this) {
+            if (stopped || shardEnded) {
+                return;
+            }
+            subscriptionGeneration = ++generation;
+            startingPosition = continuationSequenceNumber == null
+                               ? initialPosition
+                               : StartingPosition.builder()
+                                                 .type(ShardIteratorType.AFTER_SEQUENCE_NUMBER)
+                                                 .sequenceNumber(continuationSequenceNumber)
+                                                 .build();
+        }
+
+        SubscribeToShardRequest request = SubscribeToShardRequest.builder()
+                                                                 .consumerARN(consumer.consumerArn())
+                                                                 .shardId(shardId)
+                                                                 .startingPosition(startingPosition)
+                                                                 .build();
+        SubscribeToShardResponseHandler handler =
+            SubscribeToShardResponseHandler.builder()
+                                           .subscriber(() -> new EventSubscriber(subscriptionGeneration))
+                                           .build();
+
+        CompletableFuture<Void> subscription;
+        try {
+            subscription = consumer.client().subscribeToShard(request, handler);
+        } catch (Throwable t) {
+            subscription = CompletableFutureUtils.failedFuture(t);
+        }
+        subscription.whenComplete((r, t) -> subscriptionEnded(subscriptionGeneration, unwrap(t)));
+    }
+
+    /**
+     * Cancel the current subscription and discard the buffered events.
+     */
+    void stop() {
+        Subscription subscription;
+        long bufferedBytes = 0;
+        synchronized (this) {
+            stopped = true;
+            subscription = upstream;
+            upstream = null;
+            for (BufferedEvent event : events) {
+                bufferedBytes += event.bytes;
+            }
+            events.clear();
+        }
+
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        budget.release(bufferedBytes);
+    }
+
+    private void onSubscribe(int subscriptionGeneration, Subscription subscription) {
+        synchronized (this) {
+            if (subscriptionGeneration == generation && !stopped && !shardEnded) {
+                upstream = subscription;
+                requested = false;
+                subscription = null;
+            }
+        }
+
+        if (subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        requestMore();
+    }
+
+    private void onEvent(int subscriptionGeneration, SubscribeToShardEventStream eventStream) {
+        if (!(eventStream instanceof SubscribeToShardEvent)) {
+            synchronized (this) {
+                if (subscriptionGeneration == generation) {
+                    requested = false;
+                }
+            }
+            requestMore();
+            return;
+        }
+
+        SubscribeToShardEvent event = (SubscribeToShardEvent) eventStream;
+        long bytes = sizeOf(event.records());
+        budget.acquire(bytes);
+        synchronized (this) {
+            if (subscriptionGeneration != generation || stopped) {
+                bytes = -bytes;
+            } else {
+                requested = false;
+                consecutiveFailures = 0;
+                events.add(new BufferedEvent(event, bytes));
+                millisBehindLatest = event.millisBehindLatest();
+                if (event.continuationSequenceNumber() != null) {
+                    continuationSequenceNumber = event.continuationSequenceNumber();
+                } else {
+                    shardEnded = true;
+                    childShards = event.childShards();
+                }
+            }
+        }
+
+        if (bytes < 0) {
+            budget.release(-bytes);
+            return;
+        }
+        requestMore();
+        deliver();
+    }
+
+    /**
+     * Request the next event from the current subscription, if none is outstanding and the budget has room.
+     */
+    private void requestMore() {
+        Subscription subscription;
+        synchronized (this) {
+            if (requested || waitingForRoom || upstream == null || shardEnded || stopped) {
+                return;
+            }
+            if (!budget.hasRoom()) {
+                waitingForRoom = true;
+                subscription = null;
+            } else {
+                requested = true;
+                subscription = upstream;
+            }
+        }
+
+        if (subscription != null) {
+            subscription.request(1);
+        } else {
+            budget.whenRoom(this::onRoom);
+        }
+    }
+
+    private void onRoom() {
+        synchronized (this) {
+            waitingForRoom = false;
+        }
+        requestMore();
+    }
+
+    /**
+     * Hand the buffered events to the handler, one batch at a time. Batches whose handling completes synchronously are handled
+     * in a loop, rather than recursively.
+     */
+    private void deliver() {
+        while (true) {
+            ShardRecordBatch batch;
+            long batchBytes;
+            boolean shardCompleted = false;
+            synchronized (this) {
+                if (delivering || stopped) {
+                    return;
+                }
+                if (events.isEmpty()) {
+                    if (shardEnded && !completed) {
+                        completed = true;
+                        shardCompleted = true;
+                    }
+                    batch = null;
+                    batchBytes = 0;
+                } else {
+                    delivering = true;
+                    BufferedEvent last = events.poll();
+                    batchBytes = last.bytes;
+                    List<Record> records = last.event.records();
+                    if (!events.isEmpty() && records.size() < consumer.maxBatchSize()) {
+                        records = new ArrayList<>(records);
+                        while (!events.isEmpty() &&
+                               records.size() + events.peek().event.records().size() <= consumer.maxBatchSize()) {
+                            last = events.poll();
+                            batchBytes += last.bytes;
+                            records.addAll(last.event.records());
+                        }
+                    }
+                    batch = ShardRecordBatch.builder()
+                                            .shardId(shardId)
+                                            .records(records)
+                                            .continuationSequenceNumber(last.event.continuationSequenceNumber())
+                                            .millisBehindLatest(last.event.millisBehindLatest())
+                                            .build();
+                }
+            }
+
+            if (batch == null) {
+                if (shardCompleted) {
+                    consumer.shardCompleted(this, childShards);
+                }
+                return;
+            }
+
+            CompletableFuture<Void> handled = consumer.handle(batch);
+            long bytes = batchBytes;
+            if (!handled.isDone()) {
+                handled.whenComplete((r, t) -> {
+                    if (batchHandled(bytes, t)) {
+                        deliver();
+                    }
+                });
+                return;
+            }
+
+            Throwable error = handled.isCompletedExceptionally() ? handled.handle((r, t) -> t).join() : null;
+            if (!batchHandled(bytes, error)) {
+                return;
+            }
+        }
+    }
+
+    private boolean batchHandled(long bytes, Throwable error) {
+        synchronized (this) {
+            delivering = false;
+        }
+        budget.release(bytes);
+
+        if (error != null) {
+            consumer.fail(unwrap(error));
+            return false;
+        }
+        return true;
+    }
+
+    private void subscriptionEnded(int subscriptionGeneration, Throwable error) {
+        long delay = 0;
+        synchronized (this) {
+            if (subscriptionGeneration != generation || stopped) {
+                return;
+            }
+            upstream = null;
+            requested = false;
+            if (shardEnded) {
+                return;
+            }
+            if (error != null) {
+                if (++consecutiveFailures > MAX_CONSECUTIVE_FAILURES) {
+                    delay = -1;
+                } else {
+                    delay = backoff(consecutiveFailures);
+                }
+            }
+        }
+
+        if (delay < 0) {
+            consumer.fail(error);
+            return;
+        }
+
+        if (error == null) {
+            subscribe();
+            return;
+        }
+
+        long retryDelay = delay;
+        log.debug(() -> "Subscription to shard " + shardId + " failed, subscribing again in " + retryDelay + " ms.", error);
+        consumer.schedule(this::subscribe, delay);
+    }
+
+    private static long backoff(int failures) {
+        long delay = MIN_BACKOFF.toMillis() << Math.min(failures - 1, 16);
+        return Math.min(delay, MAX_BACKOFF.toMillis());
+    }
+
+    private static long sizeOf(List<Record> records) {
+        long bytes = 0;
+        for (Record record : records) {
+            if (record.data() != null) {
+                bytes += record.data().asByteArrayUnsafe().length;
+            }
+            if (record.partitionKey() != null) {
+                bytes += record.partitionKey().length();
+            }
+        }
+        return bytes;
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        if (t instanceof CompletionException && t.getCause() != null) {
+            return t.getCause();
+        }
+        return t;
+    }
+
+    private static final class BufferedEvent {
+        private final SubscribeToShardEvent event;
+        private final long bytes;
+
+        private BufferedEvent(SubscribeToShardEvent event, long bytes) {
+            this.event = event;
+            this.bytes = bytes;
+        }
+    }
+
+    private final class EventSubscriber implements Subscriber<SubscribeToShardEventStream> {
+        private final int subscriptionGeneration;
+
+        private EventSubscriber(int subscriptionGeneration) {
+            this.subscriptionGeneration = subscriptionGeneration;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            ShardSubscription.this.onSubscribe(subscriptionGeneration, subscription);
+        }
+
+        @Override
+        public void onNext(SubscribeToShardEventStream event) {
+            onEvent(subscriptionGeneration, event);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            // Failures are handled when the future returned by subscribeToShard completes.
+        }
+
+        @Override
+        public void onComplete() {
+            // Completion is handled when the future returned by subscribeToShard completes.
+        }
+    }
+}
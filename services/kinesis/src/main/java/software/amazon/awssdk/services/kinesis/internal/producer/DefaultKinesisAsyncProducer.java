@@ -0,0 +1,169 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.producer;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.model.PutRecordRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordResponse;
+import software.amazon.awssdk.services.kinesis.producer.KinesisAsyncProducer;
+import software.amazon.awssdk.services.kinesis.producer.ProducerOverrideConfiguration;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The default implementation of {@link KinesisAsyncProducer}, with a {@link StreamProducer} for each stream name and override
+ * configuration. The size of the records that are not completed yet is limited across all the streams.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultKinesisAsyncProducer implements KinesisAsyncProducer {
+    private final KinesisAsyncClient client;
+    private final ProducerSettings settings;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final boolean shutdownScheduledExecutor;
+    private final Map<StreamKey, StreamProducer> streamProducers = new ConcurrentHashMap<>();
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private DefaultKinesisAsyncProducer(DefaultBuilder builder) {
+        this.client = Validate.paramNotNull(builder.client, "client");
+        this.settings = new ProducerSettings(builder.overrideConfiguration != null
+                                             ? builder.overrideConfiguration
+                                             : ProducerOverrideConfiguration.builder().build());
+
+        this.shutdownScheduledExecutor = builder.scheduledExecutor == null;
+        this.scheduledExecutor = builder.scheduledExecutor != null
+                                 ? builder.scheduledExecutor
+                                 : Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                                                                                  .threadNamePrefix("kinesis-producer")
+                                                                                  .daemonThreads(true)
+                                                                                  .build());
+    }
+
+    public static KinesisAsyncProducer.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public CompletableFuture<PutRecordResponse> putRecord(PutRecordRequest request) {
+        Validate.paramNotNull(request, "request");
+        Validate.paramNotNull(request.streamName(), "streamName");
+        UserRecord record = new UserRecord(request);
+        if (closed.get()) {
+            return CompletableFutureUtils.failedFuture(new IllegalStateException("The producer has been closed."));
+        }
+        if (bufferedBytes.addAndGet(record.size()) > settings.maxBufferedBytes()) {
+            bufferedBytes.addAndGet(-record.size());
+            return CompletableFutureUtils.failedFuture(
+                SdkClientException.create("The record was rejected, because the producer already buffers "
+                                          + settings.maxBufferedBytes() + " bytes of records that are not completed."));
+        }
+        record.response().whenComplete((r, t) -> bufferedBytes.addAndGet(-record.size()));
+
+        StreamKey key = new StreamKey(request.streamName(), request.overrideConfiguration().orElse(null));
+        streamProducers.computeIfAbsent(key, k -> new StreamProducer(client, k.streamName, k.overrideConfiguration,
+                                                                     scheduledExecutor, settings))
+                       .add(record);
+        return record.response();
+    }
+
+    @Override
+    public void flush() {
+        streamProducers.values().forEach(StreamProducer::flush);
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            streamProducers.values().forEach(StreamProducer::close);
+            if (shutdownScheduledExecutor) {
+                scheduledExecutor.shutdownNow();
+            }
+        }
+    }
+
+    private static final class StreamKey {
+        private final String streamName;
+        private final AwsRequestOverrideConfiguration overrideConfiguration;
+
+        private StreamKey(String streamName, AwsRequestOverrideConfiguration overrideConfiguration) {
+            this.streamName = streamName;
+            this.overrideConfiguration = overrideConfiguration;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            StreamKey that = (StreamKey) o;
+            return Objects.equals(streamName, that.streamName) &&
+                   Objects.equals(overrideConfiguration, that.overrideConfiguration);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(streamName);
+            result = 31 * result + Objects.hashCode(overrideConfiguration);
+            return result;
+        }
+    }
+
+    private static final class DefaultBuilder implements KinesisAsyncProducer.Builder {
+        private KinesisAsyncClient client;
+        private ScheduledExecutorService scheduledExecutor;
+        private ProducerOverrideConfiguration overrideConfiguration;
+
+        @Override
+        public KinesisAsyncProducer.Builder client(KinesisAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public KinesisAsyncProducer.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public KinesisAsyncProducer.Builder overrideConfiguration(ProducerOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public KinesisAsyncProducer build() {
+            return new DefaultKinesisAsyncProducer(this);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.producer;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.kinesis.producer.ProducerOverrideConfiguration;
+
+/**
+ * The values of a {@link ProducerOverrideConfiguration}, with the defaults applied.
+ */
+@SdkInternalApi
+@Immutable
+final class ProducerSettings {
+    private static final Duration DEFAULT_LINGER = Duration.ofMillis(100);
+    private static final int DEFAULT_MAX_AGGREGATED_RECORD_SIZE = 50 * 1024;
+    private static final int DEFAULT_MAX_RECORD_ATTEMPTS = 5;
+    private static final int DEFAULT_MAX_RECORDS_PER_SECOND_PER_SHARD = 1000;
+    private static final int DEFAULT_MAX_BYTES_PER_SECOND_PER_SHARD = 1024 * 1024;
+    private static final long DEFAULT_MAX_BUFFERED_BYTES = 64L * 1024 * 1024;
+    private static final Duration DEFAULT_RECORD_TTL = Duration.ofSeconds(30);
+
+    private final int maxBatchSize;
+    private final int maxBatchSizeInBytes;
+    private final long lingerNanos;
+    private final boolean aggregationEnabled;
+    private final int maxAggregatedRecordSize;
+    private final int maxRecordAttempts;
+    private final int maxRecordsPerSecondPerShard;
+    private final int maxBytesPerSecondPerShard;
+    private final long maxBufferedBytes;
+    private final long recordTtlNanos;
+
+    ProducerSettings(ProducerOverrideConfiguration configuration) {
+        this.maxBatchSize = configuration.maxBatchSize().orElse(ProducerOverrideConfiguration.MAX_BATCH_SIZE);
+        this.maxBatchSizeInBytes = configuration.maxBatchSizeInBytes()
+                                                .orElse(ProducerOverrideConfiguration.MAX_BATCH_SIZE_IN_BYTES);
+        this.lingerNanos = configuration.linger().orElse(DEFAULT_LINGER).toNanos();
+        this.aggregationEnabled = configuration.aggregationEnabled().orElse(false);
+        this.maxAggregatedRecordSize = configuration.maxAggregatedRecordSizeInBytes()
+                                                    .orElse(DEFAULT_MAX_AGGREGATED_RECORD_SIZE);
+        this.maxRecordAttempts = configuration.maxRecordAttempts().orElse(DEFAULT_MAX_RECORD_ATTEMPTS);
+        this.maxRecordsPerSecondPerShard = configuration.maxRecordsPerSecondPerShard()
+                                                        .orElse(DEFAULT_MAX_RECORDS_PER_SECOND_PER_SHARD);
+        this.maxBytesPerSecondPerShard = configuration.maxBytesPerSecondPerShard()
+                                                      .orElse(DEFAULT_MAX_BYTES_PER_SECOND_PER_SHARD);
+        this.maxBufferedBytes = configuration.maxBufferedBytes().orElse(DEFAULT_MAX_BUFFERED_BYTES);
+        this.recordTtlNanos = configuration.recordTtl().orElse(DEFAULT_RECORD_TTL).toNanos();
+    }
+
+    int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    int maxBatchSizeInBytes() {
+        return maxBatchSizeInBytes;
+    }
+
+    long lingerNanos() {
+        return lingerNanos;
+    }
+
+    boolean aggregationEnabled() {
+        return aggregationEnabled;
+    }
+
+    int maxAggregatedRecordSize() {
+        return maxAggregatedRecordSize;
+    }
+
+    int maxRecordAttempts() {
+        return maxRecordAttempts;
+    }
+
+    int maxRecordsPerSecondPerShard() {
+        return maxRecordsPerSecondPerShard;
+    }
+
+    int maxBytesPerSecondPerShard() {
+        return maxBytesPerSecondPerShard;
+    }
+
+    long maxBufferedBytes() {
+        return maxBufferedBytes;
+    }
+
+    long recordTtlNanos() {
+        return recordTtlNanos;
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.producer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
+import software.amazon.awssdk.utils.Md5Utils;
+
+/**
+ * Combines user records sent to the same shard into one Kinesis record, in the aggregated record format of the Kinesis
+ * Producer Library: a magic number, followed by an {@code AggregatedRecord} protobuf message and by the MD5 of that message.
+ * <pre>
+ * message AggregatedRecord {
+ *     repeated string partition_key_table = 1;
+ *     repeated string explicit_hash_key_table = 2;
+ *     repeated Record records = 3;
+ * }
+ *
+ * message Record {
+ *     required uint64 partition_key_index = 1;
+ *     optional uint64 explicit_hash_key_index = 2;
+ *     required bytes data = 3;
+ * }
+ * </pre>
+ * A single user record is sent as is, without aggregation.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class RecordAggregator {
+    private static final byte[] MAGIC = {(byte) 0xF3, (byte) 0x89, (byte) 0x9A, (byte) 0xC2};
+    private static final int MD5_LENGTH = 16;
+
+    // Protobuf field tags: the field number shifted left by three bits, and the wire type (0 for varints, 2 for bytes).
+    private static final byte PARTITION_KEY_TABLE_TAG = (1 << 3) | 2;
+    private static final byte EXPLICIT_HASH_KEY_TABLE_TAG = (2 << 3) | 2;
+    private static final byte RECORDS_TAG = (3 << 3) | 2;
+    private static final byte PARTITION_KEY_INDEX_TAG = 1 << 3;
+    private static final byte EXPLICIT_HASH_KEY_INDEX_TAG = 2 << 3;
+    private static final byte DATA_TAG = (3 << 3) | 2;
+
+    private final List<UserRecord> records = new ArrayList<>();
+    private final Map<String, Integer> partitionKeys = new LinkedHashMap<>();
+    private final Map<String, Integer> explicitHashKeys = new LinkedHashMap<>();
+    private int protobufSize;
+
+    /**
+     * The user records of the Kinesis record.
+     */
+    List<UserRecord> records() {
+        return records;
+    }
+
+    boolean isEmpty() {
+        return records.isEmpty();
+    }
+
+    /**
+     * The size of the Kinesis record, in bytes: the size of its data plus the size of its partition key.
+     */
+    int size() {
+        if (records.size() == 1) {
+            return records.get(0).size();
+        }
+        return aggregatedSize(protobufSize);
+    }
+
+    /**
+     * The size the Kinesis record would have if the given user record was added to it.
+     */
+    int sizeWith(UserRecord record) {
+        if (records.isEmpty()) {
+            return record.size();
+        }
+        return aggregatedSize(protobufSize + protobufSize(record));
+    }
+
+    void add(UserRecord record) {
+        protobufSize += protobufSize(record);
+        partitionKeys.putIfAbsent(record.partitionKey(), partitionKeys.size());
+        if (record.explicitHashKey() != null) {
+            explicitHashKeys.putIfAbsent(record.explicitHashKey(), explicitHashKeys.size());
+        }
+        records.add(record);
+    }
+
+    /**
+     * Create the {@code PutRecords} entry of the Kinesis record. An aggregated record uses the partition key of its first
+     * user record, and the hash key of that user record as its explicit hash key, so that it is sent to their shard.
+     */
+    PutRecordsRequestEntry toEntry() {
+        UserRecord first = records.get(0);
+        if (records.size() == 1) {
+            return PutRecordsRequestEntry.builder()
+                                         .partitionKey(first.partitionKey())
+                                         .explicitHashKey(first.explicitHashKey())
+                                         .data(first.data())
+                                         .build();
+        }
+
+        return PutRecordsRequestEntry.builder()
+                                     .partitionKey(first.partitionKey())
+                                     .explicitHashKey(first.hashKey().toString())
+                                     .data(SdkBytes.fromByteArrayUnsafe(encode()))
+                                     .build();
+    }
+
+    private int aggregatedSize(int protobufSize) {
+        return MAGIC.length + protobufSize + MD5_LENGTH + utf8Length(records.get(0).partitionKey());
+    }
+
+    /**
+     * The number of bytes the user record adds to the protobuf message: the table entries of its keys if they are not in the
+     * tables yet, and its {@code Record} message.
+     */
+    private int protobufSize(UserRecord record) {
+        int size = 0;
+
+        Integer partitionKeyIndex = partitionKeys.get(record.partitionKey());
+        if (partitionKeyIndex == null) {
+            partitionKeyIndex = partitionKeys.size();
+            size += lengthDelimitedFieldSize(utf8Length(record.partitionKey()));
+        }
+
+        int recordSize = 1 + varintSize(partitionKeyIndex);
+        if (record.explicitHashKey() != null) {
+            Integer explicitHashKeyIndex = explicitHashKeys.get(record.explicitHashKey());
+            if (explicitHashKeyIndex == null) {
+                explicitHashKeyIndex = explicitHashKeys.size();
+                size += lengthDelimitedFieldSize(utf8Length(record.explicitHashKey()));
+            }
+            recordSize += 1 + varintSize(explicitHashKeyIndex);
+        }
+        recordSize += lengthDelimitedFieldSize(record.data().asByteArrayUnsafe().length);
+
+        return size + lengthDelimitedFieldSize(recordSize);
+    }
+
+    private byte[] encode() {
+        byte[] output = new byte[MAGIC.length + protobufSize + MD5_LENGTH];
+        System.arraycopy(MAGIC, 0, output, 0, MAGIC.length);
+
+        int position = MAGIC.length;
+        for (String partitionKey : partitionKeys.keySet()) {
+            position = writeBytesField(output, position, PARTITION_KEY_TABLE_TAG, partitionKey.getBytes(StandardCharsets.UTF_8));
+        }
+        for (String explicitHashKey : explicitHashKeys.keySet()) {
+            position = writeBytesField(output, position, EXPLICIT_HASH_KEY_TABLE_TAG,
+                                       explicitHashKey.getBytes(StandardCharsets.UTF_8));
+        }
+        for (UserRecord record : records) {
+            byte[] data = record.data().asByteArrayUnsafe();
+            int partitionKeyIndex = partitionKeys.get(record.partitionKey());
+            Integer explicitHashKeyIndex = record.explicitHashKey() == null ? null
+                                                                            : explicitHashKeys.get(record.explicitHashKey());
+
+            int recordSize = 1 + varintSize(partitionKeyIndex) + lengthDelimitedFieldSize(data.length);
+            if (explicitHashKeyIndex != null) {
+                recordSize += 1 + varintSize(explicitHashKeyIndex);
+            }
+
+            output[position++] = RECORDS_TAG;
+            position = writeVarint(output, position, recordSize);
+            output[position++] = PARTITION_KEY_INDEX_TAG;
+            position = writeVarint(output, position, partitionKeyIndex);
+            if (explicitHashKeyIndex != null) {
+                output[position++] = EXPLICIT_HASH_KEY_INDEX_TAG;
+                position = writeVarint(output, position, explicitHashKeyIndex);
+            }
+            position = writeBytesField(output, position, DATA_TAG, data);
+        }
+
+        byte[] md5 = Md5Utils.computeMD5Hash(Arrays.copyOfRange(output, MAGIC.length, position));
+        System.arraycopy(md5, 0, output, position, MD5_LENGTH);
+        return output;
+    }
+
+    private static int writeBytesField(byte[] output, int position, byte tag, byte[] value) {
+        output[position++] = tag;
+        position = writeVarint(output, position, value.length);
+        System.arraycopy(value, 0, output, position, value.length);
+        return position + value.length;
+    }
+
+    private static int writeVarint(byte[] output, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            output[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output[position++] = (byte) value;
+        return position;
+    }
+
+    private static int lengthDelimitedFieldSize(int length) {
+        return 1 + varintSize(length) + length;
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static int utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
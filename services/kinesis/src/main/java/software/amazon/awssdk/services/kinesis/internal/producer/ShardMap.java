@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.producer;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.model.ListShardsRequest;
+import software.amazon.awssdk.services.kinesis.model.Shard;
+
+/**
+ * Maps hash keys to the open shards of a stream, using the hash key ranges of the shards.
+ */
+@SdkInternalApi
+@Immutable
+final class ShardMap {
+    private final BigInteger[] startingHashKeys;
+    private final String[] shardIds;
+
+    ShardMap(List<Shard> shards) {
+        List<Shard> openShards = new ArrayList<>();
+        for (Shard shard : shards) {
+            if (shard.sequenceNumberRange() == null || shard.sequenceNumberRange().endingSequenceNumber() == null) {
+                openShards.add(shard);
+            }
+        }
+        if (openShards.isEmpty()) {
+            throw SdkClientException.create("The stream does not have any open shards.");
+        }
+        openShards.sort(Comparator.comparing(s -> new BigInteger(s.hashKeyRange().startingHashKey())));
+
+        this.startingHashKeys = new BigInteger[openShards.size()];
+        this.shardIds = new String[openShards.size()];
+        for (int i = 0; i < openShards.size(); i++) {
+            startingHashKeys[i] = new BigInteger(openShards.get(i).hashKeyRange().startingHashKey());
+            shardIds[i] = openShards.get(i).shardId();
+        }
+    }
+
+    /**
+     * List the shards of a stream, following the pagination of {@code ListShards}.
+     */
+    static CompletableFuture<ShardMap> load(KinesisAsyncClient client, String streamName,
+                                            AwsRequestOverrideConfiguration overrideConfiguration) {
+        ListShardsRequest request = ListShardsRequest.builder()
+                                                     .streamName(streamName)
+                                                     .overrideConfiguration(overrideConfiguration)
+                                                     .build();
+        return listShards(client, request, overrideConfiguration, new ArrayList<>()).thenApply(ShardMap::new);
+    }
+
+    private static CompletableFuture<List<Shard>> listShards(KinesisAsyncClient client, ListShardsRequest request,
+                                                             AwsRequestOverrideConfiguration overrideConfiguration,
+                                                             List<Shard> shards) {
+        return client.listShards(request).thenCompose(response -> {
+            shards.addAll(response.shards());
+            if (response.nextToken() == null) {
+                return CompletableFuture.completedFuture(shards);
+            }
+            ListShardsRequest nextRequest = ListShardsRequest.builder()
+                                                             .nextToken(response.nextToken())
+                                                             .overrideConfiguration(overrideConfiguration)
+                                                             .build();
+            return listShards(client, nextRequest, overrideConfiguration, shards);
+        });
+    }
+
+    /**
+     * The ID of the open shard whose hash key range contains the given hash key.
+     */
+    String shardId(BigInteger hashKey) {
+        int low = 0;
+        int high = startingHashKeys.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (startingHashKeys[middle].compareTo(hashKey) <= 0) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return shardIds[low];
+    }
+
+    /**
+     * Whether the map contains an open shard with the given ID.
+     */
+    boolean containsShard(String shardId) {
+        for (String id : shardIds) {
+            if (id.equals(shardId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
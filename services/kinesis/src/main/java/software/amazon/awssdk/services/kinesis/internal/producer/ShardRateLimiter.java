@@ -0,0 +1,97 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.producer;
+
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Limits the number of records and bytes sent to a shard per second, with a token bucket for each that can hold up to one
+ * second of tokens.
+ * <p>
+ * A record larger than the bytes that can be sent per second is let through once the bucket is full, leaving the bucket in
+ * debt, so that it is not held back forever.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class ShardRateLimiter {
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double maxRecords;
+    private final double maxBytes;
+    private double records;
+    private double bytes;
+    private long lastRefillTime;
+    private long blockedUntil;
+
+    ShardRateLimiter(int recordsPerSecond, int bytesPerSecond, long now) {
+        this.maxRecords = recordsPerSecond;
+        this.maxBytes = bytesPerSecond;
+        this.records = maxRecords;
+        this.bytes = maxBytes;
+        this.lastRefillTime = now;
+        this.blockedUntil = now;
+    }
+
+    /**
+     * Take the tokens to send a record of the given size, if they are available.
+     *
+     * @return True if the record can be sent.
+     */
+    boolean tryAcquire(int size, long now) {
+        refill(now);
+        if (now - blockedUntil < 0 || records < 1 || (bytes < size && bytes < maxBytes)) {
+            return false;
+        }
+        records -= 1;
+        bytes -= size;
+        return true;
+    }
+
+    /**
+     * The number of nanoseconds until a record of the given size can be sent.
+     */
+    long nanosUntilAvailable(int size, long now) {
+        refill(now);
+        double missingRecords = Math.max(0, 1 - records);
+        double missingBytes = Math.max(0, Math.min(size, maxBytes) - bytes);
+        double refillNanos = Math.max(missingRecords / maxRecords, missingBytes / maxBytes) * NANOS_PER_SECOND;
+        return Math.max(Math.max(blockedUntil - now, 0), (long) Math.ceil(refillNanos));
+    }
+
+    /**
+     * Stop sending records to the shard for the given number of nanoseconds, after Kinesis reported that its throughput was
+     * exceeded, and restart with empty buckets.
+     */
+    void throttle(long backoffNanos, long now) {
+        refill(now);
+        records = Math.min(records, 0);
+        bytes = Math.min(bytes, 0);
+        blockedUntil = now + backoffNanos;
+        lastRefillTime = blockedUntil;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefillTime;
+        if (elapsed <= 0) {
+            return;
+        }
+        lastRefillTime = now;
+        records = Math.min(maxRecords, records + maxRecords * elapsed / NANOS_PER_SECOND);
+        bytes = Math.min(maxBytes, bytes + maxBytes * elapsed / NANOS_PER_SECOND);
+    }
+}
@@ -0,0 +1,496 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.producer;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.model.KinesisException;
+import software.amazon.awssdk.services.kinesis.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.kinesis.model.PutRecordResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResultEntry;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Buffers the records of one stream and override configuration per shard, and sends them with {@code PutRecords}.
+ * <p>
+ * Records that are held back by the rate limit of their shard for longer than the record TTL fail instead of waiting to
+ * be sent.
+ * <p>
+ * The shard of a record is determined with a {@link ShardMap}, which is loaded when the first record is added and reloaded
+ * when Kinesis puts a record in a different shard than expected. Records added before the shard map is loaded are buffered
+ * until it is. A {@link ShardRateLimiter} holds back the records of a shard when sending them would exceed its throughput.
+ * Records that Kinesis fails to put are added back to the front of their shard's buffer, and the shard is throttled when
+ * its throughput was exceeded.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class StreamProducer {
+    private static final Logger log = Logger.loggerFor(StreamProducer.class);
+
+    private static final long THROTTLE_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final String PROVISIONED_THROUGHPUT_EXCEEDED = "ProvisionedThroughputExceededException";
+    private static final int SENDER_FAULT_STATUS_CODE = 400;
+    private static final int SERVICE_FAULT_STATUS_CODE = 500;
+
+    private final KinesisAsyncClient client;
+    private final String streamName;
+    private final AwsRequestOverrideConfiguration overrideConfiguration;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final ProducerSettings settings;
+
+    private final Map<String, ShardBuffer> shardBuffers = new LinkedHashMap<>();
+    private final List<UserRecord> unassignedRecords = new ArrayList<>();
+    private ShardMap shardMap;
+    private boolean loadingShardMap;
+    private int bufferedRecords;
+    private long bufferedBytes;
+    private ScheduledFuture<?> scheduledDrain;
+    private long scheduledDrainTime;
+    private boolean closed;
+
+    StreamProducer(KinesisAsyncClient client,
+                   String streamName,
+                   AwsRequestOverrideConfiguration overrideConfiguration,
+                   ScheduledExecutorService scheduledExecutor,
+                   ProducerSettings settings) {
+        this.client = client;
+        this.streamName = streamName;
+        this.overrideConfiguration = overrideConfiguration;
+        this.scheduledExecutor = scheduledExecutor;
+        this.settings = settings;
+    }
+
+    /**
+     * Buffer the record in the buffer of its shard, and send the buffered records if they fill a {@code PutRecords}
+     * request.
+     */
+    void add(UserRecord record) {
+        boolean loadShardMap = false;
+        boolean drain = false;
+
+        synchronized (this) {
+            if (shardMap == null) {
+                unassignedRecords.add(record);
+                loadShardMap = startLoadingShardMap();
+            } else {
+                assign(record, false);
+                drain = closed || isFull();
+                if (!drain) {
+                    scheduleDrain(settings.lingerNanos());
+                }
+            }
+        }
+
+        if (loadShardMap) {
+            loadShardMap();
+        }
+        if (drain) {
+            drain();
+        }
+    }
+
+    /**
+     * Send the buffered records whose shard is below its rate limit.
+     */
+    void flush() {
+        drain();
+    }
+
+    /**
+     * Send all the buffered records, without applying the rate limits, and stop retrying failed records.
+     */
+    void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        drain();
+    }
+
+    private boolean isFull() {
+        // Aggregation reduces the number of Kinesis records, so only the size of the buffered records is relevant.
+        return bufferedBytes >= settings.maxBatchSizeInBytes() ||
+               (!settings.aggregationEnabled() && bufferedRecords >= settings.maxBatchSize());
+    }
+
+    private void assign(UserRecord record, boolean first) {
+        String shardId = shardMap.shardId(record.hashKey());
+        ShardBuffer buffer = shardBuffers.computeIfAbsent(shardId, ShardBuffer::new);
+        if (first) {
+            buffer.records.addFirst(record);
+        } else {
+            buffer.records.addLast(record);
+        }
+        bufferedRecords++;
+        bufferedBytes += record.size();
+    }
+
+    private boolean startLoadingShardMap() {
+        if (loadingShardMap) {
+            return false;
+        }
+        loadingShardMap = true;
+        return true;
+    }
+
+    private void loadShardMap() {
+        CompletableFuture<ShardMap> load;
+        try {
+            load = ShardMap.load(client, streamName, overrideConfiguration);
+        } catch (Throwable t) {
+            load = CompletableFutureUtils.failedFuture(t);
+        }
+        load.whenComplete(this::shardMapLoaded);
+    }
+
+    private void shardMapLoaded(ShardMap loadedShardMap, Throwable error) {
+        List<UserRecord> failedRecords = Collections.emptyList();
+        boolean drain = false;
+
+        synchronized (this) {
+            loadingShardMap = false;
+            if (error == null) {
+                shardMap = loadedShardMap;
+                reassignRecords();
+                drain = closed || isFull();
+                if (!drain && bufferedRecords > 0) {
+                    scheduleDrain(settings.lingerNanos());
+                }
+            } else if (shardMap == null) {
+                failedRecords = new ArrayList<>(unassignedRecords);
+                unassignedRecords.clear();
+            } else {
+                log.warn(() -> "Failed to reload the shards of stream " + streamName + ", using the previous shards.", error);
+            }
+        }
+
+        if (!failedRecords.isEmpty()) {
+            Throwable cause = CompletableFutureUtils.errorAsCompletionException(error).getCause();
+            failedRecords.forEach(record -> record.response().completeExceptionally(cause));
+        }
+        if (drain) {
+            drain();
+        }
+    }
+
+    /**
+     * Move the buffered records to the buffers of their shards in the current shard map, keeping the order of the records of
+     * each shard.
+     */
+    private void reassignRecords() {
+        List<UserRecord> records = new ArrayList<>(unassignedRecords);
+        unassignedRecords.clear();
+        for (ShardBuffer buffer : shardBuffers.values()) {
+            records.addAll(buffer.records);
+            buffer.records.clear();
+        }
+        shardBuffers.keySet().removeIf(shardId -> !shardMap.containsShard(shardId));
+
+        bufferedRecords = 0;
+        bufferedBytes = 0;
+        records.forEach(record -> assign(record, false));
+    }
+
+    private void drain() {
+        List<List<KinesisRecord>> batches = new ArrayList<>();
+        List<UserRecord> expiredRecords = new ArrayList<>();
+
+        synchronized (this) {
+            cancelScheduledDrain();
+
+            long now = System.nanoTime();
+            long nextDrainDelay = -1;
+            List<KinesisRecord> batch = new ArrayList<>();
+            long batchSize = 0;
+
+            for (ShardBuffer shard : shardBuffers.values()) {
+                while (!shard.records.isEmpty()) {
+                    RecordAggregator record = nextRecord(shard);
+                    int size = record.size();
+                    if (!closed && !shard.rateLimiter.tryAcquire(size, now)) {
+                        removeExpiredRecords(shard, now, expiredRecords);
+                        long delay = shard.rateLimiter.nanosUntilAvailable(size, now);
+                        nextDrainDelay = nextDrainDelay < 0 ? delay : Math.min(nextDrainDelay, delay);
+                        break;
+                    }
+
+                    for (UserRecord userRecord : record.records()) {
+                        shard.records.removeFirst();
+                        userRecord.incrementAttempts();
+                        bufferedRecords--;
+                        bufferedBytes -= userRecord.size();
+                    }
+
+                    if (!batch.isEmpty() &&
+                        (batch.size() >= settings.maxBatchSize() || batchSize + size > settings.maxBatchSizeInBytes())) {
+                        batches.add(batch);
+                        batch = new ArrayList<>();
+                        batchSize = 0;
+                    }
+                    batch.add(new KinesisRecord(shard.shardId, record));
+                    batchSize += size;
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                batches.add(batch);
+            }
+            if (nextDrainDelay >= 0) {
+                scheduleDrain(nextDrainDelay);
+            }
+        }
+
+        if (!expiredRecords.isEmpty()) {
+            SdkClientException exception = SdkClientException.create("The record was not sent within the record TTL of "
+                                                                      + Duration.ofNanos(settings.recordTtlNanos()) + ".");
+            expiredRecords.forEach(record -> record.response().completeExceptionally(exception));
+        }
+        batches.forEach(this::send);
+    }
+
+    /**
+     * Remove the records at the front of the held back buffer of a shard that are older than the record TTL. Records are
+     * buffered in the order they were put, except for retried records, which are older than the records they are put in front
+     * of.
+     */
+    private void removeExpiredRecords(ShardBuffer shard, long now, List<UserRecord> expiredRecords) {
+        while (!shard.records.isEmpty() && now - shard.records.peekFirst().createdNanos() > settings.recordTtlNanos()) {
+            UserRecord record = shard.records.removeFirst();
+            bufferedRecords--;
+            bufferedBytes -= record.size();
+            expiredRecords.add(record);
+        }
+    }
+
+    /**
+     * The next Kinesis record of the shard: the first buffered user record, aggregated with the user records that follow it
+     * if aggregation is enabled. The user records are not removed from the buffer.
+     */
+    private RecordAggregator nextRecord(ShardBuffer shard) {
+        RecordAggregator aggregator = new RecordAggregator();
+        for (UserRecord record : shard.records) {
+            if (!aggregator.isEmpty() &&
+                (!settings.aggregationEnabled() || aggregator.sizeWith(record) > settings.maxAggregatedRecordSize())) {
+                break;
+            }
+            aggregator.add(record);
+        }
+        return aggregator;
+    }
+
+    private void scheduleDrain(long delayNanos) {
+        long drainTime = System.nanoTime() + delayNanos;
+        if (scheduledDrain != null) {
+            if (scheduledDrainTime - drainTime <= 0) {
+                return;
+            }
+            scheduledDrain.cancel(false);
+        }
+        scheduledDrainTime = drainTime;
+        scheduledDrain = scheduledExecutor.schedule(this::drain, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void cancelScheduledDrain() {
+        if (scheduledDrain != null) {
+            scheduledDrain.cancel(false);
+            scheduledDrain = null;
+        }
+    }
+
+    private void send(List<KinesisRecord> batch) {
+        List<PutRecordsRequestEntry> entries = new ArrayList<>(batch.size());
+        for (KinesisRecord record : batch) {
+            entries.add(record.aggregator.toEntry());
+        }
+
+        PutRecordsRequest request = PutRecordsRequest.builder()
+                                                     .streamName(streamName)
+                                                     .records(entries)
+                                                     .overrideConfiguration(overrideConfiguration)
+                                                     .build();
+
+        CompletableFuture<PutRecordsResponse> response;
+        try {
+            response = client.putRecords(request);
+        } catch (Throwable t) {
+            response = CompletableFutureUtils.failedFuture(t);
+        }
+
+        response.whenComplete((putRecordsResponse, error) -> {
+            if (error != null) {
+                Throwable cause = CompletableFutureUtils.errorAsCompletionException(error).getCause();
+                batch.forEach(record -> record.completeExceptionally(cause));
+            } else {
+                completeRecords(batch, putRecordsResponse);
+            }
+        });
+    }
+
+    private void completeRecords(List<KinesisRecord> batch, PutRecordsResponse response) {
+        List<UserRecord> retries = new ArrayList<>();
+        Set<String> throttledShards = new HashSet<>();
+        boolean shardMapOutdated = false;
+        boolean retry;
+        synchronized (this) {
+            retry = !closed;
+        }
+
+        List<PutRecordsResultEntry> results = response.records();
+        for (int i = 0; i < batch.size(); i++) {
+            KinesisRecord record = batch.get(i);
+            PutRecordsResultEntry result = i < results.size() ? results.get(i) : null;
+
+            if (result == null) {
+                record.completeExceptionally(SdkClientException.create("The PutRecords response did not include a result for "
+                                                                       + "the record."));
+            } else if (result.errorCode() == null) {
+                shardMapOutdated |= !record.shardId.equals(result.shardId());
+                PutRecordResponse recordResponse = toResponse(result, response);
+                record.aggregator.records().forEach(userRecord -> userRecord.response().complete(recordResponse));
+            } else {
+                KinesisException exception = toException(result, response);
+                for (UserRecord userRecord : record.aggregator.records()) {
+                    if (retry && userRecord.attempts() < settings.maxRecordAttempts()) {
+                        retries.add(userRecord);
+                    } else {
+                        userRecord.response().completeExceptionally(exception);
+                    }
+                }
+                if (PROVISIONED_THROUGHPUT_EXCEEDED.equals(result.errorCode())) {
+                    throttledShards.add(record.shardId);
+                }
+            }
+        }
+
+        if (retries.isEmpty() && !shardMapOutdated) {
+            return;
+        }
+
+        boolean loadShardMap = false;
+        synchronized (this) {
+            long now = System.nanoTime();
+            for (String shardId : throttledShards) {
+                ShardBuffer buffer = shardBuffers.get(shardId);
+                if (buffer != null) {
+                    buffer.rateLimiter.throttle(THROTTLE_BACKOFF_NANOS, now);
+                }
+            }
+
+            for (int i = retries.size() - 1; i >= 0; i--) {
+                assign(retries.get(i), true);
+            }
+            if (!retries.isEmpty()) {
+                scheduleDrain(0);
+            }
+
+            if (shardMapOutdated) {
+                loadShardMap = startLoadingShardMap();
+            }
+        }
+
+        if (loadShardMap) {
+            loadShardMap();
+        }
+    }
+
+    private static PutRecordResponse toResponse(PutRecordsResultEntry result, PutRecordsResponse response) {
+        PutRecordResponse.Builder builder = PutRecordResponse.builder()
+                                                             .shardId(result.shardId())
+                                                             .sequenceNumber(result.sequenceNumber())
+                                                             .encryptionType(response.encryptionType());
+        builder.sdkHttpResponse(response.sdkHttpResponse());
+        if (response.responseMetadata() != null) {
+            builder.responseMetadata(response.responseMetadata());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Create the exception for a failed record of a {@code PutRecords} response, as if the record had been put on its own.
+     */
+    private static KinesisException toException(PutRecordsResultEntry result, PutRecordsResponse response) {
+        boolean throttled = PROVISIONED_THROUGHPUT_EXCEEDED.equals(result.errorCode());
+        AwsErrorDetails errorDetails = AwsErrorDetails.builder()
+                                                      .errorCode(result.errorCode())
+                                                      .errorMessage(result.errorMessage())
+                                                      .serviceName("Kinesis")
+                                                      .sdkHttpResponse(response.sdkHttpResponse())
+                                                      .build();
+        KinesisException.Builder builder = throttled ? ProvisionedThroughputExceededException.builder()
+                                                     : KinesisException.builder();
+        return (KinesisException) builder.message(result.errorMessage())
+                                         .statusCode(throttled ? SENDER_FAULT_STATUS_CODE : SERVICE_FAULT_STATUS_CODE)
+                                         .requestId(response.responseMetadata() == null
+                                                    ? null
+                                                    : response.responseMetadata().requestId())
+                                         .awsErrorDetails(errorDetails)
+                                         .build();
+    }
+
+    /**
+     * The buffered user records of one shard, and the rate limiter of the shard.
+     */
+    private final class ShardBuffer {
+        private final String shardId;
+        private final Deque<UserRecord> records = new ArrayDeque<>();
+        private final ShardRateLimiter rateLimiter;
+
+        private ShardBuffer(String shardId) {
+            this.shardId = shardId;
+            this.rateLimiter = new ShardRateLimiter(settings.maxRecordsPerSecondPerShard(),
+                                                    settings.maxBytesPerSecondPerShard(),
+                                                    System.nanoTime());
+        }
+    }
+
+    /**
+     * A Kinesis record being sent, and the shard it is expected to be put in.
+     */
+    private static final class KinesisRecord {
+        private final String shardId;
+        private final RecordAggregator aggregator;
+
+        private KinesisRecord(String shardId, RecordAggregator aggregator) {
+            this.shardId = shardId;
+            this.aggregator = aggregator;
+        }
+
+        private void completeExceptionally(Throwable error) {
+            aggregator.records().forEach(userRecord -> userRecord.response().completeExceptionally(error));
+        }
+    }
+}
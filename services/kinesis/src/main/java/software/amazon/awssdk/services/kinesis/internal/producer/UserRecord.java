@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.producer;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kinesis.model.PutRecordRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordResponse;
+import software.amazon.awssdk.services.kinesis.producer.ProducerOverrideConfiguration;
+import software.amazon.awssdk.utils.Md5Utils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A record put with the producer, and the future of its response. A user record is sent on its own as a Kinesis record, or
+ * as part of an aggregated Kinesis record.
+ */
+@SdkInternalApi
+final class UserRecord {
+    private static final int MAX_PARTITION_KEY_LENGTH = 256;
+    private static final BigInteger MAX_HASH_KEY = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+
+    private final String partitionKey;
+    private final String explicitHashKey;
+    private final SdkBytes data;
+    private final BigInteger hashKey;
+    private final int size;
+    private final CompletableFuture<PutRecordResponse> response = new CompletableFuture<>();
+    private final long createdNanos = System.nanoTime();
+    private int attempts;
+
+    UserRecord(PutRecordRequest request) {
+        Validate.isTrue(request.sequenceNumberForOrdering() == null,
+                        "sequenceNumberForOrdering is not supported by PutRecords.");
+        this.partitionKey = Validate.paramNotNull(request.partitionKey(), "partitionKey");
+        Validate.isTrue(!partitionKey.isEmpty() && partitionKey.length() <= MAX_PARTITION_KEY_LENGTH,
+                        "partitionKey must be between 1 and %s characters long.", MAX_PARTITION_KEY_LENGTH);
+        this.explicitHashKey = request.explicitHashKey();
+        this.data = Validate.paramNotNull(request.data(), "data");
+
+        byte[] partitionKeyBytes = partitionKey.getBytes(StandardCharsets.UTF_8);
+        this.size = data.asByteArrayUnsafe().length + partitionKeyBytes.length;
+        Validate.isTrue(size <= ProducerOverrideConfiguration.MAX_RECORD_SIZE_IN_BYTES,
+                        "The size of the data and partition key must not be greater than %s bytes.",
+                        ProducerOverrideConfiguration.MAX_RECORD_SIZE_IN_BYTES);
+
+        this.hashKey = explicitHashKey != null ? parseHashKey(explicitHashKey) : hashKey(partitionKeyBytes);
+    }
+
+    /**
+     * The hash key Kinesis uses to map a partition key to a shard: the MD5 of the partition key, as an unsigned 128-bit
+     * integer.
+     */
+    static BigInteger hashKey(byte[] partitionKey) {
+        return new BigInteger(1, Md5Utils.computeMD5Hash(partitionKey));
+    }
+
+    private static BigInteger parseHashKey(String explicitHashKey) {
+        BigInteger hashKey;
+        try {
+            hashKey = new BigInteger(explicitHashKey);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("explicitHashKey must be a decimal integer.", e);
+        }
+        Validate.isTrue(hashKey.signum() >= 0 && hashKey.compareTo(MAX_HASH_KEY) <= 0,
+                        "explicitHashKey must be between 0 and 2^128 - 1.");
+        return hashKey;
+    }
+
+    String partitionKey() {
+        return partitionKey;
+    }
+
+    String explicitHashKey() {
+        return explicitHashKey;
+    }
+
+    SdkBytes data() {
+        return data;
+    }
+
+    /**
+     * The hash key that determines the shard of the record.
+     */
+    BigInteger hashKey() {
+        return hashKey;
+    }
+
+    /**
+     * The size of the record's data and partition key, in bytes.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * The {@link System#nanoTime()} at which the record was put with the producer.
+     */
+    long createdNanos() {
+        return createdNanos;
+    }
+
+    CompletableFuture<PutRecordResponse> response() {
+        return response;
+    }
+
+    /**
+     * The number of times the record was sent.
+     */
+    int attempts() {
+        return attempts;
+    }
+
+    void incrementAttempts() {
+        attempts++;
+    }
+}
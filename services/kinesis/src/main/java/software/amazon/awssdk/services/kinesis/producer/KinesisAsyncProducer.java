@@ -0,0 +1,158 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.producer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.internal.producer.DefaultKinesisAsyncProducer;
+import software.amazon.awssdk.services.kinesis.model.PutRecordRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordResponse;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Buffers individual {@code PutRecord} calls and sends them as {@code PutRecords} calls made with a
+ * {@link KinesisAsyncClient}, reducing the number of requests sent to Kinesis.
+ * <p/>
+ * Records are buffered per shard of their stream, using the shards' hash key ranges listed with {@code ListShards}. The
+ * buffered records of a stream are sent as soon as they fill a {@code PutRecords} request, or when the configured
+ * {@link ProducerOverrideConfiguration#linger()} has elapsed since the first of them was added. The rate at which records
+ * are sent to each shard is limited to the shard's write throughput, so that a busy shard does not cause a storm of
+ * {@link software.amazon.awssdk.services.kinesis.model.ProvisionedThroughputExceededException}s. Records that Kinesis fails
+ * to put are sent again, without resending the records of the same request that succeeded.
+ * <p/>
+ * When {@link ProducerOverrideConfiguration#aggregationEnabled()} is true, the records of the same shard are aggregated
+ * into a single Kinesis record using the aggregated record format of the Kinesis Producer Library. The records of an
+ * aggregated Kinesis record share its shard ID and sequence number.
+ * <p/>
+ * The future returned for each record is completed with a response equivalent to the one of a {@code PutRecord} call, or
+ * with a {@link software.amazon.awssdk.services.kinesis.model.KinesisException} if Kinesis could not put the record. Records
+ * are only sent in the same request if they have the same stream name and the same override configuration. The order of
+ * the records of a shard is not guaranteed when some of them are retried.
+ * <p/>
+ * The producer does not buffer records without bound: records fail with an
+ * {@link software.amazon.awssdk.core.exception.SdkClientException} when the records that are not completed yet exceed
+ * {@link ProducerOverrideConfiguration#maxBufferedBytes()}, or when they are held back by the rate limit of their shard for
+ * longer than {@link ProducerOverrideConfiguration#recordTtl()}.
+ *
+ * <b>Example Usage</b>
+ * <p/>
+ *
+ * <pre>
+ * {@code
+ *     KinesisAsyncClient kinesis = KinesisAsyncClient.create();
+ *
+ *     KinesisAsyncProducer producer =
+ *         KinesisAsyncProducer.builder()
+ *                             .client(kinesis)
+ *                             .overrideConfiguration(c -> c.linger(Duration.ofMillis(100)).aggregationEnabled(true))
+ *                             .build();
+ *
+ *     CompletableFuture<PutRecordResponse> response =
+ *         producer.putRecord(r -> r.streamName("stream").partitionKey("key").data(SdkBytes.fromUtf8String("Hello")));
+ *
+ *     // Send the records that are still buffered, and release the resources of the producer.
+ *     producer.close();
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface KinesisAsyncProducer extends SdkAutoCloseable {
+    /**
+     * Create a builder that can be used to configure and create a {@link KinesisAsyncProducer}.
+     */
+    static Builder builder() {
+        return DefaultKinesisAsyncProducer.builder();
+    }
+
+    /**
+     * Buffer a {@link PutRecordRequest}, to be sent as part of a {@code PutRecords} call to its stream. Requests with a
+     * {@link PutRecordRequest#sequenceNumberForOrdering()} are not supported, since {@code PutRecords} does not support it.
+     *
+     * @return A future that is completed with the result of the record.
+     */
+    CompletableFuture<PutRecordResponse> putRecord(PutRecordRequest request);
+
+    /**
+     * Buffer a {@link PutRecordRequest}, to be sent as part of a {@code PutRecords} call to its stream.
+     * <p/>
+     * This is a shorter method of invoking {@link #putRecord(PutRecordRequest)} without needing to call
+     * {@code PutRecordRequest.builder()} or {@code .build()}.
+     */
+    default CompletableFuture<PutRecordResponse> putRecord(Consumer<PutRecordRequest.Builder> request) {
+        return putRecord(PutRecordRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Send the buffered records without waiting for the linger time to elapse. Records whose shard is at its rate limit stay
+     * buffered until the shard is below it.
+     */
+    void flush();
+
+    /**
+     * Send the buffered records, and release the resources of this producer. The buffered records are sent without applying
+     * the per-shard rate limits, and records that Kinesis fails to put from then on are not retried. Records put after the
+     * producer is closed fail with an {@link IllegalStateException}.
+     * <p/>
+     * This does not close the {@link KinesisAsyncClient} the producer was created with, nor a
+     * {@link ScheduledExecutorService} provided with {@link Builder#scheduledExecutor(ScheduledExecutorService)}.
+     */
+    @Override
+    void close();
+
+    /**
+     * A builder for creating a {@link KinesisAsyncProducer}. Created via {@link #builder()}.
+     */
+    @NotThreadSafe
+    interface Builder {
+        /**
+         * The client used to list the shards of the streams and to send the records. This is required.
+         */
+        Builder client(KinesisAsyncClient client);
+
+        /**
+         * The executor used to send records whose linger time elapsed, and records held back by the rate limit of their
+         * shard. If not specified, the producer creates a single daemon thread, which is shut down when the producer is
+         * closed.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Configure how records are buffered, aggregated and sent.
+         */
+        Builder overrideConfiguration(ProducerOverrideConfiguration overrideConfiguration);
+
+        /**
+         * Configure how records are buffered, aggregated and sent.
+         * <p/>
+         * This is a shorter method of invoking {@link #overrideConfiguration(ProducerOverrideConfiguration)} without needing
+         * to call {@code ProducerOverrideConfiguration.builder()} or {@code .build()}.
+         */
+        default Builder overrideConfiguration(Consumer<ProducerOverrideConfiguration.Builder> overrideConfiguration) {
+            return overrideConfiguration(ProducerOverrideConfiguration.builder().applyMutation(overrideConfiguration).build());
+        }
+
+        /**
+         * Create the producer.
+         */
+        KinesisAsyncProducer build();
+    }
+}
@@ -0,0 +1,409 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.producer;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration of how a {@link KinesisAsyncProducer} buffers, aggregates and sends records. Values that are not set use the
+ * defaults documented on the {@link Builder}.
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public final class ProducerOverrideConfiguration implements ToCopyableBuilder<ProducerOverrideConfiguration.Builder,
+                                                                             ProducerOverrideConfiguration> {
+    /**
+     * The maximum number of records Kinesis accepts in a {@code PutRecords} request.
+     */
+    public static final int MAX_BATCH_SIZE = 500;
+
+    /**
+     * The maximum total size of the records Kinesis accepts in a {@code PutRecords} request, in bytes. The size of a record is
+     * the size of its data plus the size of its partition key.
+     */
+    public static final int MAX_BATCH_SIZE_IN_BYTES = 5 * 1024 * 1024;
+
+    /**
+     * The maximum size of a single Kinesis record, in bytes. The size of a record is the size of its data plus the size of its
+     * partition key.
+     */
+    public static final int MAX_RECORD_SIZE_IN_BYTES = 1024 * 1024;
+
+    private final Integer maxBatchSize;
+    private final Integer maxBatchSizeInBytes;
+    private final Duration linger;
+    private final Boolean aggregationEnabled;
+    private final Integer maxAggregatedRecordSizeInBytes;
+    private final Integer maxRecordAttempts;
+    private final Integer maxRecordsPerSecondPerShard;
+    private final Integer maxBytesPerSecondPerShard;
+    private final Long maxBufferedBytes;
+    private final Duration recordTtl;
+
+    private ProducerOverrideConfiguration(DefaultBuilder builder) {
+        this.maxBatchSize = Validate.isPositiveOrNull(builder.maxBatchSize, "maxBatchSize");
+        Validate.isTrue(maxBatchSize == null || maxBatchSize <= MAX_BATCH_SIZE,
+                        "maxBatchSize must not be greater than %s.", MAX_BATCH_SIZE);
+        this.maxBatchSizeInBytes = Validate.isPositiveOrNull(builder.maxBatchSizeInBytes, "maxBatchSizeInBytes");
+        Validate.isTrue(maxBatchSizeInBytes == null || maxBatchSizeInBytes <= MAX_BATCH_SIZE_IN_BYTES,
+                        "maxBatchSizeInBytes must not be greater than %s.", MAX_BATCH_SIZE_IN_BYTES);
+        this.linger = Validate.isPositiveOrNull(builder.linger, "linger");
+        this.aggregationEnabled = builder.aggregationEnabled;
+        this.maxAggregatedRecordSizeInBytes = Validate.isPositiveOrNull(builder.maxAggregatedRecordSizeInBytes,
+                                                                        "maxAggregatedRecordSizeInBytes");
+        Validate.isTrue(maxAggregatedRecordSizeInBytes == null || maxAggregatedRecordSizeInBytes <= MAX_RECORD_SIZE_IN_BYTES,
+                        "maxAggregatedRecordSizeInBytes must not be greater than %s.", MAX_RECORD_SIZE_IN_BYTES);
+        this.maxRecordAttempts = Validate.isPositiveOrNull(builder.maxRecordAttempts, "maxRecordAttempts");
+        this.maxRecordsPerSecondPerShard = Validate.isPositiveOrNull(builder.maxRecordsPerSecondPerShard,
+                                                                     "maxRecordsPerSecondPerShard");
+        this.maxBytesPerSecondPerShard = Validate.isPositiveOrNull(builder.maxBytesPerSecondPerShard,
+                                                                   "maxBytesPerSecondPerShard");
+        this.maxBufferedBytes = Validate.isPositiveOrNull(builder.maxBufferedBytes, "maxBufferedBytes");
+        this.recordTtl = Validate.isPositiveOrNull(builder.recordTtl, "recordTtl");
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * The maximum number of records in a {@code PutRecords} request.
+     *
+     * @see Builder#maxBatchSize(Integer)
+     */
+    public Optional<Integer> maxBatchSize() {
+        return Optional.ofNullable(maxBatchSize);
+    }
+
+    /**
+     * The maximum total size of the records in a {@code PutRecords} request, in bytes.
+     *
+     * @see Builder#maxBatchSizeInBytes(Integer)
+     */
+    public Optional<Integer> maxBatchSizeInBytes() {
+        return Optional.ofNullable(maxBatchSizeInBytes);
+    }
+
+    /**
+     * How long records are buffered after the first of them was added, before they are sent.
+     *
+     * @see Builder#linger(Duration)
+     */
+    public Optional<Duration> linger() {
+        return Optional.ofNullable(linger);
+    }
+
+    /**
+     * Whether records sent to the same shard are aggregated into a single Kinesis record.
+     *
+     * @see Builder#aggregationEnabled(Boolean)
+     */
+    public Optional<Boolean> aggregationEnabled() {
+        return Optional.ofNullable(aggregationEnabled);
+    }
+
+    /**
+     * The maximum size of an aggregated Kinesis record, in bytes.
+     *
+     * @see Builder#maxAggregatedRecordSizeInBytes(Integer)
+     */
+    public Optional<Integer> maxAggregatedRecordSizeInBytes() {
+        return Optional.ofNullable(maxAggregatedRecordSizeInBytes);
+    }
+
+    /**
+     * The maximum number of times a record is sent before its failure is reported.
+     *
+     * @see Builder#maxRecordAttempts(Integer)
+     */
+    public Optional<Integer> maxRecordAttempts() {
+        return Optional.ofNullable(maxRecordAttempts);
+    }
+
+    /**
+     * The maximum number of Kinesis records sent to a shard per second.
+     *
+     * @see Builder#maxRecordsPerSecondPerShard(Integer)
+     */
+    public Optional<Integer> maxRecordsPerSecondPerShard() {
+        return Optional.ofNullable(maxRecordsPerSecondPerShard);
+    }
+
+    /**
+     * The maximum number of bytes sent to a shard per second.
+     *
+     * @see Builder#maxBytesPerSecondPerShard(Integer)
+     */
+    public Optional<Integer> maxBytesPerSecondPerShard() {
+        return Optional.ofNullable(maxBytesPerSecondPerShard);
+    }
+
+    /**
+     * The maximum total size of the records that were put with the producer and are not completed yet, in bytes.
+     *
+     * @see Builder#maxBufferedBytes(Long)
+     */
+    public Optional<Long> maxBufferedBytes() {
+        return Optional.ofNullable(maxBufferedBytes);
+    }
+
+    /**
+     * How long after it was put a record can be held back by the rate limit of its shard before it fails.
+     *
+     * @see Builder#recordTtl(Duration)
+     */
+    public Optional<Duration> recordTtl() {
+        return Optional.ofNullable(recordTtl);
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ProducerOverrideConfiguration that = (ProducerOverrideConfiguration) o;
+        return Objects.equals(maxBatchSize, that.maxBatchSize) &&
+               Objects.equals(maxBatchSizeInBytes, that.maxBatchSizeInBytes) &&
+               Objects.equals(linger, that.linger) &&
+               Objects.equals(aggregationEnabled, that.aggregationEnabled) &&
+               Objects.equals(maxAggregatedRecordSizeInBytes, that.maxAggregatedRecordSizeInBytes) &&
+               Objects.equals(maxRecordAttempts, that.maxRecordAttempts) &&
+               Objects.equals(maxRecordsPerSecondPerShard, that.maxRecordsPerSecondPerShard) &&
+               Objects.equals(maxBytesPerSecondPerShard, that.maxBytesPerSecondPerShard) &&
+               Objects.equals(maxBufferedBytes, that.maxBufferedBytes) &&
+               Objects.equals(recordTtl, that.recordTtl);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(maxBatchSize);
+        result = 31 * result + Objects.hashCode(maxBatchSizeInBytes);
+        result = 31 * result + Objects.hashCode(linger);
+        result = 31 * result + Objects.hashCode(aggregationEnabled);
+        result = 31 * result + Objects.hashCode(maxAggregatedRecordSizeInBytes);
+        result = 31 * result + Objects.hashCode(maxRecordAttempts);
+        result = 31 * result + Objects.hashCode(maxRecordsPerSecondPerShard);
+        result = 31 * result + Objects.hashCode(maxBytesPerSecondPerShard);
+        result = 31 * result + Objects.hashCode(maxBufferedBytes);
+        result = 31 * result + Objects.hashCode(recordTtl);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ProducerOverrideConfiguration")
+                       .add("maxBatchSize", maxBatchSize)
+                       .add("maxBatchSizeInBytes", maxBatchSizeInBytes)
+                       .add("linger", linger)
+                       .add("aggregationEnabled", aggregationEnabled)
+                       .add("maxAggregatedRecordSizeInBytes", maxAggregatedRecordSizeInBytes)
+                       .add("maxRecordAttempts", maxRecordAttempts)
+                       .add("maxRecordsPerSecondPerShard", maxRecordsPerSecondPerShard)
+                       .add("maxBytesPerSecondPerShard", maxBytesPerSecondPerShard)
+                       .add("maxBufferedBytes", maxBufferedBytes)
+                       .add("recordTtl", recordTtl)
+                       .build();
+    }
+
+    /**
+     * A builder for creating a {@link ProducerOverrideConfiguration}. Created via {@link #builder()}.
+     */
+    @NotThreadSafe
+    public interface Builder extends CopyableBuilder<Builder, ProducerOverrideConfiguration> {
+        /**
+         * The maximum number of Kinesis records in a {@code PutRecords} request. Unless aggregation is enabled, the buffered
+         * records of a stream are sent as soon as there are this many of them. This must be between 1 and
+         * {@value ProducerOverrideConfiguration#MAX_BATCH_SIZE}, which is also the default.
+         */
+        Builder maxBatchSize(Integer maxBatchSize);
+
+        /**
+         * The maximum total size of the Kinesis records in a {@code PutRecords} request, in bytes. The buffered records of a
+         * stream are sent as soon as their size reaches this limit. This must be between 1 and
+         * {@value ProducerOverrideConfiguration#MAX_BATCH_SIZE_IN_BYTES}, which is also the default.
+         */
+        Builder maxBatchSizeInBytes(Integer maxBatchSizeInBytes);
+
+        /**
+         * How long records are buffered after the first of them was added, before they are sent. Longer durations result in
+         * fuller {@code PutRecords} requests and larger aggregated records, at the cost of a higher latency for each record.
+         * The default is 100 milliseconds.
+         */
+        Builder linger(Duration linger);
+
+        /**
+         * Whether records sent to the same shard are aggregated into a single Kinesis record, using the aggregated record
+         * format of the Kinesis Producer Library. Aggregated records can be deaggregated by the Kinesis Client Library, or by
+         * any consumer that supports this format. The default is false.
+         */
+        Builder aggregationEnabled(Boolean aggregationEnabled);
+
+        /**
+         * The maximum size of an aggregated Kinesis record, in bytes, including the partition key. This is only used when
+         * {@link #aggregationEnabled(Boolean)} is true. This must be between 1 and
+         * {@value ProducerOverrideConfiguration#MAX_RECORD_SIZE_IN_BYTES}. The default is 51200.
+         */
+        Builder maxAggregatedRecordSizeInBytes(Integer maxAggregatedRecordSizeInBytes);
+
+        /**
+         * The maximum number of times a record is sent. Records that Kinesis fails to put, for example because the
+         * throughput of their shard was exceeded, are sent again with the next {@code PutRecords} request until they reach
+         * this number of attempts. The default is 5.
+         */
+        Builder maxRecordAttempts(Integer maxRecordAttempts);
+
+        /**
+         * The maximum number of Kinesis records sent to a shard per second. Records are buffered until their shard is below
+         * this rate. The default is 1000, the write limit of a Kinesis shard.
+         */
+        Builder maxRecordsPerSecondPerShard(Integer maxRecordsPerSecondPerShard);
+
+        /**
+         * The maximum number of bytes sent to a shard per second. Records are buffered until their shard is below this rate.
+         * The default is 1048576, the write limit of a Kinesis shard.
+         */
+        Builder maxBytesPerSecondPerShard(Integer maxBytesPerSecondPerShard);
+
+        /**
+         * The maximum total size of the records that were put with the producer and are not completed yet, in bytes, across
+         * all streams. When adding a record would exceed this limit, the future returned for it fails with an
+         * {@link software.amazon.awssdk.core.exception.SdkClientException} instead of buffering the record, so that a
+         * producer that sends records faster than Kinesis accepts them does not run out of memory. The default is 67108864
+         * (64 MiB).
+         */
+        Builder maxBufferedBytes(Long maxBufferedBytes);
+
+        /**
+         * How long after it was put a record can be held back because its shard is at its rate limit. Older records fail with
+         * an {@link software.amazon.awssdk.core.exception.SdkClientException} instead of waiting to be sent. The time includes
+         * the time spent waiting to be retried. The default is 30 seconds.
+         */
+        Builder recordTtl(Duration recordTtl);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Integer maxBatchSize;
+        private Integer maxBatchSizeInBytes;
+        private Duration linger;
+        private Boolean aggregationEnabled;
+        private Integer maxAggregatedRecordSizeInBytes;
+        private Integer maxRecordAttempts;
+        private Integer maxRecordsPerSecondPerShard;
+        private Integer maxBytesPerSecondPerShard;
+        private Long maxBufferedBytes;
+        private Duration recordTtl;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(ProducerOverrideConfiguration configuration) {
+            this.maxBatchSize = configuration.maxBatchSize;
+            this.maxBatchSizeInBytes = configuration.maxBatchSizeInBytes;
+            this.linger = configuration.linger;
+            this.aggregationEnabled = configuration.aggregationEnabled;
+            this.maxAggregatedRecordSizeInBytes = configuration.maxAggregatedRecordSizeInBytes;
+            this.maxRecordAttempts = configuration.maxRecordAttempts;
+            this.maxRecordsPerSecondPerShard = configuration.maxRecordsPerSecondPerShard;
+            this.maxBytesPerSecondPerShard = configuration.maxBytesPerSecondPerShard;
+            this.maxBufferedBytes = configuration.maxBufferedBytes;
+            this.recordTtl = configuration.recordTtl;
+        }
+
+        @Override
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        @Override
+        public Builder maxBatchSizeInBytes(Integer maxBatchSizeInBytes) {
+            this.maxBatchSizeInBytes = maxBatchSizeInBytes;
+            return this;
+        }
+
+        @Override
+        public Builder linger(Duration linger) {
+            this.linger = linger;
+            return this;
+        }
+
+        @Override
+        public Builder aggregationEnabled(Boolean aggregationEnabled) {
+            this.aggregationEnabled = aggregationEnabled;
+            return this;
+        }
+
+        @Override
+        public Builder maxAggregatedRecordSizeInBytes(Integer maxAggregatedRecordSizeInBytes) {
+            this.maxAggregatedRecordSizeInBytes = maxAggregatedRecordSizeInBytes;
+            return this;
+        }
+
+        @Override
+        public Builder maxRecordAttempts(Integer maxRecordAttempts) {
+            this.maxRecordAttempts = maxRecordAttempts;
+            return this;
+        }
+
+        @Override
+        public Builder maxRecordsPerSecondPerShard(Integer maxRecordsPerSecondPerShard) {
+            this.maxRecordsPerSecondPerShard = maxRecordsPerSecondPerShard;
+            return this;
+        }
+
+        @Override
+        public Builder maxBytesPerSecondPerShard(Integer maxBytesPerSecondPerShard) {
+            this.maxBytesPerSecondPerShard = maxBytesPerSecondPerShard;
+            return this;
+        }
+
+        @Override
+        public Builder maxBufferedBytes(Long maxBufferedBytes) {
+            this.maxBufferedBytes = maxBufferedBytes;
+            return this;
+        }
+
+        @Override
+        public Builder recordTtl(Duration recordTtl) {
+            this.recordTtl = recordTtl;
+            return this;
+        }
+
+        @Override
+        public ProducerOverrideConfiguration build() {
+            return new ProducerOverrideConfiguration(this);
+        }
+    }
+}
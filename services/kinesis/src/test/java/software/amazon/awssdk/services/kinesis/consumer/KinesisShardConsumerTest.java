@@ -0,0 +1,429 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.model.ChildShard;
+import software.amazon.awssdk.services.kinesis.model.HashKeyRange;
+import software.amazon.awssdk.services.kinesis.model.KinesisException;
+import software.amazon.awssdk.services.kinesis.model.Record;
+import software.amazon.awssdk.services.kinesis.model.ShardIteratorType;
+import software.amazon.awssdk.services.kinesis.model.SubscribeToShardEvent;
+import software.amazon.awssdk.services.kinesis.model.SubscribeToShardEventStream;
+import software.amazon.awssdk.services.kinesis.model.SubscribeToShardRequest;
+import software.amazon.awssdk.services.kinesis.model.SubscribeToShardResponseHandler;
+
+/**
+ * Verifies the functionality of {@link KinesisShardConsumer}.
+ */
+public class KinesisShardConsumerTest {
+    private static final String CONSUMER_ARN = "arn:aws:kinesis:us-east-1:123456789012:stream/stream/consumer/consumer:1";
+
+    private Map<String, Deque<ScriptedStream>> scripts;
+    private Map<String, List<SubscribeToShardRequest>> requests;
+    private List<String> shardIds;
+    private List<ShardRecordBatch> batches;
+    private KinesisAsyncClient client;
+    private ScheduledExecutorService immediateExecutor;
+
+    @Before
+    public void setup() {
+        scripts = new HashMap<>();
+        requests = new HashMap<>();
+        shardIds = new ArrayList<>();
+        batches = Collections.synchronizedList(new ArrayList<>());
+        client = new KinesisAsyncClient() {
+            @Override
+            public CompletableFuture<Void> subscribeToShard(SubscribeToShardRequest request,
+                                                            SubscribeToShardResponseHandler handler) {
+                requests.computeIfAbsent(request.shardId(), k -> new ArrayList<>()).add(request);
+                ScriptedStream stream = scripts.get(request.shardId()).poll();
+                assertThat(stream).as("Unexpected subscription to %s", request.shardId()).isNotNull();
+                handler.onEventStream(stream);
+                return stream.future;
+            }
+
+            @Override
+            public String serviceName() {
+                return "Kinesis";
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        immediateExecutor = mock(ScheduledExecutorService.class);
+        doAnswer(i -> {
+            ((Runnable) i.getArguments()[0]).run();
+            return null;
+        }).when(immediateExecutor).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void recordsAreHandedToTheHandlerInOrder() {
+        script("shard-1", ScriptedStream.of(event("1", 100L, "a", "b"), event("2", 0L, "c"), endEvent("d")));
+
+        consumer(Integer.MAX_VALUE, Long.MAX_VALUE).start().join();
+
+        assertThat(handledData()).containsExactly("a", "b", "c", "d");
+        assertThat(batches.get(0).shardId()).isEqualTo("shard-1");
+        assertThat(batches.get(0).continuationSequenceNumber()).isEqualTo("1");
+        assertThat(batches.get(0).millisBehindLatest()).isEqualTo(100L);
+        assertThat(batches.get(batches.size() - 1).continuationSequenceNumber()).isNull();
+        assertThat(requests.get("shard-1").get(0).startingPosition().type()).isEqualTo(ShardIteratorType.LATEST);
+        assertThat(requests.get("shard-1").get(0).consumerARN()).isEqualTo(CONSUMER_ARN);
+    }
+
+    @Test
+    public void eventsBufferedWhileABatchIsHandledAreCombined() {
+        ScriptedStream stream = ScriptedStream.open();
+        script("shard-1", stream);
+        List<CompletableFuture<Void>> handled = new ArrayList<>();
+        KinesisShardConsumer consumer = consumer(b -> {
+            batches.add(b);
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            handled.add(future);
+            return future;
+        }, 3, Long.MAX_VALUE);
+        CompletableFuture<Void> done = consumer.start();
+
+        stream.push(event("1", 0L, "a"));
+        stream.push(event("2", 0L, "b"));
+        stream.push(event("3", 0L, "c", "d"));
+        stream.push(event("4", 0L, "e"));
+        assertThat(batches).hasSize(1);
+
+        handled.get(0).complete(null);
+        assertThat(batches).hasSize(2);
+        assertThat(data(batches.get(1))).containsExactly("b", "c", "d");
+        assertThat(batches.get(1).continuationSequenceNumber()).isEqualTo("3");
+
+        handled.get(1).complete(null);
+        assertThat(data(batches.get(2))).containsExactly("e");
+
+        stream.push(endEvent());
+        handled.get(2).complete(null);
+        handled.get(3).complete(null);
+        assertThat(done).isCompleted();
+    }
+
+    @Test
+    public void subscriptionIsRenewedAfterTheLastContinuationSequenceNumber() {
+        script("shard-1",
+               ScriptedStream.of(event("10", 0L, "a"), event("11", 0L)),
+               ScriptedStream.of(endEvent("b")));
+
+        consumer(Integer.MAX_VALUE, Long.MAX_VALUE).start().join();
+
+        assertThat(handledData()).containsExactly("a", "b");
+        SubscribeToShardRequest renewal = requests.get("shard-1").get(1);
+        assertThat(renewal.startingPosition().type()).isEqualTo(ShardIteratorType.AFTER_SEQUENCE_NUMBER);
+        assertThat(renewal.startingPosition().sequenceNumber()).isEqualTo("11");
+    }
+
+    @Test
+    public void failedSubscriptionIsRetried() {
+        script("shard-1",
+               ScriptedStream.failing(KinesisException.builder().message("reset").build(), event("10", 0L, "a")),
+               ScriptedStream.failing(KinesisException.builder().message("reset").build()),
+               ScriptedStream.of(endEvent("b")));
+
+        consumer(Integer.MAX_VALUE, Long.MAX_VALUE).start().join();
+
+        assertThat(handledData()).containsExactly("a", "b");
+        assertThat(requests.get("shard-1")).hasSize(3);
+        assertThat(requests.get("shard-1").get(2).startingPosition().sequenceNumber()).isEqualTo("10");
+    }
+
+    @Test
+    public void repeatedlyFailingSubscriptionFailsTheConsumer() {
+        Throwable error = KinesisException.builder().message("unavailable").build();
+        ScriptedStream[] streams = IntStream.range(0, 11).mapToObj(i -> ScriptedStream.failing(error))
+                                            .toArray(ScriptedStream[]::new);
+        script("shard-1", streams);
+
+        CompletableFuture<Void> done = consumer(Integer.MAX_VALUE, Long.MAX_VALUE).start();
+
+        assertThatThrownBy(done::join).hasCause(error);
+        assertThat(requests.get("shard-1")).hasSize(11);
+    }
+
+    @Test
+    public void handlerFailureFailsTheConsumerAndCancelsTheSubscriptions() {
+        ScriptedStream stream = ScriptedStream.open();
+        script("shard-1", stream);
+        RuntimeException error = new RuntimeException("handler failure");
+        KinesisShardConsumer consumer = consumer(b -> {
+            throw error;
+        }, Integer.MAX_VALUE, Long.MAX_VALUE);
+
+        CompletableFuture<Void> done = consumer.start();
+        stream.push(event("1", 0L, "a"));
+
+        assertThatThrownBy(done::join).isInstanceOf(CompletionException.class).hasCause(error);
+        assertThat(stream.cancelled).isTrue();
+    }
+
+    @Test
+    public void eventsAreNotRequestedWhileTheMemoryBudgetIsExhausted() {
+        ScriptedStream stream = ScriptedStream.open();
+        script("shard-1", stream);
+        List<CompletableFuture<Void>> handled = new ArrayList<>();
+        KinesisShardConsumer consumer = consumer(b -> {
+            batches.add(b);
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            handled.add(future);
+            return future;
+        }, Integer.MAX_VALUE, 2L);
+        consumer.start();
+        assertThat(stream.requested).isEqualTo(1);
+
+        stream.push(event("1", 0L, "a"));
+        assertThat(stream.requested).isEqualTo(2);
+
+        stream.push(event("2", 0L, "b"));
+        assertThat(stream.requested).isEqualTo(2);
+
+        handled.get(0).complete(null);
+        assertThat(stream.requested).isEqualTo(3);
+        assertThat(handledData()).containsExactly("a", "b");
+    }
+
+    @Test
+    public void childShardsAreConsumedOnceAllTheirParentsHaveCompleted() {
+        ChildShard merged = ChildShard.builder()
+                                      .shardId("shard-3")
+                                      .parentShards("shard-1", "shard-2")
+                                      .hashKeyRange(HashKeyRange.builder().startingHashKey("0").endingHashKey("1").build())
+                                      .build();
+        ScriptedStream secondParent = ScriptedStream.open();
+        script("shard-1", ScriptedStream.of(endEvent(Collections.singletonList(merged), "a")));
+        script("shard-2", secondParent);
+        scripts.put("shard-3", new ArrayDeque<>(Collections.singletonList(ScriptedStream.of(endEvent("c")))));
+
+        CompletableFuture<Void> done = consumer(Integer.MAX_VALUE, Long.MAX_VALUE).start();
+        assertThat(requests).doesNotContainKey("shard-3");
+
+        secondParent.push(endEvent(Collections.singletonList(merged), "b"));
+
+        done.join();
+        assertThat(handledData()).containsExactly("a", "b", "c");
+        assertThat(requests.get("shard-3").get(0).startingPosition().type()).isEqualTo(ShardIteratorType.TRIM_HORIZON);
+    }
+
+    @Test
+    public void millisBehindLatestIsReportedPerShard() {
+        ScriptedStream first = ScriptedStream.open();
+        ScriptedStream second = ScriptedStream.open();
+        script("shard-1", first);
+        script("shard-2", second);
+        KinesisShardConsumer consumer = consumer(Integer.MAX_VALUE, Long.MAX_VALUE);
+        consumer.start();
+
+        first.push(event("1", 500L, "a"));
+        second.push(event("1", 0L));
+
+        assertThat(consumer.millisBehindLatest()).containsEntry("shard-1", 500L).containsEntry("shard-2", 0L);
+    }
+
+    @Test
+    public void closeCompletesTheConsumerAndCancelsTheSubscriptions() {
+        ScriptedStream stream = ScriptedStream.open();
+        script("shard-1", stream);
+        KinesisShardConsumer consumer = consumer(Integer.MAX_VALUE, Long.MAX_VALUE);
+        CompletableFuture<Void> done = consumer.start();
+
+        consumer.close();
+
+        assertThat(done).isCompleted();
+        assertThat(stream.cancelled).isTrue();
+        assertThatThrownBy(consumer::start).isInstanceOf(IllegalStateException.class);
+    }
+
+    private KinesisShardConsumer consumer(int maxBatchSize, long maxBufferedBytes) {
+        return consumer(b -> {
+            batches.add(b);
+            return CompletableFuture.completedFuture(null);
+        }, maxBatchSize, maxBufferedBytes);
+    }
+
+    private KinesisShardConsumer consumer(Function<ShardRecordBatch, CompletableFuture<Void>> handler,
+                                          int maxBatchSize, long maxBufferedBytes) {
+        return KinesisShardConsumer.builder()
+                                   .client(client)
+                                   .consumerArn(CONSUMER_ARN)
+                                   .shardIds(shardIds)
+                                   .recordBatchHandler(handler)
+                                   .maxBatchSize(maxBatchSize)
+                                   .maxBufferedBytes(maxBufferedBytes)
+                                   .scheduledExecutor(immediateExecutor)
+                                   .build();
+    }
+
+    private void script(String shardId, ScriptedStream... streams) {
+        shardIds.add(shardId);
+        scripts.put(shardId, new ArrayDeque<>(Arrays.asList(streams)));
+    }
+
+    private List<String> handledData() {
+        return batches.stream().flatMap(b -> data(b).stream()).collect(Collectors.toList());
+    }
+
+    private static List<String> data(ShardRecordBatch batch) {
+        return batch.records().stream().map(r -> r.data().asUtf8String()).collect(Collectors.toList());
+    }
+
+    private static SubscribeToShardEvent event(String continuationSequenceNumber, Long millisBehindLatest, String... data) {
+        return SubscribeToShardEvent.builder()
+                                    .records(records(data))
+                                    .continuationSequenceNumber(continuationSequenceNumber)
+                                    .millisBehindLatest(millisBehindLatest)
+                                    .build();
+    }
+
+    private static SubscribeToShardEvent endEvent(String... data) {
+        return endEvent(Collections.emptyList(), data);
+    }
+
+    private static SubscribeToShardEvent endEvent(List<ChildShard> childShards, String... data) {
+        return SubscribeToShardEvent.builder()
+                                    .records(records(data))
+                                    .millisBehindLatest(0L)
+                                    .childShards(childShards)
+                                    .build();
+    }
+
+    private static List<Record> records(String... data) {
+        return Arrays.stream(data)
+                     .map(d -> Record.builder()
+                                     .partitionKey("")
+                                     .data(SdkBytes.fromString(d, StandardCharsets.UTF_8))
+                                     .sequenceNumber(d)
+                                     .build())
+                     .collect(Collectors.toList());
+    }
+
+    /**
+     * An event stream that delivers scripted events as they are requested, and then either completes, fails, or stays open for
+     * events pushed by the test.
+     */
+    private static final class ScriptedStream implements SdkPublisher<SubscribeToShardEventStream>, Subscription {
+        private final Deque<SubscribeToShardEventStream> events = new ArrayDeque<>();
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final boolean open;
+        private final Throwable error;
+        private Subscriber<? super SubscribeToShardEventStream> subscriber;
+        private long demand;
+        private int requested;
+        private boolean emitting;
+        private boolean cancelled;
+
+        private ScriptedStream(boolean open, Throwable error, SubscribeToShardEventStream... events) {
+            this.open = open;
+            this.error = error;
+            this.events.addAll(Arrays.asList(events));
+        }
+
+        static ScriptedStream of(SubscribeToShardEventStream... events) {
+            return new ScriptedStream(false, null, events);
+        }
+
+        static ScriptedStream failing(Throwable error, SubscribeToShardEventStream... events) {
+            return new ScriptedStream(false, error, events);
+        }
+
+        static ScriptedStream open() {
+            return new ScriptedStream(true, null);
+        }
+
+        void push(SubscribeToShardEventStream event) {
+            events.add(event);
+            emit();
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super SubscribeToShardEventStream> s) {
+            subscriber = s;
+            s.onSubscribe(this);
+            emit();
+        }
+
+        @Override
+        public void request(long n) {
+            demand += n;
+            requested++;
+            emit();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            future.complete(null);
+        }
+
+        private void emit() {
+            if (emitting || subscriber == null) {
+                return;
+            }
+            emitting = true;
+            while (demand > 0 && !events.isEmpty() && !cancelled) {
+                demand--;
+                subscriber.onNext(events.poll());
+            }
+            emitting = false;
+
+            if (events.isEmpty() && !open && !cancelled && !future.isDone()) {
+                if (error == null) {
+                    subscriber.onComplete();
+                    future.complete(null);
+                } else {
+                    subscriber.onError(error);
+                    future.completeExceptionally(error);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,457 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.producer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.model.HashKeyRange;
+import software.amazon.awssdk.services.kinesis.model.KinesisException;
+import software.amazon.awssdk.services.kinesis.model.ListShardsRequest;
+import software.amazon.awssdk.services.kinesis.model.ListShardsResponse;
+import software.amazon.awssdk.services.kinesis.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.kinesis.model.PutRecordResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResultEntry;
+import software.amazon.awssdk.services.kinesis.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.kinesis.model.SequenceNumberRange;
+import software.amazon.awssdk.services.kinesis.model.Shard;
+import software.amazon.awssdk.utils.Md5Utils;
+
+/**
+ * Verifies the functionality of {@link KinesisAsyncProducer}.
+ */
+public class KinesisAsyncProducerTest {
+    private static final String STREAM = "stream";
+    private static final BigInteger SECOND_SHARD_START = BigInteger.ONE.shiftLeft(127);
+    private static final String FIRST_SHARD_HASH_KEY = "1";
+    private static final String SECOND_SHARD_HASH_KEY = SECOND_SHARD_START.add(BigInteger.ONE).toString();
+
+    private KinesisAsyncClient client;
+    private KinesisAsyncProducer producer;
+    private AtomicInteger sequenceNumber;
+    private volatile Predicate<PutRecordsRequestEntry> failedEntries;
+    private volatile String failureErrorCode;
+
+    @Before
+    public void setup() {
+        client = mock(KinesisAsyncClient.class);
+        sequenceNumber = new AtomicInteger();
+        failedEntries = e -> false;
+        failureErrorCode = "InternalFailure";
+
+        Shard closedShard = shard("shard-closed", BigInteger.ZERO, maxHashKey())
+            .toBuilder()
+            .sequenceNumberRange(SequenceNumberRange.builder().startingSequenceNumber("0").endingSequenceNumber("1").build())
+            .build();
+        when(client.listShards(any(ListShardsRequest.class))).thenAnswer(i -> {
+            ListShardsRequest request = (ListShardsRequest) i.getArguments()[0];
+            if (request.nextToken() == null) {
+                return CompletableFuture.completedFuture(ListShardsResponse.builder()
+                                                                           .shards(closedShard,
+                                                                                   shard("shard-1", SECOND_SHARD_START,
+                                                                                         maxHashKey()))
+                                                                           .nextToken("next")
+                                                                           .build());
+            }
+            return CompletableFuture.completedFuture(ListShardsResponse.builder()
+                                                                       .shards(shard("shard-0", BigInteger.ZERO,
+                                                                                     SECOND_SHARD_START.subtract(BigInteger.ONE)))
+                                                                       .build());
+        });
+
+        when(client.putRecords(any(PutRecordsRequest.class))).thenAnswer(i -> {
+            PutRecordsRequest request = (PutRecordsRequest) i.getArguments()[0];
+            List<PutRecordsResultEntry> results = new ArrayList<>();
+            int failed = 0;
+            for (PutRecordsRequestEntry entry : request.records()) {
+                if (failedEntries.test(entry)) {
+                    failed++;
+                    results.add(PutRecordsResultEntry.builder().errorCode(failureErrorCode).errorMessage("Failed").build());
+                } else {
+                    results.add(PutRecordsResultEntry.builder()
+                                                     .shardId(shardId(entry))
+                                                     .sequenceNumber("seq-" + sequenceNumber.incrementAndGet())
+                                                     .build());
+                }
+            }
+            return CompletableFuture.completedFuture(PutRecordsResponse.builder()
+                                                                       .records(results)
+                                                                       .failedRecordCount(failed)
+                                                                       .build());
+        });
+    }
+
+    @After
+    public void teardown() {
+        if (producer != null) {
+            producer.close();
+        }
+    }
+
+    @Test
+    public void putRecord_FullBatch_IsSentWithoutWaitingForLinger() {
+        producer = producer(c -> c.maxBatchSize(3).linger(Duration.ofHours(1)));
+
+        CompletableFuture<PutRecordResponse> first = putRecord("a", FIRST_SHARD_HASH_KEY);
+        CompletableFuture<PutRecordResponse> second = putRecord("b", SECOND_SHARD_HASH_KEY);
+        assertThat(first).isNotDone();
+        CompletableFuture<PutRecordResponse> third = putRecord("c", FIRST_SHARD_HASH_KEY);
+
+        assertThat(first.join().shardId()).isEqualTo("shard-0");
+        assertThat(second.join().shardId()).isEqualTo("shard-1");
+        assertThat(third.join().shardId()).isEqualTo("shard-0");
+        assertThat(first.join().sequenceNumber()).isNotEqualTo(third.join().sequenceNumber());
+
+        List<PutRecordsRequest> requests = sentRequests(1);
+        assertThat(requests.get(0).streamName()).isEqualTo(STREAM);
+        assertThat(requests.get(0).records()).extracting(e -> e.data().asUtf8String()).containsExactly("a", "c", "b");
+    }
+
+    @Test
+    public void putRecord_PartialBatch_IsSentAfterLinger() throws Exception {
+        producer = producer(c -> c.linger(Duration.ofMillis(10)));
+
+        PutRecordResponse response = producer.putRecord(r -> r.streamName(STREAM)
+                                                               .partitionKey("key")
+                                                               .data(SdkBytes.fromUtf8String("a")))
+                                             .get(5, TimeUnit.SECONDS);
+
+        String expectedShard = new BigInteger(1, Md5Utils.computeMD5Hash("key".getBytes(StandardCharsets.UTF_8)))
+                                   .compareTo(SECOND_SHARD_START) < 0 ? "shard-0" : "shard-1";
+        assertThat(response.shardId()).isEqualTo(expectedShard);
+    }
+
+    @Test
+    public void putRecord_FailedEntries_AreRetriedWithoutTheSuccessfulOnes() {
+        producer = producer(c -> c.maxBatchSize(3).linger(Duration.ofMillis(10)));
+        AtomicInteger failures = new AtomicInteger();
+        failedEntries = e -> e.data().asUtf8String().equals("b") && failures.getAndIncrement() == 0;
+
+        CompletableFuture<PutRecordResponse> first = putRecord("a", FIRST_SHARD_HASH_KEY);
+        CompletableFuture<PutRecordResponse> second = putRecord("b", FIRST_SHARD_HASH_KEY);
+        CompletableFuture<PutRecordResponse> third = putRecord("c", SECOND_SHARD_HASH_KEY);
+
+        assertThat(Arrays.asList(first.join(), second.join(), third.join())).allMatch(r -> r.sequenceNumber() != null);
+
+        List<PutRecordsRequest> requests = sentRequests(2);
+        assertThat(requests.get(1).records()).extracting(e -> e.data().asUtf8String()).containsExactly("b");
+    }
+
+    @Test
+    public void putRecord_FailedEntries_FailAfterMaxAttempts() {
+        producer = producer(c -> c.maxBatchSize(2).linger(Duration.ofMillis(10)).maxRecordAttempts(2));
+        failedEntries = e -> e.data().asUtf8String().equals("b");
+        failureErrorCode = "ProvisionedThroughputExceededException";
+
+        CompletableFuture<PutRecordResponse> first = putRecord("a", FIRST_SHARD_HASH_KEY);
+        CompletableFuture<PutRecordResponse> second = putRecord("b", SECOND_SHARD_HASH_KEY);
+
+        assertThat(first.join().shardId()).isEqualTo("shard-0");
+        assertThatThrownBy(second::join).hasCauseInstanceOf(ProvisionedThroughputExceededException.class);
+        KinesisException exception = (KinesisException) catchCause(second);
+        assertThat(exception.awsErrorDetails().errorCode()).isEqualTo("ProvisionedThroughputExceededException");
+        assertThat(exception.statusCode()).isEqualTo(400);
+
+        sentRequests(2);
+    }
+
+    @Test
+    public void putRecord_ShardAtRateLimit_HoldsBackItsRecords() {
+        producer = producer(c -> c.maxBatchSize(4).linger(Duration.ofHours(1)).maxRecordsPerSecondPerShard(2));
+
+        List<CompletableFuture<PutRecordResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            responses.add(putRecord("first-" + i, FIRST_SHARD_HASH_KEY));
+        }
+        responses.add(putRecord("second", SECOND_SHARD_HASH_KEY));
+
+        responses.forEach(CompletableFuture::join);
+
+        List<PutRecordsRequest> requests = sentRequests(2);
+        assertThat(requests.get(0).records()).extracting(e -> e.data().asUtf8String())
+                                             .containsExactly("first-0", "first-1", "second");
+        assertThat(requests.get(1).records()).extracting(e -> e.data().asUtf8String()).containsExactly("first-2");
+    }
+
+    @Test
+    public void putRecord_ShardAtRateLimitBeyondRecordTtl_FailsTheHeldBackRecords() {
+        producer = producer(c -> c.linger(Duration.ofMillis(10)).recordTtl(Duration.ofMillis(1))
+                                  .maxRecordsPerSecondPerShard(1));
+
+        CompletableFuture<PutRecordResponse> first = putRecord("a", FIRST_SHARD_HASH_KEY);
+        CompletableFuture<PutRecordResponse> second = putRecord("b", FIRST_SHARD_HASH_KEY);
+
+        assertThat(first.join().shardId()).isEqualTo("shard-0");
+        assertThatThrownBy(second::join).hasCauseInstanceOf(SdkClientException.class)
+                                        .hasMessageContaining("TTL");
+        sentRequests(1);
+    }
+
+    @Test
+    public void putRecord_MaxBufferedBytesExceeded_FailsTheRecordUntilBufferedRecordsComplete() {
+        // Each record is 6 bytes: 1 byte of data and a 5 character partition key.
+        producer = producer(c -> c.linger(Duration.ofHours(1)).maxBufferedBytes(10L));
+
+        CompletableFuture<PutRecordResponse> first = putRecord("a", FIRST_SHARD_HASH_KEY);
+        assertThatThrownBy(() -> putRecord("b", FIRST_SHARD_HASH_KEY).join())
+            .hasCauseInstanceOf(SdkClientException.class);
+
+        producer.flush();
+        assertThat(first.join().shardId()).isEqualTo("shard-0");
+        CompletableFuture<PutRecordResponse> third = putRecord("c", FIRST_SHARD_HASH_KEY);
+        producer.flush();
+        assertThat(third.join().shardId()).isEqualTo("shard-0");
+    }
+
+    @Test
+    public void putRecord_AggregationEnabled_CombinesTheRecordsOfEachShard() {
+        producer = producer(c -> c.linger(Duration.ofMillis(10)).aggregationEnabled(true));
+
+        CompletableFuture<PutRecordResponse> first = producer.putRecord(r -> r.streamName(STREAM)
+                                                                              .partitionKey("key-1")
+                                                                              .explicitHashKey(FIRST_SHARD_HASH_KEY)
+                                                                              .data(SdkBytes.fromUtf8String("a")));
+        CompletableFuture<PutRecordResponse> second = producer.putRecord(r -> r.streamName(STREAM)
+                                                                               .partitionKey("key-2")
+                                                                               .explicitHashKey(FIRST_SHARD_HASH_KEY)
+                                                                               .data(SdkBytes.fromUtf8String("b")));
+        CompletableFuture<PutRecordResponse> third = putRecord("c", SECOND_SHARD_HASH_KEY);
+
+        assertThat(first.join().sequenceNumber()).isEqualTo(second.join().sequenceNumber());
+        assertThat(third.join().sequenceNumber()).isNotEqualTo(first.join().sequenceNumber());
+
+        List<PutRecordsRequestEntry> entries = sentRequests(1).get(0).records();
+        assertThat(entries).hasSize(2);
+        assertThat(entries.get(1).data().asUtf8String()).isEqualTo("c");
+
+        PutRecordsRequestEntry aggregated = entries.get(0);
+        assertThat(aggregated.partitionKey()).isEqualTo("key-1");
+        assertThat(aggregated.explicitHashKey()).isEqualTo(FIRST_SHARD_HASH_KEY);
+        assertThat(deaggregate(aggregated.data().asByteArray()))
+            .containsExactly("key-1/" + FIRST_SHARD_HASH_KEY + "/a", "key-2/" + FIRST_SHARD_HASH_KEY + "/b");
+    }
+
+    @Test
+    public void putRecord_ListShardsFails_FailsTheRecords() {
+        CompletableFuture<ListShardsResponse> failure = new CompletableFuture<>();
+        failure.completeExceptionally(ResourceNotFoundException.builder().message("No stream").build());
+        doReturn(failure).when(client).listShards(any(ListShardsRequest.class));
+        producer = producer(c -> c.linger(Duration.ofMillis(10)));
+
+        assertThatThrownBy(() -> putRecord("a", FIRST_SHARD_HASH_KEY).join())
+            .hasCauseInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void putRecord_PutRecordsFails_FailsAllRecordsOfTheRequest() {
+        CompletableFuture<PutRecordsResponse> failure = new CompletableFuture<>();
+        failure.completeExceptionally(ResourceNotFoundException.builder().message("No stream").build());
+        doReturn(failure).when(client).putRecords(any(PutRecordsRequest.class));
+        producer = producer(c -> c.maxBatchSize(2).linger(Duration.ofHours(1)));
+
+        CompletableFuture<PutRecordResponse> first = putRecord("a", FIRST_SHARD_HASH_KEY);
+        CompletableFuture<PutRecordResponse> second = putRecord("b", SECOND_SHARD_HASH_KEY);
+
+        assertThatThrownBy(first::join).hasCauseInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    public void close_SendsBufferedRecordsAndRejectsNewOnes() {
+        producer = producer(c -> c.linger(Duration.ofHours(1)).maxRecordsPerSecondPerShard(1));
+
+        CompletableFuture<PutRecordResponse> first = putRecord("a", FIRST_SHARD_HASH_KEY);
+        CompletableFuture<PutRecordResponse> second = putRecord("b", FIRST_SHARD_HASH_KEY);
+        producer.close();
+
+        assertThat(first.join().shardId()).isEqualTo("shard-0");
+        assertThat(second.join().shardId()).isEqualTo("shard-0");
+        assertThatThrownBy(() -> putRecord("c", FIRST_SHARD_HASH_KEY).join())
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void putRecord_SequenceNumberForOrdering_IsRejected() {
+        producer = producer(c -> { });
+
+        assertThatThrownBy(() -> producer.putRecord(r -> r.streamName(STREAM)
+                                                          .partitionKey("key")
+                                                          .sequenceNumberForOrdering("1")
+                                                          .data(SdkBytes.fromUtf8String("a"))))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private KinesisAsyncProducer producer(Consumer<ProducerOverrideConfiguration.Builder> configuration) {
+        return KinesisAsyncProducer.builder()
+                                   .client(client)
+                                   .overrideConfiguration(configuration)
+                                   .build();
+    }
+
+    private CompletableFuture<PutRecordResponse> putRecord(String data, String explicitHashKey) {
+        return producer.putRecord(r -> r.streamName(STREAM)
+                                        .partitionKey("key-" + data)
+                                        .explicitHashKey(explicitHashKey)
+                                        .data(SdkBytes.fromUtf8String(data)));
+    }
+
+    private List<PutRecordsRequest> sentRequests(int expectedRequests) {
+        ArrayList<PutRecordsRequest> requests = new ArrayList<>();
+        ArgumentCaptor<PutRecordsRequest> captor = ArgumentCaptor.forClass(PutRecordsRequest.class);
+        verify(client, times(expectedRequests)).putRecords(captor.capture());
+        requests.addAll(captor.getAllValues());
+        return requests;
+    }
+
+    private static Throwable catchCause(CompletableFuture<?> future) {
+        try {
+            future.join();
+            throw new AssertionError("The future did not fail.");
+        } catch (CompletionException e) {
+            return e.getCause();
+        }
+    }
+
+    private static Shard shard(String shardId, BigInteger startingHashKey, BigInteger endingHashKey) {
+        return Shard.builder()
+                    .shardId(shardId)
+                    .hashKeyRange(HashKeyRange.builder()
+                                              .startingHashKey(startingHashKey.toString())
+                                              .endingHashKey(endingHashKey.toString())
+                                              .build())
+                    .sequenceNumberRange(SequenceNumberRange.builder().startingSequenceNumber("0").build())
+                    .build();
+    }
+
+    private static BigInteger maxHashKey() {
+        return BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+    }
+
+    private static String shardId(PutRecordsRequestEntry entry) {
+        BigInteger hashKey = entry.explicitHashKey() != null
+                             ? new BigInteger(entry.explicitHashKey())
+                             : new BigInteger(1, Md5Utils.computeMD5Hash(entry.partitionKey().getBytes(StandardCharsets.UTF_8)));
+        return hashKey.compareTo(SECOND_SHARD_START) < 0 ? "shard-0" : "shard-1";
+    }
+
+    /**
+     * Decode an aggregated record, verifying its magic number and MD5, and describe each of its user records as
+     * "partitionKey/explicitHashKey/data".
+     */
+    private static List<String> deaggregate(byte[] data) {
+        assertThat(Arrays.copyOfRange(data, 0, 4)).containsExactly(0xF3, 0x89, 0x9A, 0xC2);
+        byte[] message = Arrays.copyOfRange(data, 4, data.length - 16);
+        assertThat(Arrays.copyOfRange(data, data.length - 16, data.length)).isEqualTo(Md5Utils.computeMD5Hash(message));
+
+        List<String> partitionKeys = new ArrayList<>();
+        List<String> explicitHashKeys = new ArrayList<>();
+        List<byte[]> records = new ArrayList<>();
+        ProtobufReader reader = new ProtobufReader(message);
+        while (reader.hasMore()) {
+            int field = reader.readVarint() >>> 3;
+            byte[] value = reader.readBytes();
+            if (field == 1) {
+                partitionKeys.add(new String(value, StandardCharsets.UTF_8));
+            } else if (field == 2) {
+                explicitHashKeys.add(new String(value, StandardCharsets.UTF_8));
+            } else {
+                assertThat(field).isEqualTo(3);
+                records.add(value);
+            }
+        }
+
+        List<String> userRecords = new ArrayList<>();
+        for (byte[] record : records) {
+            ProtobufReader recordReader = new ProtobufReader(record);
+            String partitionKey = null;
+            String explicitHashKey = null;
+            String recordData = null;
+            while (recordReader.hasMore()) {
+                int field = recordReader.readVarint() >>> 3;
+                if (field == 1) {
+                    partitionKey = partitionKeys.get(recordReader.readVarint());
+                } else if (field == 2) {
+                    explicitHashKey = explicitHashKeys.get(recordReader.readVarint());
+                } else {
+                    assertThat(field).isEqualTo(3);
+                    recordData = new String(recordReader.readBytes(), StandardCharsets.UTF_8);
+                }
+            }
+            userRecords.add(partitionKey + "/" + explicitHashKey + "/" + recordData);
+        }
+        return userRecords;
+    }
+
+    private static final class ProtobufReader {
+        private final byte[] bytes;
+        private int position;
+
+        private ProtobufReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private boolean hasMore() {
+            return position < bytes.length;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        private byte[] readBytes() {
+            int length = readVarint();
+            byte[] value = Arrays.copyOfRange(bytes, position, position + length);
+            position += length;
+            return value;
+        }
+    }
+}
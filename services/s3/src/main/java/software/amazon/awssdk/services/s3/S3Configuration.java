@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.services.s3;
 
+import java.util.concurrent.Executor;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -67,6 +68,7 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
     private final FieldWithDefault<Boolean> useArnRegionEnabled;
     private final FieldWithDefault<ProfileFile> profileFile;
     private final FieldWithDefault<String> profileName;
+    private final Executor checksumExecutor;
 
     private S3Configuration(DefaultS3ServiceConfigurationBuilder builder) {
         this.dualstackEnabled = FieldWithDefault.create(builder.dualstackEnabled, DEFAULT_DUALSTACK_ENABLED);
@@ -79,6 +81,7 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
         this.profileName = FieldWithDefault.create(builder.profileName,
                                                    ProfileFileSystemSetting.AWS_PROFILE.getStringValueOrThrow());
         this.useArnRegionEnabled = FieldWithDefault.createLazy(builder.useArnRegionEnabled, this::resolveUserArnRegionEnabled);
+        this.checksumExecutor = builder.checksumExecutor;
 
         if (accelerateModeEnabled() && pathStyleAccessEnabled()) {
             throw new IllegalArgumentException("Accelerate mode cannot be used with path style addressing");
@@ -182,6 +185,16 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
         return useArnRegionEnabled.value();
     }
 
+    /**
+     * Returns the executor used to calculate and validate the checksums of the request and response bodies of asynchronous
+     * clients, or null if the checksums are calculated on the thread delivering the data.
+     *
+     * @see Builder#checksumExecutor(Executor)
+     */
+    public Executor checksumExecutor() {
+        return checksumExecutor;
+    }
+
     @Override
     public Builder toBuilder() {
         return builder()
@@ -192,7 +205,8 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
                 .chunkedEncodingEnabled(chunkedEncodingEnabled.valueOrNullIfDefault())
                 .useArnRegionEnabled(useArnRegionEnabled.valueOrNullIfDefault())
                 .profileFile(profileFile.valueOrNullIfDefault())
-                .profileName(profileName.valueOrNullIfDefault());
+                .profileName(profileName.valueOrNullIfDefault())
+                .checksumExecutor(checksumExecutor);
     }
 
     @NotThreadSafe
@@ -301,6 +315,27 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
          * </p>
          */
         Builder profileName(String profileName);
+
+        Executor checksumExecutor();
+
+        /**
+         * The executor used to calculate and validate the checksums of the request and response bodies of asynchronous
+         * clients.
+         *
+         * <p>
+         * By default, the checksums are calculated on the thread delivering the data which, for the Netty HTTP client, is
+         * an event loop thread shared with other connections. When an executor is configured, the data is passed on
+         * without waiting for it to be hashed, and the executor hashes it in order. The data is throttled when the
+         * executor falls behind, so that the data waiting to be hashed stays bounded.
+         * </p>
+         *
+         * <p>
+         * The executor is not shut down when the client is closed.
+         * </p>
+         *
+         * @see S3Configuration#checksumExecutor()
+         */
+        Builder checksumExecutor(Executor checksumExecutor);
     }
 
     static final class DefaultS3ServiceConfigurationBuilder implements Builder {
@@ -312,6 +347,7 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
         private Boolean useArnRegionEnabled;
         private ProfileFile profileFile;
         private String profileName;
+        private Executor checksumExecutor;
 
         @Override
         public Boolean dualstackEnabled() {
@@ -419,6 +455,21 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
             useArnRegionEnabled(useArnRegionEnabled);
         }
 
+        @Override
+        public Executor checksumExecutor() {
+            return checksumExecutor;
+        }
+
+        @Override
+        public Builder checksumExecutor(Executor checksumExecutor) {
+            this.checksumExecutor = checksumExecutor;
+            return this;
+        }
+
+        public void setChecksumExecutor(Executor checksumExecutor) {
+            checksumExecutor(checksumExecutor);
+        }
+
         public S3Configuration build() {
             return new S3Configuration(this);
         }
@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.bulk;
+
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The result of deleting objects with {@link S3AsyncBulkOperations}.
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public final class BulkDeleteResult {
+    private final long deletedCount;
+    private final List<S3Error> errors;
+
+    private BulkDeleteResult(Builder builder) {
+        this.deletedCount = builder.deletedCount;
+        this.errors = Collections.unmodifiableList(Validate.paramNotNull(builder.errors, "errors"));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The number of objects that were deleted.
+     */
+    public long deletedCount() {
+        return deletedCount;
+    }
+
+    /**
+     * The objects that could not be deleted. This includes the errors reported by S3 for individual keys, as well as one error
+     * per key of a {@code DeleteObjects} call that failed as a whole, whose code is the error code of the service exception
+     * (if any) and whose message is the message of the exception.
+     */
+    public List<S3Error> errors() {
+        return errors;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BulkDeleteResult")
+                       .add("deletedCount", deletedCount)
+                       .add("errors", errors.size())
+                       .build();
+    }
+
+    /**
+     * A builder for creating a {@link BulkDeleteResult}. Created via {@link #builder()}.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private long deletedCount;
+        private List<S3Error> errors;
+
+        private Builder() {
+        }
+
+        public Builder deletedCount(long deletedCount) {
+            this.deletedCount = deletedCount;
+            return this;
+        }
+
+        public Builder errors(List<S3Error> errors) {
+            this.errors = errors;
+            return this;
+        }
+
+        public BulkDeleteResult build() {
+            return new BulkDeleteResult(this);
+        }
+    }
+}
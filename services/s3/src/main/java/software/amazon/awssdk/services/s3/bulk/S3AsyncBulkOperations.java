@@ -0,0 +1,159 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.bulk;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.internal.bulk.DefaultS3AsyncBulkOperations;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Publisher;
+
+/**
+ * Lists and deletes large numbers of objects with a {@link S3AsyncClient}.
+ * <p/>
+ * A {@link ListObjectsV2Publisher} lists the keys of a prefix one page after the other. To list a large key space faster,
+ * {@link #listObjects(ListObjectsV2Request)} first lists the prefix with the {@link Builder#partitionDelimiter(String)}, and
+ * then lists each of the common prefixes it returns with its own paginator, up to
+ * {@link Builder#maxConcurrentListings(Integer)} at a time. The objects are published as the pages are received, so objects
+ * of different partitions are interleaved rather than sorted by key. Pages are only requested while fewer than
+ * {@link Builder#maxBufferedObjects(Integer)} objects are waiting for demand from the subscriber.
+ * <p/>
+ * {@link #deleteObjects(String, Publisher)} groups the keys it receives into {@code DeleteObjects} calls of up to 1000 keys,
+ * and keeps up to {@link Builder#maxConcurrentDeletes(Integer)} calls in flight. Keys are only requested from the publisher
+ * when a call can be made, so deleting the objects of a listing holds at most one batch per call in memory.
+ *
+ * <b>Example Usage</b>
+ * <p/>
+ *
+ * <pre>
+ * {@code
+ *     S3AsyncBulkOperations bulk = S3AsyncBulkOperations.builder()
+ *                                                        .client(S3AsyncClient.create())
+ *                                                        .build();
+ *
+ *     // Delete all the objects under the "logs/" prefix.
+ *     BulkDeleteResult result = bulk.deleteObjects(r -> r.bucket("bucket").prefix("logs/")).join();
+ *     result.errors().forEach(e -> log.warn("Could not delete {}: {}", e.key(), e.message()));
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface S3AsyncBulkOperations {
+    /**
+     * Create a builder that can be used to configure and create a {@link S3AsyncBulkOperations}.
+     */
+    static Builder builder() {
+        return DefaultS3AsyncBulkOperations.builder();
+    }
+
+    /**
+     * List all the objects of a bucket under the prefix of the request, listing its partitions in parallel.
+     * <p/>
+     * The request must not have a delimiter or a continuation token, since the listing uses the partition delimiter and its
+     * own continuation tokens. The other members of the request, such as the maximum number of keys per page, apply to each
+     * partition.
+     *
+     * @return A publisher of the objects, which starts listing when it is subscribed to.
+     */
+    SdkPublisher<S3Object> listObjects(ListObjectsV2Request request);
+
+    /**
+     * List all the objects of a bucket under the prefix of the request, listing its partitions in parallel.
+     * <p/>
+     * This is a shorter method of invoking {@link #listObjects(ListObjectsV2Request)} without needing to call
+     * {@code ListObjectsV2Request.builder()} or {@code .build()}.
+     */
+    default SdkPublisher<S3Object> listObjects(Consumer<ListObjectsV2Request.Builder> request) {
+        return listObjects(ListObjectsV2Request.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Delete the given objects of a bucket with {@code DeleteObjects} calls.
+     *
+     * @return A future that is completed once all the objects were processed, with the number of objects deleted and the
+     * objects that could not be deleted. The future is completed exceptionally if the publisher fails.
+     */
+    CompletableFuture<BulkDeleteResult> deleteObjects(String bucket, Publisher<ObjectIdentifier> objects);
+
+    /**
+     * Delete all the objects listed by {@link #listObjects(ListObjectsV2Request)} for the given request.
+     *
+     * @return A future that is completed once all the objects were processed, with the number of objects deleted and the
+     * objects that could not be deleted. The future is completed exceptionally if the listing fails.
+     */
+    CompletableFuture<BulkDeleteResult> deleteObjects(ListObjectsV2Request request);
+
+    /**
+     * Delete all the objects listed by {@link #listObjects(ListObjectsV2Request)} for the given request.
+     * <p/>
+     * This is a shorter method of invoking {@link #deleteObjects(ListObjectsV2Request)} without needing to call
+     * {@code ListObjectsV2Request.builder()} or {@code .build()}.
+     */
+    default CompletableFuture<BulkDeleteResult> deleteObjects(Consumer<ListObjectsV2Request.Builder> request) {
+        return deleteObjects(ListObjectsV2Request.builder().applyMutation(request).build());
+    }
+
+    /**
+     * A builder for creating a {@link S3AsyncBulkOperations}. Created via {@link #builder()}.
+     */
+    @NotThreadSafe
+    interface Builder {
+        /**
+         * The client used to list and delete the objects. This is required.
+         */
+        Builder client(S3AsyncClient client);
+
+        /**
+         * The delimiter used to split the key space into partitions listed in parallel. Defaults to "/".
+         */
+        Builder partitionDelimiter(String partitionDelimiter);
+
+        /**
+         * The maximum number of partitions listed at the same time. Defaults to 8.
+         */
+        Builder maxConcurrentListings(Integer maxConcurrentListings);
+
+        /**
+         * The number of listed objects above which no more pages are requested until the subscriber catches up. Since each
+         * listing may have one page in flight, up to one page per listing may be buffered in addition. Defaults to 10,000.
+         */
+        Builder maxBufferedObjects(Integer maxBufferedObjects);
+
+        /**
+         * The maximum number of {@code DeleteObjects} calls in flight at the same time. Defaults to 4.
+         */
+        Builder maxConcurrentDeletes(Integer maxConcurrentDeletes);
+
+        /**
+         * The maximum number of keys deleted by each {@code DeleteObjects} call, at most 1000. Defaults to 1000.
+         */
+        Builder deleteBatchSize(Integer deleteBatchSize);
+
+        /**
+         * Create the bulk operations.
+         */
+        S3AsyncBulkOperations build();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.checksums;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+/**
+ * Encodes a payload of a known length in aws-chunked encoding, with unsigned chunks of a fixed size, followed by a trailing
+ * header holding the checksum of the payload. The checksum is computed while the payload is encoded, so the payload is only
+ * read once.
+ * <pre>
+ * 10000\r\n&lt;65536 bytes&gt;\r\n
+ * ...
+ * 0\r\n
+ * x-amz-checksum-crc32c:&lt;base64 checksum&gt;\r\n
+ * \r\n
+ * </pre>
+ */
+@SdkInternalApi
+@NotThreadSafe
+public final class AwsChunkedTrailerEncoder {
+    /**
+     * The size of the chunks of the encoded payload, except the last one.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final int MAX_CHUNK_HEADER_LENGTH = Integer.toHexString(Integer.MAX_VALUE).length() + CRLF.length;
+
+    private final long contentLength;
+    private final int chunkSize;
+    private final SdkChecksum checksum;
+    private final String trailerHeader;
+
+    private long position;
+    private int remainingInChunk;
+
+    public AwsChunkedTrailerEncoder(long contentLength, int chunkSize, SdkChecksum checksum, String trailerHeader) {
+        this.contentLength = contentLength;
+        this.chunkSize = chunkSize;
+        this.checksum = checksum;
+        this.trailerHeader = trailerHeader;
+    }
+
+    /**
+     * Compute the length of the encoded payload.
+     *
+     * @param contentLength The length of the payload.
+     * @param chunkSize The size of the chunks.
+     * @param trailerHeader The name of the trailing header.
+     * @param checksumLength The length of the base64-encoded checksum.
+     */
+    public static long encodedLength(long contentLength, int chunkSize, String trailerHeader, int checksumLength) {
+        long fullChunks = contentLength / chunkSize;
+        int lastChunkSize = (int) (contentLength % chunkSize);
+
+        long length = fullChunks * chunkLength(chunkSize);
+        if (lastChunkSize > 0) {
+            length += chunkLength(lastChunkSize);
+        }
+
+        // The final zero-length chunk, the trailing header and the empty line ending the trailer.
+        return length + 1 + CRLF.length + trailerHeader.length() + 1 + checksumLength + CRLF.length + CRLF.length;
+    }
+
+    /**
+     * Encode the next bytes of the payload, and update the checksum with them.
+     *
+     * @param data The bytes of the payload. They are all consumed.
+     * @return The encoded bytes.
+     */
+    public ByteBuffer encode(ByteBuffer data) {
+        int length = data.remaining();
+        if (position + length > contentLength) {
+            throw SdkClientException.create("The request content has more bytes than its declared length of " + contentLength);
+        }
+
+        // Each chunk started within the data adds a header, and each chunk completed adds a line break.
+        int chunks = length / chunkSize + 2;
+        ByteBuffer encoded = ByteBuffer.allocate(length + chunks * (MAX_CHUNK_HEADER_LENGTH + CRLF.length));
+        byte[] out = encoded.array();
+
+        while (data.hasRemaining()) {
+            if (remainingInChunk == 0) {
+                remainingInChunk = (int) Math.min(chunkSize, contentLength - position);
+                encoded.put(Integer.toHexString(remainingInChunk).getBytes(StandardCharsets.US_ASCII));
+                encoded.put(CRLF);
+            }
+
+            int count = Math.min(data.remaining(), remainingInChunk);
+            int start = encoded.position();
+            ByteBuffer slice = data.duplicate();
+            slice.limit(slice.position() + count);
+            encoded.put(slice);
+            data.position(data.position() + count);
+            checksum.update(out, start, count);
+
+            position += count;
+            remainingInChunk -= count;
+            if (remainingInChunk == 0) {
+                encoded.put(CRLF);
+            }
+        }
+
+        encoded.flip();
+        return encoded;
+    }
+
+    /**
+     * Complete the payload with the final chunk and the trailing checksum.
+     *
+     * @return The encoded bytes.
+     */
+    public ByteBuffer finish() {
+        if (position != contentLength) {
+            throw SdkClientException.create("The request content has fewer bytes than its declared length of " + contentLength +
+                                            ", only " + position + " bytes were read.");
+        }
+
+        String trailer = "0\r\n" + trailerHeader + ":" + BinaryUtils.toBase64(checksum.getChecksumBytes()) + "\r\n\r\n";
+        return ByteBuffer.wrap(trailer.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static long chunkLength(int size) {
+        return Integer.toHexString(size).length() + CRLF.length + size + CRLF.length;
+    }
+}
@@ -17,6 +17,7 @@ package software.amazon.awssdk.services.s3.checksums;
 
 import java.nio.ByteBuffer;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -29,10 +30,20 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
 
     private final AsyncRequestBody wrapped;
     private final SdkChecksum sdkChecksum;
+    private final ChecksumPipeline pipeline;
 
     public ChecksumCalculatingAsyncRequestBody(AsyncRequestBody wrapped, SdkChecksum sdkChecksum) {
+        this(wrapped, sdkChecksum, null);
+    }
+
+    /**
+     * @param checksumExecutor The executor used to calculate the checksum, or null to calculate it on the thread delivering
+     * the data.
+     */
+    public ChecksumCalculatingAsyncRequestBody(AsyncRequestBody wrapped, SdkChecksum sdkChecksum, Executor checksumExecutor) {
         this.wrapped = wrapped;
         this.sdkChecksum = sdkChecksum;
+        this.pipeline = checksumExecutor == null ? null : new ChecksumPipeline(sdkChecksum, checksumExecutor);
     }
 
     @Override
@@ -42,6 +53,13 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
 
     @Override
     public void subscribe(Subscriber<? super ByteBuffer> s) {
+        if (pipeline != null) {
+            // The reset is queued behind any update still pending from a previous attempt.
+            pipeline.reset();
+            wrapped.subscribe(new PipelinedChecksumCalculatingSubscriber(s, pipeline));
+            return;
+        }
+
         sdkChecksum.reset();
         wrapped.subscribe(new ChecksumCalculatingSubscriber(s, sdkChecksum));
     }
@@ -79,4 +97,47 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
             wrapped.onComplete();
         }
     }
+
+    /**
+     * Hands a copy of each buffer to the checksum pipeline and passes the buffer on without waiting for it to be hashed. The
+     * completion is delayed until the checksum is complete, so that it can be read once the request was sent.
+     */
+    private static final class PipelinedChecksumCalculatingSubscriber implements Subscriber<ByteBuffer> {
+
+        private final Subscriber<? super ByteBuffer> wrapped;
+        private final ChecksumPipeline pipeline;
+
+        PipelinedChecksumCalculatingSubscriber(Subscriber<? super ByteBuffer> wrapped, ChecksumPipeline pipeline) {
+            this.wrapped = wrapped;
+            this.pipeline = pipeline;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            wrapped.onSubscribe(pipeline.throttle(s));
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            byte[] buf = BinaryUtils.copyBytesFrom(byteBuffer);
+            pipeline.update(buf, 0, buf.length);
+            wrapped.onNext(byteBuffer);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            wrapped.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            pipeline.flush().whenComplete((r, t) -> {
+                if (t != null) {
+                    wrapped.onError(t);
+                } else {
+                    wrapped.onComplete();
+                }
+            });
+        }
+    }
 }
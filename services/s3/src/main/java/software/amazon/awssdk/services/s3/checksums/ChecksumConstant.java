@@ -50,6 +50,41 @@ public final class ChecksumConstant {
      */
     public static final String SERVER_SIDE_CUSTOMER_ENCRYPTION_HEADER = "x-amz-server-side-encryption-customer-algorithm";
 
+    /**
+     * Prefix of the header names of the checksums of an object, such as {@code x-amz-checksum-crc32c}.
+     */
+    public static final String HTTP_CHECKSUM_HEADER_PREFIX = "x-amz-checksum-";
+
+    /**
+     * Header name for the names of the trailing headers of an aws-chunked encoded payload.
+     */
+    public static final String TRAILER_HEADER = "x-amz-trailer";
+
+    /**
+     * Header name for the length of an aws-chunked encoded payload once decoded.
+     */
+    public static final String DECODED_CONTENT_LENGTH_HEADER = "x-amz-decoded-content-length";
+
+    /**
+     * Header name for the content encoding of a request.
+     */
+    public static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+
+    /**
+     * Content encoding of a payload sent in chunks with trailing headers.
+     */
+    public static final String AWS_CHUNKED_CONTENT_ENCODING = "aws-chunked";
+
+    /**
+     * Header name for the hash of the payload used for signing.
+     */
+    public static final String CONTENT_SHA256_HEADER = "x-amz-content-sha256";
+
+    /**
+     * Header value for specifying an aws-chunked encoded payload with unsigned chunks and trailing headers.
+     */
+    public static final String STREAMING_UNSIGNED_PAYLOAD_TRAILER = "STREAMING-UNSIGNED-PAYLOAD-TRAILER";
+
     /**
      * Length of an MD5 checksum in bytes.
      */
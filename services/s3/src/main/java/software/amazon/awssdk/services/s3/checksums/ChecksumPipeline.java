@@ -0,0 +1,266 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.checksums;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Applies updates to a {@link SdkChecksum} on an executor, so that the thread delivering the data (e.g. a Netty event loop)
+ * does not have to hash it.
+ * <p>
+ * Updates are applied one at a time, in the order they were submitted. The number of submitted bytes that were not hashed yet
+ * is bounded: once it exceeds the limit, a subscription wrapped with {@link #throttle(Subscription)} stops requesting more data
+ * until the executor catches up. Since the data already requested cannot be held back, the limit may be exceeded by the data
+ * delivered for outstanding demand.
+ * <p>
+ * If an update fails, the pipeline fails: later updates are skipped and the futures returned by {@link #flush()} complete
+ * exceptionally with the failure.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ChecksumPipeline {
+    /**
+     * The default number of bytes that can be waiting to be hashed before the data is throttled.
+     */
+    public static final long DEFAULT_MAX_PENDING_BYTES = 4 * 1024 * 1024;
+
+    private final SdkChecksum checksum;
+    private final Executor executor;
+    private final long maxPendingBytes;
+
+    private final Object lock = new Object();
+
+    /**
+     * The tasks waiting to be applied to the checksum, in order.
+     */
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    /**
+     * The callbacks to invoke once the number of pending bytes drops below the limit.
+     */
+    private List<Runnable> capacityListeners = new ArrayList<>();
+
+    private long pendingBytes;
+    private boolean draining;
+
+    /**
+     * The failure of the first update that threw, if any. Only written by the thread draining the tasks.
+     */
+    private volatile Throwable failure;
+
+    public ChecksumPipeline(SdkChecksum checksum, Executor executor) {
+        this(checksum, executor, DEFAULT_MAX_PENDING_BYTES);
+    }
+
+    public ChecksumPipeline(SdkChecksum checksum, Executor executor, long maxPendingBytes) {
+        this.checksum = Validate.paramNotNull(checksum, "checksum");
+        this.executor = Validate.paramNotNull(executor, "executor");
+        this.maxPendingBytes = Validate.isPositive(maxPendingBytes, "maxPendingBytes");
+    }
+
+    /**
+     * The checksum updated by this pipeline. Its value is only complete once the future returned by {@link #flush()} has
+     * completed.
+     */
+    public SdkChecksum checksum() {
+        return checksum;
+    }
+
+    /**
+     * Submit an update of the checksum. The pipeline takes ownership of the array, which must not be modified afterwards.
+     */
+    public void update(byte[] bytes, int offset, int length) {
+        if (length <= 0) {
+            return;
+        }
+        submit(() -> {
+            if (failure == null) {
+                checksum.update(bytes, offset, length);
+            }
+        }, length);
+    }
+
+    /**
+     * Submit a reset of the checksum, applied after all the updates submitted before it.
+     */
+    public void reset() {
+        submit(checksum::reset, 0);
+    }
+
+    /**
+     * Returns a future that completes once all the updates submitted before this call were applied to the checksum, or
+     * completes exceptionally if one of the updates submitted so far failed.
+     */
+    public CompletableFuture<SdkChecksum> flush() {
+        CompletableFuture<SdkChecksum> result = new CompletableFuture<>();
+        submit(() -> {
+            Throwable t = failure;
+            if (t != null) {
+                result.completeExceptionally(t);
+            } else {
+                result.complete(checksum);
+            }
+        }, 0);
+        return result;
+    }
+
+    /**
+     * Wrap the given subscription, so that the demand it signals is held back while too many bytes are waiting to be hashed.
+     */
+    public Subscription throttle(Subscription subscription) {
+        return new ThrottlingSubscription(subscription);
+    }
+
+    private void submit(Runnable task, long length) {
+        boolean startDraining;
+        synchronized (lock) {
+            tasks.add(new Update(task, length));
+            pendingBytes += length;
+            startDraining = !draining;
+            draining = true;
+        }
+
+        if (startDraining) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Fall back to hashing on the calling thread rather than losing the update.
+                drain();
+            }
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Runnable task;
+            synchronized (lock) {
+                task = tasks.poll();
+                if (task == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            task.run();
+        }
+    }
+
+    private void completed(long length) {
+        List<Runnable> listeners;
+        synchronized (lock) {
+            pendingBytes -= length;
+            if (pendingBytes >= maxPendingBytes || capacityListeners.isEmpty()) {
+                return;
+            }
+            listeners = capacityListeners;
+            capacityListeners = new ArrayList<>();
+        }
+        listeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Invoke the given callback once the number of pending bytes is below the limit, which may be immediately.
+     */
+    private void whenCapacity(Runnable listener) {
+        synchronized (lock) {
+            if (pendingBytes >= maxPendingBytes) {
+                capacityListeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    private final class Update implements Runnable {
+        private final Runnable task;
+        private final long length;
+
+        private Update(Runnable task, long length) {
+            this.task = task;
+            this.length = length;
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                if (failure == null) {
+                    failure = t;
+                }
+            } finally {
+                completed(length);
+            }
+        }
+    }
+
+    private final class ThrottlingSubscription implements Subscription {
+        private final Subscription delegate;
+
+        /**
+         * The demand signalled by the subscriber that was not yet passed to the delegate. Guarded by this.
+         */
+        private long deferredDemand;
+
+        private ThrottlingSubscription(Subscription delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // Let the delegate signal the error required by the reactive streams specification.
+                delegate.request(n);
+                return;
+            }
+
+            synchronized (this) {
+                boolean waiting = deferredDemand > 0;
+                deferredDemand = deferredDemand + n < 0 ? Long.MAX_VALUE : deferredDemand + n;
+                if (waiting) {
+                    return;
+                }
+            }
+            whenCapacity(this::releaseDemand);
+        }
+
+        private void releaseDemand() {
+            long demand;
+            synchronized (this) {
+                demand = deferredDemand;
+                deferredDemand = 0;
+            }
+            if (demand > 0) {
+                delegate.request(demand);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            delegate.cancel();
+        }
+    }
+}
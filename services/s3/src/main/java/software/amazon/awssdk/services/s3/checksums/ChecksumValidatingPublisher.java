@@ -19,6 +19,7 @@ import static java.lang.Math.toIntExact;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.concurrent.Executor;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -34,19 +35,33 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
     private final Publisher<ByteBuffer> publisher;
     private final SdkChecksum sdkChecksum;
     private final long contentLength;
+    private final Executor checksumExecutor;
 
     public ChecksumValidatingPublisher(Publisher<ByteBuffer> publisher,
                                        SdkChecksum sdkChecksum,
                                        long contentLength) {
+        this(publisher, sdkChecksum, contentLength, null);
+    }
+
+    /**
+     * @param checksumExecutor The executor used to calculate the checksum, or null to calculate it on the thread delivering
+     * the data.
+     */
+    public ChecksumValidatingPublisher(Publisher<ByteBuffer> publisher,
+                                       SdkChecksum sdkChecksum,
+                                       long contentLength,
+                                       Executor checksumExecutor) {
         this.publisher = publisher;
         this.sdkChecksum = sdkChecksum;
         this.contentLength = contentLength;
+        this.checksumExecutor = checksumExecutor;
     }
 
     @Override
     public void subscribe(Subscriber<? super ByteBuffer> s) {
         if (contentLength > 0) {
-            publisher.subscribe(new ChecksumValidatingSubscriber(s, sdkChecksum, contentLength));
+            ChecksumPipeline pipeline = checksumExecutor == null ? null : new ChecksumPipeline(sdkChecksum, checksumExecutor);
+            publisher.subscribe(new ChecksumValidatingSubscriber(s, sdkChecksum, pipeline, contentLength));
         } else {
             publisher.subscribe(new ChecksumSkippingSubscriber(s));
         }
@@ -58,6 +73,7 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
         private final Subscriber<? super ByteBuffer> wrapped;
         private final SdkChecksum sdkChecksum;
+        private final ChecksumPipeline pipeline;
         private final long strippedLength;
 
         private byte[] streamChecksum = new byte[CHECKSUM_SIZE];
@@ -65,15 +81,17 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
         ChecksumValidatingSubscriber(Subscriber<? super ByteBuffer> wrapped,
                                      SdkChecksum sdkChecksum,
+                                     ChecksumPipeline pipeline,
                                      long contentLength) {
             this.wrapped = wrapped;
             this.sdkChecksum = sdkChecksum;
+            this.pipeline = pipeline;
             this.strippedLength = contentLength - CHECKSUM_SIZE;
         }
 
         @Override
         public void onSubscribe(Subscription s) {
-            wrapped.onSubscribe(s);
+            wrapped.onSubscribe(pipeline == null ? s : pipeline.throttle(s));
         }
 
         @Override
@@ -83,7 +101,11 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
             if (lengthRead < strippedLength) {
                 int toUpdate = (int) Math.min(strippedLength - lengthRead, buf.length);
 
-                sdkChecksum.update(buf, 0, toUpdate);
+                if (pipeline != null) {
+                    pipeline.update(buf, 0, toUpdate);
+                } else {
+                    sdkChecksum.update(buf, 0, toUpdate);
+                }
             }
             lengthRead += buf.length;
 
@@ -131,6 +153,20 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
         @Override
         public void onComplete() {
+            if (pipeline != null) {
+                pipeline.flush().whenComplete((r, t) -> {
+                    if (t != null) {
+                        wrapped.onError(t);
+                    } else {
+                        validateAndComplete();
+                    }
+                });
+            } else {
+                validateAndComplete();
+            }
+        }
+
+        private void validateAndComplete() {
             if (strippedLength > 0) {
                 int streamChecksumInt = ByteBuffer.wrap(streamChecksum).getInt();
                 int computedChecksumInt = ByteBuffer.wrap(sdkChecksum.getChecksumBytes()).getInt();
@@ -22,10 +22,12 @@ import static software.amazon.awssdk.services.s3.checksums.ChecksumConstant.SERV
 import static software.amazon.awssdk.services.s3.model.ServerSideEncryption.AWS_KMS;
 
 import java.util.Arrays;
+import java.util.concurrent.Executor;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.signer.AwsSignerExecutionAttribute;
 import software.amazon.awssdk.core.ClientType;
 import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.checksums.Algorithm;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
@@ -38,9 +40,11 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.internal.handlers.AsyncChecksumValidationInterceptor;
 import software.amazon.awssdk.services.s3.internal.handlers.SyncChecksumValidationInterceptor;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.internal.Base16Lower;
 
@@ -66,7 +70,39 @@ public final class ChecksumsEnabledValidator {
      */
     public static boolean getObjectChecksumEnabledPerRequest(SdkRequest request,
                                                              ExecutionAttributes executionAttributes) {
-        return request instanceof GetObjectRequest && checksumEnabledPerConfig(executionAttributes);
+        return request instanceof GetObjectRequest && !getObjectHttpChecksumEnabled(request, executionAttributes)
+               && checksumEnabledPerConfig(executionAttributes);
+    }
+
+    /**
+     * Checks if the checksum of the object returned by S3 in an {@code x-amz-checksum-*} header should be validated for
+     * {@link S3Client#getObject(GetObjectRequest)}. The MD5 trailing checksum is not requested in that case.
+     *
+     * @param request the request
+     * @param executionAttributes the executionAttributes
+     * @return true if the checksum mode is enabled on the request and checksums are enabled in the config, false otherwise
+     */
+    public static boolean getObjectHttpChecksumEnabled(SdkRequest request, ExecutionAttributes executionAttributes) {
+        return request instanceof GetObjectRequest
+               && ((GetObjectRequest) request).checksumMode() == ChecksumMode.ENABLED
+               && checksumEnabledPerConfig(executionAttributes);
+    }
+
+    /**
+     * Retrieve the algorithm of the checksum to send as a trailing header for {@link PutObjectRequest} and
+     * {@link UploadPartRequest}.
+     *
+     * @param request the request
+     * @return the algorithm selected on the request, or null if none was selected
+     */
+    public static Algorithm trailingChecksumAlgorithm(SdkRequest request) {
+        if (request instanceof PutObjectRequest) {
+            return HttpChecksumValidator.algorithm(((PutObjectRequest) request).checksumAlgorithm());
+        }
+        if (request instanceof UploadPartRequest) {
+            return HttpChecksumValidator.algorithm(((UploadPartRequest) request).checksumAlgorithm());
+        }
+        return null;
     }
 
     /**
@@ -96,6 +132,11 @@ public final class ChecksumsEnabledValidator {
             return false;
         }
 
+        // The checksum selected on the request is sent as a trailing header, and validated by S3.
+        if (trailingChecksumAlgorithm(sdkRequest) != null) {
+            return false;
+        }
+
         ClientType actualClientType = executionAttributes.getAttribute(SdkExecutionAttribute.CLIENT_TYPE);
 
         if (!expectedClientType.equals(actualClientType)) {
@@ -175,4 +216,17 @@ public final class ChecksumsEnabledValidator {
 
         return serviceConfiguration == null || serviceConfiguration.checksumValidationEnabled();
     }
+
+    /**
+     * Returns the {@link S3Configuration#checksumExecutor()} used to calculate checksums off the thread delivering the data,
+     * or null if none is configured.
+     *
+     * @param executionAttributes the execution attributes
+     */
+    public static Executor checksumExecutor(ExecutionAttributes executionAttributes) {
+        S3Configuration serviceConfiguration =
+            (S3Configuration) executionAttributes.getAttribute(AwsSignerExecutionAttribute.SERVICE_CONFIG);
+
+        return serviceConfiguration == null ? null : serviceConfiguration.checksumExecutor();
+    }
 }
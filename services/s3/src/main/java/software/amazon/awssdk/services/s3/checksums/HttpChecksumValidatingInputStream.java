@@ -0,0 +1,118 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.checksums;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.http.Abortable;
+
+/**
+ * An input stream that computes the checksum of the content it reads, and validates it against the checksum of the object
+ * returned by S3 in a header once the end of the stream is reached.
+ */
+@SdkInternalApi
+public final class HttpChecksumValidatingInputStream extends FilterInputStream implements Abortable {
+    private static final int SKIP_BUFFER_SIZE = 4096;
+
+    private final SdkChecksum checksum;
+    private final String expectedChecksum;
+    private boolean validated;
+
+    /**
+     * @param in The stream of the object content.
+     * @param checksum The checksum of the algorithm of the expected checksum.
+     * @param expectedChecksum The base64-encoded checksum returned by S3.
+     */
+    public HttpChecksumValidatingInputStream(InputStream in, SdkChecksum checksum, String expectedChecksum) {
+        super(in);
+        this.checksum = checksum;
+        this.expectedChecksum = expectedChecksum;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int read = in.read();
+        if (read == -1) {
+            validate();
+        } else {
+            checksum.update(read);
+        }
+        return read;
+    }
+
+    @Override
+    public int read(byte[] buf, int off, int len) throws IOException {
+        int read = in.read(buf, off, len);
+        if (read == -1) {
+            validate();
+        } else {
+            checksum.update(buf, off, read);
+        }
+        return read;
+    }
+
+    /**
+     * Skipped bytes are read, so that they are included in the checksum.
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        byte[] skipBuffer = new byte[(int) Math.min(SKIP_BUFFER_SIZE, n)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(skipBuffer, 0, (int) Math.min(skipBuffer.length, n - skipped));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    @Override
+    public void abort() {
+        if (in instanceof Abortable) {
+            ((Abortable) in).abort();
+        }
+    }
+
+    private void validate() {
+        // Some readers read more than once at the end of the stream.
+        if (!validated) {
+            HttpChecksumValidator.validate(checksum, expectedChecksum);
+            validated = true;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.checksums;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+/**
+ * A publisher that computes the checksum of the content it publishes, and validates it against the checksum of the object
+ * returned by S3 in a header before completing.
+ */
+@SdkInternalApi
+public final class HttpChecksumValidatingPublisher implements SdkPublisher<ByteBuffer> {
+    private final Publisher<ByteBuffer> publisher;
+    private final SdkChecksum checksum;
+    private final String expectedChecksum;
+    private final Executor checksumExecutor;
+
+    /**
+     * @param publisher The publisher of the object content.
+     * @param checksum The checksum of the algorithm of the expected checksum.
+     * @param expectedChecksum The base64-encoded checksum returned by S3.
+     */
+    public HttpChecksumValidatingPublisher(Publisher<ByteBuffer> publisher, SdkChecksum checksum, String expectedChecksum) {
+        this(publisher, checksum, expectedChecksum, null);
+    }
+
+    /**
+     * @param publisher The publisher of the object content.
+     * @param checksum The checksum of the algorithm of the expected checksum.
+     * @param expectedChecksum The base64-encoded checksum returned by S3.
+     * @param checksumExecutor The executor used to calculate the checksum, or null to calculate it on the thread delivering
+     * the data.
+     */
+    public HttpChecksumValidatingPublisher(Publisher<ByteBuffer> publisher,
+                                           SdkChecksum checksum,
+                                           String expectedChecksum,
+                                           Executor checksumExecutor) {
+        this.publisher = publisher;
+        this.checksum = checksum;
+        this.expectedChecksum = expectedChecksum;
+        this.checksumExecutor = checksumExecutor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> s) {
+        ChecksumPipeline pipeline = checksumExecutor == null ? null : new ChecksumPipeline(checksum, checksumExecutor);
+        publisher.subscribe(new ValidatingSubscriber(s, checksum, pipeline, expectedChecksum));
+    }
+
+    private static final class ValidatingSubscriber implements Subscriber<ByteBuffer> {
+        private final Subscriber<? super ByteBuffer> wrapped;
+        private final SdkChecksum checksum;
+        private final ChecksumPipeline pipeline;
+        private final String expectedChecksum;
+
+        private ValidatingSubscriber(Subscriber<? super ByteBuffer> wrapped,
+                                     SdkChecksum checksum,
+                                     ChecksumPipeline pipeline,
+                                     String expectedChecksum) {
+            this.wrapped = wrapped;
+            this.checksum = checksum;
+            this.pipeline = pipeline;
+            this.expectedChecksum = expectedChecksum;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            wrapped.onSubscribe(pipeline == null ? s : pipeline.throttle(s));
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            if (pipeline != null) {
+                // The buffer may be reused once it was consumed, so the pipeline gets its own copy.
+                byte[] chunk = BinaryUtils.copyBytesFrom(byteBuffer);
+                pipeline.update(chunk, 0, chunk.length);
+            } else if (byteBuffer.hasArray()) {
+                checksum.update(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+            } else {
+                ByteBuffer duplicate = byteBuffer.duplicate();
+                byte[] chunk = new byte[duplicate.remaining()];
+                duplicate.get(chunk);
+                checksum.update(chunk, 0, chunk.length);
+            }
+            wrapped.onNext(byteBuffer);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            wrapped.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (pipeline != null) {
+                pipeline.flush().whenComplete((r, t) -> {
+                    if (t != null) {
+                        wrapped.onError(t);
+                    } else {
+                        validateAndComplete();
+                    }
+                });
+            } else {
+                validateAndComplete();
+            }
+        }
+
+        private void validateAndComplete() {
+            try {
+                HttpChecksumValidator.validate(checksum, expectedChecksum);
+            } catch (RuntimeException e) {
+                wrapped.onError(e);
+                return;
+            }
+            wrapped.onComplete();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.checksums;
+
+import static software.amazon.awssdk.services.s3.checksums.ChecksumConstant.HTTP_CHECKSUM_HEADER_PREFIX;
+
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.SdkHttpHeaders;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.StringUtils;
+
+/**
+ * Helpers for the checksums of objects sent and returned by S3 in {@code x-amz-checksum-*} headers.
+ */
+@SdkInternalApi
+public final class HttpChecksumValidator {
+    /**
+     * The algorithms of the checksums returned by S3 that are validated, from the fastest to compute.
+     */
+    private static final Algorithm[] VALIDATION_ORDER = {Algorithm.CRC32C, Algorithm.CRC32, Algorithm.SHA1, Algorithm.SHA256};
+
+    private HttpChecksumValidator() {
+    }
+
+    /**
+     * The algorithm of a checksum selected on a request, or null if none was selected or it is not supported.
+     */
+    public static Algorithm algorithm(ChecksumAlgorithm checksumAlgorithm) {
+        if (checksumAlgorithm == null || checksumAlgorithm == ChecksumAlgorithm.UNKNOWN_TO_SDK_VERSION) {
+            return null;
+        }
+        return Algorithm.fromValue(checksumAlgorithm.toString());
+    }
+
+    /**
+     * The name of the header holding a checksum of the given algorithm, such as {@code x-amz-checksum-crc32c}.
+     */
+    public static String headerName(Algorithm algorithm) {
+        return HTTP_CHECKSUM_HEADER_PREFIX + StringUtils.lowerCase(algorithm.toString());
+    }
+
+    /**
+     * Find the checksum of the whole object returned by S3 that is the fastest to validate. The checksums of objects uploaded
+     * in parts are checksums of the checksums of the parts, suffixed with the number of parts, and cannot be validated against
+     * the content.
+     *
+     * @return The algorithm and the base64-encoded checksum, if the response has a checksum that can be validated.
+     */
+    public static Optional<Pair<Algorithm, String>> responseChecksum(SdkHttpHeaders responseHeaders) {
+        for (Algorithm algorithm : VALIDATION_ORDER) {
+            Optional<String> checksum = responseHeaders.firstMatchingHeader(headerName(algorithm))
+                                                       .filter(c -> c.indexOf('-') < 0);
+            if (checksum.isPresent()) {
+                return Optional.of(Pair.of(algorithm, checksum.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Validate the computed checksum against the base64-encoded checksum returned by S3.
+     *
+     * @throws SdkClientException if the checksums differ.
+     */
+    public static void validate(SdkChecksum checksum, String expectedChecksum) {
+        String computedChecksum = BinaryUtils.toBase64(checksum.getChecksumBytes());
+        if (!computedChecksum.equals(expectedChecksum)) {
+            throw SdkClientException.create(
+                String.format("Data read has a different checksum than expected. Was %s, but expected %s",
+                              computedChecksum, expectedChecksum));
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.checksums;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+
+/**
+ * An {@link AsyncRequestBody} that encodes another body with an {@link AwsChunkedTrailerEncoder}. Each buffer of the wrapped
+ * body is published as one encoded buffer, and the trailer is published after the wrapped body completes, once it is
+ * requested.
+ */
+@SdkInternalApi
+public final class TrailingChecksumAsyncRequestBody implements AsyncRequestBody {
+    private final AsyncRequestBody wrapped;
+    private final Supplier<AwsChunkedTrailerEncoder> encoderSupplier;
+    private final long encodedLength;
+
+    /**
+     * @param wrapped The body to encode.
+     * @param encoderSupplier Creates the encoder of each subscription, so that the checksum is computed again on retries.
+     * @param encodedLength The length of the encoded body.
+     */
+    public TrailingChecksumAsyncRequestBody(AsyncRequestBody wrapped, Supplier<AwsChunkedTrailerEncoder> encoderSupplier,
+                                            long encodedLength) {
+        this.wrapped = wrapped;
+        this.encoderSupplier = encoderSupplier;
+        this.encodedLength = encodedLength;
+    }
+
+    @Override
+    public Optional<Long> contentLength() {
+        return Optional.of(encodedLength);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> s) {
+        wrapped.subscribe(new EncodingSubscriber(s, encoderSupplier.get()));
+    }
+
+    private static final class EncodingSubscriber implements Subscriber<ByteBuffer>, Subscription {
+        private final Subscriber<? super ByteBuffer> downstream;
+        private final AwsChunkedTrailerEncoder encoder;
+        private Subscription upstream;
+        private long demand;
+        private boolean upstreamCompleted;
+        private boolean done;
+
+        private EncodingSubscriber(Subscriber<? super ByteBuffer> downstream, AwsChunkedTrailerEncoder encoder) {
+            this.downstream = downstream;
+            this.encoder = encoder;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void request(long n) {
+            boolean completed;
+            synchronized (this) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                completed = upstreamCompleted;
+            }
+
+            if (completed) {
+                sendTrailer();
+            } else {
+                upstream.request(n);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                done = true;
+            }
+            upstream.cancel();
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            ByteBuffer encoded;
+            try {
+                encoded = encoder.encode(byteBuffer);
+            } catch (RuntimeException e) {
+                upstream.cancel();
+                onError(e);
+                return;
+            }
+
+            synchronized (this) {
+                demand--;
+            }
+            downstream.onNext(encoded);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+            }
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                upstreamCompleted = true;
+            }
+            sendTrailer();
+        }
+
+        /**
+         * Publish the trailer and complete, if the wrapped body completed and the trailer was requested.
+         */
+        private void sendTrailer() {
+            synchronized (this) {
+                if (done || demand <= 0) {
+                    return;
+                }
+                done = true;
+            }
+
+            ByteBuffer trailer;
+            try {
+                trailer = encoder.finish();
+            } catch (RuntimeException e) {
+                downstream.onError(e);
+                return;
+            }
+            downstream.onNext(trailer);
+            downstream.onComplete();
+        }
+    }
+}
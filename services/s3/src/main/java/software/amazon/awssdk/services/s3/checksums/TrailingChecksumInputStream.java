@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.checksums;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.Abortable;
+
+/**
+ * An input stream that encodes the content of another stream with an {@link AwsChunkedTrailerEncoder}.
+ */
+@SdkInternalApi
+public final class TrailingChecksumInputStream extends InputStream implements Abortable {
+    private final InputStream inputStream;
+    private final AwsChunkedTrailerEncoder encoder;
+    private final byte[] readBuffer;
+    private ByteBuffer encoded = ByteBuffer.allocate(0);
+    private boolean finished;
+
+    public TrailingChecksumInputStream(InputStream inputStream, AwsChunkedTrailerEncoder encoder, int bufferSize) {
+        this.inputStream = inputStream;
+        this.encoder = encoder;
+        this.readBuffer = new byte[bufferSize];
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return encoded.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(len, encoded.remaining());
+        encoded.get(buf, off, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return encoded.remaining();
+    }
+
+    @Override
+    public void abort() {
+        if (inputStream instanceof Abortable) {
+            ((Abortable) inputStream).abort();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+
+    /**
+     * Encode more of the content if all the encoded bytes have been read.
+     *
+     * @return false if the end of the encoded content has been reached.
+     */
+    private boolean fill() throws IOException {
+        while (!encoded.hasRemaining()) {
+            if (finished) {
+                return false;
+            }
+
+            int read = inputStream.read(readBuffer);
+            if (read == -1) {
+                encoded = encoder.finish();
+                finished = true;
+            } else {
+                encoded = encoder.encode(ByteBuffer.wrap(readBuffer, 0, read));
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.directory;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * How {@link S3DirectoryTransfer} decides that a file does not need to be transferred, because its destination is already
+ * up to date.
+ */
+@SdkPublicApi
+public enum ComparisonMode {
+    /**
+     * Always transfer the files.
+     */
+    NONE,
+
+    /**
+     * Skip a file if its destination has the same size and was modified at the same time or after the source.
+     * <p/>
+     * Downloaded files are given the last-modified time of their object, and uploaded objects are modified when they are
+     * uploaded, so a file that was transferred is not transferred again until it is modified.
+     */
+    SIZE_AND_LAST_MODIFIED,
+
+    /**
+     * Skip a file if its destination has the same size and the MD5 digest of the local file matches the ETag of the object.
+     * <p/>
+     * This reads the local files of the same size as their object. The ETag of objects uploaded with a multipart upload or
+     * encrypted with SSE-KMS or SSE-C is not the MD5 digest of their content, so those objects are always transferred.
+     */
+    SIZE_AND_ETAG
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.directory;
+
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A directory upload or download started by {@link S3DirectoryTransfer}.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface DirectoryTransfer {
+    /**
+     * A future completed once all the files were transferred, skipped or failed. It is completed exceptionally if the source
+     * cannot be walked or listed, or if the destination cannot be listed. Cancelling it stops starting new transfers.
+     */
+    CompletableFuture<DirectoryTransferResult> completionFuture();
+
+    /**
+     * A snapshot of the current progress of the transfer.
+     */
+    TransferProgress progress();
+}
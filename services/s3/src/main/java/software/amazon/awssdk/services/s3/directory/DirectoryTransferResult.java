@@ -0,0 +1,66 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.directory;
+
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The result of a {@link DirectoryTransfer} that went through all the files of its source.
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public final class DirectoryTransferResult {
+    private final TransferProgress progress;
+    private final List<FailedFileTransfer> failedTransfers;
+
+    private DirectoryTransferResult(TransferProgress progress, List<FailedFileTransfer> failedTransfers) {
+        this.progress = Validate.paramNotNull(progress, "progress");
+        this.failedTransfers = Collections.unmodifiableList(Validate.paramNotNull(failedTransfers, "failedTransfers"));
+    }
+
+    public static DirectoryTransferResult create(TransferProgress progress, List<FailedFileTransfer> failedTransfers) {
+        return new DirectoryTransferResult(progress, failedTransfers);
+    }
+
+    /**
+     * The final progress of the transfer.
+     */
+    public TransferProgress progress() {
+        return progress;
+    }
+
+    /**
+     * The files that could not be transferred.
+     */
+    public List<FailedFileTransfer> failedTransfers() {
+        return failedTransfers;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("DirectoryTransferResult")
+                       .add("progress", progress)
+                       .add("failedTransfers", failedTransfers.size())
+                       .build();
+    }
+}
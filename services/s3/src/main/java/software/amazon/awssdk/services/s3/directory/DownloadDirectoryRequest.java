@@ -0,0 +1,127 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.directory;
+
+import java.nio.file.Path;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A request to download the objects under a prefix of a bucket to a local directory with
+ * {@link S3DirectoryTransfer#downloadDirectory(DownloadDirectoryRequest)}.
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public final class DownloadDirectoryRequest {
+    private final String bucket;
+    private final String prefix;
+    private final Path destinationDirectory;
+    private final ComparisonMode comparisonMode;
+
+    private DownloadDirectoryRequest(Builder builder) {
+        this.bucket = Validate.paramNotNull(builder.bucket, "bucket");
+        this.prefix = builder.prefix == null ? "" : builder.prefix;
+        this.destinationDirectory = Validate.paramNotNull(builder.destinationDirectory, "destinationDirectory");
+        this.comparisonMode = builder.comparisonMode == null ? ComparisonMode.NONE : builder.comparisonMode;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The bucket the objects are downloaded from.
+     */
+    public String bucket() {
+        return bucket;
+    }
+
+    /**
+     * The prefix of the keys of the downloaded objects. An object is downloaded to the path of its key relative to the
+     * prefix, with "/" as the separator, resolved against the destination directory. Keys ending with "/" are skipped.
+     * Defaults to an empty prefix.
+     */
+    public String prefix() {
+        return prefix;
+    }
+
+    /**
+     * The directory the objects are downloaded to. It is created if it does not exist.
+     */
+    public Path destinationDirectory() {
+        return destinationDirectory;
+    }
+
+    /**
+     * How objects whose file is already up to date are detected and skipped. Defaults to {@link ComparisonMode#NONE}.
+     */
+    public ComparisonMode comparisonMode() {
+        return comparisonMode;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("DownloadDirectoryRequest")
+                       .add("bucket", bucket)
+                       .add("prefix", prefix)
+                       .add("destinationDirectory", destinationDirectory)
+                       .add("comparisonMode", comparisonMode)
+                       .build();
+    }
+
+    /**
+     * A builder for creating a {@link DownloadDirectoryRequest}. Created via {@link #builder()}.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private String bucket;
+        private String prefix;
+        private Path destinationDirectory;
+        private ComparisonMode comparisonMode;
+
+        private Builder() {
+        }
+
+        public Builder bucket(String bucket) {
+            this.bucket = bucket;
+            return this;
+        }
+
+        public Builder prefix(String prefix) {
+            this.prefix = prefix;
+            return this;
+        }
+
+        public Builder destinationDirectory(Path destinationDirectory) {
+            this.destinationDirectory = destinationDirectory;
+            return this;
+        }
+
+        public Builder comparisonMode(ComparisonMode comparisonMode) {
+            this.comparisonMode = comparisonMode;
+            return this;
+        }
+
+        public DownloadDirectoryRequest build() {
+            return new DownloadDirectoryRequest(this);
+        }
+    }
+}
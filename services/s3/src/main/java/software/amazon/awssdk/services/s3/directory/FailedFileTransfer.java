@@ -0,0 +1,75 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.directory;
+
+import java.nio.file.Path;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A file of a {@link DirectoryTransfer} that could not be transferred.
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public final class FailedFileTransfer {
+    private final Path path;
+    private final String key;
+    private final Throwable exception;
+
+    private FailedFileTransfer(Path path, String key, Throwable exception) {
+        this.path = path;
+        this.key = Validate.paramNotNull(key, "key");
+        this.exception = Validate.paramNotNull(exception, "exception");
+    }
+
+    public static FailedFileTransfer create(Path path, String key, Throwable exception) {
+        return new FailedFileTransfer(path, key, exception);
+    }
+
+    /**
+     * The local path of the file, or null if the key of a downloaded object cannot be mapped to a path.
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * The key of the object.
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * The reason the file could not be transferred.
+     */
+    public Throwable exception() {
+        return exception;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("FailedFileTransfer")
+                       .add("path", path)
+                       .add("key", key)
+                       .add("exception", exception)
+                       .build();
+    }
+}
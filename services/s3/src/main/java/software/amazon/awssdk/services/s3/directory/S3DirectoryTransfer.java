@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.directory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.bulk.S3AsyncBulkOperations;
+import software.amazon.awssdk.services.s3.internal.directory.DefaultS3DirectoryTransfer;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Uploads local directories to S3 and downloads prefixes of S3 buckets to local directories with a {@link S3AsyncClient}.
+ * <p/>
+ * An upload walks the directory tree with several threads, and uploads each file with {@link AsyncRequestBody#fromFile}. A
+ * download lists the prefix with {@link S3AsyncBulkOperations#listObjects}, which lists its partitions in parallel, and
+ * downloads each object to a temporary file that replaces the destination file once complete.
+ * <p/>
+ * Files are transferred as soon as they are found, with up to {@link Builder#maxConcurrentTransfers(Integer)} transfers
+ * at a time across all the transfers started by this instance, and as long as the total size of the files being
+ * transferred stays under {@link Builder#maxBytesInFlight(Long)}. The walk or the listing is paused while
+ * {@link Builder#maxPendingFiles(Integer)} files are waiting to be transferred, so that the memory used does not grow with
+ * the number of files.
+ * <p/>
+ * When a {@link ComparisonMode} is requested, the destination is listed before files are transferred, and files whose
+ * destination is up to date are skipped.
+ *
+ * <b>Example Usage</b>
+ * <p/>
+ *
+ * <pre>
+ * {@code
+ *     S3DirectoryTransfer directoryTransfer = S3DirectoryTransfer.builder()
+ *                                                                .client(S3AsyncClient.create())
+ *                                                                .build();
+ *
+ *     DirectoryTransfer upload =
+ *         directoryTransfer.uploadDirectory(r -> r.sourceDirectory(Paths.get("build/site"))
+ *                                                 .bucket("bucket")
+ *                                                 .prefix("site")
+ *                                                 .comparisonMode(ComparisonMode.SIZE_AND_ETAG));
+ *
+ *     DirectoryTransferResult result = upload.completionFuture().join();
+ *     System.out.println(result.progress().filesTransferred() + " files uploaded, " +
+ *                        result.progress().filesSkipped() + " unchanged");
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface S3DirectoryTransfer extends SdkAutoCloseable {
+    /**
+     * Create a builder that can be used to configure and create a {@link S3DirectoryTransfer}.
+     */
+    static Builder builder() {
+        return DefaultS3DirectoryTransfer.builder();
+    }
+
+    /**
+     * Start uploading the files of a local directory and its subdirectories.
+     */
+    DirectoryTransfer uploadDirectory(UploadDirectoryRequest request);
+
+    /**
+     * Start uploading the files of a local directory and its subdirectories.
+     * <p/>
+     * This is a shorter method of invoking {@link #uploadDirectory(UploadDirectoryRequest)} without needing to call
+     * {@code UploadDirectoryRequest.builder()} or {@code .build()}.
+     */
+    default DirectoryTransfer uploadDirectory(Consumer<UploadDirectoryRequest.Builder> request) {
+        UploadDirectoryRequest.Builder builder = UploadDirectoryRequest.builder();
+        request.accept(builder);
+        return uploadDirectory(builder.build());
+    }
+
+    /**
+     * Start downloading the objects under a prefix of a bucket to a local directory.
+     */
+    DirectoryTransfer downloadDirectory(DownloadDirectoryRequest request);
+
+    /**
+     * Start downloading the objects under a prefix of a bucket to a local directory.
+     * <p/>
+     * This is a shorter method of invoking {@link #downloadDirectory(DownloadDirectoryRequest)} without needing to call
+     * {@code DownloadDirectoryRequest.builder()} or {@code .build()}.
+     */
+    default DirectoryTransfer downloadDirectory(Consumer<DownloadDirectoryRequest.Builder> request) {
+        DownloadDirectoryRequest.Builder builder = DownloadDirectoryRequest.builder();
+        request.accept(builder);
+        return downloadDirectory(builder.build());
+    }
+
+    /**
+     * Release the resources of this instance. Transfers that are still running may fail.
+     * <p/>
+     * This does not close the {@link S3AsyncClient} it was created with, nor an {@link ExecutorService} provided with
+     * {@link Builder#executor(ExecutorService)}.
+     */
+    @Override
+    void close();
+
+    /**
+     * A builder for creating a {@link S3DirectoryTransfer}. Created via {@link #builder()}.
+     */
+    @NotThreadSafe
+    interface Builder {
+        /**
+         * The client used to list, upload and download the objects. This is required.
+         */
+        Builder client(S3AsyncClient client);
+
+        /**
+         * The maximum number of files transferred at the same time, across all the transfers. Defaults to 32.
+         */
+        Builder maxConcurrentTransfers(Integer maxConcurrentTransfers);
+
+        /**
+         * The maximum total size of the files transferred at the same time, across all the transfers. A file larger than
+         * this is transferred on its own. Defaults to 256 MiB.
+         */
+        Builder maxBytesInFlight(Long maxBytesInFlight);
+
+        /**
+         * The number of files waiting to be transferred above which a transfer stops walking its directory or listing its
+         * prefix until files have been transferred. Defaults to 10,000.
+         */
+        Builder maxPendingFiles(Integer maxPendingFiles);
+
+        /**
+         * The executor used to walk directories, compare files with their destination and move downloaded files in place.
+         * If not specified, a pool of 4 daemon threads is created, which is shut down when this instance is closed.
+         */
+        Builder executor(ExecutorService executor);
+
+        /**
+         * Create the directory transfer.
+         */
+        S3DirectoryTransfer build();
+    }
+}
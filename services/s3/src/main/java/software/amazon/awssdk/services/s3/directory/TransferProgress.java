@@ -0,0 +1,183 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.directory;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * A snapshot of the progress of a {@link DirectoryTransfer}.
+ * <p/>
+ * Files are discovered while the transfer is running, so the number of files and bytes discovered grows until the source
+ * has been entirely walked or listed.
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public final class TransferProgress {
+    private final long filesDiscovered;
+    private final long bytesDiscovered;
+    private final long filesTransferred;
+    private final long bytesTransferred;
+    private final long filesSkipped;
+    private final long filesFailed;
+    private final Duration elapsedTime;
+
+    private TransferProgress(Builder builder) {
+        this.filesDiscovered = builder.filesDiscovered;
+        this.bytesDiscovered = builder.bytesDiscovered;
+        this.filesTransferred = builder.filesTransferred;
+        this.bytesTransferred = builder.bytesTransferred;
+        this.filesSkipped = builder.filesSkipped;
+        this.filesFailed = builder.filesFailed;
+        this.elapsedTime = builder.elapsedTime == null ? Duration.ZERO : builder.elapsedTime;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The number of files found so far in the source.
+     */
+    public long filesDiscovered() {
+        return filesDiscovered;
+    }
+
+    /**
+     * The total size of the files found so far in the source.
+     */
+    public long bytesDiscovered() {
+        return bytesDiscovered;
+    }
+
+    /**
+     * The number of files that were transferred.
+     */
+    public long filesTransferred() {
+        return filesTransferred;
+    }
+
+    /**
+     * The total size of the files that were transferred.
+     */
+    public long bytesTransferred() {
+        return bytesTransferred;
+    }
+
+    /**
+     * The number of files that were skipped because their destination was up to date.
+     */
+    public long filesSkipped() {
+        return filesSkipped;
+    }
+
+    /**
+     * The number of files that could not be transferred.
+     */
+    public long filesFailed() {
+        return filesFailed;
+    }
+
+    /**
+     * The time elapsed since the transfer started.
+     */
+    public Duration elapsedTime() {
+        return elapsedTime;
+    }
+
+    /**
+     * The average number of bytes transferred per second since the transfer started.
+     */
+    public double bytesPerSecond() {
+        long elapsedNanos = elapsedTime.toNanos();
+        return elapsedNanos == 0 ? 0 : bytesTransferred * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("TransferProgress")
+                       .add("filesDiscovered", filesDiscovered)
+                       .add("bytesDiscovered", bytesDiscovered)
+                       .add("filesTransferred", filesTransferred)
+                       .add("bytesTransferred", bytesTransferred)
+                       .add("filesSkipped", filesSkipped)
+                       .add("filesFailed", filesFailed)
+                       .add("elapsedTime", elapsedTime)
+                       .add("bytesPerSecond", (long) bytesPerSecond())
+                       .build();
+    }
+
+    /**
+     * A builder for creating a {@link TransferProgress}. Created via {@link #builder()}.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private long filesDiscovered;
+        private long bytesDiscovered;
+        private long filesTransferred;
+        private long bytesTransferred;
+        private long filesSkipped;
+        private long filesFailed;
+        private Duration elapsedTime;
+
+        private Builder() {
+        }
+
+        public Builder filesDiscovered(long filesDiscovered) {
+            this.filesDiscovered = filesDiscovered;
+            return this;
+        }
+
+        public Builder bytesDiscovered(long bytesDiscovered) {
+            this.bytesDiscovered = bytesDiscovered;
+            return this;
+        }
+
+        public Builder filesTransferred(long filesTransferred) {
+            this.filesTransferred = filesTransferred;
+            return this;
+        }
+
+        public Builder bytesTransferred(long bytesTransferred) {
+            this.bytesTransferred = bytesTransferred;
+            return this;
+        }
+
+        public Builder filesSkipped(long filesSkipped) {
+            this.filesSkipped = filesSkipped;
+            return this;
+        }
+
+        public Builder filesFailed(long filesFailed) {
+            this.filesFailed = filesFailed;
+            return this;
+        }
+
+        public Builder elapsedTime(Duration elapsedTime) {
+            this.elapsedTime = elapsedTime;
+            return this;
+        }
+
+        public TransferProgress build() {
+            return new TransferProgress(this);
+        }
+    }
+}
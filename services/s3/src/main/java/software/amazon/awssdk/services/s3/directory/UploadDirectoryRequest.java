@@ -0,0 +1,127 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.directory;
+
+import java.nio.file.Path;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A request to upload the files of a local directory and its subdirectories to S3 with
+ * {@link S3DirectoryTransfer#uploadDirectory(UploadDirectoryRequest)}.
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public final class UploadDirectoryRequest {
+    private final Path sourceDirectory;
+    private final String bucket;
+    private final String prefix;
+    private final ComparisonMode comparisonMode;
+
+    private UploadDirectoryRequest(Builder builder) {
+        this.sourceDirectory = Validate.paramNotNull(builder.sourceDirectory, "sourceDirectory");
+        this.bucket = Validate.paramNotNull(builder.bucket, "bucket");
+        this.prefix = builder.prefix == null ? "" : builder.prefix;
+        this.comparisonMode = builder.comparisonMode == null ? ComparisonMode.NONE : builder.comparisonMode;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The directory whose files are uploaded.
+     */
+    public Path sourceDirectory() {
+        return sourceDirectory;
+    }
+
+    /**
+     * The bucket the files are uploaded to.
+     */
+    public String bucket() {
+        return bucket;
+    }
+
+    /**
+     * The prefix of the keys of the uploaded objects. The key of a file is the prefix, followed by "/" unless the prefix is
+     * empty or already ends with it, followed by the path of the file relative to the source directory, with "/" as the
+     * separator. Defaults to an empty prefix.
+     */
+    public String prefix() {
+        return prefix;
+    }
+
+    /**
+     * How files whose object is already up to date are detected and skipped. Defaults to {@link ComparisonMode#NONE}.
+     */
+    public ComparisonMode comparisonMode() {
+        return comparisonMode;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("UploadDirectoryRequest")
+                       .add("sourceDirectory", sourceDirectory)
+                       .add("bucket", bucket)
+                       .add("prefix", prefix)
+                       .add("comparisonMode", comparisonMode)
+                       .build();
+    }
+
+    /**
+     * A builder for creating a {@link UploadDirectoryRequest}. Created via {@link #builder()}.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Path sourceDirectory;
+        private String bucket;
+        private String prefix;
+        private ComparisonMode comparisonMode;
+
+        private Builder() {
+        }
+
+        public Builder sourceDirectory(Path sourceDirectory) {
+            this.sourceDirectory = sourceDirectory;
+            return this;
+        }
+
+        public Builder bucket(String bucket) {
+            this.bucket = bucket;
+            return this;
+        }
+
+        public Builder prefix(String prefix) {
+            this.prefix = prefix;
+            return this;
+        }
+
+        public Builder comparisonMode(ComparisonMode comparisonMode) {
+            this.comparisonMode = comparisonMode;
+            return this;
+        }
+
+        public UploadDirectoryRequest build() {
+            return new UploadDirectoryRequest(this);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.bulk.BulkDeleteResult;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+/**
+ * Deletes the objects it receives with {@code DeleteObjects} calls of up to a batch size, keeping a bounded number of calls in
+ * flight.
+ * <p>
+ * Objects are requested one batch at a time, and only while fewer calls than the limit are in flight, so that at most one
+ * batch is being filled at any time.
+ */
+@SdkInternalApi
+public final class BatchDeleteSubscriber implements Subscriber<ObjectIdentifier> {
+    private final S3AsyncClient client;
+    private final String bucket;
+    private final int batchSize;
+    private final int maxConcurrentDeletes;
+    private final CompletableFuture<BulkDeleteResult> result = new CompletableFuture<>();
+
+    private Subscription subscription;
+    private List<ObjectIdentifier> batch;
+    private long outstandingDemand;
+    private int deletesInFlight;
+    private boolean upstreamDone;
+    private long deletedCount;
+    private final List<S3Error> errors = new ArrayList<>();
+
+    BatchDeleteSubscriber(S3AsyncClient client, String bucket, int batchSize, int maxConcurrentDeletes) {
+        this.client = client;
+        this.bucket = bucket;
+        this.batchSize = batchSize;
+        this.maxConcurrentDeletes = maxConcurrentDeletes;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * The future completed once all the objects were processed.
+     */
+    CompletableFuture<BulkDeleteResult> result() {
+        return result;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        synchronized (this) {
+            if (subscription != null) {
+                s.cancel();
+                return;
+            }
+            subscription = s;
+        }
+        result.whenComplete((r, t) -> {
+            if (result.isCancelled()) {
+                s.cancel();
+            }
+        });
+        requestMore();
+    }
+
+    @Override
+    public void onNext(ObjectIdentifier object) {
+        List<ObjectIdentifier> fullBatch = null;
+        synchronized (this) {
+            outstandingDemand--;
+            batch.add(object);
+            if (batch.size() >= batchSize) {
+                fullBatch = batch;
+                batch = new ArrayList<>(batchSize);
+                deletesInFlight++;
+            }
+        }
+        if (fullBatch != null) {
+            delete(fullBatch);
+        }
+        requestMore();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        synchronized (this) {
+            upstreamDone = true;
+        }
+        result.completeExceptionally(t);
+    }
+
+    @Override
+    public void onComplete() {
+        List<ObjectIdentifier> lastBatch = null;
+        synchronized (this) {
+            upstreamDone = true;
+            if (!batch.isEmpty()) {
+                lastBatch = batch;
+                batch = new ArrayList<>();
+                deletesInFlight++;
+            }
+        }
+        if (lastBatch != null) {
+            delete(lastBatch);
+        }
+        completeIfDone();
+    }
+
+    private void requestMore() {
+        long n = 0;
+        synchronized (this) {
+            if (!upstreamDone && outstandingDemand == 0 && deletesInFlight < maxConcurrentDeletes) {
+                n = batchSize - batch.size();
+                outstandingDemand = n;
+            }
+        }
+        if (n > 0) {
+            subscription.request(n);
+        }
+    }
+
+    private void delete(List<ObjectIdentifier> objects) {
+        DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                                                           .bucket(bucket)
+                                                           .delete(d -> d.objects(objects).quiet(true))
+                                                           .build();
+        CompletableFuture<DeleteObjectsResponse> response;
+        try {
+            response = client.deleteObjects(request);
+        } catch (RuntimeException e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+
+        response.whenComplete((r, t) -> {
+            synchronized (this) {
+                deletesInFlight--;
+                if (t != null) {
+                    objects.forEach(o -> errors.add(failedError(o, t)));
+                } else {
+                    errors.addAll(r.errors());
+                    deletedCount += objects.size() - r.errors().size();
+                }
+            }
+            requestMore();
+            completeIfDone();
+        });
+    }
+
+    private void completeIfDone() {
+        BulkDeleteResult deleteResult;
+        synchronized (this) {
+            if (!upstreamDone || deletesInFlight > 0 || result.isDone()) {
+                return;
+            }
+            deleteResult = BulkDeleteResult.builder()
+                                           .deletedCount(deletedCount)
+                                           .errors(new ArrayList<>(errors))
+                                           .build();
+        }
+        result.complete(deleteResult);
+    }
+
+    private static S3Error failedError(ObjectIdentifier object, Throwable t) {
+        Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        String code = null;
+        if (cause instanceof AwsServiceException && ((AwsServiceException) cause).awsErrorDetails() != null) {
+            code = ((AwsServiceException) cause).awsErrorDetails().errorCode();
+        }
+        return S3Error.builder()
+                      .key(object.key())
+                      .versionId(object.versionId())
+                      .code(code)
+                      .message(cause.getMessage())
+                      .build();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.bulk;
+
+import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.bulk.BulkDeleteResult;
+import software.amazon.awssdk.services.s3.bulk.S3AsyncBulkOperations;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+public final class DefaultS3AsyncBulkOperations implements S3AsyncBulkOperations {
+    private static final String DEFAULT_PARTITION_DELIMITER = "/";
+    private static final int DEFAULT_MAX_CONCURRENT_LISTINGS = 8;
+    private static final int DEFAULT_MAX_BUFFERED_OBJECTS = 10_000;
+    private static final int DEFAULT_MAX_CONCURRENT_DELETES = 4;
+    private static final int MAX_DELETE_BATCH_SIZE = 1000;
+
+    private final S3AsyncClient client;
+    private final String partitionDelimiter;
+    private final int maxConcurrentListings;
+    private final int maxBufferedObjects;
+    private final int maxConcurrentDeletes;
+    private final int deleteBatchSize;
+
+    private DefaultS3AsyncBulkOperations(DefaultBuilder builder) {
+        this.client = Validate.paramNotNull(builder.client, "client");
+        this.partitionDelimiter = builder.partitionDelimiter != null ? Validate.notEmpty(builder.partitionDelimiter,
+                                                                                         "partitionDelimiter must not be empty.")
+                                                                     : DEFAULT_PARTITION_DELIMITER;
+        this.maxConcurrentListings = positiveOrDefault(builder.maxConcurrentListings, "maxConcurrentListings",
+                                                       DEFAULT_MAX_CONCURRENT_LISTINGS);
+        this.maxBufferedObjects = positiveOrDefault(builder.maxBufferedObjects, "maxBufferedObjects",
+                                                    DEFAULT_MAX_BUFFERED_OBJECTS);
+        this.maxConcurrentDeletes = positiveOrDefault(builder.maxConcurrentDeletes, "maxConcurrentDeletes",
+                                                      DEFAULT_MAX_CONCURRENT_DELETES);
+        this.deleteBatchSize = positiveOrDefault(builder.deleteBatchSize, "deleteBatchSize", MAX_DELETE_BATCH_SIZE);
+        Validate.isTrue(deleteBatchSize <= MAX_DELETE_BATCH_SIZE, "deleteBatchSize must not exceed %s.", MAX_DELETE_BATCH_SIZE);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    private static int positiveOrDefault(Integer value, String fieldName, int defaultValue) {
+        return value != null ? Validate.isPositive(value, fieldName) : defaultValue;
+    }
+
+    @Override
+    public SdkPublisher<S3Object> listObjects(ListObjectsV2Request request) {
+        Validate.paramNotNull(request, "request");
+        Validate.isNull(request.delimiter(), "The delimiter of the request must not be set, the partition delimiter is used.");
+        Validate.isNull(request.continuationToken(), "The continuation token of the request must not be set.");
+        return new ParallelListObjectsPublisher(client, request, partitionDelimiter, maxConcurrentListings, maxBufferedObjects);
+    }
+
+    @Override
+    public CompletableFuture<BulkDeleteResult> deleteObjects(String bucket, Publisher<ObjectIdentifier> objects) {
+        Validate.paramNotNull(bucket, "bucket");
+        Validate.paramNotNull(objects, "objects");
+        BatchDeleteSubscriber subscriber = new BatchDeleteSubscriber(client, bucket, deleteBatchSize, maxConcurrentDeletes);
+        objects.subscribe(subscriber);
+        return subscriber.result();
+    }
+
+    @Override
+    public CompletableFuture<BulkDeleteResult> deleteObjects(ListObjectsV2Request request) {
+        SdkPublisher<ObjectIdentifier> objects = listObjects(request).map(o -> ObjectIdentifier.builder().key(o.key()).build());
+        return deleteObjects(request.bucket(), objects);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private S3AsyncClient client;
+        private String partitionDelimiter;
+        private Integer maxConcurrentListings;
+        private Integer maxBufferedObjects;
+        private Integer maxConcurrentDeletes;
+        private Integer deleteBatchSize;
+
+        @Override
+        public Builder client(S3AsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public Builder partitionDelimiter(String partitionDelimiter) {
+            this.partitionDelimiter = partitionDelimiter;
+            return this;
+        }
+
+        @Override
+        public Builder maxConcurrentListings(Integer maxConcurrentListings) {
+            this.maxConcurrentListings = maxConcurrentListings;
+            return this;
+        }
+
+        @Override
+        public Builder maxBufferedObjects(Integer maxBufferedObjects) {
+            this.maxBufferedObjects = maxBufferedObjects;
+            return this;
+        }
+
+        @Override
+        public Builder maxConcurrentDeletes(Integer maxConcurrentDeletes) {
+            this.maxConcurrentDeletes = maxConcurrentDeletes;
+            return this;
+        }
+
+        @Override
+        public Builder deleteBatchSize(Integer deleteBatchSize) {
+            this.deleteBatchSize = deleteBatchSize;
+            return this;
+        }
+
+        @Override
+        public S3AsyncBulkOperations build() {
+            return new DefaultS3AsyncBulkOperations(this);
+        }
+    }
+}
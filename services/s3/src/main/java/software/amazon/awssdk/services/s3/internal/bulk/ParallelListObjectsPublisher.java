@@ -0,0 +1,254 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.bulk;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Publisher;
+
+/**
+ * Publishes the objects under a prefix by listing the prefix with a delimiter, and listing each of the common prefixes it
+ * returns with its own {@link ListObjectsV2Publisher}, a bounded number at a time.
+ * <p>
+ * Each listing requests one page at a time, and only while the number of objects waiting for demand is below the limit.
+ * All the state is guarded by the subscription, and the calls to the subscriber and the listings are made by a single drain
+ * loop, outside of the lock.
+ */
+@SdkInternalApi
+public final class ParallelListObjectsPublisher implements SdkPublisher<S3Object> {
+    private final S3AsyncClient client;
+    private final ListObjectsV2Request request;
+    private final String delimiter;
+    private final int maxConcurrentListings;
+    private final int maxBufferedObjects;
+
+    ParallelListObjectsPublisher(S3AsyncClient client, ListObjectsV2Request request, String delimiter,
+                                 int maxConcurrentListings, int maxBufferedObjects) {
+        this.client = client;
+        this.request = request;
+        this.delimiter = delimiter;
+        this.maxConcurrentListings = maxConcurrentListings;
+        this.maxBufferedObjects = maxBufferedObjects;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super S3Object> subscriber) {
+        ListingSubscription subscription = new ListingSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.start();
+    }
+
+    private final class ListingSubscription implements Subscription {
+        private final Subscriber<? super S3Object> subscriber;
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private final Deque<S3Object> buffer = new ArrayDeque<>();
+        private final Deque<String> pendingPrefixes = new ArrayDeque<>();
+        private final Set<Listing> listings = new LinkedHashSet<>();
+        private final List<Listing> listingsToStart = new ArrayList<>();
+        private long demand;
+        private Throwable error;
+        private boolean done;
+
+        private volatile boolean cancelled;
+
+        private ListingSubscription(Subscriber<? super S3Object> subscriber) {
+            this.subscriber = subscriber;
+            // Registered before the subscriber can signal demand, so that the listing is not considered complete.
+            Listing discovery = new Listing(request.toBuilder().delimiter(delimiter).build(), true);
+            listings.add(discovery);
+            listingsToStart.add(discovery);
+        }
+
+        private void start() {
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    if (error == null) {
+                        error = new IllegalArgumentException("Demand must be positive, but was " + n);
+                    }
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                List<S3Object> toEmit = new ArrayList<>();
+                List<Listing> toStart = new ArrayList<>();
+                List<Subscription> toRequest = new ArrayList<>();
+                List<Subscription> toCancel = new ArrayList<>();
+                Throwable failure = null;
+                boolean complete = false;
+
+                synchronized (this) {
+                    if (!done) {
+                        if (cancelled || error != null) {
+                            done = true;
+                            failure = cancelled ? null : error;
+                            listings.stream().filter(l -> l.subscription != null).forEach(l -> toCancel.add(l.subscription));
+                            listings.clear();
+                            listingsToStart.clear();
+                            pendingPrefixes.clear();
+                            buffer.clear();
+                        } else {
+                            while (demand > 0 && !buffer.isEmpty()) {
+                                toEmit.add(buffer.poll());
+                                demand--;
+                            }
+
+                            // The discovery listing does not count against the limit of concurrent listings.
+                            int maxListings = maxConcurrentListings + (listings.stream().anyMatch(l -> l.discovery) ? 1 : 0);
+                            while (listings.size() < maxListings && !pendingPrefixes.isEmpty()) {
+                                Listing listing = new Listing(request.toBuilder().prefix(pendingPrefixes.poll()).build(), false);
+                                listings.add(listing);
+                                listingsToStart.add(listing);
+                            }
+                            toStart.addAll(listingsToStart);
+                            listingsToStart.clear();
+
+                            for (Listing listing : listings) {
+                                if (buffer.size() >= maxBufferedObjects) {
+                                    break;
+                                }
+                                if (listing.subscription != null && !listing.pageRequested) {
+                                    listing.pageRequested = true;
+                                    toRequest.add(listing.subscription);
+                                }
+                            }
+
+                            if (listings.isEmpty() && pendingPrefixes.isEmpty() && buffer.isEmpty()) {
+                                done = true;
+                                complete = true;
+                            }
+                        }
+                    }
+                }
+
+                for (S3Object object : toEmit) {
+                    if (cancelled) {
+                        break;
+                    }
+                    subscriber.onNext(object);
+                }
+                toCancel.forEach(Subscription::cancel);
+                toStart.forEach(l -> new ListObjectsV2Publisher(client, l.listingRequest).subscribe(l));
+                toRequest.forEach(s -> s.request(1));
+                if (failure != null) {
+                    subscriber.onError(failure);
+                } else if (complete) {
+                    subscriber.onComplete();
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * The listing of one prefix. The discovery listing uses the delimiter, and queues the common prefixes it returns to be
+         * listed as partitions.
+         */
+        private final class Listing implements Subscriber<ListObjectsV2Response> {
+            private final ListObjectsV2Request listingRequest;
+            private final boolean discovery;
+            private Subscription subscription;
+            private boolean pageRequested;
+
+            private Listing(ListObjectsV2Request listingRequest, boolean discovery) {
+                this.listingRequest = listingRequest;
+                this.discovery = discovery;
+            }
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                boolean cancel;
+                synchronized (ListingSubscription.this) {
+                    cancel = done;
+                    subscription = s;
+                }
+                if (cancel) {
+                    s.cancel();
+                    return;
+                }
+                drain();
+            }
+
+            @Override
+            public void onNext(ListObjectsV2Response page) {
+                synchronized (ListingSubscription.this) {
+                    pageRequested = false;
+                    if (!done) {
+                        buffer.addAll(page.contents());
+                        if (discovery) {
+                            page.commonPrefixes().stream().map(CommonPrefix::prefix).forEach(pendingPrefixes::add);
+                        }
+                    }
+                }
+                drain();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                synchronized (ListingSubscription.this) {
+                    listings.remove(this);
+                    if (error == null) {
+                        error = t;
+                    }
+                }
+                drain();
+            }
+
+            @Override
+            public void onComplete() {
+                synchronized (ListingSubscription.this) {
+                    listings.remove(this);
+                }
+                drain();
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.directory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.bulk.S3AsyncBulkOperations;
+import software.amazon.awssdk.services.s3.directory.DirectoryTransfer;
+import software.amazon.awssdk.services.s3.directory.DownloadDirectoryRequest;
+import software.amazon.awssdk.services.s3.directory.S3DirectoryTransfer;
+import software.amazon.awssdk.services.s3.directory.UploadDirectoryRequest;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultS3DirectoryTransfer implements S3DirectoryTransfer {
+    private static final int DEFAULT_MAX_CONCURRENT_TRANSFERS = 32;
+    private static final long DEFAULT_MAX_BYTES_IN_FLIGHT = 256L * 1024 * 1024;
+    private static final int DEFAULT_MAX_PENDING_FILES = 10_000;
+    private static final int DEFAULT_EXECUTOR_THREADS = 4;
+
+    private final S3AsyncClient client;
+    private final S3AsyncBulkOperations bulkOperations;
+    private final TransferScheduler scheduler;
+    private final int maxPendingFiles;
+    private final ExecutorService executor;
+    private final boolean shutdownExecutor;
+
+    private DefaultS3DirectoryTransfer(DefaultBuilder builder) {
+        this.client = Validate.paramNotNull(builder.client, "client");
+        this.bulkOperations = S3AsyncBulkOperations.builder().client(client).build();
+        int maxConcurrentTransfers = builder.maxConcurrentTransfers != null
+                                     ? Validate.isPositive(builder.maxConcurrentTransfers, "maxConcurrentTransfers")
+                                     : DEFAULT_MAX_CONCURRENT_TRANSFERS;
+        long maxBytesInFlight = builder.maxBytesInFlight != null
+                                ? Validate.isPositive(builder.maxBytesInFlight, "maxBytesInFlight")
+                                : DEFAULT_MAX_BYTES_IN_FLIGHT;
+        this.scheduler = new TransferScheduler(maxConcurrentTransfers, maxBytesInFlight);
+        this.maxPendingFiles = builder.maxPendingFiles != null
+                               ? Validate.isPositive(builder.maxPendingFiles, "maxPendingFiles")
+                               : DEFAULT_MAX_PENDING_FILES;
+
+        if (builder.executor != null) {
+            this.executor = builder.executor;
+            this.shutdownExecutor = false;
+        } else {
+            this.executor = Executors.newFixedThreadPool(DEFAULT_EXECUTOR_THREADS,
+                                                         new ThreadFactoryBuilder().threadNamePrefix("s3-directory-transfer")
+                                                                                   .daemonThreads(true)
+                                                                                   .build());
+            this.shutdownExecutor = true;
+        }
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public DirectoryTransfer uploadDirectory(UploadDirectoryRequest request) {
+        Validate.paramNotNull(request, "request");
+        UploadDirectoryOperation operation = new UploadDirectoryOperation(client, bulkOperations, request, executor, scheduler,
+                                                                          maxPendingFiles);
+        operation.start();
+        return operation;
+    }
+
+    @Override
+    public DirectoryTransfer downloadDirectory(DownloadDirectoryRequest request) {
+        Validate.paramNotNull(request, "request");
+        DownloadDirectoryOperation operation = new DownloadDirectoryOperation(client, bulkOperations, request, executor,
+                                                                              scheduler, maxPendingFiles);
+        operation.start();
+        return operation;
+    }
+
+    @Override
+    public void close() {
+        if (shutdownExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private S3AsyncClient client;
+        private Integer maxConcurrentTransfers;
+        private Long maxBytesInFlight;
+        private Integer maxPendingFiles;
+        private ExecutorService executor;
+
+        @Override
+        public Builder client(S3AsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public Builder maxConcurrentTransfers(Integer maxConcurrentTransfers) {
+            this.maxConcurrentTransfers = maxConcurrentTransfers;
+            return this;
+        }
+
+        @Override
+        public Builder maxBytesInFlight(Long maxBytesInFlight) {
+            this.maxBytesInFlight = maxBytesInFlight;
+            return this;
+        }
+
+        @Override
+        public Builder maxPendingFiles(Integer maxPendingFiles) {
+            this.maxPendingFiles = maxPendingFiles;
+            return this;
+        }
+
+        @Override
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        @Override
+        public S3DirectoryTransfer build() {
+            return new DefaultS3DirectoryTransfer(this);
+        }
+    }
+}
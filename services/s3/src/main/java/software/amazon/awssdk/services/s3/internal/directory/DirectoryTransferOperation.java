@@ -0,0 +1,200 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.directory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.s3.directory.ComparisonMode;
+import software.amazon.awssdk.services.s3.directory.DirectoryTransfer;
+import software.amazon.awssdk.services.s3.directory.DirectoryTransferResult;
+import software.amazon.awssdk.services.s3.directory.FailedFileTransfer;
+import software.amazon.awssdk.services.s3.directory.TransferProgress;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Md5Utils;
+
+/**
+ * The state shared by directory uploads and downloads: the files waiting to be transferred, the progress and the failures.
+ * <p/>
+ * The source of the transfer reports the files it finds with {@link #transferFile}, and {@link #sourceComplete()} once it
+ * found them all. The transfer is complete once the source is complete and all the files it found are finished.
+ */
+@SdkInternalApi
+@ThreadSafe
+abstract class DirectoryTransferOperation implements DirectoryTransfer {
+    protected final Executor executor;
+    protected final int maxPendingFiles;
+
+    private final TransferScheduler scheduler;
+    private final ProgressTracker progress = new ProgressTracker();
+    private final Queue<FailedFileTransfer> failedTransfers = new ConcurrentLinkedQueue<>();
+    private final CompletableFuture<DirectoryTransferResult> completionFuture = new CompletableFuture<>();
+    private final AtomicLong pendingFiles = new AtomicLong();
+    private volatile boolean sourceComplete;
+
+    DirectoryTransferOperation(Executor executor, TransferScheduler scheduler, int maxPendingFiles) {
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.maxPendingFiles = maxPendingFiles;
+    }
+
+    @Override
+    public CompletableFuture<DirectoryTransferResult> completionFuture() {
+        return completionFuture;
+    }
+
+    @Override
+    public TransferProgress progress() {
+        return progress.snapshot();
+    }
+
+    /**
+     * Invoked each time a file is finished, so that the source can find more files.
+     */
+    protected abstract void fileFinished();
+
+    /**
+     * The number of files found but not finished yet.
+     */
+    protected final long pendingFiles() {
+        return pendingFiles.get();
+    }
+
+    protected final boolean isDone() {
+        return completionFuture.isDone();
+    }
+
+    /**
+     * Transfer a file found by the source, unless its destination is up to date.
+     *
+     * @param path The local file.
+     * @param key The key of the object.
+     * @param size The size of the file or object.
+     * @param upToDate Completed with true if the destination is up to date and the file can be skipped.
+     * @param transfer Starts the transfer of the file.
+     */
+    protected final void transferFile(Path path, String key, long size, CompletableFuture<Boolean> upToDate,
+                                      Supplier<CompletableFuture<?>> transfer) {
+        pendingFiles.incrementAndGet();
+        progress.discovered(size);
+
+        upToDate.thenCompose(skip -> skip ? CompletableFuture.completedFuture(false)
+                                          : scheduler.schedule(size, () -> startTransfer(transfer)))
+                .whenComplete((transferred, t) -> {
+                    if (t != null) {
+                        failedTransfers.add(FailedFileTransfer.create(path, key, unwrap(t)));
+                        progress.failed();
+                    } else if (transferred) {
+                        progress.transferred(size);
+                    } else {
+                        progress.skipped();
+                    }
+                    pendingFiles.decrementAndGet();
+                    fileFinished();
+                    completeIfDone();
+                });
+    }
+
+    /**
+     * Record a file found by the source that cannot be transferred.
+     */
+    protected final void fileFailed(Path path, String key, long size, Throwable exception) {
+        progress.discovered(size);
+        progress.failed();
+        failedTransfers.add(FailedFileTransfer.create(path, key, exception));
+    }
+
+    protected final void sourceComplete() {
+        sourceComplete = true;
+        completeIfDone();
+    }
+
+    protected final void fail(Throwable t) {
+        completionFuture.completeExceptionally(unwrap(t));
+    }
+
+    private CompletableFuture<Boolean> startTransfer(Supplier<CompletableFuture<?>> transfer) {
+        if (completionFuture.isDone()) {
+            CompletableFuture<Boolean> cancelled = new CompletableFuture<>();
+            cancelled.completeExceptionally(new CancellationException("The directory transfer was stopped."));
+            return cancelled;
+        }
+        return transfer.get().thenApply(r -> true);
+    }
+
+    private void completeIfDone() {
+        if (sourceComplete && pendingFiles.get() == 0) {
+            completionFuture.complete(DirectoryTransferResult.create(progress.snapshot(), new ArrayList<>(failedTransfers)));
+        }
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        Throwable cause = t;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * Whether the destination of a transfer is up to date with its source.
+     *
+     * @param mode How the source and destination are compared.
+     * @param file The local file.
+     * @param localSize The size of the local file.
+     * @param localLastModified The last-modified time of the local file.
+     * @param object The object.
+     * @param upload Whether the object is the destination.
+     */
+    static boolean isUpToDate(ComparisonMode mode, Path file, long localSize, Instant localLastModified, S3Object object,
+                              boolean upload) throws IOException {
+        if (object.size() == null || object.size() != localSize) {
+            return false;
+        }
+
+        switch (mode) {
+            case SIZE_AND_LAST_MODIFIED:
+                if (object.lastModified() == null) {
+                    return false;
+                }
+                // S3 only keeps the last-modified time to the second
+                Instant local = localLastModified.truncatedTo(ChronoUnit.SECONDS);
+                Instant remote = object.lastModified().truncatedTo(ChronoUnit.SECONDS);
+                return upload ? !remote.isBefore(local) : !local.isBefore(remote);
+            case SIZE_AND_ETAG:
+                String eTag = object.eTag() == null ? null : object.eTag().replace("\"", "");
+                if (eTag == null || eTag.contains("-")) {
+                    return false;
+                }
+                return eTag.equalsIgnoreCase(BinaryUtils.toHex(Md5Utils.computeMD5Hash(file.toFile())));
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.directory;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.bulk.S3AsyncBulkOperations;
+import software.amazon.awssdk.services.s3.directory.ComparisonMode;
+import software.amazon.awssdk.services.s3.directory.DownloadDirectoryRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Downloads the objects under a prefix to a directory. The objects are requested from the listing as files finish, so that
+ * no more than the maximum number of files are pending.
+ * <p/>
+ * Each object is downloaded to a temporary file next to its destination, which replaces the destination once the download
+ * is complete, so that a failed download does not leave a partial file behind.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class DownloadDirectoryOperation extends DirectoryTransferOperation implements Subscriber<S3Object> {
+    private final S3AsyncClient client;
+    private final S3AsyncBulkOperations bulkOperations;
+    private final DownloadDirectoryRequest request;
+    private final Path destination;
+    private volatile Subscription subscription;
+
+    DownloadDirectoryOperation(S3AsyncClient client, S3AsyncBulkOperations bulkOperations, DownloadDirectoryRequest request,
+                               Executor executor, TransferScheduler scheduler, int maxPendingFiles) {
+        super(executor, scheduler, maxPendingFiles);
+        this.client = client;
+        this.bulkOperations = bulkOperations;
+        this.request = request;
+        this.destination = request.destinationDirectory().toAbsolutePath().normalize();
+    }
+
+    void start() {
+        try {
+            Files.createDirectories(destination);
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+            return;
+        }
+
+        try {
+            bulkOperations.listObjects(r -> r.bucket(request.bucket()).prefix(request.prefix())).subscribe(this);
+        } catch (RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        subscription = s;
+        s.request(maxPendingFiles);
+    }
+
+    @Override
+    public void onNext(S3Object object) {
+        if (isDone()) {
+            subscription.cancel();
+            return;
+        }
+
+        String relativePath = relativePath(object.key());
+        if (relativePath.isEmpty()) {
+            subscription.request(1);
+            return;
+        }
+
+        long size = object.size() == null ? 0 : object.size();
+        Path file = destination.resolve(relativePath).normalize();
+        if (!file.startsWith(destination) || file.equals(destination)) {
+            fileFailed(file, object.key(), size,
+                       SdkClientException.create("The key " + object.key() + " resolves outside of " + destination + "."));
+            subscription.request(1);
+            return;
+        }
+
+        CompletableFuture<Boolean> upToDate = request.comparisonMode() == ComparisonMode.NONE
+                                              ? CompletableFuture.completedFuture(false)
+                                              : CompletableFuture.supplyAsync(() -> isUpToDate(file, object), executor);
+
+        transferFile(file, object.key(), size, upToDate, () -> download(object, file));
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        fail(t);
+    }
+
+    @Override
+    public void onComplete() {
+        sourceComplete();
+    }
+
+    @Override
+    protected void fileFinished() {
+        if (!isDone()) {
+            subscription.request(1);
+        }
+    }
+
+    /**
+     * The path of an object relative to the destination directory, or an empty string if the object is not a file.
+     */
+    private String relativePath(String key) {
+        if (key.endsWith("/")) {
+            return "";
+        }
+
+        String relativePath = key.substring(request.prefix().length());
+        int start = 0;
+        while (start < relativePath.length() && relativePath.charAt(start) == '/') {
+            start++;
+        }
+        return relativePath.substring(start);
+    }
+
+    private boolean isUpToDate(Path file, S3Object object) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            return attributes.isRegularFile() &&
+                   isUpToDate(request.comparisonMode(), file, attributes.size(), attributes.lastModifiedTime().toInstant(),
+                              object, false);
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            throw CompletableFutureUtils.errorAsCompletionException(e);
+        }
+    }
+
+    private CompletableFuture<?> download(S3Object object, Path file) {
+        Path temporaryFile = file.resolveSibling("." + file.getFileName() + "." + UUID.randomUUID() + ".tmp");
+
+        CompletableFuture<Void> download =
+            CompletableFuture.runAsync(() -> invokeSafely(() -> Files.createDirectories(file.getParent())), executor)
+                             .thenCompose(v -> client.getObject(r -> r.bucket(request.bucket()).key(object.key()),
+                                                                AsyncResponseTransformer.toFile(temporaryFile)))
+                             .thenAcceptAsync(response -> moveInPlace(temporaryFile, file, lastModified(response, object)),
+                                              executor);
+
+        download.whenComplete((r, t) -> {
+            if (t != null) {
+                invokeSafely(() -> Files.deleteIfExists(temporaryFile));
+            }
+        });
+        return download;
+    }
+
+    private static Instant lastModified(GetObjectResponse response, S3Object object) {
+        return response.lastModified() != null ? response.lastModified() : object.lastModified();
+    }
+
+    private static void moveInPlace(Path temporaryFile, Path file, Instant lastModified) {
+        invokeSafely(() -> {
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            if (lastModified != null) {
+                Files.setLastModifiedTime(file, FileTime.from(lastModified));
+            }
+        });
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.directory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.s3.directory.TransferProgress;
+
+/**
+ * Counts the files of a directory transfer, without contention between the threads updating the counts.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class ProgressTracker {
+    private final long startNanos = System.nanoTime();
+    private final LongAdder filesDiscovered = new LongAdder();
+    private final LongAdder bytesDiscovered = new LongAdder();
+    private final LongAdder filesTransferred = new LongAdder();
+    private final LongAdder bytesTransferred = new LongAdder();
+    private final LongAdder filesSkipped = new LongAdder();
+    private final LongAdder filesFailed = new LongAdder();
+
+    void discovered(long size) {
+        filesDiscovered.increment();
+        bytesDiscovered.add(size);
+    }
+
+    void transferred(long size) {
+        filesTransferred.increment();
+        bytesTransferred.add(size);
+    }
+
+    void skipped() {
+        filesSkipped.increment();
+    }
+
+    void failed() {
+        filesFailed.increment();
+    }
+
+    TransferProgress snapshot() {
+        return TransferProgress.builder()
+                               .filesDiscovered(filesDiscovered.sum())
+                               .bytesDiscovered(bytesDiscovered.sum())
+                               .filesTransferred(filesTransferred.sum())
+                               .bytesTransferred(bytesTransferred.sum())
+                               .filesSkipped(filesSkipped.sum())
+                               .filesFailed(filesFailed.sum())
+                               .elapsedTime(Duration.ofNanos(System.nanoTime() - startNanos))
+                               .build();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.directory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Starts file transfers in the order they were scheduled, as long as fewer than the maximum number of transfers are running
+ * and the total size of the running transfers stays under the maximum number of bytes. A transfer larger than the maximum
+ * number of bytes is only started when no other transfer is running.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class TransferScheduler {
+    private final int maxConcurrentTransfers;
+    private final long maxBytesInFlight;
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private final Deque<ScheduledTransfer<?>> queue = new ArrayDeque<>();
+    private int runningTransfers;
+    private long bytesInFlight;
+
+    TransferScheduler(int maxConcurrentTransfers, long maxBytesInFlight) {
+        this.maxConcurrentTransfers = maxConcurrentTransfers;
+        this.maxBytesInFlight = maxBytesInFlight;
+    }
+
+    /**
+     * Schedule a transfer of the given size.
+     *
+     * @return A future completed with the result of the transfer, once it was started and completed.
+     */
+    <T> CompletableFuture<T> schedule(long size, Supplier<CompletableFuture<T>> transfer) {
+        ScheduledTransfer<T> scheduled = new ScheduledTransfer<>(Math.min(Math.max(size, 0), maxBytesInFlight), transfer);
+        synchronized (this) {
+            queue.add(scheduled);
+        }
+        drain();
+        return scheduled.result;
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            List<ScheduledTransfer<?>> toStart = new ArrayList<>();
+            synchronized (this) {
+                while (runningTransfers < maxConcurrentTransfers && !queue.isEmpty()) {
+                    ScheduledTransfer<?> next = queue.peek();
+                    if (runningTransfers > 0 && bytesInFlight + next.cost > maxBytesInFlight) {
+                        break;
+                    }
+                    queue.poll();
+                    runningTransfers++;
+                    bytesInFlight += next.cost;
+                    toStart.add(next);
+                }
+            }
+            toStart.forEach(ScheduledTransfer::start);
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void finished(ScheduledTransfer<?> transfer) {
+        synchronized (this) {
+            runningTransfers--;
+            bytesInFlight -= transfer.cost;
+        }
+        drain();
+    }
+
+    private final class ScheduledTransfer<T> {
+        private final long cost;
+        private final Supplier<CompletableFuture<T>> transfer;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private ScheduledTransfer(long cost, Supplier<CompletableFuture<T>> transfer) {
+            this.cost = cost;
+            this.transfer = transfer;
+        }
+
+        private void start() {
+            CompletableFuture<T> future;
+            try {
+                future = transfer.get();
+            } catch (Throwable t) {
+                future = new CompletableFuture<>();
+                future.completeExceptionally(t);
+            }
+
+            future.whenComplete((r, t) -> {
+                finished(this);
+                if (t != null) {
+                    result.completeExceptionally(t);
+                } else {
+                    result.complete(r);
+                }
+            });
+        }
+    }
+}
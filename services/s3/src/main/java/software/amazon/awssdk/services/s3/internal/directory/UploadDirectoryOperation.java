@@ -0,0 +1,267 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.directory;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.bulk.S3AsyncBulkOperations;
+import software.amazon.awssdk.services.s3.directory.ComparisonMode;
+import software.amazon.awssdk.services.s3.directory.UploadDirectoryRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * Uploads the files of a directory tree. Up to {@link #MAX_WALKERS} directories are listed at the same time on the executor.
+ * A walker stops listing its directory as soon as the maximum number of files are pending, and keeps the listing open to resume
+ * it once files finish, so that the walk never blocks a thread of the executor while waiting for uploads to complete, and never
+ * holds more than the maximum number of files (plus one per walker) in memory. Paused listings are resumed before new
+ * directories are listed, so at most {@link #MAX_WALKERS} listings are open at a time.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class UploadDirectoryOperation extends DirectoryTransferOperation {
+    private static final int MAX_WALKERS = 4;
+
+    private final S3AsyncClient client;
+    private final UploadDirectoryRequest request;
+    private final String keyPrefix;
+    private final CompletableFuture<Map<String, S3Object>> remoteObjects;
+
+    private final Deque<Path> directories = new ArrayDeque<>();
+    private final Deque<DirectoryListing> pausedListings = new ArrayDeque<>();
+    private int activeWalkers;
+    private boolean walkComplete;
+
+    UploadDirectoryOperation(S3AsyncClient client, S3AsyncBulkOperations bulkOperations, UploadDirectoryRequest request,
+                             Executor executor, TransferScheduler scheduler, int maxPendingFiles) {
+        super(executor, scheduler, maxPendingFiles);
+        this.client = client;
+        this.request = request;
+        this.keyPrefix = keyPrefix(request.prefix());
+        this.remoteObjects = listRemoteObjects(bulkOperations);
+        this.directories.add(request.sourceDirectory());
+    }
+
+    void start() {
+        if (!Files.isDirectory(request.sourceDirectory())) {
+            fail(new IOException(request.sourceDirectory() + " is not a directory."));
+            return;
+        }
+        walk();
+    }
+
+    @Override
+    protected void fileFinished() {
+        walk();
+    }
+
+    private static String keyPrefix(String prefix) {
+        return prefix.isEmpty() || prefix.endsWith("/") ? prefix : prefix + "/";
+    }
+
+    private CompletableFuture<Map<String, S3Object>> listRemoteObjects(S3AsyncBulkOperations bulkOperations) {
+        if (request.comparisonMode() == ComparisonMode.NONE) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+
+        Map<String, S3Object> objects = new ConcurrentHashMap<>();
+        CompletableFuture<Map<String, S3Object>> listing =
+            bulkOperations.listObjects(r -> r.bucket(request.bucket()).prefix(keyPrefix))
+                          .subscribe(o -> objects.put(o.key(), o))
+                          .thenApply(v -> objects);
+        listing.whenComplete((r, t) -> {
+            if (t != null) {
+                fail(t);
+            }
+        });
+        return listing;
+    }
+
+    /**
+     * Resume the paused listings and start walking the next directories, unless enough files are pending or enough
+     * directories are being walked.
+     */
+    private void walk() {
+        boolean complete = false;
+        synchronized (directories) {
+            if (isDone()) {
+                pausedListings.forEach(DirectoryListing::close);
+                pausedListings.clear();
+                return;
+            }
+
+            while (activeWalkers < MAX_WALKERS && hasDirectoriesToWalk() && pendingFiles() < maxPendingFiles) {
+                DirectoryListing listing = pausedListings.poll();
+                Path directory = listing == null ? directories.poll() : null;
+                activeWalkers++;
+                try {
+                    executor.execute(() -> walkDirectory(listing, directory));
+                } catch (RejectedExecutionException e) {
+                    activeWalkers--;
+                    if (listing != null) {
+                        listing.close();
+                    }
+                    fail(e);
+                    return;
+                }
+            }
+
+            if (activeWalkers == 0 && !hasDirectoriesToWalk() && !walkComplete) {
+                walkComplete = true;
+                complete = true;
+            }
+        }
+
+        if (complete) {
+            sourceComplete();
+        }
+    }
+
+    private boolean hasDirectoriesToWalk() {
+        return !pausedListings.isEmpty() || !directories.isEmpty();
+    }
+
+    /**
+     * Walk the entries of a directory until it is exhausted or enough files are pending.
+     *
+     * @param pausedListing The listing to resume, or null to start listing the directory.
+     * @param directory The directory to list, if there is no listing to resume.
+     */
+    private void walkDirectory(DirectoryListing pausedListing, Path directory) {
+        DirectoryListing listing = pausedListing;
+        boolean paused = false;
+        try {
+            if (listing == null) {
+                listing = new DirectoryListing(Files.newDirectoryStream(directory));
+            }
+
+            while (!isDone() && listing.entries.hasNext()) {
+                if (pendingFiles() >= maxPendingFiles) {
+                    paused = true;
+                    break;
+                }
+                walkEntry(listing.entries.next());
+            }
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+        } finally {
+            synchronized (directories) {
+                activeWalkers--;
+                if (paused && !isDone()) {
+                    pausedListings.add(listing);
+                } else if (listing != null) {
+                    listing.close();
+                }
+            }
+            walk();
+        }
+    }
+
+    private void walkEntry(Path entry) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        if (attributes.isDirectory()) {
+            synchronized (directories) {
+                directories.add(entry);
+            }
+            return;
+        }
+
+        if (attributes.isSymbolicLink()) {
+            // Links to files are uploaded, links to directories are not followed to avoid walking cycles
+            try {
+                attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+            } catch (IOException e) {
+                fileFailed(entry, key(entry), 0, e);
+                return;
+            }
+        }
+
+        if (attributes.isRegularFile()) {
+            uploadFile(entry, attributes);
+        }
+    }
+
+    private void uploadFile(Path file, BasicFileAttributes attributes) {
+        String key = key(file);
+        long size = attributes.size();
+
+        CompletableFuture<Boolean> upToDate =
+            remoteObjects.thenApplyAsync(objects -> isUpToDate(file, attributes, objects.get(key)), executor);
+
+        transferFile(file, key, size, upToDate, () -> client.putObject(r -> r.bucket(request.bucket()).key(key),
+                                                                       AsyncRequestBody.fromFile(file)));
+    }
+
+    private boolean isUpToDate(Path file, BasicFileAttributes attributes, S3Object object) {
+        if (object == null) {
+            return false;
+        }
+
+        try {
+            return isUpToDate(request.comparisonMode(), file, attributes.size(), attributes.lastModifiedTime().toInstant(),
+                              object, true);
+        } catch (IOException e) {
+            throw CompletableFutureUtils.errorAsCompletionException(e);
+        }
+    }
+
+    private String key(Path file) {
+        StringBuilder key = new StringBuilder(keyPrefix);
+        Path relativePath = request.sourceDirectory().relativize(file);
+        for (int i = 0; i < relativePath.getNameCount(); i++) {
+            if (i > 0) {
+                key.append('/');
+            }
+            key.append(relativePath.getName(i));
+        }
+        return key.toString();
+    }
+
+    /**
+     * A directory being listed, which can be paused and resumed by another walker.
+     */
+    private static final class DirectoryListing {
+        private final DirectoryStream<Path> stream;
+        private final Iterator<Path> entries;
+
+        private DirectoryListing(DirectoryStream<Path> stream) {
+            this.stream = stream;
+            this.entries = stream.iterator();
+        }
+
+        private void close() {
+            IoUtils.closeQuietly(stream, null);
+        }
+    }
+}
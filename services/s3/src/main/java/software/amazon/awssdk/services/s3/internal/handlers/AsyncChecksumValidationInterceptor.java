@@ -18,6 +18,7 @@ package software.amazon.awssdk.services.s3.internal.handlers;
 import static software.amazon.awssdk.core.ClientType.ASYNC;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumConstant.CONTENT_LENGTH_HEADER;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.CHECKSUM;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.checksumExecutor;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.getObjectChecksumEnabledPerResponse;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.responseChecksumIsValid;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.shouldRecordChecksum;
@@ -51,7 +52,8 @@ public final class AsyncChecksumValidationInterceptor implements ExecutionInterc
             SdkChecksum checksum = new Md5Checksum();
             executionAttributes.putAttribute(ASYNC_RECORDING_CHECKSUM, true);
             executionAttributes.putAttribute(CHECKSUM, checksum);
-            return Optional.of(new ChecksumCalculatingAsyncRequestBody(context.asyncRequestBody().get(), checksum));
+            return Optional.of(new ChecksumCalculatingAsyncRequestBody(context.asyncRequestBody().get(), checksum,
+                                                                       checksumExecutor(executionAttributes)));
         }
 
         return context.asyncRequestBody();
@@ -70,7 +72,8 @@ public final class AsyncChecksumValidationInterceptor implements ExecutionInterc
             SdkChecksum checksum = new Md5Checksum();
             executionAttributes.putAttribute(CHECKSUM, checksum);
             if (contentLength > 0) {
-                return Optional.of(new ChecksumValidatingPublisher(context.responsePublisher().get(), checksum, contentLength));
+                return Optional.of(new ChecksumValidatingPublisher(context.responsePublisher().get(), checksum, contentLength,
+                                                                   checksumExecutor(executionAttributes)));
             }
         }
 
@@ -0,0 +1,225 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.handlers;
+
+import static software.amazon.awssdk.services.s3.checksums.ChecksumConstant.AWS_CHUNKED_CONTENT_ENCODING;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumConstant.CONTENT_ENCODING_HEADER;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumConstant.CONTENT_LENGTH_HEADER;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumConstant.CONTENT_SHA256_HEADER;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumConstant.DECODED_CONTENT_LENGTH_HEADER;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumConstant.STREAMING_UNSIGNED_PAYLOAD_TRAILER;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumConstant.TRAILER_HEADER;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.checksumExecutor;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.getObjectHttpChecksumEnabled;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.trailingChecksumAlgorithm;
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.services.s3.checksums.AwsChunkedTrailerEncoder;
+import software.amazon.awssdk.services.s3.checksums.HttpChecksumValidatingInputStream;
+import software.amazon.awssdk.services.s3.checksums.HttpChecksumValidatingPublisher;
+import software.amazon.awssdk.services.s3.checksums.HttpChecksumValidator;
+import software.amazon.awssdk.services.s3.checksums.TrailingChecksumAsyncRequestBody;
+import software.amazon.awssdk.services.s3.checksums.TrailingChecksumInputStream;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.utils.Pair;
+
+/**
+ * Sends the checksum selected with {@link ChecksumAlgorithm} on uploads as a trailing header of an aws-chunked encoded
+ * payload, computed while the payload is sent, and validates the checksum of the object returned by S3 on downloads with
+ * {@link ChecksumMode#ENABLED}.
+ */
+@SdkInternalApi
+public final class HttpChecksumInterceptor implements ExecutionInterceptor {
+
+    @Override
+    public Optional<RequestBody> modifyHttpContent(Context.ModifyHttpRequest context,
+                                                   ExecutionAttributes executionAttributes) {
+        Optional<Trailer> trailer = Trailer.resolve(context);
+        if (!trailer.isPresent() || !context.requestBody().isPresent()) {
+            return context.requestBody();
+        }
+
+        RequestBody requestBody = context.requestBody().get();
+        ContentStreamProvider streamProvider = requestBody.contentStreamProvider();
+        Trailer resolvedTrailer = trailer.get();
+        ContentStreamProvider encodingStreamProvider =
+            () -> new TrailingChecksumInputStream(invokeSafely(streamProvider::newStream),
+                                                  resolvedTrailer.newEncoder(),
+                                                  AwsChunkedTrailerEncoder.DEFAULT_CHUNK_SIZE);
+
+        return Optional.of(RequestBody.fromContentProvider(encodingStreamProvider,
+                                                           resolvedTrailer.encodedLength(),
+                                                           requestBody.contentType()));
+    }
+
+    @Override
+    public Optional<AsyncRequestBody> modifyAsyncHttpContent(Context.ModifyHttpRequest context,
+                                                             ExecutionAttributes executionAttributes) {
+        Optional<Trailer> trailer = Trailer.resolve(context);
+        if (!trailer.isPresent() || !context.asyncRequestBody().isPresent()) {
+            return context.asyncRequestBody();
+        }
+
+        return Optional.of(new TrailingChecksumAsyncRequestBody(context.asyncRequestBody().get(),
+                                                                trailer.get()::newEncoder,
+                                                                trailer.get().encodedLength()));
+    }
+
+    /**
+     * Add the headers of an aws-chunked encoded payload with a trailing checksum. The chunks are not signed.
+     */
+    @Override
+    public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest context, ExecutionAttributes executionAttributes) {
+        Optional<Trailer> trailer = Trailer.resolve(context);
+        if (!trailer.isPresent()) {
+            return context.httpRequest();
+        }
+
+        SdkHttpRequest httpRequest = context.httpRequest();
+        String contentEncoding = httpRequest.firstMatchingHeader(CONTENT_ENCODING_HEADER)
+                                            .map(e -> AWS_CHUNKED_CONTENT_ENCODING + "," + e)
+                                            .orElse(AWS_CHUNKED_CONTENT_ENCODING);
+
+        return httpRequest.toBuilder()
+                          .putHeader(CONTENT_ENCODING_HEADER, contentEncoding)
+                          .putHeader(CONTENT_SHA256_HEADER, STREAMING_UNSIGNED_PAYLOAD_TRAILER)
+                          .putHeader(TRAILER_HEADER, trailer.get().headerName())
+                          .putHeader(DECODED_CONTENT_LENGTH_HEADER, Long.toString(trailer.get().contentLength()))
+                          .putHeader(CONTENT_LENGTH_HEADER, Long.toString(trailer.get().encodedLength()))
+                          .build();
+    }
+
+    @Override
+    public Optional<InputStream> modifyHttpResponseContent(Context.ModifyHttpResponse context,
+                                                           ExecutionAttributes executionAttributes) {
+        if (!getObjectHttpChecksumEnabled(context.request(), executionAttributes) || !context.responseBody().isPresent()) {
+            return context.responseBody();
+        }
+
+        Optional<Pair<Algorithm, String>> checksum = HttpChecksumValidator.responseChecksum(context.httpResponse());
+        if (!checksum.isPresent()) {
+            return context.responseBody();
+        }
+
+        return Optional.of(new HttpChecksumValidatingInputStream(context.responseBody().get(),
+                                                                 SdkChecksum.forAlgorithm(checksum.get().left()),
+                                                                 checksum.get().right()));
+    }
+
+    @Override
+    public Optional<Publisher<ByteBuffer>> modifyAsyncHttpResponseContent(Context.ModifyHttpResponse context,
+                                                                          ExecutionAttributes executionAttributes) {
+        if (!getObjectHttpChecksumEnabled(context.request(), executionAttributes)
+            || !context.responsePublisher().isPresent()) {
+            return context.responsePublisher();
+        }
+
+        Optional<Pair<Algorithm, String>> checksum = HttpChecksumValidator.responseChecksum(context.httpResponse());
+        if (!checksum.isPresent()) {
+            return context.responsePublisher();
+        }
+
+        return Optional.of(new HttpChecksumValidatingPublisher(context.responsePublisher().get(),
+                                                               SdkChecksum.forAlgorithm(checksum.get().left()),
+                                                               checksum.get().right(),
+                                                               checksumExecutor(executionAttributes)));
+    }
+
+    /**
+     * The trailing checksum of a request, which requires the length of the payload to be known: the aws-chunked encoding
+     * declares the decoded length of the payload in a header, so a payload of unknown length cannot be sent with a trailing
+     * checksum.
+     */
+    private static final class Trailer {
+        private final Algorithm algorithm;
+        private final String headerName;
+        private final long contentLength;
+        private final long encodedLength;
+
+        private Trailer(Algorithm algorithm, long contentLength) {
+            this.algorithm = algorithm;
+            this.headerName = HttpChecksumValidator.headerName(algorithm);
+            this.contentLength = contentLength;
+            this.encodedLength = AwsChunkedTrailerEncoder.encodedLength(contentLength,
+                                                                        AwsChunkedTrailerEncoder.DEFAULT_CHUNK_SIZE,
+                                                                        headerName,
+                                                                        algorithm.base64EncodedLength());
+        }
+
+        /**
+         * Returns the trailing checksum selected for the request, if any.
+         *
+         * @throws SdkClientException if a checksum was selected, but the length of the payload is not known
+         */
+        private static Optional<Trailer> resolve(Context.ModifyHttpRequest context) {
+            Algorithm algorithm = trailingChecksumAlgorithm(context.request());
+            if (algorithm == null) {
+                return Optional.empty();
+            }
+
+            long contentLength = context.httpRequest()
+                                        .firstMatchingHeader(CONTENT_LENGTH_HEADER)
+                                        .flatMap(Trailer::parseContentLength)
+                                        .orElseThrow(() -> SdkClientException.create(
+                                            "A trailing " + algorithm + " checksum requires the length of the request body "
+                                            + "to be known. Provide a request body with a known content length, or do not "
+                                            + "select a checksum algorithm."));
+            return Optional.of(new Trailer(algorithm, contentLength));
+        }
+
+        private static Optional<Long> parseContentLength(String contentLength) {
+            try {
+                long length = Long.parseLong(contentLength);
+                return length >= 0 ? Optional.of(length) : Optional.empty();
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+
+        private String headerName() {
+            return headerName;
+        }
+
+        private long contentLength() {
+            return contentLength;
+        }
+
+        private long encodedLength() {
+            return encodedLength;
+        }
+
+        private AwsChunkedTrailerEncoder newEncoder() {
+            return new AwsChunkedTrailerEncoder(contentLength, AwsChunkedTrailerEncoder.DEFAULT_CHUNK_SIZE,
+                                                SdkChecksum.forAlgorithm(algorithm), headerName);
+        }
+    }
+}
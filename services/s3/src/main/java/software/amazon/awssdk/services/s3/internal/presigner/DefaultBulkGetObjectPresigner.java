@@ -0,0 +1,321 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.internal.presigner;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.services.s3.presigner.BulkGetObjectPresigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
+
+/**
+ * The default implementation of {@link BulkGetObjectPresigner}.
+ * <p>
+ * Once per second, the template request is presigned with a placeholder key by the {@link DefaultS3Presigner}, using credentials
+ * resolved for that second. The SigV4 canonical request of the result is split around the placeholder, and the signing key is
+ * derived from the credentials and the scope of the signature. Before the split request is used, it is checked to produce the
+ * same signature for the placeholder as the presigner did, so any difference between how this class and the signer build the
+ * canonical request results in falling back to the presigner instead of in invalid signatures.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultBulkGetObjectPresigner implements BulkGetObjectPresigner {
+    private static final Logger log = Logger.loggerFor(DefaultBulkGetObjectPresigner.class);
+
+    private static final String SIGNING_ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+    private static final String X_AMZ_ALGORITHM = "X-Amz-Algorithm";
+    private static final String X_AMZ_CREDENTIAL = "X-Amz-Credential";
+    private static final String X_AMZ_DATE = "X-Amz-Date";
+    private static final String X_AMZ_SIGNED_HEADERS = "X-Amz-SignedHeaders";
+    private static final String X_AMZ_SIGNATURE = "X-Amz-Signature";
+
+    private static final ThreadLocal<MessageDigest> SHA256 =
+        ThreadLocal.withInitial(() -> invokeSafely(() -> MessageDigest.getInstance("SHA-256")));
+    private static final ThreadLocal<Mac> HMAC_SHA256 =
+        ThreadLocal.withInitial(() -> invokeSafely(() -> Mac.getInstance(HMAC_ALGORITHM)));
+
+    private final GetObjectPresignRequest template;
+    private final Function<GetObjectPresignRequest, PresignedGetObjectRequest> presigner;
+    private final Supplier<AwsCredentials> credentialsResolver;
+    // The placeholder is changed by URL encoding, so that a signer that encodes the path differently does not reproduce its
+    // signature, and causes the template to fall back to the presigner.
+    private final String placeholderKey = "bulk presign/" + UUID.randomUUID();
+
+    private final Object signingTemplateLock = new Object();
+    private volatile SigningTemplate signingTemplate;
+
+    /**
+     * @param template The request to presign for each key.
+     * @param presigner Presigns a single request, used to create the signing template and for requests that cannot use it.
+     * @param credentialsResolver Resolves the credentials the presigner would use for the template request.
+     */
+    public DefaultBulkGetObjectPresigner(GetObjectPresignRequest template,
+                                         Function<GetObjectPresignRequest, PresignedGetObjectRequest> presigner,
+                                         Supplier<AwsCredentials> credentialsResolver) {
+        this.template = Validate.paramNotNull(template, "template");
+        this.presigner = Validate.paramNotNull(presigner, "presigner");
+        this.credentialsResolver = Validate.paramNotNull(credentialsResolver, "credentialsResolver");
+    }
+
+    @Override
+    public PresignedGetObjectRequest presignGetObject(String key) {
+        Validate.notEmpty(key, "key cannot be empty.");
+
+        SigningTemplate currentTemplate = currentSigningTemplate();
+        if (currentTemplate.canonicalRequest == null) {
+            return presigner.apply(template.toBuilder()
+                                           .getObjectRequest(template.getObjectRequest().toBuilder().key(key).build())
+                                           .build());
+        }
+
+        return currentTemplate.presign(SdkHttpUtils.urlEncodeIgnoreSlashes(key));
+    }
+
+    /**
+     * The signing template of the current second. When the second changes, only one caller creates the new template, and the
+     * others wait for it instead of each presigning the placeholder.
+     */
+    private SigningTemplate currentSigningTemplate() {
+        long nowEpochSecond = System.currentTimeMillis() / 1000;
+        SigningTemplate currentTemplate = signingTemplate;
+        if (isCurrent(currentTemplate, nowEpochSecond)) {
+            return currentTemplate;
+        }
+
+        synchronized (signingTemplateLock) {
+            currentTemplate = signingTemplate;
+            if (!isCurrent(currentTemplate, nowEpochSecond)) {
+                currentTemplate = createSigningTemplate(nowEpochSecond);
+                signingTemplate = currentTemplate;
+            }
+            return currentTemplate;
+        }
+    }
+
+    private static boolean isCurrent(SigningTemplate signingTemplate, long nowEpochSecond) {
+        // A template created for a later second by a caller that read the clock after this one is current as well.
+        return signingTemplate != null && signingTemplate.epochSecond >= nowEpochSecond;
+    }
+
+    private SigningTemplate createSigningTemplate(long nowEpochSecond) {
+        // The credentials are resolved separately from the presigner, so they may differ from the credentials it signed the
+        // placeholder with if they changed in between. The template then cannot reproduce the signature and is not used.
+        AwsCredentials credentials = credentialsResolver.get();
+        PresignedGetObjectRequest placeholderRequest =
+            presigner.apply(template.toBuilder()
+                                    .getObjectRequest(template.getObjectRequest().toBuilder().key(placeholderKey).build())
+                                    .build());
+
+        return SigningTemplate.create(nowEpochSecond, placeholderRequest, SdkHttpUtils.urlEncodeIgnoreSlashes(placeholderKey),
+                                      StringUtils.trim(credentials.secretAccessKey()));
+    }
+
+    /**
+     * The parts of a presigned request and its signature that are the same for every key signed in a given second.
+     */
+    private static final class SigningTemplate {
+        // The second of the local clock the template was created in. The X-Amz-Date of the template is not used, because the
+        // signer may have adjusted it for clock skew, which would recreate the template on every call.
+        private final long epochSecond;
+        private final PresignedGetObjectRequest presignedRequest;
+        private final String pathPrefix;
+        private final String pathSuffix;
+        private final CanonicalRequest canonicalRequest;
+
+        private SigningTemplate(long epochSecond, PresignedGetObjectRequest presignedRequest, String pathPrefix,
+                                String pathSuffix, CanonicalRequest canonicalRequest) {
+            this.epochSecond = epochSecond;
+            this.presignedRequest = presignedRequest;
+            this.pathPrefix = pathPrefix;
+            this.pathSuffix = pathSuffix;
+            this.canonicalRequest = canonicalRequest;
+        }
+
+        private static SigningTemplate create(long nowEpochSecond, PresignedGetObjectRequest placeholderRequest,
+                                              String encodedPlaceholderKey, String secretKey) {
+            SdkHttpRequest httpRequest = placeholderRequest.httpRequest();
+            Map<String, List<String>> queryParameters = httpRequest.rawQueryParameters();
+            String amzDate = firstValue(queryParameters, X_AMZ_DATE);
+
+            String path = httpRequest.encodedPath();
+            int placeholderIndex = path.indexOf(encodedPlaceholderKey);
+            if (placeholderIndex < 0 || path.indexOf(encodedPlaceholderKey, placeholderIndex + 1) >= 0) {
+                return fallback(nowEpochSecond, "the presigned path does not contain the key exactly once");
+            }
+            String pathPrefix = path.substring(0, placeholderIndex);
+            String pathSuffix = path.substring(placeholderIndex + encodedPlaceholderKey.length());
+
+            String algorithm = firstValue(queryParameters, X_AMZ_ALGORITHM);
+            String credential = firstValue(queryParameters, X_AMZ_CREDENTIAL);
+            String signedHeaders = firstValue(queryParameters, X_AMZ_SIGNED_HEADERS);
+            String signature = firstValue(queryParameters, X_AMZ_SIGNATURE);
+            if (!SIGNING_ALGORITHM.equals(algorithm) || amzDate == null || credential == null || signedHeaders == null ||
+                signature == null) {
+                return fallback(nowEpochSecond, "the request was not presigned with SigV4");
+            }
+
+            String scope = credential.substring(credential.indexOf('/') + 1);
+            String[] scopeParts = scope.split("/");
+            if (scopeParts.length != 4) {
+                return fallback(nowEpochSecond, "the signature scope '" + scope + "' is not valid");
+            }
+
+            CanonicalRequest canonicalRequest =
+                new CanonicalRequest(httpRequest.method().name() + "\n" + pathPrefix,
+                                     pathSuffix + "\n" +
+                                     canonicalQueryString(queryParameters) + "\n" +
+                                     canonicalHeaders(httpRequest, signedHeaders) + "\n" +
+                                     signedHeaders + "\n" +
+                                     UNSIGNED_PAYLOAD,
+                                     SIGNING_ALGORITHM + "\n" + amzDate + "\n" + scope + "\n",
+                                     signingKey(secretKey, scopeParts));
+
+            if (!signature.equals(canonicalRequest.sign(encodedPlaceholderKey))) {
+                return fallback(nowEpochSecond, "the signature of the request could not be reproduced");
+            }
+
+            return new SigningTemplate(nowEpochSecond, placeholderRequest, pathPrefix, pathSuffix, canonicalRequest);
+        }
+
+        private static SigningTemplate fallback(long epochSecond, String reason) {
+            log.debug(() -> "Presigning each key with the S3 presigner, because " + reason + ".");
+            return new SigningTemplate(epochSecond, null, null, null, null);
+        }
+
+        private PresignedGetObjectRequest presign(String encodedKey) {
+            SdkHttpRequest httpRequest = presignedRequest.httpRequest()
+                                                         .toBuilder()
+                                                         .encodedPath(pathPrefix + encodedKey + pathSuffix)
+                                                         .putRawQueryParameter(X_AMZ_SIGNATURE,
+                                                                               canonicalRequest.sign(encodedKey))
+                                                         .build();
+            return presignedRequest.toBuilder().httpRequest(httpRequest).build();
+        }
+
+        private static String firstValue(Map<String, List<String>> parameters, String name) {
+            List<String> values = parameters.get(name);
+            return values == null || values.isEmpty() ? null : values.get(0);
+        }
+
+        /**
+         * The canonical query string of the request, without its signature. Parameters are sorted by their encoded names, and
+         * the encoded values of each parameter are sorted.
+         */
+        private static String canonicalQueryString(Map<String, List<String>> queryParameters) {
+            SortedMap<String, List<String>> encodedParameters = new TreeMap<>();
+            queryParameters.forEach((name, values) -> {
+                if (X_AMZ_SIGNATURE.equals(name)) {
+                    return;
+                }
+                List<String> encodedValues = new ArrayList<>(values.size());
+                for (String value : values) {
+                    encodedValues.add(value == null ? "" : SdkHttpUtils.urlEncode(value));
+                }
+                Collections.sort(encodedValues);
+                encodedParameters.put(SdkHttpUtils.urlEncode(name), encodedValues);
+            });
+            return SdkHttpUtils.flattenQueryParameters(encodedParameters).orElse("");
+        }
+
+        /**
+         * The canonical headers of the request: one line for each value of each signed header, with white space collapsed.
+         */
+        private static String canonicalHeaders(SdkHttpRequest httpRequest, String signedHeaders) {
+            StringBuilder canonicalHeaders = new StringBuilder();
+            for (String header : signedHeaders.split(";")) {
+                List<String> values = SdkHttpUtils.allMatchingHeaders(httpRequest.headers(), header)
+                                                  .collect(Collectors.toList());
+                for (String value : values) {
+                    canonicalHeaders.append(header).append(':').append(value.replaceAll("\\s+", " ")).append('\n');
+                }
+            }
+            return canonicalHeaders.toString();
+        }
+
+        private static SecretKeySpec signingKey(String secretKey, String[] scopeParts) {
+            byte[] key = ("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8);
+            for (String scopePart : scopeParts) {
+                key = hmac(key, scopePart);
+            }
+            return new SecretKeySpec(key, HMAC_ALGORITHM);
+        }
+
+        private static byte[] hmac(byte[] key, String data) {
+            return hmac(new SecretKeySpec(key, HMAC_ALGORITHM), data);
+        }
+
+        private static byte[] hmac(SecretKeySpec key, String data) {
+            Mac mac = HMAC_SHA256.get();
+            invokeSafely(() -> mac.init(key));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * The SigV4 canonical request and string to sign of a signing template, split around the encoded key.
+     */
+    private static final class CanonicalRequest {
+        private final byte[] prefix;
+        private final byte[] suffix;
+        private final String stringToSignPrefix;
+        private final SecretKeySpec signingKey;
+
+        private CanonicalRequest(String prefix, String suffix, String stringToSignPrefix, SecretKeySpec signingKey) {
+            this.prefix = prefix.getBytes(StandardCharsets.UTF_8);
+            this.suffix = suffix.getBytes(StandardCharsets.UTF_8);
+            this.stringToSignPrefix = stringToSignPrefix;
+            this.signingKey = signingKey;
+        }
+
+        private String sign(String encodedKey) {
+            MessageDigest digest = SHA256.get();
+            digest.reset();
+            digest.update(prefix);
+            // The key is URL-encoded, so it only contains ASCII characters.
+            digest.update(encodedKey.getBytes(StandardCharsets.US_ASCII));
+            digest.update(suffix);
+
+            String stringToSign = stringToSignPrefix + BinaryUtils.toHex(digest.digest());
+            return BinaryUtils.toHex(SigningTemplate.hmac(signingKey, stringToSign));
+        }
+    }
+}
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
@@ -70,6 +71,7 @@ import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.BulkGetObjectPresigner;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.AbortMultipartUploadPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.CompleteMultipartUploadPresignRequest;
@@ -187,6 +189,13 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
             .build();
     }
 
+    @Override
+    public BulkGetObjectPresigner bulkGetObjectPresigner(GetObjectPresignRequest template) {
+        Validate.paramNotNull(template, "template");
+        Supplier<AwsCredentials> credentialsResolver = () -> resolveCredentials(template.getObjectRequest());
+        return new DefaultBulkGetObjectPresigner(template, this::presignGetObject, credentialsResolver);
+    }
+
     @Override
     public PresignedPutObjectRequest presignPutObject(PutObjectPresignRequest request) {
         return presign(PresignedPutObjectRequest.builder(),
@@ -277,18 +286,10 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
      * Creates an execution context from the provided requests information.
      */
     private ExecutionContext createExecutionContext(PresignRequest presignRequest, SdkRequest sdkRequest, String operationName) {
-        AwsCredentialsProvider clientCredentials = credentialsProvider();
-        AwsCredentialsProvider credentialsProvider = sdkRequest.overrideConfiguration()
-                                                               .filter(c -> c instanceof AwsRequestOverrideConfiguration)
-                                                               .map(c -> (AwsRequestOverrideConfiguration) c)
-                                                               .flatMap(AwsRequestOverrideConfiguration::credentialsProvider)
-                                                               .orElse(clientCredentials);
-
         Signer signer = sdkRequest.overrideConfiguration().flatMap(RequestOverrideConfiguration::signer).orElse(DEFAULT_SIGNER);
         Instant signatureExpiration = Instant.now().plus(presignRequest.signatureDuration());
 
-        AwsCredentials credentials = credentialsProvider.resolveCredentials();
-        Validate.validState(credentials != null, "Credential providers must never return null.");
+        AwsCredentials credentials = resolveCredentials(sdkRequest);
 
         ExecutionAttributes executionAttributes = new ExecutionAttributes()
             .putAttribute(AwsSignerExecutionAttribute.AWS_CREDENTIALS, credentials)
@@ -313,6 +314,22 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
                                .build();
     }
 
+    /**
+     * Resolve the credentials for the provided request, from its override configuration or from this presigner.
+     */
+    private AwsCredentials resolveCredentials(SdkRequest sdkRequest) {
+        AwsCredentialsProvider clientCredentials = credentialsProvider();
+        AwsCredentialsProvider credentialsProvider = sdkRequest.overrideConfiguration()
+                                                               .filter(c -> c instanceof AwsRequestOverrideConfiguration)
+                                                               .map(c -> (AwsRequestOverrideConfiguration) c)
+                                                               .flatMap(AwsRequestOverrideConfiguration::credentialsProvider)
+                                                               .orElse(clientCredentials);
+
+        AwsCredentials credentials = credentialsProvider.resolveCredentials();
+        Validate.validState(credentials != null, "Credential providers must never return null.");
+        return credentials;
+    }
+
     /**
      * Call the before-execution interceptor hooks.
      */
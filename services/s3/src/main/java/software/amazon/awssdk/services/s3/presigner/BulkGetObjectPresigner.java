@@ -0,0 +1,65 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.s3.presigner;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+/**
+ * Presigns {@link GetObjectRequest}s that only differ by their key, much faster than presigning each of them with
+ * {@link S3Presigner#presignGetObject(GetObjectPresignRequest)}.
+ * <p/>
+ * The request is run through the presigner's interceptors, marshalled and signed once per second with a placeholder key. Each
+ * call to {@link #presignGetObject(String)} within that second only substitutes the key into the result and computes its
+ * signature. The resulting presigned requests are the same as the ones {@link S3Presigner} would create in that second.
+ * <p/>
+ * If the template request cannot be presigned this way (for example, because it is configured with a custom signer), every key
+ * is presigned with {@link S3Presigner#presignGetObject(GetObjectPresignRequest)} instead.
+ *
+ * <b>Example Usage</b>
+ * <p/>
+ *
+ * <pre>
+ * {@code
+ *     S3Presigner presigner = ...;
+ *
+ *     BulkGetObjectPresigner bulkPresigner =
+ *         presigner.bulkGetObjectPresigner(r -> r.signatureDuration(Duration.ofMinutes(10))
+ *                                                .getObjectRequest(g -> g.bucket("bucket")));
+ *
+ *     for (String key : keys) {
+ *         PresignedGetObjectRequest presignedRequest = bulkPresigner.presignGetObject(key);
+ *         ...
+ *     }
+ * }
+ * </pre>
+ *
+ * @see S3Presigner#bulkGetObjectPresigner(GetObjectPresignRequest)
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface BulkGetObjectPresigner {
+    /**
+     * Presign the template {@link GetObjectRequest} of this presigner with the provided key.
+     *
+     * @param key The key of the object to presign a request for. Must not be empty.
+     */
+    PresignedGetObjectRequest presignGetObject(String key);
+}
@@ -279,6 +279,36 @@ public interface S3Presigner extends SdkPresigner {
         return presignGetObject(builder.build());
     }
 
+    /**
+     * Create a {@link BulkGetObjectPresigner} that presigns the provided {@link GetObjectRequest} for many keys of the same
+     * bucket. The credentials, endpoint, signing key and every part of the signature that does not depend on the key are only
+     * computed once per second, which makes presigning large numbers of keys much cheaper than calling
+     * {@link #presignGetObject(GetObjectPresignRequest)} for each of them.
+     * <p/>
+     * The key of the template's {@link GetObjectRequest} is ignored, and replaced with the key provided to
+     * {@link BulkGetObjectPresigner#presignGetObject(String)}.
+     *
+     * @see BulkGetObjectPresigner
+     */
+    default BulkGetObjectPresigner bulkGetObjectPresigner(GetObjectPresignRequest template) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Create a {@link BulkGetObjectPresigner} that presigns the provided {@link GetObjectRequest} for many keys of the same
+     * bucket.
+     * <p />
+     * This is a shorter method of invoking {@link #bulkGetObjectPresigner(GetObjectPresignRequest)} without needing
+     * to call {@code GetObjectPresignRequest.builder()} or {@code .build()}.
+     *
+     * @see #bulkGetObjectPresigner(GetObjectPresignRequest)
+     */
+    default BulkGetObjectPresigner bulkGetObjectPresigner(Consumer<GetObjectPresignRequest.Builder> template) {
+        GetObjectPresignRequest.Builder builder = GetObjectPresignRequest.builder();
+        template.accept(builder);
+        return bulkGetObjectPresigner(builder.build());
+    }
+
     /**
      * Presign a {@link PutObjectRequest} so that it can be executed at a later time without requiring additional
      * signing or authentication.
@@ -17,9 +17,11 @@ package software.amazon.awssdk.services.s3;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.assertj.core.data.Offset;
 import org.junit.After;
 import org.junit.Before;
@@ -28,12 +30,17 @@ import org.junit.runner.RunWith;
 import org.mockito.runners.MockitoJUnitRunner;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.signer.Aws4Signer;
 import software.amazon.awssdk.auth.signer.AwsS3V4Signer;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.core.signer.NoOpSigner;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.internal.presigner.DefaultBulkGetObjectPresigner;
 import software.amazon.awssdk.services.s3.model.RequestPayer;
+import software.amazon.awssdk.services.s3.presigner.BulkGetObjectPresigner;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
@@ -453,4 +460,113 @@ public class S3PresignerTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("region");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void bulkGetObject_MatchesPresignGetObject() {
+        GetObjectPresignRequest template =
+            GetObjectPresignRequest.builder()
+                                   .signatureDuration(Duration.ofMinutes(5))
+                                   .getObjectRequest(go -> go.bucket("foo34343434")
+                                                             .responseContentType("text/plain")
+                                                             .requestPayer(RequestPayer.REQUESTER))
+                                   .build();
+
+        assertBulkPresignMatchesPresign(presigner, template, "bar");
+        assertBulkPresignMatchesPresign(presigner, template, "photos/2020/a b+c%d.jpg");
+        assertBulkPresignMatchesPresign(presigner, template, "/leading//slashes/\u00e9t\u00e9");
+    }
+
+    @Test
+    public void bulkGetObject_SessionCredentialsAndEndpointOverride_MatchesPresignGetObject() {
+        S3Presigner presigner = presignerBuilder().endpointOverride(URI.create("http://foo.com:8080"))
+                                                  .credentialsProvider(() -> AwsSessionCredentials.create("a", "b", "c"))
+                                                  .build();
+        GetObjectPresignRequest template =
+            GetObjectPresignRequest.builder()
+                                   .signatureDuration(Duration.ofMinutes(5))
+                                   .getObjectRequest(go -> go.bucket("foo34343434"))
+                                   .build();
+
+        assertBulkPresignMatchesPresign(presigner, template, "bar");
+    }
+
+    @Test
+    public void bulkGetObject_SignerThatSignsPayload_FallsBackToPresignGetObject() {
+        GetObjectPresignRequest template =
+            GetObjectPresignRequest.builder()
+                                   .signatureDuration(Duration.ofMinutes(5))
+                                   .getObjectRequest(go -> go.bucket("foo34343434")
+                                                             .overrideConfiguration(c -> c.signer(Aws4Signer.create())))
+                                   .build();
+
+        assertBulkPresignMatchesPresign(presigner, template, "a b");
+        assertThat(presignGetObjectCalls(template, 10)).isGreaterThan(10);
+    }
+
+    @Test
+    public void bulkGetObject_SigV4Template_PresignsTemplateOncePerSecond() {
+        GetObjectPresignRequest template =
+            GetObjectPresignRequest.builder()
+                                   .signatureDuration(Duration.ofMinutes(5))
+                                   .getObjectRequest(go -> go.bucket("foo34343434"))
+                                   .build();
+
+        // The template is presigned once, or twice if the keys are presigned across the change of a second.
+        assertThat(presignGetObjectCalls(template, 10)).isBetween(1, 2);
+    }
+
+    @Test
+    public void bulkGetObject_EmptyKey_Throws() {
+        BulkGetObjectPresigner bulkPresigner =
+            presigner.bulkGetObjectPresigner(r -> r.signatureDuration(Duration.ofMinutes(5))
+                                                   .getObjectRequest(go -> go.bucket("foo34343434")));
+
+        assertThatThrownBy(() -> bulkPresigner.presignGetObject("")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Presign the provided number of keys with a bulk presigner, and return how many times it called presignGetObject.
+     */
+    private int presignGetObjectCalls(GetObjectPresignRequest template, int keys) {
+        AtomicInteger calls = new AtomicInteger();
+        BulkGetObjectPresigner bulkPresigner =
+            new DefaultBulkGetObjectPresigner(template,
+                                              r -> {
+                                                  calls.incrementAndGet();
+                                                  return presigner.presignGetObject(r);
+                                              },
+                                              () -> AwsBasicCredentials.create("x", "x"));
+        for (int i = 0; i < keys; i++) {
+            bulkPresigner.presignGetObject("key" + i);
+        }
+        return calls.get();
+    }
+
+    private void assertBulkPresignMatchesPresign(S3Presigner presigner, GetObjectPresignRequest template, String key) {
+        BulkGetObjectPresigner bulkPresigner = presigner.bulkGetObjectPresigner(template);
+        GetObjectPresignRequest request =
+            template.toBuilder()
+                    .getObjectRequest(template.getObjectRequest().toBuilder().key(key).build())
+                    .build();
+
+        // The presigned requests are only identical if they are signed in the same second, with the same expiration.
+        for (int attempt = 0; attempt < 5; attempt++) {
+            PresignedGetObjectRequest expected = presigner.presignGetObject(request);
+            PresignedGetObjectRequest actual = bulkPresigner.presignGetObject(key);
+
+            if (sameQueryParameter(expected, actual, "X-Amz-Date") && sameQueryParameter(expected, actual, "X-Amz-Expires")) {
+                assertThat(actual.url()).isEqualTo(expected.url());
+                assertThat(actual.httpRequest().headers()).isEqualTo(expected.httpRequest().headers());
+                assertThat(actual.signedHeaders()).isEqualTo(expected.signedHeaders());
+                assertThat(actual.isBrowserExecutable()).isEqualTo(expected.isBrowserExecutable());
+                assertThat(Duration.between(actual.expiration(), expected.expiration()).abs()).isLessThan(Duration.ofSeconds(1));
+                return;
+            }
+        }
+        fail("Could not presign both requests in the same second.");
+    }
+
+    private boolean sameQueryParameter(PresignedGetObjectRequest expected, PresignedGetObjectRequest actual, String name) {
+        return expected.httpRequest().rawQueryParameters().get(name).equals(actual.httpRequest().rawQueryParameters().get(name));
+    }
+}
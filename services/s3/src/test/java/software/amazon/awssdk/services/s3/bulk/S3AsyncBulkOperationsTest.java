@@ -0,0 +1,381 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+public class S3AsyncBulkOperationsTest {
+    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(8);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void listObjects_listsAllObjectsOfAllPartitions() {
+        List<String> keys = new ArrayList<>();
+        IntStream.range(0, 25).forEach(i -> keys.add("logs/a/" + i));
+        IntStream.range(0, 10).forEach(i -> keys.add("logs/b/c/" + i));
+        keys.add("logs/top");
+        keys.add("logs/d/");
+        keys.add("other/1");
+        FakeS3 s3 = new FakeS3(keys, 0);
+
+        S3AsyncBulkOperations bulk = S3AsyncBulkOperations.builder().client(s3).build();
+        List<String> listed = collectKeys(bulk.listObjects(r -> r.bucket("bucket").prefix("logs/").maxKeys(4)));
+
+        assertThat(listed).doesNotHaveDuplicates()
+                          .containsOnlyElementsOf(keys.stream()
+                                                          .filter(k -> k.startsWith("logs/"))
+                                                          .collect(Collectors.toList()))
+                          .hasSize(keys.size() - 1);
+        assertThat(s3.listRequests).filteredOn(r -> r.delimiter() == null)
+                                   .extracting(ListObjectsV2Request::prefix)
+                                   .contains("logs/a/", "logs/b/", "logs/d/");
+    }
+
+    @Test
+    public void listObjects_limitsConcurrentListings() {
+        List<String> keys = new ArrayList<>();
+        IntStream.range(0, 20).forEach(p -> IntStream.range(0, 5).forEach(i -> keys.add("p" + p + "/" + i)));
+        FakeS3 s3 = new FakeS3(keys, 5);
+
+        S3AsyncBulkOperations bulk = S3AsyncBulkOperations.builder().client(s3).maxConcurrentListings(3).build();
+        List<String> listed = collectKeys(bulk.listObjects(r -> r.bucket("bucket").maxKeys(2)));
+
+        assertThat(listed).hasSize(100);
+        // The discovery listing may run alongside the partitions.
+        assertThat(s3.maxConcurrentLists.get()).isBetween(2, 4);
+    }
+
+    @Test
+    public void listObjects_stopsListingWhenSubscriberDoesNotRequest() {
+        List<String> keys = IntStream.range(0, 100).mapToObj(i -> "k" + i).collect(Collectors.toList());
+        FakeS3 s3 = new FakeS3(keys, 0);
+
+        S3AsyncBulkOperations bulk = S3AsyncBulkOperations.builder().client(s3).maxBufferedObjects(5).build();
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        bulk.listObjects(r -> r.bucket("bucket").maxKeys(2)).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.keys).hasSize(1);
+        assertThat(s3.listRequests.size()).isLessThanOrEqualTo(4);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.keys).hasSize(100);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void listObjects_failsWhenAListingFails() {
+        FakeS3 s3 = new FakeS3(IntStream.range(0, 10).mapToObj(i -> "a" + (i % 3) + "/" + i).collect(Collectors.toList()), 0);
+        s3.failingPrefix = "a1/";
+
+        S3AsyncBulkOperations bulk = S3AsyncBulkOperations.builder().client(s3).build();
+
+        assertThatThrownBy(() -> bulk.listObjects(r -> r.bucket("bucket")).subscribe(o -> { }).join())
+            .hasCauseInstanceOf(S3Exception.class);
+    }
+
+    @Test
+    public void listObjects_rejectsRequestWithDelimiter() {
+        S3AsyncBulkOperations bulk = S3AsyncBulkOperations.builder().client(new FakeS3(Collections.emptyList(), 0)).build();
+
+        assertThatThrownBy(() -> bulk.listObjects(r -> r.bucket("bucket").delimiter("/")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void deleteObjects_deletesInBatchesWithBoundedConcurrency() {
+        List<String> keys = IntStream.range(0, 2500).mapToObj(i -> "k" + i).collect(Collectors.toList());
+        FakeS3 s3 = new FakeS3(keys, 5);
+
+        S3AsyncBulkOperations bulk = S3AsyncBulkOperations.builder()
+                                                          .client(s3)
+                                                          .deleteBatchSize(100)
+                                                          .maxConcurrentDeletes(3)
+                                                          .build();
+        BulkDeleteResult result = bulk.deleteObjects("bucket", SdkPublisher.adapt(new IterablePublisher(keys))).join();
+
+        assertThat(result.deletedCount()).isEqualTo(2500);
+        assertThat(result.errors()).isEmpty();
+        assertThat(s3.keys).isEmpty();
+        assertThat(s3.deleteBatchSizes).hasSize(25).allMatch(size -> size == 100);
+        assertThat(s3.maxConcurrentDeletes.get()).isBetween(2, 3);
+    }
+
+    @Test
+    public void deleteObjects_collectsPerKeyErrors() {
+        List<String> keys = IntStream.range(0, 30).mapToObj(i -> "k" + i).collect(Collectors.toList());
+        keys.add("zz-denied");
+        keys.add("boom");
+        FakeS3 s3 = new FakeS3(keys, 0);
+
+        S3AsyncBulkOperations bulk = S3AsyncBulkOperations.builder().client(s3).deleteBatchSize(10).build();
+        BulkDeleteResult result = bulk.deleteObjects(r -> r.bucket("bucket")).join();
+
+        // The key "boom" makes its whole call fail, "zz-denied" is rejected on its own.
+        int failedBatchSize = s3.failedBatchSize.get();
+        assertThat(failedBatchSize).isPositive();
+        assertThat(result.errors()).hasSize(failedBatchSize + 1);
+        assertThat(result.errors()).filteredOn(e -> "AccessDenied".equals(e.code()))
+                                   .extracting(S3Error::key)
+                                   .containsExactly("zz-denied");
+        assertThat(result.errors()).filteredOn(e -> "InternalError".equals(e.code()))
+                                   .extracting(S3Error::key)
+                                   .contains("boom")
+                                   .hasSize(failedBatchSize);
+        assertThat(result.deletedCount()).isEqualTo(32 - result.errors().size());
+    }
+
+    @Test
+    public void deleteObjects_withListingRequest_onlyDeletesPrefix() {
+        List<String> keys = new ArrayList<>();
+        IntStream.range(0, 50).forEach(i -> keys.add("tmp/" + (i % 5) + "/" + i));
+        keys.add("keep/1");
+        FakeS3 s3 = new FakeS3(keys, 1);
+
+        S3AsyncBulkOperations bulk = S3AsyncBulkOperations.builder().client(s3).deleteBatchSize(7).build();
+        BulkDeleteResult result = bulk.deleteObjects(r -> r.bucket("bucket").prefix("tmp/").maxKeys(3)).join();
+
+        assertThat(result.deletedCount()).isEqualTo(50);
+        assertThat(s3.keys).containsExactly("keep/1");
+    }
+
+    private static List<String> collectKeys(SdkPublisher<S3Object> publisher) {
+        List<String> keys = new CopyOnWriteArrayList<>();
+        publisher.subscribe(o -> keys.add(o.key())).join();
+        return keys;
+    }
+
+    private static final class RecordingSubscriber implements Subscriber<S3Object> {
+        private final List<String> keys = new CopyOnWriteArrayList<>();
+        private volatile Subscription subscription;
+        private volatile boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+        }
+
+        @Override
+        public void onNext(S3Object object) {
+            keys.add(object.key());
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    private static final class IterablePublisher implements Publisher<ObjectIdentifier> {
+        private final List<String> keys;
+
+        private IterablePublisher(List<String> keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ObjectIdentifier> s) {
+            s.onSubscribe(new Subscription() {
+                private int index;
+                private long demand;
+                private boolean emitting;
+
+                @Override
+                public synchronized void request(long n) {
+                    demand += n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (demand > 0 && index < keys.size()) {
+                        demand--;
+                        s.onNext(ObjectIdentifier.builder().key(keys.get(index++)).build());
+                    }
+                    emitting = false;
+                    if (index == keys.size()) {
+                        index++;
+                        s.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+    }
+
+    /**
+     * An in-memory bucket, whose calls complete on another thread after the given delay when it is positive.
+     */
+    private final class FakeS3 implements S3AsyncClient {
+        private final NavigableSet<String> keys = new ConcurrentSkipListSet<>();
+        private final long delayMillis;
+        private final List<ListObjectsV2Request> listRequests = new CopyOnWriteArrayList<>();
+        private final List<Integer> deleteBatchSizes = new CopyOnWriteArrayList<>();
+        private final AtomicInteger concurrentLists = new AtomicInteger();
+        private final AtomicInteger maxConcurrentLists = new AtomicInteger();
+        private final AtomicInteger concurrentDeletes = new AtomicInteger();
+        private final AtomicInteger maxConcurrentDeletes = new AtomicInteger();
+        private final AtomicInteger failedBatchSize = new AtomicInteger();
+        private volatile String failingPrefix;
+
+        private FakeS3(List<String> keys, long delayMillis) {
+            this.keys.addAll(keys);
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public CompletableFuture<ListObjectsV2Response> listObjectsV2(ListObjectsV2Request request) {
+            listRequests.add(request);
+            return call(concurrentLists, maxConcurrentLists, () -> list(request));
+        }
+
+        @Override
+        public CompletableFuture<DeleteObjectsResponse> deleteObjects(DeleteObjectsRequest request) {
+            deleteBatchSizes.add(request.delete().objects().size());
+            return call(concurrentDeletes, maxConcurrentDeletes, () -> delete(request));
+        }
+
+        private ListObjectsV2Response list(ListObjectsV2Request request) {
+            String prefix = request.prefix() == null ? "" : request.prefix();
+            if (prefix.equals(failingPrefix)) {
+                throw S3Exception.builder().message("Listing failed").build();
+            }
+            String after = request.continuationToken() != null ? request.continuationToken() : request.startAfter();
+            Set<String> tail = after == null ? keys.tailSet(prefix, true) : keys.tailSet(after, false);
+            int maxKeys = request.maxKeys() == null ? 1000 : request.maxKeys();
+
+            List<S3Object> contents = new ArrayList<>();
+            List<CommonPrefix> commonPrefixes = new ArrayList<>();
+            String last = null;
+            for (String key : tail) {
+                if (!key.startsWith(prefix)) {
+                    break;
+                }
+                if (contents.size() + commonPrefixes.size() == maxKeys) {
+                    return ListObjectsV2Response.builder().contents(contents).commonPrefixes(commonPrefixes)
+                                                .isTruncated(true).nextContinuationToken(last).build();
+                }
+                int delimiterIndex = request.delimiter() == null ? -1 : key.indexOf(request.delimiter(), prefix.length());
+                if (delimiterIndex >= 0) {
+                    String commonPrefix = key.substring(0, delimiterIndex + 1);
+                    if (commonPrefixes.isEmpty() || !commonPrefixes.get(commonPrefixes.size() - 1).prefix().equals(commonPrefix)) {
+                        commonPrefixes.add(CommonPrefix.builder().prefix(commonPrefix).build());
+                    }
+                    // Continue after all the keys of the common prefix.
+                    last = commonPrefix + Character.MAX_VALUE;
+                } else {
+                    contents.add(S3Object.builder().key(key).build());
+                    last = key;
+                }
+            }
+            return ListObjectsV2Response.builder().contents(contents).commonPrefixes(commonPrefixes).isTruncated(false).build();
+        }
+
+        private DeleteObjectsResponse delete(DeleteObjectsRequest request) {
+            List<ObjectIdentifier> objects = request.delete().objects();
+            if (objects.stream().anyMatch(o -> o.key().equals("boom"))) {
+                failedBatchSize.set(objects.size());
+                throw S3Exception.builder()
+                                 .awsErrorDetails(AwsErrorDetails.builder().errorCode("InternalError").build())
+                                 .message("Internal error")
+                                 .build();
+            }
+            List<S3Error> errors = new ArrayList<>();
+            for (ObjectIdentifier object : objects) {
+                if (object.key().equals("zz-denied")) {
+                    errors.add(S3Error.builder().key(object.key()).code("AccessDenied").build());
+                } else {
+                    keys.remove(object.key());
+                }
+            }
+            return DeleteObjectsResponse.builder().errors(errors).build();
+        }
+
+        private <T> CompletableFuture<T> call(AtomicInteger concurrent, AtomicInteger maxConcurrent,
+                                              Supplier<T> supplier) {
+            int current = concurrent.incrementAndGet();
+            maxConcurrent.accumulateAndGet(current, Math::max);
+            CompletableFuture<T> result = new CompletableFuture<>();
+            Runnable complete = () -> {
+                concurrent.decrementAndGet();
+                try {
+                    result.complete(supplier.get());
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            };
+            if (delayMillis > 0) {
+                executor.schedule(complete, delayMillis, TimeUnit.MILLISECONDS);
+            } else {
+                complete.run();
+            }
+            return result;
+        }
+
+        @Override
+        public String serviceName() {
+            return "s3";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
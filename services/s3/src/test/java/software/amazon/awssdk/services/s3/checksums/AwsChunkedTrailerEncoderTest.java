@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.checksums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Test;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class AwsChunkedTrailerEncoderTest {
+    private static final String TRAILER_HEADER = "x-amz-checksum-crc32c";
+
+    @Test
+    public void encodesChunksAndTrailingChecksum() {
+        byte[] data = "hello world".getBytes(StandardCharsets.US_ASCII);
+        AwsChunkedTrailerEncoder encoder = encoder(data.length, 4);
+
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        write(encoded, encoder.encode(ByteBuffer.wrap(data, 0, 6)));
+        write(encoded, encoder.encode(ByteBuffer.wrap(data, 6, 5)));
+        write(encoded, encoder.finish());
+
+        String expected = "4\r\nhell\r\n4\r\no wo\r\n3\r\nrld\r\n0\r\n" + TRAILER_HEADER + ":" + crc32c(data) + "\r\n\r\n";
+        assertThat(new String(encoded.toByteArray(), StandardCharsets.US_ASCII)).isEqualTo(expected);
+        assertThat(AwsChunkedTrailerEncoder.encodedLength(data.length, 4, TRAILER_HEADER, 8)).isEqualTo(expected.length());
+    }
+
+    @Test
+    public void encodesEmptyContent() {
+        AwsChunkedTrailerEncoder encoder = encoder(0, 4);
+
+        String expected = "0\r\n" + TRAILER_HEADER + ":" + crc32c(new byte[0]) + "\r\n\r\n";
+        assertThat(StandardCharsets.US_ASCII.decode(encoder.finish()).toString()).isEqualTo(expected);
+        assertThat(AwsChunkedTrailerEncoder.encodedLength(0, 4, TRAILER_HEADER, 8)).isEqualTo(expected.length());
+    }
+
+    @Test
+    public void inputStreamEncodedLengthMatchesComputedLength() throws IOException {
+        byte[] data = new byte[3 * AwsChunkedTrailerEncoder.DEFAULT_CHUNK_SIZE + 123];
+        new Random(1).nextBytes(data);
+        AwsChunkedTrailerEncoder encoder = encoder(data.length, AwsChunkedTrailerEncoder.DEFAULT_CHUNK_SIZE);
+
+        byte[] encoded = IoUtils.toByteArray(new TrailingChecksumInputStream(new ByteArrayInputStream(data), encoder, 10_000));
+
+        assertThat((long) encoded.length).isEqualTo(AwsChunkedTrailerEncoder.encodedLength(
+            data.length, AwsChunkedTrailerEncoder.DEFAULT_CHUNK_SIZE, TRAILER_HEADER, Algorithm.CRC32C.base64EncodedLength()));
+        assertThat(new String(encoded, StandardCharsets.ISO_8859_1)).endsWith(":" + crc32c(data) + "\r\n\r\n");
+    }
+
+    @Test
+    public void moreBytesThanDeclared_fails() {
+        AwsChunkedTrailerEncoder encoder = encoder(2, 4);
+
+        assertThatThrownBy(() -> encoder.encode(ByteBuffer.wrap(new byte[3]))).isInstanceOf(SdkClientException.class);
+    }
+
+    @Test
+    public void fewerBytesThanDeclared_fails() {
+        AwsChunkedTrailerEncoder encoder = encoder(2, 4);
+        encoder.encode(ByteBuffer.wrap(new byte[1]));
+
+        assertThatThrownBy(encoder::finish).isInstanceOf(SdkClientException.class);
+    }
+
+    private static AwsChunkedTrailerEncoder encoder(long contentLength, int chunkSize) {
+        return new AwsChunkedTrailerEncoder(contentLength, chunkSize, SdkChecksum.forAlgorithm(Algorithm.CRC32C), TRAILER_HEADER);
+    }
+
+    private static String crc32c(byte[] data) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(Algorithm.CRC32C);
+        checksum.update(data, 0, data.length);
+        return BinaryUtils.toBase64(checksum.getChecksumBytes());
+    }
+
+    private static void write(ByteArrayOutputStream out, ByteBuffer buffer) {
+        out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+}
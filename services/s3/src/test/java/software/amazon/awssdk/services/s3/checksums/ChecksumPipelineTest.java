@@ -0,0 +1,181 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.checksums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+
+public class ChecksumPipelineTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void updatesAreAppliedInOrder() throws Exception {
+        byte[] data = new byte[1024 * 1024];
+        new Random(7).nextBytes(data);
+
+        ChecksumPipeline pipeline = new ChecksumPipeline(SdkChecksum.forAlgorithm(Algorithm.SHA256), executor);
+        for (int offset = 0; offset < data.length; offset += 1000) {
+            pipeline.update(data, offset, Math.min(1000, data.length - offset));
+        }
+
+        assertThat(pipeline.flush().get(10, TimeUnit.SECONDS).getChecksumBytes()).isEqualTo(sha256(data));
+    }
+
+    @Test
+    public void resetIsAppliedAfterPendingUpdates() throws Exception {
+        byte[] data = "abc".getBytes();
+
+        ChecksumPipeline pipeline = new ChecksumPipeline(SdkChecksum.forAlgorithm(Algorithm.SHA256), executor);
+        pipeline.update(new byte[] {1, 2, 3}, 0, 3);
+        pipeline.reset();
+        pipeline.update(data, 0, data.length);
+
+        assertThat(pipeline.flush().get(10, TimeUnit.SECONDS).getChecksumBytes()).isEqualTo(sha256(data));
+    }
+
+    @Test
+    public void failedUpdate_failsFlushAndLaterUpdatesStillDrain() throws Exception {
+        RuntimeException failure = new IllegalStateException("Digest failed");
+        FailingChecksum checksum = new FailingChecksum(failure);
+
+        ChecksumPipeline pipeline = new ChecksumPipeline(checksum, executor, 10);
+        RecordingSubscription upstream = new RecordingSubscription();
+        Subscription throttled = pipeline.throttle(upstream);
+
+        pipeline.update(new byte[10], 0, 10);
+        assertThatThrownBy(() -> pipeline.flush().get(10, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCause(failure);
+
+        // The pipeline is not stuck: later tasks are drained, and the failed bytes no longer count as pending.
+        pipeline.update(new byte[10], 0, 10);
+        assertThatThrownBy(() -> pipeline.flush().get(10, TimeUnit.SECONDS)).hasCause(failure);
+        throttled.request(1);
+        assertThat(upstream.requests).containsExactly(1L);
+        assertThat(checksum.updates.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void demandIsDeferredWhileTooManyBytesArePending() throws Exception {
+        ExecutorService blocked = Executors.newSingleThreadExecutor();
+        try {
+            // Hold the executor so that the submitted bytes stay pending.
+            CountDownLatch release = new CountDownLatch(1);
+            blocked.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            ChecksumPipeline pipeline = new ChecksumPipeline(SdkChecksum.forAlgorithm(Algorithm.CRC32C), blocked, 10);
+            RecordingSubscription upstream = new RecordingSubscription();
+            Subscription throttled = pipeline.throttle(upstream);
+
+            throttled.request(1);
+            assertThat(upstream.requests).containsExactly(1L);
+
+            pipeline.update(new byte[10], 0, 10);
+            throttled.request(1);
+            throttled.request(2);
+            assertThat(upstream.requests).containsExactly(1L);
+
+            release.countDown();
+            pipeline.flush().get(10, TimeUnit.SECONDS);
+            assertThat(upstream.requests).containsExactly(1L, 3L);
+        } finally {
+            blocked.shutdownNow();
+        }
+    }
+
+    private static byte[] sha256(byte[] data) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(Algorithm.SHA256);
+        checksum.update(data, 0, data.length);
+        return checksum.getChecksumBytes();
+    }
+
+    private static final class FailingChecksum implements SdkChecksum {
+        private final RuntimeException failure;
+        private final AtomicInteger updates = new AtomicInteger();
+
+        private FailingChecksum(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public void update(byte[] b, int off, int len) {
+            updates.incrementAndGet();
+            throw failure;
+        }
+
+        @Override
+        public void update(int b) {
+            update(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public byte[] getChecksumBytes() {
+            return new byte[0];
+        }
+
+        @Override
+        public void mark(int readLimit) {
+        }
+
+        @Override
+        public long getValue() {
+            return 0;
+        }
+
+        @Override
+        public void reset() {
+        }
+    }
+
+    private static final class RecordingSubscription implements Subscription {
+        private final List<Long> requests = new ArrayList<>();
+
+        @Override
+        public synchronized void request(long n) {
+            requests.add(n);
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -31,8 +31,11 @@ import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import com.github.tomakehurst.wiremock.stubbing.Scenario;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import org.apache.commons.lang3.ArrayUtils;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -44,6 +47,7 @@ import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.utils.BinaryUtils;
@@ -60,6 +64,10 @@ public class ChecksumResetsOnRetryTest {
 
     private S3AsyncClient s3AsyncClient;
 
+    private S3AsyncClient s3AsyncClientWithChecksumExecutor;
+
+    private ExecutorService checksumExecutor;
+
     private byte[] body;
 
     private byte[] bodyWithTrailingChecksum;
@@ -81,6 +89,16 @@ public class ChecksumResetsOnRetryTest {
                                      .endpointOverride(URI.create("http://localhost:" + mockServer.port()))
                                      .build();
 
+        checksumExecutor = Executors.newSingleThreadExecutor();
+        s3AsyncClientWithChecksumExecutor = S3AsyncClient.builder()
+                                                         .credentialsProvider(credentials)
+                                                         .region(Region.US_WEST_2)
+                                                         .endpointOverride(URI.create("http://localhost:" + mockServer.port()))
+                                                         .serviceConfiguration(S3Configuration.builder()
+                                                                                              .checksumExecutor(checksumExecutor)
+                                                                                              .build())
+                                                         .build();
+
         body = "foo".getBytes(StandardCharsets.UTF_8);
         String checksumAsHexString = "acbd18db4cc2f85cedef654fccc4a4d8";
         bodyEtag = "\"" + checksumAsHexString + "\"";
@@ -103,6 +121,15 @@ public class ChecksumResetsOnRetryTest {
         assertThat(response.eTag()).isEqualTo(bodyEtag);
     }
 
+    @Test
+    public void asyncPutObjectWithChecksumExecutor_resetsChecksumOnRetry() {
+        stubSuccessAfterOneRetry(r -> r.withHeader("ETag", bodyEtag));
+
+        PutObjectResponse response = s3AsyncClientWithChecksumExecutor.putObject(r -> r.bucket("foo").key("bar"),
+                                                                                 AsyncRequestBody.fromBytes(body)).join();
+        assertThat(response.eTag()).isEqualTo(bodyEtag);
+    }
+
     @Test
     public void syncGetObject_resetsChecksumOnRetry() {
         stubSuccessAfterOneRetry(r -> r.withHeader("ETag", bodyEtag)
@@ -127,6 +154,25 @@ public class ChecksumResetsOnRetryTest {
         assertThat(response.asByteArray()).isEqualTo(body);
     }
 
+    @Test
+    public void asyncGetObjectWithChecksumExecutor_resetsChecksumOnRetry() {
+        stubSuccessAfterOneRetry(r -> r.withHeader("ETag", bodyEtag)
+                                       .withHeader("x-amz-transfer-encoding", "append-md5")
+                                       .withHeader("content-length", Integer.toString(bodyWithTrailingChecksum.length))
+                                       .withBody(bodyWithTrailingChecksum));
+
+        ResponseBytes<GetObjectResponse> response =
+            s3AsyncClientWithChecksumExecutor.getObject(r -> r.bucket("foo").key("bar"), toBytes()).join();
+        assertThat(response.response().eTag()).isEqualTo(bodyEtag);
+        assertThat(response.asByteArray()).isEqualTo(body);
+    }
+
+    @After
+    public void tearDown() {
+        s3AsyncClientWithChecksumExecutor.close();
+        checksumExecutor.shutdown();
+    }
+
     private void stubSuccessAfterOneRetry(Consumer<ResponseDefinitionBuilder> successfulResponseModifier) {
         WireMock.reset();
 
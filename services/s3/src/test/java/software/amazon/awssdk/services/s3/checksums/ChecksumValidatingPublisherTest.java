@@ -25,6 +25,9 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.reactivestreams.Publisher;
@@ -105,6 +108,51 @@ public class ChecksumValidatingPublisherTest {
     }
   }
 
+  @Test
+  public void testTinyPacketsOnChecksumExecutor() throws InterruptedException {
+    for (int packetSize = 1; packetSize < CHECKSUM_SIZE; packetSize++) {
+      final ExecutorService checksumExecutor = Executors.newSingleThreadExecutor();
+      final TestPublisher driver = new TestPublisher();
+      final TestSubscriber s = new TestSubscriber(Arrays.copyOfRange(testData, 0, TEST_DATA_SIZE));
+      final ChecksumValidatingPublisher p = new ChecksumValidatingPublisher(driver, new Md5Checksum(), TEST_DATA_SIZE + CHECKSUM_SIZE,
+                                                                            checksumExecutor);
+      p.subscribe(s);
+      int currOffset = 0;
+      while (currOffset < TEST_DATA_SIZE + CHECKSUM_SIZE) {
+        final int toSend = Math.min(packetSize, TEST_DATA_SIZE + CHECKSUM_SIZE - currOffset);
+        driver.doOnNext(ByteBuffer.wrap(testData, currOffset, toSend));
+        currOffset += toSend;
+      }
+      driver.doOnComplete();
+
+      // The completion is signalled by the checksum executor once it hashed all the data.
+      checksumExecutor.shutdown();
+      assertTrue(checksumExecutor.awaitTermination(10, TimeUnit.SECONDS));
+      assertTrue(s.hasCompleted());
+      assertFalse(s.isOnErrorCalled());
+    }
+  }
+
+  @Test
+  public void checksumValidationFailureOnChecksumExecutor_callsOnError() throws InterruptedException {
+    final ExecutorService checksumExecutor = Executors.newSingleThreadExecutor();
+    final byte[] incorrectData = Arrays.copyOf(testData, testData.length);
+    incorrectData[0]++;
+    final TestPublisher driver = new TestPublisher();
+    final TestSubscriber s = new TestSubscriber(Arrays.copyOfRange(incorrectData, 0, TEST_DATA_SIZE));
+    final ChecksumValidatingPublisher p = new ChecksumValidatingPublisher(driver, new Md5Checksum(), TEST_DATA_SIZE + CHECKSUM_SIZE,
+                                                                          checksumExecutor);
+    p.subscribe(s);
+
+    driver.doOnNext(ByteBuffer.wrap(incorrectData));
+    driver.doOnComplete();
+
+    checksumExecutor.shutdown();
+    assertTrue(checksumExecutor.awaitTermination(10, TimeUnit.SECONDS));
+    assertTrue(s.isOnErrorCalled());
+    assertFalse(s.hasCompleted());
+  }
+
   @Test
   public void testUnknownLength() {
     // When the length is unknown, the last 16 bytes are treated as a checksum, but are later ignored when completing
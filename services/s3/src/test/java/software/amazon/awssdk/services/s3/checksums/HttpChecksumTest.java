@@ -0,0 +1,237 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.checksums;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.core.async.AsyncResponseTransformer.toBytes;
+
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+/**
+ * Verifies that the checksums selected on uploads are sent as trailing headers, and that the checksums returned on downloads
+ * are validated.
+ */
+public class HttpChecksumTest {
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(new WireMockConfiguration().port(0));
+
+    private S3Client s3Client;
+
+    private S3AsyncClient s3AsyncClient;
+
+    private byte[] body;
+
+    private String bodyCrc32c;
+
+    private String encodedBody;
+
+    @Before
+    public void setup() {
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid"));
+        s3Client = S3Client.builder()
+                           .credentialsProvider(credentials)
+                           .region(Region.US_WEST_2)
+                           .endpointOverride(URI.create("http://localhost:" + mockServer.port()))
+                           .build();
+
+        s3AsyncClient = S3AsyncClient.builder()
+                                     .credentialsProvider(credentials)
+                                     .region(Region.US_WEST_2)
+                                     .endpointOverride(URI.create("http://localhost:" + mockServer.port()))
+                                     .build();
+
+        body = "foo".getBytes(StandardCharsets.UTF_8);
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(Algorithm.CRC32C);
+        checksum.update(body, 0, body.length);
+        bodyCrc32c = BinaryUtils.toBase64(checksum.getChecksumBytes());
+        encodedBody = "3\r\nfoo\r\n0\r\nx-amz-checksum-crc32c:" + bodyCrc32c + "\r\n\r\n";
+    }
+
+    @Test
+    public void syncPutObject_sendsTrailingChecksum() {
+        stubFor(any(anyUrl()).willReturn(aResponse().withStatus(200).withHeader("ETag", "\"etag\"")));
+
+        s3Client.putObject(r -> r.bucket("foo").key("bar").checksumAlgorithm(ChecksumAlgorithm.CRC32_C),
+                           RequestBody.fromBytes(body));
+
+        verifyTrailingChecksumRequests(1);
+    }
+
+    @Test
+    public void asyncPutObject_sendsTrailingChecksum() {
+        stubFor(any(anyUrl()).willReturn(aResponse().withStatus(200).withHeader("ETag", "\"etag\"")));
+
+        s3AsyncClient.putObject(r -> r.bucket("foo").key("bar").checksumAlgorithm(ChecksumAlgorithm.CRC32_C),
+                                AsyncRequestBody.fromBytes(body)).join();
+
+        verifyTrailingChecksumRequests(1);
+    }
+
+    @Test
+    public void asyncPutObject_unknownContentLength_failsWithClearMessage() {
+        stubFor(any(anyUrl()).willReturn(aResponse().withStatus(200).withHeader("ETag", "\"etag\"")));
+
+        AsyncRequestBody unknownLength = AsyncRequestBody.fromPublisher(AsyncRequestBody.fromBytes(body));
+
+        assertThatThrownBy(() -> s3AsyncClient.putObject(r -> r.bucket("foo").key("bar")
+                                                               .checksumAlgorithm(ChecksumAlgorithm.CRC32_C),
+                                                         unknownLength).join())
+            .hasCauseInstanceOf(SdkClientException.class)
+            .hasMessageContaining("requires the length of the request body to be known");
+        verifyTrailingChecksumRequests(0);
+    }
+
+    @Test
+    public void syncPutObject_recomputesTrailingChecksumOnRetry() {
+        stubSuccessAfterOneRetry();
+
+        s3Client.putObject(r -> r.bucket("foo").key("bar").checksumAlgorithm(ChecksumAlgorithm.CRC32_C),
+                           RequestBody.fromBytes(body));
+
+        verifyTrailingChecksumRequests(2);
+    }
+
+    @Test
+    public void asyncPutObject_recomputesTrailingChecksumOnRetry() {
+        stubSuccessAfterOneRetry();
+
+        s3AsyncClient.putObject(r -> r.bucket("foo").key("bar").checksumAlgorithm(ChecksumAlgorithm.CRC32_C),
+                                AsyncRequestBody.fromBytes(body)).join();
+
+        verifyTrailingChecksumRequests(2);
+    }
+
+    @Test
+    public void syncGetObject_validatesReturnedChecksum() {
+        stubGetObject(bodyCrc32c);
+
+        ResponseBytes<GetObjectResponse> response =
+            s3Client.getObjectAsBytes(r -> r.bucket("foo").key("bar").checksumMode(ChecksumMode.ENABLED));
+
+        assertThat(response.asByteArray()).isEqualTo(body);
+        assertThat(response.response().checksumCRC32C()).isEqualTo(bodyCrc32c);
+        verify(anyRequestedFor(anyUrl()).withHeader("x-amz-checksum-mode", equalTo("ENABLED"))
+                                        .withoutHeader("x-amz-te"));
+    }
+
+    @Test
+    public void asyncGetObject_validatesReturnedChecksum() {
+        stubGetObject(bodyCrc32c);
+
+        ResponseBytes<GetObjectResponse> response =
+            s3AsyncClient.getObject(r -> r.bucket("foo").key("bar").checksumMode(ChecksumMode.ENABLED), toBytes()).join();
+
+        assertThat(response.asByteArray()).isEqualTo(body);
+    }
+
+    @Test
+    public void syncGetObject_failsOnChecksumMismatch() {
+        stubGetObject("AAAAAA==");
+
+        assertThatThrownBy(() -> s3Client.getObjectAsBytes(r -> r.bucket("foo").key("bar").checksumMode(ChecksumMode.ENABLED)))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("different checksum");
+    }
+
+    @Test
+    public void asyncGetObject_failsOnChecksumMismatch() {
+        stubGetObject("AAAAAA==");
+
+        assertThatThrownBy(() -> s3AsyncClient.getObject(r -> r.bucket("foo").key("bar").checksumMode(ChecksumMode.ENABLED),
+                                                         toBytes()).join())
+            .hasCauseInstanceOf(SdkClientException.class)
+            .hasMessageContaining("different checksum");
+    }
+
+    @Test
+    public void getObject_ignoresChecksumOfMultipartObjects() {
+        stubGetObject("AAAAAA==-2");
+
+        ResponseBytes<GetObjectResponse> response =
+            s3Client.getObjectAsBytes(r -> r.bucket("foo").key("bar").checksumMode(ChecksumMode.ENABLED));
+
+        assertThat(response.asByteArray()).isEqualTo(body);
+    }
+
+    private void verifyTrailingChecksumRequests(int count) {
+        List<LoggedRequest> requests = findAll(anyRequestedFor(anyUrl()));
+        assertThat(requests).hasSize(count);
+        for (LoggedRequest request : requests) {
+            assertThat(request.getHeader("Content-Encoding")).isEqualTo("aws-chunked");
+            assertThat(request.getHeader("x-amz-content-sha256")).isEqualTo("STREAMING-UNSIGNED-PAYLOAD-TRAILER");
+            assertThat(request.getHeader("x-amz-trailer")).isEqualTo("x-amz-checksum-crc32c");
+            assertThat(request.getHeader("x-amz-decoded-content-length")).isEqualTo("3");
+            assertThat(request.getHeader("x-amz-sdk-checksum-algorithm")).isEqualTo("CRC32C");
+            assertThat(request.getHeader("Content-Length")).isEqualTo(Integer.toString(encodedBody.length()));
+            assertThat(request.getBodyAsString()).isEqualTo(encodedBody);
+        }
+    }
+
+    private void stubGetObject(String checksum) {
+        stubFor(any(anyUrl()).willReturn(aResponse().withStatus(200)
+                                                    .withHeader("ETag", "\"etag\"")
+                                                    .withHeader("x-amz-checksum-crc32c", checksum)
+                                                    .withHeader("content-length", Integer.toString(body.length))
+                                                    .withBody(body)));
+    }
+
+    private void stubSuccessAfterOneRetry() {
+        String scenario = "stubSuccessAfterOneRetry";
+        stubFor(any(anyUrl())
+                    .willReturn(aResponse().withStatus(500).withBody("<xml></xml>"))
+                    .inScenario(scenario)
+                    .whenScenarioStateIs(Scenario.STARTED)
+                    .willSetStateTo("200"));
+
+        stubFor(any(anyUrl())
+                    .willReturn(aResponse().withStatus(200).withHeader("ETag", "\"etag\""))
+                    .inScenario(scenario)
+                    .whenScenarioStateIs("200"));
+    }
+}
@@ -0,0 +1,462 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.directory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Md5Utils;
+
+public class S3DirectoryTransferTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ScheduledExecutorService delayExecutor = Executors.newScheduledThreadPool(4);
+    private final FakeS3 s3 = new FakeS3();
+    private S3DirectoryTransfer directoryTransfer = S3DirectoryTransfer.builder().client(s3).build();
+
+    @After
+    public void tearDown() {
+        directoryTransfer.close();
+        delayExecutor.shutdownNow();
+    }
+
+    @Test
+    public void uploadDirectory_uploadsAllFilesOfTheTree() throws IOException {
+        Path source = temporaryFolder.newFolder("source").toPath();
+        write(source.resolve("a.txt"), "a");
+        write(source.resolve("sub/b.txt"), "bb");
+        write(source.resolve("sub/deep/c.txt"), "ccc");
+        Files.createDirectories(source.resolve("empty"));
+
+        DirectoryTransferResult result =
+            directoryTransfer.uploadDirectory(r -> r.sourceDirectory(source).bucket("bucket").prefix("site"))
+                             .completionFuture().join();
+
+        assertThat(s3.contents("site/a.txt")).isEqualTo("a");
+        assertThat(s3.contents("site/sub/b.txt")).isEqualTo("bb");
+        assertThat(s3.contents("site/sub/deep/c.txt")).isEqualTo("ccc");
+        assertThat(s3.objects).hasSize(3);
+        assertThat(result.failedTransfers()).isEmpty();
+        assertThat(result.progress().filesDiscovered()).isEqualTo(3);
+        assertThat(result.progress().filesTransferred()).isEqualTo(3);
+        assertThat(result.progress().bytesTransferred()).isEqualTo(6);
+        assertThat(result.progress().filesSkipped()).isZero();
+    }
+
+    @Test
+    public void uploadDirectory_sizeAndEtag_skipsFilesWithTheSameContent() throws IOException {
+        Path source = temporaryFolder.newFolder("source").toPath();
+        write(source.resolve("a.txt"), "aaa");
+        write(source.resolve("sub/b.txt"), "bbb");
+        write(source.resolve("sub/c.txt"), "ccc");
+        upload(source, ComparisonMode.SIZE_AND_ETAG);
+
+        write(source.resolve("sub/b.txt"), "xyz");
+        DirectoryTransferResult result = upload(source, ComparisonMode.SIZE_AND_ETAG);
+
+        assertThat(result.progress().filesTransferred()).isEqualTo(1);
+        assertThat(result.progress().filesSkipped()).isEqualTo(2);
+        assertThat(s3.contents("sub/b.txt")).isEqualTo("xyz");
+    }
+
+    @Test
+    public void uploadDirectory_sizeAndLastModified_skipsFilesNotModifiedSinceUploaded() throws IOException {
+        Path source = temporaryFolder.newFolder("source").toPath();
+        write(source.resolve("a.txt"), "aaa");
+        write(source.resolve("b.txt"), "bbb");
+        upload(source, ComparisonMode.SIZE_AND_LAST_MODIFIED);
+
+        Files.setLastModifiedTime(source.resolve("b.txt"), FileTime.from(Instant.now().plus(1, ChronoUnit.HOURS)));
+        DirectoryTransferResult result = upload(source, ComparisonMode.SIZE_AND_LAST_MODIFIED);
+
+        assertThat(result.progress().filesTransferred()).isEqualTo(1);
+        assertThat(result.progress().filesSkipped()).isEqualTo(1);
+    }
+
+    @Test
+    public void uploadDirectory_failedUpload_isReportedWithoutFailingTheTransfer() throws IOException {
+        Path source = temporaryFolder.newFolder("source").toPath();
+        write(source.resolve("fail.txt"), "a");
+        write(source.resolve("ok.txt"), "b");
+
+        DirectoryTransferResult result = upload(source, ComparisonMode.NONE);
+
+        assertThat(result.failedTransfers()).hasSize(1);
+        assertThat(result.failedTransfers().get(0).key()).isEqualTo("fail.txt");
+        assertThat(result.failedTransfers().get(0).path()).isEqualTo(source.resolve("fail.txt"));
+        assertThat(result.failedTransfers().get(0).exception()).isInstanceOf(S3Exception.class);
+        assertThat(result.progress().filesFailed()).isEqualTo(1);
+        assertThat(result.progress().filesTransferred()).isEqualTo(1);
+    }
+
+    @Test
+    public void uploadDirectory_missingSourceDirectory_failsTheTransfer() {
+        Path source = temporaryFolder.getRoot().toPath().resolve("missing");
+
+        assertThatThrownBy(() -> upload(source, ComparisonMode.NONE)).isInstanceOf(CompletionException.class)
+                                                                      .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void uploadDirectory_boundsConcurrentTransfersAndBytesInFlight() throws IOException {
+        s3.delayMillis = 20;
+        Path source = temporaryFolder.newFolder("source").toPath();
+        for (int i = 0; i < 30; i++) {
+            write(source.resolve("dir" + (i % 5) + "/file" + i), new String(new char[100]).replace('\0', 'x'));
+        }
+
+        directoryTransfer = S3DirectoryTransfer.builder().client(s3).maxConcurrentTransfers(4).maxBytesInFlight(250L)
+                                               .maxPendingFiles(3).build();
+        DirectoryTransferResult result = upload(source, ComparisonMode.NONE);
+
+        assertThat(s3.objects).hasSize(30);
+        assertThat(result.progress().filesTransferred()).isEqualTo(30);
+        assertThat(s3.maxConcurrentRequests.get()).isBetween(1, 2);
+    }
+
+    @Test
+    public void uploadDirectory_manyFilesInOneDirectory_boundsPendingFiles() throws IOException {
+        s3.delayMillis = 5;
+        Path source = temporaryFolder.newFolder("source").toPath();
+        for (int i = 0; i < 50; i++) {
+            write(source.resolve("file" + i), "x");
+        }
+
+        directoryTransfer = S3DirectoryTransfer.builder().client(s3).maxPendingFiles(3).build();
+        AtomicReference<DirectoryTransfer> transfer = new AtomicReference<>();
+        AtomicLong maxPendingFiles = new AtomicLong();
+        s3.onRequest = () -> {
+            DirectoryTransfer currentTransfer = transfer.get();
+            if (currentTransfer != null) {
+                TransferProgress progress = currentTransfer.progress();
+                long pendingFiles = progress.filesDiscovered() - progress.filesTransferred() - progress.filesSkipped() -
+                                    progress.filesFailed();
+                maxPendingFiles.accumulateAndGet(pendingFiles, Math::max);
+            }
+        };
+        transfer.set(directoryTransfer.uploadDirectory(r -> r.sourceDirectory(source).bucket("bucket")));
+        DirectoryTransferResult result = transfer.get().completionFuture().join();
+
+        assertThat(s3.objects).hasSize(50);
+        assertThat(result.progress().filesTransferred()).isEqualTo(50);
+        assertThat(maxPendingFiles.get()).isBetween(1L, 3L);
+    }
+
+    @Test
+    public void downloadDirectory_downloadsTheObjectsOfThePrefix() throws IOException {
+        s3.put("data/a.txt", "a");
+        s3.put("data/sub/b.txt", "bb");
+        s3.put("data/sub/", "");
+        s3.put("other/c.txt", "ccc");
+        Path destination = temporaryFolder.getRoot().toPath().resolve("destination");
+
+        DirectoryTransferResult result = download(destination, ComparisonMode.NONE);
+
+        assertThat(read(destination.resolve("a.txt"))).isEqualTo("a");
+        assertThat(read(destination.resolve("sub/b.txt"))).isEqualTo("bb");
+        assertThat(Files.getLastModifiedTime(destination.resolve("a.txt")).toInstant())
+            .isEqualTo(s3.objects.get("data/a.txt").lastModified);
+        assertThat(Files.exists(destination.resolve("c.txt"))).isFalse();
+        assertThat(Files.list(destination.resolve("sub")).count()).isEqualTo(1);
+        assertThat(result.failedTransfers()).isEmpty();
+        assertThat(result.progress().filesTransferred()).isEqualTo(2);
+        assertThat(result.progress().bytesTransferred()).isEqualTo(3);
+    }
+
+    @Test
+    public void downloadDirectory_skipsUpToDateFiles() throws IOException {
+        s3.put("data/a.txt", "aaa");
+        s3.put("data/b.txt", "bbb");
+        Path destination = temporaryFolder.getRoot().toPath().resolve("destination");
+        download(destination, ComparisonMode.NONE);
+
+        DirectoryTransferResult lastModified = download(destination, ComparisonMode.SIZE_AND_LAST_MODIFIED);
+        assertThat(lastModified.progress().filesSkipped()).isEqualTo(2);
+
+        write(destination.resolve("b.txt"), "xyz");
+        DirectoryTransferResult eTag = download(destination, ComparisonMode.SIZE_AND_ETAG);
+        assertThat(eTag.progress().filesSkipped()).isEqualTo(1);
+        assertThat(eTag.progress().filesTransferred()).isEqualTo(1);
+        assertThat(read(destination.resolve("b.txt"))).isEqualTo("bbb");
+    }
+
+    @Test
+    public void downloadDirectory_keyOutsideOfTheDestination_isReportedAsFailed() throws IOException {
+        s3.put("data/../../escaped.txt", "a");
+        s3.put("data/ok.txt", "b");
+        Path destination = temporaryFolder.getRoot().toPath().resolve("nested/destination");
+
+        DirectoryTransferResult result = download(destination, ComparisonMode.NONE);
+
+        assertThat(result.failedTransfers()).hasSize(1);
+        assertThat(result.failedTransfers().get(0).key()).isEqualTo("data/../../escaped.txt");
+        assertThat(Files.exists(temporaryFolder.getRoot().toPath().resolve("escaped.txt"))).isFalse();
+        assertThat(read(destination.resolve("ok.txt"))).isEqualTo("b");
+    }
+
+    @Test
+    public void downloadDirectory_failedDownload_leavesNoTemporaryFile() throws IOException {
+        s3.put("data/fail.txt", "a");
+        s3.put("data/ok.txt", "b");
+        Path destination = temporaryFolder.getRoot().toPath().resolve("destination");
+
+        DirectoryTransferResult result = download(destination, ComparisonMode.NONE);
+
+        assertThat(result.failedTransfers()).hasSize(1);
+        assertThat(Files.list(destination).map(p -> p.getFileName().toString())).containsExactly("ok.txt");
+    }
+
+    @Test
+    public void downloadDirectory_withFewPendingFiles_downloadsAllObjects() throws IOException {
+        s3.delayMillis = 5;
+        for (int i = 0; i < 40; i++) {
+            s3.put("data/dir" + (i % 4) + "/file" + i, Integer.toString(i));
+        }
+        Path destination = temporaryFolder.getRoot().toPath().resolve("destination");
+
+        directoryTransfer = S3DirectoryTransfer.builder().client(s3).maxPendingFiles(2).build();
+        DirectoryTransferResult result = download(destination, ComparisonMode.NONE);
+
+        assertThat(result.progress().filesTransferred()).isEqualTo(40);
+        assertThat(s3.maxConcurrentRequests.get()).isLessThanOrEqualTo(2);
+        assertThat(read(destination.resolve("dir3/file7"))).isEqualTo("7");
+    }
+
+    private DirectoryTransferResult upload(Path source, ComparisonMode comparisonMode) {
+        return directoryTransfer.uploadDirectory(r -> r.sourceDirectory(source).bucket("bucket").comparisonMode(comparisonMode))
+                                .completionFuture()
+                                .join();
+    }
+
+    private DirectoryTransferResult download(Path destination, ComparisonMode comparisonMode) {
+        return directoryTransfer.downloadDirectory(r -> r.bucket("bucket")
+                                                         .prefix("data/")
+                                                         .destinationDirectory(destination)
+                                                         .comparisonMode(comparisonMode))
+                                .completionFuture()
+                                .join();
+    }
+
+    private static void write(Path file, String contents) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private static final class StoredObject {
+        private final byte[] contents;
+        private final String eTag;
+        private final Instant lastModified;
+
+        private StoredObject(byte[] contents) {
+            this.contents = contents;
+            this.eTag = "\"" + BinaryUtils.toHex(Md5Utils.computeMD5Hash(contents)) + "\"";
+            this.lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        }
+    }
+
+    private final class FakeS3 implements S3AsyncClient {
+        private final NavigableMap<String, StoredObject> objects = new ConcurrentSkipListMap<>();
+        private final AtomicInteger concurrentRequests = new AtomicInteger();
+        private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+        private volatile long delayMillis;
+        private volatile Runnable onRequest = () -> { };
+
+        private void put(String key, String contents) {
+            objects.put(key, new StoredObject(contents.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        private String contents(String key) {
+            return new String(objects.get(key).contents, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest request, AsyncRequestBody requestBody) {
+            started();
+            CompletableFuture<PutObjectResponse> response = new CompletableFuture<>();
+            ByteArrayOutputStream contents = new ByteArrayOutputStream();
+            requestBody.subscribe(new Subscriber<ByteBuffer>() {
+                @Override
+                public void onSubscribe(Subscription s) {
+                    s.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(ByteBuffer byteBuffer) {
+                    byte[] bytes = BinaryUtils.copyBytesFrom(byteBuffer);
+                    contents.write(bytes, 0, bytes.length);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    response.completeExceptionally(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    if (request.key().contains("fail")) {
+                        response.completeExceptionally(S3Exception.builder().message("Upload failed").build());
+                    } else {
+                        objects.put(request.key(), new StoredObject(contents.toByteArray()));
+                        response.complete(PutObjectResponse.builder().build());
+                    }
+                }
+            });
+            return finished(response);
+        }
+
+        @Override
+        public <ReturnT> CompletableFuture<ReturnT> getObject(GetObjectRequest request,
+                                                              AsyncResponseTransformer<GetObjectResponse, ReturnT> transformer) {
+            started();
+            CompletableFuture<ReturnT> result = transformer.prepare();
+            StoredObject object = objects.get(request.key());
+            if (request.key().contains("fail")) {
+                transformer.onResponse(GetObjectResponse.builder().lastModified(object.lastModified).build());
+                transformer.onStream(AsyncRequestBody.fromBytes(object.contents));
+                // Fail the download once the file was partially written
+                CompletableFuture<ReturnT> failed = new CompletableFuture<>();
+                result.whenComplete((r, t) -> failed.completeExceptionally(S3Exception.builder()
+                                                                                      .message("Download failed")
+                                                                                      .build()));
+                return finished(failed);
+            }
+            transformer.onResponse(GetObjectResponse.builder().lastModified(object.lastModified).eTag(object.eTag).build());
+            transformer.onStream(AsyncRequestBody.fromBytes(object.contents));
+            return finished(result);
+        }
+
+        @Override
+        public CompletableFuture<ListObjectsV2Response> listObjectsV2(ListObjectsV2Request request) {
+            String prefix = request.prefix() == null ? "" : request.prefix();
+            String after = request.continuationToken();
+            Map<String, StoredObject> tail = after == null ? objects.tailMap(prefix, true) : objects.tailMap(after, false);
+
+            List<S3Object> contents = new ArrayList<>();
+            List<CommonPrefix> commonPrefixes = new ArrayList<>();
+            String last = null;
+            for (Map.Entry<String, StoredObject> entry : tail.entrySet()) {
+                String key = entry.getKey();
+                if (!key.startsWith(prefix)) {
+                    break;
+                }
+                if (contents.size() + commonPrefixes.size() == 2) {
+                    return CompletableFuture.completedFuture(ListObjectsV2Response.builder()
+                                                                                  .contents(contents)
+                                                                                  .commonPrefixes(commonPrefixes)
+                                                                                  .isTruncated(true)
+                                                                                  .nextContinuationToken(last)
+                                                                                  .build());
+                }
+                int delimiterIndex = request.delimiter() == null ? -1 : key.indexOf(request.delimiter(), prefix.length());
+                if (delimiterIndex >= 0) {
+                    String commonPrefix = key.substring(0, delimiterIndex + 1);
+                    if (commonPrefixes.isEmpty() || !commonPrefixes.get(commonPrefixes.size() - 1).prefix().equals(commonPrefix)) {
+                        commonPrefixes.add(CommonPrefix.builder().prefix(commonPrefix).build());
+                    }
+                    last = commonPrefix + Character.MAX_VALUE;
+                } else {
+                    StoredObject object = entry.getValue();
+                    contents.add(S3Object.builder()
+                                         .key(key)
+                                         .size((long) object.contents.length)
+                                         .eTag(object.eTag)
+                                         .lastModified(object.lastModified)
+                                         .build());
+                    last = key;
+                }
+            }
+            return CompletableFuture.completedFuture(ListObjectsV2Response.builder()
+                                                                          .contents(contents)
+                                                                          .commonPrefixes(commonPrefixes)
+                                                                          .isTruncated(false)
+                                                                          .build());
+        }
+
+        private void started() {
+            onRequest.run();
+            int concurrent = concurrentRequests.incrementAndGet();
+            maxConcurrentRequests.accumulateAndGet(concurrent, Math::max);
+        }
+
+        private <T> CompletableFuture<T> finished(CompletableFuture<T> response) {
+            CompletableFuture<T> delayed = new CompletableFuture<>();
+            response.whenComplete((r, t) -> delayExecutor.schedule(() -> {
+                concurrentRequests.decrementAndGet();
+                if (t != null) {
+                    delayed.completeExceptionally(t);
+                } else {
+                    delayed.complete(r);
+                }
+            }, delayMillis, TimeUnit.MILLISECONDS));
+            return delayed;
+        }
+
+        @Override
+        public String serviceName() {
+            return "s3";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
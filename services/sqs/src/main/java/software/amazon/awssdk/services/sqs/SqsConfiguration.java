@@ -0,0 +1,156 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs;
+
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.ServiceConfiguration;
+import software.amazon.awssdk.profiles.ProfileFile;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * SQS specific configuration allowing customers to validate the MD5 checksums of message batches in parallel.
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public final class SqsConfiguration implements ServiceConfiguration,
+                                               ToCopyableBuilder<SqsConfiguration.Builder, SqsConfiguration> {
+    private final Executor md5ValidationExecutor;
+    private final ProfileFile profileFile;
+    private final String profileName;
+
+    private SqsConfiguration(DefaultSqsServiceConfigurationBuilder builder) {
+        this.md5ValidationExecutor = builder.md5ValidationExecutor;
+        this.profileFile = builder.profileFile;
+        this.profileName = builder.profileName;
+    }
+
+    /**
+     * Create a {@link Builder}, used to create a {@link SqsConfiguration}.
+     */
+    public static Builder builder() {
+        return new DefaultSqsServiceConfigurationBuilder();
+    }
+
+    /**
+     * Returns the executor used to validate the MD5 checksums of the messages in a ReceiveMessage or SendMessageBatch response
+     * in parallel, or null if they are validated one after the other on the thread completing the request.
+     *
+     * @return The executor used for MD5 validation, or null.
+     */
+    public Executor md5ValidationExecutor() {
+        return md5ValidationExecutor;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder()
+                .md5ValidationExecutor(md5ValidationExecutor)
+                .profileFile(profileFile)
+                .profileName(profileName);
+    }
+
+    @NotThreadSafe
+    public interface Builder extends CopyableBuilder<Builder, SqsConfiguration> {
+        Executor md5ValidationExecutor();
+
+        /**
+         * The executor used to validate the MD5 checksums of the messages in a ReceiveMessage or SendMessageBatch response in
+         * parallel. The thread completing the request validates messages too, until none is left, and then waits for the
+         * messages that the executor's threads are still validating. It never waits for a task that the executor has not
+         * started, so a saturated executor, or the executor that completes the requests of an async client, slows the
+         * validation down but cannot block it.
+         *
+         * <p>
+         * By default no executor is used, and the messages are validated one after the other. The executor is not shut down
+         * when the client is closed.
+         * </p>
+         *
+         * @see SqsConfiguration#md5ValidationExecutor().
+         */
+        Builder md5ValidationExecutor(Executor md5ValidationExecutor);
+
+        ProfileFile profileFile();
+
+        /**
+         * The profile file that should be consulted to determine the service-specific default configuration. This is not
+         * currently used by SQS, but may be in a future SDK version.
+         */
+        Builder profileFile(ProfileFile profileFile);
+
+        String profileName();
+
+        /**
+         * The profile name that should be consulted to determine the service-specific default configuration. This is not
+         * currently used by SQS, but may be in a future SDK version.
+         */
+        Builder profileName(String profileName);
+    }
+
+    private static final class DefaultSqsServiceConfigurationBuilder implements Builder {
+
+        private Executor md5ValidationExecutor;
+        private ProfileFile profileFile;
+        private String profileName;
+
+        @Override
+        public Executor md5ValidationExecutor() {
+            return md5ValidationExecutor;
+        }
+
+        @Override
+        public Builder md5ValidationExecutor(Executor md5ValidationExecutor) {
+            this.md5ValidationExecutor = md5ValidationExecutor;
+            return this;
+        }
+
+        public void setMd5ValidationExecutor(Executor md5ValidationExecutor) {
+            md5ValidationExecutor(md5ValidationExecutor);
+        }
+
+        @Override
+        public ProfileFile profileFile() {
+            return profileFile;
+        }
+
+        @Override
+        public Builder profileFile(ProfileFile profileFile) {
+            this.profileFile = profileFile;
+            return this;
+        }
+
+        @Override
+        public String profileName() {
+            return profileName;
+        }
+
+        @Override
+        public Builder profileName(String profileName) {
+            this.profileName = profileName;
+            return this;
+        }
+
+        @Override
+        public SqsConfiguration build() {
+            return new SqsConfiguration(this);
+        }
+    }
+}
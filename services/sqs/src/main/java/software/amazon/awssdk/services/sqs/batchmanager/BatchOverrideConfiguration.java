@@ -0,0 +1,194 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration of how a {@link SqsAsyncBatchManager} groups requests into batches. Values that are not set use the defaults
+ * documented on the {@link Builder}.
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public final class BatchOverrideConfiguration implements ToCopyableBuilder<BatchOverrideConfiguration.Builder,
+                                                                          BatchOverrideConfiguration> {
+    /**
+     * The maximum number of entries SQS accepts in a batch request.
+     */
+    public static final int MAX_BATCH_SIZE = 10;
+
+    /**
+     * The maximum total size of the messages SQS accepts in a {@code SendMessageBatch} request, in bytes.
+     */
+    public static final int MAX_BATCH_PAYLOAD_SIZE_IN_BYTES = 256 * 1024;
+
+    private final Integer maxBatchSize;
+    private final Duration linger;
+    private final Integer maxBatchPayloadSizeInBytes;
+
+    private BatchOverrideConfiguration(DefaultBuilder builder) {
+        this.maxBatchSize = Validate.isPositiveOrNull(builder.maxBatchSize, "maxBatchSize");
+        Validate.isTrue(maxBatchSize == null || maxBatchSize <= MAX_BATCH_SIZE,
+                        "maxBatchSize must not be greater than %s.", MAX_BATCH_SIZE);
+        this.linger = Validate.isPositiveOrNull(builder.linger, "linger");
+        this.maxBatchPayloadSizeInBytes = Validate.isPositiveOrNull(builder.maxBatchPayloadSizeInBytes,
+                                                                    "maxBatchPayloadSizeInBytes");
+        Validate.isTrue(maxBatchPayloadSizeInBytes == null || maxBatchPayloadSizeInBytes <= MAX_BATCH_PAYLOAD_SIZE_IN_BYTES,
+                        "maxBatchPayloadSizeInBytes must not be greater than %s.", MAX_BATCH_PAYLOAD_SIZE_IN_BYTES);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * The maximum number of requests in a batch.
+     *
+     * @see Builder#maxBatchSize(Integer)
+     */
+    public Optional<Integer> maxBatchSize() {
+        return Optional.ofNullable(maxBatchSize);
+    }
+
+    /**
+     * How long a batch waits for more requests after its first request was added, before it is sent.
+     *
+     * @see Builder#linger(Duration)
+     */
+    public Optional<Duration> linger() {
+        return Optional.ofNullable(linger);
+    }
+
+    /**
+     * The maximum total size of the messages in a {@code SendMessageBatch} request, in bytes.
+     *
+     * @see Builder#maxBatchPayloadSizeInBytes(Integer)
+     */
+    public Optional<Integer> maxBatchPayloadSizeInBytes() {
+        return Optional.ofNullable(maxBatchPayloadSizeInBytes);
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BatchOverrideConfiguration that = (BatchOverrideConfiguration) o;
+        return Objects.equals(maxBatchSize, that.maxBatchSize) &&
+               Objects.equals(linger, that.linger) &&
+               Objects.equals(maxBatchPayloadSizeInBytes, that.maxBatchPayloadSizeInBytes);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(maxBatchSize);
+        result = 31 * result + Objects.hashCode(linger);
+        result = 31 * result + Objects.hashCode(maxBatchPayloadSizeInBytes);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BatchOverrideConfiguration")
+                       .add("maxBatchSize", maxBatchSize)
+                       .add("linger", linger)
+                       .add("maxBatchPayloadSizeInBytes", maxBatchPayloadSizeInBytes)
+                       .build();
+    }
+
+    /**
+     * A builder for creating a {@link BatchOverrideConfiguration}. Created via {@link #builder()}.
+     */
+    @NotThreadSafe
+    public interface Builder extends CopyableBuilder<Builder, BatchOverrideConfiguration> {
+        /**
+         * The maximum number of requests in a batch. A batch is sent as soon as it contains this many requests. This must be
+         * between 1 and {@value BatchOverrideConfiguration#MAX_BATCH_SIZE}, which is also the default.
+         */
+        Builder maxBatchSize(Integer maxBatchSize);
+
+        /**
+         * How long a batch waits for more requests after its first request was added, before it is sent. Longer durations
+         * result in fuller batches, at the cost of a higher latency for each request. The default is 50 milliseconds.
+         */
+        Builder linger(Duration linger);
+
+        /**
+         * The maximum total size of the messages in a {@code SendMessageBatch} request, in bytes. The size of a message is the
+         * size of its body plus the size of the names, types and values of its message attributes. A message that does not fit
+         * in the current batch is added to a new batch. This must be between 1 and
+         * {@value BatchOverrideConfiguration#MAX_BATCH_PAYLOAD_SIZE_IN_BYTES}, which is also the default.
+         */
+        Builder maxBatchPayloadSizeInBytes(Integer maxBatchPayloadSizeInBytes);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Integer maxBatchSize;
+        private Duration linger;
+        private Integer maxBatchPayloadSizeInBytes;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(BatchOverrideConfiguration configuration) {
+            this.maxBatchSize = configuration.maxBatchSize;
+            this.linger = configuration.linger;
+            this.maxBatchPayloadSizeInBytes = configuration.maxBatchPayloadSizeInBytes;
+        }
+
+        @Override
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        @Override
+        public Builder linger(Duration linger) {
+            this.linger = linger;
+            return this;
+        }
+
+        @Override
+        public Builder maxBatchPayloadSizeInBytes(Integer maxBatchPayloadSizeInBytes) {
+            this.maxBatchPayloadSizeInBytes = maxBatchPayloadSizeInBytes;
+            return this;
+        }
+
+        @Override
+        public BatchOverrideConfiguration build() {
+            return new BatchOverrideConfiguration(this);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.internal.batchmanager.DefaultSqsAsyncBatchManager;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Groups individual {@code SendMessage}, {@code DeleteMessage} and {@code ChangeMessageVisibility} calls to the same queue into
+ * {@code SendMessageBatch}, {@code DeleteMessageBatch} and {@code ChangeMessageVisibilityBatch} calls made with an
+ * {@link SqsAsyncClient}, reducing the number of requests sent to SQS.
+ * <p/>
+ * A batch is sent as soon as it is full, or when the configured {@link BatchOverrideConfiguration#linger()} has elapsed since
+ * its first request was added. The future returned for each request is completed with the result of its entry in the batch: a
+ * response equivalent to the one of the individual call, or an {@link software.amazon.awssdk.services.sqs.model.SqsException}
+ * if SQS could not process the entry.
+ * <p/>
+ * Requests are only batched together if they have the same queue URL and the same override configuration.
+ *
+ * <b>Example Usage</b>
+ * <p/>
+ *
+ * <pre>
+ * {@code
+ *     SqsAsyncClient sqs = SqsAsyncClient.create();
+ *
+ *     SqsAsyncBatchManager batchManager =
+ *         SqsAsyncBatchManager.builder()
+ *                             .client(sqs)
+ *                             .overrideConfiguration(c -> c.maxBatchSize(10).linger(Duration.ofMillis(50)))
+ *                             .build();
+ *
+ *     CompletableFuture<SendMessageResponse> response =
+ *         batchManager.sendMessage(r -> r.queueUrl(queueUrl).messageBody("Hello"));
+ *
+ *     // Send the requests that are still buffered, and release the resources of the batch manager.
+ *     batchManager.close();
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface SqsAsyncBatchManager extends SdkAutoCloseable {
+    /**
+     * Create a builder that can be used to configure and create a {@link SqsAsyncBatchManager}.
+     */
+    static Builder builder() {
+        return DefaultSqsAsyncBatchManager.builder();
+    }
+
+    /**
+     * Add a {@link SendMessageRequest} to the batch of its queue, to be sent as part of a {@code SendMessageBatch} call.
+     *
+     * @return A future that is completed with the result of the message's entry in the batch.
+     */
+    CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest request);
+
+    /**
+     * Add a {@link SendMessageRequest} to the batch of its queue, to be sent as part of a {@code SendMessageBatch} call.
+     * <p/>
+     * This is a shorter method of invoking {@link #sendMessage(SendMessageRequest)} without needing to call
+     * {@code SendMessageRequest.builder()} or {@code .build()}.
+     */
+    default CompletableFuture<SendMessageResponse> sendMessage(Consumer<SendMessageRequest.Builder> request) {
+        return sendMessage(SendMessageRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Add a {@link DeleteMessageRequest} to the batch of its queue, to be sent as part of a {@code DeleteMessageBatch} call.
+     *
+     * @return A future that is completed with the result of the message's entry in the batch.
+     */
+    CompletableFuture<DeleteMessageResponse> deleteMessage(DeleteMessageRequest request);
+
+    /**
+     * Add a {@link DeleteMessageRequest} to the batch of its queue, to be sent as part of a {@code DeleteMessageBatch} call.
+     * <p/>
+     * This is a shorter method of invoking {@link #deleteMessage(DeleteMessageRequest)} without needing to call
+     * {@code DeleteMessageRequest.builder()} or {@code .build()}.
+     */
+    default CompletableFuture<DeleteMessageResponse> deleteMessage(Consumer<DeleteMessageRequest.Builder> request) {
+        return deleteMessage(DeleteMessageRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Add a {@link ChangeMessageVisibilityRequest} to the batch of its queue, to be sent as part of a
+     * {@code ChangeMessageVisibilityBatch} call.
+     *
+     * @return A future that is completed with the result of the message's entry in the batch.
+     */
+    CompletableFuture<ChangeMessageVisibilityResponse> changeMessageVisibility(ChangeMessageVisibilityRequest request);
+
+    /**
+     * Add a {@link ChangeMessageVisibilityRequest} to the batch of its queue, to be sent as part of a
+     * {@code ChangeMessageVisibilityBatch} call.
+     * <p/>
+     * This is a shorter method of invoking {@link #changeMessageVisibility(ChangeMessageVisibilityRequest)} without needing to
+     * call {@code ChangeMessageVisibilityRequest.builder()} or {@code .build()}.
+     */
+    default CompletableFuture<ChangeMessageVisibilityResponse> changeMessageVisibility(
+        Consumer<ChangeMessageVisibilityRequest.Builder> request) {
+        return changeMessageVisibility(ChangeMessageVisibilityRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Send the requests that are buffered, and release the resources of this batch manager. Requests made after the batch
+     * manager is closed fail with an {@link IllegalStateException}.
+     * <p/>
+     * This does not close the {@link SqsAsyncClient} the batch manager was created with, nor a
+     * {@link ScheduledExecutorService} provided with {@link Builder#scheduledExecutor(ScheduledExecutorService)}.
+     */
+    @Override
+    void close();
+
+    /**
+     * A builder for creating a {@link SqsAsyncBatchManager}. Created via {@link #builder()}.
+     */
+    @NotThreadSafe
+    interface Builder {
+        /**
+         * The client used to send the batch requests. This is required.
+         */
+        Builder client(SqsAsyncClient client);
+
+        /**
+         * The executor used to send batches whose linger time elapsed. If not specified, the batch manager creates a single
+         * daemon thread, which is shut down when the batch manager is closed.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Configure how requests are grouped into batches.
+         */
+        Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration);
+
+        /**
+         * Configure how requests are grouped into batches.
+         * <p/>
+         * This is a shorter method of invoking {@link #overrideConfiguration(BatchOverrideConfiguration)} without needing to
+         * call {@code BatchOverrideConfiguration.builder()} or {@code .build()}.
+         */
+        default Builder overrideConfiguration(Consumer<BatchOverrideConfiguration.Builder> overrideConfiguration) {
+            return overrideConfiguration(BatchOverrideConfiguration.builder().applyMutation(overrideConfiguration).build());
+        }
+
+        /**
+         * Create the batch manager.
+         */
+        SqsAsyncBatchManager build();
+    }
+}
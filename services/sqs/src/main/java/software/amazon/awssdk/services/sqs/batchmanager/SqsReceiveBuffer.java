@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.internal.batchmanager.DefaultSqsReceiveBuffer;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Prefetches the messages of a queue with concurrent long-polling {@code ReceiveMessage} calls made with an
+ * {@link SqsAsyncClient}, and publishes them to a single subscriber as it requests them.
+ * <p/>
+ * Up to {@link Builder#maxConcurrentReceives(Integer)} receive calls are kept in flight, as long as the messages they can
+ * return fit in the buffer of {@link Builder#maxBufferedMessages(Integer)} messages. This removes the gaps between the receive
+ * calls of a consumer, and fills each of them with as many messages as possible.
+ * <p/>
+ * Messages are only hidden from other consumers for the visibility timeout of the receive call that returned them. A buffered
+ * message is not published once most of its visibility timeout has elapsed: it is released back to the queue instead, by
+ * setting its visibility timeout to zero, so that it can be received again. Messages that are buffered when the buffer is
+ * closed or its subscription is cancelled are released the same way. Messages received with a visibility timeout of zero are
+ * visible to other consumers right away, so they are not prefetched: they are only received for the messages the subscriber
+ * requested, one receive call at a time.
+ * <p/>
+ * The receive calls are validated by the client like any other call, including the validation of the MD5 digests of the
+ * messages. When a receive call fails with an error the client would retry, such as a throttling or server error, receive
+ * calls are paused for an exponential backoff. Any other error is signalled to the subscriber, and stops the buffer.
+ *
+ * <b>Example Usage</b>
+ * <p/>
+ *
+ * <pre>
+ * {@code
+ *     SqsReceiveBuffer receiveBuffer =
+ *         SqsReceiveBuffer.builder()
+ *                         .client(sqs)
+ *                         .receiveMessageRequest(r -> r.queueUrl(queueUrl).visibilityTimeout(60))
+ *                         .maxConcurrentReceives(4)
+ *                         .build();
+ *
+ *     receiveBuffer.messages().subscribe(message -> process(message));
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface SqsReceiveBuffer extends SdkAutoCloseable {
+    /**
+     * Create a builder that can be used to configure and create a {@link SqsReceiveBuffer}.
+     */
+    static Builder builder() {
+        return DefaultSqsReceiveBuffer.builder();
+    }
+
+    /**
+     * The messages of the queue. The publisher only supports a single subscriber, and starts receiving messages when it is
+     * subscribed to.
+     */
+    SdkPublisher<Message> messages();
+
+    /**
+     * Stop receiving messages, release the buffered messages back to the queue and complete the subscriber.
+     * <p/>
+     * This does not close the {@link SqsAsyncClient} the buffer was created with, nor a {@link ScheduledExecutorService}
+     * provided with {@link Builder#scheduledExecutor(ScheduledExecutorService)}.
+     */
+    @Override
+    void close();
+
+    /**
+     * A builder for creating a {@link SqsReceiveBuffer}. Created via {@link #builder()}.
+     */
+    @NotThreadSafe
+    interface Builder {
+        /**
+         * The client used to receive and release messages. This is required.
+         */
+        Builder client(SqsAsyncClient client);
+
+        /**
+         * The request used to receive messages. This is required, and must have a queue URL.
+         * <p/>
+         * If the request does not specify a wait time, a wait time of 20 seconds is used, so that receive calls long-poll. If it
+         * does not specify a maximum number of messages, each receive call returns up to 10 messages. If it does not specify a
+         * visibility timeout, the visibility timeout of the queue is retrieved before the first receive call.
+         */
+        Builder receiveMessageRequest(ReceiveMessageRequest receiveMessageRequest);
+
+        /**
+         * The request used to receive messages.
+         * <p/>
+         * This is a shorter method of invoking {@link #receiveMessageRequest(ReceiveMessageRequest)} without needing to call
+         * {@code ReceiveMessageRequest.builder()} or {@code .build()}.
+         */
+        default Builder receiveMessageRequest(Consumer<ReceiveMessageRequest.Builder> receiveMessageRequest) {
+            return receiveMessageRequest(ReceiveMessageRequest.builder().applyMutation(receiveMessageRequest).build());
+        }
+
+        /**
+         * The maximum number of receive calls in flight at the same time. The default is 2.
+         */
+        Builder maxConcurrentReceives(Integer maxConcurrentReceives);
+
+        /**
+         * The maximum number of messages that are buffered or could be returned by the receive calls in flight. The default is
+         * 20.
+         */
+        Builder maxBufferedMessages(Integer maxBufferedMessages);
+
+        /**
+         * The executor used to release the buffered messages whose visibility timeout is about to expire. If not specified, the
+         * buffer creates a single daemon thread, which is shut down when the buffer is closed.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Create the receive buffer.
+         */
+        SqsReceiveBuffer build();
+    }
+}
@@ -15,14 +15,19 @@
 
 package software.amazon.awssdk.services.sqs.internal;
 
-import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkRequest;
@@ -31,6 +36,8 @@ import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.Context;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.sqs.SqsConfiguration;
 import software.amazon.awssdk.services.sqs.model.Message;
 import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
@@ -43,22 +50,29 @@ import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Logger;
-import software.amazon.awssdk.utils.Md5Utils;
 
 /**
  * SQS operations on sending and receiving messages will return the MD5 digest of the message body.
  * This custom request handler will verify that the message is correctly received by SQS, by
  * comparing the returned MD5 with the calculation according to the original request.
+ * <p>
+ * Each response is validated with one {@link MessageDigest} and scratch buffer, and strings are UTF-8 encoded straight into
+ * the digest, so validating the messages of a response does not allocate per message unless the validation fails. When
+ * {@link SqsConfiguration#md5ValidationExecutor()} is configured, the messages of a receive or send batch response are
+ * validated in parallel on that executor, each with its own digest.
  */
 @SdkInternalApi
 public final class MessageMD5ChecksumInterceptor implements ExecutionInterceptor {
 
-    private static final int INTEGER_SIZE_IN_BYTES = 4;
     private static final byte STRING_TYPE_FIELD_INDEX = 1;
     private static final byte BINARY_TYPE_FIELD_INDEX = 2;
     private static final byte STRING_LIST_TYPE_FIELD_INDEX = 3;
     private static final byte BINARY_LIST_TYPE_FIELD_INDEX = 4;
 
+    private static final int MD5_LENGTH_IN_BYTES = 16;
+    private static final int SCRATCH_BUFFER_SIZE = 4096;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     /*
      * Constant strings for composing error message.
      */
@@ -85,41 +99,40 @@ public final class MessageMD5ChecksumInterceptor implements ExecutionInterceptor
 
             } else if (originalRequest instanceof ReceiveMessageRequest) {
                 ReceiveMessageResponse receiveMessageResult = (ReceiveMessageResponse) response;
-                receiveMessageResultMd5Check(receiveMessageResult);
+                receiveMessageResultMd5Check(receiveMessageResult, md5ValidationExecutor(executionAttributes));
 
             } else if (originalRequest instanceof SendMessageBatchRequest) {
                 SendMessageBatchRequest sendMessageBatchRequest = (SendMessageBatchRequest) originalRequest;
                 SendMessageBatchResponse sendMessageBatchResult = (SendMessageBatchResponse) response;
-                sendMessageBatchOperationMd5Check(sendMessageBatchRequest, sendMessageBatchResult);
+                sendMessageBatchOperationMd5Check(sendMessageBatchRequest, sendMessageBatchResult,
+                                                  md5ValidationExecutor(executionAttributes));
             }
         }
     }
 
+    private static Executor md5ValidationExecutor(ExecutionAttributes executionAttributes) {
+        Object serviceConfig = executionAttributes.getAttribute(SdkExecutionAttribute.SERVICE_CONFIG);
+        return serviceConfig instanceof SqsConfiguration ? ((SqsConfiguration) serviceConfig).md5ValidationExecutor() : null;
+    }
+
     /**
      * Throw an exception if the MD5 checksums returned in the SendMessageResponse do not match the
      * client-side calculation based on the original message in the SendMessageRequest.
      */
     private static void sendMessageOperationMd5Check(SendMessageRequest sendMessageRequest,
                                                      SendMessageResponse sendMessageResult) {
-        String messageBodySent = sendMessageRequest.messageBody();
+        Md5Calculator calculator = new Md5Calculator();
+
         String bodyMd5Returned = sendMessageResult.md5OfMessageBody();
-        String clientSideBodyMd5 = calculateMessageBodyMd5(messageBodySent);
-        if (!clientSideBodyMd5.equals(bodyMd5Returned)) {
-            throw SdkClientException.builder()
-                                    .message(String.format(MD5_MISMATCH_ERROR_MESSAGE, MESSAGE_BODY, clientSideBodyMd5,
-                                                          bodyMd5Returned))
-                                    .build();
+        if (!calculator.messageBodyMd5Matches(sendMessageRequest.messageBody(), bodyMd5Returned)) {
+            throw mismatchException(MESSAGE_BODY, null, calculator.lastMd5Hex(), bodyMd5Returned);
         }
 
         Map<String, MessageAttributeValue> messageAttrSent = sendMessageRequest.messageAttributes();
         if (messageAttrSent != null && !messageAttrSent.isEmpty()) {
-            String clientSideAttrMd5 = calculateMessageAttributesMd5(messageAttrSent);
             String attrMd5Returned = sendMessageResult.md5OfMessageAttributes();
-            if (!clientSideAttrMd5.equals(attrMd5Returned)) {
-                throw SdkClientException.builder()
-                                        .message(String.format(MD5_MISMATCH_ERROR_MESSAGE, MESSAGE_ATTRIBUTES,
-                                                              clientSideAttrMd5, attrMd5Returned))
-                                        .build();
+            if (!calculator.messageAttributesMd5Matches(messageAttrSent, attrMd5Returned)) {
+                throw mismatchException(MESSAGE_ATTRIBUTES, null, calculator.lastMd5Hex(), attrMd5Returned);
             }
         }
     }
@@ -128,30 +141,24 @@ public final class MessageMD5ChecksumInterceptor implements ExecutionInterceptor
      * Throw an exception if the MD5 checksums included in the ReceiveMessageResponse do not match the
      * client-side calculation on the received messages.
      */
-    private static void receiveMessageResultMd5Check(ReceiveMessageResponse receiveMessageResult) {
-        if (receiveMessageResult.messages() != null) {
-            for (Message messageReceived : receiveMessageResult.messages()) {
-                String messageBody = messageReceived.body();
-                String bodyMd5Returned = messageReceived.md5OfBody();
-                String clientSideBodyMd5 = calculateMessageBodyMd5(messageBody);
-                if (!clientSideBodyMd5.equals(bodyMd5Returned)) {
-                    throw SdkClientException.builder()
-                                            .message(String.format(MD5_MISMATCH_ERROR_MESSAGE, MESSAGE_BODY,
-                                                                  clientSideBodyMd5, bodyMd5Returned))
-                                            .build();
-                }
+    private static void receiveMessageResultMd5Check(ReceiveMessageResponse receiveMessageResult, Executor executor) {
+        List<Message> messages = receiveMessageResult.messages();
+        if (messages != null) {
+            md5Check(messages, executor, MessageMD5ChecksumInterceptor::receivedMessageMd5Check);
+        }
+    }
 
-                Map<String, MessageAttributeValue> messageAttr = messageReceived.messageAttributes();
-                if (messageAttr != null && !messageAttr.isEmpty()) {
-                    String attrMd5Returned = messageReceived.md5OfMessageAttributes();
-                    String clientSideAttrMd5 = calculateMessageAttributesMd5(messageAttr);
-                    if (!clientSideAttrMd5.equals(attrMd5Returned)) {
-                        throw SdkClientException.builder()
-                                                .message(String.format(MD5_MISMATCH_ERROR_MESSAGE, MESSAGE_ATTRIBUTES,
-                                                                      clientSideAttrMd5, attrMd5Returned))
-                                                .build();
-                    }
-                }
+    private static void receivedMessageMd5Check(Md5Calculator calculator, Message messageReceived) {
+        String bodyMd5Returned = messageReceived.md5OfBody();
+        if (!calculator.messageBodyMd5Matches(messageReceived.body(), bodyMd5Returned)) {
+            throw mismatchException(MESSAGE_BODY, null, calculator.lastMd5Hex(), bodyMd5Returned);
+        }
+
+        Map<String, MessageAttributeValue> messageAttr = messageReceived.messageAttributes();
+        if (messageAttr != null && !messageAttr.isEmpty()) {
+            String attrMd5Returned = messageReceived.md5OfMessageAttributes();
+            if (!calculator.messageAttributesMd5Matches(messageAttr, attrMd5Returned)) {
+                throw mismatchException(MESSAGE_ATTRIBUTES, null, calculator.lastMd5Hex(), attrMd5Returned);
             }
         }
     }
@@ -161,7 +168,13 @@ public final class MessageMD5ChecksumInterceptor implements ExecutionInterceptor
      * the client-side calculation based on the original messages in the SendMessageBatchRequest.
      */
     private static void sendMessageBatchOperationMd5Check(SendMessageBatchRequest sendMessageBatchRequest,
-                                                          SendMessageBatchResponse sendMessageBatchResult) {
+                                                          SendMessageBatchResponse sendMessageBatchResult,
+                                                          Executor executor) {
+        List<SendMessageBatchResultEntry> successful = sendMessageBatchResult.successful();
+        if (successful == null || successful.isEmpty()) {
+            return;
+        }
+
         Map<String, SendMessageBatchRequestEntry> idToRequestEntryMap = new HashMap<>();
         if (sendMessageBatchRequest.entries() != null) {
             for (SendMessageBatchRequestEntry entry : sendMessageBatchRequest.entries()) {
@@ -169,128 +182,333 @@ public final class MessageMD5ChecksumInterceptor implements ExecutionInterceptor
             }
         }
 
-        if (sendMessageBatchResult.successful() != null) {
-            for (SendMessageBatchResultEntry entry : sendMessageBatchResult.successful()) {
-                String messageBody = idToRequestEntryMap.get(entry.id()).messageBody();
-                String bodyMd5Returned = entry.md5OfMessageBody();
-                String clientSideBodyMd5 = calculateMessageBodyMd5(messageBody);
-                if (!clientSideBodyMd5.equals(bodyMd5Returned)) {
-                    throw SdkClientException.builder()
-                                            .message(String.format(MD5_MISMATCH_ERROR_MESSAGE_WITH_ID, MESSAGE_BODY,
-                                                                  entry.id(), clientSideBodyMd5, bodyMd5Returned))
-                                            .build();
-                }
+        BiConsumer<Md5Calculator, SendMessageBatchResultEntry> check =
+            (calculator, entry) -> sentBatchEntryMd5Check(calculator, idToRequestEntryMap.get(entry.id()), entry);
+        md5Check(successful, executor, check);
+    }
 
-                Map<String, MessageAttributeValue> messageAttr = idToRequestEntryMap.get(entry.id())
-                                                                                    .messageAttributes();
-                if (messageAttr != null && !messageAttr.isEmpty()) {
-                    String attrMd5Returned = entry.md5OfMessageAttributes();
-                    String clientSideAttrMd5 = calculateMessageAttributesMd5(messageAttr);
-                    if (!clientSideAttrMd5.equals(attrMd5Returned)) {
-                        throw SdkClientException.builder()
-                                                .message(String.format(MD5_MISMATCH_ERROR_MESSAGE_WITH_ID,
-                                                                      MESSAGE_ATTRIBUTES, entry.id(), clientSideAttrMd5,
-                                                                      attrMd5Returned))
-                                                .build();
-                    }
-                }
+    private static void sentBatchEntryMd5Check(Md5Calculator calculator, SendMessageBatchRequestEntry requestEntry,
+                                               SendMessageBatchResultEntry entry) {
+        String bodyMd5Returned = entry.md5OfMessageBody();
+        if (!calculator.messageBodyMd5Matches(requestEntry.messageBody(), bodyMd5Returned)) {
+            throw mismatchException(MESSAGE_BODY, entry.id(), calculator.lastMd5Hex(), bodyMd5Returned);
+        }
+
+        Map<String, MessageAttributeValue> messageAttr = requestEntry.messageAttributes();
+        if (messageAttr != null && !messageAttr.isEmpty()) {
+            String attrMd5Returned = entry.md5OfMessageAttributes();
+            if (!calculator.messageAttributesMd5Matches(messageAttr, attrMd5Returned)) {
+                throw mismatchException(MESSAGE_ATTRIBUTES, entry.id(), calculator.lastMd5Hex(), attrMd5Returned);
             }
         }
     }
 
     /**
-     * Returns the hex-encoded MD5 hash String of the given message body.
+     * Run the given check on every entry of a response. Without an executor, the entries are checked one after the other with
+     * the same calculator. With an executor, the entries are shared between this thread and tasks submitted to the executor,
+     * each with its own calculator. This thread keeps checking entries until none is left, so it never waits for a task that
+     * is still queued: it only waits for the entries other threads are already checking. This keeps the validation from
+     * deadlocking when the executor is saturated, or is the executor that completes the request.
      */
-    private static String calculateMessageBodyMd5(String messageBody) {
-        log.debug(() -> "Message body: " + messageBody);
-        byte[] expectedMd5;
-        try {
-            expectedMd5 = Md5Utils.computeMD5Hash(messageBody.getBytes(StandardCharsets.UTF_8));
-        } catch (Exception e) {
-            throw SdkClientException.builder()
-                                    .message("Unable to calculate the MD5 hash of the message body. " + e.getMessage())
-                                    .cause(e)
-                                    .build();
+    private static <T> void md5Check(List<T> entries, Executor executor, BiConsumer<Md5Calculator, T> check) {
+        if (executor == null || entries.size() < 2) {
+            Md5Calculator calculator = new Md5Calculator();
+            for (int i = 0; i < entries.size(); i++) {
+                check.accept(calculator, entries.get(i));
+            }
+            return;
         }
-        String expectedMd5Hex = BinaryUtils.toHex(expectedMd5);
-        log.debug(() -> "Expected  MD5 of message body: " + expectedMd5Hex);
-        return expectedMd5Hex;
+
+        ParallelMd5Check<T> parallelCheck = new ParallelMd5Check<>(entries, check);
+        for (int i = 1; i < entries.size(); i++) {
+            try {
+                executor.execute(parallelCheck::checkEntries);
+            } catch (RejectedExecutionException e) {
+                // This thread checks the entries the executor did not take.
+                break;
+            }
+        }
+        parallelCheck.checkEntries();
+        parallelCheck.awaitCompletion();
+    }
+
+    private static SdkClientException mismatchException(String checksumTarget, String messageId, String clientSideMd5,
+                                                        String md5Returned) {
+        String message = messageId == null
+                         ? String.format(MD5_MISMATCH_ERROR_MESSAGE, checksumTarget, clientSideMd5, md5Returned)
+                         : String.format(MD5_MISMATCH_ERROR_MESSAGE_WITH_ID, messageId, checksumTarget, clientSideMd5,
+                                         md5Returned);
+        return SdkClientException.builder().message(message).build();
     }
 
     /**
-     * Returns the hex-encoded MD5 hash String of the given message attributes.
+     * The entries of a response checked by several threads. Each thread claims the next unchecked entry until none is left.
+     * Once an entry failed its check, the entries that were not claimed yet are skipped.
      */
-    private static String calculateMessageAttributesMd5(final Map<String, MessageAttributeValue> messageAttributes) {
-        log.debug(() -> "Message attributes: " + messageAttributes);
-        List<String> sortedAttributeNames = new ArrayList<>(messageAttributes.keySet());
-        Collections.sort(sortedAttributeNames);
+    private static final class ParallelMd5Check<T> {
+        private final List<T> entries;
+        private final BiConsumer<Md5Calculator, T> check;
+        private final AtomicInteger nextEntry = new AtomicInteger();
+        private final CountDownLatch entriesDone;
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        private ParallelMd5Check(List<T> entries, BiConsumer<Md5Calculator, T> check) {
+            this.entries = entries;
+            this.check = check;
+            this.entriesDone = new CountDownLatch(entries.size());
+        }
+
+        private void checkEntries() {
+            Md5Calculator calculator = null;
+            for (int i = nextEntry.getAndIncrement(); i < entries.size(); i = nextEntry.getAndIncrement()) {
+                try {
+                    if (failure.get() == null) {
+                        calculator = calculator == null ? new Md5Calculator() : calculator;
+                        check.accept(calculator, entries.get(i));
+                    }
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    entriesDone.countDown();
+                }
+            }
+        }
+
+        /**
+         * Wait for the entries claimed by other threads, and throw the first failure if an entry failed its check. This must
+         * only be called once the calling thread ran out of entries to claim.
+         */
+        private void awaitCompletion() {
+            try {
+                entriesDone.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw SdkClientException.builder()
+                                        .message("Interrupted while validating the MD5 checksums of the messages.")
+                                        .cause(e)
+                                        .build();
+            }
+
+            RuntimeException e = failure.get();
+            if (e != null) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Calculates the MD5 digests of message bodies and attributes. A calculator is not thread safe. It reuses the same digest,
+     * scratch buffer and attribute name list for every message it checks, and compares the digest against the hex-encoded MD5
+     * returned by SQS without encoding it.
+     */
+    private static final class Md5Calculator {
+        private final MessageDigest digest;
+        private final byte[] scratch = new byte[SCRATCH_BUFFER_SIZE];
+        private final byte[] md5 = new byte[MD5_LENGTH_IN_BYTES];
+        private final List<String> attributeNames = new ArrayList<>();
+
+        private Md5Calculator() {
+            try {
+                this.digest = MessageDigest.getInstance("MD5");
+            } catch (NoSuchAlgorithmException e) {
+                throw SdkClientException.builder()
+                                        .message("Unable to calculate the MD5 hash of SQS messages. " + e.getMessage())
+                                        .cause(e)
+                                        .build();
+            }
+        }
+
+        /**
+         * Returns true if the MD5 of the given message body is the given hex-encoded MD5.
+         */
+        private boolean messageBodyMd5Matches(String messageBody, String md5Hex) {
+            if (log.isLoggingLevelEnabled("debug")) {
+                log.debug(() -> "Message body: " + messageBody);
+            }
+
+            digest.reset();
+            updateUtf8(messageBody);
+            finishDigest();
 
-        MessageDigest md5Digest;
-        try {
-            md5Digest = MessageDigest.getInstance("MD5");
+            if (log.isLoggingLevelEnabled("debug")) {
+                log.debug(() -> "Expected  MD5 of message body: " + lastMd5Hex());
+            }
+            return md5Matches(md5Hex);
+        }
+
+        /**
+         * Returns true if the MD5 of the given message attributes is the given hex-encoded MD5.
+         */
+        private boolean messageAttributesMd5Matches(Map<String, MessageAttributeValue> messageAttributes, String md5Hex) {
+            if (log.isLoggingLevelEnabled("debug")) {
+                log.debug(() -> "Message attributes: " + messageAttributes);
+            }
+
+            // Added one by one, since addAll copies the names into a new array
+            attributeNames.clear();
+            for (String attrName : messageAttributes.keySet()) {
+                attributeNames.add(attrName);
+            }
+            if (attributeNames.size() > 1) {
+                Collections.sort(attributeNames);
+            }
 
-            for (String attrName : sortedAttributeNames) {
+            digest.reset();
+            for (int i = 0; i < attributeNames.size(); i++) {
+                String attrName = attributeNames.get(i);
                 MessageAttributeValue attrValue = messageAttributes.get(attrName);
 
                 // Encoded Name
-                updateLengthAndBytes(md5Digest, attrName);
+                updateLengthAndBytes(attrName);
 
                 // Encoded Type
-                updateLengthAndBytes(md5Digest, attrValue.dataType());
+                updateLengthAndBytes(attrValue.dataType());
 
                 // Encoded Value
                 if (attrValue.stringValue() != null) {
-                    md5Digest.update(STRING_TYPE_FIELD_INDEX);
-                    updateLengthAndBytes(md5Digest, attrValue.stringValue());
+                    digest.update(STRING_TYPE_FIELD_INDEX);
+                    updateLengthAndBytes(attrValue.stringValue());
                 } else if (attrValue.binaryValue() != null) {
-                    md5Digest.update(BINARY_TYPE_FIELD_INDEX);
-                    updateLengthAndBytes(md5Digest, attrValue.binaryValue().asByteBuffer());
+                    digest.update(BINARY_TYPE_FIELD_INDEX);
+                    updateLengthAndBytes(attrValue.binaryValue());
                 } else if (attrValue.stringListValues() != null &&
-                           attrValue.stringListValues().size() > 0) {
-                    md5Digest.update(STRING_LIST_TYPE_FIELD_INDEX);
-                    for (String strListMember : attrValue.stringListValues()) {
-                        updateLengthAndBytes(md5Digest, strListMember);
+                           !attrValue.stringListValues().isEmpty()) {
+                    digest.update(STRING_LIST_TYPE_FIELD_INDEX);
+                    List<String> stringListValues = attrValue.stringListValues();
+                    for (int j = 0; j < stringListValues.size(); j++) {
+                        updateLengthAndBytes(stringListValues.get(j));
                     }
                 } else if (attrValue.binaryListValues() != null &&
-                           attrValue.binaryListValues().size() > 0) {
-                    md5Digest.update(BINARY_LIST_TYPE_FIELD_INDEX);
-                    for (SdkBytes byteListMember : attrValue.binaryListValues()) {
-                        updateLengthAndBytes(md5Digest, byteListMember.asByteBuffer());
+                           !attrValue.binaryListValues().isEmpty()) {
+                    digest.update(BINARY_LIST_TYPE_FIELD_INDEX);
+                    List<SdkBytes> binaryListValues = attrValue.binaryListValues();
+                    for (int j = 0; j < binaryListValues.size(); j++) {
+                        updateLengthAndBytes(binaryListValues.get(j));
                     }
                 }
             }
-        } catch (Exception e) {
-            throw SdkClientException.builder()
-                                    .message("Unable to calculate the MD5 hash of the message attributes. " + e.getMessage())
-                                    .cause(e)
-                                    .build();
+            attributeNames.clear();
+            finishDigest();
+
+            if (log.isLoggingLevelEnabled("debug")) {
+                log.debug(() -> "Expected  MD5 of message attributes: " + lastMd5Hex());
+            }
+            return md5Matches(md5Hex);
         }
 
-        String expectedMd5Hex = BinaryUtils.toHex(md5Digest.digest());
-        log.debug(() -> "Expected  MD5 of message attributes: " + expectedMd5Hex);
-        return expectedMd5Hex;
-    }
+        /**
+         * Returns the hex-encoded MD5 calculated by the last check. Only used to report a mismatch.
+         */
+        private String lastMd5Hex() {
+            return BinaryUtils.toHex(md5);
+        }
 
-    /**
-     * Update the digest using a sequence of bytes that consists of the length (in 4 bytes) of the
-     * input String and the actual utf8-encoded byte values.
-     */
-    private static void updateLengthAndBytes(MessageDigest digest, String str) {
-        byte[] utf8Encoded = str.getBytes(StandardCharsets.UTF_8);
-        ByteBuffer lengthBytes = ByteBuffer.allocate(INTEGER_SIZE_IN_BYTES).putInt(utf8Encoded.length);
-        digest.update(lengthBytes.array());
-        digest.update(utf8Encoded);
-    }
+        private void finishDigest() {
+            try {
+                digest.digest(md5, 0, MD5_LENGTH_IN_BYTES);
+            } catch (Exception e) {
+                throw SdkClientException.builder()
+                                        .message("Unable to calculate the MD5 hash of the message. " + e.getMessage())
+                                        .cause(e)
+                                        .build();
+            }
+        }
 
-    /**
-     * Update the digest using a sequence of bytes that consists of the length (in 4 bytes) of the
-     * input ByteBuffer and all the bytes it contains.
-     */
-    private static void updateLengthAndBytes(MessageDigest digest, ByteBuffer binaryValue) {
-        ByteBuffer readOnlyBuffer = binaryValue.asReadOnlyBuffer();
-        int size = readOnlyBuffer.remaining();
-        ByteBuffer lengthBytes = ByteBuffer.allocate(INTEGER_SIZE_IN_BYTES).putInt(size);
-        digest.update(lengthBytes.array());
-        digest.update(readOnlyBuffer);
+        private boolean md5Matches(String md5Hex) {
+            if (md5Hex == null || md5Hex.length() != MD5_LENGTH_IN_BYTES * 2) {
+                return false;
+            }
+            for (int i = 0; i < MD5_LENGTH_IN_BYTES; i++) {
+                if (md5Hex.charAt(2 * i) != HEX_DIGITS[(md5[i] >> 4) & 0xF] ||
+                    md5Hex.charAt(2 * i + 1) != HEX_DIGITS[md5[i] & 0xF]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Update the digest using a sequence of bytes that consists of the length (in 4 bytes) of the
+         * input String and the actual utf8-encoded byte values.
+         */
+        private void updateLengthAndBytes(String str) {
+            updateLength(utf8Length(str));
+            updateUtf8(str);
+        }
+
+        /**
+         * Update the digest using a sequence of bytes that consists of the length (in 4 bytes) of the
+         * input bytes and the bytes themselves.
+         */
+        private void updateLengthAndBytes(SdkBytes binaryValue) {
+            byte[] bytes = binaryValue.asByteArrayUnsafe();
+            updateLength(bytes.length);
+            digest.update(bytes);
+        }
+
+        private void updateLength(int length) {
+            scratch[0] = (byte) (length >>> 24);
+            scratch[1] = (byte) (length >>> 16);
+            scratch[2] = (byte) (length >>> 8);
+            scratch[3] = (byte) length;
+            digest.update(scratch, 0, 4);
+        }
+
+        /**
+         * UTF-8 encode the given characters into the digest, through the scratch buffer. Unpaired surrogates are encoded as
+         * '?', like {@link String#getBytes(java.nio.charset.Charset)} does.
+         */
+        private void updateUtf8(String str) {
+            int end = str.length();
+            int position = 0;
+            for (int i = 0; i < end; i++) {
+                if (position > SCRATCH_BUFFER_SIZE - 4) {
+                    digest.update(scratch, 0, position);
+                    position = 0;
+                }
+
+                char c = str.charAt(i);
+                if (c < 0x80) {
+                    scratch[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    scratch[position++] = (byte) (0xC0 | (c >> 6));
+                    scratch[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (!Character.isSurrogate(c)) {
+                    scratch[position++] = (byte) (0xE0 | (c >> 12));
+                    scratch[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    scratch[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(str.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, str.charAt(++i));
+                    scratch[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    scratch[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    scratch[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    scratch[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    scratch[position++] = '?';
+                }
+            }
+            digest.update(scratch, 0, position);
+        }
+
+        private static int utf8Length(String str) {
+            int length = str.length();
+            int utf8Length = length;
+            for (int i = 0; i < length; i++) {
+                char c = str.charAt(i);
+                if (c < 0x80) {
+                    continue;
+                }
+                if (c < 0x800) {
+                    utf8Length += 1;
+                } else if (!Character.isSurrogate(c)) {
+                    utf8Length += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(str.charAt(i + 1))) {
+                    // Two chars become four bytes
+                    utf8Length += 2;
+                    i++;
+                }
+            }
+            return utf8Length;
+        }
     }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+import software.amazon.awssdk.services.sqs.model.SqsRequest;
+import software.amazon.awssdk.services.sqs.model.SqsResponse;
+
+/**
+ * The operation-specific parts of batching requests of a single SQS operation: how the requests of a batch are sent as one
+ * batch request, and how the result of each entry is extracted from the batch response.
+ * <p>
+ * The entries of a batch request are identified by their index in the batch.
+ *
+ * @param <RequestT> The type of the individual requests.
+ * @param <ResponseT> The type of the individual responses.
+ * @param <BatchResponseT> The type of the batch response.
+ */
+@SdkInternalApi
+abstract class BatchOperation<RequestT extends SqsRequest, ResponseT, BatchResponseT extends SqsResponse> {
+    private static final int SENDER_FAULT_STATUS_CODE = 400;
+    private static final int SERVICE_FAULT_STATUS_CODE = 500;
+
+    /**
+     * The queue URL of the request.
+     */
+    abstract String queueUrl(RequestT request);
+
+    /**
+     * The size of the request's contribution to the payload of the batch request, in bytes. Only operations whose batch
+     * requests have a payload limit need to override this.
+     */
+    int payloadSize(RequestT request) {
+        return 0;
+    }
+
+    /**
+     * Send the requests as a batch request to the queue, with the given override configuration.
+     */
+    abstract CompletableFuture<BatchResponseT> sendBatch(String queueUrl,
+                                                         AwsRequestOverrideConfiguration overrideConfiguration,
+                                                         List<RequestT> requests);
+
+    /**
+     * The responses of the successful entries of the batch response, by entry ID.
+     */
+    abstract Map<String, ResponseT> successfulResponses(BatchResponseT batchResponse);
+
+    /**
+     * The failed entries of the batch response.
+     */
+    abstract List<BatchResultErrorEntry> failedEntries(BatchResponseT batchResponse);
+
+    /**
+     * The ID of the entry of a request in a batch request.
+     */
+    static String entryId(int index) {
+        return Integer.toString(index);
+    }
+
+    /**
+     * Create the exception for a failed entry of a batch response, as if the entry's request had been sent on its own.
+     */
+    static SqsException toException(BatchResultErrorEntry errorEntry, SqsResponse batchResponse) {
+        boolean senderFault = Boolean.TRUE.equals(errorEntry.senderFault());
+        AwsErrorDetails errorDetails = AwsErrorDetails.builder()
+                                                      .errorCode(errorEntry.code())
+                                                      .errorMessage(errorEntry.message())
+                                                      .serviceName("Sqs")
+                                                      .sdkHttpResponse(batchResponse.sdkHttpResponse())
+                                                      .build();
+        return (SqsException) SqsException.builder()
+                                          .message(errorEntry.message())
+                                          .statusCode(senderFault ? SENDER_FAULT_STATUS_CODE : SERVICE_FAULT_STATUS_CODE)
+                                          .requestId(requestId(batchResponse))
+                                          .awsErrorDetails(errorDetails)
+                                          .build();
+    }
+
+    /**
+     * Copy the metadata of the batch response to the response of one of its entries.
+     */
+    static <B extends SqsResponse.Builder> B withBatchMetadata(B responseBuilder, SqsResponse batchResponse) {
+        responseBuilder.sdkHttpResponse(batchResponse.sdkHttpResponse());
+        if (batchResponse.responseMetadata() != null) {
+            responseBuilder.responseMetadata(batchResponse.responseMetadata());
+        }
+        return responseBuilder;
+    }
+
+    private static String requestId(SqsResponse batchResponse) {
+        return batchResponse.responseMetadata() == null ? null : batchResponse.responseMetadata().requestId();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
+
+/**
+ * Batches {@link ChangeMessageVisibilityRequest}s into {@link ChangeMessageVisibilityBatchRequest}s.
+ */
+@SdkInternalApi
+final class ChangeMessageVisibilityBatchOperation extends BatchOperation<ChangeMessageVisibilityRequest,
+                                                                         ChangeMessageVisibilityResponse,
+                                                                         ChangeMessageVisibilityBatchResponse> {
+    private final SqsAsyncClient client;
+
+    ChangeMessageVisibilityBatchOperation(SqsAsyncClient client) {
+        this.client = client;
+    }
+
+    @Override
+    String queueUrl(ChangeMessageVisibilityRequest request) {
+        return request.queueUrl();
+    }
+
+    @Override
+    CompletableFuture<ChangeMessageVisibilityBatchResponse> sendBatch(String queueUrl,
+                                                                      AwsRequestOverrideConfiguration overrideConfiguration,
+                                                                      List<ChangeMessageVisibilityRequest> requests) {
+        List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            ChangeMessageVisibilityRequest request = requests.get(i);
+            entries.add(ChangeMessageVisibilityBatchRequestEntry.builder()
+                                                                .id(entryId(i))
+                                                                .receiptHandle(request.receiptHandle())
+                                                                .visibilityTimeout(request.visibilityTimeout())
+                                                                .build());
+        }
+
+        ChangeMessageVisibilityBatchRequest batchRequest =
+            ChangeMessageVisibilityBatchRequest.builder()
+                                               .queueUrl(queueUrl)
+                                               .entries(entries)
+                                               .overrideConfiguration(overrideConfiguration)
+                                               .build();
+        return client.changeMessageVisibilityBatch(batchRequest);
+    }
+
+    @Override
+    Map<String, ChangeMessageVisibilityResponse> successfulResponses(ChangeMessageVisibilityBatchResponse batchResponse) {
+        Map<String, ChangeMessageVisibilityResponse> responses = new HashMap<>();
+        for (ChangeMessageVisibilityBatchResultEntry entry : batchResponse.successful()) {
+            responses.put(entry.id(), withBatchMetadata(ChangeMessageVisibilityResponse.builder(), batchResponse).build());
+        }
+        return responses;
+    }
+
+    @Override
+    List<BatchResultErrorEntry> failedEntries(ChangeMessageVisibilityBatchResponse batchResponse) {
+        return batchResponse.failed();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.services.sqs.batchmanager.SqsAsyncBatchManager;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SqsRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The default implementation of {@link SqsAsyncBatchManager}, with a {@link RequestBatcher} for each batched operation.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultSqsAsyncBatchManager implements SqsAsyncBatchManager {
+    private static final Duration DEFAULT_LINGER = Duration.ofMillis(50);
+
+    private final ScheduledExecutorService scheduledExecutor;
+    private final boolean shutdownScheduledExecutor;
+    private final RequestBatcher<SendMessageRequest, SendMessageResponse, SendMessageBatchResponse> sendMessageBatcher;
+    private final RequestBatcher<DeleteMessageRequest, DeleteMessageResponse, DeleteMessageBatchResponse> deleteMessageBatcher;
+    private final RequestBatcher<ChangeMessageVisibilityRequest, ChangeMessageVisibilityResponse,
+                                 ChangeMessageVisibilityBatchResponse> changeMessageVisibilityBatcher;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private DefaultSqsAsyncBatchManager(DefaultBuilder builder) {
+        SqsAsyncClient client = Validate.paramNotNull(builder.client, "client");
+        BatchOverrideConfiguration configuration = builder.overrideConfiguration != null
+                                                   ? builder.overrideConfiguration
+                                                   : BatchOverrideConfiguration.builder().build();
+
+        this.shutdownScheduledExecutor = builder.scheduledExecutor == null;
+        this.scheduledExecutor = builder.scheduledExecutor != null
+                                 ? builder.scheduledExecutor
+                                 : Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                                                                                  .threadNamePrefix("sqs-batch-manager")
+                                                                                  .daemonThreads(true)
+                                                                                  .build());
+
+        int maxBatchSize = configuration.maxBatchSize().orElse(BatchOverrideConfiguration.MAX_BATCH_SIZE);
+        long lingerNanos = configuration.linger().orElse(DEFAULT_LINGER).toNanos();
+        int maxBatchPayloadSize = configuration.maxBatchPayloadSizeInBytes()
+                                               .orElse(BatchOverrideConfiguration.MAX_BATCH_PAYLOAD_SIZE_IN_BYTES);
+
+        this.sendMessageBatcher = new RequestBatcher<>(new SendMessageBatchOperation(client), scheduledExecutor,
+                                                       maxBatchSize, lingerNanos, maxBatchPayloadSize);
+        this.deleteMessageBatcher = new RequestBatcher<>(new DeleteMessageBatchOperation(client), scheduledExecutor,
+                                                         maxBatchSize, lingerNanos, Integer.MAX_VALUE);
+        this.changeMessageVisibilityBatcher = new RequestBatcher<>(new ChangeMessageVisibilityBatchOperation(client),
+                                                                   scheduledExecutor, maxBatchSize, lingerNanos,
+                                                                   Integer.MAX_VALUE);
+    }
+
+    public static SqsAsyncBatchManager.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest request) {
+        return batchRequest(sendMessageBatcher, request);
+    }
+
+    @Override
+    public CompletableFuture<DeleteMessageResponse> deleteMessage(DeleteMessageRequest request) {
+        return batchRequest(deleteMessageBatcher, request);
+    }
+
+    @Override
+    public CompletableFuture<ChangeMessageVisibilityResponse> changeMessageVisibility(ChangeMessageVisibilityRequest request) {
+        return batchRequest(changeMessageVisibilityBatcher, request);
+    }
+
+    private <RequestT extends SqsRequest, ResponseT> CompletableFuture<ResponseT> batchRequest(
+        RequestBatcher<RequestT, ResponseT, ?> batcher, RequestT request) {
+        Validate.paramNotNull(request, "request");
+        if (closed.get()) {
+            return CompletableFutureUtils.failedFuture(new IllegalStateException("The batch manager has been closed."));
+        }
+        return batcher.batchRequest(request);
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            sendMessageBatcher.close();
+            deleteMessageBatcher.close();
+            changeMessageVisibilityBatcher.close();
+            if (shutdownScheduledExecutor) {
+                scheduledExecutor.shutdownNow();
+            }
+        }
+    }
+
+    private static final class DefaultBuilder implements SqsAsyncBatchManager.Builder {
+        private SqsAsyncClient client;
+        private ScheduledExecutorService scheduledExecutor;
+        private BatchOverrideConfiguration overrideConfiguration;
+
+        @Override
+        public SqsAsyncBatchManager.Builder client(SqsAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public SqsAsyncBatchManager.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public SqsAsyncBatchManager.Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public SqsAsyncBatchManager build() {
+            return new DefaultSqsAsyncBatchManager(this);
+        }
+    }
+}
@@ -0,0 +1,554 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
+import software.amazon.awssdk.core.retry.conditions.SdkRetryCondition;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.batchmanager.SqsReceiveBuffer;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The default implementation of {@link SqsReceiveBuffer}.
+ * <p>
+ * The state of the buffer is guarded by {@link #lock}. Messages are delivered to the subscriber outside of the lock, by a
+ * single thread at a time, which is the thread that made {@link #drainWip} non-zero.
+ * <p>
+ * Receive calls that fail with an error the SDK would retry pause all receive calls for a backoff that grows with the number
+ * of consecutive failures. Other errors stop the buffer.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultSqsReceiveBuffer implements SqsReceiveBuffer {
+    private static final Logger log = Logger.loggerFor(DefaultSqsReceiveBuffer.class);
+
+    private static final int DEFAULT_MAX_CONCURRENT_RECEIVES = 2;
+    private static final int DEFAULT_MAX_BUFFERED_MESSAGES = 20;
+    private static final int DEFAULT_WAIT_TIME_SECONDS = 20;
+    private static final int MAX_MESSAGES_PER_RECEIVE = 10;
+    private static final int MAX_ENTRIES_PER_BATCH = 10;
+
+    // A buffered message is released instead of published once less than a fifth of its visibility timeout remains.
+    private static final int VISIBILITY_MARGIN_DIVISOR = 5;
+    private static final long MIN_SWEEP_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long MAX_SWEEP_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final BackoffStrategy RECEIVE_BACKOFF = FullJitterBackoffStrategy.builder()
+                                                                                   .baseDelay(Duration.ofMillis(100))
+                                                                                   .maxBackoffTime(Duration.ofSeconds(20))
+                                                                                   .build();
+
+    private final SqsAsyncClient client;
+    private final ReceiveMessageRequest receiveRequest;
+    private final int maxConcurrentReceives;
+    private final int maxBufferedMessages;
+    private final int messagesPerReceive;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final boolean shutdownScheduledExecutor;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final AtomicInteger drainWip = new AtomicInteger();
+
+    private final Object lock = new Object();
+    private final Deque<BufferedMessage> buffer = new ArrayDeque<>();
+    private Subscriber<? super Message> subscriber;
+    private long demand;
+    private int receivesInFlight;
+    private long visibilityTimeoutNanos = -1;
+    private int consecutiveReceiveFailures;
+    private boolean receivesPaused;
+    private ScheduledFuture<?> sweep;
+    private boolean stopped;
+    private boolean terminated;
+    private boolean completeSubscriber;
+    private Throwable error;
+
+    private DefaultSqsReceiveBuffer(DefaultBuilder builder) {
+        this.client = Validate.paramNotNull(builder.client, "client");
+        ReceiveMessageRequest request = Validate.paramNotNull(builder.receiveMessageRequest, "receiveMessageRequest");
+        Validate.paramNotNull(request.queueUrl(), "receiveMessageRequest.queueUrl");
+        Validate.isNotNegativeOrNull(request.visibilityTimeout(), "receiveMessageRequest.visibilityTimeout");
+        this.maxConcurrentReceives = Validate.isPositive(builder.maxConcurrentReceives != null
+                                                         ? builder.maxConcurrentReceives
+                                                         : DEFAULT_MAX_CONCURRENT_RECEIVES,
+                                                         "maxConcurrentReceives");
+        this.maxBufferedMessages = Validate.isPositive(builder.maxBufferedMessages != null
+                                                       ? builder.maxBufferedMessages
+                                                       : DEFAULT_MAX_BUFFERED_MESSAGES,
+                                                       "maxBufferedMessages");
+
+        int requestedMessagesPerReceive = request.maxNumberOfMessages() != null
+                                          ? request.maxNumberOfMessages()
+                                          : MAX_MESSAGES_PER_RECEIVE;
+        this.messagesPerReceive = Math.min(requestedMessagesPerReceive, maxBufferedMessages);
+        this.receiveRequest = request.toBuilder()
+                                     .maxNumberOfMessages(messagesPerReceive)
+                                     .waitTimeSeconds(request.waitTimeSeconds() != null
+                                                      ? request.waitTimeSeconds()
+                                                      : DEFAULT_WAIT_TIME_SECONDS)
+                                     .build();
+
+        this.shutdownScheduledExecutor = builder.scheduledExecutor == null;
+        this.scheduledExecutor = builder.scheduledExecutor != null
+                                 ? builder.scheduledExecutor
+                                 : Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                                                                                  .threadNamePrefix("sqs-receive-buffer")
+                                                                                  .daemonThreads(true)
+                                                                                  .build());
+    }
+
+    public static SqsReceiveBuffer.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public SdkPublisher<Message> messages() {
+        return this::subscribe;
+    }
+
+    @Override
+    public void close() {
+        stop(null, true);
+        if (shutdownScheduledExecutor) {
+            scheduledExecutor.shutdownNow();
+        }
+    }
+
+    private void subscribe(Subscriber<? super Message> newSubscriber) {
+        Validate.paramNotNull(newSubscriber, "subscriber");
+        if (!subscribed.compareAndSet(false, true)) {
+            newSubscriber.onSubscribe(new NoOpSubscription());
+            newSubscriber.onError(new IllegalStateException("The messages of a receive buffer only support one subscriber."));
+            return;
+        }
+
+        synchronized (lock) {
+            subscriber = newSubscriber;
+        }
+        newSubscriber.onSubscribe(new BufferSubscription());
+        // Complete the subscriber right away if the buffer was closed before it was subscribed to.
+        drain();
+
+        resolveVisibilityTimeout().whenComplete((visibilityTimeoutSeconds, t) -> {
+            if (t != null) {
+                stop(CompletableFutureUtils.errorAsCompletionException(t).getCause(), false);
+                return;
+            }
+            startReceiving(TimeUnit.SECONDS.toNanos(visibilityTimeoutSeconds));
+        });
+    }
+
+    private CompletableFuture<Integer> resolveVisibilityTimeout() {
+        if (receiveRequest.visibilityTimeout() != null) {
+            return CompletableFuture.completedFuture(receiveRequest.visibilityTimeout());
+        }
+
+        return client.getQueueAttributes(r -> r.queueUrl(receiveRequest.queueUrl())
+                                               .attributeNames(QueueAttributeName.VISIBILITY_TIMEOUT)
+                                               .overrideConfiguration(receiveRequest.overrideConfiguration().orElse(null)))
+                     .thenApply(r -> Integer.parseInt(r.attributes().get(QueueAttributeName.VISIBILITY_TIMEOUT)));
+    }
+
+    private void startReceiving(long visibilityTimeoutNanos) {
+        long sweepPeriodNanos = Math.max(MIN_SWEEP_PERIOD_NANOS,
+                                         Math.min(MAX_SWEEP_PERIOD_NANOS, visibilityTimeoutNanos / VISIBILITY_MARGIN_DIVISOR));
+        synchronized (lock) {
+            if (stopped) {
+                return;
+            }
+            this.visibilityTimeoutNanos = visibilityTimeoutNanos;
+            if (isPrefetching()) {
+                this.sweep = scheduledExecutor.scheduleAtFixedRate(this::releaseExpiringMessages, sweepPeriodNanos,
+                                                                   sweepPeriodNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        fillBuffer();
+    }
+
+    /**
+     * Whether messages are received ahead of the subscriber's demand. Messages received with a visibility timeout of zero are
+     * visible to other consumers right away, so they are only received for the outstanding demand, one receive call at a time.
+     */
+    private boolean isPrefetching() {
+        return visibilityTimeoutNanos > 0;
+    }
+
+    /**
+     * Start as many receive calls as the concurrency limit and the free space of the buffer allow.
+     */
+    private void fillBuffer() {
+        int receivesToStart;
+        synchronized (lock) {
+            if (stopped || visibilityTimeoutNanos < 0 || receivesPaused) {
+                return;
+            }
+            if (isPrefetching()) {
+                int freeSpace = maxBufferedMessages - buffer.size() - receivesInFlight * messagesPerReceive;
+                receivesToStart = Math.max(0, Math.min(maxConcurrentReceives - receivesInFlight,
+                                                       freeSpace / messagesPerReceive));
+            } else {
+                receivesToStart = receivesInFlight == 0 && demand > buffer.size() ? 1 : 0;
+            }
+            receivesInFlight += receivesToStart;
+        }
+
+        for (int i = 0; i < receivesToStart; i++) {
+            receive();
+        }
+    }
+
+    private void receive() {
+        // The visibility timeout starts when SQS returns the messages, so measuring it from when the request is sent is
+        // conservative.
+        long receivedAt = System.nanoTime();
+        CompletableFuture<ReceiveMessageResponse> response;
+        try {
+            response = client.receiveMessage(receiveRequest);
+        } catch (Throwable t) {
+            response = CompletableFutureUtils.failedFuture(t);
+        }
+
+        response.whenComplete((r, t) -> {
+            List<Message> messagesToRelease = Collections.emptyList();
+            synchronized (lock) {
+                receivesInFlight--;
+                if (t == null) {
+                    consecutiveReceiveFailures = 0;
+                    if (stopped) {
+                        messagesToRelease = r.messages();
+                    } else {
+                        long expiresAt = receivedAt + visibilityTimeoutNanos - visibilityTimeoutNanos / VISIBILITY_MARGIN_DIVISOR;
+                        boolean expires = isPrefetching();
+                        r.messages().forEach(m -> buffer.add(new BufferedMessage(m, expires, expiresAt)));
+                    }
+                }
+            }
+
+            if (t != null) {
+                receiveFailed(CompletableFutureUtils.errorAsCompletionException(t).getCause());
+                return;
+            }
+
+            release(messagesToRelease);
+            drain();
+            fillBuffer();
+        });
+    }
+
+    /**
+     * Pause the receive calls for a backoff if the error is one the SDK would retry, or stop the buffer otherwise.
+     */
+    private void receiveFailed(Throwable cause) {
+        long backoffNanos;
+        synchronized (lock) {
+            if (stopped || !isTransient(cause, consecutiveReceiveFailures)) {
+                backoffNanos = -1;
+            } else {
+                RetryPolicyContext context = RetryPolicyContext.builder()
+                                                               .retriesAttempted(consecutiveReceiveFailures)
+                                                               .build();
+                backoffNanos = RECEIVE_BACKOFF.computeDelayBeforeNextRetry(context).toNanos();
+                consecutiveReceiveFailures++;
+                receivesPaused = true;
+            }
+        }
+
+        if (backoffNanos < 0) {
+            stop(cause, false);
+            return;
+        }
+
+        log.warn(() -> "Failed to receive messages from " + receiveRequest.queueUrl() + ", retrying in "
+                       + TimeUnit.NANOSECONDS.toMillis(backoffNanos) + " ms.", cause);
+        try {
+            scheduledExecutor.schedule(this::resumeReceives, backoffNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            stop(cause, false);
+        }
+    }
+
+    private void resumeReceives() {
+        synchronized (lock) {
+            receivesPaused = false;
+        }
+        fillBuffer();
+    }
+
+    private static boolean isTransient(Throwable cause, int consecutiveFailures) {
+        if (!(cause instanceof SdkException)) {
+            return false;
+        }
+        SdkException exception = (SdkException) cause;
+        Integer statusCode = exception instanceof SdkServiceException ? ((SdkServiceException) exception).statusCode() : null;
+        return SdkRetryCondition.DEFAULT.shouldRetry(RetryPolicyContext.builder()
+                                                                       .exception(exception)
+                                                                       .httpStatusCode(statusCode)
+                                                                       .retriesAttempted(consecutiveFailures)
+                                                                       .build());
+    }
+
+    /**
+     * Publish buffered messages to the subscriber while it has demand, and signal its completion or error once the buffer is
+     * stopped.
+     */
+    private void drain() {
+        if (drainWip.getAndIncrement() != 0) {
+            return;
+        }
+
+        do {
+            List<Message> expiredMessages = new ArrayList<>();
+            boolean delivered = false;
+            while (true) {
+                Message message;
+                synchronized (lock) {
+                    if (terminated || demand == 0 || buffer.isEmpty()) {
+                        break;
+                    }
+                    BufferedMessage bufferedMessage = buffer.poll();
+                    if (bufferedMessage.isExpiring(System.nanoTime())) {
+                        expiredMessages.add(bufferedMessage.message);
+                        continue;
+                    }
+                    demand--;
+                    message = bufferedMessage.message;
+                }
+                subscriber.onNext(message);
+                delivered = true;
+            }
+
+            release(expiredMessages);
+            signalTermination();
+            if (delivered || !expiredMessages.isEmpty()) {
+                fillBuffer();
+            }
+        } while (drainWip.decrementAndGet() != 0);
+    }
+
+    private void signalTermination() {
+        Throwable terminalError;
+        synchronized (lock) {
+            if (terminated || subscriber == null || !(completeSubscriber || error != null)) {
+                return;
+            }
+            terminated = true;
+            terminalError = error;
+        }
+
+        if (terminalError != null) {
+            subscriber.onError(terminalError);
+        } else {
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * Stop receiving messages and release the buffered messages. If an error is given, or if the subscriber should be
+     * completed, it is signalled to the subscriber.
+     */
+    private void stop(Throwable cause, boolean complete) {
+        List<Message> messagesToRelease = new ArrayList<>();
+        synchronized (lock) {
+            if (stopped) {
+                return;
+            }
+            stopped = true;
+            error = cause;
+            completeSubscriber = complete;
+            if (sweep != null) {
+                sweep.cancel(false);
+            }
+            buffer.forEach(m -> messagesToRelease.add(m.message));
+            buffer.clear();
+        }
+
+        release(messagesToRelease);
+        drain();
+    }
+
+    private void releaseExpiringMessages() {
+        List<Message> expiringMessages = new ArrayList<>();
+        synchronized (lock) {
+            long now = System.nanoTime();
+            // Messages are buffered in the order they were received, so the ones that expire first are at the head.
+            while (!buffer.isEmpty() && buffer.peek().isExpiring(now)) {
+                expiringMessages.add(buffer.poll().message);
+            }
+        }
+
+        if (!expiringMessages.isEmpty()) {
+            release(expiringMessages);
+            fillBuffer();
+        }
+    }
+
+    /**
+     * Make the messages visible to other consumers again, by setting their visibility timeout to zero.
+     */
+    private void release(List<Message> messages) {
+        for (int start = 0; start < messages.size(); start += MAX_ENTRIES_PER_BATCH) {
+            List<Message> batch = messages.subList(start, Math.min(messages.size(), start + MAX_ENTRIES_PER_BATCH));
+            List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                entries.add(ChangeMessageVisibilityBatchRequestEntry.builder()
+                                                                    .id(Integer.toString(i))
+                                                                    .receiptHandle(batch.get(i).receiptHandle())
+                                                                    .visibilityTimeout(0)
+                                                                    .build());
+            }
+
+            try {
+                client.changeMessageVisibilityBatch(r -> r.queueUrl(receiveRequest.queueUrl())
+                                                          .entries(entries)
+                                                          .overrideConfiguration(receiveRequest.overrideConfiguration()
+                                                                                               .orElse(null)))
+                      .whenComplete((r, t) -> {
+                          if (t != null) {
+                              log.debug(() -> "Failed to release buffered messages back to the queue.", t);
+                          } else if (!r.failed().isEmpty()) {
+                              log.debug(() -> "Failed to release buffered messages back to the queue: " + r.failed());
+                          }
+                      });
+            } catch (RuntimeException e) {
+                log.debug(() -> "Failed to release buffered messages back to the queue.", e);
+            }
+        }
+    }
+
+    private final class BufferSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                stop(new IllegalArgumentException("A subscriber must request a positive number of messages, but requested "
+                                                  + n + "."), false);
+                return;
+            }
+            synchronized (lock) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+            drain();
+            // Without prefetching, receive calls are only made for the outstanding demand.
+            fillBuffer();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (lock) {
+                terminated = true;
+            }
+            stop(null, false);
+        }
+    }
+
+    private static final class NoOpSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+
+    private static final class BufferedMessage {
+        private final Message message;
+        private final boolean expires;
+        private final long expiresAt;
+
+        private BufferedMessage(Message message, boolean expires, long expiresAt) {
+            this.message = message;
+            this.expires = expires;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpiring(long now) {
+            return expires && now - expiresAt >= 0;
+        }
+    }
+
+    private static final class DefaultBuilder implements SqsReceiveBuffer.Builder {
+        private SqsAsyncClient client;
+        private ReceiveMessageRequest receiveMessageRequest;
+        private Integer maxConcurrentReceives;
+        private Integer maxBufferedMessages;
+        private ScheduledExecutorService scheduledExecutor;
+
+        @Override
+        public SqsReceiveBuffer.Builder client(SqsAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public SqsReceiveBuffer.Builder receiveMessageRequest(ReceiveMessageRequest receiveMessageRequest) {
+            this.receiveMessageRequest = receiveMessageRequest;
+            return this;
+        }
+
+        @Override
+        public SqsReceiveBuffer.Builder maxConcurrentReceives(Integer maxConcurrentReceives) {
+            this.maxConcurrentReceives = maxConcurrentReceives;
+            return this;
+        }
+
+        @Override
+        public SqsReceiveBuffer.Builder maxBufferedMessages(Integer maxBufferedMessages) {
+            this.maxBufferedMessages = maxBufferedMessages;
+            return this;
+        }
+
+        @Override
+        public SqsReceiveBuffer.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public SqsReceiveBuffer build() {
+            return new DefaultSqsReceiveBuffer(this);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+
+/**
+ * Batches {@link DeleteMessageRequest}s into {@link DeleteMessageBatchRequest}s.
+ */
+@SdkInternalApi
+final class DeleteMessageBatchOperation extends BatchOperation<DeleteMessageRequest, DeleteMessageResponse,
+                                                               DeleteMessageBatchResponse> {
+    private final SqsAsyncClient client;
+
+    DeleteMessageBatchOperation(SqsAsyncClient client) {
+        this.client = client;
+    }
+
+    @Override
+    String queueUrl(DeleteMessageRequest request) {
+        return request.queueUrl();
+    }
+
+    @Override
+    CompletableFuture<DeleteMessageBatchResponse> sendBatch(String queueUrl,
+                                                            AwsRequestOverrideConfiguration overrideConfiguration,
+                                                            List<DeleteMessageRequest> requests) {
+        List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            DeleteMessageRequest request = requests.get(i);
+            entries.add(DeleteMessageBatchRequestEntry.builder()
+                                                      .id(entryId(i))
+                                                      .receiptHandle(request.receiptHandle())
+                                                      .build());
+        }
+
+        return client.deleteMessageBatch(DeleteMessageBatchRequest.builder()
+                                                                  .queueUrl(queueUrl)
+                                                                  .entries(entries)
+                                                                  .overrideConfiguration(overrideConfiguration)
+                                                                  .build());
+    }
+
+    @Override
+    Map<String, DeleteMessageResponse> successfulResponses(DeleteMessageBatchResponse batchResponse) {
+        Map<String, DeleteMessageResponse> responses = new HashMap<>();
+        for (DeleteMessageBatchResultEntry entry : batchResponse.successful()) {
+            responses.put(entry.id(), withBatchMetadata(DeleteMessageResponse.builder(), batchResponse).build());
+        }
+        return responses;
+    }
+
+    @Override
+    List<BatchResultErrorEntry> failedEntries(DeleteMessageBatchResponse batchResponse) {
+        return batchResponse.failed();
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SqsRequest;
+import software.amazon.awssdk.services.sqs.model.SqsResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Buffers the requests of one SQS operation into a batch per queue URL and override configuration, and sends each batch with
+ * its {@link BatchOperation} when it is full or when its linger time has elapsed.
+ * <p>
+ * The batches of a FIFO queue are sent one at a time, in order, so that the order of the messages of a message group is
+ * preserved across batches. The buffer of a queue is removed once it is empty and none of its batches are being sent.
+ *
+ * @param <RequestT> The type of the individual requests.
+ * @param <ResponseT> The type of the individual responses.
+ * @param <BatchResponseT> The type of the batch response.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class RequestBatcher<RequestT extends SqsRequest, ResponseT, BatchResponseT extends SqsResponse>
+    implements SdkAutoCloseable {
+    private final BatchOperation<RequestT, ResponseT, BatchResponseT> operation;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final int maxBatchPayloadSize;
+    private final Map<BatchKey, BatchBuffer> buffers = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    RequestBatcher(BatchOperation<RequestT, ResponseT, BatchResponseT> operation,
+                   ScheduledExecutorService scheduledExecutor,
+                   int maxBatchSize,
+                   long lingerNanos,
+                   int maxBatchPayloadSize) {
+        this.operation = operation;
+        this.scheduledExecutor = scheduledExecutor;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = lingerNanos;
+        this.maxBatchPayloadSize = maxBatchPayloadSize;
+    }
+
+    /**
+     * Add the request to the batch of its queue.
+     *
+     * @return A future that is completed with the result of the request's entry in the batch, or exceptionally if this
+     * batcher was closed.
+     */
+    CompletableFuture<ResponseT> batchRequest(RequestT request) {
+        BatchEntry<RequestT, ResponseT> entry = new BatchEntry<>(request, operation.payloadSize(request));
+        BatchKey key = new BatchKey(operation.queueUrl(request), request.overrideConfiguration().orElse(null));
+
+        // A buffer is only retired once it is empty, so adding to a new buffer preserves the order of the requests
+        BatchBuffer buffer;
+        do {
+            buffer = buffers.computeIfAbsent(key, BatchBuffer::new);
+        } while (!buffer.add(entry));
+        return entry.response;
+    }
+
+    /**
+     * Send all the batches that are buffered. Requests added afterwards fail.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        buffers.values().forEach(BatchBuffer::flush);
+    }
+
+    /**
+     * Send a batch.
+     *
+     * @return A future completed once the responses of all the entries of the batch are completed.
+     */
+    private CompletableFuture<Void> send(BatchKey key, List<BatchEntry<RequestT, ResponseT>> batch) {
+        List<RequestT> requests = new ArrayList<>(batch.size());
+        for (BatchEntry<RequestT, ResponseT> entry : batch) {
+            requests.add(entry.request);
+        }
+
+        CompletableFuture<BatchResponseT> batchResponse;
+        try {
+            batchResponse = operation.sendBatch(key.queueUrl, key.overrideConfiguration, requests);
+        } catch (Throwable t) {
+            batchResponse = CompletableFutureUtils.failedFuture(t);
+        }
+
+        return batchResponse.handle((response, error) -> {
+            if (error != null) {
+                Throwable cause = CompletableFutureUtils.errorAsCompletionException(error).getCause();
+                batch.forEach(entry -> entry.response.completeExceptionally(cause));
+            } else {
+                completeEntries(response, batch);
+            }
+            return null;
+        });
+    }
+
+    private void completeEntries(BatchResponseT batchResponse, List<BatchEntry<RequestT, ResponseT>> batch) {
+        Map<String, ResponseT> responses = operation.successfulResponses(batchResponse);
+        Map<String, BatchResultErrorEntry> errors = new HashMap<>();
+        for (BatchResultErrorEntry errorEntry : operation.failedEntries(batchResponse)) {
+            errors.put(errorEntry.id(), errorEntry);
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            String id = BatchOperation.entryId(i);
+            CompletableFuture<ResponseT> response = batch.get(i).response;
+            if (responses.containsKey(id)) {
+                response.complete(responses.get(id));
+            } else if (errors.containsKey(id)) {
+                response.completeExceptionally(BatchOperation.toException(errors.get(id), batchResponse));
+            } else {
+                response.completeExceptionally(SdkClientException.create("The batch response did not include a result for "
+                                                                         + "the request."));
+            }
+        }
+    }
+
+    /**
+     * The requests buffered for one queue URL and override configuration.
+     */
+    private final class BatchBuffer {
+        private final BatchKey key;
+        private final boolean ordered;
+        private final Deque<List<BatchEntry<RequestT, ResponseT>>> pendingBatches = new ArrayDeque<>();
+        private List<BatchEntry<RequestT, ResponseT>> entries = new ArrayList<>();
+        private int payloadSize;
+        private ScheduledFuture<?> scheduledFlush;
+        private int batchesInFlight;
+        private boolean retired;
+
+        private BatchBuffer(BatchKey key) {
+            this.key = key;
+            this.ordered = key.queueUrl != null && key.queueUrl.endsWith(".fifo");
+        }
+
+        /**
+         * Add the entry to this buffer.
+         *
+         * @return False if this buffer was retired and the entry must be added to a new buffer.
+         */
+        private boolean add(BatchEntry<RequestT, ResponseT> entry) {
+            List<List<BatchEntry<RequestT, ResponseT>>> toSend;
+
+            synchronized (this) {
+                if (retired) {
+                    return false;
+                }
+                if (closed) {
+                    entry.response.completeExceptionally(new IllegalStateException("The batch manager has been closed."));
+                    return true;
+                }
+
+                List<List<BatchEntry<RequestT, ResponseT>>> batches = new ArrayList<>(2);
+                // Send the current batch first if the new request does not fit in its payload.
+                if (!entries.isEmpty() && payloadSize + entry.payloadSize > maxBatchPayloadSize) {
+                    batches.add(takeEntries());
+                }
+
+                entries.add(entry);
+                payloadSize += entry.payloadSize;
+
+                if (entries.size() >= maxBatchSize || payloadSize >= maxBatchPayloadSize) {
+                    batches.add(takeEntries());
+                } else if (entries.size() == 1) {
+                    try {
+                        scheduledFlush = scheduledExecutor.schedule(this::flush, lingerNanos, TimeUnit.NANOSECONDS);
+                    } catch (RejectedExecutionException e) {
+                        batches.add(takeEntries());
+                    }
+                }
+
+                toSend = dispatch(batches);
+            }
+
+            toSend.forEach(this::send);
+            return true;
+        }
+
+        private void flush() {
+            List<List<BatchEntry<RequestT, ResponseT>>> toSend;
+            synchronized (this) {
+                toSend = dispatch(entries.isEmpty() ? Collections.emptyList() : Collections.singletonList(takeEntries()));
+            }
+            toSend.forEach(this::send);
+        }
+
+        private void batchSent() {
+            List<List<BatchEntry<RequestT, ResponseT>>> toSend;
+            synchronized (this) {
+                batchesInFlight--;
+                toSend = dispatch(Collections.emptyList());
+            }
+            toSend.forEach(this::send);
+        }
+
+        private void send(List<BatchEntry<RequestT, ResponseT>> batch) {
+            RequestBatcher.this.send(key, batch).whenComplete((r, t) -> batchSent());
+        }
+
+        /**
+         * Select the batches to send now: all of them, or the next one of a FIFO queue if none is being sent. Retire this
+         * buffer if it is idle. Must be called while holding the lock of this buffer.
+         */
+        private List<List<BatchEntry<RequestT, ResponseT>>> dispatch(List<List<BatchEntry<RequestT, ResponseT>>> batches) {
+            List<List<BatchEntry<RequestT, ResponseT>>> toSend;
+            if (!ordered) {
+                toSend = batches;
+            } else {
+                pendingBatches.addAll(batches);
+                toSend = batchesInFlight == 0 && !pendingBatches.isEmpty()
+                         ? Collections.singletonList(pendingBatches.poll())
+                         : Collections.emptyList();
+            }
+            batchesInFlight += toSend.size();
+
+            if (entries.isEmpty() && pendingBatches.isEmpty() && batchesInFlight == 0) {
+                retired = true;
+                buffers.remove(key, this);
+            }
+            return toSend;
+        }
+
+        private List<BatchEntry<RequestT, ResponseT>> takeEntries() {
+            List<BatchEntry<RequestT, ResponseT>> batch = entries;
+            entries = new ArrayList<>(maxBatchSize);
+            payloadSize = 0;
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+            return batch;
+        }
+    }
+
+    private static final class BatchEntry<RequestT, ResponseT> {
+        private final RequestT request;
+        private final int payloadSize;
+        private final CompletableFuture<ResponseT> response = new CompletableFuture<>();
+
+        private BatchEntry(RequestT request, int payloadSize) {
+            this.request = request;
+            this.payloadSize = payloadSize;
+        }
+    }
+
+    private static final class BatchKey {
+        private final String queueUrl;
+        private final AwsRequestOverrideConfiguration overrideConfiguration;
+
+        private BatchKey(String queueUrl, AwsRequestOverrideConfiguration overrideConfiguration) {
+            this.queueUrl = queueUrl;
+            this.overrideConfiguration = overrideConfiguration;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            BatchKey that = (BatchKey) o;
+            return Objects.equals(queueUrl, that.queueUrl) &&
+                   Objects.equals(overrideConfiguration, that.overrideConfiguration);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(queueUrl);
+            result = 31 * result + Objects.hashCode(overrideConfiguration);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+
+/**
+ * Batches {@link SendMessageRequest}s into {@link SendMessageBatchRequest}s.
+ */
+@SdkInternalApi
+final class SendMessageBatchOperation extends BatchOperation<SendMessageRequest, SendMessageResponse,
+                                                             SendMessageBatchResponse> {
+    private final SqsAsyncClient client;
+
+    SendMessageBatchOperation(SqsAsyncClient client) {
+        this.client = client;
+    }
+
+    @Override
+    String queueUrl(SendMessageRequest request) {
+        return request.queueUrl();
+    }
+
+    /**
+     * The size SQS counts towards the payload limit of a batch: the size of the message body, and the size of the name, type
+     * and value of each message attribute.
+     */
+    @Override
+    int payloadSize(SendMessageRequest request) {
+        int size = utf8Length(request.messageBody());
+        if (request.hasMessageAttributes()) {
+            for (Map.Entry<String, MessageAttributeValue> attribute : request.messageAttributes().entrySet()) {
+                size += utf8Length(attribute.getKey()) + attributeValueSize(attribute.getValue());
+            }
+        }
+        return size;
+    }
+
+    @Override
+    CompletableFuture<SendMessageBatchResponse> sendBatch(String queueUrl,
+                                                          AwsRequestOverrideConfiguration overrideConfiguration,
+                                                          List<SendMessageRequest> requests) {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            SendMessageRequest request = requests.get(i);
+            entries.add(SendMessageBatchRequestEntry.builder()
+                                                    .id(entryId(i))
+                                                    .messageBody(request.messageBody())
+                                                    .delaySeconds(request.delaySeconds())
+                                                    .messageAttributes(request.hasMessageAttributes() ?
+                                                                       request.messageAttributes() : null)
+                                                    .messageSystemAttributesWithStrings(
+                                                        request.hasMessageSystemAttributes() ?
+                                                        request.messageSystemAttributesAsStrings() : null)
+                                                    .messageDeduplicationId(request.messageDeduplicationId())
+                                                    .messageGroupId(request.messageGroupId())
+                                                    .build());
+        }
+
+        return client.sendMessageBatch(SendMessageBatchRequest.builder()
+                                                              .queueUrl(queueUrl)
+                                                              .entries(entries)
+                                                              .overrideConfiguration(overrideConfiguration)
+                                                              .build());
+    }
+
+    @Override
+    Map<String, SendMessageResponse> successfulResponses(SendMessageBatchResponse batchResponse) {
+        Map<String, SendMessageResponse> responses = new HashMap<>();
+        for (SendMessageBatchResultEntry entry : batchResponse.successful()) {
+            SendMessageResponse response =
+                withBatchMetadata(SendMessageResponse.builder(), batchResponse)
+                    .messageId(entry.messageId())
+                    .md5OfMessageBody(entry.md5OfMessageBody())
+                    .md5OfMessageAttributes(entry.md5OfMessageAttributes())
+                    .md5OfMessageSystemAttributes(entry.md5OfMessageSystemAttributes())
+                    .sequenceNumber(entry.sequenceNumber())
+                    .build();
+            responses.put(entry.id(), response);
+        }
+        return responses;
+    }
+
+    @Override
+    List<BatchResultErrorEntry> failedEntries(SendMessageBatchResponse batchResponse) {
+        return batchResponse.failed();
+    }
+
+    private static int attributeValueSize(MessageAttributeValue value) {
+        int size = utf8Length(value.dataType());
+        if (value.stringValue() != null) {
+            size += utf8Length(value.stringValue());
+        } else if (value.binaryValue() != null) {
+            size += value.binaryValue().asByteBuffer().remaining();
+        }
+        if (value.hasStringListValues()) {
+            for (String stringValue : value.stringListValues()) {
+                size += utf8Length(stringValue);
+            }
+        }
+        if (value.hasBinaryListValues()) {
+            for (SdkBytes binaryValue : value.binaryListValues()) {
+                size += binaryValue.asByteBuffer().remaining();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * The number of bytes of the UTF-8 encoding of the string, computed without encoding it.
+     */
+    static int utf8Length(String string) {
+        if (string == null) {
+            return 0;
+        }
+        int length = 0;
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < string.length() &&
+                       Character.isLowSurrogate(string.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
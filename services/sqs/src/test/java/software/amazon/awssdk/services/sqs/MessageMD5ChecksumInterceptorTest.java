@@ -15,10 +15,21 @@
 
 package software.amazon.awssdk.services.sqs;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
 import org.junit.Test;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkRequest;
@@ -26,6 +37,7 @@ import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.services.sqs.internal.MessageMD5ChecksumInterceptor;
 import software.amazon.awssdk.services.sqs.model.Message;
 import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
@@ -37,11 +49,21 @@ import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
 import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Md5Utils;
 
 /**
  * Verifies the functionality of {@link MessageMD5ChecksumInterceptor}.
  */
 public class MessageMD5ChecksumInterceptorTest {
+
+    private final ExecutorService md5ValidationExecutor = Executors.newFixedThreadPool(2);
+    private final AtomicInteger md5ValidationTasks = new AtomicInteger();
+
+    @After
+    public void shutdownExecutor() {
+        md5ValidationExecutor.shutdownNow();
+    }
     @Test
     public void sendMessagePassesValidChecksums() {
         SendMessageRequest request = SendMessageRequest.builder()
@@ -226,6 +248,161 @@ public class MessageMD5ChecksumInterceptorTest {
         assertFailure(ReceiveMessageRequest.builder().build(), response);
     }
 
+    @Test
+    public void receiveMessageInParallelPassesValidChecksums() {
+        Message message = Message.builder()
+                                 .body(messageBody())
+                                 .messageAttributes(messageAttributes())
+                                 .md5OfBody(messageBodyChecksum())
+                                 .md5OfMessageAttributes(messageAttributesChecksum())
+                                 .build();
+
+        ReceiveMessageResponse response = ReceiveMessageResponse.builder()
+                                                                .messages(message, message, message, message)
+                                                                .build();
+
+        callInterceptorInParallel(ReceiveMessageRequest.builder().build(), response);
+        assertThat(md5ValidationTasks.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void receiveMessageInParallelFailsInvalidAttributeChecksum() {
+        Message message = Message.builder()
+                                 .body(messageBody())
+                                 .messageAttributes(messageAttributes())
+                                 .md5OfBody(messageBodyChecksum())
+                                 .md5OfMessageAttributes(messageAttributesChecksum())
+                                 .build();
+        Message badMessage = message.toBuilder().md5OfMessageAttributes("bad").build();
+
+        ReceiveMessageResponse response = ReceiveMessageResponse.builder()
+                                                                .messages(message, message, badMessage, message)
+                                                                .build();
+
+        assertThatThrownBy(() -> callInterceptorInParallel(ReceiveMessageRequest.builder().build(), response))
+                .isInstanceOf(SdkClientException.class)
+                .hasMessageContaining(messageAttributesChecksum());
+    }
+
+    @Test
+    public void receiveMessageInParallel_executorNeverRunsTasks_validatesOnCallingThread() {
+        Message message = Message.builder()
+                                 .body(messageBody())
+                                 .md5OfBody(messageBodyChecksum())
+                                 .build();
+        Message badMessage = message.toBuilder().md5OfBody("bad").build();
+
+        // An executor that is saturated, or that is the one completing the request, may never run the queued tasks.
+        List<Runnable> queuedTasks = new ArrayList<>();
+        Executor stalledExecutor = queuedTasks::add;
+
+        callInterceptorInParallel(ReceiveMessageRequest.builder().build(),
+                                  ReceiveMessageResponse.builder().messages(message, message, message).build(),
+                                  stalledExecutor);
+        assertThat(queuedTasks).hasSize(2);
+
+        assertThatThrownBy(() -> callInterceptorInParallel(ReceiveMessageRequest.builder().build(),
+                                                           ReceiveMessageResponse.builder()
+                                                                                 .messages(message, badMessage, message)
+                                                                                 .build(),
+                                                           stalledExecutor))
+                .isInstanceOf(SdkClientException.class)
+                .hasMessageContaining(messageBodyChecksum());
+
+        // Tasks run late find nothing left to validate.
+        queuedTasks.forEach(Runnable::run);
+    }
+
+    @Test
+    public void receiveMessageInParallel_executorRejectsTasks_validatesOnCallingThread() {
+        Message message = Message.builder()
+                                 .body(messageBody())
+                                 .md5OfBody(messageBodyChecksum())
+                                 .build();
+        Executor rejectingExecutor = r -> {
+            throw new RejectedExecutionException();
+        };
+
+        callInterceptorInParallel(ReceiveMessageRequest.builder().build(),
+                                  ReceiveMessageResponse.builder().messages(message, message, message).build(),
+                                  rejectingExecutor);
+    }
+
+    @Test
+    public void sendMessageBatchInParallelFailsInvalidBodyChecksums() {
+        SendMessageBatchRequestEntry requestEntry = SendMessageBatchRequestEntry.builder()
+                                                                                .id("1")
+                                                                                .messageBody(messageBody())
+                                                                                .build();
+        SendMessageBatchRequestEntry otherRequestEntry = requestEntry.toBuilder().id("2").build();
+
+        SendMessageBatchResultEntry resultEntry = SendMessageBatchResultEntry.builder()
+                                                                             .id("1")
+                                                                             .md5OfMessageBody(messageBodyChecksum())
+                                                                             .build();
+        SendMessageBatchResultEntry badResultEntry = resultEntry.toBuilder().id("2").md5OfMessageBody("bad").build();
+
+        SendMessageBatchRequest request = SendMessageBatchRequest.builder()
+                                                                 .entries(requestEntry, otherRequestEntry)
+                                                                 .build();
+
+        SendMessageBatchResponse response = SendMessageBatchResponse.builder()
+                                                                    .successful(resultEntry, badResultEntry)
+                                                                    .build();
+
+        assertThatThrownBy(() -> callInterceptorInParallel(request, response))
+                .isInstanceOf(SdkClientException.class)
+                .hasMessageContaining("Message ID: 2");
+    }
+
+    @Test
+    public void receiveMessagePassesValidChecksumsOfNonAsciiText() {
+        // Two, three and four byte UTF-8 sequences, an unpaired surrogate, and enough text to span several scratch buffers
+        StringBuilder body = new StringBuilder("\u00e9\u20ac\ud83d\ude00\ud800x");
+        for (int i = 0; i < 2000; i++) {
+            body.append("\u00fc\u4e2d\ud83d\ude80a");
+        }
+
+        Message message = Message.builder()
+                                 .body(body.toString())
+                                 .md5OfBody(md5Hex(body.toString().getBytes(StandardCharsets.UTF_8)))
+                                 .build();
+
+        ReceiveMessageResponse response = ReceiveMessageResponse.builder()
+                                                                .messages(message)
+                                                                .build();
+
+        assertSuccess(ReceiveMessageRequest.builder().build(), response);
+    }
+
+    @Test
+    public void sendMessagePassesValidChecksumsOfNonAsciiAttributes() {
+        Map<String, MessageAttributeValue> messageAttributes = new HashMap<>();
+        messageAttributes.put("\u00e9t\u00e9", MessageAttributeValue.builder()
+                                                                  .stringValue("\u20ac\ud83d\ude00")
+                                                                  .dataType("String")
+                                                                  .build());
+
+        // Name, type and value, each prefixed with its UTF-8 length, and the value preceded by its type field index
+        byte[] name = "\u00e9t\u00e9".getBytes(StandardCharsets.UTF_8);
+        byte[] type = "String".getBytes(StandardCharsets.UTF_8);
+        byte[] value = "\u20ac\ud83d\ude00".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer encoded = ByteBuffer.allocate(13 + name.length + type.length + value.length);
+        encoded.putInt(name.length).put(name).putInt(type.length).put(type).put((byte) 1).putInt(value.length).put(value);
+
+        SendMessageRequest request = SendMessageRequest.builder()
+                                                       .messageBody(messageBody())
+                                                       .messageAttributes(messageAttributes)
+                                                       .build();
+
+        SendMessageResponse response = SendMessageResponse.builder()
+                                                          .md5OfMessageBody(messageBodyChecksum())
+                                                          .md5OfMessageAttributes(md5Hex(encoded.array()))
+                                                          .build();
+
+        assertSuccess(request, response);
+    }
+
     private void assertSuccess(SdkRequest request, SdkResponse response) {
         callInterceptor(request, response);
     }
@@ -236,11 +413,32 @@ public class MessageMD5ChecksumInterceptorTest {
     }
 
     private void callInterceptor(SdkRequest request, SdkResponse response) {
+        callInterceptor(request, response, new ExecutionAttributes());
+    }
+
+    private void callInterceptorInParallel(SdkRequest request, SdkResponse response) {
+        callInterceptorInParallel(request, response, r -> {
+            md5ValidationTasks.incrementAndGet();
+            md5ValidationExecutor.execute(r);
+        });
+    }
+
+    private void callInterceptorInParallel(SdkRequest request, SdkResponse response, Executor executor) {
+        SqsConfiguration configuration = SqsConfiguration.builder().md5ValidationExecutor(executor).build();
+        callInterceptor(request, response,
+                        new ExecutionAttributes().putAttribute(SdkExecutionAttribute.SERVICE_CONFIG, configuration));
+    }
+
+    private void callInterceptor(SdkRequest request, SdkResponse response, ExecutionAttributes executionAttributes) {
         new MessageMD5ChecksumInterceptor().afterExecution(InterceptorContext.builder()
                                                                              .request(request)
                                                                              .response(response)
                                                                              .build(),
-                                                           new ExecutionAttributes());
+                                                           executionAttributes);
+    }
+
+    private String md5Hex(byte[] bytes) {
+        return BinaryUtils.toHex(Md5Utils.computeMD5Hash(bytes));
     }
 
     private String messageBody() {
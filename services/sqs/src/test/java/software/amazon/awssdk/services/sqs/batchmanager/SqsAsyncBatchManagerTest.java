@@ -0,0 +1,351 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+
+/**
+ * Verifies the functionality of {@link SqsAsyncBatchManager}.
+ */
+public class SqsAsyncBatchManagerTest {
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue";
+    private static final String OTHER_QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/other-queue";
+
+    private SqsAsyncClient client;
+    private SqsAsyncBatchManager batchManager;
+
+    @Before
+    public void setup() {
+        client = mock(SqsAsyncClient.class);
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class))).thenAnswer(i -> {
+            SendMessageBatchRequest request = (SendMessageBatchRequest) i.getArguments()[0];
+            List<SendMessageBatchResultEntry> results =
+                request.entries().stream()
+                       .map(e -> SendMessageBatchResultEntry.builder().id(e.id()).messageId("id-" + e.messageBody()).build())
+                       .collect(Collectors.toList());
+            return CompletableFuture.completedFuture(SendMessageBatchResponse.builder().successful(results).build());
+        });
+        when(client.deleteMessageBatch(any(DeleteMessageBatchRequest.class))).thenAnswer(i -> {
+            DeleteMessageBatchRequest request = (DeleteMessageBatchRequest) i.getArguments()[0];
+            List<DeleteMessageBatchResultEntry> results =
+                request.entries().stream()
+                       .map(e -> DeleteMessageBatchResultEntry.builder().id(e.id()).build())
+                       .collect(Collectors.toList());
+            return CompletableFuture.completedFuture(DeleteMessageBatchResponse.builder().successful(results).build());
+        });
+        when(client.changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class))).thenAnswer(i -> {
+            ChangeMessageVisibilityBatchRequest request = (ChangeMessageVisibilityBatchRequest) i.getArguments()[0];
+            List<ChangeMessageVisibilityBatchResultEntry> results =
+                request.entries().stream()
+                       .map(e -> ChangeMessageVisibilityBatchResultEntry.builder().id(e.id()).build())
+                       .collect(Collectors.toList());
+            return CompletableFuture.completedFuture(ChangeMessageVisibilityBatchResponse.builder()
+                                                                                         .successful(results)
+                                                                                         .build());
+        });
+    }
+
+    @After
+    public void teardown() {
+        if (batchManager != null) {
+            batchManager.close();
+        }
+    }
+
+    @Test
+    public void sendMessage_FullBatch_IsSentWithoutWaitingForLinger() {
+        batchManager = batchManager(c -> c.maxBatchSize(3).linger(Duration.ofHours(1)));
+
+        CompletableFuture<SendMessageResponse> first = batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("a"));
+        CompletableFuture<SendMessageResponse> second = batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("b"));
+        assertThat(first).isNotDone();
+
+        CompletableFuture<SendMessageResponse> third = batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL)
+                                                                                         .messageBody("c")
+                                                                                         .delaySeconds(5)
+                                                                                         .messageGroupId("group"));
+
+        assertThat(first.join().messageId()).isEqualTo("id-a");
+        assertThat(second.join().messageId()).isEqualTo("id-b");
+        assertThat(third.join().messageId()).isEqualTo("id-c");
+
+        List<SendMessageBatchRequestEntry> entries = sentMessageBatches(1).get(0).entries();
+        assertThat(entries).extracting(SendMessageBatchRequestEntry::messageBody).containsExactly("a", "b", "c");
+        assertThat(entries.get(2).delaySeconds()).isEqualTo(5);
+        assertThat(entries.get(2).messageGroupId()).isEqualTo("group");
+    }
+
+    @Test
+    public void sendMessage_PartialBatch_IsSentAfterLinger() throws Exception {
+        batchManager = batchManager(c -> c.linger(Duration.ofMillis(10)));
+
+        SendMessageResponse response = batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("a"))
+                                                   .get(5, TimeUnit.SECONDS);
+
+        assertThat(response.messageId()).isEqualTo("id-a");
+    }
+
+    @Test
+    public void sendMessage_DifferentQueues_AreBatchedSeparately() {
+        batchManager = batchManager(c -> c.maxBatchSize(2).linger(Duration.ofHours(1)));
+
+        batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("a"));
+        batchManager.sendMessage(r -> r.queueUrl(OTHER_QUEUE_URL).messageBody("b"));
+        batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("c"));
+        batchManager.sendMessage(r -> r.queueUrl(OTHER_QUEUE_URL).messageBody("d")).join();
+
+        List<SendMessageBatchRequest> batches = sentMessageBatches(2);
+        assertThat(batches.get(0).queueUrl()).isEqualTo(QUEUE_URL);
+        assertThat(batches.get(0).entries()).extracting(SendMessageBatchRequestEntry::messageBody).containsExactly("a", "c");
+        assertThat(batches.get(1).queueUrl()).isEqualTo(OTHER_QUEUE_URL);
+        assertThat(batches.get(1).entries()).extracting(SendMessageBatchRequestEntry::messageBody).containsExactly("b", "d");
+    }
+
+    @Test
+    public void sendMessage_MessageDoesNotFitInPayload_StartsNewBatch() {
+        batchManager = batchManager(c -> c.maxBatchPayloadSizeInBytes(10).linger(Duration.ofHours(1)));
+
+        batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("123456"));
+        batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("7890"));
+        batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("é"));
+        batchManager.close();
+
+        List<SendMessageBatchRequest> batches = sentMessageBatches(2);
+        assertThat(batches.get(0).entries()).extracting(SendMessageBatchRequestEntry::messageBody)
+                                            .containsExactly("123456", "7890");
+        assertThat(batches.get(1).entries()).extracting(SendMessageBatchRequestEntry::messageBody)
+                                            .containsExactly("é");
+    }
+
+    @Test
+    public void sendMessage_FailedEntry_CompletesWithSqsException() {
+        BatchResultErrorEntry error = BatchResultErrorEntry.builder()
+                                                           .id("1")
+                                                           .code("InvalidParameterValue")
+                                                           .message("Invalid message body.")
+                                                           .senderFault(true)
+                                                           .build();
+        SendMessageBatchResultEntry success = SendMessageBatchResultEntry.builder().id("0").messageId("id-a").build();
+        doReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder().successful(success).failed(error).build()))
+            .when(client).sendMessageBatch(any(SendMessageBatchRequest.class));
+        batchManager = batchManager(c -> c.maxBatchSize(3).linger(Duration.ofHours(1)));
+
+        CompletableFuture<SendMessageResponse> first = batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("a"));
+        CompletableFuture<SendMessageResponse> second = batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("b"));
+        CompletableFuture<SendMessageResponse> third = batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("c"));
+
+        assertThat(first.join().messageId()).isEqualTo("id-a");
+        assertThatThrownBy(second::join).hasCauseInstanceOf(SqsException.class)
+                                        .satisfies(e -> {
+                                            SqsException cause = (SqsException) e.getCause();
+                                            assertThat(cause.statusCode()).isEqualTo(400);
+                                            assertThat(cause.awsErrorDetails().errorCode()).isEqualTo("InvalidParameterValue");
+                                            assertThat(cause.awsErrorDetails().errorMessage())
+                                                .isEqualTo("Invalid message body.");
+                                        });
+        assertThatThrownBy(third::join).hasCauseInstanceOf(SdkClientException.class);
+    }
+
+    @Test
+    public void sendMessage_BatchRequestFails_CompletesAllRequestsExceptionally() {
+        SdkClientException exception = SdkClientException.create("Unable to execute HTTP request");
+        CompletableFuture<SendMessageBatchResponse> failedResponse = new CompletableFuture<>();
+        failedResponse.completeExceptionally(exception);
+        doReturn(failedResponse).when(client).sendMessageBatch(any(SendMessageBatchRequest.class));
+        batchManager = batchManager(c -> c.maxBatchSize(2).linger(Duration.ofHours(1)));
+
+        CompletableFuture<SendMessageResponse> first = batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("a"));
+        CompletableFuture<SendMessageResponse> second = batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("b"));
+
+        assertThatThrownBy(first::join).isInstanceOf(CompletionException.class).hasCause(exception);
+        assertThatThrownBy(second::join).isInstanceOf(CompletionException.class).hasCause(exception);
+    }
+
+    @Test
+    public void deleteMessage_IsSentAsDeleteMessageBatch() {
+        batchManager = batchManager(c -> c.maxBatchSize(2).linger(Duration.ofHours(1)));
+
+        CompletableFuture<DeleteMessageResponse> first = batchManager.deleteMessage(r -> r.queueUrl(QUEUE_URL)
+                                                                                           .receiptHandle("handle-1"));
+        CompletableFuture<DeleteMessageResponse> second = batchManager.deleteMessage(r -> r.queueUrl(QUEUE_URL)
+                                                                                            .receiptHandle("handle-2"));
+
+        assertThat(first.join()).isNotNull();
+        assertThat(second.join()).isNotNull();
+
+        ArgumentCaptor<DeleteMessageBatchRequest> captor = ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+        verify(client).deleteMessageBatch(captor.capture());
+        assertThat(captor.getValue().entries()).extracting(DeleteMessageBatchRequestEntry::receiptHandle)
+                                               .containsExactly("handle-1", "handle-2");
+    }
+
+    @Test
+    public void changeMessageVisibility_IsSentAsChangeMessageVisibilityBatch() {
+        batchManager = batchManager(c -> c.linger(Duration.ofHours(1)));
+
+        batchManager.changeMessageVisibility(r -> r.queueUrl(QUEUE_URL).receiptHandle("handle-1").visibilityTimeout(30));
+        batchManager.close();
+
+        ArgumentCaptor<ChangeMessageVisibilityBatchRequest> captor =
+            ArgumentCaptor.forClass(ChangeMessageVisibilityBatchRequest.class);
+        verify(client).changeMessageVisibilityBatch(captor.capture());
+        ChangeMessageVisibilityBatchRequestEntry entry = captor.getValue().entries().get(0);
+        assertThat(entry.receiptHandle()).isEqualTo("handle-1");
+        assertThat(entry.visibilityTimeout()).isEqualTo(30);
+    }
+
+    @Test
+    public void close_SendsBufferedRequestsAndRejectsNewRequests() {
+        batchManager = batchManager(c -> c.linger(Duration.ofHours(1)));
+
+        CompletableFuture<SendMessageResponse> buffered = batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("a"));
+        batchManager.close();
+
+        assertThat(buffered.join().messageId()).isEqualTo("id-a");
+        assertThatThrownBy(() -> batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("b")).join())
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void close_ConcurrentRequests_AreAllCompleted() throws Exception {
+        batchManager = batchManager(c -> c.linger(Duration.ofHours(1)));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<CompletableFuture<SendMessageResponse>> responses = new CopyOnWriteArrayList<>();
+        try {
+            CountDownLatch started = new CountDownLatch(4);
+            for (int i = 0; i < 4; i++) {
+                executor.execute(() -> {
+                    started.countDown();
+                    for (int j = 0; j < 500; j++) {
+                        responses.add(batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("a")));
+                    }
+                });
+            }
+            started.await();
+            batchManager.close();
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(responses).hasSize(2000).allMatch(CompletableFuture::isDone);
+        assertThat(responses).filteredOn(f -> !f.isCompletedExceptionally())
+                             .allMatch(f -> f.join().messageId().equals("id-a"));
+    }
+
+    @Test
+    public void sendMessage_RejectedLingerFlush_SendsTheBatchImmediately() {
+        ScheduledExecutorService scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        scheduledExecutor.shutdown();
+        batchManager = SqsAsyncBatchManager.builder().client(client).scheduledExecutor(scheduledExecutor).build();
+
+        CompletableFuture<SendMessageResponse> response = batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("a"));
+
+        assertThat(response.join().messageId()).isEqualTo("id-a");
+    }
+
+    @Test
+    public void sendMessage_FifoQueue_SendsOneBatchAtATime() {
+        CompletableFuture<SendMessageBatchResponse> firstBatch = new CompletableFuture<>();
+        doReturn(firstBatch).doAnswer(i -> {
+            SendMessageBatchRequest request = (SendMessageBatchRequest) i.getArguments()[0];
+            List<SendMessageBatchResultEntry> results =
+                request.entries().stream()
+                       .map(e -> SendMessageBatchResultEntry.builder().id(e.id()).messageId("id-" + e.messageBody()).build())
+                       .collect(Collectors.toList());
+            return CompletableFuture.completedFuture(SendMessageBatchResponse.builder().successful(results).build());
+        }).when(client).sendMessageBatch(any(SendMessageBatchRequest.class));
+        batchManager = batchManager(c -> c.maxBatchSize(2).linger(Duration.ofHours(1)));
+
+        for (String body : Arrays.asList("a", "b", "c", "d")) {
+            batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL + ".fifo").messageGroupId("group").messageBody(body));
+        }
+        CompletableFuture<SendMessageResponse> last =
+            batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL + ".fifo").messageGroupId("group").messageBody("e"));
+        verify(client, times(1)).sendMessageBatch(any(SendMessageBatchRequest.class));
+
+        firstBatch.complete(SendMessageBatchResponse.builder().build());
+        batchManager.close();
+
+        assertThat(last.join().messageId()).isEqualTo("id-e");
+        List<SendMessageBatchRequest> batches = sentMessageBatches(3);
+        assertThat(batches).flatExtracting(SendMessageBatchRequest::entries)
+                           .extracting(SendMessageBatchRequestEntry::messageBody)
+                           .containsExactly("a", "b", "c", "d", "e");
+    }
+
+    @Test
+    public void overrideConfiguration_MaxBatchSizeAboveSqsLimit_Throws() {
+        assertThatThrownBy(() -> BatchOverrideConfiguration.builder().maxBatchSize(11).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SqsAsyncBatchManager batchManager(Consumer<BatchOverrideConfiguration.Builder> configuration) {
+        return SqsAsyncBatchManager.builder()
+                                   .client(client)
+                                   .overrideConfiguration(configuration)
+                                   .build();
+    }
+
+    private List<SendMessageBatchRequest> sentMessageBatches(int count) {
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(client, times(count)).sendMessageBatch(captor.capture());
+        return captor.getAllValues();
+    }
+}
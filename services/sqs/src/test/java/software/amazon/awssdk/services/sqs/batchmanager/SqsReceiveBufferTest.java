@@ -0,0 +1,306 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+
+/**
+ * Verifies the functionality of {@link SqsReceiveBuffer}.
+ */
+public class SqsReceiveBufferTest {
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue";
+
+    private SqsAsyncClient client;
+    private Queue<CompletableFuture<ReceiveMessageResponse>> receiveResponses;
+    private SqsReceiveBuffer receiveBuffer;
+
+    @Before
+    public void setup() {
+        client = mock(SqsAsyncClient.class);
+        receiveResponses = new ConcurrentLinkedQueue<>();
+        // Receive calls that have no prepared response never complete, like long polls on an empty queue.
+        when(client.receiveMessage(any(ReceiveMessageRequest.class))).thenAnswer(i -> {
+            CompletableFuture<ReceiveMessageResponse> response = receiveResponses.poll();
+            return response != null ? response : new CompletableFuture<>();
+        });
+        when(client.changeMessageVisibilityBatch(any(Consumer.class)))
+            .thenReturn(CompletableFuture.completedFuture(ChangeMessageVisibilityBatchResponse.builder().build()));
+    }
+
+    @After
+    public void teardown() {
+        if (receiveBuffer != null) {
+            receiveBuffer.close();
+        }
+    }
+
+    @Test
+    public void messages_PublishesPrefetchedMessagesAsRequested() {
+        addReceiveResponse(messages(0, 10));
+        addReceiveResponse(messages(10, 3));
+        receiveBuffer = receiveBuffer(r -> r.queueUrl(QUEUE_URL).visibilityTimeout(60), 2, 20);
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        receiveBuffer.messages().subscribe(subscriber);
+        assertThat(subscriber.messages).isEmpty();
+
+        subscriber.request(4);
+        assertThat(subscriber.messageBodies()).containsExactly("0", "1", "2", "3");
+
+        subscriber.request(100);
+        assertThat(subscriber.messages).hasSize(13);
+
+        ArgumentCaptor<ReceiveMessageRequest> captor = ArgumentCaptor.forClass(ReceiveMessageRequest.class);
+        verify(client, times(4)).receiveMessage(captor.capture());
+        assertThat(captor.getValue().waitTimeSeconds()).isEqualTo(20);
+        assertThat(captor.getValue().maxNumberOfMessages()).isEqualTo(10);
+    }
+
+    @Test
+    public void messages_NoDemand_OnlyReceivesWhatFitsInTheBuffer() {
+        addReceiveResponse(messages(0, 10));
+        addReceiveResponse(messages(10, 10));
+        addReceiveResponse(messages(20, 10));
+        receiveBuffer = receiveBuffer(r -> r.queueUrl(QUEUE_URL).visibilityTimeout(60), 4, 20);
+
+        receiveBuffer.messages().subscribe(new RecordingSubscriber());
+
+        verify(client, times(2)).receiveMessage(any(ReceiveMessageRequest.class));
+    }
+
+    @Test
+    public void messages_NoVisibilityTimeoutInRequest_UsesVisibilityTimeoutOfQueue() {
+        GetQueueAttributesResponse attributes =
+            GetQueueAttributesResponse.builder()
+                                      .attributes(Collections.singletonMap(QueueAttributeName.VISIBILITY_TIMEOUT, "30"))
+                                      .build();
+        when(client.getQueueAttributes(any(Consumer.class))).thenReturn(CompletableFuture.completedFuture(attributes));
+        addReceiveResponse(messages(0, 1));
+        receiveBuffer = receiveBuffer(r -> r.queueUrl(QUEUE_URL), 1, 10);
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        receiveBuffer.messages().subscribe(subscriber);
+        subscriber.request(1);
+
+        assertThat(subscriber.messageBodies()).containsExactly("0");
+    }
+
+    @Test
+    public void messages_ExpiringMessages_AreReleasedInsteadOfPublished() {
+        addReceiveResponse(messages(0, 2));
+        receiveBuffer = receiveBuffer(r -> r.queueUrl(QUEUE_URL).visibilityTimeout(1), 1, 10);
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        receiveBuffer.messages().subscribe(subscriber);
+
+        assertThat(releasedReceiptHandles(1)).containsExactly("handle-0", "handle-1");
+
+        subscriber.request(1);
+        assertThat(subscriber.messages).isEmpty();
+    }
+
+    @Test
+    public void close_ReleasesBufferedMessagesAndCompletesSubscriber() {
+        addReceiveResponse(messages(0, 3));
+        receiveBuffer = receiveBuffer(r -> r.queueUrl(QUEUE_URL).visibilityTimeout(60), 1, 10);
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        receiveBuffer.messages().subscribe(subscriber);
+        subscriber.request(1);
+        receiveBuffer.close();
+
+        assertThat(subscriber.messageBodies()).containsExactly("0");
+        assertThat(subscriber.completed).isTrue();
+        assertThat(releasedReceiptHandles(1)).containsExactly("handle-1", "handle-2");
+    }
+
+    @Test
+    public void receiveFails_SignalsErrorToSubscriber() {
+        CompletableFuture<ReceiveMessageResponse> failedResponse = new CompletableFuture<>();
+        SdkClientException exception = SdkClientException.create("MD5 returned by SQS does not match");
+        failedResponse.completeExceptionally(exception);
+        receiveResponses.add(failedResponse);
+        receiveBuffer = receiveBuffer(r -> r.queueUrl(QUEUE_URL).visibilityTimeout(60), 1, 10);
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        receiveBuffer.messages().subscribe(subscriber);
+
+        assertThat(subscriber.error).isSameAs(exception);
+    }
+
+    @Test
+    public void receiveFailsWithRetryableError_RetriesAfterBackoff() throws InterruptedException {
+        CompletableFuture<ReceiveMessageResponse> failedResponse = new CompletableFuture<>();
+        failedResponse.completeExceptionally(SqsException.builder().statusCode(503).message("Service unavailable").build());
+        receiveResponses.add(failedResponse);
+        addReceiveResponse(messages(0, 1));
+        receiveBuffer = receiveBuffer(r -> r.queueUrl(QUEUE_URL).visibilityTimeout(60), 1, 10);
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        receiveBuffer.messages().subscribe(subscriber);
+        subscriber.request(1);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (subscriber.messages.isEmpty() && System.nanoTime() - deadline < 0) {
+            Thread.sleep(10);
+        }
+        assertThat(subscriber.messageBodies()).containsExactly("0");
+        assertThat(subscriber.error).isNull();
+    }
+
+    @Test
+    public void messages_ZeroVisibilityTimeout_OnlyReceivesForDemand() {
+        addReceiveResponse(messages(0, 1));
+        receiveBuffer = receiveBuffer(r -> r.queueUrl(QUEUE_URL).visibilityTimeout(0), 2, 20);
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        receiveBuffer.messages().subscribe(subscriber);
+        verify(client, never()).receiveMessage(any(ReceiveMessageRequest.class));
+
+        subscriber.request(1);
+
+        assertThat(subscriber.messageBodies()).containsExactly("0");
+        verify(client, times(1)).receiveMessage(any(ReceiveMessageRequest.class));
+        verify(client, never()).changeMessageVisibilityBatch(any(Consumer.class));
+    }
+
+    @Test
+    public void build_NegativeVisibilityTimeout_Throws() {
+        assertThatThrownBy(() -> receiveBuffer(r -> r.queueUrl(QUEUE_URL).visibilityTimeout(-1), 1, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void messages_SecondSubscriber_IsRejected() {
+        receiveBuffer = receiveBuffer(r -> r.queueUrl(QUEUE_URL).visibilityTimeout(60), 1, 10);
+        receiveBuffer.messages().subscribe(new RecordingSubscriber());
+
+        RecordingSubscriber secondSubscriber = new RecordingSubscriber();
+        receiveBuffer.messages().subscribe(secondSubscriber);
+
+        assertThat(secondSubscriber.error).isInstanceOf(IllegalStateException.class);
+    }
+
+    private SqsReceiveBuffer receiveBuffer(Consumer<ReceiveMessageRequest.Builder> request,
+                                           int maxConcurrentReceives,
+                                           int maxBufferedMessages) {
+        return SqsReceiveBuffer.builder()
+                               .client(client)
+                               .receiveMessageRequest(request)
+                               .maxConcurrentReceives(maxConcurrentReceives)
+                               .maxBufferedMessages(maxBufferedMessages)
+                               .build();
+    }
+
+    private void addReceiveResponse(List<Message> messages) {
+        receiveResponses.add(CompletableFuture.completedFuture(ReceiveMessageResponse.builder().messages(messages).build()));
+    }
+
+    private static List<Message> messages(int start, int count) {
+        return IntStream.range(start, start + count)
+                        .mapToObj(i -> Message.builder().body(Integer.toString(i)).receiptHandle("handle-" + i).build())
+                        .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> releasedReceiptHandles(int calls) {
+        ArgumentCaptor<Consumer> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(client, timeout(5_000).times(calls)).changeMessageVisibilityBatch(captor.capture());
+
+        List<String> receiptHandles = new ArrayList<>();
+        for (Consumer<ChangeMessageVisibilityBatchRequest.Builder> request : captor.getAllValues()) {
+            ChangeMessageVisibilityBatchRequest batchRequest =
+                ChangeMessageVisibilityBatchRequest.builder().applyMutation(request).build();
+            assertThat(batchRequest.queueUrl()).isEqualTo(QUEUE_URL);
+            for (ChangeMessageVisibilityBatchRequestEntry entry : batchRequest.entries()) {
+                assertThat(entry.visibilityTimeout()).isZero();
+                receiptHandles.add(entry.receiptHandle());
+            }
+        }
+        return receiptHandles;
+    }
+
+    private static final class RecordingSubscriber implements Subscriber<Message> {
+        private final List<Message> messages = Collections.synchronizedList(new ArrayList<>());
+        private volatile Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Message message) {
+            messages.add(message);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        private void request(long n) {
+            subscription.request(n);
+        }
+
+        private List<String> messageBodies() {
+            return messages.stream().map(Message::body).collect(Collectors.toList());
+        }
+    }
+}
@@ -35,7 +35,9 @@ import software.amazon.awssdk.benchmark.apicall.protocol.Ec2ProtocolBenchmark;
 import software.amazon.awssdk.benchmark.apicall.protocol.JsonProtocolBenchmark;
 import software.amazon.awssdk.benchmark.apicall.protocol.QueryProtocolBenchmark;
 import software.amazon.awssdk.benchmark.apicall.protocol.XmlProtocolBenchmark;
+import software.amazon.awssdk.benchmark.coldstart.ProfileFileLoadingBenchmark;
 import software.amazon.awssdk.benchmark.coldstart.V2DefaultClientCreationBenchmark;
+import software.amazon.awssdk.benchmark.coldstart.V2LazyClientCreationBenchmark;
 import software.amazon.awssdk.benchmark.coldstart.V2OptimizedClientCreationBenchmark;
 import software.amazon.awssdk.benchmark.enhanced.dynamodb.EnhancedClientDeleteV1MapperComparisonBenchmark;
 import software.amazon.awssdk.benchmark.enhanced.dynamodb.EnhancedClientGetOverheadBenchmark;
@@ -65,7 +67,9 @@ public class BenchmarkRunner {
 
     private static final List<String> COLD_START_BENCHMARKS = Arrays.asList(
         V2OptimizedClientCreationBenchmark.class.getSimpleName(),
-        V2DefaultClientCreationBenchmark.class.getSimpleName());
+        V2DefaultClientCreationBenchmark.class.getSimpleName(),
+        V2LazyClientCreationBenchmark.class.getSimpleName(),
+        ProfileFileLoadingBenchmark.class.getSimpleName());
 
     private static final List<String> MAPPER_BENCHMARKS = Arrays.asList(
             EnhancedClientGetOverheadBenchmark.class.getSimpleName(),
@@ -16,6 +16,8 @@
 package software.amazon.awssdk.benchmark.apicall.httpclient.async;
 
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.DEFAULT_JDK_SSL_PROVIDER;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.NATIVE_TRANSPORT;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.NIO_TRANSPORT;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.OPEN_SSL_PROVIDER;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.getSslProvider;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.trustAllTlsAttributeMapBuilder;
@@ -42,6 +44,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.MockServer;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
 
 /**
@@ -60,6 +63,9 @@ public class NettyHttpClientH1Benchmark extends BaseNettyBenchmark {
     @Param({DEFAULT_JDK_SSL_PROVIDER, OPEN_SSL_PROVIDER})
     private String sslProviderValue;
 
+    @Param({NIO_TRANSPORT, NATIVE_TRANSPORT})
+    private String transportValue;
+
     @Setup(Level.Trial)
     public void setup() throws Exception {
         mockServer = new MockServer();
@@ -69,6 +75,8 @@ public class NettyHttpClientH1Benchmark extends BaseNettyBenchmark {
 
         sdkHttpClient = NettyNioAsyncHttpClient.builder()
                                                .sslProvider(sslProvider)
+                                               .eventLoopGroupBuilder(SdkEventLoopGroup.builder().preferNativeTransport(
+                                                   NATIVE_TRANSPORT.equals(transportValue)))
                                                .buildWithDefaults(trustAllTlsAttributeMapBuilder().build());
         client = ProtocolRestJsonAsyncClient.builder()
                                             .endpointOverride(mockServer.getHttpsUri())
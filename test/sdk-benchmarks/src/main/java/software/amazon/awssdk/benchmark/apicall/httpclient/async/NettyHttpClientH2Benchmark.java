@@ -16,6 +16,8 @@
 package software.amazon.awssdk.benchmark.apicall.httpclient.async;
 
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.DEFAULT_JDK_SSL_PROVIDER;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.NATIVE_TRANSPORT;
+import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.NIO_TRANSPORT;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.OPEN_SSL_PROVIDER;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.getSslProvider;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.trustAllTlsAttributeMapBuilder;
@@ -43,6 +45,7 @@ import software.amazon.awssdk.benchmark.utils.MockH2Server;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
 
 /**
@@ -61,6 +64,9 @@ public class NettyHttpClientH2Benchmark extends BaseNettyBenchmark {
     @Param({DEFAULT_JDK_SSL_PROVIDER, OPEN_SSL_PROVIDER})
     private String sslProviderValue;
 
+    @Param({NIO_TRANSPORT, NATIVE_TRANSPORT})
+    private String transportValue;
+
     @Setup(Level.Trial)
     public void setup() throws Exception {
         mockServer = new MockH2Server(false);
@@ -70,6 +76,8 @@ public class NettyHttpClientH2Benchmark extends BaseNettyBenchmark {
 
         sdkHttpClient = NettyNioAsyncHttpClient.builder()
                                                .sslProvider(sslProvider)
+                                               .eventLoopGroupBuilder(SdkEventLoopGroup.builder().preferNativeTransport(
+                                                   NATIVE_TRANSPORT.equals(transportValue)))
                                                .buildWithDefaults(trustAllTlsAttributeMapBuilder()
                                                                       .put(PROTOCOL, Protocol.HTTP2)
                                                                       .build());
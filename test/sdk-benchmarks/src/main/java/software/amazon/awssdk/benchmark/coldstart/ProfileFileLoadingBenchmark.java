@@ -0,0 +1,120 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.coldstart;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.profiles.ProfileFile;
+import software.amazon.awssdk.profiles.ProfileFileSystemSetting;
+
+/**
+ * Benchmark for loading the default profile file, comparing the cached {@link ProfileFile#defaultProfileFile()} with parsing
+ * the credentials and config files on every call. Building a client loads the default profile file several times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(3)
+public class ProfileFileLoadingBenchmark {
+    private static final int PROFILE_COUNT = 20;
+
+    private Path credentialsFile;
+    private Path configFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        credentialsFile = Files.createTempFile("credentials", null);
+        configFile = Files.createTempFile("config", null);
+
+        StringBuilder credentials = new StringBuilder();
+        StringBuilder config = new StringBuilder();
+        for (int i = 0; i < PROFILE_COUNT; i++) {
+            String profileName = i == 0 ? "default" : "profile" + i;
+            credentials.append("[").append(profileName).append("]\n")
+                       .append("aws_access_key_id = akid").append(i).append("\n")
+                       .append("aws_secret_access_key = skid").append(i).append("\n");
+            config.append(i == 0 ? "[default]\n" : "[profile " + profileName + "]\n")
+                  .append("region = us-west-2\n")
+                  .append("s3 =\n  use_arn_region = true\n");
+        }
+        Files.write(credentialsFile, credentials.toString().getBytes(StandardCharsets.UTF_8));
+        Files.write(configFile, config.toString().getBytes(StandardCharsets.UTF_8));
+
+        System.setProperty(ProfileFileSystemSetting.AWS_SHARED_CREDENTIALS_FILE.property(), credentialsFile.toString());
+        System.setProperty(ProfileFileSystemSetting.AWS_CONFIG_FILE.property(), configFile.toString());
+    }
+
+    @Benchmark
+    public void cachedDefaultProfileFile(Blackhole blackhole) {
+        blackhole.consume(ProfileFile.defaultProfileFile());
+    }
+
+    @Benchmark
+    public void parseProfileFile(Blackhole blackhole) {
+        blackhole.consume(ProfileFile.aggregator()
+                                     .addFile(ProfileFile.builder()
+                                                         .content(credentialsFile)
+                                                         .type(ProfileFile.Type.CREDENTIALS)
+                                                         .build())
+                                     .addFile(ProfileFile.builder()
+                                                         .content(configFile)
+                                                         .type(ProfileFile.Type.CONFIGURATION)
+                                                         .build())
+                                     .build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.clearProperty(ProfileFileSystemSetting.AWS_SHARED_CREDENTIALS_FILE.property());
+        System.clearProperty(ProfileFileSystemSetting.AWS_CONFIG_FILE.property());
+        Files.deleteIfExists(credentialsFile);
+        Files.deleteIfExists(configFile);
+    }
+
+    public static void main(String... args) throws RunnerException, CommandLineOptionException {
+        Options opt = new OptionsBuilder()
+            .parent(new CommandLineOptions())
+            .include(ProfileFileLoadingBenchmark.class.getSimpleName())
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+}
@@ -20,4 +20,10 @@ import org.openjdk.jmh.infra.Blackhole;
 public interface SdkClientCreationBenchmark {
 
     void createClient(Blackhole blackhole) throws Exception;
+
+    /**
+     * Create a client and make its first request against a local mock server, to include the latency of the first call and any
+     * initialization the client builder deferred until then.
+     */
+    void createClientAndCallFirstRequest(Blackhole blackhole) throws Exception;
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.coldstart;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Measures the time it takes a freshly started process to create a client and complete its first request.
+ * <p>
+ * Unlike the JMH cold start benchmarks, this runs a single measurement per process, so that it can be run against a GraalVM
+ * native image or with a class data sharing (CDS) archive, where the interesting cost is paid once at startup. The
+ * {@code cold-start-cds} and {@code cold-start-native} profiles of this module build and run it in those modes. The request
+ * is served by {@link MockHttpClient} so that the result only includes the cost of the SDK.
+ */
+public final class TimeToFirstRequestBenchmark {
+
+    private static final Logger log = Logger.loggerFor(TimeToFirstRequestBenchmark.class);
+
+    private TimeToFirstRequestBenchmark() {
+    }
+
+    public static void main(String... args) {
+        long start = System.nanoTime();
+
+        try (DynamoDbClient client = DynamoDbClient.builder()
+                                                   .region(Region.US_WEST_2)
+                                                   .credentialsProvider(StaticCredentialsProvider.create(
+                                                       AwsBasicCredentials.create("test", "test")))
+                                                   .httpClient(new MockHttpClient("{}", "{}"))
+                                                   .endpointDiscoveryEnabled(false)
+                                                   .build()) {
+            long clientCreated = System.nanoTime();
+
+            client.listTables();
+            long firstRequestCompleted = System.nanoTime();
+
+            log.info(() -> String.format("Client creation: %d ms, first request: %d ms, time to first request: %d ms, "
+                                         + "process uptime: %d ms",
+                                         TimeUnit.NANOSECONDS.toMillis(clientCreated - start),
+                                         TimeUnit.NANOSECONDS.toMillis(firstRequestCompleted - clientCreated),
+                                         TimeUnit.NANOSECONDS.toMillis(firstRequestCompleted - start),
+                                         ManagementFactory.getRuntimeMXBean().getUptime()));
+        }
+    }
+}
@@ -15,6 +15,9 @@
 
 package software.amazon.awssdk.benchmark.coldstart;
 
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClient;
 import java.util.Collection;
@@ -27,6 +30,7 @@ import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
@@ -39,6 +43,7 @@ import org.openjdk.jmh.runner.options.CommandLineOptionException;
 import org.openjdk.jmh.runner.options.CommandLineOptions;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.utils.MockServer;
 
 /**
  * Benchmark for creating the clients
@@ -52,6 +57,13 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 public class V1ClientCreationBenchmark implements SdkClientCreationBenchmark {
 
     private AmazonDynamoDB client;
+    private MockServer mockServer;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        mockServer = new MockServer();
+        mockServer.start();
+    }
 
     @Override
     @Benchmark
@@ -60,11 +72,28 @@ public class V1ClientCreationBenchmark implements SdkClientCreationBenchmark {
         blackhole.consume(client);
     }
 
+    @Override
+    @Benchmark
+    public void createClientAndCallFirstRequest(Blackhole blackhole) throws Exception {
+        AmazonDynamoDB client = AmazonDynamoDBClient.builder()
+                                                    .withEndpointConfiguration(new EndpointConfiguration(
+                                                        mockServer.getHttpUri().toString(), "us-west-2"))
+                                                    .withCredentials(new AWSStaticCredentialsProvider(
+                                                        new BasicAWSCredentials("test", "test")))
+                                                    .build();
+        try {
+            blackhole.consume(client.listTables());
+        } finally {
+            client.shutdown();
+        }
+    }
+
     @TearDown(Level.Trial)
     public void tearDown() throws Exception {
         if (client != null) {
             client.shutdown();
         }
+        mockServer.stop();
     }
 
     public static void main(String... args) throws RunnerException, CommandLineOptionException {
@@ -25,6 +25,7 @@ import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
@@ -37,6 +38,9 @@ import org.openjdk.jmh.runner.options.CommandLineOptionException;
 import org.openjdk.jmh.runner.options.CommandLineOptions;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.benchmark.utils.MockServer;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
@@ -52,6 +56,13 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 public class V2DefaultClientCreationBenchmark implements SdkClientCreationBenchmark {
 
     private DynamoDbClient client;
+    private MockServer mockServer;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        mockServer = new MockServer();
+        mockServer.start();
+    }
 
     @Override
     @Benchmark
@@ -62,11 +73,25 @@ public class V2DefaultClientCreationBenchmark implements SdkClientCreationBenchm
         blackhole.consume(client);
     }
 
+    @Override
+    @Benchmark
+    public void createClientAndCallFirstRequest(Blackhole blackhole) throws Exception {
+        try (DynamoDbClient client = DynamoDbClient.builder()
+                                                   .endpointOverride(mockServer.getHttpUri())
+                                                   .credentialsProvider(StaticCredentialsProvider.create(
+                                                       AwsBasicCredentials.create("test", "test")))
+                                                   .httpClient(ApacheHttpClient.builder().build())
+                                                   .build()) {
+            blackhole.consume(client.listTables());
+        }
+    }
+
     @TearDown(Level.Trial)
     public void tearDown() throws Exception {
         if (client != null) {
             client.close();
         }
+        mockServer.stop();
     }
 
     public static void main(String... args) throws RunnerException, CommandLineOptionException {
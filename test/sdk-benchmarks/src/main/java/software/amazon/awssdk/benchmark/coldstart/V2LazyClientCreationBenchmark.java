@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.coldstart;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.StackProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.benchmark.utils.MockServer;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * Benchmark for creating the clients with {@link SdkAdvancedClientOption#LAZY_INITIALIZATION} enabled, so that the HTTP
+ * client is created on first use instead of when the client is built.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(3)
+public class V2LazyClientCreationBenchmark implements SdkClientCreationBenchmark {
+
+    private DynamoDbClient client;
+    private MockServer mockServer;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        mockServer = new MockServer();
+        mockServer.start();
+    }
+
+    @Override
+    @Benchmark
+    public void createClient(Blackhole blackhole) throws Exception {
+        client = DynamoDbClient.builder()
+                                        .region(Region.US_WEST_2)
+                                        .credentialsProvider(StaticCredentialsProvider.create(
+                                            AwsBasicCredentials.create("test", "test")))
+                                        .httpClientBuilder(ApacheHttpClient.builder())
+                                        .overrideConfiguration(o -> o.putAdvancedOption(
+                                            SdkAdvancedClientOption.LAZY_INITIALIZATION, true))
+                                        .endpointDiscoveryEnabled(false)
+                                        .build();
+
+        blackhole.consume(client);
+    }
+
+    @Override
+    @Benchmark
+    public void createClientAndCallFirstRequest(Blackhole blackhole) throws Exception {
+        try (DynamoDbClient client = DynamoDbClient.builder()
+                                                   .region(Region.US_WEST_2)
+                                                   .endpointOverride(mockServer.getHttpUri())
+                                                   .credentialsProvider(StaticCredentialsProvider.create(
+                                                       AwsBasicCredentials.create("test", "test")))
+                                                   .httpClientBuilder(ApacheHttpClient.builder())
+                                                   .overrideConfiguration(o -> o.putAdvancedOption(
+                                                       SdkAdvancedClientOption.LAZY_INITIALIZATION, true))
+                                                   .endpointDiscoveryEnabled(false)
+                                                   .build()) {
+            blackhole.consume(client.listTables());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (client != null) {
+            client.close();
+        }
+        mockServer.stop();
+    }
+
+    public static void main(String... args) throws RunnerException, CommandLineOptionException {
+        Options opt = new OptionsBuilder()
+            .parent(new CommandLineOptions())
+            .include(V2LazyClientCreationBenchmark.class.getSimpleName())
+            .addProfiler(StackProfiler.class)
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+}
@@ -25,6 +25,7 @@ import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
@@ -39,6 +40,7 @@ import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.benchmark.utils.MockServer;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.regions.Region;
@@ -56,6 +58,13 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 public class V2OptimizedClientCreationBenchmark implements SdkClientCreationBenchmark {
 
     private DynamoDbClient client;
+    private MockServer mockServer;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        mockServer = new MockServer();
+        mockServer.start();
+    }
 
     @Override
     @Benchmark
@@ -72,11 +81,28 @@ public class V2OptimizedClientCreationBenchmark implements SdkClientCreationBenc
         blackhole.consume(client);
     }
 
+    @Override
+    @Benchmark
+    public void createClientAndCallFirstRequest(Blackhole blackhole) throws Exception {
+        try (DynamoDbClient client = DynamoDbClient.builder()
+                                                   .region(Region.US_WEST_2)
+                                                   .endpointOverride(mockServer.getHttpUri())
+                                                   .credentialsProvider(StaticCredentialsProvider.create(
+                                                       AwsBasicCredentials.create("test", "test")))
+                                                   .httpClient(ApacheHttpClient.builder().build())
+                                                   .overrideConfiguration(ClientOverrideConfiguration.builder().build())
+                                                   .endpointDiscoveryEnabled(false)
+                                                   .build()) {
+            blackhole.consume(client.listTables());
+        }
+    }
+
     @TearDown(Level.Trial)
     public void tearDown() throws Exception {
         if (client != null) {
             client.close();
         }
+        mockServer.stop();
     }
 
     public static void main(String... args) throws RunnerException, CommandLineOptionException {
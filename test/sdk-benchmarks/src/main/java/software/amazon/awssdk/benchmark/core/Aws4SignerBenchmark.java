@@ -0,0 +1,117 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.signer.Aws4Signer;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Benchmark for signing a small JSON request with {@link Aws4Signer#sign(SdkHttpFullRequest, Aws4SignerParams)}, using either a
+ * single set of credentials or rotating through more credentials and regions than fit in the signing key cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(4)
+public class Aws4SignerBenchmark {
+    private static final Region[] REGIONS = {Region.US_EAST_1, Region.US_WEST_2, Region.EU_WEST_1, Region.AP_NORTHEAST_1};
+
+    @Param({"1", "1000"})
+    private int credentialCount;
+
+    private Aws4Signer signer;
+    private SdkHttpFullRequest request;
+    private Aws4SignerParams[] signerParams;
+
+    @Setup
+    public void setup() {
+        signer = Aws4Signer.create();
+
+        byte[] body = "{\"TableName\":\"benchmark-table\",\"Key\":{\"id\":{\"S\":\"1\"}}}".getBytes(StandardCharsets.UTF_8);
+        request = SdkHttpFullRequest.builder()
+                                    .protocol("https")
+                                    .host("dynamodb.us-east-1.amazonaws.com")
+                                    .method(SdkHttpMethod.POST)
+                                    .encodedPath("/")
+                                    .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                    .putHeader("Content-Length", Integer.toString(body.length))
+                                    .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                                    .putHeader("User-Agent", "aws-sdk-java/2.x benchmark")
+                                    .putHeader("amz-sdk-invocation-id", "f0e4c2f76c58916ec258f246851bea09")
+                                    .putHeader("amz-sdk-retry", "0/0/500")
+                                    .contentStreamProvider(RequestBody.fromBytes(body).contentStreamProvider())
+                                    .build();
+
+        signerParams = new Aws4SignerParams[credentialCount];
+        for (int i = 0; i < credentialCount; i++) {
+            signerParams[i] = Aws4SignerParams.builder()
+                                              .awsCredentials(AwsSessionCredentials.create("akid" + i, "skid" + i, "token" + i))
+                                              .signingName("dynamodb")
+                                              .signingRegion(REGIONS[i % REGIONS.length])
+                                              .build();
+        }
+    }
+
+    @Benchmark
+    public void sign(SignerState state, Blackhole blackhole) {
+        blackhole.consume(signer.sign(request, signerParams[state.nextIndex(signerParams.length)]));
+    }
+
+    public static void main(String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(Aws4SignerBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+
+    @State(Scope.Thread)
+    public static class SignerState {
+        private int index;
+
+        private int nextIndex(int count) {
+            index = (index + 1) % count;
+            return index;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.core;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
+import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+
+/**
+ * Benchmark for running a request through an {@link ExecutionInterceptorChain} shaped like the one of an S3 client: ten
+ * interceptors that each implement one to three hooks, and only one of which modifies the request it is given.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+public class ExecutionInterceptorChainBenchmark {
+
+    private List<ExecutionInterceptor> interceptors;
+    private ExecutionAttributes executionAttributes;
+    private SdkRequest request;
+    private SdkHttpFullRequest httpRequest;
+    private SdkHttpFullResponse httpResponse;
+    private SdkResponse response;
+
+    @Setup
+    public void setup() {
+        interceptors = Arrays.asList(new BeforeExecutionInterceptor(),
+                                     new ModifyRequestInterceptor(),
+                                     new ModifyRequestInterceptor(),
+                                     new EndpointInterceptor(),
+                                     new ModifyHttpRequestInterceptor(),
+                                     new ModifyHttpRequestAndContentInterceptor(),
+                                     new ModifyHttpRequestAndResponseInterceptor(),
+                                     new ChecksumValidationInterceptor(),
+                                     new ModifyResponseInterceptor(),
+                                     new ModifyExceptionInterceptor());
+        executionAttributes = new ExecutionAttributes();
+        request = GetItemRequest.builder().tableName("table").build();
+        httpRequest = SdkHttpFullRequest.builder()
+                                        .protocol("https")
+                                        .host("bucket.s3.amazonaws.com")
+                                        .encodedPath("/key")
+                                        .method(SdkHttpMethod.GET)
+                                        .build();
+        httpResponse = SdkHttpFullResponse.builder().statusCode(200).build();
+        response = GetItemResponse.builder().build();
+    }
+
+    @Benchmark
+    public void executeRequest(Blackhole blackhole) {
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(interceptors);
+        InterceptorContext context = InterceptorContext.builder().request(request).build();
+
+        chain.beforeExecution(context, executionAttributes);
+        context = chain.modifyRequest(context, executionAttributes);
+        chain.beforeMarshalling(context, executionAttributes);
+        context = context.copy(b -> b.httpRequest(httpRequest));
+        chain.afterMarshalling(context, executionAttributes);
+        context = chain.modifyHttpRequestAndHttpContent(context, executionAttributes);
+        chain.beforeTransmission(context, executionAttributes);
+        context = context.copy(b -> b.httpResponse(httpResponse));
+        chain.afterTransmission(context, executionAttributes);
+        context = chain.modifyHttpResponse(context, executionAttributes);
+        chain.beforeUnmarshalling(context, executionAttributes);
+        context = context.copy(b -> b.response(response));
+        chain.afterUnmarshalling(context, executionAttributes);
+        context = chain.modifyResponse(context, executionAttributes);
+        chain.afterExecution(context, executionAttributes);
+
+        blackhole.consume(context);
+    }
+
+    public static void main(String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(ExecutionInterceptorChainBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+
+    private static final class BeforeExecutionInterceptor implements ExecutionInterceptor {
+        @Override
+        public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        }
+    }
+
+    private static final class ModifyRequestInterceptor implements ExecutionInterceptor {
+        @Override
+        public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+            return context.request();
+        }
+    }
+
+    private static final class EndpointInterceptor implements ExecutionInterceptor {
+        @Override
+        public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest context, ExecutionAttributes executionAttributes) {
+            return context.httpRequest().toBuilder().encodedPath("/bucket/key").build();
+        }
+    }
+
+    private static final class ModifyHttpRequestInterceptor implements ExecutionInterceptor {
+        @Override
+        public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest context, ExecutionAttributes executionAttributes) {
+            return context.httpRequest();
+        }
+    }
+
+    private static final class ModifyHttpRequestAndContentInterceptor implements ExecutionInterceptor {
+        @Override
+        public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest context, ExecutionAttributes executionAttributes) {
+            return context.httpRequest();
+        }
+
+        @Override
+        public Optional<RequestBody> modifyHttpContent(Context.ModifyHttpRequest context,
+                                                       ExecutionAttributes executionAttributes) {
+            return context.requestBody();
+        }
+    }
+
+    private static final class ModifyHttpRequestAndResponseInterceptor implements ExecutionInterceptor {
+        @Override
+        public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest context, ExecutionAttributes executionAttributes) {
+            return context.httpRequest();
+        }
+
+        @Override
+        public SdkResponse modifyResponse(Context.ModifyResponse context, ExecutionAttributes executionAttributes) {
+            return context.response();
+        }
+    }
+
+    private static final class ChecksumValidationInterceptor implements ExecutionInterceptor {
+        @Override
+        public Optional<RequestBody> modifyHttpContent(Context.ModifyHttpRequest context,
+                                                       ExecutionAttributes executionAttributes) {
+            return context.requestBody();
+        }
+
+        @Override
+        public Optional<InputStream> modifyHttpResponseContent(Context.ModifyHttpResponse context,
+                                                               ExecutionAttributes executionAttributes) {
+            return context.responseBody();
+        }
+
+        @Override
+        public void afterUnmarshalling(Context.AfterUnmarshalling context, ExecutionAttributes executionAttributes) {
+        }
+    }
+
+    private static final class ModifyResponseInterceptor implements ExecutionInterceptor {
+        @Override
+        public SdkResponse modifyResponse(Context.ModifyResponse context, ExecutionAttributes executionAttributes) {
+            return context.response();
+        }
+    }
+
+    private static final class ModifyExceptionInterceptor implements ExecutionInterceptor {
+        @Override
+        public Throwable modifyException(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+            return context.exception();
+        }
+    }
+}
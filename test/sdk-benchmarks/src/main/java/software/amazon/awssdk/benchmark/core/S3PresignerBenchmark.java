@@ -0,0 +1,118 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.core;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.BulkGetObjectPresigner;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+/**
+ * Benchmark for presigning {@code GetObject} requests for many keys of the same bucket, with
+ * {@link S3Presigner#presignGetObject(GetObjectPresignRequest)} and with a {@link BulkGetObjectPresigner}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(4)
+public class S3PresignerBenchmark {
+    private static final int KEY_COUNT = 1024;
+
+    private S3Presigner presigner;
+    private GetObjectPresignRequest template;
+    private BulkGetObjectPresigner bulkPresigner;
+    private String[] keys;
+    private GetObjectPresignRequest[] requests;
+
+    @Setup
+    public void setup() {
+        presigner = S3Presigner.builder()
+                               .region(Region.US_WEST_2)
+                               .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid",
+                                                                                                                "skid")))
+                               .build();
+        template = GetObjectPresignRequest.builder()
+                                          .signatureDuration(Duration.ofMinutes(10))
+                                          .getObjectRequest(r -> r.bucket("benchmark-bucket"))
+                                          .build();
+        bulkPresigner = presigner.bulkGetObjectPresigner(template);
+
+        keys = new String[KEY_COUNT];
+        requests = new GetObjectPresignRequest[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "photos/2020/07/image " + i + ".jpg";
+            requests[i] = template.toBuilder()
+                                  .getObjectRequest(template.getObjectRequest().toBuilder().key(keys[i]).build())
+                                  .build();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        presigner.close();
+    }
+
+    @Benchmark
+    public void presignGetObject(KeyState state, Blackhole blackhole) {
+        blackhole.consume(presigner.presignGetObject(requests[state.nextIndex()]));
+    }
+
+    @Benchmark
+    public void bulkPresignGetObject(KeyState state, Blackhole blackhole) {
+        blackhole.consume(bulkPresigner.presignGetObject(keys[state.nextIndex()]));
+    }
+
+    public static void main(String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(S3PresignerBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+
+    @State(Scope.Thread)
+    public static class KeyState {
+        private int index;
+
+        private int nextIndex() {
+            index = (index + 1) % KEY_COUNT;
+            return index;
+        }
+    }
+}
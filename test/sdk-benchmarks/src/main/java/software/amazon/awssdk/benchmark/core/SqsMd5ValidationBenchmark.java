@@ -0,0 +1,188 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.sqs.SqsConfiguration;
+import software.amazon.awssdk.services.sqs.internal.MessageMD5ChecksumInterceptor;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Md5Utils;
+
+/**
+ * Benchmark for validating the MD5 checksums of a full ReceiveMessage response: ten messages with ten message attributes
+ * each and a small or large body, validated sequentially and in parallel on an executor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+public class SqsMd5ValidationBenchmark {
+    private static final int MESSAGES = 10;
+    private static final int ATTRIBUTES = 10;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    @Param({"1024", "65536"})
+    private int bodyLength;
+
+    private MessageMD5ChecksumInterceptor interceptor;
+    private InterceptorContext context;
+    private ExecutionAttributes executionAttributes;
+
+    private ExecutorService md5ValidationExecutor;
+
+    @Setup
+    public void setup() {
+        interceptor = new MessageMD5ChecksumInterceptor();
+        executionAttributes = new ExecutionAttributes();
+        if (parallel) {
+            md5ValidationExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            executionAttributes.putAttribute(SdkExecutionAttribute.SERVICE_CONFIG,
+                                             SqsConfiguration.builder().md5ValidationExecutor(md5ValidationExecutor).build());
+        }
+
+        List<Message> messages = new ArrayList<>();
+        for (int i = 0; i < MESSAGES; i++) {
+            messages.add(message(i, bodyLength));
+        }
+
+        context = InterceptorContext.builder()
+                                    .request(ReceiveMessageRequest.builder().queueUrl("queue").build())
+                                    .response(ReceiveMessageResponse.builder().messages(messages).build())
+                                    .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (md5ValidationExecutor != null) {
+            md5ValidationExecutor.shutdown();
+        }
+    }
+
+    @Benchmark
+    public void validateReceiveMessage(Blackhole blackhole) {
+        interceptor.afterExecution(context, executionAttributes);
+        blackhole.consume(context);
+    }
+
+    public static void main(String... args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(SqsMd5ValidationBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+
+    private static Message message(int index, int bodyLength) {
+        StringBuilder body = new StringBuilder(bodyLength);
+        while (body.length() < bodyLength) {
+            body.append("message ").append(index).append(" \u00e9v\u00e9nement ");
+        }
+
+        Map<String, MessageAttributeValue> attributes = new HashMap<>();
+        for (int i = 0; i < ATTRIBUTES; i++) {
+            MessageAttributeValue.Builder attribute = MessageAttributeValue.builder();
+            if (i % 2 == 0) {
+                attribute.dataType("String").stringValue("attribute-value-" + index + "-" + i);
+            } else {
+                attribute.dataType("Binary").binaryValue(SdkBytes.fromUtf8String("binary-value-" + index + "-" + i));
+            }
+            attributes.put("attribute-" + i, attribute.build());
+        }
+
+        return Message.builder()
+                      .body(body.toString())
+                      .md5OfBody(md5Hex(body.toString().getBytes(StandardCharsets.UTF_8)))
+                      .messageAttributes(attributes)
+                      .md5OfMessageAttributes(md5Hex(encode(attributes)))
+                      .build();
+    }
+
+    /**
+     * Encode the string and binary attributes as SQS does before calculating their MD5.
+     */
+    private static byte[] encode(Map<String, MessageAttributeValue> attributes) {
+        List<String> names = new ArrayList<>(attributes.keySet());
+        Collections.sort(names);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (String name : names) {
+                MessageAttributeValue attribute = attributes.get(name);
+                writeLengthAndBytes(out, name.getBytes(StandardCharsets.UTF_8));
+                writeLengthAndBytes(out, attribute.dataType().getBytes(StandardCharsets.UTF_8));
+                if (attribute.stringValue() != null) {
+                    out.writeByte(1);
+                    writeLengthAndBytes(out, attribute.stringValue().getBytes(StandardCharsets.UTF_8));
+                } else {
+                    out.writeByte(2);
+                    writeLengthAndBytes(out, attribute.binaryValue().asByteArray());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeLengthAndBytes(DataOutputStream out, byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private static String md5Hex(byte[] bytes) {
+        return BinaryUtils.toHex(Md5Utils.computeMD5Hash(bytes));
+    }
+}
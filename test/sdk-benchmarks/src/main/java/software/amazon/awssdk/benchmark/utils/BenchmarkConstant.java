@@ -31,6 +31,9 @@ public final class BenchmarkConstant {
     public static final String DEFAULT_JDK_SSL_PROVIDER = "jdk";
     public static final String OPEN_SSL_PROVIDER = "openssl";
 
+    public static final String NIO_TRANSPORT = "nio";
+    public static final String NATIVE_TRANSPORT = "native";
+
     public static final int CONCURRENT_CALLS = 50;
 
     public static final Instant TIMESTAMP_MEMBER = LocalDateTime.now().toInstant(ZoneOffset.UTC);
@@ -710,6 +710,36 @@ public final class Validate {
         return duration;
     }
 
+    /**
+     * Asserts that the given duration is non-negative or null.
+     *
+     * @param duration Number to validate
+     * @param fieldName Field name to display in exception message if negative.
+     * @return Duration if non-negative or null.
+     */
+    public static Duration isNotNegativeOrNull(Duration duration, String fieldName) {
+        if (duration == null) {
+            return null;
+        }
+
+        return isNotNegative(duration, fieldName);
+    }
+
+    /**
+     * Asserts that the given boxed integer is non-negative or null.
+     *
+     * @param num Boxed integer to validate
+     * @param fieldName Field name to display in exception message if negative.
+     * @return Integer if non-negative or null.
+     */
+    public static Integer isNotNegativeOrNull(Integer num, String fieldName) {
+        if (num == null) {
+            return null;
+        }
+
+        return isNotNegative(num, fieldName);
+    }
+
     /**
      * Returns the param if non null, otherwise gets a default value from the provided {@link Supplier}.
      *
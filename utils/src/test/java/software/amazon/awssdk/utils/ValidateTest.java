@@ -20,6 +20,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
+import java.time.Duration;
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -578,6 +579,36 @@ public class ValidateTest  {
         Validate.isPositiveOrNull(-1L, "foo");
     }
 
+    @Test
+    public void isNotNegativeOrNullInteger_null_returnsNull() {
+        assertNull(Validate.isNotNegativeOrNull((Integer) null, "foo"));
+    }
+
+    @Test
+    public void isNotNegativeOrNullInteger_zero_returnsZero() {
+        Integer num = 0;
+        assertEquals(num, Validate.isNotNegativeOrNull(num, "foo"));
+    }
+
+    @Test
+    public void isNotNegativeOrNullInteger_negative_throws() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage("foo");
+        Validate.isNotNegativeOrNull(-1, "foo");
+    }
+
+    @Test
+    public void isNotNegativeOrNullDuration_null_returnsNull() {
+        assertNull(Validate.isNotNegativeOrNull((Duration) null, "foo"));
+    }
+
+    @Test
+    public void isNotNegativeOrNullDuration_negative_throws() {
+        expected.expect(IllegalArgumentException.class);
+        expected.expectMessage("foo");
+        Validate.isNotNegativeOrNull(Duration.ofMillis(-1), "foo");
+    }
+
     @Test
     public void isNull_notNull_shouldThrow() {
         expected.expect(IllegalArgumentException.class);